@@ -58,6 +58,10 @@ public class TestEnvironment extends OpenMetadataPerformanceTestCase
         addProperty("maxSearchResults", performanceWorkPad.getMaxSearchResults());
         addProperty("waitBetweenScenarios", performanceWorkPad.getWaitBetweenScenarios());
         addProperty("profilesToSkip", performanceWorkPad.getProfilesToSkip());
+        addProperty("loadClientThreads", performanceWorkPad.getLoadClientThreads());
+        addProperty("loadTargetOperationsPerSecond", performanceWorkPad.getLoadTargetOperationsPerSecond());
+        addProperty("loadWarmupSeconds", performanceWorkPad.getLoadWarmupSeconds());
+        addProperty("loadDurationSeconds", performanceWorkPad.getLoadDurationSeconds());
     }
 
 
@@ -0,0 +1,672 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance.load;
+
+import org.HdrHistogram.Histogram;
+import org.odpi.openmetadata.conformance.tests.performance.OpenMetadataPerformanceTestCase;
+import org.odpi.openmetadata.conformance.workbenches.performance.ConcurrentLoadStatistics;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Test the latency and throughput of the technology under test when it is called by many clients at once.
+ * A pool of client threads repeatedly calls a mix of read operations against the instances created by the
+ * earlier profiles.  Latencies are only recorded once the warmup period is over.  When a target rate is
+ * configured, each client sends its requests on a fixed schedule and the latency is measured from the time the
+ * request was due to be sent, so that a slow response also counts against the requests queued behind it.
+ */
+public class TestConcurrentLoad extends OpenMetadataPerformanceTestCase
+{
+    private static final String TEST_CASE_ID   = "repository-concurrent-load-performance";
+    private static final String TEST_CASE_NAME = "Repository concurrent load performance test case";
+
+    private static final String A_INSTANCES     = TEST_CASE_ID + "-instances";
+    private static final String A_INSTANCES_MSG = "Repository returns instances to use for the concurrent load.";
+
+    private static final String A_CLIENTS       = TEST_CASE_ID + "-clients";
+    private static final String A_CLIENTS_MSG   = "All client threads completed within the load duration.";
+
+    private static final String A_OPERATION     = TEST_CASE_ID + "-";
+    private static final String A_OPERATION_MSG = "Repository responds without error under concurrent load to: ";
+
+    private static final String ALL_OPERATIONS  = "allOperations";
+
+    private static final long   CLIENT_COMPLETION_GRACE_SECONDS = 60;
+
+    /**
+     * The operations called by the client threads.
+     */
+    private enum LoadOperation
+    {
+        GET_ENTITY_DETAIL            ("getEntityDetail"),
+        GET_RELATIONSHIPS_FOR_ENTITY ("getRelationshipsForEntity"),
+        FIND_ENTITIES                ("findEntities"),
+        GET_RELATIONSHIP             ("getRelationship"),
+        FIND_RELATIONSHIPS           ("findRelationships");
+
+        private final String methodName;
+
+        LoadOperation(String methodName)
+        {
+            this.methodName = methodName;
+        }
+    }
+
+    private final Collection<EntityDef>       entityDefs;
+    private final Collection<RelationshipDef> relationshipDefs;
+
+    private final List<String>       entityGUIDs             = new ArrayList<>();
+    private final List<String>       entityTypeGUIDs         = new ArrayList<>();
+    private final List<String>       relationshipGUIDs       = new ArrayList<>();
+    private final List<String>       relationshipTypeGUIDs   = new ArrayList<>();
+    private final Set<LoadOperation> unsupportedOperations   = ConcurrentHashMap.newKeySet();
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDefs types of the entities to call
+     * @param relationshipDefs types of the relationships to call
+     */
+    public TestConcurrentLoad(PerformanceWorkPad          workPad,
+                              Collection<EntityDef>       entityDefs,
+                              Collection<RelationshipDef> relationshipDefs)
+    {
+        super(workPad, PerformanceProfile.CONCURRENT_LOAD.getProfileId());
+
+        this.entityDefs = entityDefs;
+        this.relationshipDefs = relationshipDefs;
+
+        super.updateTestId(TEST_CASE_ID, TEST_CASE_ID, TEST_CASE_NAME);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+
+        getInstanceKeys(metadataCollection);
+
+        assertCondition(!entityGUIDs.isEmpty(),
+                A_INSTANCES,
+                A_INSTANCES_MSG,
+                PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                null);
+
+        List<LoadOperation> operations = getOperations();
+
+        if (operations.isEmpty())
+        {
+            super.setSuccessMessage("Concurrent load performance tests skipped as there are no operations to call");
+            return;
+        }
+
+        int  clientThreads    = Math.max(1, performanceWorkPad.getLoadClientThreads());
+        int  targetRate       = performanceWorkPad.getLoadTargetOperationsPerSecond();
+        int  warmupSeconds    = Math.max(0, performanceWorkPad.getLoadWarmupSeconds());
+        int  durationSeconds  = performanceWorkPad.getLoadDurationSeconds();
+        long requestInterval  = 0L;
+
+        if (targetRate > 0)
+        {
+            requestInterval = TimeUnit.SECONDS.toNanos(clientThreads) / targetRate;
+        }
+
+        long loadStart        = System.nanoTime();
+        long measurementStart = loadStart + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long loadEnd          = measurementStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        AtomicInteger   clientCount = new AtomicInteger(0);
+        ExecutorService clientPool  = Executors.newFixedThreadPool(clientThreads, runnable ->
+        {
+            Thread thread = new Thread(runnable, "PerformanceLoadClient-" + clientCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Future<Map<LoadOperation, OperationRecorder>>> clientResults = new ArrayList<>();
+
+        for (int clientNumber = 0; clientNumber < clientThreads; clientNumber++)
+        {
+            /*
+             * Each client's schedule is offset so that the requests are spread evenly across the interval.
+             */
+            long firstRequest = loadStart + (requestInterval * clientNumber) / clientThreads;
+
+            clientResults.add(clientPool.submit(new LoadClient(metadataCollection,
+                                                               operations,
+                                                               firstRequest,
+                                                               requestInterval,
+                                                               measurementStart,
+                                                               loadEnd)));
+        }
+
+        clientPool.shutdown();
+
+        boolean allClientsCompleted = clientPool.awaitTermination(warmupSeconds + durationSeconds + CLIENT_COMPLETION_GRACE_SECONDS,
+                                                                  TimeUnit.SECONDS);
+        if (!allClientsCompleted)
+        {
+            clientPool.shutdownNow();
+        }
+
+        Map<LoadOperation, OperationRecorder> results = new EnumMap<>(LoadOperation.class);
+
+        for (Future<Map<LoadOperation, OperationRecorder>> clientResult : clientResults)
+        {
+            if (clientResult.isDone() && !clientResult.isCancelled())
+            {
+                try
+                {
+                    for (Map.Entry<LoadOperation, OperationRecorder> operationResult : clientResult.get().entrySet())
+                    {
+                        results.computeIfAbsent(operationResult.getKey(), operation -> new OperationRecorder()).add(operationResult.getValue());
+                    }
+                }
+                catch (ExecutionException error)
+                {
+                    allClientsCompleted = false;
+                }
+            }
+        }
+
+        verifyCondition(allClientsCompleted,
+                A_CLIENTS,
+                A_CLIENTS_MSG,
+                PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                null);
+
+        recordResults(results, clientThreads, targetRate, warmupSeconds, durationSeconds);
+
+        super.setSuccessMessage("Concurrent load performance tests complete with " + clientThreads + " client threads");
+    }
+
+
+    /**
+     * Retrieve the GUIDs of the instances to call during the load, along with the types that have instances.
+     * These searches are not timed.
+     *
+     * @param metadataCollection through which to call findEntities and findRelationships
+     * @throws Exception on any errors
+     */
+    private void getInstanceKeys(OMRSMetadataCollection metadataCollection) throws Exception
+    {
+        int numInstances = super.getInstancesPerType();
+
+        try
+        {
+            for (EntityDef entityDef : entityDefs)
+            {
+                List<EntityDetail> entities = metadataCollection.findEntities(workPad.getLocalServerUserId(),
+                        entityDef.getGUID(),
+                        null,
+                        null,
+                        0,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        numInstances);
+                if ((entities != null) && (!entities.isEmpty()))
+                {
+                    entityTypeGUIDs.add(entityDef.getGUID());
+                    for (EntityDetail entity : entities)
+                    {
+                        entityGUIDs.add(entity.getGUID());
+                    }
+                }
+            }
+        }
+        catch (FunctionNotSupportedException exception)
+        {
+            unsupportedOperations.add(LoadOperation.FIND_ENTITIES);
+        }
+
+        try
+        {
+            for (RelationshipDef relationshipDef : relationshipDefs)
+            {
+                List<Relationship> relationships = metadataCollection.findRelationships(workPad.getLocalServerUserId(),
+                        relationshipDef.getGUID(),
+                        null,
+                        null,
+                        0,
+                        null,
+                        null,
+                        null,
+                        null,
+                        numInstances);
+                if ((relationships != null) && (!relationships.isEmpty()))
+                {
+                    relationshipTypeGUIDs.add(relationshipDef.getGUID());
+                    for (Relationship relationship : relationships)
+                    {
+                        relationshipGUIDs.add(relationship.getGUID());
+                    }
+                }
+            }
+        }
+        catch (FunctionNotSupportedException exception)
+        {
+            unsupportedOperations.add(LoadOperation.FIND_RELATIONSHIPS);
+        }
+    }
+
+
+    /**
+     * Return the operations that make up the load: those with instances to call that are not skipped.
+     *
+     * @return list of operations
+     */
+    private List<LoadOperation> getOperations()
+    {
+        List<String>        methodsToSkip = performanceWorkPad.getMethodsToSkip();
+        List<LoadOperation> operations    = new ArrayList<>();
+
+        for (LoadOperation operation : LoadOperation.values())
+        {
+            boolean hasInstances;
+
+            if ((operation == LoadOperation.GET_RELATIONSHIP) || (operation == LoadOperation.FIND_RELATIONSHIPS))
+            {
+                hasInstances = !relationshipGUIDs.isEmpty();
+            }
+            else
+            {
+                hasInstances = !entityGUIDs.isEmpty();
+            }
+
+            if (hasInstances && !unsupportedOperations.contains(operation) && !methodsToSkip.contains(operation.methodName))
+            {
+                operations.add(operation);
+            }
+        }
+
+        return operations;
+    }
+
+
+    /**
+     * Call one operation against a randomly chosen instance or type.
+     *
+     * @param metadataCollection through which to call the repository
+     * @param operation operation to call
+     * @param random random number generator for the calling thread
+     * @throws Exception on any errors
+     */
+    private void callOperation(OMRSMetadataCollection metadataCollection,
+                               LoadOperation          operation,
+                               ThreadLocalRandom      random) throws Exception
+    {
+        String userId = workPad.getLocalServerUserId();
+        int    pageSize = performanceWorkPad.getMaxSearchResults();
+
+        switch (operation)
+        {
+            case GET_ENTITY_DETAIL:
+                metadataCollection.getEntityDetail(userId, entityGUIDs.get(random.nextInt(entityGUIDs.size())));
+                break;
+
+            case GET_RELATIONSHIPS_FOR_ENTITY:
+                metadataCollection.getRelationshipsForEntity(userId,
+                        entityGUIDs.get(random.nextInt(entityGUIDs.size())),
+                        null,
+                        0,
+                        null,
+                        null,
+                        null,
+                        null,
+                        pageSize);
+                break;
+
+            case FIND_ENTITIES:
+                metadataCollection.findEntities(userId,
+                        entityTypeGUIDs.get(random.nextInt(entityTypeGUIDs.size())),
+                        null,
+                        null,
+                        0,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        pageSize);
+                break;
+
+            case GET_RELATIONSHIP:
+                metadataCollection.getRelationship(userId, relationshipGUIDs.get(random.nextInt(relationshipGUIDs.size())));
+                break;
+
+            case FIND_RELATIONSHIPS:
+                metadataCollection.findRelationships(userId,
+                        relationshipTypeGUIDs.get(random.nextInt(relationshipTypeGUIDs.size())),
+                        null,
+                        null,
+                        0,
+                        null,
+                        null,
+                        null,
+                        null,
+                        pageSize);
+                break;
+        }
+    }
+
+
+    /**
+     * Record the statistics for each operation, and for all operations combined, as discovered properties.
+     *
+     * @param results merged results from all the client threads
+     * @param clientThreads number of client threads
+     * @param targetRate target operations per second (0 for unthrottled)
+     * @param warmupSeconds warmup time
+     * @param durationSeconds measurement time
+     */
+    private void recordResults(Map<LoadOperation, OperationRecorder> results,
+                               int                                   clientThreads,
+                               int                                   targetRate,
+                               int                                   warmupSeconds,
+                               int                                   durationSeconds)
+    {
+        Integer           profileId     = PerformanceProfile.CONCURRENT_LOAD.getProfileId();
+        OperationRecorder allOperations = new OperationRecorder();
+
+        addDiscoveredProperty("loadClientThreads", clientThreads, profileId, null);
+        addDiscoveredProperty("loadTargetOperationsPerSecond", targetRate, profileId, null);
+        addDiscoveredProperty("loadWarmupSeconds", warmupSeconds, profileId, null);
+        addDiscoveredProperty("loadDurationSeconds", durationSeconds, profileId, null);
+
+        for (LoadOperation operation : LoadOperation.values())
+        {
+            if (unsupportedOperations.contains(operation))
+            {
+                super.addNotSupportedAssertion(A_OPERATION + operation.methodName,
+                        A_OPERATION_MSG + operation.methodName,
+                        profileId,
+                        null);
+            }
+            else
+            {
+                OperationRecorder recorder = results.get(operation);
+
+                if (recorder != null)
+                {
+                    allOperations.add(recorder);
+
+                    verifyCondition(recorder.errorCount == 0,
+                            A_OPERATION + operation.methodName,
+                            A_OPERATION_MSG + operation.methodName,
+                            profileId,
+                            null);
+                    addDiscoveredProperty(operation.methodName,
+                                          getStatistics(operation.methodName, recorder, durationSeconds),
+                                          profileId,
+                                          null);
+                }
+            }
+        }
+
+        addDiscoveredProperty(ALL_OPERATIONS, getStatistics(ALL_OPERATIONS, allOperations, durationSeconds), profileId, null);
+    }
+
+
+    /**
+     * Summarize the latencies recorded for an operation.
+     *
+     * @param operationName name of the operation
+     * @param recorder recorded latencies and errors
+     * @param durationSeconds measurement time
+     * @return statistics
+     */
+    static ConcurrentLoadStatistics getStatistics(String            operationName,
+                                                  OperationRecorder recorder,
+                                                  int               durationSeconds)
+    {
+        ConcurrentLoadStatistics statistics = new ConcurrentLoadStatistics();
+        Histogram                histogram  = recorder.latencies;
+
+        statistics.setOperationName(operationName);
+        statistics.setOperationCount(histogram.getTotalCount());
+        statistics.setErrorCount(recorder.errorCount);
+        statistics.setOperationsPerSecond((double) histogram.getTotalCount() / durationSeconds);
+        statistics.setMeanLatencyMicros(histogram.getMean());
+        statistics.setP50LatencyMicros(histogram.getValueAtPercentile(50.0));
+        statistics.setP95LatencyMicros(histogram.getValueAtPercentile(95.0));
+        statistics.setP99LatencyMicros(histogram.getValueAtPercentile(99.0));
+        statistics.setMaxLatencyMicros(histogram.getMaxValue());
+
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int        length = histogram.encodeIntoCompressedByteBuffer(buffer);
+
+        statistics.setEncodedHistogram(Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+
+        return statistics;
+    }
+
+
+    /**
+     * OperationRecorder accumulates the latencies (in microseconds) and error count for one operation.
+     * Each client thread has its own recorders, which are merged once the clients have finished.
+     */
+    static class OperationRecorder
+    {
+        private final Histogram latencies  = new Histogram(3);
+        private long            errorCount = 0L;
+
+        /**
+         * Record the outcome of a request.
+         *
+         * @param requestStart time that the request was due (from System.nanoTime())
+         * @param requestEnd time that the response was received (from System.nanoTime())
+         * @param successful whether the request returned without an exception
+         */
+        void record(long    requestStart,
+                    long    requestEnd,
+                    boolean successful)
+        {
+            if (successful)
+            {
+                latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(requestEnd - requestStart));
+            }
+            else
+            {
+                errorCount++;
+            }
+        }
+
+
+        /**
+         * Merge the results from another recorder into this one.
+         *
+         * @param recorder results to add
+         */
+        void add(OperationRecorder recorder)
+        {
+            latencies.add(recorder.latencies);
+            errorCount += recorder.errorCount;
+        }
+    }
+
+
+    /**
+     * RequestSchedule decides when each of a client's requests is sent.  With a request interval, the requests are due
+     * at fixed times and a request that is late because of a slow response is sent straight away.  Its latency is still
+     * measured from the time it was due so the time spent queued behind the slow response is included.
+     */
+    static class RequestSchedule
+    {
+        private final long requestInterval;
+        private long       nextRequest;
+
+
+        /**
+         * Constructor supplies the schedule.  All times are from System.nanoTime().
+         *
+         * @param firstRequest time that the first request is due
+         * @param requestInterval time between requests (0 for back-to-back requests)
+         */
+        RequestSchedule(long firstRequest,
+                        long requestInterval)
+        {
+            this.nextRequest = firstRequest;
+            this.requestInterval = requestInterval;
+        }
+
+
+        /**
+         * Return whether another request is due before the end of the load.
+         *
+         * @param loadEnd time that the load ends
+         * @return boolean
+         */
+        boolean hasRequestBefore(long loadEnd)
+        {
+            return nextRequest < loadEnd;
+        }
+
+
+        /**
+         * Wait until the next request is due.
+         *
+         * @return the time to measure the request's latency from
+         */
+        long waitForNextRequest()
+        {
+            if (requestInterval > 0)
+            {
+                long wait = nextRequest - System.nanoTime();
+
+                while (wait > 0)
+                {
+                    LockSupport.parkNanos(wait);
+                    wait = nextRequest - System.nanoTime();
+                }
+
+                long requestStart = nextRequest;
+
+                nextRequest = nextRequest + requestInterval;
+
+                return requestStart;
+            }
+
+            return System.nanoTime();
+        }
+    }
+
+
+    /**
+     * LoadClient is the work of a single client thread.  It calls randomly chosen operations until the end of the load,
+     * either back-to-back or (when there is a target rate) on a fixed schedule.
+     */
+    private class LoadClient implements Callable<Map<LoadOperation, OperationRecorder>>
+    {
+        private final OMRSMetadataCollection metadataCollection;
+        private final List<LoadOperation>    operations;
+        private final RequestSchedule        schedule;
+        private final long                   measurementStart;
+        private final long                   loadEnd;
+
+
+        /**
+         * Constructor supplies the schedule for the client.  All times are from System.nanoTime().
+         *
+         * @param metadataCollection through which to call the repository
+         * @param operations operations to choose from
+         * @param firstRequest time that the first request is due
+         * @param requestInterval time between requests (0 for back-to-back requests)
+         * @param measurementStart time that the warmup ends
+         * @param loadEnd time that the load ends
+         */
+        LoadClient(OMRSMetadataCollection metadataCollection,
+                   List<LoadOperation>    operations,
+                   long                   firstRequest,
+                   long                   requestInterval,
+                   long                   measurementStart,
+                   long                   loadEnd)
+        {
+            this.metadataCollection = metadataCollection;
+            this.operations = operations;
+            this.schedule = new RequestSchedule(firstRequest, requestInterval);
+            this.measurementStart = measurementStart;
+            this.loadEnd = loadEnd;
+        }
+
+
+        /**
+         * Run the client until the end of the load.
+         *
+         * @return the recorded latencies and errors for each operation
+         */
+        @Override
+        public Map<LoadOperation, OperationRecorder> call()
+        {
+            Map<LoadOperation, OperationRecorder> recorders = new EnumMap<>(LoadOperation.class);
+            ThreadLocalRandom                     random    = ThreadLocalRandom.current();
+
+            while ((System.nanoTime() < loadEnd) && (schedule.hasRequestBefore(loadEnd)) && (!Thread.currentThread().isInterrupted()))
+            {
+                LoadOperation operation = operations.get(random.nextInt(operations.size()));
+
+                if (unsupportedOperations.contains(operation))
+                {
+                    if (unsupportedOperations.containsAll(operations))
+                    {
+                        break;
+                    }
+                    continue;
+                }
+
+                long    requestStart = schedule.waitForNextRequest();
+                boolean successful   = false;
+
+                try
+                {
+                    callOperation(metadataCollection, operation, random);
+                    successful = true;
+                }
+                catch (FunctionNotSupportedException exception)
+                {
+                    unsupportedOperations.add(operation);
+                    continue;
+                }
+                catch (Exception exception)
+                {
+                    /*
+                     * Counted as an error below.
+                     */
+                }
+
+                long requestEnd = System.nanoTime();
+
+                if (requestStart >= measurementStart)
+                {
+                    recorders.computeIfAbsent(operation, newOperation -> new OperationRecorder()).record(requestStart,
+                                                                                                          requestEnd,
+                                                                                                          successful);
+                }
+            }
+
+            return recorders;
+        }
+    }
+}
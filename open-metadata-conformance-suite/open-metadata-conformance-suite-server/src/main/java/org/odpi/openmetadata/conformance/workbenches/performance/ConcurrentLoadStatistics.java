@@ -0,0 +1,332 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * ConcurrentLoadStatistics summarizes the latencies of one operation measured by the concurrent load profile.
+ * It is stored as a discovered property of the test case so it is included in the workbench's JSON reports.
+ * All latencies are in microseconds.  The encoded histogram is the complete latency distribution in the
+ * compressed, base64 encoded form of HdrHistogram so that results from different runs can be compared or merged.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ConcurrentLoadStatistics implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private String operationName         = null;
+    private long   operationCount        = 0L;
+    private long   errorCount            = 0L;
+    private double operationsPerSecond   = 0.0;
+    private double meanLatencyMicros     = 0.0;
+    private long   p50LatencyMicros      = 0L;
+    private long   p95LatencyMicros      = 0L;
+    private long   p99LatencyMicros      = 0L;
+    private long   maxLatencyMicros      = 0L;
+    private String encodedHistogram      = null;
+
+
+    /**
+     * Default constructor
+     */
+    public ConcurrentLoadStatistics()
+    {
+    }
+
+
+    /**
+     * Return the name of the repository operation (or "allOperations" for the combined results).
+     *
+     * @return method name
+     */
+    public String getOperationName()
+    {
+        return operationName;
+    }
+
+
+    /**
+     * Set up the name of the repository operation.
+     *
+     * @param operationName method name
+     */
+    public void setOperationName(String operationName)
+    {
+        this.operationName = operationName;
+    }
+
+
+    /**
+     * Return the number of successful calls made after the warmup period.
+     *
+     * @return count
+     */
+    public long getOperationCount()
+    {
+        return operationCount;
+    }
+
+
+    /**
+     * Set up the number of successful calls made after the warmup period.
+     *
+     * @param operationCount count
+     */
+    public void setOperationCount(long operationCount)
+    {
+        this.operationCount = operationCount;
+    }
+
+
+    /**
+     * Return the number of calls made after the warmup period that returned an exception.
+     *
+     * @return count
+     */
+    public long getErrorCount()
+    {
+        return errorCount;
+    }
+
+
+    /**
+     * Set up the number of calls made after the warmup period that returned an exception.
+     *
+     * @param errorCount count
+     */
+    public void setErrorCount(long errorCount)
+    {
+        this.errorCount = errorCount;
+    }
+
+
+    /**
+     * Return the rate of successful calls achieved across all client threads.
+     *
+     * @return operations per second
+     */
+    public double getOperationsPerSecond()
+    {
+        return operationsPerSecond;
+    }
+
+
+    /**
+     * Set up the rate of successful calls achieved across all client threads.
+     *
+     * @param operationsPerSecond operations per second
+     */
+    public void setOperationsPerSecond(double operationsPerSecond)
+    {
+        this.operationsPerSecond = operationsPerSecond;
+    }
+
+
+    /**
+     * Return the mean latency.
+     *
+     * @return microseconds
+     */
+    public double getMeanLatencyMicros()
+    {
+        return meanLatencyMicros;
+    }
+
+
+    /**
+     * Set up the mean latency.
+     *
+     * @param meanLatencyMicros microseconds
+     */
+    public void setMeanLatencyMicros(double meanLatencyMicros)
+    {
+        this.meanLatencyMicros = meanLatencyMicros;
+    }
+
+
+    /**
+     * Return the median latency.
+     *
+     * @return microseconds
+     */
+    public long getP50LatencyMicros()
+    {
+        return p50LatencyMicros;
+    }
+
+
+    /**
+     * Set up the median latency.
+     *
+     * @param p50LatencyMicros microseconds
+     */
+    public void setP50LatencyMicros(long p50LatencyMicros)
+    {
+        this.p50LatencyMicros = p50LatencyMicros;
+    }
+
+
+    /**
+     * Return the 95th percentile latency.
+     *
+     * @return microseconds
+     */
+    public long getP95LatencyMicros()
+    {
+        return p95LatencyMicros;
+    }
+
+
+    /**
+     * Set up the 95th percentile latency.
+     *
+     * @param p95LatencyMicros microseconds
+     */
+    public void setP95LatencyMicros(long p95LatencyMicros)
+    {
+        this.p95LatencyMicros = p95LatencyMicros;
+    }
+
+
+    /**
+     * Return the 99th percentile latency.
+     *
+     * @return microseconds
+     */
+    public long getP99LatencyMicros()
+    {
+        return p99LatencyMicros;
+    }
+
+
+    /**
+     * Set up the 99th percentile latency.
+     *
+     * @param p99LatencyMicros microseconds
+     */
+    public void setP99LatencyMicros(long p99LatencyMicros)
+    {
+        this.p99LatencyMicros = p99LatencyMicros;
+    }
+
+
+    /**
+     * Return the maximum latency.
+     *
+     * @return microseconds
+     */
+    public long getMaxLatencyMicros()
+    {
+        return maxLatencyMicros;
+    }
+
+
+    /**
+     * Set up the maximum latency.
+     *
+     * @param maxLatencyMicros microseconds
+     */
+    public void setMaxLatencyMicros(long maxLatencyMicros)
+    {
+        this.maxLatencyMicros = maxLatencyMicros;
+    }
+
+
+    /**
+     * Return the complete latency distribution as a compressed, base64 encoded HdrHistogram.
+     *
+     * @return encoded histogram
+     */
+    public String getEncodedHistogram()
+    {
+        return encodedHistogram;
+    }
+
+
+    /**
+     * Set up the complete latency distribution as a compressed, base64 encoded HdrHistogram.
+     *
+     * @param encodedHistogram encoded histogram
+     */
+    public void setEncodedHistogram(String encodedHistogram)
+    {
+        this.encodedHistogram = encodedHistogram;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "ConcurrentLoadStatistics{" +
+                "operationName='" + operationName + '\'' +
+                ", operationCount=" + operationCount +
+                ", errorCount=" + errorCount +
+                ", operationsPerSecond=" + operationsPerSecond +
+                ", meanLatencyMicros=" + meanLatencyMicros +
+                ", p50LatencyMicros=" + p50LatencyMicros +
+                ", p95LatencyMicros=" + p95LatencyMicros +
+                ", p99LatencyMicros=" + p99LatencyMicros +
+                ", maxLatencyMicros=" + maxLatencyMicros +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        ConcurrentLoadStatistics that = (ConcurrentLoadStatistics) objectToCompare;
+        return operationCount == that.operationCount &&
+                errorCount == that.errorCount &&
+                Double.compare(that.operationsPerSecond, operationsPerSecond) == 0 &&
+                Double.compare(that.meanLatencyMicros, meanLatencyMicros) == 0 &&
+                p50LatencyMicros == that.p50LatencyMicros &&
+                p95LatencyMicros == that.p95LatencyMicros &&
+                p99LatencyMicros == that.p99LatencyMicros &&
+                maxLatencyMicros == that.maxLatencyMicros &&
+                Objects.equals(operationName, that.operationName) &&
+                Objects.equals(encodedHistogram, that.encodedHistogram);
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(operationName, operationCount, errorCount, operationsPerSecond, meanLatencyMicros,
+                            p50LatencyMicros, p95LatencyMicros, p99LatencyMicros, maxLatencyMicros, encodedHistogram);
+    }
+}
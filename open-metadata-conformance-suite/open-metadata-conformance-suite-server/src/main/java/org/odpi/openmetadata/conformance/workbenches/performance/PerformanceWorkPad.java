@@ -32,6 +32,10 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
     private int                     waitBetweenScenarios        = 0;
     private List<String>            profilesToSkip              = Collections.emptyList();
     private List<String>            methodsToSkip               = Collections.emptyList();
+    private int                     loadClientThreads           = 10;
+    private int                     loadTargetOperationsPerSecond = 0;
+    private int                     loadWarmupSeconds           = 10;
+    private int                     loadDurationSeconds         = 0;
 
     private OMRSRepositoryConnector tutRepositoryConnector      = null;
 
@@ -80,6 +84,10 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
             this.waitBetweenScenarios = configuration.getWaitBetweenScenarios();
             this.profilesToSkip = configuration.getProfilesToSkip();
             this.methodsToSkip  = configuration.getMethodsToSkip();
+            this.loadClientThreads = configuration.getLoadClientThreads();
+            this.loadTargetOperationsPerSecond = configuration.getLoadTargetOperationsPerSecond();
+            this.loadWarmupSeconds = configuration.getLoadWarmupSeconds();
+            this.loadDurationSeconds = configuration.getLoadDurationSeconds();
             super.tutName = this.tutServerName;
         }
     }
@@ -158,6 +166,48 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
         return methodsToSkip;
     }
 
+    /**
+     * Return the number of client threads that call the repository under test during the concurrent load profile.
+     *
+     * @return number of client threads
+     */
+    public int getLoadClientThreads()
+    {
+        return loadClientThreads;
+    }
+
+    /**
+     * Return the rate of requests (across all client threads) that the concurrent load profile aims for.
+     * Zero means the requests are not throttled.
+     *
+     * @return target operations per second
+     */
+    public int getLoadTargetOperationsPerSecond()
+    {
+        return loadTargetOperationsPerSecond;
+    }
+
+    /**
+     * Return the amount of time (in seconds) that the concurrent load profile runs before recording latencies.
+     *
+     * @return warmup time in seconds
+     */
+    public int getLoadWarmupSeconds()
+    {
+        return loadWarmupSeconds;
+    }
+
+    /**
+     * Return the amount of time (in seconds) that the concurrent load profile records latencies for.
+     * Zero means the concurrent load profile is not run.
+     *
+     * @return measurement time in seconds
+     */
+    public int getLoadDurationSeconds()
+    {
+        return loadDurationSeconds;
+    }
+
     /**
      * Return the server type of the technology under test.  This is extracted from the registration
      * events.
@@ -644,6 +694,10 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
                 ", maxPageSize=" + maxPageSize +
                 ", profilesToSkip=" + profilesToSkip +
                 ", methodsToSkip=" + methodsToSkip +
+                ", loadClientThreads=" + loadClientThreads +
+                ", loadTargetOperationsPerSecond=" + loadTargetOperationsPerSecond +
+                ", loadWarmupSeconds=" + loadWarmupSeconds +
+                ", loadDurationSeconds=" + loadDurationSeconds +
                 '}';
     }
 }
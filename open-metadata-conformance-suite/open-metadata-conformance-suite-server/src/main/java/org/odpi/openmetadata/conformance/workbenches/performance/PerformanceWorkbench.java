@@ -12,6 +12,7 @@ import org.odpi.openmetadata.conformance.tests.performance.delete.TestRelationsh
 import org.odpi.openmetadata.conformance.tests.performance.environment.TestEnvironment;
 import org.odpi.openmetadata.conformance.tests.performance.graph.TestGraphHistoryQueries;
 import org.odpi.openmetadata.conformance.tests.performance.graph.TestGraphQueries;
+import org.odpi.openmetadata.conformance.tests.performance.load.TestConcurrentLoad;
 import org.odpi.openmetadata.conformance.tests.performance.purge.*;
 import org.odpi.openmetadata.conformance.tests.performance.rehome.TestEntityReHome;
 import org.odpi.openmetadata.conformance.tests.performance.rehome.TestRelationshipReHome;
@@ -370,6 +371,13 @@ public class PerformanceWorkbench extends OpenMetadataConformanceWorkbench
             }
         }
 
+        // 33. Concurrent load against the instances that exist before any are re-homed, deleted or purged
+        if (!profilesToSkip.contains(PerformanceProfile.CONCURRENT_LOAD.getProfileName()) && (workPad.getLoadDurationSeconds() > 0))
+        {
+            TestConcurrentLoad testConcurrentLoad = new TestConcurrentLoad(workPad, entityDefs.values(), relationshipDefs.values());
+            testConcurrentLoad.executeTest();
+        }
+
         // 20. Re-home entity instances
         if (!profilesToSkip.contains(PerformanceProfile.ENTITY_RE_HOME.getProfileName()))
         {
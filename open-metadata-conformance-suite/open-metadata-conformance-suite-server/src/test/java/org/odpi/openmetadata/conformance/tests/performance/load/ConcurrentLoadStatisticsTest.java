@@ -0,0 +1,201 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance.load;
+
+import org.HdrHistogram.Histogram;
+import org.odpi.openmetadata.conformance.workbenches.performance.ConcurrentLoadStatistics;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify the statistics produced by the concurrent load profile: the percentiles summarized from the recorded
+ * latencies, the merging of the results of the client threads and the measurement of latency from the time
+ * each request was due on the client's schedule.
+ */
+public class ConcurrentLoadStatisticsTest
+{
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+
+    /**
+     * Record a successful request for each latency in the range.
+     *
+     * @param recorder recorder to add to
+     * @param fromMillis first latency
+     * @param toMillis last latency
+     */
+    private void recordLatencies(TestConcurrentLoad.OperationRecorder recorder, int fromMillis, int toMillis)
+    {
+        for (int latency = fromMillis; latency <= toMillis; latency++)
+        {
+            recorder.record(0L, latency * MILLISECOND, true);
+        }
+    }
+
+
+    /**
+     * Return the histogram encoded in the statistics.
+     *
+     * @param statistics statistics
+     * @return histogram
+     * @throws Exception the histogram can not be decoded
+     */
+    private Histogram decodeHistogram(ConcurrentLoadStatistics statistics) throws Exception
+    {
+        byte[] encodedHistogram = Base64.getDecoder().decode(statistics.getEncodedHistogram());
+
+        return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(encodedHistogram), 0);
+    }
+
+
+    private void assertWithinPrecision(long actual, long expected)
+    {
+        assertTrue(Math.abs(actual - expected) <= expected / 1000, actual + " is not close to " + expected);
+    }
+
+
+    /**
+     * The percentile, mean and maximum fields are summarized from the recorded latencies in microseconds,
+     * and errors are counted separately from the latencies.
+     */
+    @Test
+    public void testPercentiles()
+    {
+        TestConcurrentLoad.OperationRecorder recorder = new TestConcurrentLoad.OperationRecorder();
+
+        recordLatencies(recorder, 1, 1000);
+        recorder.record(0L, 5000 * MILLISECOND, false);
+        recorder.record(0L, 5000 * MILLISECOND, false);
+
+        ConcurrentLoadStatistics statistics = TestConcurrentLoad.getStatistics("getEntityDetail", recorder, 10);
+
+        assertEquals(statistics.getOperationName(), "getEntityDetail");
+        assertEquals(statistics.getOperationCount(), 1000L);
+        assertEquals(statistics.getErrorCount(), 2L);
+        assertEquals(statistics.getOperationsPerSecond(), 100.0);
+
+        assertWithinPrecision(statistics.getP50LatencyMicros(), 500000L);
+        assertWithinPrecision(statistics.getP95LatencyMicros(), 950000L);
+        assertWithinPrecision(statistics.getP99LatencyMicros(), 990000L);
+        assertWithinPrecision(statistics.getMaxLatencyMicros(), 1000000L);
+        assertWithinPrecision((long) statistics.getMeanLatencyMicros(), 500500L);
+
+        assertTrue(statistics.getP50LatencyMicros() <= statistics.getP95LatencyMicros());
+        assertTrue(statistics.getP95LatencyMicros() <= statistics.getP99LatencyMicros());
+        assertTrue(statistics.getP99LatencyMicros() <= statistics.getMaxLatencyMicros());
+    }
+
+
+    /**
+     * Merging the recorders of several client threads gives the same statistics as recording every latency in one
+     * recorder, and the encoded histogram holds the complete merged distribution.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testHistogramAggregation() throws Exception
+    {
+        TestConcurrentLoad.OperationRecorder fastClient = new TestConcurrentLoad.OperationRecorder();
+        TestConcurrentLoad.OperationRecorder slowClient = new TestConcurrentLoad.OperationRecorder();
+        TestConcurrentLoad.OperationRecorder allClients = new TestConcurrentLoad.OperationRecorder();
+        TestConcurrentLoad.OperationRecorder merged     = new TestConcurrentLoad.OperationRecorder();
+
+        recordLatencies(fastClient, 1, 900);
+        recordLatencies(slowClient, 901, 1000);
+        slowClient.record(0L, MILLISECOND, false);
+
+        recordLatencies(allClients, 1, 1000);
+        allClients.record(0L, MILLISECOND, false);
+
+        merged.add(fastClient);
+        merged.add(slowClient);
+
+        ConcurrentLoadStatistics mergedStatistics = TestConcurrentLoad.getStatistics("allOperations", merged, 10);
+        ConcurrentLoadStatistics expected         = TestConcurrentLoad.getStatistics("allOperations", allClients, 10);
+
+        /*
+         * The histograms are compared once decoded because the encoding depends on how the histogram was built up.
+         */
+        assertEquals(decodeHistogram(mergedStatistics), decodeHistogram(expected));
+
+        mergedStatistics.setEncodedHistogram(null);
+        expected.setEncodedHistogram(null);
+
+        assertEquals(mergedStatistics, expected);
+        assertEquals(mergedStatistics.getErrorCount(), 1L);
+
+        /*
+         * The slow client's latencies only show in the upper percentiles once the results are merged.
+         */
+        ConcurrentLoadStatistics fastStatistics = TestConcurrentLoad.getStatistics("allOperations", fastClient, 10);
+
+        assertTrue(fastStatistics.getP99LatencyMicros() < 901000L);
+        assertTrue(mergedStatistics.getP95LatencyMicros() > 901000L);
+
+        Histogram histogram = decodeHistogram(TestConcurrentLoad.getStatistics("allOperations", merged, 10));
+
+        assertEquals(histogram.getTotalCount(), 1000L);
+        assertEquals(histogram.getValueAtPercentile(99.0), mergedStatistics.getP99LatencyMicros());
+        assertEquals(histogram.getMaxValue(), mergedStatistics.getMaxLatencyMicros());
+    }
+
+
+    /**
+     * On a fixed schedule, a request that is late because of a slow response is sent straight away and its latency
+     * is measured from the time it was due, so the time it spent queued is included.
+     */
+    @Test
+    public void testScheduleBasedLatency()
+    {
+        long now = System.nanoTime();
+
+        /*
+         * The client's previous response took 100 milliseconds so the next requests are overdue.
+         */
+        TestConcurrentLoad.RequestSchedule   schedule = new TestConcurrentLoad.RequestSchedule(now - 100 * MILLISECOND,
+                                                                                              10 * MILLISECOND);
+        TestConcurrentLoad.OperationRecorder recorder = new TestConcurrentLoad.OperationRecorder();
+
+        for (int request = 0; request < 5; request++)
+        {
+            long requestStart = schedule.waitForNextRequest();
+
+            assertEquals(requestStart, now - (100 - 10 * request) * MILLISECOND);
+
+            recorder.record(requestStart, now, true);
+        }
+
+        ConcurrentLoadStatistics statistics = TestConcurrentLoad.getStatistics("getEntityDetail", recorder, 1);
+
+        assertWithinPrecision(statistics.getMaxLatencyMicros(), 100000L);
+        assertWithinPrecision(statistics.getP50LatencyMicros(), 80000L);
+        assertWithinPrecision((long) statistics.getMeanLatencyMicros(), 80000L);
+
+        assertTrue(schedule.hasRequestBefore(now));
+        assertFalse(schedule.hasRequestBefore(now - 50 * MILLISECOND));
+
+        /*
+         * A request that is not yet due waits for its time on the schedule.
+         */
+        long dueTime = System.nanoTime() + 20 * MILLISECOND;
+
+        schedule = new TestConcurrentLoad.RequestSchedule(dueTime, 10 * MILLISECOND);
+
+        assertEquals(schedule.waitForNextRequest(), dueTime);
+        assertTrue(System.nanoTime() >= dueTime);
+
+        /*
+         * Without a request interval, requests are sent back-to-back and timed from when they are sent.
+         */
+        schedule = new TestConcurrentLoad.RequestSchedule(now - 100 * MILLISECOND, 0L);
+
+        assertTrue(schedule.waitForNextRequest() >= now);
+    }
+}
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineagePu
 import org.odpi.openmetadata.accessservices.assetlineage.server.AssetLineageServicesInstance;
 import org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageTypesValidator;
 import org.odpi.openmetadata.accessservices.assetlineage.util.Converter;
+import org.odpi.openmetadata.accessservices.assetlineage.util.LineagePublishWatermarks;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
@@ -39,6 +40,8 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
     private String serverName;
     private final int defaultPublisherBatchSize = 1;
     private final String PUBLISHER_BATCH_SIZE_PROPERTY_NAME = "LineagePublisherBatchSize";
+    private final String PUBLISH_THREAD_COUNT_PROPERTY_NAME = "LineagePublishThreadCount";
+    private final String PUBLISH_WATERMARK_FILE_PROPERTY_NAME = "LineagePublishWatermarkFile";
 
     /**
      * Initialize the access service.
@@ -69,6 +72,11 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
                     accessServiceConfigurationProperties.getAccessServiceOutTopic(), assetLineageTypesValidator);
             this.serverName = instance.getServerName();
 
+            this.instance.setLineagePublishThreadCount(extractLineagePublishThreadCount(accessServiceOptions, this.getFullServiceName(),
+                    auditLog));
+            this.instance.setLineagePublishWatermarks(new LineagePublishWatermarks(extractLineagePublishWatermarkFile(accessServiceOptions,
+                    auditLog)));
+
             Connection outTopicConnection = accessServiceConfigurationProperties.getAccessServiceOutTopic();
 
             if (outTopicConnection != null) {
@@ -138,6 +146,61 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
         }
     }
 
+    /**
+     * Extract the value from access service options property defined with PUBLISH_THREAD_COUNT_PROPERTY_NAME static field.
+     * If accessServiceOptions is null or the property is not set, the default value is returned.
+     *
+     * @param accessServiceOptions Options for the access service
+     * @param accessServiceFullName Name of the access service
+     * @param auditLog Audit log instance
+     * @return the number of threads used to build lineage contexts in a lineage publishing job
+     * @throws OMAGConfigurationErrorException the property value is not a number
+     */
+    private int extractLineagePublishThreadCount(Map<String, Object> accessServiceOptions,
+                                                 String              accessServiceFullName,
+                                                 AuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "extractLineagePublishThreadCount";
+        if (accessServiceOptions == null || accessServiceOptions.get(PUBLISH_THREAD_COUNT_PROPERTY_NAME) == null) {
+            return AssetLineageServicesInstance.DEFAULT_LINEAGE_PUBLISH_THREAD_COUNT;
+        }
+        Object propertyValue = accessServiceOptions.get(PUBLISH_THREAD_COUNT_PROPERTY_NAME);
+        try {
+            int value = Integer.parseInt(propertyValue.toString());
+            auditLog.logMessage(methodName, AssetLineageAuditCode.CONFIGURED_PUBLISH_THREAD_COUNT.getMessageDefinition(PUBLISH_THREAD_COUNT_PROPERTY_NAME,
+                    Integer.toString(value)));
+            return value < 1 ? AssetLineageServicesInstance.DEFAULT_LINEAGE_PUBLISH_THREAD_COUNT : value;
+        } catch (Exception error) {
+            auditLog.logMessage(methodName, AssetLineageAuditCode.INVALID_PUBLISH_THREAD_COUNT.getMessageDefinition(PUBLISH_THREAD_COUNT_PROPERTY_NAME));
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.BAD_CONFIG_PROPERTIES.getMessageDefinition(accessServiceFullName,
+                    propertyValue.toString(),
+                    PUBLISH_THREAD_COUNT_PROPERTY_NAME,
+                    error.getClass().getName(),
+                    error.getMessage()),
+                    this.getClass().getName(),
+                    methodName,
+                    error);
+        }
+    }
+
+    /**
+     * Extract the value from access service options property defined with PUBLISH_WATERMARK_FILE_PROPERTY_NAME static field.
+     *
+     * @param accessServiceOptions Options for the access service
+     * @param auditLog Audit log instance
+     * @return the name of the file used to save the lineage publishing watermarks, or null to keep them in memory
+     */
+    private String extractLineagePublishWatermarkFile(Map<String, Object> accessServiceOptions, AuditLog auditLog) {
+        final String methodName = "extractLineagePublishWatermarkFile";
+        if (accessServiceOptions == null || accessServiceOptions.get(PUBLISH_WATERMARK_FILE_PROPERTY_NAME) == null) {
+            return null;
+        }
+        String value = accessServiceOptions.get(PUBLISH_WATERMARK_FILE_PROPERTY_NAME).toString();
+        auditLog.logMessage(methodName, AssetLineageAuditCode.CONFIGURED_PUBLISH_WATERMARK_FILE.getMessageDefinition(PUBLISH_WATERMARK_FILE_PROPERTY_NAME,
+                value));
+        return value;
+    }
+
     /**
      * Shutdown the access service.
      */
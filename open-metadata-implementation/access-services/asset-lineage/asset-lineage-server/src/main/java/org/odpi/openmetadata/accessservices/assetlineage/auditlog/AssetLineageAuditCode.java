@@ -83,7 +83,58 @@ public enum AssetLineageAuditCode implements AuditLogMessageSet {
             OMRSAuditLogRecordSeverity.ERROR,
             "The Asset Lineage OMAS cannot be configured with property name {0}",
             "The access service was passed invalid value in access service's options.",
-            "Verify that the value provided is correct.");
+            "Verify that the value provided is correct."),
+
+    PUBLISH_JOB_STARTED("OMAS-ASSET-LINEAGE-0013",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The lineage publishing job for entity type {0} has started with {1} threads for the entities updated after {2}",
+            "The Asset Lineage OMAS retrieves the entities page by page and publishes their lineage context on the out topic.",
+            Constants.NO_ACTION_IS_REQUIRED),
+
+    PUBLISH_JOB_PROGRESS("OMAS-ASSET-LINEAGE-0014",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The lineage publishing job for entity type {0} has processed {1} entities: {2} contexts published and {3} failures",
+            "The Asset Lineage OMAS records the progress of the lineage publishing job after each page of entities.",
+            Constants.NO_ACTION_IS_REQUIRED),
+
+    PUBLISH_JOB_COMPLETED("OMAS-ASSET-LINEAGE-0015",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The lineage publishing job for entity type {0} has completed in {1} ms: {2} entities processed, {3} contexts published " +
+                    "and {4} failures",
+            "The Asset Lineage OMAS moves the watermark for the entity type forward if there were no failures so the next job only " +
+                    "processes the entities that have changed.",
+            "If there were failures, review the earlier messages for the entities in question.  They are retried by the next job."),
+
+    PUBLISH_JOB_FAILED("OMAS-ASSET-LINEAGE-0016",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The lineage publishing job for entity type {0} stopped after processing {1} entities due to {2} exception with message {3}",
+            "The Asset Lineage OMAS does not move the watermark for the entity type so the next job retries the entities.",
+            "Review the exception to determine the source of the error and correct it."),
+
+    WATERMARK_NOT_SAVED("OMAS-ASSET-LINEAGE-0017",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The Asset Lineage OMAS is unable to save the lineage publishing watermarks to file {0} due to {1} exception with message {2}",
+            "The watermarks are kept in memory but the next lineage publishing job after a restart will process more entities than necessary.",
+            "Check that the directory for the file exists and is writable by the server."),
+
+    CONFIGURED_PUBLISH_THREAD_COUNT("OMAS-ASSET-LINEAGE-0018",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The Asset Lineage OMAS is configured to build lineage contexts with {1} threads from property {0}",
+            "The access service was passed this value in the {0} property of the access service's options.  Values less " +
+                    "than 1 are replaced by the default number of threads.",
+            "Verify that this value is correct for your organization."),
+
+    INVALID_PUBLISH_THREAD_COUNT("OMAS-ASSET-LINEAGE-0019",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The Asset Lineage OMAS cannot use the value of property {0} as a thread count",
+            "The access service was passed a value that is not a number in access service's options.",
+            "Verify that the value provided is a whole number."),
+
+    CONFIGURED_PUBLISH_WATERMARK_FILE("OMAS-ASSET-LINEAGE-0020",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The Asset Lineage OMAS is configured to save the lineage publishing watermarks to file {1} from property {0}",
+            "The access service reads the watermarks from this file at start up and saves them after each lineage publishing job.",
+            "Verify that the directory for the file exists and is writable by the server.");
 
     private AuditLogMessageDefinition messageDefinition;
 
@@ -20,6 +20,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
@@ -63,6 +64,7 @@ public class HandlerHelper {
     private final Converter converter;
     private final AssetLineageTypesValidator assetLineageTypesValidator;
     private final ClockService clockService;
+    private final ThreadLocal<LineageContextCache> contextCache = new ThreadLocal<>();
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -85,6 +87,22 @@ public class HandlerHelper {
         this.clockService = clockService;
     }
 
+    /**
+     * Use the cache for the entities and relationships retrieved by the current thread until removeContextCache is called.
+     *
+     * @param lineageContextCache cache shared by the threads of a lineage publishing job
+     */
+    public void setContextCache(LineageContextCache lineageContextCache) {
+        contextCache.set(lineageContextCache);
+    }
+
+    /**
+     * Stop using a cache for the current thread.
+     */
+    public void removeContextCache() {
+        contextCache.remove();
+    }
+
     /**
      * Fetch the relationships of an entity based on the type of the relationship
      *
@@ -107,6 +125,14 @@ public class HandlerHelper {
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateGUID(entityGUID, GUID_PARAMETER, methodName);
 
+        LineageContextCache lineageContextCache = contextCache.get();
+        if (lineageContextCache != null) {
+            List<Relationship> cachedRelationships = lineageContextCache.getRelationships(entityGUID, relationshipTypeName);
+            if (cachedRelationships != null) {
+                return cachedRelationships;
+            }
+        }
+
         String relationshipTypeGUID = getTypeGUID(userId, relationshipTypeName);
 
         List<Relationship> relationships = genericHandler.getAttachmentLinks(userId, entityGUID, GUID_PARAMETER,
@@ -114,11 +140,17 @@ public class HandlerHelper {
                 true, false, 0, 0, clockService.getNow(), methodName);
 
         if (CollectionUtils.isEmpty(relationships)) {
-            return Collections.emptyList();
+            relationships = Collections.emptyList();
+        } else {
+            relationships = relationships.stream().filter(relationship -> relationship.getEntityOneProxy() != null &&
+                    relationship.getEntityTwoProxy() != null).collect(Collectors.toList());
         }
 
-        return relationships.stream().filter(relationship -> relationship.getEntityOneProxy() != null && relationship.getEntityTwoProxy() != null)
-                .collect(Collectors.toList());
+        if (lineageContextCache != null) {
+            lineageContextCache.putRelationships(entityGUID, relationshipTypeName, relationships);
+        }
+
+        return relationships;
     }
 
     /**
@@ -185,16 +217,16 @@ public class HandlerHelper {
     EntityDetail getEntityAtTheEnd(String userId, String entityDetailGUID, Relationship relationship) throws OCFCheckedExceptionBase {
         String methodName = "getEntityAtTheEnd";
 
+        EntityProxy entityAtTheEnd;
         if (relationship.getEntityOneProxy().getGUID().equals(entityDetailGUID)) {
-            return genericHandler.getEntityFromRepository(userId, relationship.getEntityTwoProxy().getGUID(), GUID_PARAMETER,
-                    relationship.getEntityTwoProxy().getType().getTypeDefName(), null,
-                    null, true, false, clockService.getNow(), methodName);
+            entityAtTheEnd = relationship.getEntityTwoProxy();
         } else if (relationship.getEntityTwoProxy().getGUID().equals(entityDetailGUID)) {
-            return genericHandler.getEntityFromRepository(userId, relationship.getEntityOneProxy().getGUID(), GUID_PARAMETER,
-                    relationship.getEntityOneProxy().getType().getTypeDefName(), null,
-                    null, true, false, clockService.getNow(), methodName);
+            entityAtTheEnd = relationship.getEntityOneProxy();
+        } else {
+            return null;
         }
-        return null;
+
+        return getEntity(userId, entityAtTheEnd.getGUID(), entityAtTheEnd.getType().getTypeDefName(), methodName);
     }
 
     /**
@@ -215,9 +247,44 @@ public class HandlerHelper {
                                                                                                                UserNotAuthorizedException {
         String methodName = "getEntityDetails";
 
-        return genericHandler.getEntityFromRepository(userId, entityDetailGUID, GUID_PARAMETER, entityTypeName,
+        return getEntity(userId, entityDetailGUID, entityTypeName, methodName);
+    }
+
+    /**
+     * Fetch the entity from the context cache if one is in use for this thread, otherwise from the repositories
+     *
+     * @param userId           the user identifier
+     * @param entityDetailGUID the entity identifier
+     * @param entityTypeName   the entity type name
+     * @param methodName       calling method
+     *
+     * @return the entity
+     *
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException    problem retrieving the entity.
+     */
+    private EntityDetail getEntity(String userId, String entityDetailGUID, String entityTypeName, String methodName) throws
+                                                                                                                     InvalidParameterException,
+                                                                                                                     PropertyServerException,
+                                                                                                                     UserNotAuthorizedException {
+        LineageContextCache lineageContextCache = contextCache.get();
+        if (lineageContextCache != null) {
+            EntityDetail cachedEntity = lineageContextCache.getEntity(entityDetailGUID);
+            if (cachedEntity != null) {
+                return cachedEntity;
+            }
+        }
+
+        EntityDetail entityDetail = genericHandler.getEntityFromRepository(userId, entityDetailGUID, GUID_PARAMETER, entityTypeName,
                 null, null, true, false,
                 clockService.getNow(), methodName);
+
+        if (lineageContextCache != null) {
+            lineageContextCache.putEntity(entityDetail);
+        }
+
+        return entityDetail;
     }
 
 
@@ -247,15 +314,44 @@ public class HandlerHelper {
         return Optional.of(allEntities);
     }
 
+    /**
+     * Return the maximum number of elements that can be retrieved in a single page
+     *
+     * @return the page size, 0 means there is no limit
+     */
+    public int getMaxPagingSize() {
+        return invalidParameterHandler.getMaxPagingSize();
+    }
+
+    /**
+     * Retrieves a single page of entities based on the search criteria passed
+     *
+     * @param userId                 the user id
+     * @param entityTypeName         the name of the entity type
+     * @param searchProperties       searchProperties used in the filtering
+     * @param findEntitiesParameters filtering used to reduce the scope of the search
+     * @param startingFrom           the starting element number of the entities to return
+     * @param pageSize               the maximum number of entities to return
+     *
+     * @return the entities in the page, or null if there are no more entities
+     *
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException the user is not authorized to make this request.
+     * @throws PropertyServerException    something went wrong with the REST call stack.
+     */
+    public List<EntityDetail> findEntitiesPage(String userId, String entityTypeName, SearchProperties searchProperties,
+                                               FindEntitiesParameters findEntitiesParameters, int startingFrom, int pageSize)
+            throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        final String methodName = "findEntitiesPage";
+        return findEntities(userId, entityTypeName, searchProperties, findEntitiesParameters, startingFrom, pageSize, methodName);
+    }
+
     private boolean addPagedEntities(String userId, String entityTypeName, SearchProperties searchProperties,
                                      FindEntitiesParameters findEntitiesParameters, List<EntityDetail> allEntities, int startingFrom, int pageSize)
             throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
         final String methodName = "addPagedEntities";
-        String typeDefGUID = getTypeGUID(userId, entityTypeName);
-        List<EntityDetail> pagedEntities = genericHandler.findEntities(userId, typeDefGUID, findEntitiesParameters.getEntitySubtypeGUIDs(),
-                searchProperties, findEntitiesParameters.getLimitResultsByStatus(), findEntitiesParameters.getSearchClassifications(), null,
-                findEntitiesParameters.getSequencingProperty(), findEntitiesParameters.getSequencingOrder(),
-                true, false, startingFrom, pageSize, clockService.getNow(), methodName);
+        List<EntityDetail> pagedEntities = findEntities(userId, entityTypeName, searchProperties, findEntitiesParameters, startingFrom,
+                pageSize, methodName);
         if (pagedEntities == null) {
             return false;
         }
@@ -263,6 +359,16 @@ public class HandlerHelper {
         return pagedEntities.size() == pageSize;
     }
 
+    private List<EntityDetail> findEntities(String userId, String entityTypeName, SearchProperties searchProperties,
+                                            FindEntitiesParameters findEntitiesParameters, int startingFrom, int pageSize, String methodName)
+            throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        String typeDefGUID = getTypeGUID(userId, entityTypeName);
+        return genericHandler.findEntities(userId, typeDefGUID, findEntitiesParameters.getEntitySubtypeGUIDs(),
+                searchProperties, findEntitiesParameters.getLimitResultsByStatus(), findEntitiesParameters.getSearchClassifications(), null,
+                findEntitiesParameters.getSequencingProperty(), findEntitiesParameters.getSequencingOrder(),
+                true, false, startingFrom, pageSize, clockService.getNow(), methodName);
+    }
+
     /**
      * Fetch the zone membership property
      *
@@ -0,0 +1,92 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.handlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LineageContextCache holds the entities and relationships retrieved while building lineage contexts for a single publishing job.
+ * Processes and glossary terms often share the same neighbours (ports, schema elements, assets) so the cache means each neighbour
+ * is retrieved from the repositories once per job rather than once per context.  It is shared by the threads of the job.
+ * Once maxEntries entities or relationship lists are cached, further results are returned without being cached.
+ */
+public class LineageContextCache {
+
+    private final int maxEntries;
+    private final Map<String, EntityDetail> entities = new ConcurrentHashMap<>();
+    private final Map<String, List<Relationship>> relationships = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param maxEntries the maximum number of entities and the maximum number of relationship lists to cache
+     */
+    public LineageContextCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Return a cached entity.
+     *
+     * @param entityGUID the unique identifier of the entity
+     *
+     * @return the entity or null if it is not cached
+     */
+    EntityDetail getEntity(String entityGUID) {
+        return entities.get(entityGUID);
+    }
+
+    /**
+     * Cache an entity.
+     *
+     * @param entityDetail the entity retrieved from the repositories
+     */
+    void putEntity(EntityDetail entityDetail) {
+        if (entityDetail != null && entityDetail.getGUID() != null && entities.size() < maxEntries) {
+            entities.put(entityDetail.getGUID(), entityDetail);
+        }
+    }
+
+    /**
+     * Return the cached relationships of a type for an entity.
+     *
+     * @param entityGUID           the unique identifier of the entity
+     * @param relationshipTypeName the type of the relationships
+     *
+     * @return the relationships or null if they are not cached
+     */
+    List<Relationship> getRelationships(String entityGUID, String relationshipTypeName) {
+        return relationships.get(getRelationshipsKey(entityGUID, relationshipTypeName));
+    }
+
+    /**
+     * Cache the relationships of a type for an entity.
+     *
+     * @param entityGUID           the unique identifier of the entity
+     * @param relationshipTypeName the type of the relationships
+     * @param entityRelationships  the relationships retrieved from the repositories
+     */
+    void putRelationships(String entityGUID, String relationshipTypeName, List<Relationship> entityRelationships) {
+        if (entityRelationships != null && relationships.size() < maxEntries) {
+            relationships.put(getRelationshipsKey(entityGUID, relationshipTypeName), entityRelationships);
+        }
+    }
+
+    /**
+     * Return the number of entities cached.
+     *
+     * @return the entity count
+     */
+    public int getEntityCount() {
+        return entities.size();
+    }
+
+    private String getRelationshipsKey(String entityGUID, String relationshipTypeName) {
+        return entityGUID + "/" + relationshipTypeName;
+    }
+}
@@ -113,6 +113,12 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         }
 
         OMRSInstanceEventType instanceEventType = instanceEvent.getInstanceEventType();
+
+        if (instanceEventType == OMRSInstanceEventType.BATCH_INSTANCES_EVENT) {
+            processInstanceBatchEvent(instanceEvent);
+            return;
+        }
+
         EntityDetail entityDetail = instanceEvent.getEntity();
         Relationship relationship = instanceEvent.getRelationship();
 
@@ -162,6 +168,24 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         }
     }
 
+    /**
+     * Expand a batch of instances into the individual instance events it was built from.  A batch that
+     * does not record the type of each instance's event is not expanded since it is not known whether its
+     * instances are new or updated.
+     *
+     * @param instanceEvent batch instance event
+     */
+    private void processInstanceBatchEvent(OMRSInstanceEvent instanceEvent) {
+        if (instanceEvent.getInstanceBatchEventTypes() == null) {
+            log.trace("Ignoring instance batch event without event types: {}", instanceEvent);
+            return;
+        }
+
+        for (OMRSInstanceEvent batchedInstanceEvent : instanceEvent.getBatchedInstanceEvents()) {
+            processInstanceEvent(batchedInstanceEvent);
+        }
+    }
+
     /**
      * Determine whether an updated entity is an lineage entity and publish the update entity for lineage
      *
@@ -363,13 +387,13 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
      * Checks if the process status has been changed to active
      *
      * @param entityDetail   the new entity object
-     * @param originalEntity the original entity object
+     * @param originalEntity the original entity object (null for updates expanded from a batch)
      *
      * @return true if the status of the Process entity has been changed to active
      */
     private boolean isProcessStatusChangedToActive(EntityDetail entityDetail, EntityDetail originalEntity) {
         return entityDetail.getType().getTypeDefName().equals(PROCESS) &&
-                !originalEntity.getStatus().getName().equals(entityDetail.getStatus().getName())
+                (originalEntity == null || !originalEntity.getStatus().getName().equals(entityDetail.getStatus().getName()))
                 && entityDetail.getStatus().getName().equals(VALUE_FOR_ACTIVE);
     }
 
@@ -8,6 +8,7 @@ import org.odpi.openmetadata.accessservices.assetlineage.handlers.GlossaryContex
 import org.odpi.openmetadata.accessservices.assetlineage.handlers.HandlerHelper;
 import org.odpi.openmetadata.accessservices.assetlineage.handlers.ProcessContextHandler;
 import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineagePublisher;
+import org.odpi.openmetadata.accessservices.assetlineage.util.LineagePublishWatermarks;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.multitenant.OMASServiceInstanceHandler;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -157,6 +158,50 @@ public class AssetLineageInstanceHandler extends OMASServiceInstanceHandler
         return null;
     }
 
+    /**
+     * Retrieve the watermarks that record how far the lineage of each entity type has been published
+     *
+     * @param userId               the user id
+     * @param serverName           the server name
+     * @param serviceOperationName the service operation name
+     * @return the lineage publishing watermarks
+     * @throws InvalidParameterException  the invalid parameter exception
+     * @throws UserNotAuthorizedException the user not authorized exception
+     * @throws PropertyServerException    the property server exception
+     */
+    public LineagePublishWatermarks getLineagePublishWatermarks(String userId, String serverName, String serviceOperationName)
+            throws InvalidParameterException, UserNotAuthorizedException, PropertyServerException {
+
+        AssetLineageServicesInstance instance = (AssetLineageServicesInstance) super.getServerServiceInstance(userId, serverName, serviceOperationName);
+        if (instance != null) {
+            return instance.getLineagePublishWatermarks();
+        }
+
+        return null;
+    }
+
+    /**
+     * Retrieve the number of threads used to build lineage contexts in a lineage publishing job
+     *
+     * @param userId               the user id
+     * @param serverName           the server name
+     * @param serviceOperationName the service operation name
+     * @return the thread count
+     * @throws InvalidParameterException  the invalid parameter exception
+     * @throws UserNotAuthorizedException the user not authorized exception
+     * @throws PropertyServerException    the property server exception
+     */
+    public int getLineagePublishThreadCount(String userId, String serverName, String serviceOperationName)
+            throws InvalidParameterException, UserNotAuthorizedException, PropertyServerException {
+
+        AssetLineageServicesInstance instance = (AssetLineageServicesInstance) super.getServerServiceInstance(userId, serverName, serviceOperationName);
+        if (instance != null) {
+            return instance.getLineagePublishThreadCount();
+        }
+
+        return AssetLineageServicesInstance.DEFAULT_LINEAGE_PUBLISH_THREAD_COUNT;
+    }
+
 
     /**
      * Retrieve the AuditLog from the service instance.
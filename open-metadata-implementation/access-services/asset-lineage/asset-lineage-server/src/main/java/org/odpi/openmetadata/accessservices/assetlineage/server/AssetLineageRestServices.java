@@ -15,9 +15,11 @@ import org.odpi.openmetadata.accessservices.assetlineage.model.FindEntitiesParam
 import org.odpi.openmetadata.accessservices.assetlineage.model.LineagePublishSummary;
 import org.odpi.openmetadata.accessservices.assetlineage.model.RelationshipsContext;
 import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineagePublisher;
+import org.odpi.openmetadata.accessservices.assetlineage.util.LineagePublishWatermarks;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.ConnectionResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -135,6 +137,63 @@ public class AssetLineageRestServices {
         return response;
     }
 
+    /**
+     * publishLineage starts a background job that publishes the lineage context of the entities of the given type that have been
+     * updated since the last job for the type completed without errors. The point in time reached by the last job is kept as a
+     * watermark for each type, which is saved to a file if the LineagePublishWatermarkFile access service option is set.
+     *
+     * Unlike publishEntities, the entities are retrieved a page at a time while the contexts are being built, so the memory used
+     * does not depend on the number of entities. The contexts are built by a fixed number of threads (LineagePublishThreadCount
+     * access service option) that share a cache of the neighbouring entities and relationships for the duration of the job.
+     * Progress is reported in the audit log after each page. When every context has been published, the watermark is moved to
+     * the start time of the job and a lineage summary event is published on the out topic.
+     * Only one job, or publishEntities task, can be active at a given time; requests made while one is active are ignored.
+     *
+     * @param serverName             name of server instance to call
+     * @param userId                 the name of the calling user
+     * @param entityType             the type of the entity to publish
+     * @param findEntitiesParameters filtering used to reduce the scope of the search, the updatedAfter value is ignored
+     * @param fullResync             ignore the watermark and publish the context of every entity of the type
+     *
+     * @return void response or
+     * InvalidParameterException one of the parameters is null or invalid or
+     * UserNotAuthorizedException user not authorized to issue this request or
+     * PropertyServerException problem accessing the property server
+     */
+    public VoidResponse publishLineage(String serverName, String userId, String entityType, FindEntitiesParameters findEntitiesParameters,
+                                       boolean fullResync) {
+        String methodName = "publishLineage";
+        VoidResponse response = new VoidResponse();
+
+        try {
+            HandlerHelper handlerHelper = instanceHandler.getHandlerHelper(userId, serverName, methodName);
+            AuditLog auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+            AssetLineagePublisher publisher = instanceHandler.getAssetLineagePublisher(userId, serverName, methodName);
+            LineagePublishWatermarks watermarks = instanceHandler.getLineagePublishWatermarks(userId, serverName, methodName);
+            int threadCount = instanceHandler.getLineagePublishThreadCount(userId, serverName, methodName);
+
+            int pageSize = LineagePublishJob.DEFAULT_PAGE_SIZE;
+            if (handlerHelper.getMaxPagingSize() > 0) {
+                pageSize = Math.min(pageSize, handlerHelper.getMaxPagingSize());
+            }
+
+            if (publishLineageTaskActive.compareAndSet(false, true)) {
+                LineagePublishJob lineagePublishJob = new LineagePublishJob(userId, entityType, findEntitiesParameters, fullResync,
+                        handlerHelper, publisher, entityDetail -> publishContext(entityDetail, publisher), watermarks, auditLog,
+                        threadCount, pageSize);
+
+                CompletableFuture.runAsync(lineagePublishJob).whenComplete((result, error) -> publishLineageTaskActive.set(false));
+            }
+        } catch (InvalidParameterException e) {
+            restExceptionHandler.captureInvalidParameterException(response, e);
+        } catch (UserNotAuthorizedException e) {
+            restExceptionHandler.captureUserNotAuthorizedException(response, e);
+        } catch (PropertyServerException e) {
+            restExceptionHandler.capturePropertyServerException(response, e);
+        }
+        return response;
+    }
+
     /**
      * Supplier of lineage processing result for input entities
      *
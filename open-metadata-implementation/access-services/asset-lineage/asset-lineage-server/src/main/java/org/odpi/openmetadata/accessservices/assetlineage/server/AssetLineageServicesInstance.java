@@ -16,6 +16,7 @@ import org.odpi.openmetadata.accessservices.assetlineage.outtopic.connector.Asse
 import org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageTypesValidator;
 import org.odpi.openmetadata.accessservices.assetlineage.util.ClockService;
 import org.odpi.openmetadata.accessservices.assetlineage.util.Converter;
+import org.odpi.openmetadata.accessservices.assetlineage.util.LineagePublishWatermarks;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIGenericHandler;
 import org.odpi.openmetadata.commonservices.multitenant.OMASServiceInstance;
@@ -41,6 +42,11 @@ public class AssetLineageServicesInstance extends OMASServiceInstance {
 
     private AssetLineagePublisher assetLineagePublisher;
 
+    public static final int DEFAULT_LINEAGE_PUBLISH_THREAD_COUNT = 4;
+
+    private LineagePublishWatermarks lineagePublishWatermarks;
+    private int lineagePublishThreadCount = DEFAULT_LINEAGE_PUBLISH_THREAD_COUNT;
+
     /**
      * Set up the handlers for this server.
      *
@@ -136,6 +142,42 @@ public class AssetLineageServicesInstance extends OMASServiceInstance {
         this.assetLineagePublisher = assetLineagePublisher;
     }
 
+    /**
+     * Return the watermarks that record how far the lineage of each entity type has been published.
+     *
+     * @return lineage publishing watermarks
+     */
+    LineagePublishWatermarks getLineagePublishWatermarks() {
+        return lineagePublishWatermarks;
+    }
+
+    /**
+     * Set up the watermarks that record how far the lineage of each entity type has been published.
+     *
+     * @param lineagePublishWatermarks lineage publishing watermarks
+     */
+    public void setLineagePublishWatermarks(LineagePublishWatermarks lineagePublishWatermarks) {
+        this.lineagePublishWatermarks = lineagePublishWatermarks;
+    }
+
+    /**
+     * Return the number of threads used to build lineage contexts in a lineage publishing job.
+     *
+     * @return thread count
+     */
+    int getLineagePublishThreadCount() {
+        return lineagePublishThreadCount;
+    }
+
+    /**
+     * Set up the number of threads used to build lineage contexts in a lineage publishing job.
+     *
+     * @param lineagePublishThreadCount thread count
+     */
+    public void setLineagePublishThreadCount(int lineagePublishThreadCount) {
+        this.lineagePublishThreadCount = lineagePublishThreadCount;
+    }
+
     @Override
     public AuditLog getAuditLog() {
         return super.getAuditLog();
@@ -0,0 +1,250 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.server;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.commons.collections4.CollectionUtils;
+import org.odpi.openmetadata.accessservices.assetlineage.auditlog.AssetLineageAuditCode;
+import org.odpi.openmetadata.accessservices.assetlineage.handlers.HandlerHelper;
+import org.odpi.openmetadata.accessservices.assetlineage.handlers.LineageContextCache;
+import org.odpi.openmetadata.accessservices.assetlineage.model.FindEntitiesParameters;
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineagePublishSummary;
+import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineagePublisher;
+import org.odpi.openmetadata.accessservices.assetlineage.util.LineagePublishWatermarks;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LineagePublishJob publishes the lineage context of the entities of a type that have been updated since the watermark for the type.
+ * The entities are retrieved a page at a time so the memory used does not depend on the number of entities. The contexts of the
+ * entities in a page are built in parallel by a fixed number of threads, and the next page is retrieved while they are being built.
+ * The entities and relationships retrieved while building the contexts are cached for the duration of the job, so neighbours shared
+ * by many entities are only retrieved once. Progress is recorded in the audit log after each page. The watermark is only moved forward
+ * when every entity has been published, so any failures are retried by the next job.
+ */
+class LineagePublishJob implements Runnable {
+
+    static final int DEFAULT_PAGE_SIZE = 500;
+    static final int DEFAULT_MAX_CACHED_ENTRIES = 100000;
+
+    private final String userId;
+    private final String entityType;
+    private final FindEntitiesParameters findEntitiesParameters;
+    private final boolean fullResync;
+    private final HandlerHelper handlerHelper;
+    private final AssetLineagePublisher publisher;
+    private final EntityContextPublisher entityContextPublisher;
+    private final LineagePublishWatermarks watermarks;
+    private final AuditLog auditLog;
+    private final int threadCount;
+    private final int pageSize;
+
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    /**
+     * Publishes the lineage context for a single entity.
+     */
+    @FunctionalInterface
+    interface EntityContextPublisher {
+
+        /**
+         * Build and publish the lineage context for an entity
+         *
+         * @param entityDetail the entity
+         *
+         * @return the entity GUID if a context was published, otherwise null
+         *
+         * @throws Exception the context could not be built or published
+         */
+        String publish(EntityDetail entityDetail) throws Exception;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param userId                 the user id used to retrieve the entities
+     * @param entityType             the type of the entities to publish
+     * @param findEntitiesParameters filtering used to reduce the scope of the search
+     * @param fullResync             ignore the watermark and publish the context of every entity of the type
+     * @param handlerHelper          helper used to retrieve the entities
+     * @param publisher              the asset-lineage topic publisher
+     * @param entityContextPublisher builds and publishes the context of one entity
+     * @param watermarks             the watermarks for each entity type
+     * @param auditLog               destination for progress messages
+     * @param threadCount            the number of contexts to build in parallel
+     * @param pageSize               the number of entities to retrieve in each page
+     */
+    LineagePublishJob(String userId, String entityType, FindEntitiesParameters findEntitiesParameters, boolean fullResync,
+                      HandlerHelper handlerHelper, AssetLineagePublisher publisher, EntityContextPublisher entityContextPublisher,
+                      LineagePublishWatermarks watermarks, AuditLog auditLog, int threadCount, int pageSize) {
+        this.userId = userId;
+        this.entityType = entityType;
+        this.findEntitiesParameters = findEntitiesParameters;
+        this.fullResync = fullResync;
+        this.handlerHelper = handlerHelper;
+        this.publisher = publisher;
+        this.entityContextPublisher = entityContextPublisher;
+        this.watermarks = watermarks;
+        this.auditLog = auditLog;
+        this.threadCount = Math.max(threadCount, 1);
+        this.pageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Run the job.
+     */
+    @Override
+    public void run() {
+        String methodName = "publishLineage";
+        long startTime = System.currentTimeMillis();
+
+        Long updatedAfter = fullResync ? null : watermarks.getWatermark(entityType);
+        SearchProperties searchProperties = updatedAfter == null ? null : handlerHelper.getSearchPropertiesAfterUpdateTime(updatedAfter);
+
+        auditLog.logMessage(methodName, AssetLineageAuditCode.PUBLISH_JOB_STARTED.getMessageDefinition(entityType,
+                String.valueOf(threadCount), updatedAfter == null ? "the first entity" : new Date(updatedAfter).toString()));
+
+        LineageContextCache lineageContextCache = new LineageContextCache(DEFAULT_MAX_CACHED_ENTRIES);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount,
+                runnable -> new Thread(runnable, "AssetLineagePublishJob-" + entityType));
+
+        try {
+            int startingFrom = 0;
+            List<EntityDetail> page = handlerHelper.findEntitiesPage(userId, entityType, searchProperties, findEntitiesParameters,
+                    startingFrom, pageSize);
+
+            while (CollectionUtils.isNotEmpty(page)) {
+                List<Future<?>> results = new ArrayList<>();
+                for (EntityDetail entityDetail : page) {
+                    results.add(executorService.submit(() -> publishEntityContext(entityDetail, lineageContextCache)));
+                }
+
+                /*
+                 * Retrieve the next page while the contexts of this page are built.
+                 */
+                List<EntityDetail> nextPage = null;
+                if (page.size() == pageSize) {
+                    startingFrom += page.size();
+                    nextPage = handlerHelper.findEntitiesPage(userId, entityType, searchProperties, findEntitiesParameters,
+                            startingFrom, pageSize);
+                }
+
+                for (Future<?> result : results) {
+                    result.get();
+                }
+
+                auditLog.logMessage(methodName, AssetLineageAuditCode.PUBLISH_JOB_PROGRESS.getMessageDefinition(entityType,
+                        String.valueOf(processedCount.get()), String.valueOf(publishedCount.get()), String.valueOf(failedCount.get())));
+
+                page = nextPage;
+            }
+
+            auditLog.logMessage(methodName, AssetLineageAuditCode.PUBLISH_JOB_COMPLETED.getMessageDefinition(entityType,
+                    String.valueOf(System.currentTimeMillis() - startTime), String.valueOf(processedCount.get()),
+                    String.valueOf(publishedCount.get()), String.valueOf(failedCount.get())));
+
+            if (failedCount.get() == 0) {
+                moveWatermark(startTime);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logJobFailure(e);
+        } catch (ExecutionException e) {
+            logJobFailure(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } catch (Exception e) {
+            logJobFailure(e);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Return the number of entities processed so far.
+     *
+     * @return entity count
+     */
+    long getProcessedCount() {
+        return processedCount.get();
+    }
+
+    /**
+     * Return the number of lineage contexts published so far.
+     *
+     * @return context count
+     */
+    long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    /**
+     * Return the number of entities whose context could not be published.
+     *
+     * @return entity count
+     */
+    long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private void publishEntityContext(EntityDetail entityDetail, LineageContextCache lineageContextCache) {
+        String methodName = "publishEntityContext";
+
+        handlerHelper.setContextCache(lineageContextCache);
+        try {
+            if (entityContextPublisher.publish(entityDetail) != null) {
+                publishedCount.incrementAndGet();
+            }
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            auditLog.logException(methodName, AssetLineageAuditCode.ENTITY_ERROR.getMessageDefinition(entityDetail.getType().getTypeDefName(),
+                    entityDetail.getGUID()), e);
+        } finally {
+            handlerHelper.removeContextCache();
+            processedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Save the new watermark for the entity type and notify the consumers of the out topic that the lineage is up to date to this point.
+     *
+     * @param watermark the time the job started
+     */
+    private void moveWatermark(long watermark) {
+        String methodName = "moveWatermark";
+
+        try {
+            watermarks.setWatermark(entityType, watermark);
+        } catch (IOException e) {
+            auditLog.logException(methodName, AssetLineageAuditCode.WATERMARK_NOT_SAVED.getMessageDefinition(watermarks.getWatermarkFileName(),
+                    e.getClass().getName(), e.getMessage()), e);
+        }
+
+        try {
+            LineagePublishSummary publishSummary = new LineagePublishSummary();
+            publishSummary.setLineageTimestamp(watermark);
+            publisher.publishLineageSummaryEvent(publishSummary);
+        } catch (JsonProcessingException | ConnectorCheckedException e) {
+            auditLog.logException(methodName, AssetLineageAuditCode.PUBLISH_EVENT_ERROR.getMessageDefinition(), e);
+        }
+    }
+
+    private void logJobFailure(Exception e) {
+        String methodName = "publishLineage";
+
+        auditLog.logException(methodName, AssetLineageAuditCode.PUBLISH_JOB_FAILED.getMessageDefinition(entityType,
+                String.valueOf(processedCount.get()), e.getClass().getName(), e.getMessage()), e);
+    }
+}
@@ -0,0 +1,85 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adminservices.store.AtomicFileWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LineagePublishWatermarks records, for each entity type, the point in time (epoch milliseconds) up to which the lineage context
+ * of the entities has been published. A lineage publishing job only processes the entities updated after the watermark.
+ * If a file name is provided the watermarks are saved to it after each change so they survive a restart of the server,
+ * otherwise they are held in memory.
+ */
+public class LineagePublishWatermarks {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String watermarkFileName;
+    private final Map<String, Long> watermarks = new HashMap<>();
+
+    /**
+     * Constructor. Loads the saved watermarks if the file exists.
+     *
+     * @param watermarkFileName name of the file to save the watermarks to, or null to hold them in memory
+     *
+     * @throws IOException the file exists but could not be read
+     */
+    public LineagePublishWatermarks(String watermarkFileName) throws IOException {
+        this.watermarkFileName = watermarkFileName;
+
+        if (watermarkFileName != null) {
+            File watermarkFile = new File(watermarkFileName);
+            if (watermarkFile.exists()) {
+                Map<String, Long> savedWatermarks = OBJECT_MAPPER.readValue(watermarkFile, new TypeReference<Map<String, Long>>() {});
+                if (savedWatermarks != null) {
+                    watermarks.putAll(savedWatermarks);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the name of the file the watermarks are saved to.
+     *
+     * @return file name or null if the watermarks are held in memory
+     */
+    public String getWatermarkFileName() {
+        return watermarkFileName;
+    }
+
+    /**
+     * Return the watermark for an entity type.
+     *
+     * @param entityType the name of the entity type
+     *
+     * @return epoch milliseconds or null if the lineage for the entity type has never been completely published
+     */
+    public synchronized Long getWatermark(String entityType) {
+        return watermarks.get(entityType);
+    }
+
+    /**
+     * Set the watermark for an entity type and save the watermarks. The watermark is updated in memory even if it can not be saved.
+     *
+     * @param entityType the name of the entity type
+     * @param watermark  epoch milliseconds
+     *
+     * @throws IOException the watermarks could not be saved
+     */
+    public synchronized void setWatermark(String entityType, Long watermark) throws IOException {
+        watermarks.put(entityType, watermark);
+
+        if (watermarkFileName == null) {
+            return;
+        }
+
+        AtomicFileWriter.writeFile(new File(watermarkFileName).toPath(), OBJECT_MAPPER.writeValueAsBytes(watermarks));
+    }
+}
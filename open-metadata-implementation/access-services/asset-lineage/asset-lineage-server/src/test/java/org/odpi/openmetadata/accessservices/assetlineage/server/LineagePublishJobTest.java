@@ -0,0 +1,144 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.server;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.odpi.openmetadata.accessservices.assetlineage.handlers.HandlerHelper;
+import org.odpi.openmetadata.accessservices.assetlineage.model.FindEntitiesParameters;
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineagePublishSummary;
+import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineagePublisher;
+import org.odpi.openmetadata.accessservices.assetlineage.util.LineagePublishWatermarks;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageConstants.PROCESS;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+class LineagePublishJobTest {
+    private static final String USER = "user";
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    private HandlerHelper handlerHelper;
+    @Mock
+    private AssetLineagePublisher publisher;
+    @Mock
+    private AuditLog auditLog;
+    @Mock
+    private FindEntitiesParameters findEntitiesParameters;
+
+    @Test
+    void run_publishesEveryPageAndMovesWatermark() throws Exception {
+        LineagePublishWatermarks watermarks = new LineagePublishWatermarks(null);
+        List<EntityDetail> firstPage = Arrays.asList(mockEntityDetail("guid1"), mockEntityDetail("guid2"));
+        List<EntityDetail> secondPage = Collections.singletonList(mockEntityDetail("guid3"));
+        when(handlerHelper.findEntitiesPage(USER, PROCESS, null, findEntitiesParameters, 0, PAGE_SIZE)).thenReturn(firstPage);
+        when(handlerHelper.findEntitiesPage(USER, PROCESS, null, findEntitiesParameters, PAGE_SIZE, PAGE_SIZE)).thenReturn(secondPage);
+
+        List<String> published = Collections.synchronizedList(new ArrayList<>());
+        LineagePublishJob job = createJob(watermarks, false, entityDetail -> {
+            published.add(entityDetail.getGUID());
+            return entityDetail.getGUID();
+        });
+
+        long startTime = System.currentTimeMillis();
+        job.run();
+
+        assertEquals(3, job.getProcessedCount());
+        assertEquals(3, job.getPublishedCount());
+        assertEquals(0, job.getFailedCount());
+        assertEquals(3, published.size());
+        assertNotNull(watermarks.getWatermark(PROCESS));
+        assertTrue(watermarks.getWatermark(PROCESS) >= startTime);
+        verify(publisher).publishLineageSummaryEvent(any(LineagePublishSummary.class));
+    }
+
+    @Test
+    void run_searchesFromWatermark() throws Exception {
+        LineagePublishWatermarks watermarks = new LineagePublishWatermarks(null);
+        Long watermark = 1629123802L;
+        watermarks.setWatermark(PROCESS, watermark);
+        SearchProperties searchProperties = mock(SearchProperties.class);
+        when(handlerHelper.getSearchPropertiesAfterUpdateTime(watermark)).thenReturn(searchProperties);
+        when(handlerHelper.findEntitiesPage(USER, PROCESS, searchProperties, findEntitiesParameters, 0, PAGE_SIZE))
+                .thenReturn(Collections.emptyList());
+
+        LineagePublishJob job = createJob(watermarks, false, EntityDetail::getGUID);
+        job.run();
+
+        assertEquals(0, job.getProcessedCount());
+        verify(handlerHelper, never()).findEntitiesPage(eq(USER), eq(PROCESS), isNull(), any(), any(Integer.class), any(Integer.class));
+    }
+
+    @Test
+    void run_keepsWatermarkWhenAContextFails() throws Exception {
+        LineagePublishWatermarks watermarks = new LineagePublishWatermarks(null);
+        List<EntityDetail> page = Collections.singletonList(mockEntityDetail("guid1"));
+        when(handlerHelper.findEntitiesPage(USER, PROCESS, null, findEntitiesParameters, 0, PAGE_SIZE)).thenReturn(page);
+
+        LineagePublishJob job = createJob(watermarks, false, entityDetail -> {
+            throw new PropertyServerException(null, this.getClass().getName(), "publish");
+        });
+        job.run();
+
+        assertEquals(1, job.getProcessedCount());
+        assertEquals(1, job.getFailedCount());
+        assertNull(watermarks.getWatermark(PROCESS));
+        verify(publisher, never()).publishLineageSummaryEvent(any(LineagePublishSummary.class));
+        verify(handlerHelper).removeContextCache();
+    }
+
+    @Test
+    void watermarks_areSavedToFile() throws IOException {
+        File watermarkFile = File.createTempFile("lineage-watermarks", ".json");
+        watermarkFile.deleteOnExit();
+        watermarkFile.delete();
+
+        LineagePublishWatermarks watermarks = new LineagePublishWatermarks(watermarkFile.getPath());
+        watermarks.setWatermark(PROCESS, 42L);
+
+        assertEquals(42L, new LineagePublishWatermarks(watermarkFile.getPath()).getWatermark(PROCESS));
+    }
+
+    private LineagePublishJob createJob(LineagePublishWatermarks watermarks, boolean fullResync,
+                                        LineagePublishJob.EntityContextPublisher entityContextPublisher) {
+        return new LineagePublishJob(USER, PROCESS, findEntitiesParameters, fullResync, handlerHelper, publisher, entityContextPublisher,
+                watermarks, auditLog, 2, PAGE_SIZE);
+    }
+
+    private EntityDetail mockEntityDetail(String guid) {
+        EntityDetail entityDetail = mock(EntityDetail.class);
+        InstanceType type = mock(InstanceType.class);
+        when(type.getTypeDefName()).thenReturn(PROCESS);
+        when(entityDetail.getType()).thenReturn(type);
+        when(entityDetail.getGUID()).thenReturn(guid);
+        return entityDetail;
+    }
+}
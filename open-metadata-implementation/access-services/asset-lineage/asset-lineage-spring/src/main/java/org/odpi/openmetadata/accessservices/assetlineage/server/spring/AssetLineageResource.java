@@ -8,6 +8,7 @@ import org.odpi.openmetadata.accessservices.assetlineage.model.FindEntitiesParam
 import org.odpi.openmetadata.accessservices.assetlineage.server.AssetLineageRestServices;
 import org.odpi.openmetadata.commonservices.ffdc.rest.ConnectionResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
@@ -73,6 +74,42 @@ public class AssetLineageResource {
         return restAPI.publishEntities(serverName, userId, entityType, findEntitiesParameters);
     }
 
+    /**
+     * Start a background job that publishes the contexts of the entities of the given type that were updated since the last
+     * completed job for the type. Progress is reported in the audit log.
+     *
+     * @param serverName name of server instance to call
+     * @param userId     the name of the calling user
+     * @param entityType the name of the entity type
+     * @param entitySubtypeGUIDs    optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                              include in the search results. Null means all subtypes.
+     * @param limitResultsByStatus  By default, entities in all statuses are returned.  However, it is possible
+     *                              to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                              status values.
+     * @param searchClassifications Optional list of entity classifications to match.
+     * @param fullResync            publish the contexts of all the entities of the type, ignoring the last completed job
+     * @return void response or
+     * InvalidParameterException one of the parameters is null or invalid or
+     * UserNotAuthorizedException user not authorized to issue this request or
+     * PropertyServerException problem accessing the property server
+     */
+    @GetMapping(path = "/publish-lineage/{entityType}")
+    public VoidResponse publishLineage(@PathVariable String serverName,
+                                       @PathVariable String userId,
+                                       @PathVariable String entityType,
+                                       @RequestParam(required = false) List<String> entitySubtypeGUIDs,
+                                       @RequestParam(required = false) List<InstanceStatus> limitResultsByStatus,
+                                       @RequestParam(required = false) SearchClassifications searchClassifications,
+                                       @RequestParam(required = false, defaultValue = "false") boolean fullResync) {
+
+        FindEntitiesParameters findEntitiesParameters = new FindEntitiesParameters.Builder()
+                .withEntitySubtypeGUIDs(entitySubtypeGUIDs)
+                .withLimitResultsByStatus(limitResultsByStatus)
+                .withSearchClassifications(searchClassifications)
+                .build();
+        return restAPI.publishLineage(serverName, userId, entityType, findEntitiesParameters, fullResync);
+    }
+
     /**
      * Find the entity by guid and publish the context for it
      *
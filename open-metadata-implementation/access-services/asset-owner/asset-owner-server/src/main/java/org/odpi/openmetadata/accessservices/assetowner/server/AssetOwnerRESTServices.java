@@ -12,6 +12,7 @@ import org.odpi.openmetadata.commonservices.ffdc.RESTCallLogger;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallToken;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.*;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryRequestScope;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
@@ -823,6 +824,53 @@ public class AssetOwnerRESTServices
     }
 
 
+    /**
+     * Create a list of schema attributes and attach them to the same parent schema type.  The attributes share the same
+     * parent and anchor, so a request scope is open while they are added to ensure these are only retrieved once.
+     *
+     * @param userId calling user
+     * @param serverName this server
+     * @param assetGUID anchor GUID for the new schema types
+     * @param parentGUID unique identifier of the parent schema element
+     * @param schemaAttributes properties for the new attributes
+     * @param methodName calling method
+     * @throws InvalidParameterException one of the properties is invalid
+     * @throws UserNotAuthorizedException the calling user is not authorized to perform this request
+     * @throws PropertyServerException there was a problem in the repositories
+     */
+    private void addAssociatedSchemaAttributes(String                          userId,
+                                               String                          serverName,
+                                               String                          assetGUID,
+                                               String                          parentGUID,
+                                               List<SchemaAttributeProperties> schemaAttributes,
+                                               String                          methodName) throws InvalidParameterException,
+                                                                                                  UserNotAuthorizedException,
+                                                                                                  PropertyServerException
+    {
+        SchemaAttributeHandler<SchemaAttributeElement, SchemaTypeElement> handler =
+                instanceHandler.getSchemaAttributeHandler(userId, serverName, methodName);
+
+        RepositoryRequestScope requestScope = handler.startRequestScope(methodName);
+
+        try
+        {
+            for (SchemaAttributeProperties schemaAttributeProperties : schemaAttributes)
+            {
+                this.addAssociatedSchemaAttribute(userId,
+                                                  serverName,
+                                                  assetGUID,
+                                                  parentGUID,
+                                                  schemaAttributeProperties,
+                                                  methodName);
+            }
+        }
+        finally
+        {
+            requestScope.close();
+        }
+    }
+
+
     /**
      * Links the supplied schema type directly to the asset.  If this schema is either not found, or
      * already attached to an asset, then an error occurs.  If another schema is currently
@@ -1028,15 +1076,7 @@ public class AssetOwnerRESTServices
             {
                 auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
 
-                for (SchemaAttributeProperties schemaAttributeProperties : requestBody.getSchemaAttributeProperties())
-                {
-                    this.addAssociatedSchemaAttribute(userId,
-                                                      serverName,
-                                                      assetGUID,
-                                                      parentGUID,
-                                                      schemaAttributeProperties,
-                                                      methodName);
-                }
+                this.addAssociatedSchemaAttributes(userId, serverName, assetGUID, parentGUID, requestBody.getSchemaAttributeProperties(), methodName);
             }
             else
             {
@@ -1088,15 +1128,7 @@ public class AssetOwnerRESTServices
             {
                 auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
 
-                for (SchemaAttributeProperties schemaAttributeProperties : requestBody)
-                {
-                    this.addAssociatedSchemaAttribute(userId,
-                                                      serverName,
-                                                      assetGUID,
-                                                      parentGUID,
-                                                      schemaAttributeProperties,
-                                                      methodName);
-                }
+                this.addAssociatedSchemaAttributes(userId, serverName, assetGUID, parentGUID, requestBody, methodName);
             }
             else
             {
@@ -0,0 +1,124 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.discoveryengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AnnotationListRequestBody provides a structure for passing a list of annotations over a REST API so they can be
+ * added to the annotation store in a single call.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AnnotationListRequestBody extends ODFOMASAPIRequestBody
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<Annotation> annotations = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AnnotationListRequestBody()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public AnnotationListRequestBody(AnnotationListRequestBody template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            annotations = template.getAnnotations();
+        }
+    }
+
+
+    /**
+     * Return the list of annotations.
+     *
+     * @return list
+     */
+    public List<Annotation> getAnnotations()
+    {
+        return annotations;
+    }
+
+
+    /**
+     * Set up the list of annotations.
+     *
+     * @param annotations list
+     */
+    public void setAnnotations(List<Annotation> annotations)
+    {
+        this.annotations = annotations;
+    }
+
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "AnnotationListRequestBody{" +
+                "annotations=" + annotations +
+                '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        AnnotationListRequestBody that = (AnnotationListRequestBody) objectToCompare;
+        return Objects.equals(getAnnotations(), that.getAnnotations());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getAnnotations());
+    }
+}
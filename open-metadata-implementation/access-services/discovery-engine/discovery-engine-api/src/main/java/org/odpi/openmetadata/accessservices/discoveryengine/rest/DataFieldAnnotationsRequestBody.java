@@ -0,0 +1,125 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.discoveryengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * DataFieldAnnotationsRequestBody provides a structure for passing the new annotations for many data fields over a
+ * REST API so they can be added to the annotation store in a single call.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class DataFieldAnnotationsRequestBody extends ODFOMASAPIRequestBody
+{
+    private static final long    serialVersionUID = 1L;
+
+    private Map<String, List<Annotation>> dataFieldAnnotations = null;
+
+
+    /**
+     * Default constructor
+     */
+    public DataFieldAnnotationsRequestBody()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public DataFieldAnnotationsRequestBody(DataFieldAnnotationsRequestBody template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            dataFieldAnnotations = template.getDataFieldAnnotations();
+        }
+    }
+
+
+    /**
+     * Return the map from the unique identifier of each data field to the annotations to attach to it.
+     *
+     * @return map
+     */
+    public Map<String, List<Annotation>> getDataFieldAnnotations()
+    {
+        return dataFieldAnnotations;
+    }
+
+
+    /**
+     * Set up the map from the unique identifier of each data field to the annotations to attach to it.
+     *
+     * @param dataFieldAnnotations map
+     */
+    public void setDataFieldAnnotations(Map<String, List<Annotation>> dataFieldAnnotations)
+    {
+        this.dataFieldAnnotations = dataFieldAnnotations;
+    }
+
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "DataFieldAnnotationsRequestBody{" +
+                "dataFieldAnnotations=" + dataFieldAnnotations +
+                '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        DataFieldAnnotationsRequestBody that = (DataFieldAnnotationsRequestBody) objectToCompare;
+        return Objects.equals(getDataFieldAnnotations(), that.getDataFieldAnnotations());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getDataFieldAnnotations());
+    }
+}
@@ -20,6 +20,9 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 @JsonSubTypes(
         {
                 @JsonSubTypes.Type(value = AnnotationRequestBody.class,                   name = "AnnotationRequestBody"),
+                @JsonSubTypes.Type(value = AnnotationListRequestBody.class,               name = "AnnotationListRequestBody"),
+                @JsonSubTypes.Type(value = DataFieldListRequestBody.class,                name = "DataFieldListRequestBody"),
+                @JsonSubTypes.Type(value = DataFieldAnnotationsRequestBody.class,         name = "DataFieldAnnotationsRequestBody"),
                 @JsonSubTypes.Type(value = DiscoveryAnalysisReportRequestBody.class,      name = "DiscoveryAnalysisReportRequestBody"),
                 @JsonSubTypes.Type(value = NewDiscoveryEngineRequestBody.class,           name = "NewDiscoveryEngineRequestBody"),
                 @JsonSubTypes.Type(value = NewDiscoveryServiceRequestBody.class,          name = "NewDiscoveryServiceRequestBody"),
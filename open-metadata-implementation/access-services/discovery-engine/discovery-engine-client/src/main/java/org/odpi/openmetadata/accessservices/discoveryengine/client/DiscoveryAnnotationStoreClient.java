@@ -205,6 +205,25 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The annotations are sent to the metadata server in a single request.
+     *
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    @Override
+    public  List<String>  addAnnotationsToDiscoveryReport(List<Annotation> annotations) throws InvalidParameterException,
+                                                                                               UserNotAuthorizedException,
+                                                                                               PropertyServerException
+    {
+        return discoveryEngineClient.addAnnotationsToDiscoveryReport(userId, discoveryReport.getDiscoveryReportGUID(), annotations);
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -363,6 +382,28 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a list of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     * The data fields are sent to the metadata server in a single request.
+     *
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of dataField objects
+     * @return list of unique identifiers of the new data fields (in the same order as the data fields)
+     * @throws InvalidParameterException one of the dataFields is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    @Override
+    public  List<String>  addDataFieldsToDiscoveryReport(String          annotationGUID,
+                                                         List<DataField> dataFields) throws InvalidParameterException,
+                                                                                            UserNotAuthorizedException,
+                                                                                            PropertyServerException
+    {
+        return discoveryEngineClient.addDataFieldsToDiscoveryReport(userId, annotationGUID, dataFields);
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -404,6 +445,48 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a list of new annotations and link them to an existing data field.
+     * The annotations are sent to the metadata server in a single request.
+     *
+     * @param parentDataFieldGUID unique identifier of the data field that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    @Override
+    public  List<String>  addAnnotationsToDataField(String           parentDataFieldGUID,
+                                                    List<Annotation> annotations) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        return discoveryEngineClient.addAnnotationsToDataField(userId, parentDataFieldGUID, annotations);
+    }
+
+
+    /**
+     * Add new annotations to many data fields.
+     * The annotations for all of the data fields are sent to the metadata server in a single request.
+     *
+     * @param dataFieldAnnotations map from the unique identifier of each data field to the new annotations that are
+     *                             to be attached to it
+     * @return list of unique identifiers of the new annotations (in the iteration order of the map and then the
+     *         order of each data field's annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    @Override
+    public  List<String>  addAnnotationsToDataFields(Map<String, List<Annotation>> dataFieldAnnotations) throws InvalidParameterException,
+                                                                                                               UserNotAuthorizedException,
+                                                                                                               PropertyServerException
+    {
+        return discoveryEngineClient.addAnnotationsToDataFields(userId, dataFieldAnnotations);
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
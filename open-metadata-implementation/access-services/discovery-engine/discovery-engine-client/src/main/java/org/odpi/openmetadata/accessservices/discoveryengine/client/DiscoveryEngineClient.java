@@ -931,6 +931,48 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The annotations are sent in a single request.
+     *
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    List<String>  addAnnotationsToDiscoveryReport(String           userId,
+                                                  String           discoveryReportGUID,
+                                                  List<Annotation> annotations) throws InvalidParameterException,
+                                                                                       UserNotAuthorizedException,
+                                                                                       PropertyServerException
+    {
+        final String   methodName = "addAnnotationsToDiscoveryReport";
+        final String   reportGUIDParameterName = "discoveryReportGUID";
+        final String   annotationsParameterName = "annotations";
+        final String   urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/discovery-analysis-reports/{2}/annotations/batch";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(discoveryReportGUID, reportGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        AnnotationListRequestBody requestBody = new AnnotationListRequestBody();
+
+        requestBody.setAnnotations(annotations);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId,
+                                                                          discoveryReportGUID);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -1222,6 +1264,49 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a list of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     * The data fields are sent in a single request.
+     *
+     * @param userId identifier of calling user
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of dataField objects
+     * @return list of unique identifiers of the new data fields (in the same order as the data fields)
+     * @throws InvalidParameterException one of the dataFields is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    List<String>  addDataFieldsToDiscoveryReport(String          userId,
+                                                 String          annotationGUID,
+                                                 List<DataField> dataFields) throws InvalidParameterException,
+                                                                                    UserNotAuthorizedException,
+                                                                                    PropertyServerException
+    {
+        final String   methodName = "addDataFieldsToDiscoveryReport";
+        final String   annotationGUIDParameterName = "annotationGUID";
+        final String   dataFieldsParameterName = "dataFields";
+        final String   urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/annotations/{2}/data-fields/batch";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(annotationGUID, annotationGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(dataFields, dataFieldsParameterName, methodName);
+
+        DataFieldListRequestBody requestBody = new DataFieldListRequestBody();
+
+        requestBody.setDataFields(dataFields);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId,
+                                                                          annotationGUID);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -1296,6 +1381,85 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a list of new annotations and link them to an existing data field.  The annotations are sent in a single request.
+     *
+     * @param userId identifier of calling user
+     * @param parentDataFieldGUID unique identifier of the data field that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    List<String>  addAnnotationsToDataField(String           userId,
+                                            String           parentDataFieldGUID,
+                                            List<Annotation> annotations) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException,
+                                                                                 PropertyServerException
+    {
+        final String   methodName = "addAnnotationsToDataField";
+        final String   dataFieldGUIDParameterName = "parentDataFieldGUID";
+        final String   annotationsParameterName = "annotations";
+        final String   urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/data-fields/{2}/annotations/batch";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(parentDataFieldGUID, dataFieldGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        AnnotationListRequestBody requestBody = new AnnotationListRequestBody();
+
+        requestBody.setAnnotations(annotations);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId,
+                                                                          parentDataFieldGUID);
+
+        return restResult.getGUIDs();
+    }
+
+
+    /**
+     * Add new annotations to many data fields.  The annotations for all of the data fields are sent in a single request.
+     *
+     * @param userId identifier of calling user
+     * @param dataFieldAnnotations map from the unique identifier of each data field to the new annotations that are
+     *                             to be attached to it
+     * @return list of unique identifiers of the new annotations (in the iteration order of the map and then the
+     *         order of each data field's annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    List<String>  addAnnotationsToDataFields(String                        userId,
+                                             Map<String, List<Annotation>> dataFieldAnnotations) throws InvalidParameterException,
+                                                                                                       UserNotAuthorizedException,
+                                                                                                       PropertyServerException
+    {
+        final String   methodName = "addAnnotationsToDataFields";
+        final String   annotationsParameterName = "dataFieldAnnotations";
+        final String   urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/data-fields/annotations/batch";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateObject(dataFieldAnnotations, annotationsParameterName, methodName);
+
+        DataFieldAnnotationsRequestBody requestBody = new DataFieldAnnotationsRequestBody();
+
+        requestBody.setDataFieldAnnotations(dataFieldAnnotations);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
@@ -457,6 +457,34 @@ public class DiscoveryMetadataStoreResource
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param requestBody list of annotation objects
+     *
+     * @return list of unique identifiers of the new annotations (in the same order as the request) or
+     *
+     *  InvalidParameterException one of the annotations is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    @PostMapping(path = "/discovery-analysis-reports/{discoveryReportGUID}/annotations/batch")
+
+    public  GUIDListResponse  addAnnotationsToDiscoveryReport(@PathVariable String                    serverName,
+                                                              @PathVariable String                    userId,
+                                                              @PathVariable String                    discoveryReportGUID,
+                                                              @RequestBody  AnnotationListRequestBody requestBody)
+    {
+        return restAPI.addAnnotationsToDiscoveryReport(serverName,
+                                                       userId,
+                                                       discoveryReportGUID,
+                                                       requestBody);
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -669,6 +697,32 @@ public class DiscoveryMetadataStoreResource
     }
 
 
+    /**
+     * Add a list of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param requestBody list of dataField objects
+     *
+     * @return list of unique identifiers of the new data fields (in the same order as the request) or
+     *
+     *  InvalidParameterException one of the dataFields is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    @PostMapping(path = "/annotations/{annotationGUID}/data-fields/batch")
+
+    public GUIDListResponse  addDataFieldsToDiscoveryReport(@PathVariable String                   serverName,
+                                                            @PathVariable String                   userId,
+                                                            @PathVariable String                   annotationGUID,
+                                                            @RequestBody  DataFieldListRequestBody requestBody)
+    {
+        return restAPI.addDataFieldsToDiscoveryReport(serverName, userId, annotationGUID, requestBody);
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -719,6 +773,54 @@ public class DiscoveryMetadataStoreResource
     }
 
 
+    /**
+     * Add a list of new annotations and link them to an existing data field.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param parentDataFieldGUID unique identifier of the data field that the new annotations are to be attached to
+     * @param requestBody list of annotation objects
+     *
+     * @return list of unique identifiers of the new annotations (in the same order as the request) or
+     *
+     *  InvalidParameterException one of the parameters is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    @PostMapping(path = "/data-fields/{parentDataFieldGUID}/annotations/batch")
+
+    public GUIDListResponse addAnnotationsToDataField(@PathVariable String                    serverName,
+                                                      @PathVariable String                    userId,
+                                                      @PathVariable String                    parentDataFieldGUID,
+                                                      @RequestBody  AnnotationListRequestBody requestBody)
+    {
+        return restAPI.addAnnotationsToDataField(serverName, userId, parentDataFieldGUID, requestBody);
+    }
+
+
+    /**
+     * Add new annotations to many data fields.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param requestBody map from the unique identifier of each data field to the new annotations to attach to it
+     *
+     * @return list of unique identifiers of the new annotations (in the same order as the request) or
+     *
+     *  InvalidParameterException one of the parameters is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    @PostMapping(path = "/data-fields/annotations/batch")
+
+    public GUIDListResponse addAnnotationsToDataFields(@PathVariable String                          serverName,
+                                                       @PathVariable String                          userId,
+                                                       @RequestBody  DataFieldAnnotationsRequestBody requestBody)
+    {
+        return restAPI.addAnnotationsToDataFields(serverName, userId, requestBody);
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
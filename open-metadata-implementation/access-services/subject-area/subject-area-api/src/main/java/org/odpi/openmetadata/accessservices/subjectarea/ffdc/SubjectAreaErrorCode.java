@@ -261,6 +261,26 @@ public enum SubjectAreaErrorCode implements ExceptionMessageSet {
                                                  "Cannot continue with the {0} operation because there is the Unknown relationship name {1} was supplied in the filter",
                                                  "The system is unable to process the request as it cannot identify the requested Unknown Relationship type.",
                                                  "Amend the code to supply only known Relationship Types for the graph operation."),
+    GLOSSARY_CONTENT_FORMAT_NOT_SUPPORTED(400, "OMAS-SUBJECT-AREA-400-078",
+            "Glossary content format {0} is not supported. The supported formats are csv and jsonl",
+            "The system is unable to process the glossary content import because it cannot read content in the requested format.",
+            "Correct the code in the caller to supply glossary content as csv or jsonl."),
+    GLOSSARY_CONTENT_ROW_NOT_PARSED(400, "OMAS-SUBJECT-AREA-400-079",
+            "Row {0} of the glossary content could not be parsed: {1}",
+            "The system is unable to import the row because it cannot parse it. The rest of the content is imported.",
+            "Correct the row and import it again."),
+    GLOSSARY_CONTENT_ROW_WITHOUT_NAME(400, "OMAS-SUBJECT-AREA-400-080",
+            "Row {0} of the glossary content has no name",
+            "The system is unable to import the row because a Term or Category cannot be created without a name. The rest of the content is imported.",
+            "Add a name to the row and import it again."),
+    GLOSSARY_CONTENT_DUPLICATE_QUALIFIED_NAME(400, "OMAS-SUBJECT-AREA-400-081",
+            "Row {0} of the glossary content has the qualifiedName {1}, which is already used by {2}",
+            "The system is unable to import the row because its qualifiedName is not unique. The rest of the content is imported.",
+            "Change the qualifiedName on the row, or remove the row if the content has already been imported."),
+    GLOSSARY_CONTENT_REFERENCE_NOT_FOUND(400, "OMAS-SUBJECT-AREA-400-082",
+            "Row {0} of the glossary content refers to the {1} {2}, which is neither in the content nor in the repository",
+            "The system is unable to create the link as the linked content cannot be found. The content on the row and its other links are created.",
+            "Correct the qualifiedName in the row, or create the missing content, then add the link."),
     OMRS_NOT_INITIALIZED(404, "OMAS-SUBJECT-AREA-404-001",
             "The open metadata repository services are not initialized for the {0} operation",
             "The system is unable to connect to the open metadata property server.",
@@ -0,0 +1,248 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * GlossaryContentElement is one row of glossary content that is imported into, or exported from, a glossary in bulk.
+ * It describes a Term or a Category. The other terms and categories it is linked to are identified by their qualifiedNames,
+ * so that a row can refer to content that is supplied in the same import.
+ * <p>
+ * When content is imported as JSON lines, each line is a GlossaryContentElement. When it is imported as CSV, the header
+ * row names the properties and list values are separated by '|'.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class GlossaryContentElement implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private NodeType     nodeType       = null;
+    private String       guid           = null;
+    private String       qualifiedName  = null;
+    private String       name           = null;
+    private String       description    = null;
+    private String       summary        = null;
+    private String       examples       = null;
+    private String       abbreviation   = null;
+    private String       usage          = null;
+    private String       parentCategory = null;
+    private List<String> categories     = null;
+    private List<String> relatedTerms   = null;
+    private List<String> synonyms       = null;
+
+    /**
+     * Default constructor
+     */
+    public GlossaryContentElement() {
+    }
+
+    /**
+     * The type of the content - Term or Category. A Term is assumed if no type is supplied.
+     * @return node type
+     */
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    public void setNodeType(NodeType nodeType) {
+        this.nodeType = nodeType;
+    }
+
+    /**
+     * The unique identifier of the Term or Category. This is only set on exported content; it is ignored on import.
+     * @return guid
+     */
+    public String getGuid() {
+        return guid;
+    }
+
+    public void setGuid(String guid) {
+        this.guid = guid;
+    }
+
+    /**
+     * The unique name of the Term or Category. Other rows refer to this content using this name.
+     * If it is not supplied on import then a unique name is generated, and other rows cannot refer to the content.
+     * @return qualified name
+     */
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    public void setQualifiedName(String qualifiedName) {
+        this.qualifiedName = qualifiedName;
+    }
+
+    /**
+     * The display name of the Term or Category.
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Term summary. This is ignored for a Category.
+     * @return summary
+     */
+    public String getSummary() {
+        return summary;
+    }
+
+    public void setSummary(String summary) {
+        this.summary = summary;
+    }
+
+    /**
+     * Term examples. This is ignored for a Category.
+     * @return examples
+     */
+    public String getExamples() {
+        return examples;
+    }
+
+    public void setExamples(String examples) {
+        this.examples = examples;
+    }
+
+    /**
+     * Term abbreviation. This is ignored for a Category.
+     * @return abbreviation
+     */
+    public String getAbbreviation() {
+        return abbreviation;
+    }
+
+    public void setAbbreviation(String abbreviation) {
+        this.abbreviation = abbreviation;
+    }
+
+    /**
+     * Term usage. This is ignored for a Category.
+     * @return usage
+     */
+    public String getUsage() {
+        return usage;
+    }
+
+    public void setUsage(String usage) {
+        this.usage = usage;
+    }
+
+    /**
+     * The qualifiedName of the parent of a Category. This is ignored for a Term.
+     * @return parent category qualified name
+     */
+    public String getParentCategory() {
+        return parentCategory;
+    }
+
+    public void setParentCategory(String parentCategory) {
+        this.parentCategory = parentCategory;
+    }
+
+    /**
+     * The qualifiedNames of the Categories that categorize a Term. This is ignored for a Category.
+     * @return category qualified names
+     */
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<String> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * The qualifiedNames of the Terms that are related to a Term. This is ignored for a Category.
+     * @return related term qualified names
+     */
+    public List<String> getRelatedTerms() {
+        return relatedTerms;
+    }
+
+    public void setRelatedTerms(List<String> relatedTerms) {
+        this.relatedTerms = relatedTerms;
+    }
+
+    /**
+     * The qualifiedNames of the Terms that are synonyms of a Term. This is ignored for a Category.
+     * @return synonym qualified names
+     */
+    public List<String> getSynonyms() {
+        return synonyms;
+    }
+
+    public void setSynonyms(List<String> synonyms) {
+        this.synonyms = synonyms;
+    }
+
+    @Override
+    public String toString() {
+        return "GlossaryContentElement{" +
+                "nodeType=" + nodeType +
+                ", guid='" + guid + '\'' +
+                ", qualifiedName='" + qualifiedName + '\'' +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                ", summary='" + summary + '\'' +
+                ", examples='" + examples + '\'' +
+                ", abbreviation='" + abbreviation + '\'' +
+                ", usage='" + usage + '\'' +
+                ", parentCategory='" + parentCategory + '\'' +
+                ", categories=" + categories +
+                ", relatedTerms=" + relatedTerms +
+                ", synonyms=" + synonyms +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GlossaryContentElement that = (GlossaryContentElement) o;
+        return nodeType == that.nodeType &&
+                Objects.equals(guid, that.guid) &&
+                Objects.equals(qualifiedName, that.qualifiedName) &&
+                Objects.equals(name, that.name) &&
+                Objects.equals(description, that.description) &&
+                Objects.equals(summary, that.summary) &&
+                Objects.equals(examples, that.examples) &&
+                Objects.equals(abbreviation, that.abbreviation) &&
+                Objects.equals(usage, that.usage) &&
+                Objects.equals(parentCategory, that.parentCategory) &&
+                Objects.equals(categories, that.categories) &&
+                Objects.equals(relatedTerms, that.relatedTerms) &&
+                Objects.equals(synonyms, that.synonyms);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nodeType, guid, qualifiedName, name, description, summary, examples, abbreviation, usage,
+                            parentCategory, categories, relatedTerms, synonyms);
+    }
+}
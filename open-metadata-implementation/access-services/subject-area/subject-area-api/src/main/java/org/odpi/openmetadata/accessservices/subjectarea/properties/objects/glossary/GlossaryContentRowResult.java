@@ -0,0 +1,143 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * GlossaryContentRowResult reports the outcome of importing one row of glossary content.
+ * <p>
+ * When the Term or Category was created, the guid is set. When the row could not be processed, or
+ * one of the links it requested could not be created, the error message id and message describe the problem.
+ * A row can have both a guid and an error if the content was created but some of its links were not.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class GlossaryContentRowResult implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private long     rowNumber      = 0L;
+    private NodeType nodeType       = null;
+    private String   qualifiedName  = null;
+    private String   guid           = null;
+    private String   errorMessageId = null;
+    private String   errorMessage   = null;
+
+    /**
+     * Default constructor
+     */
+    public GlossaryContentRowResult() {
+    }
+
+    /**
+     * The line number in the imported content that the row starts on. The first line is 1; for CSV content it is the header.
+     * @return row number
+     */
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    public void setRowNumber(long rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+
+    /**
+     * The type of content on the row - Term or Category.
+     * @return node type
+     */
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    public void setNodeType(NodeType nodeType) {
+        this.nodeType = nodeType;
+    }
+
+    /**
+     * The qualifiedName of the content on the row. This is the generated name if none was supplied.
+     * @return qualified name
+     */
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    public void setQualifiedName(String qualifiedName) {
+        this.qualifiedName = qualifiedName;
+    }
+
+    /**
+     * The unique identifier of the created Term or Category; null if it was not created.
+     * @return guid
+     */
+    public String getGuid() {
+        return guid;
+    }
+
+    public void setGuid(String guid) {
+        this.guid = guid;
+    }
+
+    /**
+     * The id of the message describing the first problem with the row; null if the row was imported completely.
+     * @return message id
+     */
+    public String getErrorMessageId() {
+        return errorMessageId;
+    }
+
+    public void setErrorMessageId(String errorMessageId) {
+        this.errorMessageId = errorMessageId;
+    }
+
+    /**
+     * The message describing the first problem with the row; null if the row was imported completely.
+     * @return message
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "GlossaryContentRowResult{" +
+                "rowNumber=" + rowNumber +
+                ", nodeType=" + nodeType +
+                ", qualifiedName='" + qualifiedName + '\'' +
+                ", guid='" + guid + '\'' +
+                ", errorMessageId='" + errorMessageId + '\'' +
+                ", errorMessage='" + errorMessage + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GlossaryContentRowResult that = (GlossaryContentRowResult) o;
+        return rowNumber == that.rowNumber &&
+                nodeType == that.nodeType &&
+                Objects.equals(qualifiedName, that.qualifiedName) &&
+                Objects.equals(guid, that.guid) &&
+                Objects.equals(errorMessageId, that.errorMessageId) &&
+                Objects.equals(errorMessage, that.errorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowNumber, nodeType, qualifiedName, guid, errorMessageId, errorMessage);
+    }
+}
@@ -93,6 +93,46 @@ public class SubjectAreaRestClient extends FFDCRESTClient {
         return response;
     }
 
+    /**
+     * Issue a POST REST call against an existing object, where the request body is not one of the result objects.
+     * This is typically a bulk request, such as an import into the object.
+     *
+     * @param <T> return type for results in {@link GenericResponse}
+     * @param userId      unique identifier for requesting user, under which the request is performed
+     * @param guid        unique identifier of the object the request is against
+     * @param methodName  name of the method being called.
+     * @param urnTemplate  template of the URN for the REST API call with place-holders for the parameters.
+     * @param type class of the response for generic object. Descried using {@link ParameterizedTypeReference}
+     *             An example can be seen here {@link ResponseParameterization#getParameterizedType()}
+     * @param requestBody request body for the request.
+     *
+     * @return GenericResponse with T results
+     * @throws PropertyServerException something went wrong with the REST call stack.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException one of the parameters is null or invalid
+     */
+    public <T> GenericResponse<T> postRESTCall(String userId,
+                                               String guid,
+                                               String methodName,
+                                               String urnTemplate,
+                                               ParameterizedTypeReference<GenericResponse<T>> type,
+                                               Object requestBody) throws PropertyServerException,
+                                                                          UserNotAuthorizedException,
+                                                                          InvalidParameterException
+    {
+        if (log.isDebugEnabled()) {
+            log.debug("==> Method: " + methodName + ",userId=" + userId + ",guid=" + guid);
+        }
+        String expandedURL = String.format(serverPlatformURLRoot + urnTemplate, serverName, userId, guid);
+        GenericResponse<T> response = callPostRESTCall(methodName, type, expandedURL, requestBody);
+        exceptionHandler.detectAndThrowStandardExceptions(methodName, response);
+
+        if (log.isDebugEnabled()) {
+            log.debug("<== successful method : " + methodName + ",userId=" + userId);
+        }
+        return response;
+    }
+
     /**
      * Issue a PUT REST call that returns a response object.  This is typically an update.
      *
@@ -8,6 +8,9 @@ import org.odpi.openmetadata.accessservices.subjectarea.client.nodes.SubjectArea
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.category.Category;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.FindRequest;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentElement;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentRowResult;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.term.Term;
 import org.odpi.openmetadata.accessservices.subjectarea.responses.SubjectAreaOMASAPIResponse;
 import org.odpi.openmetadata.accessservices.subjectarea.utils.QueryParams;
@@ -148,4 +151,53 @@ public class SubjectAreaGlossaryClient<G extends Glossary> extends AbstractSubje
         GenericResponse<Term> response = client.getByIdRESTCall(userId, guid, methodInfo, type, urlTemplate, findRequest, maximumPageSizeOnRestCall, queryParams);
         return response.results();
     }
+
+    /**
+     * Import Terms and Categories into this glossary in bulk. The content is processed in batches on the server,
+     * and each row of the content gets its own result.
+     *
+     * @param userId  unique identifier for requesting user, under which the request is performed.
+     * @param guid    unique identifier of the glossary to import the content into.
+     * @param format  format of the content: jsonl (JSON lines, the default) or csv.
+     * @param content content to import.
+     * @return the result of each row, with the guid of the created Term or Category or the problem with the row.
+     * @throws PropertyServerException    something went wrong with the REST call stack.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     */
+    public List<GlossaryContentRowResult> importContent(String userId, String guid, String format, String content) throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        final String methodInfo = getMethodInfo("importContent");
+        String urlTemplate = BASE_URL + "/%s/content";
+        if (format != null) {
+            urlTemplate = urlTemplate + "?format=" + format;
+        }
+
+        ResolvableType resolvableType = ResolvableType.forClassWithGenerics(SubjectAreaOMASAPIResponse.class, GlossaryContentRowResult.class);
+        ParameterizedTypeReference<GenericResponse<GlossaryContentRowResult>> type = ParameterizedTypeReference.forType(resolvableType.getType());
+        GenericResponse<GlossaryContentRowResult> response = client.postRESTCall(userId, guid, methodInfo, urlTemplate, type, content);
+        return response.results();
+    }
+
+    /**
+     * Export a page of the Terms or Categories owned by this glossary, in the form that they are imported.
+     *
+     * @param userId       unique identifier for requesting user, under which the request is performed.
+     * @param guid         unique identifier of the glossary to export.
+     * @param nodeType     Term or Category.
+     * @param startingFrom the starting element number for this set of results.
+     * @param pageSize     the maximum number of elements that can be returned on this request.
+     * @return glossary content
+     * @throws PropertyServerException    something went wrong with the REST call stack.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     */
+    public List<GlossaryContentElement> exportContent(String userId, String guid, NodeType nodeType, int startingFrom, int pageSize) throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        final String methodInfo = getMethodInfo("exportContent");
+        final String urlTemplate = BASE_URL + "/%s/content?nodeType=" + nodeType + "&startingFrom=" + startingFrom + "&pageSize=" + pageSize;
+
+        ResolvableType resolvableType = ResolvableType.forClassWithGenerics(SubjectAreaOMASAPIResponse.class, GlossaryContentElement.class);
+        ParameterizedTypeReference<GenericResponse<GlossaryContentElement>> type = ParameterizedTypeReference.forType(resolvableType.getType());
+        GenericResponse<GlossaryContentElement> response = client.getByIdRESTCall(userId, guid, methodInfo, type, urlTemplate);
+        return response.results();
+    }
 }
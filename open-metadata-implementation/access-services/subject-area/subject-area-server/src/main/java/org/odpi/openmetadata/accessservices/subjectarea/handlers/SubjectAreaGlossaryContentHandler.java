@@ -0,0 +1,908 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.handlers;
+
+import org.odpi.openmetadata.accessservices.subjectarea.ffdc.SubjectAreaErrorCode;
+import org.odpi.openmetadata.accessservices.subjectarea.ffdc.exceptions.SubjectAreaCheckedException;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentElement;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentRowResult;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
+import org.odpi.openmetadata.accessservices.subjectarea.responses.SubjectAreaOMASAPIResponse;
+import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.relationships.RelatedTermMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.relationships.SynonymMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.utilities.GlossaryContentReader;
+import org.odpi.openmetadata.accessservices.subjectarea.validators.InputValidator;
+import org.odpi.openmetadata.commonservices.generichandlers.GlossaryCategoryBuilder;
+import org.odpi.openmetadata.commonservices.generichandlers.GlossaryTermBuilder;
+import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIGenericBuilder;
+import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIGenericHandler;
+import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageDefinition;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.http.HttpHeadersThreadLocal;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * SubjectAreaGlossaryContentHandler imports and exports the Terms and Categories of a glossary in bulk. It runs server-side in
+ * the Subject Area OMAS and creates and retrieves entities and relationships through the generic handler.
+ * <p>
+ * Content is imported a batch of rows at a time. The rows of a batch are validated in parallel, including the check that their
+ * qualifiedNames are not already in use, and then their Terms and Categories are created in parallel. Once all the content has
+ * been created, the links between the rows are created. Links refer to other content by qualifiedName, so they are resolved
+ * against the imported content first and then the repository. Problems are reported against the row that caused them
+ * and do not stop the rest of the content being imported.
+ */
+public class SubjectAreaGlossaryContentHandler extends SubjectAreaHandler {
+    private static final String className = SubjectAreaGlossaryContentHandler.class.getName();
+
+    private static final int IMPORT_BATCH_SIZE      = 500;
+    private static final int CONTENT_WORKER_THREADS = 10;
+
+    private ExecutorService contentWorkerPool = null;
+
+
+    /**
+     * Construct the Subject Area Glossary Content Handler
+     * needed to operate within a single server instance.
+     *
+     * @param genericHandler generic handler
+     * @param maxPageSize    maximum page size
+     */
+    public SubjectAreaGlossaryContentHandler(OpenMetadataAPIGenericHandler<?> genericHandler, int maxPageSize) {
+        super(genericHandler, maxPageSize);
+    }
+
+    /**
+     * Import Terms and Categories into a glossary.
+     * <p>
+     * Each row of the content describes a Term or a Category (see GlossaryContentElement). The parent Category of a Category,
+     * the Categories of a Term and the related Terms and synonyms of a Term are identified by qualifiedName. They can be
+     * anywhere in the content or already exist in the repository. The qualifiedNames of the imported content must not already be in use.
+     *
+     * @param userId       unique identifier for requesting user, under which the request is performed
+     * @param glossaryGuid guid of the glossary that the content is imported into
+     * @param format       format of the content: jsonl (the default) or csv
+     * @param content      content to import
+     * @return response, when successful contains one result for each row of the content, giving the guid of the created
+     * Term or Category or the problem with the row.
+     * when not successful the following Exception responses can occur
+     * <ul>
+     * <li> UserNotAuthorizedException           the requesting user is not authorized to issue this request.</li>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.</li>
+     * <li> PropertyServerException              Property server exception. </li>
+     * </ul>
+     */
+    public SubjectAreaOMASAPIResponse<GlossaryContentRowResult> importGlossaryContent(String userId,
+                                                                                    String glossaryGuid,
+                                                                                    String format,
+                                                                                    String content) {
+        final String methodName = "importGlossaryContent";
+        SubjectAreaOMASAPIResponse<GlossaryContentRowResult> response = new SubjectAreaOMASAPIResponse<>();
+
+        try {
+            if (!GlossaryContentReader.isSupportedFormat(format)) {
+                ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.GLOSSARY_CONTENT_FORMAT_NOT_SUPPORTED.getMessageDefinition(format);
+                throw new InvalidParameterException(messageDefinition, className, methodName, "format");
+            }
+            // the glossary is checked once for the whole import
+            genericHandler.getEntityFromRepository(userId,
+                                                   glossaryGuid,
+                                                   "guid",
+                                                   OpenMetadataAPIMapper.GLOSSARY_TYPE_NAME,
+                                                   null,
+                                                   null,
+                                                   false,
+                                                   false,
+                                                   null,
+                                                   methodName);
+
+            GlossaryContentImport contentImport = new GlossaryContentImport(userId, glossaryGuid, methodName);
+            GlossaryContentReader contentReader = new GlossaryContentReader(format, content);
+
+            List<GlossaryContentReader.ContentRow> batch = contentReader.readBatch(IMPORT_BATCH_SIZE);
+            while (!batch.isEmpty()) {
+                contentImport.importBatch(batch);
+                batch = contentReader.readBatch(IMPORT_BATCH_SIZE);
+            }
+            contentImport.linkContent();
+
+            response.addAllResults(contentImport.getResults());
+        } catch (IOException error) {
+            ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(error.getMessage());
+            response.setExceptionInfo(new PropertyServerException(messageDefinition, className, methodName, error), className);
+        } catch (IllegalArgumentException error) {
+            // only a CSV header that cannot be parsed stops the whole import
+            ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.GLOSSARY_CONTENT_ROW_NOT_PARSED.getMessageDefinition("1", error.getMessage());
+            response.setExceptionInfo(new InvalidParameterException(messageDefinition, className, methodName, "content"), className);
+        } catch (PropertyServerException | UserNotAuthorizedException | InvalidParameterException e) {
+            response.setExceptionInfo(e, className);
+        }
+        return response;
+    }
+
+    /**
+     * Export the Terms or Categories of a glossary. The exported elements can be imported into another glossary, for example
+     * by writing each one as a line of JSON.
+     *
+     * @param userId       unique identifier for requesting user, under which the request is performed
+     * @param glossaryGuid guid of the glossary to export
+     * @param nodeType     Term (the default) or Category
+     * @param startingFrom the starting element number for this set of results.
+     * @param pageSize     the maximum number of elements that can be returned on this request.
+     * @return response, when successful contains a page of the glossary's Terms or Categories, with their links.
+     * when not successful the following Exception responses can occur
+     * <ul>
+     * <li> UserNotAuthorizedException           the requesting user is not authorized to issue this request.</li>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.</li>
+     * <li> PropertyServerException              Property server exception. </li>
+     * </ul>
+     */
+    public SubjectAreaOMASAPIResponse<GlossaryContentElement> exportGlossaryContent(String userId,
+                                                                                  String glossaryGuid,
+                                                                                  NodeType nodeType,
+                                                                                  Integer startingFrom,
+                                                                                  Integer pageSize) {
+        final String methodName = "exportGlossaryContent";
+        SubjectAreaOMASAPIResponse<GlossaryContentElement> response = new SubjectAreaOMASAPIResponse<>();
+
+        if (nodeType == null) {
+            nodeType = NodeType.Term;
+        }
+        if (startingFrom == null) {
+            startingFrom = 0;
+        }
+        if (pageSize == null) {
+            pageSize = maxPageSize;
+        }
+
+        try {
+            InputValidator.validateNodeType(className, methodName, nodeType, NodeType.Term, NodeType.Category);
+            invalidParameterHandler.validatePaging(startingFrom, pageSize, methodName);
+
+            String anchorTypeGUID;
+            String anchorTypeName;
+            String contentTypeName;
+            if (nodeType == NodeType.Category) {
+                anchorTypeGUID = OpenMetadataAPIMapper.CATEGORY_ANCHOR_TYPE_GUID;
+                anchorTypeName = OpenMetadataAPIMapper.CATEGORY_ANCHOR_TYPE_NAME;
+                contentTypeName = OpenMetadataAPIMapper.GLOSSARY_CATEGORY_TYPE_NAME;
+            } else {
+                anchorTypeGUID = OpenMetadataAPIMapper.TERM_ANCHOR_TYPE_GUID;
+                anchorTypeName = OpenMetadataAPIMapper.TERM_ANCHOR_TYPE_NAME;
+                contentTypeName = OpenMetadataAPIMapper.GLOSSARY_TERM_TYPE_NAME;
+            }
+
+            List<EntityDetail> entities = genericHandler.getAttachedEntities(userId,
+                                                                             glossaryGuid,
+                                                                             "guid",
+                                                                             OpenMetadataAPIMapper.GLOSSARY_TYPE_NAME,
+                                                                             anchorTypeGUID,
+                                                                             anchorTypeName,
+                                                                             contentTypeName,
+                                                                             null,
+                                                                             null,
+                                                                             2,      // get only the children
+                                                                             false,
+                                                                             false,
+                                                                             startingFrom,
+                                                                             pageSize,
+                                                                             null,
+                                                                             methodName);
+            if (entities != null) {
+                // each element needs its own relationship query, so the elements are built in parallel
+                List<Future<GlossaryContentElement>> elements = new ArrayList<>();
+                for (EntityDetail entity : entities) {
+                    final NodeType elementNodeType = nodeType;
+                    elements.add(submitContentTask(() -> getContentElement(userId, entity, elementNodeType, methodName)));
+                }
+                for (Future<GlossaryContentElement> element : elements) {
+                    response.addResult(waitForResult(element, methodName));
+                }
+            }
+        } catch (SubjectAreaCheckedException | PropertyServerException | UserNotAuthorizedException | InvalidParameterException e) {
+            response.setExceptionInfo(e, className);
+        }
+        return response;
+    }
+
+    /**
+     * Stop the worker threads.
+     */
+    public synchronized void shutdown() {
+        if (contentWorkerPool != null) {
+            contentWorkerPool.shutdownNow();
+            contentWorkerPool = null;
+        }
+    }
+
+    /**
+     * Return the pool of threads that validate, create and export glossary content. It is shared by all requests.
+     *
+     * @return thread pool
+     */
+    private synchronized ExecutorService getContentWorkerPool() {
+        if (contentWorkerPool == null) {
+            final AtomicInteger threadCount = new AtomicInteger(0);
+
+            contentWorkerPool = Executors.newFixedThreadPool(CONTENT_WORKER_THREADS, runnable -> {
+                Thread thread = new Thread(runnable, "SubjectAreaGlossaryContent-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return contentWorkerPool;
+    }
+
+    /**
+     * Run a task on the worker threads. The task runs with the HTTP headers of the calling request so that they are
+     * passed on to the repositories.
+     *
+     * @param <T>  type of result
+     * @param task task to run
+     * @return future for the result of the task
+     */
+    private <T> Future<T> submitContentTask(Callable<T> task) {
+        final Map<String, String> callerHeaders = HttpHeadersThreadLocal.getHeadersThreadLocal().get();
+
+        return getContentWorkerPool().submit(() -> {
+            HttpHeadersThreadLocal.getHeadersThreadLocal().set(callerHeaders);
+            try {
+                return task.call();
+            } finally {
+                HttpHeadersThreadLocal.getHeadersThreadLocal().remove();
+            }
+        });
+    }
+
+    /**
+     * Wait for the result of a task running on the worker threads, passing on the exceptions it raised.
+     *
+     * @param <T>        type of result
+     * @param future     task
+     * @param methodName calling method
+     * @return result
+     * @throws PropertyServerException    problem accessing the repositories, or the task failed unexpectedly
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     */
+    private <T> T waitForResult(Future<T> future, String methodName) throws PropertyServerException,
+                                                                             UserNotAuthorizedException,
+                                                                             InvalidParameterException {
+        Throwable error;
+        try {
+            return future.get();
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            error = interrupted;
+        } catch (ExecutionException executionException) {
+            error = executionException.getCause();
+            if (error instanceof PropertyServerException) {
+                throw (PropertyServerException) error;
+            } else if (error instanceof UserNotAuthorizedException) {
+                throw (UserNotAuthorizedException) error;
+            } else if (error instanceof InvalidParameterException) {
+                throw (InvalidParameterException) error;
+            }
+        }
+        ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(error.getMessage());
+        throw new PropertyServerException(messageDefinition, className, methodName, error);
+    }
+
+    /**
+     * Build the exported element for a Term or Category, including the qualifiedNames of the content it is linked to.
+     *
+     * @param userId     calling user
+     * @param entity     Term or Category entity
+     * @param nodeType   Term or Category
+     * @param methodName calling method
+     * @return element
+     * @throws PropertyServerException    problem accessing the repositories
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     */
+    private GlossaryContentElement getContentElement(String userId,
+                                                     EntityDetail entity,
+                                                     NodeType nodeType,
+                                                     String methodName) throws PropertyServerException,
+                                                                               UserNotAuthorizedException,
+                                                                               InvalidParameterException {
+        OMRSRepositoryHelper   repositoryHelper = genericHandler.getRepositoryHelper();
+        String                 serviceName      = genericHandler.getServiceName();
+        InstanceProperties     properties       = entity.getProperties();
+        GlossaryContentElement element          = new GlossaryContentElement();
+
+        element.setNodeType(nodeType);
+        element.setGuid(entity.getGUID());
+        element.setQualifiedName(repositoryHelper.getStringProperty(serviceName, OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME, properties, methodName));
+        element.setName(repositoryHelper.getStringProperty(serviceName, OpenMetadataAPIMapper.DISPLAY_NAME_PROPERTY_NAME, properties, methodName));
+        element.setDescription(repositoryHelper.getStringProperty(serviceName, OpenMetadataAPIMapper.DESCRIPTION_PROPERTY_NAME, properties, methodName));
+
+        String entityTypeName = OpenMetadataAPIMapper.GLOSSARY_CATEGORY_TYPE_NAME;
+        if (nodeType == NodeType.Term) {
+            entityTypeName = OpenMetadataAPIMapper.GLOSSARY_TERM_TYPE_NAME;
+            element.setSummary(repositoryHelper.getStringProperty(serviceName, OpenMetadataAPIMapper.SUMMARY_PROPERTY_NAME, properties, methodName));
+            element.setExamples(repositoryHelper.getStringProperty(serviceName, OpenMetadataAPIMapper.EXAMPLES_PROPERTY_NAME, properties, methodName));
+            element.setAbbreviation(repositoryHelper.getStringProperty(serviceName, OpenMetadataAPIMapper.ABBREVIATION_PROPERTY_NAME, properties, methodName));
+            element.setUsage(repositoryHelper.getStringProperty(serviceName, OpenMetadataAPIMapper.USAGE_PROPERTY_NAME, properties, methodName));
+        }
+
+        int startingFrom = 0;
+        List<Relationship> relationships;
+        do {
+            relationships = genericHandler.getAttachmentLinks(userId,
+                                                              entity.getGUID(),
+                                                              "guid",
+                                                              entityTypeName,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              0,
+                                                              false,
+                                                              false,
+                                                              startingFrom,
+                                                              maxPageSize,
+                                                              null,
+                                                              methodName);
+            if (relationships != null) {
+                for (Relationship relationship : relationships) {
+                    addLinkToElement(userId, element, relationship, methodName);
+                }
+                startingFrom = startingFrom + relationships.size();
+            }
+        } while (relationships != null && relationships.size() == maxPageSize);
+
+        return element;
+    }
+
+    /**
+     * Add the qualifiedName of the content at the other end of a relationship to an exported element,
+     * if it is one of the links that can be imported.
+     *
+     * @param userId       calling user
+     * @param element      exported element
+     * @param relationship relationship of the element's entity
+     * @param methodName   calling method
+     * @throws PropertyServerException    problem accessing the repositories
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     */
+    private void addLinkToElement(String userId,
+                                  GlossaryContentElement element,
+                                  Relationship relationship,
+                                  String methodName) throws PropertyServerException,
+                                                            UserNotAuthorizedException,
+                                                            InvalidParameterException {
+        String      relationshipTypeName = relationship.getType().getTypeDefName();
+        boolean     isEnd1               = element.getGuid().equals(relationship.getEntityOneProxy().getGUID());
+        EntityProxy otherEnd             = isEnd1 ? relationship.getEntityTwoProxy() : relationship.getEntityOneProxy();
+
+        switch (relationshipTypeName) {
+            case OpenMetadataAPIMapper.CATEGORY_HIERARCHY_TYPE_NAME:
+                // end1 is the parent
+                if (!isEnd1) {
+                    element.setParentCategory(getQualifiedName(userId, otherEnd, methodName));
+                }
+                break;
+            case OpenMetadataAPIMapper.TERM_CATEGORIZATION_TYPE_NAME:
+                element.setCategories(addToList(element.getCategories(), getQualifiedName(userId, otherEnd, methodName)));
+                break;
+            case RelatedTermMapper.RELATED_TERM:
+                element.setRelatedTerms(addToList(element.getRelatedTerms(), getQualifiedName(userId, otherEnd, methodName)));
+                break;
+            case SynonymMapper.SYNONYM:
+                element.setSynonyms(addToList(element.getSynonyms(), getQualifiedName(userId, otherEnd, methodName)));
+                break;
+            default:
+                // other relationships are not part of the glossary content
+                break;
+        }
+    }
+
+    private List<String> addToList(List<String> list, String value) {
+        if (list == null) {
+            list = new ArrayList<>();
+        }
+        list.add(value);
+        return list;
+    }
+
+    /**
+     * Return the qualifiedName of the entity at the end of a relationship. Proxies normally carry the qualifiedName as a
+     * unique property; if not the entity is retrieved.
+     *
+     * @param userId     calling user
+     * @param proxy      relationship end
+     * @param methodName calling method
+     * @return qualified name
+     * @throws PropertyServerException    problem accessing the repositories
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     */
+    private String getQualifiedName(String userId, EntityProxy proxy, String methodName) throws PropertyServerException,
+                                                                                                UserNotAuthorizedException,
+                                                                                                InvalidParameterException {
+        OMRSRepositoryHelper repositoryHelper = genericHandler.getRepositoryHelper();
+        String qualifiedName = repositoryHelper.getStringProperty(genericHandler.getServiceName(),
+                                                                  OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                                                                  proxy.getUniqueProperties(),
+                                                                  methodName);
+        if (qualifiedName == null) {
+            EntityDetail entity = genericHandler.getEntityFromRepository(userId,
+                                                                         proxy.getGUID(),
+                                                                         "guid",
+                                                                         proxy.getType().getTypeDefName(),
+                                                                         null,
+                                                                         null,
+                                                                         false,
+                                                                         false,
+                                                                         null,
+                                                                         methodName);
+            qualifiedName = repositoryHelper.getStringProperty(genericHandler.getServiceName(),
+                                                               OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                                                               entity.getProperties(),
+                                                               methodName);
+        }
+        return qualifiedName;
+    }
+
+
+    /**
+     * A row of the content being imported and its result.
+     */
+    private static class ImportRow {
+        private final GlossaryContentElement   element;
+        private final String                   parseError;
+        private final GlossaryContentRowResult result = new GlossaryContentRowResult();
+
+        ImportRow(GlossaryContentReader.ContentRow contentRow) {
+            this.element = contentRow.getElement();
+            this.parseError = contentRow.getParseError();
+            result.setRowNumber(contentRow.getRowNumber());
+        }
+
+        boolean isValid() {
+            return result.getErrorMessageId() == null;
+        }
+
+        boolean isCreated() {
+            return result.getGuid() != null;
+        }
+
+        /**
+         * Record a problem with the row. Only the first problem is reported.
+         * @param error exception describing the problem
+         */
+        synchronized void setError(OCFCheckedExceptionBase error) {
+            if (result.getErrorMessageId() == null) {
+                result.setErrorMessageId(error.getReportedErrorMessageId());
+                result.setErrorMessage(error.getReportedErrorMessage());
+            }
+        }
+    }
+
+
+    /**
+     * Step in the import of a row that runs on the worker threads.
+     */
+    private interface RowTask {
+        void process(ImportRow row) throws OCFCheckedExceptionBase;
+    }
+
+
+    /**
+     * The state of a single import request.
+     */
+    private class GlossaryContentImport {
+        private final String userId;
+        private final String glossaryGuid;
+        private final String methodName;
+
+        private final List<ImportRow>        rows           = new ArrayList<>();
+        private final Map<String, ImportRow> importedNames  = new HashMap<>();
+        private final Map<String, String>    repositoryGuids = new ConcurrentHashMap<>();
+        private final Set<String>            linkedPairs    = ConcurrentHashMap.newKeySet();
+
+        GlossaryContentImport(String userId, String glossaryGuid, String methodName) {
+            this.userId = userId;
+            this.glossaryGuid = glossaryGuid;
+            this.methodName = methodName;
+        }
+
+        List<GlossaryContentRowResult> getResults() {
+            List<GlossaryContentRowResult> results = new ArrayList<>();
+            for (ImportRow row : rows) {
+                results.add(row.result);
+            }
+            return results;
+        }
+
+        /**
+         * Validate a batch of rows and create their Terms and Categories.
+         *
+         * @param batch rows read from the content
+         * @throws PropertyServerException the worker threads failed
+         */
+        void importBatch(List<GlossaryContentReader.ContentRow> batch) throws PropertyServerException {
+            List<ImportRow> batchRows = new ArrayList<>();
+            for (GlossaryContentReader.ContentRow contentRow : batch) {
+                batchRows.add(new ImportRow(contentRow));
+            }
+            rows.addAll(batchRows);
+
+            processRows(batchRows, this::validateRow);
+
+            // qualifiedNames repeated within the content are rejected in content order so the first row wins
+            List<ImportRow> validRows = new ArrayList<>();
+            for (ImportRow row : batchRows) {
+                if (row.isValid()) {
+                    String qualifiedName = row.result.getQualifiedName();
+                    ImportRow earlierRow = importedNames.get(qualifiedName);
+                    if (earlierRow != null) {
+                        ExceptionMessageDefinition messageDefinition =
+                                SubjectAreaErrorCode.GLOSSARY_CONTENT_DUPLICATE_QUALIFIED_NAME.getMessageDefinition(Long.toString(row.result.getRowNumber()),
+                                                                                                                      qualifiedName,
+                                                                                                                      "row " + earlierRow.result.getRowNumber());
+                        row.setError(new InvalidParameterException(messageDefinition, className, methodName, "qualifiedName"));
+                    } else {
+                        importedNames.put(qualifiedName, row);
+                        validRows.add(row);
+                    }
+                }
+            }
+
+            processRows(validRows, this::createContent);
+        }
+
+        /**
+         * Create the links requested by the rows whose Terms and Categories were created.
+         *
+         * @throws PropertyServerException the worker threads failed
+         */
+        void linkContent() throws PropertyServerException {
+            List<ImportRow> createdRows = new ArrayList<>();
+            for (ImportRow row : rows) {
+                if (row.isCreated()) {
+                    createdRows.add(row);
+                }
+            }
+            processRows(createdRows, this::linkRow);
+        }
+
+        /**
+         * Run a step for each row on the worker threads and wait for them all to finish.
+         * A problem with a row is recorded against it.
+         *
+         * @param rowsToProcess rows
+         * @param task          step to run
+         * @throws PropertyServerException the worker threads failed
+         */
+        private void processRows(List<ImportRow> rowsToProcess, RowTask task) throws PropertyServerException {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ImportRow row : rowsToProcess) {
+                futures.add(submitContentTask(() -> {
+                    try {
+                        task.process(row);
+                    } catch (OCFCheckedExceptionBase error) {
+                        row.setError(error);
+                    } catch (Exception error) {
+                        ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(error.getMessage());
+                        row.setError(new PropertyServerException(messageDefinition, className, methodName, error));
+                    }
+                    return null;
+                }));
+            }
+            try {
+                for (Future<?> future : futures) {
+                    waitForResult(future, methodName);
+                }
+            } catch (UserNotAuthorizedException | InvalidParameterException error) {
+                // the tasks record their own exceptions so these are not expected
+                ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(error.getMessage());
+                throw new PropertyServerException(messageDefinition, className, methodName, error);
+            }
+        }
+
+        /**
+         * Check the row can be imported. Its qualifiedName must not be in use in the repository.
+         *
+         * @param row row to validate
+         * @throws OCFCheckedExceptionBase the row cannot be imported
+         */
+        private void validateRow(ImportRow row) throws OCFCheckedExceptionBase {
+            String rowNumber = Long.toString(row.result.getRowNumber());
+            GlossaryContentElement element = row.element;
+
+            if (element == null) {
+                String parseError = row.parseError == null ? "the row is empty" : row.parseError;
+                ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.GLOSSARY_CONTENT_ROW_NOT_PARSED.getMessageDefinition(rowNumber, parseError);
+                throw new InvalidParameterException(messageDefinition, className, methodName, "content");
+            }
+            if (element.getNodeType() == null) {
+                element.setNodeType(NodeType.Term);
+            }
+            row.result.setNodeType(element.getNodeType());
+            InputValidator.validateNodeType(className, methodName, element.getNodeType(), NodeType.Term, NodeType.Category);
+
+            if (element.getName() == null || element.getName().trim().isEmpty()) {
+                ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.GLOSSARY_CONTENT_ROW_WITHOUT_NAME.getMessageDefinition(rowNumber);
+                throw new InvalidParameterException(messageDefinition, className, methodName, "name");
+            }
+
+            String qualifiedName = element.getQualifiedName();
+            if (qualifiedName == null || qualifiedName.trim().isEmpty()) {
+                element.setQualifiedName(element.getName() + "@" + UUID.randomUUID().toString());
+            } else {
+                String existingGuid = genericHandler.getBeanGUIDByUniqueName(userId,
+                                                                             qualifiedName,
+                                                                             "qualifiedName",
+                                                                             OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                                                                             getTypeGUID(element.getNodeType()),
+                                                                             getTypeName(element.getNodeType()),
+                                                                             false,
+                                                                             false,
+                                                                             null,
+                                                                             methodName);
+                if (existingGuid != null) {
+                    ExceptionMessageDefinition messageDefinition =
+                            SubjectAreaErrorCode.GLOSSARY_CONTENT_DUPLICATE_QUALIFIED_NAME.getMessageDefinition(rowNumber, qualifiedName, existingGuid);
+                    throw new InvalidParameterException(messageDefinition, className, methodName, "qualifiedName");
+                }
+            }
+            row.result.setQualifiedName(element.getQualifiedName());
+        }
+
+        /**
+         * Create the Term or Category for a row and anchor it to the glossary.
+         *
+         * @param row validated row
+         * @throws OCFCheckedExceptionBase the content could not be created
+         */
+        private void createContent(ImportRow row) throws OCFCheckedExceptionBase {
+            GlossaryContentElement element = row.element;
+            OpenMetadataAPIGenericBuilder builder;
+            String anchorTypeGUID;
+            String anchorTypeName;
+
+            if (element.getNodeType() == NodeType.Category) {
+                builder = new GlossaryCategoryBuilder(element.getQualifiedName(),
+                                                      element.getName(),
+                                                      element.getDescription(),
+                                                      genericHandler.getRepositoryHelper(),
+                                                      genericHandler.getServiceName(),
+                                                      genericHandler.getServerName());
+                anchorTypeGUID = OpenMetadataAPIMapper.CATEGORY_ANCHOR_TYPE_GUID;
+                anchorTypeName = OpenMetadataAPIMapper.CATEGORY_ANCHOR_TYPE_NAME;
+            } else {
+                builder = new GlossaryTermBuilder(element.getQualifiedName(),
+                                                  element.getName(),
+                                                  element.getSummary(),
+                                                  element.getDescription(),
+                                                  element.getExamples(),
+                                                  element.getAbbreviation(),
+                                                  element.getUsage(),
+                                                  null,
+                                                  null,
+                                                  null,
+                                                  genericHandler.getRepositoryHelper(),
+                                                  genericHandler.getServiceName(),
+                                                  genericHandler.getServerName());
+                anchorTypeGUID = OpenMetadataAPIMapper.TERM_ANCHOR_TYPE_GUID;
+                anchorTypeName = OpenMetadataAPIMapper.TERM_ANCHOR_TYPE_NAME;
+            }
+            builder.setAnchors(userId, glossaryGuid, methodName);
+
+            String typeName = getTypeName(element.getNodeType());
+            String createdGuid = genericHandler.createBeanInRepository(userId,
+                                                                       null,
+                                                                       null,
+                                                                       getTypeGUID(element.getNodeType()),
+                                                                       typeName,
+                                                                       builder,
+                                                                       null,
+                                                                       methodName);
+            try {
+                genericHandler.linkElementToElement(userId,
+                                                    null,
+                                                    null,
+                                                    glossaryGuid,
+                                                    "glossaryGuid",
+                                                    OpenMetadataAPIMapper.GLOSSARY_TYPE_NAME,
+                                                    createdGuid,
+                                                    "guid",
+                                                    typeName,
+                                                    false,
+                                                    false,
+                                                    anchorTypeGUID,
+                                                    anchorTypeName,
+                                                    (InstanceProperties) null,
+                                                    null,
+                                                    null,
+                                                    null,
+                                                    methodName);
+            } catch (PropertyServerException | UserNotAuthorizedException | InvalidParameterException error) {
+                // content that is not in the glossary is removed, as it is by the single create operations
+                genericHandler.deleteBeanInRepository(userId,
+                                                      null,
+                                                      null,
+                                                      createdGuid,
+                                                      "guid",
+                                                      getTypeGUID(element.getNodeType()),
+                                                      typeName,
+                                                      null,
+                                                      null,
+                                                      false,
+                                                      false,
+                                                      null,
+                                                      methodName);
+                throw error;
+            }
+            row.result.setGuid(createdGuid);
+        }
+
+        /**
+         * Create the links requested by a row. A link that cannot be created is reported against the row
+         * and the remaining links are still created.
+         *
+         * @param row row whose content has been created
+         */
+        private void linkRow(ImportRow row) {
+            GlossaryContentElement element = row.element;
+            String guid = row.result.getGuid();
+
+            if (element.getNodeType() == NodeType.Category) {
+                if (element.getParentCategory() != null) {
+                    link(row, element.getParentCategory(), NodeType.Category, guid, false,
+                         OpenMetadataAPIMapper.CATEGORY_HIERARCHY_TYPE_GUID, OpenMetadataAPIMapper.CATEGORY_HIERARCHY_TYPE_NAME);
+                }
+            } else {
+                if (element.getCategories() != null) {
+                    for (String category : element.getCategories()) {
+                        link(row, category, NodeType.Category, guid, false,
+                             OpenMetadataAPIMapper.TERM_CATEGORIZATION_TYPE_GUID, OpenMetadataAPIMapper.TERM_CATEGORIZATION_TYPE_NAME);
+                    }
+                }
+                if (element.getRelatedTerms() != null) {
+                    for (String relatedTerm : element.getRelatedTerms()) {
+                        link(row, relatedTerm, NodeType.Term, guid, true, getRelationshipTypeGUID(RelatedTermMapper.RELATED_TERM), RelatedTermMapper.RELATED_TERM);
+                    }
+                }
+                if (element.getSynonyms() != null) {
+                    for (String synonym : element.getSynonyms()) {
+                        link(row, synonym, NodeType.Term, guid, true, getRelationshipTypeGUID(SynonymMapper.SYNONYM), SynonymMapper.SYNONYM);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Link the row's content to the content with the supplied qualifiedName.
+         *
+         * @param row                  row requesting the link
+         * @param qualifiedName        qualifiedName of the content to link to
+         * @param linkedNodeType       the type of content to link to
+         * @param guid                 guid of the row's content
+         * @param isSymmetric          the relationship has the same meaning whichever way round it is, so only one is created for each pair
+         * @param relationshipTypeGUID type of relationship
+         * @param relationshipTypeName type of relationship
+         */
+        private void link(ImportRow row,
+                          String qualifiedName,
+                          NodeType linkedNodeType,
+                          String guid,
+                          boolean isSymmetric,
+                          String relationshipTypeGUID,
+                          String relationshipTypeName) {
+            try {
+                String linkedGuid = resolveQualifiedName(qualifiedName, linkedNodeType);
+                if (linkedGuid == null) {
+                    ExceptionMessageDefinition messageDefinition =
+                            SubjectAreaErrorCode.GLOSSARY_CONTENT_REFERENCE_NOT_FOUND.getMessageDefinition(Long.toString(row.result.getRowNumber()),
+                                                                                                          linkedNodeType.name(),
+                                                                                                          qualifiedName);
+                    throw new InvalidParameterException(messageDefinition, className, methodName, "qualifiedName");
+                }
+                if (isSymmetric) {
+                    String pair = guid.compareTo(linkedGuid) < 0 ? guid + linkedGuid : linkedGuid + guid;
+                    if (!linkedPairs.add(relationshipTypeName + pair)) {
+                        // the other row asked for the same link
+                        return;
+                    }
+                }
+                // the linked content is end 1 of the category relationships
+                boolean linkedIsEnd1 = linkedNodeType == NodeType.Category;
+                genericHandler.linkElementToElement(userId,
+                                                    null,
+                                                    null,
+                                                    linkedIsEnd1 ? linkedGuid : guid,
+                                                    "end1.guid",
+                                                    getTypeName(linkedIsEnd1 ? linkedNodeType : row.element.getNodeType()),
+                                                    linkedIsEnd1 ? guid : linkedGuid,
+                                                    "end2.guid",
+                                                    getTypeName(linkedIsEnd1 ? row.element.getNodeType() : linkedNodeType),
+                                                    false,
+                                                    false,
+                                                    relationshipTypeGUID,
+                                                    relationshipTypeName,
+                                                    (InstanceProperties) null,
+                                                    null,
+                                                    null,
+                                                    null,
+                                                    methodName);
+            } catch (PropertyServerException | UserNotAuthorizedException | InvalidParameterException error) {
+                row.setError(error);
+            }
+        }
+
+        /**
+         * Find the guid of the content with the supplied qualifiedName, looking first at the imported content and then the repository.
+         *
+         * @param qualifiedName  qualified name
+         * @param nodeType       Term or Category
+         * @return guid or null if it is not found
+         * @throws PropertyServerException    problem accessing the repositories
+         * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+         * @throws InvalidParameterException  one of the parameters is null or invalid.
+         */
+        private String resolveQualifiedName(String qualifiedName, NodeType nodeType) throws PropertyServerException,
+                                                                                            UserNotAuthorizedException,
+                                                                                            InvalidParameterException {
+            ImportRow importedRow = importedNames.get(qualifiedName);
+            if (importedRow != null) {
+                return importedRow.element.getNodeType() == nodeType ? importedRow.result.getGuid() : null;
+            }
+
+            String cacheKey = nodeType.name() + ":" + qualifiedName;
+            String guid = repositoryGuids.get(cacheKey);
+            if (guid == null) {
+                guid = genericHandler.getBeanGUIDByUniqueName(userId,
+                                                              qualifiedName,
+                                                              "qualifiedName",
+                                                              OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                                                              getTypeGUID(nodeType),
+                                                              getTypeName(nodeType),
+                                                              false,
+                                                              false,
+                                                              null,
+                                                              methodName);
+                if (guid != null) {
+                    repositoryGuids.put(cacheKey, guid);
+                }
+            }
+            return guid;
+        }
+
+        private String getRelationshipTypeGUID(String relationshipTypeName) {
+            TypeDef typeDef = genericHandler.getRepositoryHelper().getTypeDefByName(genericHandler.getServiceName(), relationshipTypeName);
+            return typeDef == null ? null : typeDef.getGUID();
+        }
+    }
+
+    private static String getTypeGUID(NodeType nodeType) {
+        if (nodeType == NodeType.Category) {
+            return OpenMetadataAPIMapper.GLOSSARY_CATEGORY_TYPE_GUID;
+        }
+        return OpenMetadataAPIMapper.GLOSSARY_TERM_TYPE_GUID;
+    }
+
+    private static String getTypeName(NodeType nodeType) {
+        if (nodeType == NodeType.Category) {
+            return OpenMetadataAPIMapper.GLOSSARY_CATEGORY_TYPE_NAME;
+        }
+        return OpenMetadataAPIMapper.GLOSSARY_TERM_TYPE_NAME;
+    }
+}
@@ -45,7 +45,7 @@ public abstract class SubjectAreaHandler {
     private static final String className = SubjectAreaHandler.class.getName();
 
     protected final MappersFactory mappersFactory;
-    protected final OpenMetadataAPIGenericHandler genericHandler;
+    protected final OpenMetadataAPIGenericHandler<?> genericHandler;
     protected final int maxPageSize;
     protected InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
 
@@ -56,7 +56,7 @@ public abstract class SubjectAreaHandler {
      * @param genericHandler    generic handler
      * @param maxPageSize       maximum page size
      */
-    public SubjectAreaHandler(OpenMetadataAPIGenericHandler genericHandler, int maxPageSize) {
+    public SubjectAreaHandler(OpenMetadataAPIGenericHandler<?> genericHandler, int maxPageSize) {
         this.genericHandler =genericHandler;
         this.mappersFactory = new MappersFactory(genericHandler);
         this.maxPageSize = maxPageSize;
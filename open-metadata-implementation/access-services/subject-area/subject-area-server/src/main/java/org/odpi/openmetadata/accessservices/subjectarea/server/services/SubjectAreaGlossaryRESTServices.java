@@ -2,10 +2,14 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.subjectarea.server.services;
 
+import org.odpi.openmetadata.accessservices.subjectarea.handlers.SubjectAreaGlossaryContentHandler;
 import org.odpi.openmetadata.accessservices.subjectarea.handlers.SubjectAreaGlossaryHandler;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.category.Category;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.FindRequest;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentElement;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentRowResult;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.Relationship;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.term.Term;
 import org.odpi.openmetadata.accessservices.subjectarea.responses.SubjectAreaOMASAPIResponse;
@@ -454,4 +458,91 @@ public class SubjectAreaGlossaryRESTServices extends SubjectAreaRESTServicesInst
         }
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * Import Terms and Categories into a glossary in bulk. Each row of the content is a Term or Category; the rows are
+     * processed in batches and each row gets its own result, so a problem with one row does not stop the rest being imported.
+     *
+     * @param serverName serverName under which this request is performed, this is used in multi tenanting to identify the tenant
+     * @param userId     unique identifier for requesting user, under which the request is performed
+     * @param guid       guid of the glossary to import the content into
+     * @param format     format of the content: jsonl (JSON lines, the default) or csv
+     * @param content    content to import
+     * @return response, when successful contains a result for each row of the content.
+     * when not successful the following Exception responses can occur
+     * <ul>
+     * <li> UserNotAuthorizedException           the requesting user is not authorized to issue this request.</li>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.</li>
+     * <li> PropertyServerException              Property server exception. </li>
+     * </ul>
+     */
+    public SubjectAreaOMASAPIResponse<GlossaryContentRowResult> importGlossaryContent(String serverName,
+                                                                                    String userId,
+                                                                                    String guid,
+                                                                                    String format,
+                                                                                    String content) {
+        final String methodName = "importGlossaryContent";
+        if (log.isDebugEnabled()) {
+            log.debug("==> Method: " + methodName + ",userId=" + userId + ",guid=" + guid + ",format=" + format);
+        }
+        SubjectAreaOMASAPIResponse<GlossaryContentRowResult> response = new SubjectAreaOMASAPIResponse<>();
+        AuditLog auditLog = null;
+        try {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+            SubjectAreaGlossaryContentHandler handler = instanceHandler.getSubjectAreaGlossaryContentHandler(userId, serverName, methodName);
+            response = handler.importGlossaryContent(userId, guid, format, content);
+        } catch (OCFCheckedExceptionBase e) {
+            response.setExceptionInfo(e, className);
+        } catch (Exception exception) {
+            response = getResponseForException(exception, auditLog, className, methodName);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("<== successful method : " + methodName + ",userId=" + userId + ", response =" + response);
+        }
+        return response;
+    }
+
+    /**
+     * Export the Terms or Categories of a glossary a page at a time, in the form that they are imported.
+     *
+     * @param serverName   serverName under which this request is performed, this is used in multi tenanting to identify the tenant
+     * @param userId       unique identifier for requesting user, under which the request is performed
+     * @param guid         guid of the glossary to export
+     * @param nodeType     Term (the default) or Category
+     * @param startingFrom the starting element number for this set of results.  This is used when retrieving elements
+     * @param pageSize     the maximum number of elements that can be returned on this request.
+     * @return response, when successful contains a page of the glossary content.
+     * when not successful the following Exception responses can occur
+     * <ul>
+     * <li> UserNotAuthorizedException           the requesting user is not authorized to issue this request.</li>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.</li>
+     * <li> PropertyServerException              Property server exception. </li>
+     * </ul>
+     */
+    public SubjectAreaOMASAPIResponse<GlossaryContentElement> exportGlossaryContent(String serverName,
+                                                                                  String userId,
+                                                                                  String guid,
+                                                                                  NodeType nodeType,
+                                                                                  Integer startingFrom,
+                                                                                  Integer pageSize) {
+        final String methodName = "exportGlossaryContent";
+        if (log.isDebugEnabled()) {
+            log.debug("==> Method: " + methodName + ",userId=" + userId + ",guid=" + guid + ",nodeType=" + nodeType);
+        }
+        SubjectAreaOMASAPIResponse<GlossaryContentElement> response = new SubjectAreaOMASAPIResponse<>();
+        AuditLog auditLog = null;
+        try {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+            SubjectAreaGlossaryContentHandler handler = instanceHandler.getSubjectAreaGlossaryContentHandler(userId, serverName, methodName);
+            response = handler.exportGlossaryContent(userId, guid, nodeType, startingFrom, pageSize);
+        } catch (OCFCheckedExceptionBase e) {
+            response.setExceptionInfo(e, className);
+        } catch (Exception exception) {
+            response = getResponseForException(exception, auditLog, className, methodName);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("<== successful method : " + methodName + ",userId=" + userId + ", response =" + response);
+        }
+        return response;
+    }
+}
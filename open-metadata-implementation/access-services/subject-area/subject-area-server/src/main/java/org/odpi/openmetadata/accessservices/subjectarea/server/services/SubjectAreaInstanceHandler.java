@@ -232,4 +232,34 @@ class SubjectAreaInstanceHandler extends OMASServiceInstanceHandler
 
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieve the specific handler for the access service.
+     *
+     * @param userId calling user
+     * @param serverName name of the server tied to the request
+     * @param serviceOperationName name of the REST API call (typically the top-level methodName)
+     * @return handler for use by the requested instance
+     * @throws InvalidParameterException no available instance for the requested server
+     * @throws UserNotAuthorizedException user does not have access to the requested server
+     * @throws PropertyServerException the service name is not known - indicating a logic error
+     */
+    SubjectAreaGlossaryContentHandler getSubjectAreaGlossaryContentHandler(String userId,
+                                                                           String serverName,
+                                                                           String serviceOperationName) throws InvalidParameterException,
+                                                                                                                 UserNotAuthorizedException,
+                                                                                                                 PropertyServerException
+    {
+
+        SubjectAreaServicesInstance instance = (SubjectAreaServicesInstance)super.getServerServiceInstance(userId,
+                                                                                                           serverName,
+                                                                                                           serviceOperationName);
+
+        if (instance != null)
+        {
+            return instance.getGlossaryContentHandler();
+        }
+
+        return null;
+    }
+}
@@ -28,6 +28,7 @@ public class SubjectAreaServicesInstance extends OMASServiceInstance {
     private final SubjectAreaRelationshipHandler relationshipHandler;
     private final SubjectAreaGraphHandler graphHandler;
     private final SubjectAreaConfigHandler configHandler;
+    private final SubjectAreaGlossaryContentHandler glossaryContentHandler;
 
 
     /**
@@ -85,6 +86,8 @@ public class SubjectAreaServicesInstance extends OMASServiceInstance {
 
         this.configHandler = new SubjectAreaConfigHandler(genericHandler, maxPageSize);
 
+        this.glossaryContentHandler = new SubjectAreaGlossaryContentHandler(genericHandler, maxPageSize);
+
 }
 
     /**
@@ -149,4 +152,23 @@ public class SubjectAreaServicesInstance extends OMASServiceInstance {
     public SubjectAreaConfigHandler getConfigHandler() {
         return configHandler;
     }
+
+    /**
+     * Return the handler for bulk glossary content requests.
+     *
+     * @return handler object
+     */
+    public SubjectAreaGlossaryContentHandler getGlossaryContentHandler() {
+        return glossaryContentHandler;
+    }
+
+    /**
+     * Release the resources used by the handlers and unregister from platform.
+     */
+    @Override
+    public void shutdown() {
+        glossaryContentHandler.shutdown();
+
+        super.shutdown();
+    }
 }
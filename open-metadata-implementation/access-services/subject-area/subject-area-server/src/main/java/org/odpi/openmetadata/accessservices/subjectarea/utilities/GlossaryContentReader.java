@@ -0,0 +1,360 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.utilities;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentElement;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * GlossaryContentReader reads the rows of glossary content that is being imported, a batch at a time, so that the
+ * content is only converted into GlossaryContentElements as it is processed.
+ * <p>
+ * Two formats are supported:
+ * <ul>
+ * <li>jsonl - each non blank line is a GlossaryContentElement in JSON.</li>
+ * <li>csv - the first line is a header naming the GlossaryContentElement property held in each column. Columns with other
+ * names are ignored. Values containing commas, quotes or line breaks are enclosed in double quotes, with embedded quotes doubled.
+ * The values of the categories, relatedTerms and synonyms columns are lists of qualifiedNames separated by '|'.</li>
+ * </ul>
+ * A row that cannot be parsed is returned with a parse error rather than failing the read, so that the rest of the content
+ * can still be imported.
+ */
+public class GlossaryContentReader
+{
+    public static final String CSV_FORMAT        = "csv";
+    public static final String JSON_LINES_FORMAT = "jsonl";
+
+    private static final String       LIST_SEPARATOR = "\\|";
+    private static final ObjectReader elementReader  = new ObjectMapper().readerFor(GlossaryContentElement.class);
+
+    private final BufferedReader reader;
+    private final boolean        isCSV;
+    private       List<String>   csvHeader  = null;
+    private       long           lineNumber = 0L;
+
+
+    /**
+     * Content row, with the line number that it starts on so that errors can be reported against it.
+     * Either the element or the parse error is set.
+     */
+    public static class ContentRow
+    {
+        private final long                   rowNumber;
+        private final GlossaryContentElement element;
+        private final String                 parseError;
+
+        ContentRow(long rowNumber, GlossaryContentElement element, String parseError)
+        {
+            this.rowNumber  = rowNumber;
+            this.element    = element;
+            this.parseError = parseError;
+        }
+
+        public long getRowNumber()
+        {
+            return rowNumber;
+        }
+
+        public GlossaryContentElement getElement()
+        {
+            return element;
+        }
+
+        public String getParseError()
+        {
+            return parseError;
+        }
+    }
+
+
+    /**
+     * Constructor
+     * @param format format of the content - csv or jsonl (the default)
+     * @param content glossary content
+     */
+    public GlossaryContentReader(String format, String content)
+    {
+        this.reader = new BufferedReader(new StringReader(content == null ? "" : content));
+        this.isCSV  = CSV_FORMAT.equalsIgnoreCase(format);
+    }
+
+
+    /**
+     * Test whether content in the requested format can be read.
+     * @param format requested format; null means jsonl
+     * @return true if the format is supported
+     */
+    public static boolean isSupportedFormat(String format)
+    {
+        return format == null || CSV_FORMAT.equalsIgnoreCase(format) || JSON_LINES_FORMAT.equalsIgnoreCase(format);
+    }
+
+
+    /**
+     * Read the next batch of rows. Blank lines are skipped.
+     * @param batchSize maximum number of rows to return
+     * @return rows in the order they appear in the content; an empty list when all the content has been read
+     * @throws IOException the content could not be read
+     */
+    public List<ContentRow> readBatch(int batchSize) throws IOException
+    {
+        List<ContentRow> rows = new ArrayList<>();
+        String           line = readNonBlankLine();
+
+        if (isCSV && csvHeader == null && line != null)
+        {
+            csvHeader = new ArrayList<>();
+            for (String columnName : parseCSVRecord(line))
+            {
+                csvHeader.add(columnName.trim().toLowerCase(Locale.ROOT));
+            }
+            line = readNonBlankLine();
+        }
+
+        while (line != null)
+        {
+            long rowNumber = lineNumber;
+
+            try
+            {
+                GlossaryContentElement element;
+                if (isCSV)
+                {
+                    element = getElementFromCSVRecord(parseCSVRecord(line));
+                }
+                else
+                {
+                    element = elementReader.readValue(line);
+                }
+                rows.add(new ContentRow(rowNumber, element, null));
+            }
+            catch (JsonProcessingException error)
+            {
+                rows.add(new ContentRow(rowNumber, null, error.getOriginalMessage()));
+            }
+            catch (IllegalArgumentException error)
+            {
+                rows.add(new ContentRow(rowNumber, null, error.getMessage()));
+            }
+
+            if (rows.size() >= batchSize)
+            {
+                break;
+            }
+            line = readNonBlankLine();
+        }
+
+        return rows;
+    }
+
+
+    /**
+     * Return the next line that contains something other than white space.
+     * @return line or null at the end of the content
+     * @throws IOException the content could not be read
+     */
+    private String readNonBlankLine() throws IOException
+    {
+        String line = reader.readLine();
+
+        while (line != null)
+        {
+            lineNumber++;
+            if (!line.trim().isEmpty())
+            {
+                return line;
+            }
+            line = reader.readLine();
+        }
+        return null;
+    }
+
+
+    /**
+     * Split a CSV record into its values, reading further lines if a quoted value contains a line break.
+     * @param line first line of the record
+     * @return values
+     * @throws IOException the content could not be read
+     */
+    private List<String> parseCSVRecord(String line) throws IOException
+    {
+        List<String>  values      = new ArrayList<>();
+        StringBuilder value       = new StringBuilder();
+        boolean       inQuotes    = false;
+        String        currentLine = line;
+        int           index       = 0;
+
+        while (true)
+        {
+            if (index == currentLine.length())
+            {
+                if (!inQuotes)
+                {
+                    values.add(value.toString());
+                    return values;
+                }
+                currentLine = reader.readLine();
+                if (currentLine == null)
+                {
+                    throw new IllegalArgumentException("a quoted value is not terminated before the end of the content");
+                }
+                lineNumber++;
+                value.append('\n');
+                index = 0;
+                continue;
+            }
+
+            char character = currentLine.charAt(index++);
+            if (inQuotes)
+            {
+                if (character != '"')
+                {
+                    value.append(character);
+                }
+                else if (index < currentLine.length() && currentLine.charAt(index) == '"')
+                {
+                    value.append('"');
+                    index++;
+                }
+                else
+                {
+                    inQuotes = false;
+                }
+            }
+            else if (character == '"')
+            {
+                inQuotes = true;
+            }
+            else if (character == ',')
+            {
+                values.add(value.toString());
+                value.setLength(0);
+            }
+            else
+            {
+                value.append(character);
+            }
+        }
+    }
+
+
+    /**
+     * Build an element from the values of a CSV record using the column names from the header.
+     * @param values values of the record
+     * @return element
+     */
+    private GlossaryContentElement getElementFromCSVRecord(List<String> values)
+    {
+        if (values.size() > csvHeader.size())
+        {
+            throw new IllegalArgumentException("the row has " + values.size() + " values but the header only names " + csvHeader.size() + " columns");
+        }
+
+        GlossaryContentElement element = new GlossaryContentElement();
+
+        for (int column = 0; column < values.size(); column++)
+        {
+            String value = values.get(column).trim();
+            if (value.isEmpty())
+            {
+                continue;
+            }
+
+            switch (csvHeader.get(column))
+            {
+                case "nodetype":
+                    element.setNodeType(getNodeType(value));
+                    break;
+                case "guid":
+                    element.setGuid(value);
+                    break;
+                case "qualifiedname":
+                    element.setQualifiedName(value);
+                    break;
+                case "name":
+                    element.setName(value);
+                    break;
+                case "description":
+                    element.setDescription(value);
+                    break;
+                case "summary":
+                    element.setSummary(value);
+                    break;
+                case "examples":
+                    element.setExamples(value);
+                    break;
+                case "abbreviation":
+                    element.setAbbreviation(value);
+                    break;
+                case "usage":
+                    element.setUsage(value);
+                    break;
+                case "parentcategory":
+                    element.setParentCategory(value);
+                    break;
+                case "categories":
+                    element.setCategories(getList(value));
+                    break;
+                case "relatedterms":
+                    element.setRelatedTerms(getList(value));
+                    break;
+                case "synonyms":
+                    element.setSynonyms(getList(value));
+                    break;
+                default:
+                    // columns that are not part of the glossary content are ignored
+                    break;
+            }
+        }
+        return element;
+    }
+
+
+    /**
+     * Convert the node type column. The name is matched ignoring case.
+     * @param value column value
+     * @return node type
+     */
+    private NodeType getNodeType(String value)
+    {
+        for (NodeType nodeType : NodeType.values())
+        {
+            if (nodeType.name().equalsIgnoreCase(value))
+            {
+                return nodeType;
+            }
+        }
+        throw new IllegalArgumentException("the nodeType " + value + " is not recognized");
+    }
+
+
+    /**
+     * Split a list column into its qualifiedNames.
+     * @param value column value
+     * @return qualified names
+     */
+    private List<String> getList(String value)
+    {
+        List<String> names = new ArrayList<>();
+
+        for (String name : value.split(LIST_SEPARATOR))
+        {
+            if (!name.trim().isEmpty())
+            {
+                names.add(name.trim());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,315 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentElement;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentRowResult;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
+import org.odpi.openmetadata.accessservices.subjectarea.responses.SubjectAreaOMASAPIResponse;
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSRepositoryConnectorProvider;
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIGenericHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryErrorHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
+import org.odpi.openmetadata.repositoryservices.archivemanager.OMRSArchiveManager;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSConnectorProvider;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Import glossary content into an in-memory repository and export it again.
+ */
+public class TestSubjectAreaGlossaryContentHandler
+{
+    private static final String USER_ID     = "userId";
+    private static final String SERVICE     = "Subject Area OMAS";
+    private static final String SERVER      = "testServer";
+    private static final int    PAGE_SIZE   = 100;
+
+    private static final String CSV_CONTENT =
+            "nodeType,qualifiedName,name,description,parentCategory,categories,relatedTerms,synonyms,summary\n" +
+            "Category,cat.top,Top,,,,,,\n" +
+            "Category,cat.child,Child,,cat.top,,,,\n" +
+            "Term,term.a,Term A,A description,,cat.child,term.b,term.c,Summary A\n" +
+            "Term,term.b,Term B,,,cat.top|cat.child,term.a,,\n" +
+            "Term,term.c,Term C,,,,,,\n" +
+            "Term,term.a,Duplicate,,,,,,\n" +
+            "Term,term.d,Term D,,,cat.missing,,,\n" +
+            "Term,,,no name,,,,,\n";
+
+    private SubjectAreaGlossaryHandler        glossaryHandler;
+    private SubjectAreaGlossaryContentHandler contentHandler;
+
+
+    @BeforeClass
+    public void setUp() throws Exception
+    {
+        OMRSAuditLog auditLog = mock(OMRSAuditLog.class);
+
+        Connection    connection    = new Connection();
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setConnectorProviderClassName(InMemoryOMRSRepositoryConnectorProvider.class.getName());
+        connection.setConnectorType(connectorType);
+
+        OMRSRepositoryConnector inMemoryConnector = (OMRSRepositoryConnector) new ConnectorBroker().getConnector(connection);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(USER_ID, auditLog);
+        OMRSRepositoryContentHelper  repositoryHelper = new OMRSRepositoryContentHelper(contentManager);
+        OMRSRepositoryEventExchangeRule exchangeRule = new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null);
+        OMRSRepositoryEventManager eventManager = new OMRSRepositoryEventManager("local repository outbound",
+                                                                                 exchangeRule,
+                                                                                 new OMRSRepositoryContentValidator(contentManager),
+                                                                                 auditLog);
+
+        LocalOMRSRepositoryConnector localConnector = (LocalOMRSRepositoryConnector) new LocalOMRSConnectorProvider("testLocalMetadataCollectionId",
+                                                                                                                    connection,
+                                                                                                                    null,
+                                                                                                                    eventManager,
+                                                                                                                    contentManager,
+                                                                                                                    exchangeRule).getConnector(connection);
+        localConnector.setRepositoryHelper(repositoryHelper);
+        localConnector.setRepositoryValidator(new OMRSRepositoryContentValidator(contentManager));
+        localConnector.setAuditLog(auditLog);
+        localConnector.setMetadataCollectionId("testLocalMetadataCollectionId");
+        contentManager.setupEventProcessor(localConnector, eventManager);
+
+        inMemoryConnector.setRepositoryHelper(repositoryHelper);
+        inMemoryConnector.setRepositoryValidator(new OMRSRepositoryContentValidator(contentManager));
+        inMemoryConnector.setMetadataCollectionId("testMetadataCollectionId");
+        inMemoryConnector.start();
+        eventManager.start();
+        localConnector.start();
+        new OMRSArchiveManager(null, auditLog).setLocalRepository("testLocalMetadataCollectionId", contentManager, null);
+
+        InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
+        invalidParameterHandler.setMaxPagingSize(PAGE_SIZE);
+
+        RepositoryHandler repositoryHandler = new RepositoryHandler(auditLog,
+                                                                    repositoryHelper,
+                                                                    new RepositoryErrorHandler(repositoryHelper, SERVICE, SERVER, auditLog),
+                                                                    localConnector.getMetadataCollection(),
+                                                                    PAGE_SIZE);
+
+        OpenMetadataAPIGenericHandler<Glossary> genericHandler = new OpenMetadataAPIGenericHandler<>(null,
+                                                                                                     Glossary.class,
+                                                                                                     SERVICE,
+                                                                                                     SERVER,
+                                                                                                     invalidParameterHandler,
+                                                                                                     repositoryHandler,
+                                                                                                     repositoryHelper,
+                                                                                                     USER_ID,
+                                                                                                     new OpenMetadataServerSecurityVerifier(),
+                                                                                                     null,
+                                                                                                     null,
+                                                                                                     null,
+                                                                                                     auditLog);
+
+        glossaryHandler = new SubjectAreaGlossaryHandler(genericHandler, PAGE_SIZE);
+        contentHandler = new SubjectAreaGlossaryContentHandler(genericHandler, PAGE_SIZE);
+    }
+
+
+    @AfterClass
+    public void tearDown()
+    {
+        contentHandler.shutdown();
+    }
+
+
+    @Test
+    public void testImportAndExport() throws Exception
+    {
+        String glossaryGuid = createGlossary("glossary.csv");
+
+        SubjectAreaOMASAPIResponse<GlossaryContentRowResult> importResponse = contentHandler.importGlossaryContent(USER_ID, glossaryGuid, "csv", CSV_CONTENT);
+        assertEquals(importResponse.getRelatedHTTPCode(), 200, importResponse.getExceptionErrorMessage());
+
+        List<GlossaryContentRowResult> results = importResponse.results();
+        assertEquals(results.size(), 8);
+        for (int row = 0; row < 5; row++)
+        {
+            assertNotNull(results.get(row).getGuid(), results.get(row).toString());
+            assertNull(results.get(row).getErrorMessageId(), results.get(row).toString());
+            assertEquals(results.get(row).getRowNumber(), row + 2L);
+        }
+        assertNull(results.get(5).getGuid());
+        assertEquals(results.get(5).getErrorMessageId(), "OMAS-SUBJECT-AREA-400-081");
+        assertNotNull(results.get(6).getGuid());
+        assertEquals(results.get(6).getErrorMessageId(), "OMAS-SUBJECT-AREA-400-082");
+        assertNull(results.get(7).getGuid());
+        assertEquals(results.get(7).getErrorMessageId(), "OMAS-SUBJECT-AREA-400-080");
+
+        Map<String, GlossaryContentElement> categories = exportContent(glossaryGuid, NodeType.Category);
+        assertEquals(categories.keySet(), new HashSet<>(Arrays.asList("cat.top", "cat.child")));
+        assertNull(categories.get("cat.top").getParentCategory());
+        assertEquals(categories.get("cat.child").getParentCategory(), "cat.top");
+
+        Map<String, GlossaryContentElement> terms = exportContent(glossaryGuid, NodeType.Term);
+        assertEquals(terms.keySet(), new HashSet<>(Arrays.asList("term.a", "term.b", "term.c", "term.d")));
+
+        GlossaryContentElement termA = terms.get("term.a");
+        assertEquals(termA.getName(), "Term A");
+        assertEquals(termA.getDescription(), "A description");
+        assertEquals(termA.getSummary(), "Summary A");
+        assertEquals(termA.getCategories(), Collections.singletonList("cat.child"));
+        assertEquals(termA.getRelatedTerms(), Collections.singletonList("term.b"));
+        assertEquals(termA.getSynonyms(), Collections.singletonList("term.c"));
+
+        // term.a and term.b both ask for the same related term link, which is only created once
+        GlossaryContentElement termB = terms.get("term.b");
+        assertEquals(new HashSet<>(termB.getCategories()), new HashSet<>(Arrays.asList("cat.top", "cat.child")));
+        assertEquals(termB.getRelatedTerms(), Collections.singletonList("term.a"));
+
+        assertEquals(terms.get("term.c").getSynonyms(), Collections.singletonList("term.a"));
+        assertNull(terms.get("term.d").getCategories());
+    }
+
+
+    @Test
+    public void testExportedContentImportsIntoAnotherGlossary() throws Exception
+    {
+        String sourceGuid = createGlossary("glossary.source");
+        String jsonLines = "{\"nodeType\":\"Category\",\"qualifiedName\":\"src.cat\",\"name\":\"Cat\"}\n" +
+                           "{\"qualifiedName\":\"src.t1\",\"name\":\"T1\",\"categories\":[\"src.cat\"],\"synonyms\":[\"src.t2\"]}\n" +
+                           "{\"qualifiedName\":\"src.t2\",\"name\":\"T2\",\"usage\":\"Used for testing\"}\n";
+        contentHandler.importGlossaryContent(USER_ID, sourceGuid, null, jsonLines);
+
+        // export the source glossary as JSON lines, with new qualified names so that it can be imported again
+        ObjectMapper  objectMapper = new ObjectMapper();
+        StringBuilder exported     = new StringBuilder();
+        for (NodeType nodeType : Arrays.asList(NodeType.Category, NodeType.Term))
+        {
+            for (GlossaryContentElement element : exportContent(sourceGuid, nodeType).values())
+            {
+                exported.append(objectMapper.writeValueAsString(renamed(element))).append('\n');
+            }
+        }
+
+        String targetGuid = createGlossary("glossary.target");
+        List<GlossaryContentRowResult> results = contentHandler.importGlossaryContent(USER_ID, targetGuid, "jsonl", exported.toString()).results();
+        assertEquals(results.size(), 3);
+        for (GlossaryContentRowResult result : results)
+        {
+            assertNull(result.getErrorMessageId(), result.toString());
+        }
+
+        Map<String, GlossaryContentElement> sourceTerms = exportContent(sourceGuid, NodeType.Term);
+        Map<String, GlossaryContentElement> targetTerms = exportContent(targetGuid, NodeType.Term);
+        assertEquals(targetTerms.size(), sourceTerms.size());
+        for (GlossaryContentElement sourceTerm : sourceTerms.values())
+        {
+            GlossaryContentElement expected = renamed(sourceTerm);
+            GlossaryContentElement actual   = targetTerms.get(expected.getQualifiedName());
+            assertNotNull(actual, expected.getQualifiedName());
+            expected.setGuid(actual.getGuid());
+            assertEquals(actual, expected);
+        }
+    }
+
+
+    @Test
+    public void testUnsupportedFormat() throws Exception
+    {
+        String glossaryGuid = createGlossary("glossary.format");
+
+        SubjectAreaOMASAPIResponse<GlossaryContentRowResult> response = contentHandler.importGlossaryContent(USER_ID, glossaryGuid, "xml", "<terms/>");
+        assertEquals(response.getRelatedHTTPCode(), 400);
+        assertTrue(response.getExceptionErrorMessage().startsWith("OMAS-SUBJECT-AREA-400-078"), response.getExceptionErrorMessage());
+        assertTrue(response.results().isEmpty());
+    }
+
+
+    private String createGlossary(String qualifiedName)
+    {
+        Glossary glossary = new Glossary();
+        glossary.setName(qualifiedName);
+        glossary.setQualifiedName(qualifiedName);
+
+        SubjectAreaOMASAPIResponse<Glossary> response = glossaryHandler.createGlossary(USER_ID, glossary);
+        assertEquals(response.getRelatedHTTPCode(), 200, response.getExceptionErrorMessage());
+        return response.results().get(0).getSystemAttributes().getGUID();
+    }
+
+
+    private Map<String, GlossaryContentElement> exportContent(String glossaryGuid, NodeType nodeType)
+    {
+        SubjectAreaOMASAPIResponse<GlossaryContentElement> response = contentHandler.exportGlossaryContent(USER_ID, glossaryGuid, nodeType, 0, PAGE_SIZE);
+        assertEquals(response.getRelatedHTTPCode(), 200, response.getExceptionErrorMessage());
+
+        Map<String, GlossaryContentElement> elements = new HashMap<>();
+        for (GlossaryContentElement element : response.results())
+        {
+            assertEquals(element.getNodeType(), nodeType);
+            elements.put(element.getQualifiedName(), element);
+        }
+        return elements;
+    }
+
+
+    private GlossaryContentElement renamed(GlossaryContentElement element)
+    {
+        GlossaryContentElement copy = new GlossaryContentElement();
+        copy.setNodeType(element.getNodeType());
+        copy.setQualifiedName(renamed(element.getQualifiedName()));
+        copy.setName(element.getName());
+        copy.setDescription(element.getDescription());
+        copy.setSummary(element.getSummary());
+        copy.setExamples(element.getExamples());
+        copy.setAbbreviation(element.getAbbreviation());
+        copy.setUsage(element.getUsage());
+        copy.setParentCategory(renamed(element.getParentCategory()));
+        copy.setCategories(renamed(element.getCategories()));
+        copy.setRelatedTerms(renamed(element.getRelatedTerms()));
+        copy.setSynonyms(renamed(element.getSynonyms()));
+        return copy;
+    }
+
+    private String renamed(String qualifiedName)
+    {
+        return qualifiedName == null ? null : "copy." + qualifiedName;
+    }
+
+    private List<String> renamed(List<String> qualifiedNames)
+    {
+        if (qualifiedNames == null)
+        {
+            return null;
+        }
+        List<String> copies = new ArrayList<>();
+        for (String qualifiedName : qualifiedNames)
+        {
+            copies.add(renamed(qualifiedName));
+        }
+        return copies;
+    }
+}
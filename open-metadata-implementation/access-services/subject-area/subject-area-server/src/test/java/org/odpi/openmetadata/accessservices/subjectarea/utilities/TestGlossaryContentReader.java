@@ -0,0 +1,114 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.utilities;
+
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentElement;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test the reading of glossary content for bulk import
+ */
+public class TestGlossaryContentReader
+{
+    @Test
+    public void testCSVContent() throws Exception
+    {
+        String content = "NodeType,QualifiedName,Name,Description,Categories,Unknown\n" +
+                         "Category,cat1,Category 1,,,ignored\n" +
+                         "\n" +
+                         "Term,term1,\"Term, one\",\"said \"\"hello\"\"\nover two lines\",cat1| cat2 ,\n";
+
+        GlossaryContentReader reader = new GlossaryContentReader("CSV", content);
+        List<GlossaryContentReader.ContentRow> rows = reader.readBatch(10);
+
+        assertEquals(rows.size(), 2);
+
+        GlossaryContentElement category = rows.get(0).getElement();
+        assertEquals(rows.get(0).getRowNumber(), 2L);
+        assertEquals(category.getNodeType(), NodeType.Category);
+        assertEquals(category.getQualifiedName(), "cat1");
+        assertNull(category.getDescription());
+
+        GlossaryContentElement term = rows.get(1).getElement();
+        assertEquals(rows.get(1).getRowNumber(), 4L);
+        assertEquals(term.getName(), "Term, one");
+        assertEquals(term.getDescription(), "said \"hello\"\nover two lines");
+        assertEquals(term.getCategories(), Arrays.asList("cat1", "cat2"));
+
+        assertTrue(reader.readBatch(10).isEmpty());
+    }
+
+    @Test
+    public void testCSVRowErrors() throws Exception
+    {
+        String content = "name,nodeType\n" +
+                         "a,b,c\n" +
+                         "a,Bogus\n" +
+                         "b,term\n";
+
+        List<GlossaryContentReader.ContentRow> rows = new GlossaryContentReader("csv", content).readBatch(10);
+
+        assertEquals(rows.size(), 3);
+        assertNull(rows.get(0).getElement());
+        assertNotNull(rows.get(0).getParseError());
+        assertNull(rows.get(1).getElement());
+        assertNotNull(rows.get(1).getParseError());
+        assertEquals(rows.get(2).getElement().getNodeType(), NodeType.Term);
+    }
+
+    @Test
+    public void testJSONLinesContent() throws Exception
+    {
+        String content = "{\"nodeType\":\"Term\",\"name\":\"term1\",\"synonyms\":[\"term2\"],\"extra\":1}\n" +
+                         "not json\n" +
+                         "{\"name\":\"term2\"}\n";
+
+        List<GlossaryContentReader.ContentRow> rows = new GlossaryContentReader(null, content).readBatch(10);
+
+        assertEquals(rows.size(), 3);
+        assertEquals(rows.get(0).getElement().getSynonyms(), Arrays.asList("term2"));
+        assertNull(rows.get(1).getElement());
+        assertNotNull(rows.get(1).getParseError());
+        assertEquals(rows.get(2).getRowNumber(), 3L);
+        assertNull(rows.get(2).getElement().getNodeType());
+    }
+
+    @Test
+    public void testBatches() throws Exception
+    {
+        StringBuilder content = new StringBuilder("name\n");
+        for (int row = 0; row < 5; row++)
+        {
+            content.append("term").append(row).append('\n');
+        }
+
+        GlossaryContentReader reader = new GlossaryContentReader(GlossaryContentReader.CSV_FORMAT, content.toString());
+
+        assertEquals(reader.readBatch(2).size(), 2);
+        assertEquals(reader.readBatch(2).size(), 2);
+
+        List<GlossaryContentReader.ContentRow> lastBatch = reader.readBatch(2);
+        assertEquals(lastBatch.size(), 1);
+        assertEquals(lastBatch.get(0).getElement().getName(), "term4");
+        assertTrue(reader.readBatch(2).isEmpty());
+    }
+
+    @Test
+    public void testSupportedFormats()
+    {
+        assertTrue(GlossaryContentReader.isSupportedFormat(null));
+        assertTrue(GlossaryContentReader.isSupportedFormat("JSONL"));
+        assertTrue(GlossaryContentReader.isSupportedFormat("csv"));
+        assertFalse(GlossaryContentReader.isSupportedFormat("xml"));
+    }
+}
@@ -7,6 +7,7 @@ import com.google.crypto.tink.*;
 import com.google.crypto.tink.aead.AeadConfig;
 import com.google.crypto.tink.aead.AeadKeyTemplates;
 import com.google.crypto.tink.proto.KeyTemplate;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigDocumentCache;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreRetrieveAll;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
@@ -19,7 +20,6 @@ import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -45,7 +45,10 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     private static final String DEFAULT_FILENAME_TEMPLATE = "data/servers/" + INSERT_FOR_FILENAME_TEMPLATE + "/config/" + INSERT_FOR_FILENAME_TEMPLATE + ".config";
     private static final KeyTemplate KEY_TEMPLATE = AeadKeyTemplates.CHACHA20_POLY1305;
     private static final Logger log = LoggerFactory.getLogger(EncryptedFileBasedServerConfigStoreConnector.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
     private static SecureRandom rng = null;
+    // Decrypted configuration documents, shared by all instances of the connector since one is created for each request
+    private static final OMAGServerConfigDocumentCache configDocumentCache = new OMAGServerConfigDocumentCache();
     private String configStoreName = null;
 
     /**
@@ -115,32 +118,38 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
      */
     @Override
     public void saveServerConfig(OMAGServerConfig omagServerConfig) {
+        if (omagServerConfig == null) {
+            // If no server config was provided, treat this as a delete
+            removeServerConfig();
+        } else {
+            saveServerConfig(getConfigStoreFile(), omagServerConfig);
+        }
+    }
+
+    /**
+     * Encrypt the server configuration and write it to a file.  The file is replaced in a single step so a failure
+     * part way through does not leave a partly written configuration document.
+     *
+     * @param configStoreFile the configuration file
+     * @param omagServerConfig configuration properties to save
+     */
+    private void saveServerConfig(File configStoreFile, OMAGServerConfig omagServerConfig) {
 
         final String methodName = "saveServerConfig";
-        File configStoreFile = getConfigStoreFile();
 
         try {
-
-            if (omagServerConfig == null) {
-                // If no server config was provided, treat this as a delete
-                removeServerConfig();
+            log.debug("Writing encrypted server configuration.");
+            Aead aead = getAead(true);
+            if (aead != null) {
+                byte[] configStoreFileContents = configDocumentCache.getConfigDocument(omagServerConfig);
+                byte[] ciphertext = aead.encrypt(configStoreFileContents, null);
+                // Replace the file in one step, and remember the document so it is not decrypted on the next retrieve
+                configDocumentCache.writeServerConfig(configStoreFile, ciphertext, configStoreFileContents);
             } else {
-
-                log.debug("Writing encrypted server configuration.");
-                Aead aead = getAead(true);
-                if (aead != null) {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    String configStoreFileContents = objectMapper.writeValueAsString(omagServerConfig);
-                    byte[] ciphertext = aead.encrypt(configStoreFileContents.getBytes(StandardCharsets.UTF_8), null);
-                    FileUtils.writeByteArrayToFile(configStoreFile, ciphertext, false);
-                } else {
-                    throw new OCFRuntimeException(DocStoreErrorCode.AEAD_UNAVAILABLE.getMessageDefinition(),
-                                                  this.getClass().getName(),
-                                                  methodName);
-                }
-
+                throw new OCFRuntimeException(DocStoreErrorCode.AEAD_UNAVAILABLE.getMessageDefinition(),
+                                              this.getClass().getName(),
+                                              methodName);
             }
-
         } catch (GeneralSecurityException | IOException e) {
             throw new OCFRuntimeException(DocStoreErrorCode.WRITE_ERROR.getMessageDefinition(e.getClass().getName(), e.getMessage()),
                                           this.getClass().getName(),
@@ -154,25 +163,43 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
      */
     @Override
     public OMAGServerConfig retrieveServerConfig() {
+        return retrieveServerConfig(getConfigStoreFile());
+    }
+
+    /**
+     * Retrieve the configuration stored in a file.  The file is only read and decrypted if it has changed since it
+     * was last read or written by this connector.
+     *
+     * @param configStoreFile the configuration file
+     * @return OMAGServerConfig or null if the file does not exist
+     */
+    private OMAGServerConfig retrieveServerConfig(File configStoreFile) {
 
         final String methodName = "retrieveServerConfig";
         OMAGServerConfig newConfigProperties = null;
 
-        boolean isEnvVar = isEnvBasedKeystore();
-        boolean isKeyFile = isFileBasedKeystore();
-
-        File configStoreFile = getConfigStoreFile();
         if (configStoreFile.exists()) {
 
+            // If the file has not changed since it was last decrypted, there is no need to read it again
+            try {
+                newConfigProperties = configDocumentCache.getServerConfig(configStoreFile);
+            } catch (IOException e) {
+                log.debug("Unable to use cached server configuration properties", e);
+            }
+            if (newConfigProperties != null) {
+                return newConfigProperties;
+            }
+
+            boolean isEnvVar = isEnvBasedKeystore();
+            boolean isKeyFile = isFileBasedKeystore();
+
             // If we have a configuration file, first try to read it as clear-text (unencrypted)...
             try {
                 log.debug("Attempting to retrieve clear-text server configuration properties");
-                String configStoreFileContents = FileUtils.readFileToString(configStoreFile, "UTF-8");
-                ObjectMapper objectMapper = new ObjectMapper();
-                newConfigProperties = objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
+                newConfigProperties = objectMapper.readValue(configStoreFile, OMAGServerConfig.class);
                 // Assuming we are able to read it (unencrypted), immediately auto-encrypt it
                 log.info("Found unencrypted configuration document -- automatically encrypting it.");
-                saveServerConfig(newConfigProperties);
+                saveServerConfig(configStoreFile, newConfigProperties);
             } catch (IOException e) {
                 // If reading it as clear-text fails, and we have no keyset defined, then the configuration document
                 // is probably encrypted and we have no way of decrypting it
@@ -193,11 +220,8 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
                     log.debug("Retrieving encrypted server configuration properties");
                     Aead aead = getAead(false);
                     if (aead != null) {
-                        byte[] ciphertext = FileUtils.readFileToByteArray(configStoreFile);
-                        byte[] decrypted = aead.decrypt(ciphertext, null);
-                        String configStoreFileContents = new String(decrypted, StandardCharsets.UTF_8);
-                        ObjectMapper objectMapper = new ObjectMapper();
-                        newConfigProperties = objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
+                        newConfigProperties = configDocumentCache.readServerConfig(configStoreFile,
+                                file -> aead.decrypt(FileUtils.readFileToByteArray(file), null));
                     } else {
                         // If we have a configuration file, but no key anywhere to use to decrypt it, throw an error immediately
                         throw new OCFRuntimeException(DocStoreErrorCode.NO_KEYSTORE.getMessageDefinition(),
@@ -234,6 +258,7 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
             }
         }
         File configStoreFile = getConfigStoreFile();
+        configDocumentCache.removeServerConfig(configStoreFile);
         if (configStoreFile.exists()) {
             try {
                 Files.delete(configStoreFile.toPath());
@@ -252,8 +277,7 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
         String templateString = getStoreTemplateName();
         Set<String> fileNames = getFileNames(templateString, methodName);
         for (String fileName : fileNames) {
-            configStoreName = fileName;
-            OMAGServerConfig config = retrieveServerConfig();
+            OMAGServerConfig config = retrieveServerConfig(new File(fileName));
             omagServerConfigSet.add(config);
         }
 
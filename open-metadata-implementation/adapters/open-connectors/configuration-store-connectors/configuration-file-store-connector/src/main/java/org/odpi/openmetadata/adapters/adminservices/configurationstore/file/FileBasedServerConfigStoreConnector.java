@@ -2,7 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.adminservices.configurationstore.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigDocumentCache;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreRetrieveAll;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
@@ -43,6 +43,12 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
      */
     private String           configStoreName  = null;
 
+    /*
+     * The parsed configuration documents are shared by all instances of the connector because a new instance
+     * is created for each request to the admin services.
+     */
+    private static final OMAGServerConfigDocumentCache configDocumentCache = new OMAGServerConfigDocumentCache();
+
     /*
      * Variables used for logging and debug.
      */
@@ -95,7 +101,8 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
 
 
     /**
-     * Save the server configuration.
+     * Save the server configuration.  The file is replaced in a single step so a failure part way through
+     * does not leave a partly written configuration document.
      *
      * @param omagServerConfig - configuration properties to save
      */
@@ -110,15 +117,14 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
 
             if (omagServerConfig == null)
             {
+                configDocumentCache.removeServerConfig(configStoreFile);
                 configStoreFile.delete();
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                String configStoreFileContents = objectMapper.writeValueAsString(omagServerConfig);
+                byte[] configStoreFileContents = configDocumentCache.getConfigDocument(omagServerConfig);
 
-                FileUtils.writeStringToFile(configStoreFile, configStoreFileContents, (String)null,false);
+                configDocumentCache.writeServerConfig(configStoreFile, configStoreFileContents, configStoreFileContents);
             }
         }
         catch (IOException   ioException)
@@ -136,18 +142,27 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
     @Override
     public OMAGServerConfig  retrieveServerConfig()
     {
-        File             configStoreFile     = new File(configStoreName);
+        return retrieveServerConfig(configStoreName);
+    }
+
+
+    /**
+     * Retrieve the configuration stored in the named file.  The file is only read and parsed if it has changed
+     * since it was last read or written by this connector.
+     *
+     * @param fileName name of the configuration file
+     * @return server configuration or null if the file can not be read
+     */
+    private OMAGServerConfig retrieveServerConfig(String fileName)
+    {
+        File             configStoreFile     = new File(fileName);
         OMAGServerConfig newConfigProperties;
 
         try
         {
             log.debug("Retrieving server configuration properties");
 
-            String configStoreFileContents = FileUtils.readFileToString(configStoreFile, "UTF-8");
-
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            newConfigProperties = objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
+            newConfigProperties = configDocumentCache.readServerConfig(configStoreFile, FileUtils::readFileToByteArray);
         }
         catch (IOException ioException)
         {
@@ -171,6 +186,7 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
     {
         File    configStoreFile = new File(configStoreName);
 
+        configDocumentCache.removeServerConfig(configStoreFile);
         configStoreFile.delete();
     }
 
@@ -192,8 +208,7 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
 
         for (String fileName : fileNames)
         {
-            configStoreName = fileName;
-            OMAGServerConfig config = retrieveServerConfig();
+            OMAGServerConfig config = retrieveServerConfig(fileName);
             omagServerConfigSet.add(config);
         }
 
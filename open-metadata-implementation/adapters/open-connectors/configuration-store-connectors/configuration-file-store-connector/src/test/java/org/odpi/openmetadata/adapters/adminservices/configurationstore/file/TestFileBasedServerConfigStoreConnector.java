@@ -3,12 +3,16 @@
 package org.odpi.openmetadata.adapters.adminservices.configurationstore.file;
 
 import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.SecurityTags;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -76,4 +80,48 @@ public class TestFileBasedServerConfigStoreConnector {
 
     }
 
+    @Test
+    void testSaveAndRetrieveServerConfig() throws Exception {
+        String templateString = Files.createTempDirectory("config-store").toString() + "/{0}/config/{0}.config";
+
+        FileBasedServerConfigStoreConnector connector1 = getConnector(templateString, "server1");
+        FileBasedServerConfigStoreConnector connector2 = getConnector(templateString, "server2");
+
+        assertNull(connector1.retrieveServerConfig());
+
+        OMAGServerConfig serverConfig = new OMAGServerConfig();
+        serverConfig.setLocalServerName("server1");
+        connector1.saveServerConfig(serverConfig);
+        serverConfig.setLocalServerName("server2");
+        connector2.saveServerConfig(serverConfig);
+
+        // each retrieve returns a separate copy of the configuration
+        OMAGServerConfig retrievedConfig = connector1.retrieveServerConfig();
+        assertEquals("server1", retrievedConfig.getLocalServerName());
+        retrievedConfig.setLocalServerName("changed");
+        assertEquals("server1", connector1.retrieveServerConfig().getLocalServerName());
+
+        // retrieving all of the configurations does not change the file used by the connector
+        assertEquals(2, connector1.retrieveAllServerConfigs().size());
+        assertEquals("server1", connector1.retrieveServerConfig().getLocalServerName());
+
+        // a new connector instance sees the saved configuration
+        assertEquals("server2", getConnector(templateString, "server2").retrieveServerConfig().getLocalServerName());
+
+        connector1.removeServerConfig();
+        assertNull(connector1.retrieveServerConfig());
+    }
+
+    private FileBasedServerConfigStoreConnector getConnector(String templateString, String serverName) throws Exception {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress(templateString);
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+
+        FileBasedServerConfigStoreConnector connector = new FileBasedServerConfigStoreConnector();
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+        connector.setServerName(serverName);
+        connector.start();
+        return connector;
+    }
 }
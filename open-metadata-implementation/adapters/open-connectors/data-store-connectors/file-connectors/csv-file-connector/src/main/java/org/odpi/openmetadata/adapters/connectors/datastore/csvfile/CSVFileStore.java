@@ -9,6 +9,7 @@ import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.ffdc.exceptio
 
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * CSVFileStore defines the specific connector api for working with
@@ -74,4 +75,42 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Return the length of the file in bytes.  This is used to divide the file into sections that can be read in parallel.
+     *
+     * @return number of bytes
+     * @throws FileException there is a problem accessing the file
+     */
+    long     getFileLength() throws FileException;
+
+
+    /**
+     * Read every data record in the file in a single pass, passing each one to the record consumer.
+     * The column names line (if present in the file) and empty lines are skipped.
+     *
+     * @param recordConsumer called with the values from each record in turn
+     * @return number of records read
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    long      readRecords(Consumer<List<String>> recordConsumer) throws FileException, FileReadException;
+
+
+    /**
+     * Read the data records that start within a section of the file, passing each one to the record consumer.
+     * A record belongs to the section that contains its first byte, so a file divided into adjacent sections is
+     * read exactly once.  The column names line (if present in the file) and empty lines are skipped.
+     *
+     * @param startPosition byte offset of the start of the section (inclusive)
+     * @param endPosition byte offset of the end of the section (exclusive)
+     * @param recordConsumer called with the values from each record in turn
+     * @return number of records read
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    long      readRecords(long                   startPosition,
+                          long                   endPosition,
+                          Consumer<List<String>> recordConsumer) throws FileException, FileReadException;
 }
@@ -12,9 +12,12 @@ import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.*;
+import java.util.function.Consumer;
 
 
 /**
@@ -29,6 +32,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private char           delimiterChar     = ',';
     private char           quoteChar         = '"';
 
+    private static final int readBufferSize  = 64 * 1024;
+
     /*
      * Variables used for logging and debug.
      */
@@ -220,6 +225,152 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     }
 
 
+    /**
+     * Return the length of the file in bytes.  This is used to divide the file into sections that can be read in parallel.
+     *
+     * @return number of bytes
+     * @throws FileException problem accessing the file
+     */
+    public long     getFileLength() throws FileException
+    {
+        final String  methodName = "getFileLength";
+
+        return getFile(methodName).length();
+    }
+
+
+    /**
+     * Read every data record in the file in a single pass, passing each one to the record consumer.
+     * The column names line (if present in the file) and empty lines are skipped.
+     *
+     * @param recordConsumer called with the values from each record in turn
+     * @return number of records read
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    public long      readRecords(Consumer<List<String>> recordConsumer) throws FileException, FileReadException
+    {
+        return readRecords(0, Long.MAX_VALUE, recordConsumer);
+    }
+
+
+    /**
+     * Read the data records that start within a section of the file, passing each one to the record consumer.
+     * A record belongs to the section that contains its first byte, so a file divided into adjacent sections is
+     * read exactly once.  The column names line (if present in the file) and empty lines are skipped.
+     *
+     * @param startPosition byte offset of the start of the section (inclusive)
+     * @param endPosition byte offset of the end of the section (exclusive)
+     * @param recordConsumer called with the values from each record in turn
+     * @return number of records read
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    public long      readRecords(long                   startPosition,
+                                 long                   endPosition,
+                                 Consumer<List<String>> recordConsumer) throws FileException, FileReadException
+    {
+        final String  methodName = "readRecords";
+
+        File fileStore = super.getFile(methodName);
+
+        long recordCount = 0;
+        long position    = Math.max(startPosition, 0);
+
+        try (FileInputStream fileInputStream = new FileInputStream(fileStore))
+        {
+            FileChannel channel = fileInputStream.getChannel();
+
+            /*
+             * Start from the byte before the section so that a line that starts exactly at the start of the
+             * section is not skipped.
+             */
+            if (position > 0)
+            {
+                position = position - 1;
+                channel.position(position);
+            }
+
+            InputStream           inputStream = new BufferedInputStream(Channels.newInputStream(channel), readBufferSize);
+            ByteArrayOutputStream lineBuffer  = new ByteArrayOutputStream();
+
+            if (startPosition > 0)
+            {
+                /*
+                 * Skip the end of the line that started in the previous section.
+                 */
+                int nextByte;
+
+                while ((nextByte = inputStream.read()) != -1)
+                {
+                    position++;
+
+                    if (nextByte == '\n')
+                    {
+                        break;
+                    }
+                }
+            }
+
+            while (position < endPosition)
+            {
+                long    lineStart = position;
+                boolean endOfFile = false;
+                int     nextByte;
+
+                lineBuffer.reset();
+
+                while (true)
+                {
+                    nextByte = inputStream.read();
+
+                    if (nextByte == -1)
+                    {
+                        endOfFile = true;
+                        break;
+                    }
+
+                    position++;
+
+                    if (nextByte == '\n')
+                    {
+                        break;
+                    }
+
+                    lineBuffer.write(nextByte);
+                }
+
+                if ((lineStart > 0) || (columnNames != null))
+                {
+                    List<String> record = parseRecord(lineBuffer.toString(Charset.defaultCharset().name()));
+
+                    if (record != null)
+                    {
+                        recordConsumer.accept(record);
+                        recordCount++;
+                    }
+                }
+
+                if (endOfFile)
+                {
+                    break;
+                }
+            }
+        }
+        catch (IOException  error)
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                               error.getMessage()),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        error,
+                                        fileStoreName);
+        }
+
+        return recordCount;
+    }
+
+
     /**
      * Return the requested row in the file.  The first record is record 0.
      *
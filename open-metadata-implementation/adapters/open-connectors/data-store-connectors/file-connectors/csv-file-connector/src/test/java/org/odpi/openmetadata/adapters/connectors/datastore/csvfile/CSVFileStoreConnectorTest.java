@@ -206,6 +206,45 @@ public class CSVFileStoreConnectorTest
         }
     }
 
+    @Test public void testStreamingRead()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(resourcesDirectory + complexColumnsWithColumnNamesFile));
+            connector.start();
+
+            List<List<String>> records = new ArrayList<>();
+
+            assertTrue(connector.readRecords(records::add) == connector.getRecordCount());
+
+            for (int i=0; i<records.size(); i++)
+            {
+                assertTrue(records.get(i).equals(connector.readRecord(i)));
+            }
+
+            /*
+             * Read the file in small sections - every record should be read exactly once.
+             */
+            List<List<String>> sectionRecords = new ArrayList<>();
+            long               fileLength     = connector.getFileLength();
+
+            for (long start = 0; start < fileLength; start = start + 17)
+            {
+                connector.readRecords(start, start + 17, sectionRecords::add);
+            }
+
+            assertTrue(records.equals(sectionRecords));
+
+            connector.disconnect();
+        }
+        catch (Exception  error)
+        {
+            assertTrue(false);
+        }
+    }
+
     @Test public void testNullFileName()
     {
         CSVFileStoreConnector connector = new CSVFileStoreConnector();
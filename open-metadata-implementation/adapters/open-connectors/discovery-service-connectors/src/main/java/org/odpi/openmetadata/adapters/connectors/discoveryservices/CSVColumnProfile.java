@@ -0,0 +1,393 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.DataProfileAnnotation;
+
+import java.util.*;
+
+/**
+ * CSVColumnProfile gathers the statistics for one column of a CSV file as its values are streamed past.
+ * The memory used is bounded: exact value counts are kept until the column has more than MAX_EXACT_VALUES
+ * distinct values, after which the distinct count comes from a HyperLogLog sketch and the most frequent values
+ * from a count-min sketch.  Profiles built from different sections of a file can be merged.
+ */
+class CSVColumnProfile
+{
+    static final String STRING_TYPE_NAME  = "string";
+    static final String INT_TYPE_NAME     = "int";
+    static final String LONG_TYPE_NAME    = "long";
+    static final String BOOLEAN_TYPE_NAME = "boolean";
+    static final String FLOAT_TYPE_NAME   = "float";
+
+    static final String VALUE_COUNT_PROPERTY          = "valueCount";
+    static final String NULL_COUNT_PROPERTY           = "nullCount";
+    static final String DISTINCT_VALUE_COUNT_PROPERTY = "distinctValueCount";
+    static final String EXACT_VALUE_COUNTS_FLAG       = "exactValueCounts";
+
+    private static final int MAX_EXACT_VALUES    = 1000;
+    private static final int MAX_FREQUENT_VALUES = 20;
+
+    private long    valueCount     = 0;
+    private long    nullCount      = 0;
+    private int     maxLength      = 0;
+
+    private boolean couldBeBoolean = true;
+    private boolean couldBeInt     = true;
+    private boolean couldBeLong    = true;
+    private boolean couldBeFloat   = true;
+
+    private double  numericMin     = Double.POSITIVE_INFINITY;
+    private double  numericMax     = Double.NEGATIVE_INFINITY;
+    private double  numericTotal   = 0;
+    private String  minValue       = null;
+    private String  maxValue       = null;
+
+    private Map<String, Long>       exactValueCounts       = new HashMap<>();
+    private final HyperLogLog       distinctValues         = new HyperLogLog();
+    private final CountMinSketch    valueFrequencies       = new CountMinSketch();
+    private final Map<String, Long> frequentValues         = new HashMap<>();
+    private long                    frequentValueThreshold = 0;
+
+
+    /**
+     * Add the next value from the column.  Null and empty values are counted as nulls.
+     *
+     * @param value field value
+     */
+    void addValue(String value)
+    {
+        if ((value == null) || (value.isEmpty()))
+        {
+            nullCount++;
+            return;
+        }
+
+        valueCount++;
+        maxLength = Math.max(maxLength, value.length());
+
+        this.inferType(value);
+
+        if ((minValue == null) || (value.compareTo(minValue) < 0))
+        {
+            minValue = value;
+        }
+
+        if ((maxValue == null) || (value.compareTo(maxValue) > 0))
+        {
+            maxValue = value;
+        }
+
+        if (exactValueCounts != null)
+        {
+            exactValueCounts.merge(value, 1L, Long::sum);
+
+            if (exactValueCounts.size() > MAX_EXACT_VALUES)
+            {
+                exactValueCounts = null;
+            }
+        }
+
+        long hash = getHash(value);
+
+        distinctValues.add(hash);
+        valueFrequencies.add(hash);
+
+        this.updateFrequentValue(value, valueFrequencies.estimate(hash));
+    }
+
+
+    /**
+     * Add the statistics from a profile of another section of the same column.
+     *
+     * @param other profile to merge
+     */
+    void merge(CSVColumnProfile other)
+    {
+        valueCount     = valueCount + other.valueCount;
+        nullCount      = nullCount + other.nullCount;
+        maxLength      = Math.max(maxLength, other.maxLength);
+
+        couldBeBoolean = couldBeBoolean && other.couldBeBoolean;
+        couldBeInt     = couldBeInt && other.couldBeInt;
+        couldBeLong    = couldBeLong && other.couldBeLong;
+        couldBeFloat   = couldBeFloat && other.couldBeFloat;
+
+        numericMin     = Math.min(numericMin, other.numericMin);
+        numericMax     = Math.max(numericMax, other.numericMax);
+        numericTotal   = numericTotal + other.numericTotal;
+
+        if ((other.minValue != null) && ((minValue == null) || (other.minValue.compareTo(minValue) < 0)))
+        {
+            minValue = other.minValue;
+        }
+
+        if ((other.maxValue != null) && ((maxValue == null) || (other.maxValue.compareTo(maxValue) > 0)))
+        {
+            maxValue = other.maxValue;
+        }
+
+        if ((exactValueCounts != null) && (other.exactValueCounts != null))
+        {
+            for (Map.Entry<String, Long> entry : other.exactValueCounts.entrySet())
+            {
+                exactValueCounts.merge(entry.getKey(), entry.getValue(), Long::sum);
+            }
+
+            if (exactValueCounts.size() > MAX_EXACT_VALUES)
+            {
+                exactValueCounts = null;
+            }
+        }
+        else
+        {
+            exactValueCounts = null;
+        }
+
+        distinctValues.merge(other.distinctValues);
+        valueFrequencies.merge(other.valueFrequencies);
+
+        /*
+         * Re-estimate all of the candidate frequent values against the merged sketch.
+         */
+        Set<String> candidates = new HashSet<>(frequentValues.keySet());
+
+        candidates.addAll(other.frequentValues.keySet());
+        frequentValues.clear();
+        frequentValueThreshold = 0;
+
+        for (String candidate : candidates)
+        {
+            this.updateFrequentValue(candidate, valueFrequencies.estimate(getHash(candidate)));
+        }
+    }
+
+
+    /**
+     * Return the best guess for the data field type.
+     *
+     * @return type name (or null if the column has no values)
+     */
+    String getInferredDataType()
+    {
+        if (valueCount == 0)
+        {
+            return null;
+        }
+        if (couldBeBoolean)
+        {
+            return BOOLEAN_TYPE_NAME;
+        }
+        if (couldBeInt)
+        {
+            return INT_TYPE_NAME;
+        }
+        if (couldBeLong)
+        {
+            return LONG_TYPE_NAME;
+        }
+        if (couldBeFloat)
+        {
+            return FLOAT_TYPE_NAME;
+        }
+
+        return STRING_TYPE_NAME;
+    }
+
+
+    /**
+     * Fill out a data profile annotation from the statistics.
+     *
+     * @param dataProfile annotation to fill out
+     */
+    void setUpDataProfile(DataProfileAnnotation dataProfile)
+    {
+        String inferredDataType = this.getInferredDataType();
+
+        dataProfile.setInferredDataType(inferredDataType);
+        dataProfile.setLength(maxLength);
+
+        Map<String, Long> profileCounts = new HashMap<>();
+
+        profileCounts.put(VALUE_COUNT_PROPERTY, valueCount);
+        profileCounts.put(NULL_COUNT_PROPERTY, nullCount);
+
+        Map<String, Boolean> profileFlags = new HashMap<>();
+
+        profileFlags.put(EXACT_VALUE_COUNTS_FLAG, exactValueCounts != null);
+
+        dataProfile.setProfileFlags(profileFlags);
+
+        if (exactValueCounts != null)
+        {
+            profileCounts.put(DISTINCT_VALUE_COUNT_PROPERTY, (long)exactValueCounts.size());
+
+            dataProfile.setValueList(new ArrayList<>(exactValueCounts.keySet()));
+            dataProfile.setValueCount(this.getIntegerCounts(exactValueCounts));
+        }
+        else
+        {
+            profileCounts.put(DISTINCT_VALUE_COUNT_PROPERTY, distinctValues.estimate());
+
+            dataProfile.setValueCount(this.getIntegerCounts(frequentValues));
+        }
+
+        dataProfile.setProfileCounts(profileCounts);
+
+        if (valueCount > 0)
+        {
+            if (INT_TYPE_NAME.equals(inferredDataType) || LONG_TYPE_NAME.equals(inferredDataType))
+            {
+                dataProfile.setValueRangeFrom(Long.toString((long)numericMin));
+                dataProfile.setValueRangeTo(Long.toString((long)numericMax));
+                dataProfile.setAverageValue(Double.toString(numericTotal / valueCount));
+            }
+            else if (FLOAT_TYPE_NAME.equals(inferredDataType))
+            {
+                dataProfile.setValueRangeFrom(Double.toString(numericMin));
+                dataProfile.setValueRangeTo(Double.toString(numericMax));
+                dataProfile.setAverageValue(Double.toString(numericTotal / valueCount));
+            }
+            else
+            {
+                dataProfile.setValueRangeFrom(minValue);
+                dataProfile.setValueRangeTo(maxValue);
+            }
+        }
+    }
+
+
+    /**
+     * Narrow down the possible types of the column based on the next value and maintain the numeric statistics.
+     *
+     * @param value non-empty field value
+     */
+    private void inferType(String value)
+    {
+        if (couldBeBoolean)
+        {
+            couldBeBoolean = "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value);
+        }
+
+        if (couldBeFloat)
+        {
+            double  numericValue = 0;
+            boolean parsed       = false;
+
+            if (couldBeLong)
+            {
+                try
+                {
+                    long longValue = Long.parseLong(value);
+
+                    couldBeInt   = couldBeInt && (longValue >= Integer.MIN_VALUE) && (longValue <= Integer.MAX_VALUE);
+                    numericValue = longValue;
+                    parsed       = true;
+                }
+                catch (NumberFormatException notLong)
+                {
+                    couldBeInt  = false;
+                    couldBeLong = false;
+                }
+            }
+
+            if (! parsed)
+            {
+                try
+                {
+                    numericValue = Double.parseDouble(value);
+                    parsed       = true;
+                }
+                catch (NumberFormatException notFloat)
+                {
+                    couldBeFloat = false;
+                }
+            }
+
+            if (parsed)
+            {
+                numericMin   = Math.min(numericMin, numericValue);
+                numericMax   = Math.max(numericMax, numericValue);
+                numericTotal = numericTotal + numericValue;
+            }
+        }
+    }
+
+
+    /**
+     * Keep track of the values with the highest estimated frequencies.
+     *
+     * @param value field value
+     * @param estimate estimated count for the value
+     */
+    private void updateFrequentValue(String value, long estimate)
+    {
+        if (frequentValues.containsKey(value) || (frequentValues.size() < MAX_FREQUENT_VALUES))
+        {
+            frequentValues.put(value, estimate);
+        }
+        else if (estimate > frequentValueThreshold)
+        {
+            String leastFrequentValue = null;
+            long   leastFrequency     = Long.MAX_VALUE;
+
+            for (Map.Entry<String, Long> entry : frequentValues.entrySet())
+            {
+                if (entry.getValue() < leastFrequency)
+                {
+                    leastFrequentValue = entry.getKey();
+                    leastFrequency     = entry.getValue();
+                }
+            }
+
+            if (estimate > leastFrequency)
+            {
+                frequentValues.remove(leastFrequentValue);
+                frequentValues.put(value, estimate);
+            }
+
+            frequentValueThreshold = leastFrequency;
+        }
+    }
+
+
+    /**
+     * Convert counts to the form used in the data profile annotation.
+     *
+     * @param counts map of value to count
+     * @return map of value to count
+     */
+    private Map<String, Integer> getIntegerCounts(Map<String, Long> counts)
+    {
+        Map<String, Integer> integerCounts = new HashMap<>();
+
+        for (Map.Entry<String, Long> entry : counts.entrySet())
+        {
+            integerCounts.put(entry.getKey(), (int)Math.min(entry.getValue(), Integer.MAX_VALUE));
+        }
+
+        return integerCounts;
+    }
+
+
+    /**
+     * Return a well-distributed 64-bit hash of a value (FNV-1a followed by the MurmurHash3 finalizer).
+     *
+     * @param value field value
+     * @return hash
+     */
+    private static long getHash(String value)
+    {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++)
+        {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+
+        return hash ^ (hash >>> 33);
+    }
+}
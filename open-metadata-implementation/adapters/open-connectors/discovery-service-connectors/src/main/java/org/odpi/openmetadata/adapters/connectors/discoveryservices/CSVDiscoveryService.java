@@ -4,130 +4,201 @@ package org.odpi.openmetadata.adapters.connectors.discoveryservices;
 
 import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStoreConnector;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationWriter;
 import org.odpi.openmetadata.frameworks.discovery.properties.*;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
 
 
 /**
  * CSVDiscoveryService is a discovery service implementation for analysing CSV Files to
- * discovery columns and profile the data in them.
+ * discovery columns and profile the data in them.  The file is read once.  Large files are divided into
+ * sections that are profiled in parallel and the results merged.  The memory used for each column is bounded
+ * since distinct counts and frequent values are estimated with sketches once a column has many distinct values.
  */
 public class CSVDiscoveryService extends AuditableDiscoveryService
 {
-    private final static String STRING_TYPE_NAME  = "string";
-    private final static String CHAR_TYPE_NAME    = "char";
-    private final static String DATE_TYPE_NAME    = "date";
-    private final static String INT_TYPE_NAME     = "int";
-    private final static String LONG_TYPE_NAME    = "long";
-    private final static String BOOLEAN_TYPE_NAME = "boolean";
-    private final static String FLOAT_TYPE_NAME   = "float";
-    private final static String BOOLEAN_UC_TRUE   = "TRUE";
-    private final static String BOOLEAN_LC_TRUE   = "true";
-    private final static String BOOLEAN_UC_FALSE  = "FALSE";
-    private final static String BOOLEAN_LC_FALSE  = "false";
+    static final String UNNAMED_COLUMN_PREFIX = "Column";
 
+    private int  profileThreadCount  = CSVDiscoveryServiceProvider.DEFAULT_PROFILE_THREAD_COUNT;
+    private long parallelSectionSize = CSVDiscoveryServiceProvider.DEFAULT_PARALLEL_SECTION_SIZE;
+    private int  annotationBatchSize = DiscoveryAnnotationWriter.DEFAULT_BATCH_SIZE;
 
 
     /**
-     * Return the best guess for the data field type.
+     * Initialize the connector.
      *
-     * @param existingType current type guess
-     * @param newFieldValue next field value to process
-     * @return new best guess
+     * @param connectorInstanceId - unique id for the connector instance - useful for messages etc
+     * @param connectionProperties - POJO for the configuration used to create the connector.
      */
-    private String getDataFieldType(String  existingType, String newFieldValue)
+    @Override
+    public void initialize(String               connectorInstanceId,
+                           ConnectionProperties connectionProperties)
     {
-        if (STRING_TYPE_NAME.equals(existingType))
-        {
-            return STRING_TYPE_NAME;
-        }
+        super.initialize(connectorInstanceId, connectionProperties);
 
-        if (newFieldValue == null)
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        /*
+         * Retrieve the configuration properties from the Connection object.
+         */
+        if (configurationProperties != null)
         {
-            return existingType;
+            profileThreadCount = (int)this.getNumberProperty(configurationProperties,
+                                                             CSVDiscoveryServiceProvider.PROFILE_THREAD_COUNT_PROPERTY,
+                                                             profileThreadCount);
+            parallelSectionSize = this.getNumberProperty(configurationProperties,
+                                                         CSVDiscoveryServiceProvider.PARALLEL_SECTION_SIZE_PROPERTY,
+                                                         parallelSectionSize);
+            annotationBatchSize = (int)this.getNumberProperty(configurationProperties,
+                                                              CSVDiscoveryServiceProvider.ANNOTATION_BATCH_SIZE_PROPERTY,
+                                                              annotationBatchSize);
         }
 
-        if ((BOOLEAN_LC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_LC_FALSE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_FALSE.equals(newFieldValue)))
+        profileThreadCount  = Math.max(profileThreadCount, 1);
+        parallelSectionSize = Math.max(parallelSectionSize, 1);
+    }
+
+
+    /**
+     * Return a numeric configuration property.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is missing or not a number
+     * @return value
+     */
+    private long getNumberProperty(Map<String, Object> configurationProperties,
+                                   String              propertyName,
+                                   long                defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
 
+        if (propertyValue != null)
         {
-            if ((existingType == null) || (existingType.equals(BOOLEAN_TYPE_NAME)))
+            try
             {
-                return BOOLEAN_TYPE_NAME;
+                return Long.parseLong(propertyValue.toString());
             }
-            else
+            catch (NumberFormatException error)
             {
-                return STRING_TYPE_NAME;
+                return defaultValue;
             }
         }
-        return STRING_TYPE_NAME;
+
+        return defaultValue;
     }
 
 
     /**
-     * Return the updated value count for this column.
+     * Return the names for the data fields.  There is one data field for each column so that the position of each
+     * data field matches the position of the values it is profiled from.  A column without a name is given a
+     * placeholder name made from its position.
      *
-     * @param existingValueCount current value count
-     * @param newFieldValue next field value to process
-     * @return new value count
+     * @param columnNames column names from the file
+     * @return data field names
      */
-    private Map<String, Integer> getValueCount(Map<String, Integer> existingValueCount, String newFieldValue)
+    static List<String> getDataFieldNames(List<String> columnNames)
     {
-        if (existingValueCount == null)
-        {
-            Map<String, Integer> newValueCount = new HashMap<>();
-
-            newValueCount.put(newFieldValue, 1);
-
-            return newValueCount;
-        }
-
-        Integer   countForValue = existingValueCount.get(newFieldValue);
+        List<String> dataFieldNames = new ArrayList<>();
 
-        if (countForValue == null)
+        for (int position = 0; position < columnNames.size(); position++)
         {
-            existingValueCount.put(newFieldValue, 1);
-        }
-        else
-        {
-            existingValueCount.put(newFieldValue, countForValue + 1);
+            String columnName = columnNames.get(position);
+
+            if (columnName == null)
+            {
+                dataFieldNames.add(UNNAMED_COLUMN_PREFIX + position);
+            }
+            else
+            {
+                dataFieldNames.add(columnName);
+            }
         }
 
-        return existingValueCount;
+        return dataFieldNames;
     }
 
 
     /**
-     * Return the updated value list.
+     * Profile the records in the file.  If the file is larger than the parallel section size, it is divided into
+     * one section per thread and the sections are profiled at the same time.
      *
-     * @param existingValueList existing value list
-     * @param newFieldValue next field value to process
-     * @return updated value list
+     * @param assetConnector connector to the file
+     * @param columnCount number of columns
+     * @param fileLength length of the file in bytes
+     * @return profile for the whole file
+     * @throws Exception problem reading the file
      */
-    private List<String> getValueList(List<String> existingValueList, String newFieldValue)
+    private CSVFileProfile profileFile(CSVFileStoreConnector assetConnector,
+                                       int                   columnCount,
+                                       long                  fileLength) throws Exception
     {
-        if (existingValueList == null)
+        long sectionCount = Math.min(profileThreadCount, (fileLength + parallelSectionSize - 1) / parallelSectionSize);
+
+        if (sectionCount <= 1)
         {
-            List<String> newValueList = new ArrayList<>();
+            CSVFileProfile fileProfile = new CSVFileProfile(columnCount);
 
-            newValueList.add(newFieldValue);
+            assetConnector.readRecords(fileProfile::addRecord);
 
-            return newValueList;
+            return fileProfile;
         }
 
-        if (! existingValueList.contains(newFieldValue))
+        ExecutorService executorService = Executors.newFixedThreadPool((int)sectionCount,
+                                                                        runnable -> new Thread(runnable, "CSV Discovery Service: " + discoveryServiceName));
+
+        try
         {
-            existingValueList.add(newFieldValue);
-        }
+            List<Future<CSVFileProfile>> sectionProfiles = new ArrayList<>();
+            long                         sectionSize     = (fileLength + sectionCount - 1) / sectionCount;
+
+            for (long startPosition = 0; startPosition < fileLength; startPosition = startPosition + sectionSize)
+            {
+                final long sectionStart = startPosition;
+                final long sectionEnd   = Math.min(startPosition + sectionSize, fileLength);
 
-        return existingValueList;
+                sectionProfiles.add(executorService.submit(() ->
+                {
+                    CSVFileProfile sectionProfile = new CSVFileProfile(columnCount);
+
+                    assetConnector.readRecords(sectionStart, sectionEnd, sectionProfile::addRecord);
+
+                    return sectionProfile;
+                }));
+            }
+
+            CSVFileProfile fileProfile = new CSVFileProfile(columnCount);
+
+            for (Future<CSVFileProfile> sectionProfile : sectionProfiles)
+            {
+                try
+                {
+                    fileProfile.merge(sectionProfile.get());
+                }
+                catch (ExecutionException error)
+                {
+                    if (error.getCause() instanceof Exception)
+                    {
+                        throw (Exception)error.getCause();
+                    }
+
+                    throw error;
+                }
+            }
+
+            return fileProfile;
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
     }
 
 
@@ -145,13 +216,13 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
         try
         {
-            CSVFileStoreConnector    assetConnector  = (CSVFileStoreConnector)discoveryContext.getAssetStore().getConnectorToAsset();
-            DiscoveryAnnotationStore annotationStore = discoveryContext.getAnnotationStore();
-            int                      size            = 0;
-            int                      delimiterCount  = 0;
-            long                     recordCount     = assetConnector.getRecordCount();
+            CSVFileStoreConnector     assetConnector   = (CSVFileStoreConnector)discoveryContext.getAssetStore().getConnectorToAsset();
+            DiscoveryAnnotationStore  annotationStore  = discoveryContext.getAnnotationStore();
+            DiscoveryAnnotationWriter annotationWriter = new DiscoveryAnnotationWriter(annotationStore, annotationBatchSize);
+            long                      fileLength       = assetConnector.getFileLength();
+            long                      recordCount      = 0;
 
-            SchemaAnalysisAnnotation  schemaAnnotation      = new SchemaAnalysisAnnotation();
+            SchemaAnalysisAnnotation  schemaAnnotation = new SchemaAnalysisAnnotation();
 
             schemaAnnotation.setSchemaName("CSV");
             schemaAnnotation.setSchemaTypeName("TabularSchemaType");
@@ -159,74 +230,47 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
             String schemaAnnotationGUID = annotationStore.addAnnotationToDiscoveryReport(schemaAnnotation);
 
-            List<String>                        columnNames = assetConnector.getColumnNames();
-            Map<Integer, DataField>             dataFields  = new HashMap<>();
-            Map<Integer, DataProfileAnnotation> dataProfiles  = new HashMap<>();
+            List<String> columnNames = assetConnector.getColumnNames();
 
             if (columnNames != null)
             {
-                int position = 0;
+                List<String>   dataFieldNames = getDataFieldNames(columnNames);
+                CSVFileProfile fileProfile = this.profileFile(assetConnector, dataFieldNames.size(), fileLength);
 
-                for (String  columnName : columnNames)
-                {
-                    if (columnName != null)
-                    {
-                        DataField  dataField = new DataField();
+                recordCount = fileProfile.getRecordCount();
 
-                        dataField.setDataFieldPosition(position);
-                        dataField.setDataFieldName(columnName);
-                        dataFields.put(position, dataField);
+                /*
+                 * The data fields are written first since their unique identifiers are needed to attach the profiles.
+                 * The writer only returns the unique identifiers from flush().
+                 */
+                int[] dataFieldGUIDPositions = new int[dataFieldNames.size()];
 
-                        DataProfileAnnotation dataProfile = new DataProfileAnnotation();
+                for (int position = 0; position < dataFieldNames.size(); position++)
+                {
+                    DataField dataField = new DataField();
 
-                        dataProfiles.put(position, dataProfile);
+                    dataField.setDataFieldPosition(position);
+                    dataField.setDataFieldName(dataFieldNames.get(position));
+                    dataField.setDataFieldType(fileProfile.getColumnProfile(position).getInferredDataType());
 
-                        size = size + columnName.length();
-                        position++;
-                    }
-                }
-
-                if (position > 0)
-                {
-                    delimiterCount = position - 1;
+                    dataFieldGUIDPositions[position] = annotationWriter.addDataFieldToDiscoveryReport(schemaAnnotationGUID, dataField);
                 }
 
-                size = size + delimiterCount;
+                List<String> dataFieldGUIDs = annotationWriter.flush();
 
-                for (int recordNumber=0; recordNumber < recordCount ; recordNumber++)
+                for (int position = 0; position < dataFieldNames.size(); position++)
                 {
-                    List<String>  recordValues = assetConnector.readRecord(recordNumber);
+                    String dataFieldGUID = dataFieldGUIDs.get(dataFieldGUIDPositions[position]);
 
-                    if ((recordValues != null) && (! recordValues.isEmpty()))
+                    if (dataFieldGUID != null)
                     {
-                        int columnPosition = 0;
-                        int recordLength = 0;
-
-                        for (String fieldValue : recordValues)
-                        {
-                            DataField             dataField   = dataFields.get(columnPosition);
-                            DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
-
-                            dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
-
-                            dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
-                            dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
-
-                            recordLength = recordLength + fieldValue.length();
+                        DataProfileAnnotation dataProfile = new DataProfileAnnotation();
 
-                            columnPosition++;
-                        }
+                        fileProfile.getColumnProfile(position).setUpDataProfile(dataProfile);
 
-                        size = size + recordLength + delimiterCount;
+                        annotationWriter.addAnnotationToDataField(dataFieldGUID, dataProfile);
                     }
                 }
-
-                for (int columnNumber=0 ; columnNumber < columnNames.size(); columnNumber++)
-                {
-                    String  dataFieldGUID = annotationStore.addDataFieldToDiscoveryReport(schemaAnnotationGUID, dataFields.get(columnNumber));
-
-                    annotationStore.addAnnotationToDataField(dataFieldGUID, dataProfiles.get(columnNumber));
-                }
             }
 
             DataSourcePhysicalStatusAnnotation measurementAnnotation = new DataSourcePhysicalStatusAnnotation();
@@ -237,14 +281,20 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
             measurementAnnotation.setModifiedTime(assetConnector.getLastUpdateDate());
             measurementAnnotation.setDataSourceProperties(measurementProperties);
-            measurementAnnotation.setSize(size);
+            measurementAnnotation.setSize((int)Math.min(fileLength, Integer.MAX_VALUE));
 
-            annotationStore.addAnnotationToDiscoveryReport(measurementAnnotation);
+            annotationWriter.addAnnotationToDiscoveryReport(measurementAnnotation);
+            annotationWriter.flush();
         }
         catch (ConnectorCheckedException error)
         {
             throw error;
         }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            super.handleUnexpectedException(methodName, error);
+        }
         catch (Exception error)
         {
             super.handleUnexpectedException(methodName, error);
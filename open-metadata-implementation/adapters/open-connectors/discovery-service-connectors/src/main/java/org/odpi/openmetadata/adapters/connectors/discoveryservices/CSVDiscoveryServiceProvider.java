@@ -5,6 +5,9 @@ package org.odpi.openmetadata.adapters.connectors.discoveryservices;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * CSVDiscoveryServiceProvider provides the connector provider for the CSV Discovery Service
  */
@@ -14,6 +17,13 @@ public class CSVDiscoveryServiceProvider extends DiscoveryServiceProvider
     static final String  connectorTypeName = "CSV Discovery Service Connector";
     static final String  connectorTypeDescription = "Connector supports the discovery of metadata about a CSV file.";
 
+    static final String  PROFILE_THREAD_COUNT_PROPERTY  = "profileThreadCount";
+    static final String  PARALLEL_SECTION_SIZE_PROPERTY = "parallelSectionSize";
+    static final String  ANNOTATION_BATCH_SIZE_PROPERTY = "annotationBatchSize";
+
+    static final int     DEFAULT_PROFILE_THREAD_COUNT  = 4;
+    static final long    DEFAULT_PARALLEL_SECTION_SIZE = 64L * 1024 * 1024;
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -34,6 +44,13 @@ public class CSVDiscoveryServiceProvider extends DiscoveryServiceProvider
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(PROFILE_THREAD_COUNT_PROPERTY);
+        recognizedConfigurationProperties.add(PARALLEL_SECTION_SIZE_PROPERTY);
+        recognizedConfigurationProperties.add(ANNOTATION_BATCH_SIZE_PROPERTY);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
@@ -0,0 +1,93 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import java.util.List;
+
+/**
+ * CSVFileProfile holds the column profiles for the records read from a CSV file (or a section of it).
+ * Values beyond the last named column are ignored.
+ */
+class CSVFileProfile
+{
+    private final CSVColumnProfile[] columnProfiles;
+    private long                     recordCount = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param columnCount number of columns in the file
+     */
+    CSVFileProfile(int columnCount)
+    {
+        columnProfiles = new CSVColumnProfile[columnCount];
+
+        for (int i = 0; i < columnCount; i++)
+        {
+            columnProfiles[i] = new CSVColumnProfile();
+        }
+    }
+
+
+    /**
+     * Add the values from the next record.
+     *
+     * @param record field values
+     */
+    void addRecord(List<String> record)
+    {
+        recordCount++;
+
+        for (int i = 0; i < columnProfiles.length; i++)
+        {
+            if (i < record.size())
+            {
+                columnProfiles[i].addValue(record.get(i));
+            }
+            else
+            {
+                columnProfiles[i].addValue(null);
+            }
+        }
+    }
+
+
+    /**
+     * Add the statistics from a profile of another section of the same file.
+     *
+     * @param other profile to merge
+     */
+    void merge(CSVFileProfile other)
+    {
+        recordCount = recordCount + other.recordCount;
+
+        for (int i = 0; i < columnProfiles.length; i++)
+        {
+            columnProfiles[i].merge(other.columnProfiles[i]);
+        }
+    }
+
+
+    /**
+     * Return the number of records profiled.
+     *
+     * @return count
+     */
+    long getRecordCount()
+    {
+        return recordCount;
+    }
+
+
+    /**
+     * Return the profile for a column.
+     *
+     * @param columnPosition position of the column (starting at 0)
+     * @return column profile
+     */
+    CSVColumnProfile getColumnProfile(int columnPosition)
+    {
+        return columnProfiles[columnPosition];
+    }
+}
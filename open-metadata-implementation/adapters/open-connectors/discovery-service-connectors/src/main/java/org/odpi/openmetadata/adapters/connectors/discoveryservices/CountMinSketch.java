@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+/**
+ * CountMinSketch estimates how often each value occurs in a column using a fixed amount of memory.
+ * Estimates are never too low and are only too high when other values share the same counters.
+ * Two sketches built from different parts of the same file can be merged.
+ */
+class CountMinSketch
+{
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 512;
+
+    private final long[][] counters = new long[DEPTH][WIDTH];
+
+
+    /**
+     * Record an occurrence of a value.
+     *
+     * @param hash 64-bit hash of the value
+     */
+    void add(long hash)
+    {
+        for (int row = 0; row < DEPTH; row++)
+        {
+            counters[row][this.getColumn(hash, row)]++;
+        }
+    }
+
+
+    /**
+     * Return the estimated number of times a value has been recorded.
+     *
+     * @param hash 64-bit hash of the value
+     * @return estimated count
+     */
+    long estimate(long hash)
+    {
+        long estimate = Long.MAX_VALUE;
+
+        for (int row = 0; row < DEPTH; row++)
+        {
+            estimate = Math.min(estimate, counters[row][this.getColumn(hash, row)]);
+        }
+
+        return estimate;
+    }
+
+
+    /**
+     * Add the occurrences recorded in another sketch to this one.
+     *
+     * @param other sketch to merge
+     */
+    void merge(CountMinSketch other)
+    {
+        for (int row = 0; row < DEPTH; row++)
+        {
+            for (int column = 0; column < WIDTH; column++)
+            {
+                counters[row][column] = counters[row][column] + other.counters[row][column];
+            }
+        }
+    }
+
+
+    /**
+     * Derive the counter to use in a row from the two halves of the hash.
+     *
+     * @param hash 64-bit hash of the value
+     * @param row row of counters
+     * @return column of the counter
+     */
+    private int getColumn(long hash, int row)
+    {
+        int combinedHash = (int)hash + row * (int)(hash >>> 32);
+
+        return (combinedHash & Integer.MAX_VALUE) % WIDTH;
+    }
+}
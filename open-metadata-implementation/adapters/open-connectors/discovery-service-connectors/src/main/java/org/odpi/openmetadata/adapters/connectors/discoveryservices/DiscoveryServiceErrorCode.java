@@ -36,6 +36,18 @@ public enum DiscoveryServiceErrorCode implements ExceptionMessageSet
                                "a discovery request type that is compatible with the asset, or changing the discovery service " +
                                "associated with the discovery request type to one that supports this type of asset."),
 
+    UNKNOWN_DEPENDENCY(400, "OMAG-DISCOVERY-SERVICE-400-002 ",
+             "Discovery service {0} in discovery pipeline {1} depends on discovery service {2} which is not one of the pipeline's embedded discovery services",
+             "The discovery pipeline terminates without running any of its embedded discovery services.",
+             "Correct the serviceDependencies configuration property in the discovery pipeline's connection so that it only " +
+                               "names embedded discovery services.  Discovery services are named using the qualified name (or display name) " +
+                               "of their connection."),
+
+    CIRCULAR_DEPENDENCY(400, "OMAG-DISCOVERY-SERVICE-400-003 ",
+             "The dependencies between the discovery services in discovery pipeline {0} form a loop that includes discovery services {1}",
+             "The discovery pipeline terminates without running any of its embedded discovery services.",
+             "Correct the serviceDependencies configuration property in the discovery pipeline's connection to remove the loop."),
+
     NO_ASSET(500, "OMAG-DISCOVERY-SERVICE-500-001 ",
             "No information about the asset {0} has been returned from the asset store for discovery service {1}.",
             "The discovery service terminates without running any automated metadata discovery function.",
@@ -45,6 +57,16 @@ public enum DiscoveryServiceErrorCode implements ExceptionMessageSet
              "No type name is available for the asset passed to discovery service {0}.  The full asset contents are: {1}.",
              "The discovery service terminates without running any automated metadata discovery function.",
              "This is an unexpected condition because if the metadata server was unavailable, an exception would have been caught."),
+
+    DISCOVERY_SERVICE_FAILED(500, "OMAG-DISCOVERY-SERVICE-500-003 ",
+             "Discovery service {0} in discovery pipeline {1} failed with exception {2} and message {3}",
+             "The discovery pipeline waits for its running discovery services to complete and then terminates without starting any more.",
+             "Use the exception information to correct the problem in the discovery service and then retry the discovery request."),
+
+    PIPELINE_INTERRUPTED(500, "OMAG-DISCOVERY-SERVICE-500-004 ",
+             "Discovery pipeline {0} was interrupted while waiting for its discovery services to complete",
+             "The discovery pipeline stops its discovery services and terminates.",
+             "This is typically caused by the discovery engine shutting down.  Retry the discovery request once the discovery engine has restarted."),
         ;
 
 
@@ -0,0 +1,86 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+/**
+ * HyperLogLog estimates the number of distinct values in a column using a fixed amount of memory
+ * (4096 one-byte registers, giving a typical error of around 1.6%).  Two sketches built from different parts
+ * of the same file can be merged to give the estimate for the whole file.
+ */
+class HyperLogLog
+{
+    private static final int PRECISION      = 12;
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private final byte[] registers = new byte[REGISTER_COUNT];
+
+
+    /**
+     * Record a value.
+     *
+     * @param hash 64-bit hash of the value
+     */
+    void add(long hash)
+    {
+        int  index     = (int)(hash >>> (Long.SIZE - PRECISION));
+        long remaining = (hash << PRECISION) | (1L << (PRECISION - 1));
+        byte rank      = (byte)(Long.numberOfLeadingZeros(remaining) + 1);
+
+        if (rank > registers[index])
+        {
+            registers[index] = rank;
+        }
+    }
+
+
+    /**
+     * Add the values recorded in another sketch to this one.
+     *
+     * @param other sketch to merge
+     */
+    void merge(HyperLogLog other)
+    {
+        for (int i = 0; i < REGISTER_COUNT; i++)
+        {
+            if (other.registers[i] > registers[i])
+            {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+
+    /**
+     * Return the estimated number of distinct values.
+     *
+     * @return estimate
+     */
+    long estimate()
+    {
+        double sum   = 0;
+        int    zeros = 0;
+
+        for (byte register : registers)
+        {
+            sum = sum + 1.0 / (1L << register);
+
+            if (register == 0)
+            {
+                zeros++;
+            }
+        }
+
+        double alpha    = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+        double estimate = alpha * REGISTER_COUNT * REGISTER_COUNT / sum;
+
+        /*
+         * Use linear counting for small cardinalities where the raw estimate is biased.
+         */
+        if ((estimate <= 2.5 * REGISTER_COUNT) && (zeros > 0))
+        {
+            estimate = REGISTER_COUNT * Math.log((double)REGISTER_COUNT / zeros);
+        }
+
+        return Math.round(estimate);
+    }
+}
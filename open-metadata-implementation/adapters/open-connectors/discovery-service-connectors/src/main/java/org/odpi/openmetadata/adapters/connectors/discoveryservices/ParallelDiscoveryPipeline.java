@@ -0,0 +1,415 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryPipeline;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * ParallelDiscoveryPipeline is a discovery pipeline that runs its embedded discovery services concurrently.
+ * The dependencies between the discovery services are declared in the serviceDependencies configuration property.
+ * This is a map from the name of a discovery service to the list of names of the discovery services that must
+ * complete before it starts.  Discovery services are named by the qualified name of their connection
+ * (or the display name if there is no qualified name).  Discovery services with no dependencies start straight away.
+ * The number of discovery services running at the same time is limited by the maxConcurrentServices configuration property.
+ * <p>
+ * If a discovery service fails, no more discovery services are started.  The pipeline waits for the running services to
+ * complete and then throws the exception from the first failure.
+ * <p>
+ * The threads are owned by the pipeline and reused on each run.  They are released when the pipeline is disconnected.
+ */
+public class ParallelDiscoveryPipeline extends DiscoveryPipeline
+{
+    private int                       maxConcurrentServices = ParallelDiscoveryPipelineProvider.DEFAULT_MAX_CONCURRENT_SERVICES;
+    private Map<String, List<String>> serviceDependencies   = new HashMap<>();
+    private ExecutorService           executorService       = null;
+
+
+    /**
+     * Initialize the connector.
+     *
+     * @param connectorInstanceId - unique id for the connector instance - useful for messages etc
+     * @param connectionProperties - POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String               connectorInstanceId,
+                           ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        /*
+         * Retrieve the configuration properties from the Connection object.
+         */
+        if (configurationProperties != null)
+        {
+            Object maxConcurrentServicesOption = configurationProperties.get(ParallelDiscoveryPipelineProvider.MAX_CONCURRENT_SERVICES_PROPERTY);
+
+            if (maxConcurrentServicesOption != null)
+            {
+                try
+                {
+                    maxConcurrentServices = Integer.parseInt(maxConcurrentServicesOption.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    maxConcurrentServices = ParallelDiscoveryPipelineProvider.DEFAULT_MAX_CONCURRENT_SERVICES;
+                }
+            }
+
+            Object serviceDependenciesOption = configurationProperties.get(ParallelDiscoveryPipelineProvider.SERVICE_DEPENDENCIES_PROPERTY);
+
+            if (serviceDependenciesOption instanceof Map)
+            {
+                for (Map.Entry<?, ?> dependency : ((Map<?, ?>)serviceDependenciesOption).entrySet())
+                {
+                    if (dependency.getKey() != null)
+                    {
+                        serviceDependencies.put(dependency.getKey().toString(), this.getServiceNames(dependency.getValue()));
+                    }
+                }
+            }
+        }
+
+        if (maxConcurrentServices < 1)
+        {
+            maxConcurrentServices = 1;
+        }
+    }
+
+
+    /**
+     * Convert the value from the dependency map into a list of discovery service names.  It may be a list or a
+     * comma separated string.
+     *
+     * @param value value from the configuration properties
+     * @return list of names
+     */
+    private List<String> getServiceNames(Object value)
+    {
+        List<String> serviceNames = new ArrayList<>();
+
+        if (value instanceof Collection)
+        {
+            for (Object serviceName : (Collection<?>)value)
+            {
+                if (serviceName != null)
+                {
+                    serviceNames.add(serviceName.toString().trim());
+                }
+            }
+        }
+        else if (value != null)
+        {
+            for (String serviceName : value.toString().split(","))
+            {
+                if (! serviceName.trim().isEmpty())
+                {
+                    serviceNames.add(serviceName.trim());
+                }
+            }
+        }
+
+        return serviceNames;
+    }
+
+
+    /**
+     * Return the name used for an embedded discovery service in the dependency map.
+     *
+     * @param embeddedDiscoveryService discovery service
+     * @return name
+     */
+    private String getServiceName(DiscoveryService embeddedDiscoveryService)
+    {
+        ConnectionProperties connection = embeddedDiscoveryService.getConnection();
+
+        if (connection != null)
+        {
+            if (connection.getQualifiedName() != null)
+            {
+                return connection.getQualifiedName();
+            }
+
+            if (connection.getDisplayName() != null)
+            {
+                return connection.getDisplayName();
+            }
+        }
+
+        return embeddedDiscoveryService.getConnectorInstanceId();
+    }
+
+
+    /**
+     * Run the embedded discovery services concurrently, starting each one once the discovery services it depends on have completed.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    @Override
+    protected void runDiscoveryPipeline() throws ConnectorCheckedException
+    {
+        final String methodName = "runDiscoveryPipeline";
+
+        /*
+         * Name each discovery service.  If two discovery services have the same name, the second is known by its
+         * connector instance id.
+         */
+        Map<String, DiscoveryService> discoveryServices = new LinkedHashMap<>();
+
+        for (DiscoveryService embeddedDiscoveryService : super.embeddedDiscoveryServices)
+        {
+            if (embeddedDiscoveryService != null)
+            {
+                String serviceName = this.getServiceName(embeddedDiscoveryService);
+
+                if (discoveryServices.containsKey(serviceName))
+                {
+                    serviceName = embeddedDiscoveryService.getConnectorInstanceId();
+                }
+
+                discoveryServices.put(serviceName, embeddedDiscoveryService);
+            }
+        }
+
+        Map<String, List<String>> dependencies = this.getDependencies(discoveryServices.keySet(), methodName);
+
+        CompletionService<String>  completionService = new ExecutorCompletionService<>(this.getExecutorService());
+        List<Future<String>>       submittedServices = new ArrayList<>();
+        Set<String>                waitingServices   = new LinkedHashSet<>(discoveryServices.keySet());
+        Set<String>                completedServices = new HashSet<>();
+        int                        runningServices   = 0;
+        ConnectorCheckedException  firstFailure      = null;
+
+        try
+        {
+            while (true)
+            {
+                /*
+                 * Start the discovery services whose dependencies are complete.
+                 */
+                if (firstFailure == null)
+                {
+                    Iterator<String> waitingIterator = waitingServices.iterator();
+
+                    while (waitingIterator.hasNext())
+                    {
+                        String serviceName = waitingIterator.next();
+
+                        if (completedServices.containsAll(dependencies.get(serviceName)))
+                        {
+                            DiscoveryService discoveryService = discoveryServices.get(serviceName);
+
+                            waitingIterator.remove();
+                            submittedServices.add(completionService.submit(() -> this.runDiscoveryService(serviceName, discoveryService, methodName)));
+                            runningServices ++;
+                        }
+                    }
+                }
+
+                if (runningServices == 0)
+                {
+                    break;
+                }
+
+                Future<String> completedService = completionService.take();
+                runningServices --;
+
+                try
+                {
+                    completedServices.add(completedService.get());
+                }
+                catch (ExecutionException error)
+                {
+                    if (firstFailure == null)
+                    {
+                        firstFailure = this.getFailure(null, error.getCause(), methodName);
+                    }
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            for (Future<String> submittedService : submittedServices)
+            {
+                submittedService.cancel(true);
+            }
+
+            throw new ConnectorCheckedException(DiscoveryServiceErrorCode.PIPELINE_INTERRUPTED.getMessageDefinition(discoveryServiceName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+
+        if (firstFailure != null)
+        {
+            throw firstFailure;
+        }
+    }
+
+
+    /**
+     * Return the pipeline's thread pool, creating it on first use or after the pipeline has been disconnected.
+     *
+     * @return thread pool sized by maxConcurrentServices
+     */
+    private synchronized ExecutorService getExecutorService()
+    {
+        if (executorService == null)
+        {
+            executorService = Executors.newFixedThreadPool(maxConcurrentServices,
+                                                           runnable ->
+                                                           {
+                                                               Thread thread = new Thread(runnable, "Discovery Pipeline: " + discoveryServiceName);
+
+                                                               thread.setDaemon(true);
+                                                               return thread;
+                                                           });
+        }
+
+        return executorService;
+    }
+
+
+    /**
+     * Release the pipeline's threads.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        synchronized (this)
+        {
+            if (executorService != null)
+            {
+                executorService.shutdown();
+                executorService = null;
+            }
+        }
+
+        super.disconnect();
+    }
+
+
+    /**
+     * Run one of the embedded discovery services.  This is called on one of the pipeline's threads.
+     *
+     * @param serviceName name of the discovery service
+     * @param discoveryService discovery service to run
+     * @param methodName calling method
+     * @return name of the discovery service
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    private String runDiscoveryService(String           serviceName,
+                                       DiscoveryService discoveryService,
+                                       String           methodName) throws ConnectorCheckedException
+    {
+        try
+        {
+            super.runConcurrentDiscoveryService(discoveryService);
+        }
+        catch (RuntimeException error)
+        {
+            throw this.getFailure(serviceName, error, methodName);
+        }
+
+        return serviceName;
+    }
+
+
+    /**
+     * Return the dependencies of each discovery service, checking that they only refer to embedded discovery services
+     * and that there are no loops.
+     *
+     * @param serviceNames names of the embedded discovery services
+     * @param methodName calling method
+     * @return map of discovery service name to the names of the discovery services it depends on
+     * @throws ConnectorCheckedException the dependencies are invalid
+     */
+    private Map<String, List<String>> getDependencies(Set<String> serviceNames,
+                                                      String      methodName) throws ConnectorCheckedException
+    {
+        Map<String, List<String>> dependencies = new HashMap<>();
+
+        for (String serviceName : serviceNames)
+        {
+            List<String> serviceDependencyNames = serviceDependencies.get(serviceName);
+
+            if (serviceDependencyNames == null)
+            {
+                serviceDependencyNames = new ArrayList<>();
+            }
+
+            for (String serviceDependencyName : serviceDependencyNames)
+            {
+                if (! serviceNames.contains(serviceDependencyName))
+                {
+                    throw new ConnectorCheckedException(DiscoveryServiceErrorCode.UNKNOWN_DEPENDENCY.getMessageDefinition(serviceName,
+                                                                                                                          discoveryServiceName,
+                                                                                                                          serviceDependencyName),
+                                                        this.getClass().getName(),
+                                                        methodName);
+                }
+            }
+
+            dependencies.put(serviceName, serviceDependencyNames);
+        }
+
+        /*
+         * Repeatedly remove the discovery services whose dependencies have all been removed.  Anything left is part of a loop.
+         */
+        Set<String> remainingServices = new LinkedHashSet<>(serviceNames);
+        boolean     progress          = true;
+
+        while (progress)
+        {
+            progress = remainingServices.removeIf(serviceName -> Collections.disjoint(dependencies.get(serviceName), remainingServices));
+        }
+
+        if (! remainingServices.isEmpty())
+        {
+            throw new ConnectorCheckedException(DiscoveryServiceErrorCode.CIRCULAR_DEPENDENCY.getMessageDefinition(discoveryServiceName,
+                                                                                                                   remainingServices.toString()),
+                                                this.getClass().getName(),
+                                                methodName);
+        }
+
+        return dependencies;
+    }
+
+
+    /**
+     * Convert the exception from a discovery service into the exception thrown by the pipeline.
+     *
+     * @param serviceName name of the failing discovery service (if known)
+     * @param error exception from the discovery service
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private ConnectorCheckedException getFailure(String    serviceName,
+                                                 Throwable error,
+                                                 String    methodName)
+    {
+        if (error instanceof ConnectorCheckedException)
+        {
+            return (ConnectorCheckedException)error;
+        }
+
+        return new ConnectorCheckedException(DiscoveryServiceErrorCode.DISCOVERY_SERVICE_FAILED.getMessageDefinition(String.valueOf(serviceName),
+                                                                                                                     discoveryServiceName,
+                                                                                                                     error.getClass().getName(),
+                                                                                                                     error.getMessage()),
+                                             this.getClass().getName(),
+                                             methodName,
+                                             error);
+    }
+}
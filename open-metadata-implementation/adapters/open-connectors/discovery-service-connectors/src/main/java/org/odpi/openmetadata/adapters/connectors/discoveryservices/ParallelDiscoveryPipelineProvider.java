@@ -0,0 +1,53 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ParallelDiscoveryPipelineProvider is the provider for the ParallelDiscoveryPipeline - an ODF discovery pipeline connector
+ * that runs independent discovery services at the same time.
+ */
+public class ParallelDiscoveryPipelineProvider extends DiscoveryServiceProvider
+{
+    static final String  connectorTypeGUID = "a0f6e2b9-5c1e-4f55-8c1a-3b3d1f1e7c42";
+    static final String  connectorTypeName = "Parallel Discovery Pipeline Connector";
+    static final String  connectorTypeDescription = "Connector supports the concurrent execution of discovery services, respecting the dependencies between them.";
+
+    static final String  MAX_CONCURRENT_SERVICES_PROPERTY = "maxConcurrentServices";
+    static final String  SERVICE_DEPENDENCIES_PROPERTY    = "serviceDependencies";
+
+    static final int     DEFAULT_MAX_CONCURRENT_SERVICES  = 4;
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * discovery service implementation.
+     */
+    public ParallelDiscoveryPipelineProvider()
+    {
+        Class<?> connectorClass = ParallelDiscoveryPipeline.class;
+
+        super.setConnectorClassName(connectorClass.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(MAX_CONCURRENT_SERVICES_PROPERTY);
+        recognizedConfigurationProperties.add(SERVICE_DEPENDENCIES_PROPERTY);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
+    }
+}
@@ -3,7 +3,6 @@
 package org.odpi.openmetadata.adapters.connectors.discoveryservices;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
-import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnalysisReportStore;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryPipeline;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
 
@@ -20,16 +19,11 @@ public class SequentialDiscoveryPipeline extends DiscoveryPipeline
     @Override
     protected void runDiscoveryPipeline() throws ConnectorCheckedException
     {
-        DiscoveryAnalysisReportStore discoveryReport = super.discoveryContext.getAnnotationStore().getDiscoveryReport();
-
         for (DiscoveryService embeddedDiscoveryService : super.embeddedDiscoveryServices)
         {
             if (embeddedDiscoveryService != null)
             {
-                embeddedDiscoveryService.setDiscoveryContext(super.discoveryContext);
-                discoveryReport.setAnalysisStep(embeddedDiscoveryService.getConnectorInstanceId());
-                embeddedDiscoveryService.start();
-                embeddedDiscoveryService.disconnect();
+                super.runEmbeddedDiscoveryService(embeddedDiscoveryService);
             }
         }
     }
@@ -0,0 +1,215 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.DataProfileAnnotation;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test the statistics gathered by CSVColumnProfile, both while the value counts are exact and once the
+ * sketches are used, and that profiles of different sections of a file merge to the profile of the whole file.
+ */
+public class TestCSVColumnProfile
+{
+    private DataProfileAnnotation getDataProfile(CSVColumnProfile columnProfile)
+    {
+        DataProfileAnnotation dataProfile = new DataProfileAnnotation();
+
+        columnProfile.setUpDataProfile(dataProfile);
+
+        return dataProfile;
+    }
+
+
+    /**
+     * Return the values for a column with many distinct values and one frequent value.
+     *
+     * @return values
+     */
+    private List<String> getManyValues()
+    {
+        List<String> values = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++)
+        {
+            values.add("value" + i);
+
+            if (i % 5 == 0)
+            {
+                values.add("frequent");
+            }
+        }
+
+        return values;
+    }
+
+
+    /**
+     * While there are few distinct values, the counts, range and type are exact.
+     */
+    @Test
+    public void testExactStatistics()
+    {
+        CSVColumnProfile columnProfile = new CSVColumnProfile();
+
+        for (String value : Arrays.asList("3", "10", "10", "", null, "-2"))
+        {
+            columnProfile.addValue(value);
+        }
+
+        DataProfileAnnotation dataProfile = getDataProfile(columnProfile);
+
+        assertEquals(dataProfile.getInferredDataType(), CSVColumnProfile.INT_TYPE_NAME);
+        assertEquals(dataProfile.getProfileCounts().get(CSVColumnProfile.VALUE_COUNT_PROPERTY), Long.valueOf(4));
+        assertEquals(dataProfile.getProfileCounts().get(CSVColumnProfile.NULL_COUNT_PROPERTY), Long.valueOf(2));
+        assertEquals(dataProfile.getProfileCounts().get(CSVColumnProfile.DISTINCT_VALUE_COUNT_PROPERTY), Long.valueOf(3));
+        assertTrue(dataProfile.getProfileFlags().get(CSVColumnProfile.EXACT_VALUE_COUNTS_FLAG));
+        assertEquals(dataProfile.getValueCount().get("10"), Integer.valueOf(2));
+        assertEquals(dataProfile.getValueRangeFrom(), "-2");
+        assertEquals(dataProfile.getValueRangeTo(), "10");
+        assertEquals(dataProfile.getAverageValue(), Double.toString(5.25));
+        assertEquals(dataProfile.getLength(), 2);
+    }
+
+
+    /**
+     * The type is narrowed as values are added.
+     */
+    @Test
+    public void testInferredType()
+    {
+        assertNull(new CSVColumnProfile().getInferredDataType());
+
+        assertEquals(getInferredDataType("true", "FALSE"), CSVColumnProfile.BOOLEAN_TYPE_NAME);
+        assertEquals(getInferredDataType("1", "2147483648"), CSVColumnProfile.LONG_TYPE_NAME);
+        assertEquals(getInferredDataType("1", "2.5"), CSVColumnProfile.FLOAT_TYPE_NAME);
+        assertEquals(getInferredDataType("1", "true"), CSVColumnProfile.STRING_TYPE_NAME);
+    }
+
+
+    private String getInferredDataType(String... values)
+    {
+        CSVColumnProfile columnProfile = new CSVColumnProfile();
+
+        for (String value : values)
+        {
+            columnProfile.addValue(value);
+        }
+
+        return columnProfile.getInferredDataType();
+    }
+
+
+    /**
+     * Once there are many distinct values, the distinct count is estimated and the frequent values are
+     * still found.
+     */
+    @Test
+    public void testSketchStatistics()
+    {
+        CSVColumnProfile columnProfile = new CSVColumnProfile();
+
+        for (String value : getManyValues())
+        {
+            columnProfile.addValue(value);
+        }
+
+        DataProfileAnnotation dataProfile = getDataProfile(columnProfile);
+
+        long distinctCount = dataProfile.getProfileCounts().get(CSVColumnProfile.DISTINCT_VALUE_COUNT_PROPERTY);
+
+        assertFalse(dataProfile.getProfileFlags().get(CSVColumnProfile.EXACT_VALUE_COUNTS_FLAG));
+        assertTrue(Math.abs(distinctCount - 5001) <= 5001 * 0.05, "Distinct count " + distinctCount);
+        assertEquals(dataProfile.getProfileCounts().get(CSVColumnProfile.VALUE_COUNT_PROPERTY), Long.valueOf(6000));
+        assertTrue(dataProfile.getValueCount().get("frequent") >= 1000);
+        assertEquals(dataProfile.getInferredDataType(), CSVColumnProfile.STRING_TYPE_NAME);
+        assertEquals(dataProfile.getValueRangeFrom(), "frequent");
+        assertEquals(dataProfile.getValueRangeTo(), "value999");
+    }
+
+
+    /**
+     * Profiles of the sections of a column merge to the same statistics as a profile of the whole column,
+     * both when the counts are exact and when the sketches are used.
+     */
+    @Test
+    public void testMerge()
+    {
+        List<String> fewValues = Arrays.asList("1.5", "2", "", "2", "7", "1.5", "9");
+
+        assertMergeMatches(fewValues, 3);
+        assertMergeMatches(getManyValues(), 2500);
+    }
+
+
+    private void assertMergeMatches(List<String> values, int split)
+    {
+        CSVColumnProfile whole  = new CSVColumnProfile();
+        CSVColumnProfile first  = new CSVColumnProfile();
+        CSVColumnProfile second = new CSVColumnProfile();
+
+        for (int i = 0; i < values.size(); i++)
+        {
+            whole.addValue(values.get(i));
+
+            if (i < split)
+            {
+                first.addValue(values.get(i));
+            }
+            else
+            {
+                second.addValue(values.get(i));
+            }
+        }
+
+        first.merge(second);
+
+        DataProfileAnnotation wholeProfile  = getDataProfile(whole);
+        DataProfileAnnotation mergedProfile = getDataProfile(first);
+
+        assertEquals(mergedProfile.getProfileCounts(), wholeProfile.getProfileCounts());
+        assertEquals(mergedProfile.getProfileFlags(), wholeProfile.getProfileFlags());
+        assertEquals(mergedProfile.getInferredDataType(), wholeProfile.getInferredDataType());
+        assertEquals(mergedProfile.getValueRangeFrom(), wholeProfile.getValueRangeFrom());
+        assertEquals(mergedProfile.getValueRangeTo(), wholeProfile.getValueRangeTo());
+        assertEquals(mergedProfile.getAverageValue(), wholeProfile.getAverageValue());
+        assertEquals(mergedProfile.getLength(), wholeProfile.getLength());
+        assertEquals(mergedProfile.getValueCount().get("frequent"), wholeProfile.getValueCount().get("frequent"));
+
+        if (wholeProfile.getValueList() != null)
+        {
+            assertEquals(mergedProfile.getValueCount(), wholeProfile.getValueCount());
+        }
+    }
+
+
+    /**
+     * Columns without a name keep a data field of their own, so the statistics of the later columns stay
+     * with the right names.
+     */
+    @Test
+    public void testUnnamedColumnsAligned()
+    {
+        List<String> dataFieldNames = CSVDiscoveryService.getDataFieldNames(Arrays.asList("name", null, "age"));
+
+        assertEquals(dataFieldNames, Arrays.asList("name", CSVDiscoveryService.UNNAMED_COLUMN_PREFIX + 1, "age"));
+
+        CSVFileProfile fileProfile = new CSVFileProfile(dataFieldNames.size());
+
+        fileProfile.addRecord(Arrays.asList("Ann", "x", "41"));
+        fileProfile.addRecord(Arrays.asList("Bob", "y", "39"));
+
+        assertEquals(fileProfile.getRecordCount(), 2L);
+        assertEquals(fileProfile.getColumnProfile(0).getInferredDataType(), CSVColumnProfile.STRING_TYPE_NAME);
+        assertEquals(fileProfile.getColumnProfile(2).getInferredDataType(), CSVColumnProfile.INT_TYPE_NAME);
+    }
+}
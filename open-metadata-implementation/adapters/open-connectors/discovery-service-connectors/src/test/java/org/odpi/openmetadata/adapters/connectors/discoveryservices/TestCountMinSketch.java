@@ -0,0 +1,101 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.testng.annotations.Test;
+
+import java.util.SplittableRandom;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test that the count-min sketch never underestimates, gives close estimates for frequent values and
+ * that merged sketches give the same estimates as a single sketch of all of the values.
+ */
+public class TestCountMinSketch
+{
+    private static final int  RARE_VALUE_COUNT = 10000;
+    private static final long FREQUENT_HASH    = 0x5deece66dL * 0x9e3779b97f4a7c15L;
+
+
+    /**
+     * Add each rare value once and the frequent value the requested number of times.
+     *
+     * @param sketch sketch to add to
+     * @param seed seed for the rare values
+     * @param frequentCount number of times to add the frequent value
+     * @return hashes of the rare values
+     */
+    private long[] addValues(CountMinSketch sketch, long seed, int frequentCount)
+    {
+        SplittableRandom hashes     = new SplittableRandom(seed);
+        long[]           rareHashes = new long[RARE_VALUE_COUNT];
+
+        for (int i = 0; i < RARE_VALUE_COUNT; i++)
+        {
+            rareHashes[i] = hashes.nextLong();
+            sketch.add(rareHashes[i]);
+        }
+
+        for (int i = 0; i < frequentCount; i++)
+        {
+            sketch.add(FREQUENT_HASH);
+        }
+
+        return rareHashes;
+    }
+
+
+    /**
+     * Estimates are never lower than the actual count and the frequent value is estimated within the error
+     * expected from the other values sharing its counters.
+     */
+    @Test
+    public void testAccuracy()
+    {
+        CountMinSketch sketch     = new CountMinSketch();
+        long[]         rareHashes = addValues(sketch, 1, 2000);
+
+        assertEquals(new CountMinSketch().estimate(FREQUENT_HASH), 0L);
+
+        for (long rareHash : rareHashes)
+        {
+            assertTrue(sketch.estimate(rareHash) >= 1);
+        }
+
+        long frequentEstimate = sketch.estimate(FREQUENT_HASH);
+
+        assertTrue(frequentEstimate >= 2000);
+        assertTrue(frequentEstimate <= 2000 + RARE_VALUE_COUNT / 100, "Estimate " + frequentEstimate + " is too high");
+    }
+
+
+    /**
+     * A merged sketch gives the same estimates as a sketch of all of the values.
+     */
+    @Test
+    public void testMerge()
+    {
+        CountMinSketch first    = new CountMinSketch();
+        CountMinSketch second   = new CountMinSketch();
+        CountMinSketch combined = new CountMinSketch();
+
+        long[] firstHashes  = addValues(first, 1, 500);
+        long[] secondHashes = addValues(second, 2, 700);
+
+        addValues(combined, 1, 500);
+        addValues(combined, 2, 700);
+
+        first.merge(second);
+
+        assertEquals(first.estimate(FREQUENT_HASH), combined.estimate(FREQUENT_HASH));
+        assertTrue(first.estimate(FREQUENT_HASH) >= 1200);
+
+        for (int i = 0; i < RARE_VALUE_COUNT; i++)
+        {
+            assertEquals(first.estimate(firstHashes[i]), combined.estimate(firstHashes[i]));
+            assertEquals(first.estimate(secondHashes[i]), combined.estimate(secondHashes[i]));
+        }
+    }
+}
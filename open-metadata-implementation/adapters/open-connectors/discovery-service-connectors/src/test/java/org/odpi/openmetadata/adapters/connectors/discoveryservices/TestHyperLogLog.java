@@ -0,0 +1,93 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.testng.annotations.Test;
+
+import java.util.SplittableRandom;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test the accuracy of the HyperLogLog distinct count estimate and that merged sketches give the same
+ * estimate as a single sketch of all of the values.
+ */
+public class TestHyperLogLog
+{
+    /**
+     * Return a sketch of a run of distinct values.  The values are identified by their position in a
+     * repeatable sequence of random 64-bit hashes.
+     *
+     * @param from position of the first value
+     * @param to position after the last value
+     * @return sketch
+     */
+    private HyperLogLog getSketch(int from, int to)
+    {
+        HyperLogLog      sketch = new HyperLogLog();
+        SplittableRandom hashes = new SplittableRandom(42);
+
+        for (int i = 0; i < to; i++)
+        {
+            long hash = hashes.nextLong();
+
+            if (i >= from)
+            {
+                sketch.add(hash);
+            }
+        }
+
+        return sketch;
+    }
+
+
+    private void assertWithin(long estimate, long actual, double tolerance)
+    {
+        assertTrue(Math.abs(estimate - actual) <= actual * tolerance,
+                   "Estimate " + estimate + " is not within " + tolerance + " of " + actual);
+    }
+
+
+    /**
+     * An empty sketch estimates zero and repeated values are only counted once.
+     */
+    @Test
+    public void testSmallCounts()
+    {
+        assertEquals(new HyperLogLog().estimate(), 0L);
+
+        HyperLogLog sketch = getSketch(0, 100);
+
+        sketch.merge(getSketch(0, 100));
+
+        assertWithin(sketch.estimate(), 100, 0.02);
+    }
+
+
+    /**
+     * The estimate stays within a few percent of the actual count for small and large cardinalities.
+     */
+    @Test
+    public void testAccuracy()
+    {
+        assertWithin(getSketch(0, 1000).estimate(), 1000, 0.05);
+        assertWithin(getSketch(0, 20000).estimate(), 20000, 0.05);
+        assertWithin(getSketch(0, 500000).estimate(), 500000, 0.05);
+    }
+
+
+    /**
+     * Sketches of overlapping sections merge to exactly the sketch of the combined values.
+     */
+    @Test
+    public void testMerge()
+    {
+        HyperLogLog merged = getSketch(0, 30000);
+
+        merged.merge(getSketch(20000, 50000));
+
+        assertEquals(merged.estimate(), getSketch(0, 50000).estimate());
+        assertWithin(merged.estimate(), 50000, 0.05);
+    }
+}
@@ -0,0 +1,317 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnalysisReportStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryContext;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test the ordering, concurrency and dependency checking of the parallel discovery pipeline.
+ */
+public class TestParallelDiscoveryPipeline
+{
+    private DiscoveryAnalysisReportStore discoveryReport;
+    private DiscoveryContext             discoveryContext;
+
+    private final Map<String, Long>   startTimes  = new ConcurrentHashMap<>();
+    private final Map<String, Long>   endTimes    = new ConcurrentHashMap<>();
+    private final Map<String, String> stepsSeen   = new ConcurrentHashMap<>();
+    private final Set<Thread>         threadsUsed = ConcurrentHashMap.newKeySet();
+
+
+    /**
+     * Discovery service that records when it ran and the analysis step it saw.
+     */
+    private class RecordingDiscoveryService extends DiscoveryService
+    {
+        private final CountDownLatch startedTogether;
+
+        RecordingDiscoveryService(CountDownLatch startedTogether)
+        {
+            this.startedTogether = startedTogether;
+        }
+
+        @Override
+        public void start() throws ConnectorCheckedException
+        {
+            super.start();
+
+            String serviceName = connectionProperties.getQualifiedName();
+
+            startTimes.put(serviceName, System.nanoTime());
+            threadsUsed.add(Thread.currentThread());
+
+            try
+            {
+                if (startedTogether != null)
+                {
+                    startedTogether.countDown();
+                    if (! startedTogether.await(10, TimeUnit.SECONDS))
+                    {
+                        throw new IllegalStateException(serviceName + " did not run at the same time as its peers");
+                    }
+                }
+
+                Thread.sleep(20);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            stepsSeen.put(serviceName, discoveryContext.getAnnotationStore().getDiscoveryReport().getAnalysisStep());
+            endTimes.put(serviceName, System.nanoTime());
+        }
+    }
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        startTimes.clear();
+        endTimes.clear();
+        stepsSeen.clear();
+        threadsUsed.clear();
+
+        discoveryReport = new DiscoveryAnalysisReportStore()
+        {
+        };
+
+        DiscoveryAnnotationStore annotationStore = mock(DiscoveryAnnotationStore.class);
+        when(annotationStore.getDiscoveryReport()).thenReturn(discoveryReport);
+
+        discoveryContext = new DiscoveryContext("testUser", "assetGUID", null, null, null, annotationStore, null);
+    }
+
+
+    @Test
+    public void testDependencyOrder() throws Exception
+    {
+        Map<String, Object> dependencies = new HashMap<>();
+        dependencies.put("C", Arrays.asList("A", "B"));
+        dependencies.put("D", "C");
+
+        CountDownLatch                 independentServices = new CountDownLatch(2);
+        Map<String, DiscoveryService>  services            = new HashMap<>();
+        services.put("A", new RecordingDiscoveryService(independentServices));
+        services.put("B", new RecordingDiscoveryService(independentServices));
+        services.put("C", new RecordingDiscoveryService(null));
+        services.put("D", new RecordingDiscoveryService(null));
+
+        ParallelDiscoveryPipeline pipeline = this.getPipeline(dependencies, 4, services, "D", "C", "B", "A");
+
+        pipeline.start();
+
+        assertEquals(startTimes.keySet(), new HashSet<>(Arrays.asList("A", "B", "C", "D")));
+        assertTrue(startTimes.get("C") >= endTimes.get("A"));
+        assertTrue(startTimes.get("C") >= endTimes.get("B"));
+        assertTrue(startTimes.get("D") >= endTimes.get("C"));
+
+        /*
+         * A and B ran at the same time, yet each saw its own analysis step.
+         */
+        for (String serviceName : services.keySet())
+        {
+            assertEquals(stepsSeen.get(serviceName), "step-" + serviceName);
+        }
+        assertNull(discoveryReport.getAnalysisStep());
+        assertEquals(discoveryReport.getAnalysisStepDurations().keySet(), new HashSet<>(Arrays.asList("step-A", "step-B", "step-C", "step-D")));
+
+        pipeline.disconnect();
+    }
+
+
+    @Test
+    public void testThreadsReusedAcrossRuns() throws Exception
+    {
+        Map<String, DiscoveryService> services = new HashMap<>();
+        services.put("A", new RecordingDiscoveryService(null));
+        services.put("B", new RecordingDiscoveryService(null));
+
+        ParallelDiscoveryPipeline pipeline = this.getPipeline(Collections.emptyMap(), 2, services, "A", "B");
+
+        /*
+         * The pool has two threads, so both runs use the same threads.
+         */
+        pipeline.start();
+        Set<Thread> firstRunThreads = new HashSet<>(threadsUsed);
+
+        threadsUsed.clear();
+        pipeline.start();
+
+        assertTrue(firstRunThreads.containsAll(threadsUsed), threadsUsed.toString());
+
+        pipeline.disconnect();
+
+        /*
+         * After a disconnect, a new run gets new threads.
+         */
+        threadsUsed.clear();
+        pipeline.start();
+
+        assertTrue(Collections.disjoint(firstRunThreads, threadsUsed));
+
+        pipeline.disconnect();
+    }
+
+
+    @Test
+    public void testCircularDependency() throws Exception
+    {
+        Map<String, Object> dependencies = new HashMap<>();
+        dependencies.put("A", "C");
+        dependencies.put("B", "A");
+        dependencies.put("C", "B");
+
+        Map<String, DiscoveryService> services = new HashMap<>();
+        services.put("A", new RecordingDiscoveryService(null));
+        services.put("B", new RecordingDiscoveryService(null));
+        services.put("C", new RecordingDiscoveryService(null));
+        services.put("D", new RecordingDiscoveryService(null));
+
+        ParallelDiscoveryPipeline pipeline = this.getPipeline(dependencies, 4, services, "A", "B", "C", "D");
+
+        try
+        {
+            pipeline.start();
+            fail("Circular dependency not detected");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().startsWith("OMAG-DISCOVERY-SERVICE-400-003"), error.getReportedErrorMessageId());
+            assertTrue(error.getReportedErrorMessage().contains("[A, B, C]"), error.getReportedErrorMessage());
+        }
+
+        /*
+         * The dependencies are checked before any discovery service starts.
+         */
+        assertTrue(startTimes.isEmpty());
+
+        pipeline.disconnect();
+    }
+
+
+    @Test
+    public void testUnknownDependency() throws Exception
+    {
+        Map<String, DiscoveryService> services = new HashMap<>();
+        services.put("A", new RecordingDiscoveryService(null));
+
+        ParallelDiscoveryPipeline pipeline = this.getPipeline(Collections.singletonMap("A", "Missing"), 4, services, "A");
+
+        try
+        {
+            pipeline.start();
+            fail("Unknown dependency not detected");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().startsWith("OMAG-DISCOVERY-SERVICE-400-002"), error.getReportedErrorMessageId());
+        }
+
+        assertTrue(startTimes.isEmpty());
+    }
+
+
+    @Test
+    public void testFailureStopsDependents() throws Exception
+    {
+        Map<String, DiscoveryService> services = new HashMap<>();
+        services.put("A", new RecordingDiscoveryService(null)
+        {
+            @Override
+            public void start()
+            {
+                throw new IllegalStateException("Test failure");
+            }
+        });
+        services.put("B", new RecordingDiscoveryService(null));
+
+        ParallelDiscoveryPipeline pipeline = this.getPipeline(Collections.singletonMap("B", "A"), 4, services, "A", "B");
+
+        try
+        {
+            pipeline.start();
+            fail("Failure not reported");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().startsWith("OMAG-DISCOVERY-SERVICE-500-003"), error.getReportedErrorMessageId());
+        }
+
+        assertTrue(startTimes.isEmpty());
+
+        pipeline.disconnect();
+    }
+
+
+    /**
+     * Set up a pipeline and its embedded discovery services.
+     *
+     * @param dependencies value for the serviceDependencies configuration property
+     * @param maxConcurrentServices value for the maxConcurrentServices configuration property
+     * @param services discovery services by name
+     * @param serviceOrder order that the discovery services are passed to the pipeline
+     * @return initialized pipeline
+     */
+    private ParallelDiscoveryPipeline getPipeline(Map<String, ?>                dependencies,
+                                                  int                           maxConcurrentServices,
+                                                  Map<String, DiscoveryService> services,
+                                                  String...                     serviceOrder)
+    {
+        List<Connector> embeddedConnectors = new ArrayList<>();
+
+        for (String serviceName : serviceOrder)
+        {
+            Connection connection = new Connection();
+            connection.setQualifiedName(serviceName);
+
+            DiscoveryService service = services.get(serviceName);
+            service.initialize("step-" + serviceName, new ConnectionProperties(connection));
+            embeddedConnectors.add(service);
+        }
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(ParallelDiscoveryPipelineProvider.SERVICE_DEPENDENCIES_PROPERTY, dependencies);
+        configurationProperties.put(ParallelDiscoveryPipelineProvider.MAX_CONCURRENT_SERVICES_PROPERTY, maxConcurrentServices);
+
+        Connection pipelineConnection = new Connection();
+        pipelineConnection.setQualifiedName("TestPipeline");
+        pipelineConnection.setConfigurationProperties(configurationProperties);
+
+        ParallelDiscoveryPipeline pipeline = new ParallelDiscoveryPipeline();
+        pipeline.initialize("pipeline", new ConnectionProperties(pipelineConnection));
+        pipeline.initializeEmbeddedConnectors(embeddedConnectors);
+        pipeline.setDiscoveryServiceName("TestPipeline");
+        pipeline.setDiscoveryContext(discoveryContext);
+
+        return pipeline;
+    }
+}
@@ -13,9 +13,14 @@ import org.odpi.openmetadata.adapters.connectors.integration.kafka.ffdc.KafkaInt
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.connectors.IntegrationSyncStateStore;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationSyncDelta;
 import org.odpi.openmetadata.integrationservices.topic.connector.TopicIntegratorConnector;
 import org.odpi.openmetadata.integrationservices.topic.connector.TopicIntegratorContext;
 
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -31,7 +36,11 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
     private String templateGUID = null;
     private String targetRootURL = "localhost:9092";
 
+    private int    fullReconcileInterval   = KafkaMonitorIntegrationProvider.DEFAULT_FULL_RECONCILE_INTERVAL;
+    private int    refreshesSinceReconcile = 0;
+
     private TopicIntegratorContext myContext = null;
+    private Admin                  admin     = null;
 
     /**
      * Indicates that the connector is completely configured and can begin processing.
@@ -63,6 +72,25 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
         if (configurationProperties != null)
         {
             templateQualifiedName = configurationProperties.get(KafkaMonitorIntegrationProvider.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
+
+            Object fullReconcileIntervalProperty = configurationProperties.get(KafkaMonitorIntegrationProvider.FULL_RECONCILE_INTERVAL_CONFIGURATION_PROPERTY);
+
+            if (fullReconcileIntervalProperty != null)
+            {
+                try
+                {
+                    fullReconcileInterval = Math.max(0, Integer.parseInt(fullReconcileIntervalProperty.toString()));
+                }
+                catch (NumberFormatException error)
+                {
+                    throw new ConnectorCheckedException(KafkaIntegrationConnectorErrorCode.BAD_CONFIGURATION_PROPERTY.getMessageDefinition(connectorName,
+                                                                                                                                           KafkaMonitorIntegrationProvider.FULL_RECONCILE_INTERVAL_CONFIGURATION_PROPERTY,
+                                                                                                                                           fullReconcileIntervalProperty.toString()),
+                                                        this.getClass().getName(),
+                                                        methodName,
+                                                        error);
+                }
+            }
         }
 
         /*
@@ -73,7 +101,8 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
             auditLog.logMessage(methodName,
                                 KafkaIntegrationConnectorAuditCode.CONNECTOR_CONFIGURATION.getMessageDefinition(connectorName,
                                                                                                                 targetRootURL,
-                                                                                                                templateQualifiedName));
+                                                                                                                templateQualifiedName,
+                                                                                                                Integer.toString(fullReconcileInterval)));
         }
 
         /*
@@ -117,9 +146,13 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
      * as well as any external REST API calls to explicitly refresh the connector.
      *
-     * This method performs two sweeps. It first retrieves the topics from the event broker (Kafka) and validates that are in the
-     * catalog - adding or updating them if necessary. The second sweep is to ensure that all the topics catalogued
-     * actually exist in the event broker.
+     * This method retrieves the topics from the event broker (Kafka).  If there is no record of a previous synchronization,
+     * it performs two sweeps.  It first retrieves the topics that are catalogued for this event broker and removes those that no
+     * longer exist in the event broker.  It then adds the topics that are not catalogued.  The topics that are catalogued
+     * are recorded in the connector's sync state store.  On later refreshes the topics from the event broker are compared with
+     * the sync state store and only the topics that have been added or removed since the last refresh are sent to the catalog.
+     * The full comparison is repeated every fullReconcileInterval refreshes so that changes made to the catalog by other tools
+     * are corrected.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
@@ -133,11 +166,7 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
             /*
              * Retrieve the list of active topics from Kafka.
              */
-            Properties properties = new Properties();
-            properties.put("bootstrap.servers", targetRootURL);
-            Admin            admin            = Admin.create(properties);
-            Set<String>      activeTopicNames = admin.listTopics().names().get();
-            admin.close();
+            Set<String> activeTopicNames = this.getAdmin().listTopics().names().get();
 
             if (activeTopicNames != null)
             {
@@ -149,103 +178,58 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
                                                                                                                  Integer.toString(activeTopicNames.size())));
                 }
 
-                /*
-                 * Retrieve the topics that are catalogued for this event broker.
-                 * Remove the topics from the catalog that are no longer present in the event broker.
-                 * Remove the names of the topics that are cataloged from the active topic names.
-                 * At the end of this loop, the active topic names will just contain the names of the
-                 * topics that are not catalogued.
-                 */
-                int startFrom = 0;
-                List<TopicElement> cataloguedTopics = myContext.getMyTopics(startFrom, 0);
-
-                while (cataloguedTopics != null)
-                {
-                    startFrom = startFrom + cataloguedTopics.size();
+                IntegrationSyncStateStore syncStateStore = super.getSyncStateStore();
 
-                    for (TopicElement topicElement : cataloguedTopics)
-                    {
-                        String topicName = topicElement.getProperties().getQualifiedName();
-                        String topicGUID = topicElement.getElementHeader().getGUID();
-
-                        if (! activeTopicNames.contains(topicName))
-                        {
-                            /*
-                             * The topic no longer exists so delete it from the catalog.
-                             */
-                            myContext.removeTopic(topicGUID, topicName);
-
-                            if (auditLog != null)
-                            {
-                                auditLog.logMessage(methodName,
-                                                    KafkaIntegrationConnectorAuditCode.TOPIC_DELETED.getMessageDefinition(connectorName,
-                                                                                                                          topicName,
-                                                                                                                          topicGUID));
-                            }
-                        }
-                        else
-                        {
-                            activeTopicNames.remove(topicName);
-                        }
-                    }
+                refreshesSinceReconcile++;
 
-                    cataloguedTopics = myContext.getMyTopics(startFrom, 0);
+                if (syncStateStore.getLastSyncTime() == null)
+                {
+                    this.reconcileCatalog(activeTopicNames, syncStateStore);
+                    refreshesSinceReconcile = 0;
                 }
-
-
-                String topicGUID;
-
-                /*
-                 * Add the remaining active topics to the catalog.
-                 */
-                for (String topicName : activeTopicNames)
+                else if ((fullReconcileInterval > 0) && (refreshesSinceReconcile >= fullReconcileInterval))
                 {
-                    if (templateGUID == null)
+                    if (auditLog != null)
                     {
-                        TopicProperties topicProperties = new TopicProperties();
-
-                        topicProperties.setQualifiedName(topicName);
-                        topicProperties.setTypeName("KafkaTopic");
-
-                        topicGUID = myContext.createTopic(topicProperties);
-
-                        if (topicGUID != null)
-                        {
-                            if (auditLog != null)
-                            {
-                                auditLog.logMessage(methodName,
-                                                    KafkaIntegrationConnectorAuditCode.TOPIC_CREATED.getMessageDefinition(connectorName,
-                                                                                                                          topicName,
-                                                                                                                          topicGUID));
-                            }
-                        }
+                        auditLog.logMessage(methodName,
+                                            KafkaIntegrationConnectorAuditCode.FULL_RECONCILE.getMessageDefinition(connectorName,
+                                                                                                                   Integer.toString(refreshesSinceReconcile)));
                     }
-                    else
-                    {
-                        TemplateProperties templateProperties = new TemplateProperties();
 
-                        templateProperties.setQualifiedName(topicName);
+                    this.reconcileCatalog(activeTopicNames, syncStateStore);
+                    refreshesSinceReconcile = 0;
+                }
+                else
+                {
+                    this.synchronizeChanges(activeTopicNames, syncStateStore);
+                }
 
-                        topicGUID = myContext.createTopicFromTemplate(templateGUID, templateProperties);
+                syncStateStore.setLastSyncTime(new Date());
 
-                        if (topicGUID != null)
-                        {
-                            if (auditLog != null)
-                            {
-                                auditLog.logMessage(methodName,
-                                                    KafkaIntegrationConnectorAuditCode.TOPIC_CREATED_FROM_TEMPLATE.getMessageDefinition(connectorName,
-                                                                                                                                        topicName,
-                                                                                                                                        topicGUID,
-                                                                                                                                        templateQualifiedName,
-                                                                                                                                        templateGUID));
-                            }
-                        }
+                try
+                {
+                    syncStateStore.save();
+                }
+                catch (ConnectorCheckedException error)
+                {
+                    if (auditLog != null)
+                    {
+                        auditLog.logException(methodName,
+                                              KafkaIntegrationConnectorAuditCode.SYNC_STATE_NOT_SAVED.getMessageDefinition(connectorName,
+                                                                                                                           error.getClass().getName(),
+                                                                                                                           error.getMessage()),
+                                              error);
                     }
                 }
             }
         }
         catch (Exception error)
         {
+            /*
+             * The admin client is recreated on the next refresh in case the connection to the event broker is broken.
+             */
+            this.closeAdmin();
+
             if (auditLog != null)
             {
                 auditLog.logException(methodName,
@@ -268,6 +252,225 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
     }
 
 
+    /**
+     * Return the admin client for the event broker.  It is created on first use and reused by later refreshes.
+     *
+     * @return admin client
+     */
+    private synchronized Admin getAdmin()
+    {
+        if (admin == null)
+        {
+            Properties properties = new Properties();
+            properties.put("bootstrap.servers", targetRootURL);
+
+            admin = Admin.create(properties);
+        }
+
+        return admin;
+    }
+
+
+    /**
+     * Close the admin client for the event broker if it is open.
+     */
+    private synchronized void closeAdmin()
+    {
+        if (admin != null)
+        {
+            admin.close();
+            admin = null;
+        }
+    }
+
+
+    /**
+     * Compare the active topics with every topic catalogued for this event broker.  The catalogued topics that
+     * are no longer present in the event broker are removed from the catalog and the active topics that are
+     * not catalogued are added.  The sync state store is rebuilt from the result.
+     *
+     * @param activeTopicNames names of the topics in the event broker
+     * @param syncStateStore store to record the catalogued topics in
+     * @throws Exception problem calling the catalog
+     */
+    private void reconcileCatalog(Set<String>               activeTopicNames,
+                                  IntegrationSyncStateStore syncStateStore) throws Exception
+    {
+        Set<String> uncataloguedTopicNames = new HashSet<>(activeTopicNames);
+
+        syncStateStore.clear();
+
+        /*
+         * Retrieve the topics that are catalogued for this event broker.
+         * Remove the topics from the catalog that are no longer present in the event broker.
+         * Remove the names of the topics that are cataloged from the uncatalogued topic names.
+         * At the end of this loop, the uncatalogued topic names will just contain the names of the
+         * topics that are not catalogued.
+         */
+        int startFrom = 0;
+        List<TopicElement> cataloguedTopics = myContext.getMyTopics(startFrom, 0);
+
+        while (cataloguedTopics != null)
+        {
+            startFrom = startFrom + cataloguedTopics.size();
+
+            for (TopicElement topicElement : cataloguedTopics)
+            {
+                String topicName = topicElement.getProperties().getQualifiedName();
+                String topicGUID = topicElement.getElementHeader().getGUID();
+
+                if (! activeTopicNames.contains(topicName))
+                {
+                    /*
+                     * The topic no longer exists so delete it from the catalog.
+                     */
+                    this.removeTopic(topicName, topicGUID);
+                }
+                else
+                {
+                    uncataloguedTopicNames.remove(topicName);
+                    syncStateStore.recordSync(topicName, topicGUID, IntegrationSyncStateStore.getFingerprint(topicName));
+                }
+            }
+
+            cataloguedTopics = myContext.getMyTopics(startFrom, 0);
+        }
+
+        /*
+         * Add the remaining active topics to the catalog.
+         */
+        for (String topicName : uncataloguedTopicNames)
+        {
+            this.addTopic(topicName, syncStateStore);
+        }
+    }
+
+
+    /**
+     * Send the topics that have been added to, or removed from, the event broker since the last refresh to the catalog.
+     *
+     * @param activeTopicNames names of the topics in the event broker
+     * @param syncStateStore store that records the catalogued topics
+     * @throws Exception problem calling the catalog
+     */
+    private void synchronizeChanges(Set<String>               activeTopicNames,
+                                    IntegrationSyncStateStore syncStateStore) throws Exception
+    {
+        Map<String, String> currentFingerprints = new HashMap<>();
+
+        for (String topicName : activeTopicNames)
+        {
+            currentFingerprints.put(topicName, IntegrationSyncStateStore.getFingerprint(topicName));
+        }
+
+        IntegrationSyncDelta delta = syncStateStore.computeDelta(currentFingerprints);
+
+        for (String topicName : delta.getRemovedExternalIds())
+        {
+            String topicGUID = syncStateStore.getElementGUID(topicName);
+
+            if (topicGUID != null)
+            {
+                this.removeTopic(topicName, topicGUID);
+            }
+
+            syncStateStore.removeSyncState(topicName);
+        }
+
+        for (String topicName : delta.getNewExternalIds())
+        {
+            this.addTopic(topicName, syncStateStore);
+        }
+    }
+
+
+    /**
+     * Remove a topic from the catalog because it no longer exists in the event broker.
+     *
+     * @param topicName name of the topic
+     * @param topicGUID unique identifier of the catalogued topic
+     * @throws Exception problem calling the catalog
+     */
+    private void removeTopic(String topicName,
+                             String topicGUID) throws Exception
+    {
+        final String methodName = "refresh";
+
+        myContext.removeTopic(topicGUID, topicName);
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                KafkaIntegrationConnectorAuditCode.TOPIC_DELETED.getMessageDefinition(connectorName,
+                                                                                                      topicName,
+                                                                                                      topicGUID));
+        }
+    }
+
+
+    /**
+     * Add a topic from the event broker to the catalog, using the template if one is configured, and record it
+     * in the sync state store.
+     *
+     * @param topicName name of the topic
+     * @param syncStateStore store that records the catalogued topics
+     * @throws Exception problem calling the catalog
+     */
+    private void addTopic(String                    topicName,
+                          IntegrationSyncStateStore syncStateStore) throws Exception
+    {
+        final String methodName = "refresh";
+
+        String topicGUID;
+
+        if (templateGUID == null)
+        {
+            TopicProperties topicProperties = new TopicProperties();
+
+            topicProperties.setQualifiedName(topicName);
+            topicProperties.setTypeName("KafkaTopic");
+
+            topicGUID = myContext.createTopic(topicProperties);
+
+            if (topicGUID != null)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        KafkaIntegrationConnectorAuditCode.TOPIC_CREATED.getMessageDefinition(connectorName,
+                                                                                                              topicName,
+                                                                                                              topicGUID));
+                }
+            }
+        }
+        else
+        {
+            TemplateProperties templateProperties = new TemplateProperties();
+
+            templateProperties.setQualifiedName(topicName);
+
+            topicGUID = myContext.createTopicFromTemplate(templateGUID, templateProperties);
+
+            if (topicGUID != null)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        KafkaIntegrationConnectorAuditCode.TOPIC_CREATED_FROM_TEMPLATE.getMessageDefinition(connectorName,
+                                                                                                                            topicName,
+                                                                                                                            topicGUID,
+                                                                                                                            templateQualifiedName,
+                                                                                                                            templateGUID));
+                }
+            }
+        }
+
+        if (topicGUID != null)
+        {
+            syncStateStore.recordSync(topicName, topicGUID, IntegrationSyncStateStore.getFingerprint(topicName));
+        }
+    }
+
 
     /**
      * Shutdown kafka monitoring
@@ -286,6 +489,8 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
                                 KafkaIntegrationConnectorAuditCode.CONNECTOR_STOPPING.getMessageDefinition(connectorName));
         }
 
+        this.closeAdmin();
+
         super.disconnect();
     }
 }
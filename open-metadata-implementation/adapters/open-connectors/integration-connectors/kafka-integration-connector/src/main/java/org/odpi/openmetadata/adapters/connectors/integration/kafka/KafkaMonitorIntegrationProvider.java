@@ -43,6 +43,14 @@ public class KafkaMonitorIntegrationProvider extends IntegrationConnectorProvide
 
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
 
+    /*
+     * Number of refreshes between each full comparison of the topics in the event broker with the catalog.
+     * The refreshes in between only send the topics that have changed since the last refresh.  Zero means
+     * only do a full comparison when there is no saved synchronization state.
+     */
+    static final String FULL_RECONCILE_INTERVAL_CONFIGURATION_PROPERTY = "fullReconcileInterval";
+    static final int    DEFAULT_FULL_RECONCILE_INTERVAL                = 10;
+
     /**
      * Constructor used to initialize the ConnectorProvider with the Java class name of the specific
      * store implementation.
@@ -68,6 +76,8 @@ public class KafkaMonitorIntegrationProvider extends IntegrationConnectorProvide
         connectorType.setConnectorProviderClassName(this.getClass().getName());
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(SYNC_STATE_FILE_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(FULL_RECONCILE_INTERVAL_CONFIGURATION_PROPERTY);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
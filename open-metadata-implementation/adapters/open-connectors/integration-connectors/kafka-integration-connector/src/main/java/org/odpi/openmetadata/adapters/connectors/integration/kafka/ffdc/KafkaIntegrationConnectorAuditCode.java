@@ -24,9 +24,10 @@ public enum KafkaIntegrationConnectorAuditCode implements AuditLogMessageSet
 {
     CONNECTOR_CONFIGURATION("KAFKA-INTEGRATION-CONNECTOR-0001",
                           OMRSAuditLogRecordSeverity.INFO,
-                          "The {0} integration connector has been initialized to monitor event broker at URL {1} with templateQualifiedName={2}",
+                          "The {0} integration connector has been initialized to monitor event broker at URL {1} with templateQualifiedName={2} and fullReconcileInterval={3}",
                           "The connector is designed to monitor changes to the topics managed by the event broker.  " +
-                                  "If the templateQualifiedName is set, it identifies a template entity to use.",
+                                  "If the templateQualifiedName is set, it identifies a template entity to use.  " +
+                                  "The fullReconcileInterval is the number of refreshes between each full comparison of the topics with the catalog.",
                           "No specific action is required.  This message is to confirm the configuration for the integration connector."),
 
     BAD_CONFIGURATION("KAFKA-INTEGRATION-CONNECTOR-0002",
@@ -110,6 +111,20 @@ public enum KafkaIntegrationConnectorAuditCode implements AuditLogMessageSet
                               "Its presence is still needed in the metadata repository for lineage reporting.",
                       "No action is required.  This message is to record the reason why the Topic was archived."),
 
+    SYNC_STATE_NOT_SAVED("KAFKA-INTEGRATION-CONNECTOR-0021",
+                      OMRSAuditLogRecordSeverity.EXCEPTION,
+                      "The {0} integration connector is unable to save its synchronization state due to {1} exception with message {2}",
+                      "The topics have been synchronized but the connector will do a full comparison with the catalog after it restarts.",
+                      "Use the exception message to correct the value of the syncStateFileName configuration property or the permissions " +
+                              "of the directory that the file is stored in."),
+
+    FULL_RECONCILE("KAFKA-INTEGRATION-CONNECTOR-0022",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} integration connector is comparing every catalogued topic with the topics in the event broker after {1} refreshes",
+                      "The refreshes in between only sent the topics that changed in the event broker.  This comparison also corrects " +
+                              "topics that were added to, or removed from, the catalog by other tools.",
+                      "No action is required.  The number of refreshes between these comparisons is set in the fullReconcileInterval " +
+                              "configuration property."),
 
     ;
 
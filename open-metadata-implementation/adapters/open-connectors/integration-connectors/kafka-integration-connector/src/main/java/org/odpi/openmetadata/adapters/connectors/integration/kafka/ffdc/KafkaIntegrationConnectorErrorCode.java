@@ -30,6 +30,11 @@ public enum KafkaIntegrationConnectorErrorCode implements ExceptionMessageSet
              "The {0} integration connector received an unexpected exception {1} when cataloguing topics; the error message was: {2}",
              "The connector is unable to catalog one or more topics.",
              "Use the details from the error message to determine the cause of the error and retry the request once it is resolved."),
+
+    BAD_CONFIGURATION_PROPERTY(400, "KAFKA-INTEGRATION-CONNECTOR-400-001",
+             "The {0} integration connector has been configured with an invalid value for the {1} configuration property: {2}",
+             "The connector is unable to start because the configuration property must be a whole number.",
+             "Correct the value of the configuration property in the connector's connection and restart the connector."),
     ;
 
 
@@ -2,7 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
 
-import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorErrorCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -14,20 +14,29 @@ import java.io.File;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 
 /**
  * FileBasedOpenLineageLogStoreConnector provides a connector implementation for a file based open lineage log.
- * The open lineage log is stored in a directory and each open lineage event record is stored as a file with a filename built
- * from the record's unique identifier (runId), time and status. The record is stored in a subdirectory that is made from the namespace and job.
+ * The open lineage log is stored in a directory as a sequence of segment files.  Each open lineage event is appended to the
+ * current segment and a new segment is started when the current one reaches its maximum size.  Every segment has an index that
+ * records the namespace, job, run and event time of its events so the events for a job or run can be replayed in time order.
+ * Events are written in batches by a background thread.
  */
 public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreConnectorBase
 {
     private static final String defaultLogDirectory = "open-lineage-log";
+    private static final long   defaultMaxSegmentSize = 64L * 1024L * 1024L;
+    private static final int    defaultMaxBatchSize   = 500;
 
-    private String logStoreDirectoryName = null;
+    private static final String defaultNamespace = "default-namespace";
+    private static final String defaultJobName   = "unformatted";
+
+    private String                logStoreDirectoryName = null;
+    private OpenLineageSegmentLog segmentLog            = null;
 
 
     /**
@@ -40,7 +49,7 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
 
 
     /**
-     * Set up the name of the file store
+     * Set up the name of the file store and open the log.
      *
      * @throws ConnectorCheckedException something went wrong
      */
@@ -63,11 +72,34 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
             logStoreDirectoryName = defaultLogDirectory;
         }
 
+        long maxSegmentSize = defaultMaxSegmentSize;
+        int  maxBatchSize   = defaultMaxBatchSize;
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
         try
         {
-            File logStoreDirectory = new File(logStoreDirectoryName);
+            if (configurationProperties != null)
+            {
+                Object maxSegmentSizeProperty = configurationProperties.get(FileBasedOpenLineageLogStoreProvider.MAX_SEGMENT_SIZE_CONFIGURATION_PROPERTY);
+                Object maxBatchSizeProperty   = configurationProperties.get(FileBasedOpenLineageLogStoreProvider.MAX_BATCH_SIZE_CONFIGURATION_PROPERTY);
+
+                if (maxSegmentSizeProperty != null)
+                {
+                    maxSegmentSize = Long.parseLong(maxSegmentSizeProperty.toString());
+                }
 
-            FileUtils.forceMkdir(logStoreDirectory);
+                if (maxBatchSizeProperty != null)
+                {
+                    maxBatchSize = Integer.parseInt(maxBatchSizeProperty.toString());
+                }
+            }
+
+            segmentLog = new OpenLineageSegmentLog(new File(logStoreDirectoryName),
+                                                   maxSegmentSize,
+                                                   Math.max(maxBatchSize, 1),
+                                                   this::logWriteFailure);
+            segmentLog.open();
         }
         catch (Exception error)
         {
@@ -80,12 +112,21 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
                     methodName,
                     error);
         }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OpenLineageIntegrationConnectorAuditCode.LOG_STORE_CONFIGURATION.getMessageDefinition(connectorName,
+                                                                                                                      logStoreDirectoryName,
+                                                                                                                      Long.toString(maxSegmentSize),
+                                                                                                                      Integer.toString(segmentLog.getSegmentCount())));
+        }
     }
 
 
     /**
      * Store the open lineage event in the open lineage log store.  If the raw event is null, a json version of the open lineage event is
-     * generated using the Egeria beans.
+     * generated using the Egeria beans.  The event is queued and written to the log by a background thread.
      *
      * @param openLineageEvent event formatted using Egeria beans
      * @param rawEvent event in Json form from the originator - may have facets that are not known to Egeria
@@ -102,8 +143,8 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
 
         if (rawEvent != null)
         {
-            String namespace = "default-namespace/";
-            String jobName = "unformatted/";
+            String namespace = defaultNamespace;
+            String jobName = defaultJobName;
             String runId = UUID.randomUUID().toString();
             String eventType = "UNKNOWN";
 
@@ -135,20 +176,34 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
                     }
                 }
 
-                String timestamp = zonedDateTime.getYear() + "-" +
-                                           zonedDateTime.getMonthValue() +  "-" +
-                                           zonedDateTime.getDayOfMonth() +  ":" +
-                                           zonedDateTime.getHour() +  "-" +
-                                           zonedDateTime.getMinute() +  "-" +
-                                           zonedDateTime.getSecond() +  ":" +
-                                           zonedDateTime.getNano();
+                OpenLineageSegmentLog.LogRecord logRecord = new OpenLineageSegmentLog.LogRecord(zonedDateTime.toInstant().toEpochMilli(),
+                                                                                                namespace,
+                                                                                                jobName,
+                                                                                                runId,
+                                                                                                eventType,
+                                                                                                rawEvent);
 
-                File logStoreFile = new File(logStoreDirectoryName + "/" + namespace + "/" + jobName + "/" + runId + "-" + timestamp + "-" + eventType + ".json");
-
-                FileUtils.writeStringToFile(logStoreFile, rawEvent, (String) null, false);
+                if ((segmentLog == null) || (! segmentLog.append(logRecord)))
+                {
+                    throw new PropertyServerException(
+                            OpenLineageIntegrationConnectorErrorCode.LOG_STORE_CLOSED.getMessageDefinition(connectorName,
+                                                                                                           methodName,
+                                                                                                           logStoreDirectoryName),
+                            this.getClass().getName(),
+                            methodName);
+                }
+            }
+            catch (PropertyServerException error)
+            {
+                throw error;
             }
             catch (Exception error)
             {
+                if (error instanceof InterruptedException)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
                 final String parameterName = "openLineageEvent";
 
                 Map<String, Object> additionalProperties = new HashMap<>();
@@ -174,4 +229,178 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
             super.logNoRawEvent(openLineageEvent, methodName);
         }
     }
+
+
+    /**
+     * Return the events stored for a job in event time order.  This is used to replay the runs of a job.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @param startTime earliest event time to return (null means no limit)
+     * @param endTime latest event time to return (null means no limit)
+     * @param startFrom index of the first event to return
+     * @param pageSize maximum number of events to return (0 means no limit)
+     *
+     * @return list of events in Json form
+     *
+     * @throws InvalidParameterException indicates that the namespace or job name is null.
+     * @throws PropertyServerException  indicates that the log store is not available or has an error.
+     */
+    @Override
+    public List<String> getJobEvents(String namespace,
+                                     String jobName,
+                                     Date   startTime,
+                                     Date   endTime,
+                                     int    startFrom,
+                                     int    pageSize) throws InvalidParameterException,
+                                                             PropertyServerException
+    {
+        final String methodName = "getJobEvents";
+
+        validateQueryParameter(namespace, "namespace", methodName);
+        validateQueryParameter(jobName, "jobName", methodName);
+
+        try
+        {
+            return segmentLog.getJobEvents(namespace,
+                                           jobName,
+                                           (startTime == null) ? Long.MIN_VALUE : startTime.getTime(),
+                                           (endTime == null) ? Long.MAX_VALUE : endTime.getTime(),
+                                           startFrom,
+                                           pageSize);
+        }
+        catch (Exception error)
+        {
+            throw getQueryException(error, methodName);
+        }
+    }
+
+
+    /**
+     * Return the events stored for a single run of a job in event time order.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @param runId unique identifier of the run
+     *
+     * @return list of events in Json form
+     *
+     * @throws InvalidParameterException indicates that the namespace, job name or run identifier is null.
+     * @throws PropertyServerException  indicates that the log store is not available or has an error.
+     */
+    @Override
+    public List<String> getRunEvents(String namespace,
+                                     String jobName,
+                                     String runId) throws InvalidParameterException,
+                                                          PropertyServerException
+    {
+        final String methodName = "getRunEvents";
+
+        validateQueryParameter(namespace, "namespace", methodName);
+        validateQueryParameter(jobName, "jobName", methodName);
+        validateQueryParameter(runId, "runId", methodName);
+
+        try
+        {
+            return segmentLog.getRunEvents(namespace, jobName, runId);
+        }
+        catch (Exception error)
+        {
+            throw getQueryException(error, methodName);
+        }
+    }
+
+
+    /**
+     * Write any queued events and close the log.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public synchronized void disconnect() throws ConnectorCheckedException
+    {
+        if (segmentLog != null)
+        {
+            try
+            {
+                segmentLog.close();
+            }
+            catch (Exception error)
+            {
+                this.logWriteFailure(0, error);
+            }
+        }
+
+        super.disconnect();
+    }
+
+
+    /**
+     * Throw an exception if a query parameter is null.
+     *
+     * @param parameterValue value supplied by the caller
+     * @param parameterName name of the parameter
+     * @param methodName calling method
+     * @throws InvalidParameterException the parameter is null
+     */
+    private void validateQueryParameter(String parameterValue,
+                                        String parameterName,
+                                        String methodName) throws InvalidParameterException
+    {
+        if (parameterValue == null)
+        {
+            throw new InvalidParameterException(
+                    OpenLineageIntegrationConnectorErrorCode.NULL_QUERY_PARAMETER.getMessageDefinition(parameterName,
+                                                                                                       methodName,
+                                                                                                       destinationName),
+                    this.getClass().getName(),
+                    methodName,
+                    parameterName);
+        }
+    }
+
+
+    /**
+     * Return the exception for a query that failed.
+     *
+     * @param error cause of the failure
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private PropertyServerException getQueryException(Exception error,
+                                                      String    methodName)
+    {
+        return new PropertyServerException(
+                OpenLineageIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                   error.getClass().getName(),
+                                                                                                   methodName,
+                                                                                                   error.getMessage()),
+                this.getClass().getName(),
+                methodName,
+                error);
+    }
+
+
+    /**
+     * Record that events could not be written to the log.  Called by the log's writer thread.
+     *
+     * @param eventCount number of events lost
+     * @param error cause of the failure
+     */
+    private void logWriteFailure(int       eventCount,
+                                 Exception error)
+    {
+        final String methodName = "writeEvents";
+
+        if (auditLog != null)
+        {
+            auditLog.logException(methodName,
+                                  OpenLineageIntegrationConnectorAuditCode.LOG_STORE_WRITE_FAILED.getMessageDefinition(connectorName,
+                                                                                                                       Integer.toString(eventCount),
+                                                                                                                       logStoreDirectoryName,
+                                                                                                                       error.getClass().getName(),
+                                                                                                                       error.getMessage()),
+                                  error);
+        }
+    }
 }
@@ -6,6 +6,9 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.connectors.IntegrationConnectorProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * FileBasedOpenLineageLogStoreProvider is the OCF connector provider for the file based open lineage log store.
@@ -35,6 +38,16 @@ public class FileBasedOpenLineageLogStoreProvider extends IntegrationConnectorPr
      */
     private static final Class<?> connectorClass       = FileBasedOpenLineageLogStoreConnector.class;
 
+    /*
+     * Size in bytes at which the log store starts a new segment file.
+     */
+    static final String MAX_SEGMENT_SIZE_CONFIGURATION_PROPERTY = "maxSegmentSize";
+
+    /*
+     * Maximum number of events that are written to the log store in a single batch.
+     */
+    static final String MAX_BATCH_SIZE_CONFIGURATION_PROPERTY = "maxBatchSize";
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -60,6 +73,11 @@ public class FileBasedOpenLineageLogStoreProvider extends IntegrationConnectorPr
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(MAX_SEGMENT_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_BATCH_SIZE_CONFIGURATION_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
 
         /*
@@ -7,6 +7,9 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRunEvent;
 
+import java.util.Date;
+import java.util.List;
+
 
 /**
  * OpenLineageLogStore is the specialized data API for an Open Lineage Log Store destination connector.
@@ -37,4 +40,49 @@ public interface OpenLineageLogStore
                                                          UserNotAuthorizedException,
                                                          PropertyServerException;
 
+
+    /**
+     * Return the events stored for a job in event time order.  This is used to replay the runs of a job.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @param startTime earliest event time to return (null means no limit)
+     * @param endTime latest event time to return (null means no limit)
+     * @param startFrom index of the first event to return
+     * @param pageSize maximum number of events to return (0 means no limit)
+     *
+     * @return list of events in Json form
+     *
+     * @throws InvalidParameterException indicates that the namespace, job name or time range is invalid.
+     * @throws UserNotAuthorizedException indicates that the caller is not authorized to access the log store.
+     * @throws PropertyServerException  indicates that the log store is not available, has an error or does not support queries.
+     */
+    List<String> getJobEvents(String namespace,
+                              String jobName,
+                              Date   startTime,
+                              Date   endTime,
+                              int    startFrom,
+                              int    pageSize) throws InvalidParameterException,
+                                                      UserNotAuthorizedException,
+                                                      PropertyServerException;
+
+
+    /**
+     * Return the events stored for a single run of a job in event time order.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @param runId unique identifier of the run
+     *
+     * @return list of events in Json form
+     *
+     * @throws InvalidParameterException indicates that the namespace, job name or run identifier is invalid.
+     * @throws UserNotAuthorizedException indicates that the caller is not authorized to access the log store.
+     * @throws PropertyServerException  indicates that the log store is not available, has an error or does not support queries.
+     */
+    List<String> getRunEvents(String namespace,
+                              String jobName,
+                              String runId) throws InvalidParameterException,
+                                                   UserNotAuthorizedException,
+                                                   PropertyServerException;
 }
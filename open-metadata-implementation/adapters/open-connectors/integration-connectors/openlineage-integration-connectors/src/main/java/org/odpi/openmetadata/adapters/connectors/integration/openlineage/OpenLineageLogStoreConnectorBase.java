@@ -16,7 +16,9 @@ import org.odpi.openmetadata.integrationservices.lineage.connector.LineageIntegr
 import org.odpi.openmetadata.integrationservices.lineage.connector.OpenLineageEventListener;
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRunEvent;
 
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -68,7 +70,77 @@ public abstract class OpenLineageLogStoreConnectorBase extends LineageIntegrator
                                     String              rawEvent) throws InvalidParameterException,
                                                                          UserNotAuthorizedException,
                                                                          PropertyServerException;
-    
+
+
+    /**
+     * Return the events stored for a job in event time order.  This log store does not support queries.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @param startTime earliest event time to return (null means no limit)
+     * @param endTime latest event time to return (null means no limit)
+     * @param startFrom index of the first event to return
+     * @param pageSize maximum number of events to return (0 means no limit)
+     *
+     * @return list of events in Json form
+     *
+     * @throws InvalidParameterException indicates that the namespace, job name or time range is invalid.
+     * @throws UserNotAuthorizedException indicates that the caller is not authorized to access the log store.
+     * @throws PropertyServerException  indicates that the log store does not support queries.
+     */
+    public List<String> getJobEvents(String namespace,
+                                     String jobName,
+                                     Date   startTime,
+                                     Date   endTime,
+                                     int    startFrom,
+                                     int    pageSize) throws InvalidParameterException,
+                                                             UserNotAuthorizedException,
+                                                             PropertyServerException
+    {
+        final String methodName = "getJobEvents";
+
+        throw this.getQueryNotSupportedException(methodName);
+    }
+
+
+    /**
+     * Return the events stored for a single run of a job in event time order.  This log store does not support queries.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @param runId unique identifier of the run
+     *
+     * @return list of events in Json form
+     *
+     * @throws InvalidParameterException indicates that the namespace, job name or run identifier is invalid.
+     * @throws UserNotAuthorizedException indicates that the caller is not authorized to access the log store.
+     * @throws PropertyServerException  indicates that the log store does not support queries.
+     */
+    public List<String> getRunEvents(String namespace,
+                                     String jobName,
+                                     String runId) throws InvalidParameterException,
+                                                          UserNotAuthorizedException,
+                                                          PropertyServerException
+    {
+        final String methodName = "getRunEvents";
+
+        throw this.getQueryNotSupportedException(methodName);
+    }
+
+
+    /**
+     * Return the exception used by log stores that do not support queries.
+     *
+     * @param methodName query method called
+     * @return exception to throw
+     */
+    private PropertyServerException getQueryNotSupportedException(String methodName)
+    {
+        return new PropertyServerException(OpenLineageIntegrationConnectorErrorCode.QUERY_NOT_SUPPORTED.getMessageDefinition(destinationName,
+                                                                                                                              methodName),
+                                           this.getClass().getName(),
+                                           methodName);
+    }
 
 
     /**
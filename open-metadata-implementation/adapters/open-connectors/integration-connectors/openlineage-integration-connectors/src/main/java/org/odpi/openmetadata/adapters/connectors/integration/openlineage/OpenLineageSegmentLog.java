@@ -0,0 +1,719 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * OpenLineageSegmentLog is an append-only store for open lineage events.  The events are written, one per line, to
+ * segment files in a single directory.  When a segment reaches its maximum size, a new segment is started.
+ * Alongside each segment is an index file with one line per event giving its event time, namespace, job name,
+ * run identifier, event type and position in the segment.  The log keeps a summary of each segment in memory
+ * (its time range and the jobs it contains) so a query only reads the index files of the segments that may hold
+ * matching events, and then only the matching events from the segments.
+ *
+ * Events are queued by the caller and written in batches by a background thread so the caller does not wait
+ * for the file system.  Queries write any queued events first so they see every event stored before the query.
+ */
+class OpenLineageSegmentLog
+{
+    static final String SEGMENT_FILE_PREFIX   = "segment-";
+    static final String SEGMENT_FILE_SUFFIX   = ".log";
+    static final String INDEX_FILE_SUFFIX     = ".index";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final int  EVENT_TIME_FIELD = 0;
+    private static final int  NAMESPACE_FIELD  = 1;
+    private static final int  JOB_NAME_FIELD   = 2;
+    private static final int  RUN_ID_FIELD     = 3;
+    private static final int  EVENT_TYPE_FIELD = 4;
+    private static final int  OFFSET_FIELD     = 5;
+    private static final int  LENGTH_FIELD     = 6;
+
+    private final File                         logDirectory;
+    private final long                         maxSegmentSize;
+    private final int                          maxBatchSize;
+    private final WriteFailureListener         writeFailureListener;
+    private final BlockingQueue<LogRecord>     queuedRecords;
+    private final TreeMap<Long, SegmentSummary> segments  = new TreeMap<>();
+    private final Object                       writeLock = new Object();
+
+    private          SegmentSummary activeSegment = null;
+    private          OutputStream   segmentStream = null;
+    private          OutputStream   indexStream   = null;
+    private          Thread         writerThread  = null;
+    private volatile boolean        running       = false;
+
+
+    /**
+     * Notified when a batch of events could not be written.
+     */
+    interface WriteFailureListener
+    {
+        /**
+         * A batch of events could not be written to the log.
+         *
+         * @param eventCount number of events lost
+         * @param error cause of the failure
+         */
+        void writeFailed(int       eventCount,
+                         Exception error);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param logDirectory directory holding the segment and index files
+     * @param maxSegmentSize size in bytes at which a new segment is started
+     * @param maxBatchSize maximum number of events written in a batch; up to four batches can be queued
+     * @param writeFailureListener notified if events can not be written
+     */
+    OpenLineageSegmentLog(File                 logDirectory,
+                          long                 maxSegmentSize,
+                          int                  maxBatchSize,
+                          WriteFailureListener writeFailureListener)
+    {
+        this.logDirectory         = logDirectory;
+        this.maxSegmentSize       = maxSegmentSize;
+        this.maxBatchSize         = maxBatchSize;
+        this.writeFailureListener = writeFailureListener;
+        this.queuedRecords        = new ArrayBlockingQueue<>(maxBatchSize * 4);
+    }
+
+
+    /**
+     * Load the summaries of the existing segments and start the writer thread.
+     *
+     * @throws IOException the log directory could not be read
+     */
+    void open() throws IOException
+    {
+        Files.createDirectories(logDirectory.toPath());
+
+        File[] indexFiles = logDirectory.listFiles((directory, name) -> name.startsWith(SEGMENT_FILE_PREFIX) && name.endsWith(INDEX_FILE_SUFFIX));
+
+        if (indexFiles != null)
+        {
+            for (File indexFile : indexFiles)
+            {
+                String fileName = indexFile.getName();
+
+                try
+                {
+                    long segmentNumber = Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                                                                           fileName.length() - INDEX_FILE_SUFFIX.length()));
+                    SegmentSummary segmentSummary = new SegmentSummary(segmentNumber);
+
+                    for (IndexEntry indexEntry : readIndex(segmentSummary))
+                    {
+                        segmentSummary.addEntry(indexEntry);
+                    }
+
+                    segmentSummary.size = getSegmentFile(segmentNumber).length();
+                    segments.put(segmentNumber, segmentSummary);
+                }
+                catch (NumberFormatException notASegment)
+                {
+                    // ignore files that happen to match the naming pattern
+                }
+            }
+        }
+
+        running = true;
+        writerThread = new Thread(this::writeQueuedRecords, "OpenLineageSegmentLogWriter-" + logDirectory.getName());
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+
+    /**
+     * Queue an event to be written to the log.  The call waits if the queue is full.
+     *
+     * @param logRecord event to write
+     * @return false if the log is closed
+     * @throws InterruptedException the caller was interrupted while waiting for space in the queue
+     */
+    boolean append(LogRecord logRecord) throws InterruptedException
+    {
+        if (! running)
+        {
+            return false;
+        }
+
+        queuedRecords.put(logRecord);
+        return true;
+    }
+
+
+    /**
+     * Return the events for a job in event time order.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @param fromTime earliest event time (epoch milliseconds, inclusive)
+     * @param toTime latest event time (epoch milliseconds, inclusive)
+     * @param startFrom index of the first event to return
+     * @param pageSize maximum number of events to return (0 means no limit)
+     * @return list of raw events
+     * @throws IOException the log could not be read
+     */
+    List<String> getJobEvents(String namespace,
+                              String jobName,
+                              long   fromTime,
+                              long   toTime,
+                              int    startFrom,
+                              int    pageSize) throws IOException
+    {
+        return this.getEvents(namespace, jobName, null, fromTime, toTime, startFrom, pageSize);
+    }
+
+
+    /**
+     * Return the events for a run of a job in event time order.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @param runId unique identifier of the run
+     * @return list of raw events
+     * @throws IOException the log could not be read
+     */
+    List<String> getRunEvents(String namespace,
+                              String jobName,
+                              String runId) throws IOException
+    {
+        return this.getEvents(namespace, jobName, runId, Long.MIN_VALUE, Long.MAX_VALUE, 0, 0);
+    }
+
+
+    /**
+     * Stop the writer thread, write any queued events and close the files.
+     *
+     * @throws IOException the queued events could not be written or the files could not be closed
+     */
+    void close() throws IOException
+    {
+        running = false;
+
+        if (writerThread != null)
+        {
+            try
+            {
+                writerThread.join();
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (writeLock)
+        {
+            this.writePendingRecords();
+            this.closeActiveSegment();
+        }
+    }
+
+
+    /**
+     * Return the number of segments in the log.
+     *
+     * @return count
+     */
+    int getSegmentCount()
+    {
+        synchronized (writeLock)
+        {
+            return segments.size();
+        }
+    }
+
+
+    /**
+     * Body of the writer thread.  It waits for an event and then writes it along with any others that
+     * have been queued, up to the maximum batch size.
+     */
+    private void writeQueuedRecords()
+    {
+        while (running)
+        {
+            try
+            {
+                LogRecord firstRecord = queuedRecords.poll(1, TimeUnit.SECONDS);
+
+                if (firstRecord != null)
+                {
+                    List<LogRecord> batch = new ArrayList<>();
+
+                    batch.add(firstRecord);
+                    queuedRecords.drainTo(batch, maxBatchSize - 1);
+
+                    synchronized (writeLock)
+                    {
+                        this.writeBatch(batch);
+                    }
+                }
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Write all queued events.  The caller holds the write lock.
+     */
+    private void writePendingRecords()
+    {
+        List<LogRecord> batch = new ArrayList<>();
+
+        queuedRecords.drainTo(batch);
+
+        if (! batch.isEmpty())
+        {
+            this.writeBatch(batch);
+        }
+    }
+
+
+    /**
+     * Write a batch of events to the active segment and its index.  The caller holds the write lock.
+     *
+     * @param batch events to write
+     */
+    private void writeBatch(List<LogRecord> batch)
+    {
+        try
+        {
+            for (LogRecord logRecord : batch)
+            {
+                /*
+                 * Line breaks in a JSON document can only be whitespace so they are replaced to give one event per line.
+                 */
+                byte[] eventBytes = logRecord.rawEvent.replace('\r', ' ').replace('\n', ' ').getBytes(StandardCharsets.UTF_8);
+
+                if ((activeSegment == null) || ((activeSegment.size > 0) && (activeSegment.size + eventBytes.length + 1 > maxSegmentSize)))
+                {
+                    this.startNewSegment();
+                }
+
+                IndexEntry indexEntry = new IndexEntry(logRecord.eventTime,
+                                                       logRecord.namespace,
+                                                       logRecord.jobName,
+                                                       logRecord.runId,
+                                                       logRecord.eventType,
+                                                       activeSegment.segmentNumber,
+                                                       activeSegment.size,
+                                                       eventBytes.length);
+
+                segmentStream.write(eventBytes);
+                segmentStream.write('\n');
+                indexStream.write(objectMapper.writeValueAsBytes(indexEntry.toJSON()));
+                indexStream.write('\n');
+
+                activeSegment.size += eventBytes.length + 1;
+                activeSegment.addEntry(indexEntry);
+            }
+
+            /*
+             * The segment is flushed before the index so the index never refers to an event that has not been written.
+             */
+            segmentStream.flush();
+            indexStream.flush();
+        }
+        catch (Exception error)
+        {
+            this.closeActiveSegment();
+
+            if (writeFailureListener != null)
+            {
+                writeFailureListener.writeFailed(batch.size(), error);
+            }
+        }
+    }
+
+
+    /**
+     * Close the current segment and start a new one.  The caller holds the write lock.
+     *
+     * @throws IOException the new segment could not be created
+     */
+    private void startNewSegment() throws IOException
+    {
+        this.closeActiveSegment();
+
+        long segmentNumber = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+
+        activeSegment = new SegmentSummary(segmentNumber);
+        segmentStream = new BufferedOutputStream(new FileOutputStream(getSegmentFile(segmentNumber), true));
+        indexStream   = new BufferedOutputStream(new FileOutputStream(getIndexFile(segmentNumber), true));
+
+        segments.put(segmentNumber, activeSegment);
+    }
+
+
+    /**
+     * Close the files of the active segment.  The next event is written to a new segment.
+     */
+    private void closeActiveSegment()
+    {
+        for (OutputStream outputStream : new OutputStream[]{ segmentStream, indexStream })
+        {
+            if (outputStream != null)
+            {
+                try
+                {
+                    outputStream.close();
+                }
+                catch (IOException error)
+                {
+                    // nothing more can be done with the stream
+                }
+            }
+        }
+
+        segmentStream = null;
+        indexStream   = null;
+        activeSegment = null;
+    }
+
+
+    /**
+     * Return the events that match the query in event time order.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @param runId unique identifier of the run or null for all runs
+     * @param fromTime earliest event time (inclusive)
+     * @param toTime latest event time (inclusive)
+     * @param startFrom index of the first event to return
+     * @param pageSize maximum number of events to return (0 means no limit)
+     * @return list of raw events
+     * @throws IOException the log could not be read
+     */
+    private List<String> getEvents(String namespace,
+                                   String jobName,
+                                   String runId,
+                                   long   fromTime,
+                                   long   toTime,
+                                   int    startFrom,
+                                   int    pageSize) throws IOException
+    {
+        String           jobKey         = getJobKey(namespace, jobName);
+        List<IndexEntry> matchedEntries = new ArrayList<>();
+
+        synchronized (writeLock)
+        {
+            this.writePendingRecords();
+
+            for (SegmentSummary segmentSummary : segments.values())
+            {
+                if (segmentSummary.mayContain(jobKey, fromTime, toTime))
+                {
+                    for (IndexEntry indexEntry : readIndex(segmentSummary))
+                    {
+                        if ((jobKey.equals(getJobKey(indexEntry.namespace, indexEntry.jobName))) &&
+                            ((runId == null) || (runId.equals(indexEntry.runId))) &&
+                            (indexEntry.eventTime >= fromTime) && (indexEntry.eventTime <= toTime))
+                        {
+                            matchedEntries.add(indexEntry);
+                        }
+                    }
+                }
+            }
+        }
+
+        matchedEntries.sort(Comparator.comparingLong((IndexEntry indexEntry) -> indexEntry.eventTime)
+                                      .thenComparingLong(indexEntry -> indexEntry.segmentNumber)
+                                      .thenComparingLong(indexEntry -> indexEntry.offset));
+
+        int fromIndex = Math.min(Math.max(startFrom, 0), matchedEntries.size());
+        int toIndex   = (pageSize > 0) ? Math.min(fromIndex + pageSize, matchedEntries.size()) : matchedEntries.size();
+
+        return this.readEvents(matchedEntries.subList(fromIndex, toIndex));
+    }
+
+
+    /**
+     * Read the events for a list of index entries, opening each segment once.
+     *
+     * @param indexEntries index entries in the order the events should be returned
+     * @return list of raw events
+     * @throws IOException a segment could not be read
+     */
+    private List<String> readEvents(List<IndexEntry> indexEntries) throws IOException
+    {
+        Map<Long, List<Integer>> positionsBySegment = new TreeMap<>();
+
+        for (int position = 0; position < indexEntries.size(); position++)
+        {
+            positionsBySegment.computeIfAbsent(indexEntries.get(position).segmentNumber, segmentNumber -> new ArrayList<>()).add(position);
+        }
+
+        String[] events = new String[indexEntries.size()];
+
+        for (Map.Entry<Long, List<Integer>> segmentPositions : positionsBySegment.entrySet())
+        {
+            try (RandomAccessFile segmentFile = new RandomAccessFile(getSegmentFile(segmentPositions.getKey()), "r"))
+            {
+                for (int position : segmentPositions.getValue())
+                {
+                    IndexEntry indexEntry = indexEntries.get(position);
+                    byte[]     eventBytes = new byte[indexEntry.length];
+
+                    segmentFile.seek(indexEntry.offset);
+                    segmentFile.readFully(eventBytes);
+
+                    events[position] = new String(eventBytes, StandardCharsets.UTF_8);
+                }
+            }
+        }
+
+        return new ArrayList<>(Arrays.asList(events));
+    }
+
+
+    /**
+     * Read the index file of a segment.  Lines that can not be parsed, such as a line that was partly written
+     * when the server stopped, are skipped.
+     *
+     * @param segmentSummary segment to read
+     * @return list of index entries
+     * @throws IOException the index file could not be read
+     */
+    private List<IndexEntry> readIndex(SegmentSummary segmentSummary) throws IOException
+    {
+        List<IndexEntry> indexEntries = new ArrayList<>();
+        File             indexFile    = getIndexFile(segmentSummary.segmentNumber);
+
+        if (indexFile.exists())
+        {
+            try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8))
+            {
+                String line;
+
+                while ((line = reader.readLine()) != null)
+                {
+                    try
+                    {
+                        JsonNode indexLine = objectMapper.readTree(line);
+
+                        indexEntries.add(new IndexEntry(indexLine.get(EVENT_TIME_FIELD).asLong(),
+                                                        indexLine.get(NAMESPACE_FIELD).asText(),
+                                                        indexLine.get(JOB_NAME_FIELD).asText(),
+                                                        indexLine.get(RUN_ID_FIELD).asText(),
+                                                        indexLine.get(EVENT_TYPE_FIELD).asText(),
+                                                        segmentSummary.segmentNumber,
+                                                        indexLine.get(OFFSET_FIELD).asLong(),
+                                                        indexLine.get(LENGTH_FIELD).asInt()));
+                    }
+                    catch (Exception badLine)
+                    {
+                        // skip the line
+                    }
+                }
+            }
+        }
+
+        return indexEntries;
+    }
+
+
+    /**
+     * Return the segment file for a segment number.
+     *
+     * @param segmentNumber number of the segment
+     * @return file
+     */
+    private File getSegmentFile(long segmentNumber)
+    {
+        return new File(logDirectory, String.format("%s%012d%s", SEGMENT_FILE_PREFIX, segmentNumber, SEGMENT_FILE_SUFFIX));
+    }
+
+
+    /**
+     * Return the index file for a segment number.
+     *
+     * @param segmentNumber number of the segment
+     * @return file
+     */
+    private File getIndexFile(long segmentNumber)
+    {
+        return new File(logDirectory, String.format("%s%012d%s", SEGMENT_FILE_PREFIX, segmentNumber, INDEX_FILE_SUFFIX));
+    }
+
+
+    /**
+     * Return the key used to identify a job.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @return key
+     */
+    private static String getJobKey(String namespace,
+                                    String jobName)
+    {
+        return namespace + '\u0000' + jobName;
+    }
+
+
+    /**
+     * LogRecord is an event waiting to be written.
+     */
+    static class LogRecord
+    {
+        private final long   eventTime;
+        private final String namespace;
+        private final String jobName;
+        private final String runId;
+        private final String eventType;
+        private final String rawEvent;
+
+
+        /**
+         * Constructor.
+         *
+         * @param eventTime time of the event (epoch milliseconds)
+         * @param namespace namespace of the job
+         * @param jobName name of the job
+         * @param runId unique identifier of the run
+         * @param eventType type of event, such as START or COMPLETE
+         * @param rawEvent JSON event
+         */
+        LogRecord(long   eventTime,
+                  String namespace,
+                  String jobName,
+                  String runId,
+                  String eventType,
+                  String rawEvent)
+        {
+            this.eventTime = eventTime;
+            this.namespace = namespace;
+            this.jobName   = jobName;
+            this.runId     = runId;
+            this.eventType = eventType;
+            this.rawEvent  = rawEvent;
+        }
+    }
+
+
+    /**
+     * IndexEntry is the location of an event in a segment along with the properties it can be found by.
+     */
+    private static class IndexEntry
+    {
+        private final long   eventTime;
+        private final String namespace;
+        private final String jobName;
+        private final String runId;
+        private final String eventType;
+        private final long   segmentNumber;
+        private final long   offset;
+        private final int    length;
+
+
+        IndexEntry(long   eventTime,
+                   String namespace,
+                   String jobName,
+                   String runId,
+                   String eventType,
+                   long   segmentNumber,
+                   long   offset,
+                   int    length)
+        {
+            this.eventTime     = eventTime;
+            this.namespace     = namespace;
+            this.jobName       = jobName;
+            this.runId         = runId;
+            this.eventType     = eventType;
+            this.segmentNumber = segmentNumber;
+            this.offset        = offset;
+            this.length        = length;
+        }
+
+
+        /**
+         * Return the entry as it is stored in the index file.  The segment number is given by the file.
+         *
+         * @return JSON array
+         */
+        JsonNode toJSON()
+        {
+            ArrayNode indexLine = objectMapper.createArrayNode();
+
+            indexLine.add(eventTime);
+            indexLine.add(namespace);
+            indexLine.add(jobName);
+            indexLine.add(runId);
+            indexLine.add(eventType);
+            indexLine.add(offset);
+            indexLine.add(length);
+
+            return indexLine;
+        }
+    }
+
+
+    /**
+     * SegmentSummary is held in memory for each segment so that queries can skip segments that do not
+     * contain the requested job or time range.
+     */
+    private static class SegmentSummary
+    {
+        private final long        segmentNumber;
+        private final Set<String> jobKeys      = new HashSet<>();
+        private       long        minEventTime = Long.MAX_VALUE;
+        private       long        maxEventTime = Long.MIN_VALUE;
+        private       long        size         = 0;
+
+
+        SegmentSummary(long segmentNumber)
+        {
+            this.segmentNumber = segmentNumber;
+        }
+
+
+        void addEntry(IndexEntry indexEntry)
+        {
+            jobKeys.add(getJobKey(indexEntry.namespace, indexEntry.jobName));
+            minEventTime = Math.min(minEventTime, indexEntry.eventTime);
+            maxEventTime = Math.max(maxEventTime, indexEntry.eventTime);
+        }
+
+
+        boolean mayContain(String jobKey,
+                           long   fromTime,
+                           long   toTime)
+        {
+            return jobKeys.contains(jobKey) && (minEventTime <= toTime) && (maxEventTime >= fromTime);
+        }
+    }
+}
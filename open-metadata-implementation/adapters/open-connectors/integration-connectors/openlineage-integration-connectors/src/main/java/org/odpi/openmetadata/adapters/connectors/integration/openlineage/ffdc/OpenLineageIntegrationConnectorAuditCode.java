@@ -122,6 +122,17 @@ public enum OpenLineageIntegrationConnectorAuditCode implements AuditLogMessageS
                               "Its presence is still needed in the metadata repository for lineage reporting.",
                       "No action is required.  This message is to record the reason why the Topic was archived."),
 
+    LOG_STORE_CONFIGURATION("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0021",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} integration connector is storing open lineage events in directory {1} using segments of up to {2} bytes; it found {3} existing segments",
+                      "The connector appends the open lineage events it receives to the current segment and indexes them by namespace, job, run and event time.",
+                      "No action is required.  This message records the configuration of the log store."),
+
+    LOG_STORE_WRITE_FAILED("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0022",
+                      OMRSAuditLogRecordSeverity.EXCEPTION,
+                      "The {0} integration connector was unable to write {1} open lineage events to its log store in directory {2}; the {3} exception was returned with message {4}",
+                      "The events are lost.  The connector starts a new segment for the events that it receives next.",
+                      "Use the details from the error message to determine the cause of the error, such as a full file system, and correct it."),
 
     ;
 
@@ -26,6 +26,11 @@ import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageSet
  */
 public enum OpenLineageIntegrationConnectorErrorCode implements ExceptionMessageSet
 {
+    NULL_QUERY_PARAMETER(400, "OPEN-LINEAGE-INTEGRATION-CONNECTOR-400-001",
+                         "The {0} parameter passed to method {1} of the {2} open lineage log store is null",
+                         "The query is rejected because the log store can not identify the events to return.",
+                         "Correct the caller's code so that it supplies a value for the parameter and retry the request."),
+
     UNEXPECTED_EXCEPTION(500, "OPEN-LINEAGE-INTEGRATION-CONNECTOR-500-001",
              "The {0} integration connector received an unexpected {1} exception in method {2} when working with open lineage events; the error message was: {3}",
              "The connector is unable to process one or more lineage events.",
@@ -35,6 +40,16 @@ public enum OpenLineageIntegrationConnectorErrorCode implements ExceptionMessage
                          "The {0} integration connector received an null raw open lineage event in method {1} when working with open lineage events",
                          "The connector is unable to process an open lineage events because it has no content.",
                          "Validate the set up and source of the events and retry the request once it is resolved."),
+
+    LOG_STORE_CLOSED(500, "OPEN-LINEAGE-INTEGRATION-CONNECTOR-500-003",
+                     "The {0} integration connector is unable to store an open lineage event in method {1} because its log store in {2} is closed",
+                     "The event is not stored.",
+                     "The log store is closed when the connector is disconnected.  Check that the connector is running and retry the request."),
+
+    QUERY_NOT_SUPPORTED(501, "OPEN-LINEAGE-INTEGRATION-CONNECTOR-501-001",
+                        "The {0} open lineage log store does not support query method {1}",
+                        "The log store is only able to store open lineage events.",
+                        "Use a log store connector that supports queries, such as the file-based open lineage log store, to replay open lineage events."),
     ;
 
 
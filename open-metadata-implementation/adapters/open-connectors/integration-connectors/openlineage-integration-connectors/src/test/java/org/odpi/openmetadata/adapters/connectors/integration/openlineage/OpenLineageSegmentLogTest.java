@@ -0,0 +1,133 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that OpenLineageSegmentLog rolls segments, finds events by job and run and returns them in event time order.
+ */
+public class OpenLineageSegmentLogTest
+{
+    private static final String namespace = "test-namespace";
+
+
+    /**
+     * Return a log that starts a new segment every few events.
+     *
+     * @param logDirectory directory for the log
+     * @param writeFailures list to add write failures to
+     * @return open log
+     * @throws Exception the log could not be opened
+     */
+    private OpenLineageSegmentLog getLog(File            logDirectory,
+                                         List<Exception> writeFailures) throws Exception
+    {
+        OpenLineageSegmentLog segmentLog = new OpenLineageSegmentLog(logDirectory,
+                                                                     200,
+                                                                     10,
+                                                                     (eventCount, error) -> writeFailures.add(error));
+        segmentLog.open();
+
+        return segmentLog;
+    }
+
+
+    /**
+     * Return a raw event.
+     *
+     * @param jobName name of the job
+     * @param runId unique identifier of the run
+     * @param eventTime time of the event
+     * @return JSON string
+     */
+    private String getRawEvent(String jobName,
+                               String runId,
+                               long   eventTime)
+    {
+        return "{\n  \"job\": \"" + jobName + "\",\n  \"run\": \"" + runId + "\",\n  \"time\": " + eventTime + "\n}";
+    }
+
+
+    /**
+     * Validate the queries, including after the log has been closed and opened again.
+     *
+     * @throws Exception test failed
+     */
+    @Test public void testQueries() throws Exception
+    {
+        File                  logDirectory  = Files.createTempDirectory("open-lineage-log").toFile();
+        List<Exception>       writeFailures = new ArrayList<>();
+        OpenLineageSegmentLog segmentLog    = getLog(logDirectory, writeFailures);
+
+        /*
+         * The events arrive out of time order and the jobs are interleaved.
+         */
+        long[] eventTimes = { 5000L, 1000L, 3000L, 2000L, 4000L };
+
+        for (int run = 0; run < eventTimes.length; run++)
+        {
+            long eventTime = eventTimes[run];
+
+            assertTrue(segmentLog.append(new OpenLineageSegmentLog.LogRecord(eventTime, namespace, "jobA", "run" + run, "START",
+                                                                             getRawEvent("jobA", "run" + run, eventTime))));
+            assertTrue(segmentLog.append(new OpenLineageSegmentLog.LogRecord(eventTime, namespace, "jobB", "run" + run, "START",
+                                                                             getRawEvent("jobB", "run" + run, eventTime))));
+            assertTrue(segmentLog.append(new OpenLineageSegmentLog.LogRecord(eventTime + 500, namespace, "jobA", "run" + run, "COMPLETE",
+                                                                             getRawEvent("jobA", "run" + run, eventTime + 500))));
+        }
+
+        List<String> jobEvents = segmentLog.getJobEvents(namespace, "jobA", Long.MIN_VALUE, Long.MAX_VALUE, 0, 0);
+
+        assertEquals(jobEvents.size(), 10);
+        assertEquals(jobEvents.get(0), "{   \"job\": \"jobA\",   \"run\": \"run1\",   \"time\": 1000 }");
+        assertTrue(segmentLog.getSegmentCount() > 1);
+
+        long previousTime = Long.MIN_VALUE;
+
+        for (String jobEvent : jobEvents)
+        {
+            long eventTime = Long.parseLong(jobEvent.substring(jobEvent.lastIndexOf(':') + 2, jobEvent.lastIndexOf(' ')));
+
+            assertTrue(eventTime >= previousTime);
+            assertTrue(jobEvent.contains("jobA"));
+            previousTime = eventTime;
+        }
+
+        assertEquals(segmentLog.getJobEvents(namespace, "jobA", 2000L, 3000L, 0, 0).size(), 3);
+        assertEquals(segmentLog.getJobEvents(namespace, "jobA", Long.MIN_VALUE, Long.MAX_VALUE, 8, 5).size(), 2);
+        assertEquals(segmentLog.getJobEvents("other-namespace", "jobA", Long.MIN_VALUE, Long.MAX_VALUE, 0, 0).size(), 0);
+        assertEquals(segmentLog.getRunEvents(namespace, "jobA", "run3").size(), 2);
+
+        segmentLog.close();
+
+        assertFalse(segmentLog.append(new OpenLineageSegmentLog.LogRecord(0L, namespace, "jobA", "run9", "START", "{}")));
+
+        /*
+         * The segments are found again when the log is reopened and new events go to a new segment.
+         */
+        int segmentCount = segmentLog.getSegmentCount();
+
+        segmentLog = getLog(logDirectory, writeFailures);
+
+        assertEquals(segmentLog.getSegmentCount(), segmentCount);
+        assertTrue(segmentLog.append(new OpenLineageSegmentLog.LogRecord(6000L, namespace, "jobB", "run5", "START",
+                                                                         getRawEvent("jobB", "run5", 6000L))));
+        assertEquals(segmentLog.getJobEvents(namespace, "jobB", Long.MIN_VALUE, Long.MAX_VALUE, 0, 0).size(), 6);
+        assertEquals(segmentLog.getSegmentCount(), segmentCount + 1);
+
+        segmentLog.close();
+
+        assertTrue(writeFailures.isEmpty());
+    }
+}
@@ -9,15 +9,18 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationOrigin;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityBatchItem;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceBatchResult;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.RelationshipBatchItem;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
@@ -40,6 +43,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidEntityExce
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidRelationshipException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidTypeDefException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipConflictException;
@@ -268,6 +272,143 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         return newEntity;
     }
 
+    // addEntities
+    // Each item is validated and built in turn.  The valid entities are then created in a single graph transaction.
+    // If the transaction fails, the entities are retried one at a time so that the failing items can be identified.
+    @Override
+    public List<InstanceBatchResult> addEntities(String                userId,
+                                                 List<EntityBatchItem> newEntities) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           FunctionNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String methodName = "addEntities";
+
+        super.validateInstanceBatch(userId, newEntities, methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>();
+        List<InstanceBatchResult> validResults = new ArrayList<>();
+        List<EntityDetail>        validEntities = new ArrayList<>();
+
+        int itemIndex = 0;
+        for (EntityBatchItem newEntityItem : newEntities)
+        {
+            InstanceBatchResult result = new InstanceBatchResult(itemIndex);
+
+            try
+            {
+                validEntities.add(this.getNewEntity(userId, newEntityItem, methodName));
+                validResults.add(result);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                super.captureBatchItemException(result, error);
+            }
+
+            results.add(result);
+            itemIndex++;
+        }
+
+        if (! validEntities.isEmpty())
+        {
+            try
+            {
+                List<EntityDetail> storedEntities = graphStore.createEntitiesInStore(validEntities);
+
+                for (int index = 0; index < storedEntities.size(); index++)
+                {
+                    validResults.get(index).setEntity(storedEntities.get(index));
+                }
+            }
+            catch (InvalidParameterException | RepositoryErrorException batchError)
+            {
+                log.debug("{} batch transaction failed - retrying each entity: {}", methodName, batchError.getMessage());
+
+                for (int index = 0; index < validEntities.size(); index++)
+                {
+                    try
+                    {
+                        validResults.get(index).setEntity(graphStore.createEntityInStore(validEntities.get(index)));
+                    }
+                    catch (InvalidParameterException | RepositoryErrorException error)
+                    {
+                        super.captureBatchItemException(validResults.get(index), error);
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+
+    // Validate one of the items passed to addEntities and build the new entity in the same way as
+    // addEntity/addExternalEntity.
+    private EntityDetail getNewEntity(String          userId,
+                                      EntityBatchItem newEntityItem,
+                                      String          methodName) throws OMRSCheckedExceptionBase
+    {
+        super.validateBatchItem(newEntityItem, methodName);
+
+        EntityDetail newEntity;
+
+        if (newEntityItem.getExternalSourceGUID() == null)
+        {
+            TypeDef typeDef = super.addEntityParameterValidation(userId,
+                                                                 newEntityItem.getEntityTypeGUID(),
+                                                                 newEntityItem.getInitialProperties(),
+                                                                 newEntityItem.getInitialClassifications(),
+                                                                 newEntityItem.getInitialStatus(),
+                                                                 methodName);
+
+            newEntity = repositoryHelper.getNewEntity(repositoryName,
+                                                      metadataCollectionId,
+                                                      InstanceProvenanceType.LOCAL_COHORT,
+                                                      userId,
+                                                      typeDef.getName(),
+                                                      newEntityItem.getInitialProperties(),
+                                                      newEntityItem.getInitialClassifications());
+
+            newEntity.setMetadataCollectionName(metadataCollectionName);
+        }
+        else
+        {
+            TypeDef typeDef = super.addExternalEntityParameterValidation(userId,
+                                                                         newEntityItem.getEntityTypeGUID(),
+                                                                         newEntityItem.getExternalSourceGUID(),
+                                                                         newEntityItem.getInitialProperties(),
+                                                                         newEntityItem.getInitialClassifications(),
+                                                                         newEntityItem.getInitialStatus(),
+                                                                         methodName);
+
+            newEntity = repositoryHelper.getNewEntity(repositoryName,
+                                                      newEntityItem.getExternalSourceGUID(),
+                                                      InstanceProvenanceType.EXTERNAL_SOURCE,
+                                                      userId,
+                                                      typeDef.getName(),
+                                                      newEntityItem.getInitialProperties(),
+                                                      newEntityItem.getInitialClassifications());
+
+            newEntity.setMetadataCollectionName(newEntityItem.getExternalSourceName());
+            newEntity.setReplicatedBy(metadataCollectionId);
+        }
+
+        /*
+         * If an initial status is supplied then override the default value.
+         */
+        if (newEntityItem.getInitialStatus() != null)
+        {
+            newEntity.setStatus(newEntityItem.getInitialStatus());
+        }
+
+        return newEntity;
+    }
+
+
 
     // addEntityProxy
     @Override
@@ -421,6 +562,57 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // getEntitiesDetail
+    @Override
+    public List<EntityDetail> getEntitiesDetail(String       userId,
+                                                List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "getEntitiesDetail";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation - the entities are retrieved with one traversal of the graph
+         */
+        List<String> entityGUIDs = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            if ((guid != null) && (!entityGUIDs.contains(guid)))
+            {
+                entityGUIDs.add(guid);
+            }
+        }
+
+        List<EntityDetail> results = new ArrayList<>();
+
+        if (!entityGUIDs.isEmpty())
+        {
+            for (EntityDetail entity : graphStore.getEntityDetailsFromStore(entityGUIDs))
+            {
+                if (entity.getStatus() != InstanceStatus.DELETED)
+                {
+                    results.add(entity);
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     // addRelationship
     @Override
     public Relationship addRelationship(String               userId,
@@ -578,6 +770,151 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         return relationship;
     }
 
+    // addRelationships
+    // Each item is validated and built in turn.  The valid relationships are then created in a single graph transaction.
+    // If the transaction fails, the relationships are retried one at a time so that the failing items can be identified.
+    @Override
+    public List<InstanceBatchResult> addRelationships(String                      userId,
+                                                      List<RelationshipBatchItem> newRelationships) throws InvalidParameterException,
+                                                                                                           RepositoryErrorException,
+                                                                                                           FunctionNotSupportedException,
+                                                                                                           UserNotAuthorizedException
+    {
+        final String methodName = "addRelationships";
+
+        super.validateInstanceBatch(userId, newRelationships, methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>();
+        List<InstanceBatchResult> validResults = new ArrayList<>();
+        List<Relationship>        validRelationships = new ArrayList<>();
+
+        int itemIndex = 0;
+        for (RelationshipBatchItem newRelationshipItem : newRelationships)
+        {
+            InstanceBatchResult result = new InstanceBatchResult(itemIndex);
+
+            try
+            {
+                validRelationships.add(this.getNewRelationship(userId, newRelationshipItem, methodName));
+                validResults.add(result);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                super.captureBatchItemException(result, error);
+            }
+
+            results.add(result);
+            itemIndex++;
+        }
+
+        if (! validRelationships.isEmpty())
+        {
+            try
+            {
+                graphStore.createRelationshipsInStore(validRelationships);
+
+                for (int index = 0; index < validRelationships.size(); index++)
+                {
+                    validResults.get(index).setRelationship(validRelationships.get(index));
+                }
+            }
+            catch (InvalidParameterException | RepositoryErrorException batchError)
+            {
+                log.debug("{} batch transaction failed - retrying each relationship: {}", methodName, batchError.getMessage());
+
+                for (int index = 0; index < validRelationships.size(); index++)
+                {
+                    try
+                    {
+                        graphStore.createRelationshipInStore(validRelationships.get(index));
+                        validResults.get(index).setRelationship(validRelationships.get(index));
+                    }
+                    catch (InvalidParameterException | RepositoryErrorException error)
+                    {
+                        super.captureBatchItemException(validResults.get(index), error);
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+
+    // Validate one of the items passed to addRelationships and build the new relationship in the same way as
+    // addRelationship/addExternalRelationship.
+    private Relationship getNewRelationship(String                userId,
+                                            RelationshipBatchItem newRelationshipItem,
+                                            String                methodName) throws OMRSCheckedExceptionBase
+    {
+        super.validateBatchItem(newRelationshipItem, methodName);
+
+        String entityOneGUID = newRelationshipItem.getEntityOneGUID();
+        String entityTwoGUID = newRelationshipItem.getEntityTwoGUID();
+
+        TypeDef typeDef = super.addRelationshipParameterValidation(userId,
+                                                                   newRelationshipItem.getRelationshipTypeGUID(),
+                                                                   newRelationshipItem.getInitialProperties(),
+                                                                   entityOneGUID,
+                                                                   entityTwoGUID,
+                                                                   newRelationshipItem.getInitialStatus(),
+                                                                   methodName);
+
+        Relationship relationship;
+
+        if (newRelationshipItem.getExternalSourceGUID() == null)
+        {
+            relationship = repositoryHelper.getNewRelationship(repositoryName,
+                                                               metadataCollectionId,
+                                                               InstanceProvenanceType.LOCAL_COHORT,
+                                                               userId,
+                                                               typeDef.getName(),
+                                                               newRelationshipItem.getInitialProperties());
+        }
+        else
+        {
+            relationship = repositoryHelper.getNewRelationship(repositoryName,
+                                                               newRelationshipItem.getExternalSourceGUID(),
+                                                               InstanceProvenanceType.EXTERNAL_SOURCE,
+                                                               userId,
+                                                               typeDef.getName(),
+                                                               newRelationshipItem.getInitialProperties());
+
+            relationship.setMetadataCollectionName(newRelationshipItem.getExternalSourceName());
+            relationship.setReplicatedBy(metadataCollectionId);
+        }
+
+        EntityProxy entityOneProxy = graphStore.getEntityProxyFromStore(entityOneGUID);
+
+        repositoryValidator.validateEntityFromStore(repositoryName, entityOneGUID, entityOneProxy, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entityOneProxy, methodName);
+
+        EntityProxy entityTwoProxy = graphStore.getEntityProxyFromStore(entityTwoGUID);
+
+        repositoryValidator.validateEntityFromStore(repositoryName, entityTwoGUID, entityTwoProxy, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entityTwoProxy, methodName);
+
+        repositoryValidator.validateRelationshipEnds(repositoryName, entityOneProxy, entityTwoProxy, typeDef, methodName);
+
+        relationship.setEntityOneProxy(entityOneProxy);
+        relationship.setEntityTwoProxy(entityTwoProxy);
+
+        /*
+         * If an initial status is supplied then override the default value.
+         */
+        if (newRelationshipItem.getInitialStatus() != null)
+        {
+            relationship.setStatus(newRelationshipItem.getInitialStatus());
+        }
+
+        return relationship;
+    }
+
+
 
     // getRelationship
     @Override
@@ -172,6 +172,49 @@ class GraphOMRSMetadataStore {
     //
     synchronized EntityDetail createEntityInStore(EntityDetail entity)
 
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        addEntityToGraph(g, entity);
+
+        g.tx().commit();
+
+        return entity;
+    }
+
+
+    // Create a batch of entities in a single graph transaction.  If any of the entities cannot be created the
+    // whole transaction is rolled back and the exception is returned to the caller - none of the entities are saved.
+    //
+    synchronized List<EntityDetail> createEntitiesInStore(List<EntityDetail> entities)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        final String methodName = "createEntitiesInStore";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        for (EntityDetail entity : entities)
+        {
+            addEntityToGraph(g, entity);
+        }
+
+        log.debug("{} Commit tx containing creation of {} entities", methodName, entities.size());
+        g.tx().commit();
+
+        return entities;
+    }
+
+
+    // Add the vertices for a new entity to the current graph transaction.  The caller is responsible for committing
+    // the transaction.  If the entity cannot be added, the transaction is rolled back and an exception thrown.
+    //
+    private void addEntityToGraph(GraphTraversalSource g,
+                                  EntityDetail         entity)
+
     throws RepositoryErrorException,
            InvalidParameterException
     {
@@ -179,7 +222,6 @@ class GraphOMRSMetadataStore {
 
         Vertex vertex;
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
 
         if (vertexIt.hasNext())
@@ -276,11 +318,6 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-
-        g.tx().commit();
-
-        return entity;
     }
 
     // A note on existence checking:
@@ -706,6 +743,70 @@ class GraphOMRSMetadataStore {
         return entity;
     }
 
+    /*
+     * Retrieve a list of entities with a single traversal.  Guids for entities that are not in the graph, or that are
+     * only proxies, are skipped.  The entities are returned in the order of the guids.
+     */
+    synchronized List<EntityDetail> getEntityDetailsFromStore(List<String> guids)
+
+    throws RepositoryErrorException
+    {
+
+        String methodName = "getEntityDetailsFromStore";
+
+        Map<String, EntityDetail> retrievedEntities = new HashMap<>();
+
+        // Look in the graph
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(guids));
+
+        try
+        {
+            while (gt.hasNext())
+            {
+                Vertex vertex = gt.next();
+                log.debug("{} found entity vertex {}", methodName, vertex);
+
+                if ((vertex != null) && (!entityMapper.isProxy(vertex)))
+                {
+                    EntityDetail entity = new EntityDetail();
+                    entityMapper.mapVertexToEntityDetail(vertex, entity);
+                    retrievedEntities.put(entity.getGUID(), entity);
+                }
+            }
+        }
+        catch (RepositoryErrorException | EntityProxyOnlyException e)
+        {
+            log.error("{} Caught exception {}", methodName, e.getMessage());
+            g.tx().rollback();
+
+            throw new RepositoryErrorException(
+                    GraphOMRSErrorCode.ENTITY_NOT_FOUND.getMessageDefinition(
+                            guids.toString(), methodName,
+                            this.getClass().getName(),
+                            repositoryName),
+                    this.getClass().getName(),
+                    methodName, e);
+        }
+
+        g.tx().commit();
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = retrievedEntities.remove(guid);
+
+            if (entity != null)
+            {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
     synchronized EntitySummary getEntitySummaryFromStore(String guid)
 
     throws EntityNotKnownException,
@@ -843,10 +944,56 @@ class GraphOMRSMetadataStore {
     {
         String methodName = "createRelationshipInStore";
 
-        // Begin a graph transaction. Locate the vertices for the ends, and create an edge between them.
+        // Begin a graph transaction, add the edge and commit.
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        addRelationshipToGraph(g, relationship);
+
+        log.debug("{} Commit tx containing creation of edge", methodName);
+        g.tx().commit();
+
+    }
+
+
+    // Create a batch of relationships in a single graph transaction.  If any of the relationships cannot be created the
+    // whole transaction is rolled back and the exception is returned to the caller - none of the relationships are saved.
+    //
+    synchronized void createRelationshipsInStore(List<Relationship> relationships)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+
+    {
+        String methodName = "createRelationshipsInStore";
 
         GraphTraversalSource g = instanceGraph.traversal();
 
+        for (Relationship relationship : relationships)
+        {
+            addRelationshipToGraph(g, relationship);
+        }
+
+        log.debug("{} Commit tx containing creation of {} edges", methodName, relationships.size());
+        g.tx().commit();
+
+    }
+
+
+    // Add the edge for a new relationship to the current graph transaction.  The caller is responsible for committing
+    // the transaction.  If the edge cannot be added, the transaction is rolled back and an exception thrown.
+    //
+    private void addRelationshipToGraph(GraphTraversalSource g,
+                                        Relationship         relationship)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+
+    {
+        String methodName = "addRelationshipToGraph";
+
+        // Locate the vertices for the ends, and create an edge between them.
+
         Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, relationship.getGUID());
         if (edgeIt.hasNext())
         {
@@ -922,9 +1069,6 @@ class GraphOMRSMetadataStore {
                     methodName, e);
         }
 
-        log.debug("{} Commit tx containing creation of edge", methodName);
-        g.tx().commit();
-
     }
 
 
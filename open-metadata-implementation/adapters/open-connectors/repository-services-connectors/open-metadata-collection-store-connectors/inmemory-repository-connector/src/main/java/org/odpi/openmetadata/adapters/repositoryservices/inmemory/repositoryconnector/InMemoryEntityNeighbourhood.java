@@ -13,6 +13,8 @@ import java.util.*;
 /**
  * In memory entity neighbourhood processing to return the entities and relationships that radiate out from the supplied entity GUID.
  * The results are scoped both the instance type guids, classifications, status and the level.
+ * The graph is built breadth first, using a relationship index to find the relationships of each entity, so only the
+ * relationships attached to the entities that are reached are examined.
  */
 class InMemoryEntityNeighbourhood
 {
@@ -27,10 +29,9 @@ class InMemoryEntityNeighbourhood
     private List<InstanceStatus>      limitResultsByStatus;
     private List<String>              limitResultsByClassification;
     private int                       level;
+    private InMemoryRelationshipIndex relationshipIndex;
     private Set<String>               graphEntities          = new HashSet<>();
     private Set<String>               graphRelationships     = new HashSet<>();
-    private Map<String, Set<String>>  entityToRelationships  = new HashMap<>();
-    private Map<String, Set<String>>  relationshipToEntities = new HashMap<>();
 
     /**
      * Constructor
@@ -40,11 +41,12 @@ class InMemoryEntityNeighbourhood
      * @param repositoryValidator          repository validator
      * @param entityStore                  entity store
      * @param relationshipStore            relationship store
+     * @param relationshipIndex            index of the relationships in the relationship store by entity
      * @param rootEntityGUID               the starting point of the query.
      * @param entityTypeGUIDs              list of entity types to include in the query results.  Null means include
      *                                     all entities found, irrespective of their type.
      * @param relationshipTypeGUIDs        list of relationship types to include in the query results.  Null means include
-     *                                     all entities found, irrespective of their type.
+     *                                     all relationships found, irrespective of their type.
      * @param limitResultsByStatus         By default, relationships in all statuses are returned.  However, it is possible
      *                                     to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
      *                                     status values.
@@ -56,6 +58,7 @@ class InMemoryEntityNeighbourhood
                                 OMRSRepositoryValidator   repositoryValidator,
                                 Map<String, EntityDetail> entityStore,
                                 Map<String, Relationship> relationshipStore,
+                                InMemoryRelationshipIndex relationshipIndex,
                                 String                    rootEntityGUID,
                                 List<String>              entityTypeGUIDs,
                                 List<String>              relationshipTypeGUIDs,
@@ -81,60 +84,9 @@ class InMemoryEntityNeighbourhood
             level = 100;
         }
         this.level = level;
-        initializeMaps();
+        this.relationshipIndex = relationshipIndex;
     }
 
-    /**
-     * Initialize maps that help us traverse between entities and relationships using their guids
-     */
-    private void initializeMaps()
-    {
-        for (Relationship relationship : relationshipStore.values())
-        {
-            String      relationshipGuid     = relationship.getGUID();
-            String      relationshipEnd1Guid = getEnd1EntityGUID(relationship);
-            String      relationshipEnd2Guid = getEnd2EntityGUID(relationship);
-            Set<String> endsGuids            = new HashSet<>();
-
-            endsGuids.add(relationshipEnd1Guid);
-            endsGuids.add(relationshipEnd2Guid);
-            relationshipToEntities.put(relationshipGuid, endsGuids);
-            Set<String> relationshipGuids;
-
-            /*
-             * process end1
-             */
-            if (entityToRelationships.containsKey(relationshipEnd1Guid))
-            {
-                relationshipGuids = entityToRelationships.get(relationshipEnd1Guid);
-                if (relationshipGuids == null)
-                {
-                    relationshipGuids = new HashSet<>();
-                }
-            } else
-            {
-                relationshipGuids = new HashSet<>();
-            }
-            relationshipGuids.add(relationshipGuid);
-            entityToRelationships.put(relationshipEnd1Guid, relationshipGuids);
-            /*
-             * process end2
-             */
-            if (entityToRelationships.containsKey(relationshipEnd2Guid))
-            {
-                relationshipGuids = entityToRelationships.get(relationshipEnd2Guid);
-                if (relationshipGuids == null)
-                {
-                    relationshipGuids = new HashSet<>();
-                }
-            } else
-            {
-                relationshipGuids = new HashSet<>();
-            }
-            relationshipGuids.add(relationshipGuid);
-            entityToRelationships.put(relationshipEnd2Guid, relationshipGuids);
-        }
-    }
 
     /**
      * Verify that the supplied relationship and the 2 entities that enclose it are valid, by checking the scoping conditions
@@ -342,11 +294,7 @@ class InMemoryEntityNeighbourhood
      */
     InstanceGraph createInstanceGraph() throws TypeErrorException
     {
-        Set<String> entities = new HashSet<>();
-        Set<String> visitedEntities = new HashSet<>();
-        Set<String> visitedRelationships = new HashSet<>();
-        entities.add(rootEntityGUID);
-        this.createGraph(entities, visitedEntities, visitedRelationships, 0);
+        this.createGraph();
         List<EntityDetail> entityList = new ArrayList<>();
         /*
          * add the root entity so the returned graph is consistent.
@@ -369,71 +317,114 @@ class InMemoryEntityNeighbourhood
     }
 
     /**
-     * CreateGraph populates maps with entities and relationships that are required in the instance graph. This is a recursive method that is called for each level that is required.
+     * CreateGraph populates the sets of entities and relationships that are required in the instance graph.  It works breadth first,
+     * one level at a time.  Each level looks up the relationships of the entities reached by the previous level in the relationship index.
+     * Relationships are grouped by type in the index so a whole group can be skipped if its type is not requested.
      *
-     * @param entities             the entities on which we need to find the relationships out to the radiated level out.
-     * @param visitedEntities      the entities that have already been visited (seen)
-     * @param visitedRelationships the relationship that have already been visited (seen)
-     * @param currentLevel         the current level
      * @throws TypeErrorException Type error.
      */
-    private void createGraph(Set<String> entities, Set<String> visitedEntities, Set<String> visitedRelationships, int currentLevel) throws TypeErrorException
+    private void createGraph() throws TypeErrorException
     {
+        Set<String> visitedEntities = new HashSet<>();
+        Set<String> visitedRelationships = new HashSet<>();
+        Set<String> entities = new LinkedHashSet<>();
+
+        entities.add(rootEntityGUID);
+        graphEntities.add(rootEntityGUID);
 
-        Set<String> nextEntitySet = new HashSet<>();
-        for (String entityGuid : entities)
+        for (int currentLevel = 0; (currentLevel < this.level) && (! entities.isEmpty()); currentLevel++)
         {
-            if (currentLevel == 0) {
-                graphEntities.add(entityGuid);
-            }
-            if (currentLevel < this.level) {
-                Set<String> relationships = this.entityToRelationships.get(entityGuid);
-                if (relationships != null) {
-                    for (String relationshipGuid : relationships) {
-                        Relationship relationship = this.relationshipStore.get(relationshipGuid);
-                        /*
-                         * Check to see if we have already visited this relationship
-                         */
-                        if (!visitedRelationships.contains(relationshipGuid)) {
-                            if (verifyRelationshipForEntityNeighbourhood(relationship)) {
-                                /*
-                                 * valid relationship and entities
-                                 */
-                                graphEntities.add(entityGuid);
-                                final String end1Guid = getEnd1EntityGUID(relationship);
-                                final String end2Guid = getEnd2EntityGUID(relationship);
-                                graphRelationships.add(relationshipGuid);
-                                /*
-                                 * add the entities - one end will already be there so will be replaced.
-                                 */
-                                graphEntities.add(end1Guid);
-                                graphEntities.add(end2Guid);
+            Set<String> nextEntitySet = new LinkedHashSet<>();
+
+            for (String entityGuid : entities)
+            {
+                Map<String, Set<String>> relationshipsByType = relationshipIndex.getRelationshipGUIDsByType(entityGuid);
+
+                if (relationshipsByType != null)
+                {
+                    for (Set<String> relationshipGuids : relationshipsByType.values())
+                    {
+                        if (isRelationshipTypeInScope(relationshipGuids))
+                        {
+                            for (String relationshipGuid : relationshipGuids)
+                            {
                                 /*
-                                 * if we have not seen the other end then we need to traverse to it.
+                                 * Check to see if we have already visited this relationship
                                  */
-                                if (end1Guid.equals(entityGuid) && !visitedEntities.contains(end2Guid)) {
-                                    nextEntitySet.add(end2Guid);
-                                }
-                                if (end2Guid.equals(entityGuid) && !visitedEntities.contains(end1Guid)) {
-                                    nextEntitySet.add(end1Guid);
+                                if (!visitedRelationships.contains(relationshipGuid))
+                                {
+                                    Relationship relationship = this.relationshipStore.get(relationshipGuid);
+
+                                    if ((relationship != null) && verifyRelationshipForEntityNeighbourhood(relationship))
+                                    {
+                                        /*
+                                         * valid relationship and entities
+                                         */
+                                        final String end1Guid = getEnd1EntityGUID(relationship);
+                                        final String end2Guid = getEnd2EntityGUID(relationship);
+                                        graphRelationships.add(relationshipGuid);
+                                        /*
+                                         * add the entities - one end will already be there so will be replaced.
+                                         */
+                                        graphEntities.add(end1Guid);
+                                        graphEntities.add(end2Guid);
+                                        /*
+                                         * if we have not seen the other end then we need to traverse to it.
+                                         */
+                                        if (end1Guid.equals(entityGuid) && !visitedEntities.contains(end2Guid))
+                                        {
+                                            nextEntitySet.add(end2Guid);
+                                        }
+                                        if (end2Guid.equals(entityGuid) && !visitedEntities.contains(end1Guid))
+                                        {
+                                            nextEntitySet.add(end1Guid);
+                                        }
+                                        visitedEntities.add(end1Guid);
+                                        visitedEntities.add(end2Guid);
+                                        visitedRelationships.add(relationshipGuid);
+                                    }
                                 }
-                                visitedEntities.add(end1Guid);
-                                visitedEntities.add(end2Guid);
-                                visitedRelationships.add(relationshipGuid);
                             }
                         }
                     }
                 }
             }
+
+            entities = nextEntitySet;
+        }
+    }
+
+
+    /**
+     * Check whether the relationships in a group from the relationship index are of one of the requested
+     * relationship types.  All the relationships in a group have the same type so only the first one is tested.
+     *
+     * @param relationshipGuids relationships of one type attached to an entity
+     * @return true if the relationships should be examined
+     */
+    private boolean isRelationshipTypeInScope(Set<String> relationshipGuids)
+    {
+        if ((relationshipTypeGUIDs == null) || (relationshipGuids.isEmpty()))
+        {
+            return true;
+        }
+
+        Relationship relationship = relationshipStore.get(relationshipGuids.iterator().next());
+
+        if (relationship == null)
+        {
+            return true;
         }
-        int nextLevel = currentLevel + 1;
-        if (nextLevel <= this.level && nextEntitySet.size() > 0)
+
+        for (String relationshipTypeGUID : relationshipTypeGUIDs)
         {
-            /*
-             * recurse
-             */
-            createGraph(nextEntitySet, visitedEntities, visitedRelationships, nextLevel);
+            if (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationship))
+            {
+                return true;
+            }
         }
+
+        return false;
     }
 
 
@@ -181,6 +181,53 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities with a single lookup in the store.
+     * Entities that are not known, are only proxies or are deleted are missing from the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities or null if none of the entities are known.
+     * @throws InvalidParameterException the userId or list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntitiesDetail(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "getEntitiesDetail";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> results = new ArrayList<>();
+
+        for (EntityDetail entity : repositoryStore.getEntities(new ArrayList<>(new LinkedHashSet<>(guids))))
+        {
+            if (entity.getStatus() != InstanceStatus.DELETED)
+            {
+                results.add(entity);
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Return a historical version of an entity - includes the header, classifications and properties of the entity.
      *
@@ -305,9 +352,22 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
 
         List<Relationship> entityRelationships = new ArrayList<>();
 
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        /*
+         * The current relationships are found through the relationship index.  Historical queries need to scan the
+         * time warped store.
+         */
+        Collection<Relationship>    storedRelationships;
+
+        if (asOfTime == null)
+        {
+            storedRelationships = repositoryStore.getRelationshipsForEntity(entityGUID);
+        }
+        else
+        {
+            storedRelationships = repositoryStore.timeWarpRelationshipStore(asOfTime).values();
+        }
 
-        for (Relationship  storedRelationship : relationshipStore.values())
+        for (Relationship  storedRelationship : storedRelationships)
         {
             if (storedRelationship != null)
             {
@@ -1263,6 +1323,22 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             }
         }
 
+        /*
+         * The current neighbourhood is built directly from the stores using the relationship index.
+         */
+        if (asOfTime == null)
+        {
+            return repositoryStore.getEntityNeighbourhood(repositoryHelper,
+                                                          repositoryName,
+                                                          repositoryValidator,
+                                                          entityGUID,
+                                                          entityTypeGUIDs,
+                                                          relationshipTypeGUIDs,
+                                                          limitResultsByStatus,
+                                                          limitResultsByClassification,
+                                                          level);
+        }
+
         /*
          * Time warp the stores
          */
@@ -1274,6 +1350,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                                   repositoryValidator,
                                                                                                   entityStore,
                                                                                                   relationshipStore,
+                                                                                                  new InMemoryRelationshipIndex(relationshipStore.values()),
                                                                                                   entityGUID,
                                                                                                   entityTypeGUIDs,
                                                                                                   relationshipTypeGUIDs,
@@ -1463,6 +1540,152 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         return newEntity;
     }
 
+    /**
+     * Create a batch of new entities.  Each item is validated and built in turn and then all the valid
+     * entities are saved to the repository store in a single operation.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities list of descriptions of the entities to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of new entities is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<InstanceBatchResult> addEntities(String                userId,
+                                                 List<EntityBatchItem> newEntities) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           FunctionNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String methodName = "addEntities";
+
+        super.validateInstanceBatch(userId, newEntities, methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>();
+        List<InstanceBatchResult> validResults = new ArrayList<>();
+        List<EntityDetail>        validEntities = new ArrayList<>();
+
+        int itemIndex = 0;
+        for (EntityBatchItem newEntityItem : newEntities)
+        {
+            InstanceBatchResult result = new InstanceBatchResult(itemIndex);
+
+            try
+            {
+                validEntities.add(this.getNewEntity(userId, newEntityItem, methodName));
+                validResults.add(result);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                super.captureBatchItemException(result, error);
+            }
+
+            results.add(result);
+            itemIndex++;
+        }
+
+        /*
+         * Validation complete - ok to save the new instances
+         */
+        if (! validEntities.isEmpty())
+        {
+            List<EntityDetail> storedEntities = repositoryStore.createEntitiesInStore(validEntities);
+            List<EntityProxy>  entityProxies  = new ArrayList<>();
+
+            for (int index = 0; index < storedEntities.size(); index++)
+            {
+                EntityDetail storedEntity = storedEntities.get(index);
+
+                /*
+                 * The repository store maintains an entity proxy for use with relationships.
+                 */
+                entityProxies.add(repositoryHelper.getNewEntityProxy(repositoryName, storedEntity));
+                validResults.get(index).setEntity(storedEntity);
+            }
+
+            repositoryStore.addEntityProxiesToStore(entityProxies);
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Validate one of the items passed to addEntities and build the new entity in the same way
+     * as addEntity/addExternalEntity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntityItem description of the entity to create.
+     * @param methodName calling method
+     * @return new entity ready to save in the store
+     * @throws OMRSCheckedExceptionBase the item is invalid
+     */
+    private EntityDetail getNewEntity(String          userId,
+                                      EntityBatchItem newEntityItem,
+                                      String          methodName) throws OMRSCheckedExceptionBase
+    {
+        super.validateBatchItem(newEntityItem, methodName);
+
+        EntityDetail newEntity;
+
+        if (newEntityItem.getExternalSourceGUID() == null)
+        {
+            TypeDef typeDef = super.addEntityParameterValidation(userId,
+                                                                 newEntityItem.getEntityTypeGUID(),
+                                                                 newEntityItem.getInitialProperties(),
+                                                                 newEntityItem.getInitialClassifications(),
+                                                                 newEntityItem.getInitialStatus(),
+                                                                 methodName);
+
+            newEntity = repositoryHelper.getNewEntity(repositoryName,
+                                                      null,
+                                                      InstanceProvenanceType.LOCAL_COHORT,
+                                                      userId,
+                                                      typeDef.getName(),
+                                                      newEntityItem.getInitialProperties(),
+                                                      newEntityItem.getInitialClassifications());
+        }
+        else
+        {
+            TypeDef typeDef = super.addExternalEntityParameterValidation(userId,
+                                                                         newEntityItem.getEntityTypeGUID(),
+                                                                         newEntityItem.getExternalSourceGUID(),
+                                                                         newEntityItem.getInitialProperties(),
+                                                                         newEntityItem.getInitialClassifications(),
+                                                                         newEntityItem.getInitialStatus(),
+                                                                         methodName);
+
+            newEntity = repositoryHelper.getNewEntity(repositoryName,
+                                                      newEntityItem.getExternalSourceGUID(),
+                                                      InstanceProvenanceType.EXTERNAL_SOURCE,
+                                                      userId,
+                                                      typeDef.getName(),
+                                                      newEntityItem.getInitialProperties(),
+                                                      newEntityItem.getInitialClassifications());
+
+            newEntity.setMetadataCollectionName(newEntityItem.getExternalSourceName());
+            newEntity.setReplicatedBy(metadataCollectionId);
+        }
+
+        /*
+         * If an initial status is supplied then override the default value.
+         */
+        if (newEntityItem.getInitialStatus() != null)
+        {
+            newEntity.setStatus(newEntityItem.getInitialStatus());
+        }
+
+        return newEntity;
+    }
+
+
 
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
@@ -3056,6 +3279,166 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         return relationship;
     }
 
+    /**
+     * Create a batch of new relationships.  Each item is validated and built in turn and then all the valid
+     * relationships are saved to the repository store in a single operation.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships list of descriptions of the relationships to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of new relationships is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<InstanceBatchResult> addRelationships(String                      userId,
+                                                      List<RelationshipBatchItem> newRelationships) throws InvalidParameterException,
+                                                                                                           RepositoryErrorException,
+                                                                                                           FunctionNotSupportedException,
+                                                                                                           UserNotAuthorizedException
+    {
+        final String methodName = "addRelationships";
+
+        super.validateInstanceBatch(userId, newRelationships, methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>();
+        List<InstanceBatchResult> validResults = new ArrayList<>();
+        List<Relationship>        validRelationships = new ArrayList<>();
+
+        int itemIndex = 0;
+        for (RelationshipBatchItem newRelationshipItem : newRelationships)
+        {
+            InstanceBatchResult result = new InstanceBatchResult(itemIndex);
+
+            try
+            {
+                validRelationships.add(this.getNewRelationship(userId, newRelationshipItem, methodName));
+                validResults.add(result);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                super.captureBatchItemException(result, error);
+            }
+
+            results.add(result);
+            itemIndex++;
+        }
+
+        /*
+         * Validation complete - ok to save the new instances
+         */
+        if (! validRelationships.isEmpty())
+        {
+            List<Relationship> storedRelationships = repositoryStore.createRelationshipsInStore(validRelationships);
+
+            for (int index = 0; index < storedRelationships.size(); index++)
+            {
+                validResults.get(index).setRelationship(storedRelationships.get(index));
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Validate one of the items passed to addRelationships and build the new relationship in the same way
+     * as addRelationship/addExternalRelationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationshipItem description of the relationship to create.
+     * @param methodName calling method
+     * @return new relationship ready to save in the store
+     * @throws OMRSCheckedExceptionBase the item is invalid or one of the entities is not known
+     */
+    private Relationship getNewRelationship(String                userId,
+                                            RelationshipBatchItem newRelationshipItem,
+                                            String                methodName) throws OMRSCheckedExceptionBase
+    {
+        super.validateBatchItem(newRelationshipItem, methodName);
+
+        String entityOneGUID = newRelationshipItem.getEntityOneGUID();
+        String entityTwoGUID = newRelationshipItem.getEntityTwoGUID();
+
+        TypeDef typeDef = super.addRelationshipParameterValidation(userId,
+                                                                   newRelationshipItem.getRelationshipTypeGUID(),
+                                                                   newRelationshipItem.getInitialProperties(),
+                                                                   entityOneGUID,
+                                                                   entityTwoGUID,
+                                                                   newRelationshipItem.getInitialStatus(),
+                                                                   methodName);
+
+        Relationship relationship;
+
+        if (newRelationshipItem.getExternalSourceGUID() == null)
+        {
+            relationship = repositoryHelper.getNewRelationship(repositoryName,
+                                                               null,
+                                                               InstanceProvenanceType.LOCAL_COHORT,
+                                                               userId,
+                                                               typeDef.getName(),
+                                                               newRelationshipItem.getInitialProperties());
+        }
+        else
+        {
+            relationship = repositoryHelper.getNewRelationship(repositoryName,
+                                                               newRelationshipItem.getExternalSourceGUID(),
+                                                               InstanceProvenanceType.EXTERNAL_SOURCE,
+                                                               userId,
+                                                               typeDef.getName(),
+                                                               newRelationshipItem.getInitialProperties());
+
+            relationship.setMetadataCollectionName(newRelationshipItem.getExternalSourceName());
+            relationship.setReplicatedBy(metadataCollectionId);
+        }
+
+        /*
+         * See if there is a proxy for each end - if not use the entity
+         */
+        EntityProxy entityOneProxy = repositoryStore.getEntityProxy(entityOneGUID);
+
+        if (entityOneProxy == null)
+        {
+            EntityDetail entityOneDetail = repositoryStore.getEntity(entityOneGUID);
+            entityOneProxy = repositoryHelper.getNewEntityProxy(repositoryName, entityOneDetail);
+        }
+
+        repositoryValidator.validateEntityFromStore(repositoryName, entityOneGUID, entityOneProxy, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entityOneProxy, methodName);
+
+        EntityProxy entityTwoProxy = repositoryStore.getEntityProxy(entityTwoGUID);
+
+        if (entityTwoProxy == null)
+        {
+            EntityDetail entityTwoDetail = repositoryStore.getEntity(entityTwoGUID);
+            entityTwoProxy = repositoryHelper.getNewEntityProxy(repositoryName, entityTwoDetail);
+        }
+
+        repositoryValidator.validateEntityFromStore(repositoryName, entityTwoGUID, entityTwoProxy, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entityTwoProxy, methodName);
+        repositoryValidator.validateRelationshipEnds(repositoryName, entityOneProxy, entityTwoProxy, typeDef, methodName);
+
+        relationship.setEntityOneProxy(entityOneProxy);
+        relationship.setEntityTwoProxy(entityTwoProxy);
+
+        /*
+         * If an initial status is supplied then override the default value.
+         */
+        if (newRelationshipItem.getInitialStatus() != null)
+        {
+            relationship.setStatus(newRelationshipItem.getInitialStatus());
+        }
+
+        return relationship;
+    }
+
+
 
     /**
      * Update the status of a specific relationship.
@@ -5,7 +5,12 @@ package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositorycon
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 
 import java.util.*;
 
@@ -20,6 +25,7 @@ class InMemoryOMRSMetadataStore
     private volatile List<EntityDetail>            entityHistoryStore       = new ArrayList<>();
     private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
     private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
+    private final InMemoryRelationshipIndex        relationshipIndex        = new InMemoryRelationshipIndex();
 
 
     /**
@@ -64,6 +70,33 @@ class InMemoryOMRSMetadataStore
     }
 
 
+    /**
+     * Return the entities identified by the guids.  The store is locked once for the whole list.
+     *
+     * @param guids - unique identifiers for the entities
+     * @return list of entity objects in the order of the guids (unknown guids are skipped)
+     */
+    synchronized List<EntityDetail>  getEntities(List<String>   guids)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            if (guid != null)
+            {
+                EntityDetail entity = entityStore.get(guid);
+
+                if (entity != null)
+                {
+                    entities.add(entity);
+                }
+            }
+        }
+
+        return entities;
+    }
+
+
     /**
      * Return the entity proxy identified by the guid.
      *
@@ -182,6 +215,77 @@ class InMemoryOMRSMetadataStore
         return relationshipStore.get(guid);
     }
 
+
+    /**
+     * Return the current versions of the relationships attached to an entity.  The relationship index is used
+     * so the relationship store is not scanned.
+     *
+     * @param entityGUID - unique identifier for the entity
+     * @return list of relationships (empty if there are none)
+     */
+    synchronized List<Relationship>  getRelationshipsForEntity(String   entityGUID)
+    {
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (String relationshipGUID : relationshipIndex.getRelationshipGUIDs(entityGUID))
+        {
+            Relationship relationship = relationshipStore.get(relationshipGUID);
+
+            if (relationship != null)
+            {
+                relationships.add(relationship);
+            }
+        }
+
+        return relationships;
+    }
+
+
+    /**
+     * Return the entities and relationships that radiate out from the supplied entity using the current versions
+     * of the instances.  The traversal runs against the live stores and the relationship index while the store
+     * is locked, so its cost depends on the size of the neighbourhood rather than the size of the repository.
+     *
+     * @param repositoryHelper             helper methods when calling the repository connector
+     * @param repositoryName               name of this repository
+     * @param repositoryValidator          repository validator
+     * @param rootEntityGUID               the starting point of the query.
+     * @param entityTypeGUIDs              list of entity types to include in the query results.  Null means include
+     *                                     all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs        list of relationship types to include in the query results.  Null means include
+     *                                     all relationships found, irrespective of their type.
+     * @param limitResultsByStatus         list of statuses to restrict the results to.  Null means all status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param level                        the number of the relationships out from the starting entity that the query will traverse to
+     * @return graph of entities and relationships
+     * @throws TypeErrorException type error
+     */
+    synchronized InstanceGraph getEntityNeighbourhood(OMRSRepositoryHelper    repositoryHelper,
+                                                      String                  repositoryName,
+                                                      OMRSRepositoryValidator repositoryValidator,
+                                                      String                  rootEntityGUID,
+                                                      List<String>            entityTypeGUIDs,
+                                                      List<String>            relationshipTypeGUIDs,
+                                                      List<InstanceStatus>    limitResultsByStatus,
+                                                      List<String>            limitResultsByClassification,
+                                                      int                     level) throws TypeErrorException
+    {
+        InMemoryEntityNeighbourhood entityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,
+                                                                                          repositoryName,
+                                                                                          repositoryValidator,
+                                                                                          entityStore,
+                                                                                          relationshipStore,
+                                                                                          relationshipIndex,
+                                                                                          rootEntityGUID,
+                                                                                          entityTypeGUIDs,
+                                                                                          relationshipTypeGUIDs,
+                                                                                          limitResultsByStatus,
+                                                                                          limitResultsByClassification,
+                                                                                          level);
+
+        return entityNeighbourhood.createInstanceGraph();
+    }
+
     /**
      * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
      * parameter
@@ -312,6 +416,8 @@ class InMemoryOMRSMetadataStore
             existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
 
+        relationshipIndex.addRelationship(relationship);
+
         return relationship;
     }
 
@@ -327,6 +433,58 @@ class InMemoryOMRSMetadataStore
     }
 
 
+    /**
+     * Create a batch of new entities in the entity store.  The store is locked once for the whole batch.
+     *
+     * @param entities - new entities
+     * @return entities with potentially updated GUIDs
+     */
+    synchronized List<EntityDetail> createEntitiesInStore(List<EntityDetail> entities)
+    {
+        List<EntityDetail> storedEntities = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            storedEntities.add(this.createEntityInStore(entity));
+        }
+
+        return storedEntities;
+    }
+
+
+    /**
+     * Create a batch of new relationships in the relationship store.  The store is locked once for the whole batch.
+     *
+     * @param relationships - new relationships
+     * @return relationships with potentially updated GUIDs
+     */
+    synchronized List<Relationship> createRelationshipsInStore(List<Relationship> relationships)
+    {
+        List<Relationship> storedRelationships = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            storedRelationships.add(this.createRelationshipInStore(relationship));
+        }
+
+        return storedRelationships;
+    }
+
+
+    /**
+     * Save a batch of entity proxies to the entity store.
+     *
+     * @param entityProxies - entity proxy objects to add
+     */
+    synchronized void addEntityProxiesToStore(List<EntityProxy> entityProxies)
+    {
+        for (EntityProxy entityProxy : entityProxies)
+        {
+            entityProxyStore.put(entityProxy.getGUID(), entityProxy);
+        }
+    }
+
+
     /**
      * Maintain a history of entities as they are stored into the entity store to ensure old version can be restored.
      * The history is maintained with the latest changes first in the list.
@@ -369,6 +527,8 @@ class InMemoryOMRSMetadataStore
         {
             relationshipHistoryStore.add(0, oldRelationship);
         }
+
+        relationshipIndex.addRelationship(relationship);
     }
 
 
@@ -393,6 +553,7 @@ class InMemoryOMRSMetadataStore
     synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
     {
         relationshipStore.put(relationship.getGUID(), relationship);
+        relationshipIndex.addRelationship(relationship);
     }
 
 
@@ -439,6 +600,7 @@ class InMemoryOMRSMetadataStore
                         Date restoreTime = new Date();
                         newRelationship.setUpdateTime(restoreTime);
                         relationshipStore.put(guid, newRelationship);
+                        relationshipIndex.addRelationship(newRelationship);
                         relationshipHistoryStore.add(0, currentVersionOfRelationship);
                         return newRelationship;
 
@@ -572,6 +734,7 @@ class InMemoryOMRSMetadataStore
     {
         String relationshipGUID = relationship.getGUID();
         relationshipStore.remove(relationshipGUID);
+        relationshipIndex.removeRelationship(relationshipGUID);
         List<Relationship> purgedHistory = new ArrayList<>();
         for (Relationship history : relationshipHistoryStore)
         {
@@ -595,6 +758,8 @@ class InMemoryOMRSMetadataStore
 
         if (relationship != null)
         {
+            relationshipIndex.removeRelationship(guid);
+
             List<Relationship> purgedHistory = new ArrayList<>();
             for (Relationship history : relationshipHistoryStore)
             {
@@ -0,0 +1,213 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.*;
+
+/**
+ * InMemoryRelationshipIndex maps the guid of each entity to the guids of the relationships attached to it,
+ * grouped by relationship type guid.  It means the relationships of an entity can be found without scanning
+ * the whole relationship store.  The index remembers the ends and type that each relationship was indexed under
+ * so it stays correct even if a stored relationship is changed in place.
+ * The index is not thread-safe - it is protected by the lock of the store that owns it.
+ */
+class InMemoryRelationshipIndex
+{
+    private final Map<String, Map<String, Set<String>>> entityToRelationships = new HashMap<>();
+    private final Map<String, String[]>                 relationshipToKeys    = new HashMap<>();   /* end1 guid, end2 guid, type guid */
+
+
+    /**
+     * Default constructor creates an empty index.
+     */
+    InMemoryRelationshipIndex()
+    {
+    }
+
+
+    /**
+     * Constructor indexes a collection of relationships (typically a time-warped relationship store).
+     *
+     * @param relationships relationships to index
+     */
+    InMemoryRelationshipIndex(Collection<Relationship> relationships)
+    {
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                this.addRelationship(relationship);
+            }
+        }
+    }
+
+
+    /**
+     * Add a relationship to the index under both of its ends.  Any previous entry for the same relationship guid
+     * is replaced.
+     *
+     * @param relationship relationship to add
+     */
+    void addRelationship(Relationship relationship)
+    {
+        if ((relationship != null) && (relationship.getGUID() != null))
+        {
+            this.removeRelationship(relationship.getGUID());
+
+            String[] keys = new String[]{ this.getEntityGUID(relationship.getEntityOneProxy()),
+                                          this.getEntityGUID(relationship.getEntityTwoProxy()),
+                                          this.getRelationshipTypeGUID(relationship) };
+
+            this.addEnd(keys[0], keys[2], relationship.getGUID());
+            this.addEnd(keys[1], keys[2], relationship.getGUID());
+
+            relationshipToKeys.put(relationship.getGUID(), keys);
+        }
+    }
+
+
+    /**
+     * Remove a relationship from the index.
+     *
+     * @param relationshipGUID unique identifier of the relationship to remove
+     */
+    void removeRelationship(String relationshipGUID)
+    {
+        if (relationshipGUID != null)
+        {
+            String[] keys = relationshipToKeys.remove(relationshipGUID);
+
+            if (keys != null)
+            {
+                this.removeEnd(keys[0], keys[2], relationshipGUID);
+                this.removeEnd(keys[1], keys[2], relationshipGUID);
+            }
+        }
+    }
+
+
+    /**
+     * Return the guids of the relationships attached to an entity, grouped by relationship type guid.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @return map of relationship type guid to relationship guids - or null if the entity has no relationships
+     */
+    Map<String, Set<String>> getRelationshipGUIDsByType(String entityGUID)
+    {
+        return entityToRelationships.get(entityGUID);
+    }
+
+
+    /**
+     * Return the guids of all the relationships attached to an entity.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @return list of relationship guids (empty if the entity has no relationships)
+     */
+    List<String> getRelationshipGUIDs(String entityGUID)
+    {
+        List<String>             relationshipGUIDs   = new ArrayList<>();
+        Map<String, Set<String>> relationshipsByType = entityToRelationships.get(entityGUID);
+
+        if (relationshipsByType != null)
+        {
+            for (Set<String> relationshipGUIDsForType : relationshipsByType.values())
+            {
+                relationshipGUIDs.addAll(relationshipGUIDsForType);
+            }
+        }
+
+        return relationshipGUIDs;
+    }
+
+
+    /**
+     * Return the type guid of the relationship.  Null is used as the key for relationships without a type.
+     *
+     * @param relationship relationship to parse
+     * @return type guid or null
+     */
+    private String getRelationshipTypeGUID(Relationship relationship)
+    {
+        if (relationship.getType() != null)
+        {
+            return relationship.getType().getTypeDefGUID();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the guid of the entity at one end of a relationship.
+     *
+     * @param entityProxy end of the relationship
+     * @return guid or null
+     */
+    private String getEntityGUID(EntityProxy entityProxy)
+    {
+        if (entityProxy != null)
+        {
+            return entityProxy.getGUID();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Add the relationship under one of its ends.
+     *
+     * @param entityGUID guid of the entity at the end of the relationship
+     * @param relationshipTypeGUID type of the relationship
+     * @param relationshipGUID unique identifier of the relationship
+     */
+    private void addEnd(String entityGUID, String relationshipTypeGUID, String relationshipGUID)
+    {
+        if (entityGUID != null)
+        {
+            entityToRelationships.computeIfAbsent(entityGUID, guid -> new HashMap<>())
+                                 .computeIfAbsent(relationshipTypeGUID, typeGUID -> new LinkedHashSet<>())
+                                 .add(relationshipGUID);
+        }
+    }
+
+
+    /**
+     * Remove the relationship from one of its ends, tidying up any empty entries.
+     *
+     * @param entityGUID guid of the entity at the end of the relationship
+     * @param relationshipTypeGUID type of the relationship
+     * @param relationshipGUID unique identifier of the relationship
+     */
+    private void removeEnd(String entityGUID, String relationshipTypeGUID, String relationshipGUID)
+    {
+        if (entityGUID != null)
+        {
+            Map<String, Set<String>> relationshipsByType = entityToRelationships.get(entityGUID);
+
+            if (relationshipsByType != null)
+            {
+                Set<String> relationshipGUIDs = relationshipsByType.get(relationshipTypeGUID);
+
+                if (relationshipGUIDs != null)
+                {
+                    relationshipGUIDs.remove(relationshipGUID);
+
+                    if (relationshipGUIDs.isEmpty())
+                    {
+                        relationshipsByType.remove(relationshipTypeGUID);
+                    }
+                }
+
+                if (relationshipsByType.isEmpty())
+                {
+                    entityToRelationships.remove(entityGUID);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Test the retrieval of a list of entities from the in-memory repository when some of the requested
+ * entities are not known, are only proxies or are deleted.
+ */
+public class TestInMemoryEntitiesDetail
+{
+    private static final String USER_ID = "testUser";
+
+    private OMRSMetadataCollection metadataCollection;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        InMemoryOMRSRepositoryConnector connector = new InMemoryOMRSRepositoryConnector();
+
+        connector.setRepositoryHelper(mock(OMRSRepositoryHelper.class));
+        connector.setRepositoryValidator(mock(OMRSRepositoryValidator.class));
+        connector.setMetadataCollectionId("testMetadataCollectionId");
+        connector.start();
+
+        metadataCollection = connector.getMetadataCollection();
+
+        metadataCollection.saveEntityReferenceCopy(USER_ID, getEntity("e1", InstanceStatus.ACTIVE));
+        metadataCollection.saveEntityReferenceCopy(USER_ID, getEntity("e2", InstanceStatus.ACTIVE));
+        metadataCollection.saveEntityReferenceCopy(USER_ID, getEntity("e3", InstanceStatus.DELETED));
+
+        EntityProxy proxy = new EntityProxy();
+        proxy.setGUID("p1");
+        metadataCollection.addEntityProxy(USER_ID, proxy);
+    }
+
+
+    @Test
+    void testMixedGUIDs() throws Exception
+    {
+        List<EntityDetail> results = metadataCollection.getEntitiesDetail(USER_ID,
+                                                                          Arrays.asList("e2", "missing", "e3", "p1", null, "e1", "e2"));
+
+        assertEquals(getGUIDs(results), Arrays.asList("e2", "e1"));
+    }
+
+
+    @Test
+    void testNoneFound() throws Exception
+    {
+        assertNull(metadataCollection.getEntitiesDetail(USER_ID, Arrays.asList("missing", "e3", "p1")));
+        assertNull(metadataCollection.getEntitiesDetail(USER_ID, Collections.emptyList()));
+    }
+
+
+    @Test
+    void testNullList() throws Exception
+    {
+        try
+        {
+            metadataCollection.getEntitiesDetail(USER_ID, null);
+            fail("Null list of guids accepted");
+        }
+        catch (InvalidParameterException expected)
+        {
+            // expected
+        }
+    }
+
+
+    private EntityDetail getEntity(String guid, InstanceStatus status)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setMetadataCollectionId("otherMetadataCollectionId");
+        entity.setStatus(status);
+
+        return entity;
+    }
+
+
+    private List<String> getGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+}
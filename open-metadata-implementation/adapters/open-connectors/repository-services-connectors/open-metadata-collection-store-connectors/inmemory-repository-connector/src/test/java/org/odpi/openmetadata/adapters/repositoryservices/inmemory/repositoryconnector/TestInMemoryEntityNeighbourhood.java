@@ -54,7 +54,7 @@ public class TestInMemoryEntityNeighbourhood
         when(repositoryValidator.verifyEntityIsClassified(any(), any())).thenReturn(true);
         when(repositoryHelper.isTypeOf(anyString(),anyString(),anyString())).thenReturn(true);
         // test with 1 entity
-        InMemoryEntityNeighbourhood inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,"", repositoryValidator, entityStore, relationshipStore, rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
+        InMemoryEntityNeighbourhood inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,"", repositoryValidator, entityStore, relationshipStore, new InMemoryRelationshipIndex(relationshipStore.values()), rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
         InstanceGraph graph = inMemoryEntityNeighbourhood.createInstanceGraph();
         assertTrue(graphContainsEntityWithGuid(graph, "1111"));
         assertNull(graph.getRelationships());
@@ -76,7 +76,7 @@ public class TestInMemoryEntityNeighbourhood
 
         entityStore.put(entity2.getGUID(), entity2);
         relationshipStore.put(relationship1.getGUID(), relationship1);
-        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper, "", repositoryValidator, entityStore, relationshipStore, rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
+        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper, "", repositoryValidator, entityStore, relationshipStore, new InMemoryRelationshipIndex(relationshipStore.values()), rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
         graph = inMemoryEntityNeighbourhood.createInstanceGraph();
 
         assertTrue(graph.getEntities().size() == 2);
@@ -97,7 +97,7 @@ public class TestInMemoryEntityNeighbourhood
         relationship2.setEntityTwoProxy(entityProxy3);
         relationshipStore.put(relationship2.getGUID(), relationship2);
 
-        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper, "",repositoryValidator, entityStore, relationshipStore, rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
+        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper, "",repositoryValidator, entityStore, relationshipStore, new InMemoryRelationshipIndex(relationshipStore.values()), rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
         graph = inMemoryEntityNeighbourhood.createInstanceGraph();
 
         assertTrue(graph.getEntities().size() == 2);
@@ -106,7 +106,7 @@ public class TestInMemoryEntityNeighbourhood
         assertTrue(graphContainsRelationshipWithGuid(graph, "3333"));
 
         // test with 3 entities 2 relationship, level 2
-        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,"", repositoryValidator, entityStore, relationshipStore, rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 3);
+        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,"", repositoryValidator, entityStore, relationshipStore, new InMemoryRelationshipIndex(relationshipStore.values()), rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 3);
         graph = inMemoryEntityNeighbourhood.createInstanceGraph();
 
         assertTrue(graph.getEntities().size() == 3);
@@ -128,7 +128,7 @@ public class TestInMemoryEntityNeighbourhood
         entity2.setClassifications(classificationsForEntity2);
         entityStore.put(entity2.getGUID(), entity2);
         // check the same results are returned when there is no limitation on classification but one of the entities is classified
-        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,"", repositoryValidator, entityStore, relationshipStore, rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
+        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,"", repositoryValidator, entityStore, relationshipStore, new InMemoryRelationshipIndex(relationshipStore.values()), rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
         graph = inMemoryEntityNeighbourhood.createInstanceGraph();
         assertTrue(graph.getEntities().size() == 2);
         assertTrue(graphContainsEntityWithGuid(graph, "1111"));
@@ -138,7 +138,7 @@ public class TestInMemoryEntityNeighbourhood
         // check that specifying the classification in the limitResultsByClassification list gives the same result
         limitResultsByClassification = new ArrayList<>();
         limitResultsByClassification.add(CLASSIFICATION_1);
-        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,"", repositoryValidator, entityStore, relationshipStore, rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
+        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,"", repositoryValidator, entityStore, relationshipStore, new InMemoryRelationshipIndex(relationshipStore.values()), rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
         graph = inMemoryEntityNeighbourhood.createInstanceGraph();
         assertTrue(graph.getEntities().size() == 2);
         assertTrue(graphContainsEntityWithGuid(graph, "1111"));
@@ -150,7 +150,7 @@ public class TestInMemoryEntityNeighbourhood
         limitResultsByClassification.add(CLASSIFICATION_3);
         limitResultsByClassification = new ArrayList<>();
         limitResultsByClassification.add(CLASSIFICATION_1);
-        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,"", repositoryValidator, entityStore, relationshipStore, rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
+        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,"", repositoryValidator, entityStore, relationshipStore, new InMemoryRelationshipIndex(relationshipStore.values()), rootEntityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, 1);
         graph = inMemoryEntityNeighbourhood.createInstanceGraph();
         assertTrue(graph.getEntities().size() == 2);
         assertTrue(graphContainsEntityWithGuid(graph, "1111"));
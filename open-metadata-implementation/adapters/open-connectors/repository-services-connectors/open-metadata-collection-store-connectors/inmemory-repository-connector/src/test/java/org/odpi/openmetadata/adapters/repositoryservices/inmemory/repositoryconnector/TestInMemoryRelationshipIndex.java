@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+public class TestInMemoryRelationshipIndex
+{
+    private Relationship getRelationship(String guid, String typeGUID, String end1GUID, String end2GUID)
+    {
+        Relationship relationship = new Relationship();
+        InstanceType type         = new InstanceType();
+        EntityProxy  end1         = new EntityProxy();
+        EntityProxy  end2         = new EntityProxy();
+
+        type.setTypeDefGUID(typeGUID);
+        end1.setGUID(end1GUID);
+        end2.setGUID(end2GUID);
+
+        relationship.setGUID(guid);
+        relationship.setType(type);
+        relationship.setEntityOneProxy(end1);
+        relationship.setEntityTwoProxy(end2);
+
+        return relationship;
+    }
+
+
+    @Test
+    void testIndexMaintenance()
+    {
+        InMemoryRelationshipIndex index = new InMemoryRelationshipIndex();
+
+        index.addRelationship(getRelationship("r1", "t1", "e1", "e2"));
+        index.addRelationship(getRelationship("r2", "t2", "e1", "e3"));
+
+        assertEquals(index.getRelationshipGUIDs("e1").size(), 2);
+        assertEquals(index.getRelationshipGUIDsByType("e1").size(), 2);
+        assertTrue(index.getRelationshipGUIDsByType("e1").get("t1").contains("r1"));
+        assertTrue(index.getRelationshipGUIDs("e3").contains("r2"));
+
+        index.removeRelationship("r2");
+
+        assertEquals(index.getRelationshipGUIDs("e1").size(), 1);
+        assertNull(index.getRelationshipGUIDsByType("e3"));
+    }
+
+
+    @Test
+    void testRelationshipChangedInPlace()
+    {
+        InMemoryRelationshipIndex index        = new InMemoryRelationshipIndex();
+        Relationship              relationship = getRelationship("r1", "t1", "e1", "e2");
+
+        index.addRelationship(relationship);
+
+        /*
+         * Re-point end 2 as happens when an entity is re-identified.
+         */
+        EntityProxy newEnd = new EntityProxy();
+        newEnd.setGUID("e4");
+        relationship.setEntityTwoProxy(newEnd);
+
+        index.addRelationship(relationship);
+
+        assertNull(index.getRelationshipGUIDsByType("e2"));
+        assertTrue(index.getRelationshipGUIDs("e4").contains("r1"));
+        assertTrue(index.getRelationshipGUIDs("e1").contains("r1"));
+
+        index.removeRelationship("r1");
+
+        assertTrue(index.getRelationshipGUIDs("e1").isEmpty());
+        assertTrue(index.getRelationshipGUIDs("e4").isEmpty());
+    }
+}
@@ -921,6 +921,31 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.  This is retrieved from the remote
+     * repository in a single REST call.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of entities in the order of the guids or null if none of the entities are known.
+     * @throws InvalidParameterException  the list of guids is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntitiesDetail(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String methodName  = "getEntitiesDetail";
+
+        validateClient(methodName);
+        return omrsClient.getEntitiesDetail(userId, guids);
+    }
+
+
     /**
      * Return a historical version of an entity includes the header, classifications and properties of the entity.
      *
@@ -1954,6 +1979,58 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Create a batch of new entities in the remote repository with a single REST call.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities list of descriptions of the entities to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of items is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<InstanceBatchResult> addEntities(String                userId,
+                                                 List<EntityBatchItem> newEntities) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           FunctionNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "addEntities";
+
+        validateClient(methodName);
+        return omrsClient.addEntities(userId, newEntities);
+    }
+
+
+    /**
+     * Update the properties of a batch of entities in the remote repository with a single REST call.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityUpdates list of entity guids and their new properties.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of items is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<InstanceBatchResult> updateEntitiesProperties(String                        userId,
+                                                              List<InstanceUpdateBatchItem> entityUpdates) throws InvalidParameterException,
+                                                                                                                  RepositoryErrorException,
+                                                                                                                  FunctionNotSupportedException,
+                                                                                                                  UserNotAuthorizedException
+    {
+        final String  methodName = "updateEntitiesProperties";
+
+        validateClient(methodName);
+        return omrsClient.updateEntitiesProperties(userId, entityUpdates);
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
@@ -2447,6 +2524,58 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Create a batch of new relationships in the remote repository with a single REST call.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships list of descriptions of the relationships to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of items is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<InstanceBatchResult> addRelationships(String                      userId,
+                                                      List<RelationshipBatchItem> newRelationships) throws InvalidParameterException,
+                                                                                                           RepositoryErrorException,
+                                                                                                           FunctionNotSupportedException,
+                                                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "addRelationships";
+
+        validateClient(methodName);
+        return omrsClient.addRelationships(userId, newRelationships);
+    }
+
+
+    /**
+     * Update the properties of a batch of relationships in the remote repository with a single REST call.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipUpdates list of relationship guids and their new properties.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of items is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<InstanceBatchResult> updateRelationshipsProperties(String                        userId,
+                                                                   List<InstanceUpdateBatchItem> relationshipUpdates) throws InvalidParameterException,
+                                                                                                                             RepositoryErrorException,
+                                                                                                                             FunctionNotSupportedException,
+                                                                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "updateRelationshipsProperties";
+
+        validateClient(methodName);
+        return omrsClient.updateRelationshipsProperties(userId, relationshipUpdates);
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -0,0 +1,167 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+
+/**
+ * CompressedResponseInterceptor tells the server that the client accepts gzip compressed responses and
+ * decompresses any response that the server chooses to compress.  The OMAG Server Platform compresses large
+ * JSON responses (such as pages of entities returned by the repository services) when the request says it
+ * accepts them.  Servers that do not support compression ignore the header and return plain JSON.
+ */
+class CompressedResponseInterceptor implements ClientHttpRequestInterceptor
+{
+    private static final String GZIP_ENCODING = "gzip";
+
+
+    /**
+     * Add the Accept-Encoding header to the request and decompress the response if needed.
+     *
+     * @param request outbound request
+     * @param body body of the request
+     * @param execution the rest of the request processing
+     * @return response
+     * @throws IOException problem communicating with the server
+     */
+    @Override
+    public ClientHttpResponse intercept(HttpRequest                request,
+                                        byte[]                     body,
+                                        ClientHttpRequestExecution execution) throws IOException
+    {
+        if (! request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING))
+        {
+            request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP_ENCODING);
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+
+        String contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+
+        if (GZIP_ENCODING.equalsIgnoreCase(contentEncoding))
+        {
+            return new DecompressedResponse(response);
+        }
+
+        return response;
+    }
+
+
+    /**
+     * DecompressedResponse wraps a gzip compressed response so that the message converters see the original JSON.
+     */
+    private static class DecompressedResponse implements ClientHttpResponse
+    {
+        private final ClientHttpResponse compressedResponse;
+        private final HttpHeaders        headers;
+        private       InputStream        body = null;
+
+
+        /**
+         * Constructor
+         *
+         * @param compressedResponse response from the server
+         */
+        DecompressedResponse(ClientHttpResponse compressedResponse)
+        {
+            this.compressedResponse = compressedResponse;
+
+            /*
+             * The length and encoding describe the compressed body so they are removed.
+             */
+            this.headers = new HttpHeaders();
+            this.headers.putAll(compressedResponse.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+
+        /**
+         * Return the HTTP status code.
+         *
+         * @return status enum
+         * @throws IOException problem reading the response
+         */
+        @Override
+        public HttpStatus getStatusCode() throws IOException
+        {
+            return compressedResponse.getStatusCode();
+        }
+
+
+        /**
+         * Return the HTTP status code as an integer.
+         *
+         * @return status code
+         * @throws IOException problem reading the response
+         */
+        @Override
+        public int getRawStatusCode() throws IOException
+        {
+            return compressedResponse.getRawStatusCode();
+        }
+
+
+        /**
+         * Return the HTTP status text.
+         *
+         * @return text
+         * @throws IOException problem reading the response
+         */
+        @Override
+        public String getStatusText() throws IOException
+        {
+            return compressedResponse.getStatusText();
+        }
+
+
+        /**
+         * Return the headers of the decompressed response.
+         *
+         * @return headers
+         */
+        @Override
+        public HttpHeaders getHeaders()
+        {
+            return headers;
+        }
+
+
+        /**
+         * Return the decompressed body.
+         *
+         * @return input stream
+         * @throws IOException problem reading the response
+         */
+        @Override
+        public InputStream getBody() throws IOException
+        {
+            if (body == null)
+            {
+                body = new GZIPInputStream(compressedResponse.getBody());
+            }
+
+            return body;
+        }
+
+
+        /**
+         * Close the response.
+         */
+        @Override
+        public void close()
+        {
+            compressedResponse.close();
+        }
+    }
+}
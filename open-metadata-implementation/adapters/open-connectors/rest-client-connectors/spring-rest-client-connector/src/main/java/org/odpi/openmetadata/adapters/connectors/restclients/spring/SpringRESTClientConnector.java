@@ -75,6 +75,9 @@ public class SpringRESTClientConnector extends RESTClientConnector
         List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
         converters.removeIf(httpMessageConverter -> httpMessageConverter instanceof StringHttpMessageConverter);
         converters.add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+
+        /* Accept gzip compressed responses - large responses are much smaller compressed */
+        restTemplate.getInterceptors().add(new CompressedResponseInterceptor());
     }
 
     /**
@@ -48,6 +48,20 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         selectedTypesToProcess - list of TypeDefs used if the eventsToProcess rule (above) says
  *         "SELECTED_TYPES" - otherwise it is set to null.
  *     </li>
+ *     <li>
+ *         outboundInstanceEventBatchSize is the maximum number of instances that are coalesced into a single
+ *         batch event when the local repository sends instance events to the cohort.  A value less than 2
+ *         (the default) means each change is sent as its own event.
+ *     </li>
+ *     <li>
+ *         outboundInstanceEventMaxDelay is the maximum time (in milliseconds) that an instance event waits in a
+ *         partially filled batch before the batch is sent.
+ *     </li>
+ *     <li>
+ *         inboundInstanceEventWorkers is the number of threads that apply instance events received from the cohort
+ *         to the local repository.  Events for the same instance are always applied in the order they are received.
+ *         A value less than 2 (the default) means events are applied one at a time on the thread that receives them.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -66,6 +80,9 @@ public class CohortConfig extends AdminServicesConfigHeader
     private OpenMetadataEventProtocolVersion cohortOMRSTopicProtocolVersion        = null;
     private OpenMetadataExchangeRule         eventsToProcessRule                   = null;
     private List<TypeDefSummary>             selectedTypesToProcess                = null;
+    private int                              outboundInstanceEventBatchSize        = 0;
+    private long                             outboundInstanceEventMaxDelay         = 0L;
+    private int                              inboundInstanceEventWorkers           = 0;
 
 
 
@@ -97,6 +114,9 @@ public class CohortConfig extends AdminServicesConfigHeader
             cohortOMRSTopicProtocolVersion = template.getCohortOMRSTopicProtocolVersion();
             eventsToProcessRule = template.getEventsToProcessRule();
             selectedTypesToProcess = template.getSelectedTypesToProcess();
+            outboundInstanceEventBatchSize = template.getOutboundInstanceEventBatchSize();
+            outboundInstanceEventMaxDelay = template.getOutboundInstanceEventMaxDelay();
+            inboundInstanceEventWorkers = template.getInboundInstanceEventWorkers();
         }
     }
 
@@ -324,6 +344,76 @@ public class CohortConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of instances that are coalesced into a single batch event when the local
+     * repository sends instance events to the cohort.  A value less than 2 means batching is turned off.
+     *
+     * @return int number of instances
+     */
+    public int getOutboundInstanceEventBatchSize()
+    {
+        return outboundInstanceEventBatchSize;
+    }
+
+
+    /**
+     * Set up the maximum number of instances that are coalesced into a single batch event when the local
+     * repository sends instance events to the cohort.  A value less than 2 means batching is turned off.
+     *
+     * @param outboundInstanceEventBatchSize int number of instances
+     */
+    public void setOutboundInstanceEventBatchSize(int outboundInstanceEventBatchSize)
+    {
+        this.outboundInstanceEventBatchSize = outboundInstanceEventBatchSize;
+    }
+
+
+    /**
+     * Return the maximum time that an instance event waits in a partially filled batch before the batch is sent.
+     *
+     * @return long time in milliseconds
+     */
+    public long getOutboundInstanceEventMaxDelay()
+    {
+        return outboundInstanceEventMaxDelay;
+    }
+
+
+    /**
+     * Set up the maximum time that an instance event waits in a partially filled batch before the batch is sent.
+     *
+     * @param outboundInstanceEventMaxDelay long time in milliseconds
+     */
+    public void setOutboundInstanceEventMaxDelay(long outboundInstanceEventMaxDelay)
+    {
+        this.outboundInstanceEventMaxDelay = outboundInstanceEventMaxDelay;
+    }
+
+
+    /**
+     * Return the number of threads that apply instance events received from the cohort to the local repository.
+     * A value less than 2 means events are applied one at a time on the thread that receives them.
+     *
+     * @return int number of threads
+     */
+    public int getInboundInstanceEventWorkers()
+    {
+        return inboundInstanceEventWorkers;
+    }
+
+
+    /**
+     * Set up the number of threads that apply instance events received from the cohort to the local repository.
+     * A value less than 2 means events are applied one at a time on the thread that receives them.
+     *
+     * @param inboundInstanceEventWorkers int number of threads
+     */
+    public void setInboundInstanceEventWorkers(int inboundInstanceEventWorkers)
+    {
+        this.inboundInstanceEventWorkers = inboundInstanceEventWorkers;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -342,6 +432,9 @@ public class CohortConfig extends AdminServicesConfigHeader
                        ", cohortOMRSTopicProtocolVersion=" + cohortOMRSTopicProtocolVersion +
                        ", eventsToProcessRule=" + eventsToProcessRule +
                        ", selectedTypesToProcess=" + selectedTypesToProcess +
+                       ", outboundInstanceEventBatchSize=" + outboundInstanceEventBatchSize +
+                       ", outboundInstanceEventMaxDelay=" + outboundInstanceEventMaxDelay +
+                       ", inboundInstanceEventWorkers=" + inboundInstanceEventWorkers +
                        '}';
     }
 
@@ -372,7 +465,10 @@ public class CohortConfig extends AdminServicesConfigHeader
                        Objects.equals(cohortOMRSInstancesTopicConnection, that.cohortOMRSInstancesTopicConnection) &&
                        cohortOMRSTopicProtocolVersion == that.cohortOMRSTopicProtocolVersion &&
                        eventsToProcessRule == that.eventsToProcessRule &&
-                       Objects.equals(selectedTypesToProcess, that.selectedTypesToProcess);
+                       Objects.equals(selectedTypesToProcess, that.selectedTypesToProcess) &&
+                       outboundInstanceEventBatchSize == that.outboundInstanceEventBatchSize &&
+                       outboundInstanceEventMaxDelay == that.outboundInstanceEventMaxDelay &&
+                       inboundInstanceEventWorkers == that.inboundInstanceEventWorkers;
     }
 
 
@@ -386,6 +482,7 @@ public class CohortConfig extends AdminServicesConfigHeader
     {
         return Objects.hash(cohortName, cohortRegistryConnection, cohortOMRSTopicConnection, cohortOMRSRegistrationTopicConnection,
                             cohortOMRSTypesTopicConnection, cohortOMRSInstancesTopicConnection, cohortOMRSTopicProtocolVersion, eventsToProcessRule,
-                            selectedTypesToProcess);
+                            selectedTypesToProcess, outboundInstanceEventBatchSize, outboundInstanceEventMaxDelay,
+                            inboundInstanceEventWorkers);
     }
 }
@@ -35,6 +35,13 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *     <li>
  *         remoteEnterpriseOMRSTopicConnection - connection for the remote (external) enterprise OMRS Topic connector.
  *     </li>
+ *     <li>
+ *         federatedInstanceCacheSize - maximum number of entities and relationships retrieved by federated queries
+ *                                      that are cached.  Zero (the default) means no cache.
+ *     </li>
+ *     <li>
+ *         federatedInstanceCacheTimeToLive - number of milliseconds that a cached entity or relationship is kept for.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -49,6 +56,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     private Connection                       enterpriseOMRSTopicConnection       = null;
     private OpenMetadataEventProtocolVersion enterpriseOMRSTopicProtocolVersion  = null;
     private Connection                       remoteEnterpriseOMRSTopicConnection = null;
+    private int                              federatedInstanceCacheSize          = 0;
+    private long                             federatedInstanceCacheTimeToLive    = 30000;
 
 
     /**
@@ -76,6 +85,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
             this.enterpriseOMRSTopicConnection = template.getEnterpriseOMRSTopicConnection();
             this.enterpriseOMRSTopicProtocolVersion = template.getEnterpriseOMRSTopicProtocolVersion();
             this.remoteEnterpriseOMRSTopicConnection = template.getRemoteEnterpriseOMRSTopicConnection();
+            this.federatedInstanceCacheSize = template.getFederatedInstanceCacheSize();
+            this.federatedInstanceCacheTimeToLive = template.getFederatedInstanceCacheTimeToLive();
         }
     }
 
@@ -219,6 +230,53 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of entities and relationships retrieved by federated queries that are cached.
+     *
+     * @return number of instances - zero means no cache
+     */
+    public int getFederatedInstanceCacheSize()
+    {
+        return federatedInstanceCacheSize;
+    }
+
+
+    /**
+     * Set up the maximum number of entities and relationships retrieved by federated queries that are cached.
+     * The cache is only used when the enterprise OMRS topic is configured since the events on this topic are used
+     * to remove instances that have changed.
+     *
+     * @param federatedInstanceCacheSize number of instances - zero means no cache
+     */
+    public void setFederatedInstanceCacheSize(int federatedInstanceCacheSize)
+    {
+        this.federatedInstanceCacheSize = federatedInstanceCacheSize;
+    }
+
+
+    /**
+     * Return the number of milliseconds that a cached entity or relationship is kept for.
+     *
+     * @return milliseconds
+     */
+    public long getFederatedInstanceCacheTimeToLive()
+    {
+        return federatedInstanceCacheTimeToLive;
+    }
+
+
+    /**
+     * Set up the number of milliseconds that a cached entity or relationship is kept for.  This limits how long
+     * a change is missed if the event describing it is lost.
+     *
+     * @param federatedInstanceCacheTimeToLive milliseconds
+     */
+    public void setFederatedInstanceCacheTimeToLive(long federatedInstanceCacheTimeToLive)
+    {
+        this.federatedInstanceCacheTimeToLive = federatedInstanceCacheTimeToLive;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -233,6 +291,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
                        ", enterpriseOMRSTopicConnection=" + enterpriseOMRSTopicConnection +
                        ", enterpriseOMRSTopicProtocolVersion=" + enterpriseOMRSTopicProtocolVersion +
                        ", remoteEnterpriseOMRSTopicConnection=" + remoteEnterpriseOMRSTopicConnection +
+                       ", federatedInstanceCacheSize=" + federatedInstanceCacheSize +
+                       ", federatedInstanceCacheTimeToLive=" + federatedInstanceCacheTimeToLive +
                        '}';
     }
 
@@ -259,7 +319,9 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
                        Objects.equals(enterpriseMetadataCollectionId, that.enterpriseMetadataCollectionId) &&
                        Objects.equals(enterpriseOMRSTopicConnection, that.enterpriseOMRSTopicConnection) &&
                        enterpriseOMRSTopicProtocolVersion == that.enterpriseOMRSTopicProtocolVersion &&
-                       Objects.equals(remoteEnterpriseOMRSTopicConnection, that.remoteEnterpriseOMRSTopicConnection);
+                       Objects.equals(remoteEnterpriseOMRSTopicConnection, that.remoteEnterpriseOMRSTopicConnection) &&
+                       federatedInstanceCacheSize == that.federatedInstanceCacheSize &&
+                       federatedInstanceCacheTimeToLive == that.federatedInstanceCacheTimeToLive;
     }
 
 
@@ -273,6 +335,7 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     public int hashCode()
     {
         return Objects.hash(enterpriseMetadataCollectionName, enterpriseMetadataCollectionId, enterpriseOMRSTopicConnection,
-                            enterpriseOMRSTopicProtocolVersion, remoteEnterpriseOMRSTopicConnection);
+                            enterpriseOMRSTopicProtocolVersion, remoteEnterpriseOMRSTopicConnection, federatedInstanceCacheSize,
+                            federatedInstanceCacheTimeToLive);
     }
 }
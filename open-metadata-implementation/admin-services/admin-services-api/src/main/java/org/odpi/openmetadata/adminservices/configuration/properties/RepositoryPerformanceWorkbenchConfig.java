@@ -31,6 +31,10 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     private int      waitBetweenScenarios = 60;
     private List<String> profilesToSkip = Collections.emptyList();
     private List<String> methodsToSkip  = Collections.emptyList();
+    private int      loadClientThreads = 10;
+    private int      loadTargetOperationsPerSecond = 0;
+    private int      loadWarmupSeconds = 10;
+    private int      loadDurationSeconds = 0;
 
 
     /**
@@ -58,6 +62,10 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
             waitBetweenScenarios = template.getWaitBetweenScenarios();
             profilesToSkip = template.getProfilesToSkip();
             methodsToSkip  = template.getMethodsToSkip();
+            loadClientThreads = template.getLoadClientThreads();
+            loadTargetOperationsPerSecond = template.getLoadTargetOperationsPerSecond();
+            loadWarmupSeconds = template.getLoadWarmupSeconds();
+            loadDurationSeconds = template.getLoadDurationSeconds();
         }
     }
 
@@ -198,6 +206,102 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     }
 
 
+    /**
+     * Return the number of client threads that concurrently call the server under test during the concurrent
+     * load profile.
+     *
+     * @return number of client threads
+     */
+    public int getLoadClientThreads()
+    {
+        return loadClientThreads;
+    }
+
+
+    /**
+     * Set up the number of client threads that concurrently call the server under test during the concurrent
+     * load profile.
+     *
+     * @param loadClientThreads number of client threads
+     */
+    public void setLoadClientThreads(int loadClientThreads)
+    {
+        this.loadClientThreads = loadClientThreads;
+    }
+
+
+    /**
+     * Return the rate of requests (across all client threads) that the concurrent load profile aims to send to the
+     * server under test.  Zero means each client thread sends its next request as soon as the last one completes.
+     *
+     * @return target operations per second
+     */
+    public int getLoadTargetOperationsPerSecond()
+    {
+        return loadTargetOperationsPerSecond;
+    }
+
+
+    /**
+     * Set up the rate of requests (across all client threads) that the concurrent load profile aims to send to the
+     * server under test.  Zero means each client thread sends its next request as soon as the last one completes.
+     *
+     * @param loadTargetOperationsPerSecond target operations per second
+     */
+    public void setLoadTargetOperationsPerSecond(int loadTargetOperationsPerSecond)
+    {
+        this.loadTargetOperationsPerSecond = loadTargetOperationsPerSecond;
+    }
+
+
+    /**
+     * Return the amount of time (in seconds) that the concurrent load profile runs before it starts recording
+     * latencies.
+     *
+     * @return warmup time (in seconds)
+     */
+    public int getLoadWarmupSeconds()
+    {
+        return loadWarmupSeconds;
+    }
+
+
+    /**
+     * Set up the amount of time (in seconds) that the concurrent load profile runs before it starts recording
+     * latencies.
+     *
+     * @param loadWarmupSeconds warmup time (in seconds)
+     */
+    public void setLoadWarmupSeconds(int loadWarmupSeconds)
+    {
+        this.loadWarmupSeconds = loadWarmupSeconds;
+    }
+
+
+    /**
+     * Return the amount of time (in seconds) that latencies are recorded for during the concurrent load profile.
+     * Zero (the default) means the concurrent load profile is not run.
+     *
+     * @return measurement time (in seconds)
+     */
+    public int getLoadDurationSeconds()
+    {
+        return loadDurationSeconds;
+    }
+
+
+    /**
+     * Set up the amount of time (in seconds) that latencies are recorded for during the concurrent load profile.
+     * Zero (the default) means the concurrent load profile is not run.
+     *
+     * @param loadDurationSeconds measurement time (in seconds)
+     */
+    public void setLoadDurationSeconds(int loadDurationSeconds)
+    {
+        this.loadDurationSeconds = loadDurationSeconds;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -213,6 +317,10 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
                 "waitBetweenScenarios='" + waitBetweenScenarios + '\'' +
                 "profilesToSkip=" + profilesToSkip +
                 "methodsToSkip=" + methodsToSkip +
+                "loadClientThreads=" + loadClientThreads +
+                "loadTargetOperationsPerSecond=" + loadTargetOperationsPerSecond +
+                "loadWarmupSeconds=" + loadWarmupSeconds +
+                "loadDurationSeconds=" + loadDurationSeconds +
                 '}';
     }
 
@@ -240,7 +348,11 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
                 && Objects.equals(getMaxSearchResults(), that.getMaxSearchResults())
                 && Objects.equals(getWaitBetweenScenarios(), that.getWaitBetweenScenarios())
                 && Objects.equals(getProfilesToSkip(), that.getProfilesToSkip())
-                && Objects.equals(getMethodsToSkip(), that.getMethodsToSkip());
+                && Objects.equals(getMethodsToSkip(), that.getMethodsToSkip())
+                && getLoadClientThreads() == that.getLoadClientThreads()
+                && getLoadTargetOperationsPerSecond() == that.getLoadTargetOperationsPerSecond()
+                && getLoadWarmupSeconds() == that.getLoadWarmupSeconds()
+                && getLoadDurationSeconds() == that.getLoadDurationSeconds();
     }
 
 
@@ -252,6 +364,7 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     @Override
     public int hashCode()
     {
-        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getWaitBetweenScenarios(), getProfilesToSkip(), getMethodsToSkip());
+        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getWaitBetweenScenarios(), getProfilesToSkip(), getMethodsToSkip(),
+                            getLoadClientThreads(), getLoadTargetOperationsPerSecond(), getLoadWarmupSeconds(), getLoadDurationSeconds());
     }
 }
@@ -0,0 +1,58 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.store;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * AtomicFileWriter replaces the contents of a file that the server relies on at start up, such as a configuration
+ * document or a saved synchronization state.  The contents are written to a temporary file in the same directory,
+ * which is then moved over the original file.  A failure part way through leaves the existing file untouched and
+ * a reader never sees a partly written file.
+ */
+public class AtomicFileWriter
+{
+    /**
+     * Private constructor as all methods are static.
+     */
+    private AtomicFileWriter()
+    {
+    }
+
+
+    /**
+     * Replace the contents of a file.  The move is atomic where the file system supports it.
+     *
+     * @param filePath file to write
+     * @param fileContents bytes to write to the file
+     * @throws IOException the file could not be written
+     */
+    public static void writeFile(Path   filePath,
+                                 byte[] fileContents) throws IOException
+    {
+        Path absolutePath = filePath.toAbsolutePath();
+        Path tempPath     = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+
+        try
+        {
+            Files.write(tempPath, fileContents);
+
+            try
+            {
+                Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException notAtomic)
+            {
+                Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.store;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OMAGServerConfigDocumentCache is used by the file based configuration store connectors to avoid reading and parsing
+ * a configuration document that has not changed since it was last read or written.  The parsed document is held
+ * against the absolute path of its file along with the file's last modified time and length.  It is only reused
+ * while both are unchanged, so a document that is edited outside of the platform is read again.
+ *
+ * Each call returns a new OMAGServerConfig object built from the cached document so changes made by the caller
+ * do not affect the cache.
+ */
+public class OMAGServerConfigDocumentCache
+{
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, CachedConfigDocument> cachedDocuments = new ConcurrentHashMap<>();
+
+
+    /**
+     * Reads the contents of a configuration file and returns the JSON configuration document.  This is where
+     * a connector decrypts the file if necessary.
+     *
+     * @param <E> exception thrown when the contents can not be turned into a document
+     */
+    @FunctionalInterface
+    public interface ConfigDocumentReader<E extends Exception>
+    {
+        /**
+         * Return the JSON configuration document stored in the file.
+         *
+         * @param configFile configuration file
+         * @return JSON document
+         * @throws IOException the file could not be read
+         * @throws E the contents of the file could not be turned into a document
+         */
+        byte[] readConfigDocument(File configFile) throws IOException, E;
+    }
+
+
+    /**
+     * Return the configuration document for a file if it is cached and the file has not changed since.
+     *
+     * @param configFile configuration file
+     * @return copy of the configuration or null if it needs to be read from the file
+     * @throws IOException the cached document could not be converted to a configuration object
+     */
+    public OMAGServerConfig getServerConfig(File configFile) throws IOException
+    {
+        CachedConfigDocument cachedDocument = cachedDocuments.get(getCacheKey(configFile));
+
+        if ((cachedDocument != null) && (cachedDocument.matches(configFile)))
+        {
+            return objectMapper.treeToValue(cachedDocument.document, OMAGServerConfig.class);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the configuration stored in a file.  The cached document is used if the file has not changed,
+     * otherwise the file is read using the supplied reader and the resulting document is cached.
+     *
+     * @param configFile configuration file
+     * @param reader reads the configuration document from the file
+     * @param <E> exception thrown by the reader
+     * @return copy of the configuration
+     * @throws IOException the file could not be read or does not contain a configuration document
+     * @throws E the reader could not turn the contents of the file into a document
+     */
+    public <E extends Exception> OMAGServerConfig readServerConfig(File                    configFile,
+                                                                   ConfigDocumentReader<E> reader) throws IOException, E
+    {
+        OMAGServerConfig serverConfig = this.getServerConfig(configFile);
+
+        if (serverConfig != null)
+        {
+            return serverConfig;
+        }
+
+        /*
+         * The state of the file is captured before it is read so a change made while it is being read
+         * causes it to be read again next time.
+         */
+        long     lastModified = configFile.lastModified();
+        long     length       = configFile.length();
+        JsonNode document     = objectMapper.readTree(reader.readConfigDocument(configFile));
+
+        serverConfig = objectMapper.treeToValue(document, OMAGServerConfig.class);
+
+        cachedDocuments.put(getCacheKey(configFile), new CachedConfigDocument(lastModified, length, document));
+
+        return serverConfig;
+    }
+
+
+    /**
+     * Return the JSON configuration document for a configuration.
+     *
+     * @param serverConfig configuration
+     * @return JSON document
+     * @throws IOException the configuration could not be serialized
+     */
+    public byte[] getConfigDocument(OMAGServerConfig serverConfig) throws IOException
+    {
+        return objectMapper.writeValueAsBytes(serverConfig);
+    }
+
+
+    /**
+     * Write the contents of a configuration file and cache the configuration document it holds.  The file is
+     * replaced with AtomicFileWriter.
+     *
+     * @param configFile configuration file
+     * @param fileContents bytes to write to the file
+     * @param configDocument JSON configuration document that the file contents represent
+     * @throws IOException the file could not be written
+     */
+    public void writeServerConfig(File   configFile,
+                                  byte[] fileContents,
+                                  byte[] configDocument) throws IOException
+    {
+        Path configPath = configFile.getAbsoluteFile().toPath();
+        Path parentPath = configPath.getParent();
+
+        cachedDocuments.remove(getCacheKey(configFile));
+
+        Files.createDirectories(parentPath);
+
+        AtomicFileWriter.writeFile(configPath, fileContents);
+
+        cachedDocuments.put(getCacheKey(configFile),
+                            new CachedConfigDocument(configFile.lastModified(), configFile.length(), objectMapper.readTree(configDocument)));
+    }
+
+
+    /**
+     * Remove the cached document for a configuration file, typically because the file is being deleted.
+     *
+     * @param configFile configuration file
+     */
+    public void removeServerConfig(File configFile)
+    {
+        cachedDocuments.remove(getCacheKey(configFile));
+    }
+
+
+    /**
+     * Return the key used to cache the document for a file.
+     *
+     * @param configFile configuration file
+     * @return absolute path name
+     */
+    private String getCacheKey(File configFile)
+    {
+        return configFile.getAbsolutePath();
+    }
+
+
+    /**
+     * CachedConfigDocument is a parsed configuration document along with the state of the file it was read from.
+     */
+    private static class CachedConfigDocument
+    {
+        private final long     lastModified;
+        private final long     length;
+        private final JsonNode document;
+
+
+        /**
+         * Constructor
+         *
+         * @param lastModified last modified time of the file
+         * @param length length of the file
+         * @param document parsed configuration document
+         */
+        CachedConfigDocument(long     lastModified,
+                             long     length,
+                             JsonNode document)
+        {
+            this.lastModified = lastModified;
+            this.length       = length;
+            this.document     = document;
+        }
+
+
+        /**
+         * Return whether the file is unchanged since the document was cached.
+         *
+         * @param configFile configuration file
+         * @return boolean
+         */
+        boolean matches(File configFile)
+        {
+            /*
+             * lastModified() returns 0 if the file does not exist.
+             */
+            long fileLastModified = configFile.lastModified();
+
+            return (fileLastModified != 0L) && (fileLastModified == lastModified) && (configFile.length() == length);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.store;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that OMAGServerConfigDocumentCache only reads a configuration file when it has changed and
+ * returns a separate copy of the configuration on each call.
+ */
+public class TestOMAGServerConfigDocumentCache
+{
+    /**
+     * Return a configuration to save.
+     *
+     * @param serverName name of the server
+     * @return configuration
+     */
+    private OMAGServerConfig getServerConfig(String serverName)
+    {
+        OMAGServerConfig serverConfig = new OMAGServerConfig();
+
+        serverConfig.setLocalServerName(serverName);
+        serverConfig.setLocalServerType("Test Server");
+
+        return serverConfig;
+    }
+
+
+    /**
+     * Validate that the file is read once and written documents are cached.
+     *
+     * @throws Exception test failed
+     */
+    @Test public void testReadAndWrite() throws Exception
+    {
+        OMAGServerConfigDocumentCache cache      = new OMAGServerConfigDocumentCache();
+        File                          configFile = new File(Files.createTempDirectory("config-cache").toFile(), "server1/server1.config");
+        AtomicInteger                 readCount  = new AtomicInteger();
+
+        OMAGServerConfigDocumentCache.ConfigDocumentReader<RuntimeException> reader = file ->
+        {
+            readCount.incrementAndGet();
+            return Files.readAllBytes(file.toPath());
+        };
+
+        byte[] configDocument = cache.getConfigDocument(getServerConfig("server1"));
+
+        cache.writeServerConfig(configFile, configDocument, configDocument);
+
+        File[] siblingFiles = configFile.getParentFile().listFiles();
+
+        assertNotNull(siblingFiles);
+        assertEquals(siblingFiles.length, 1);
+
+        OMAGServerConfig firstCopy = cache.readServerConfig(configFile, reader);
+        firstCopy.setLocalServerName("changed");
+
+        OMAGServerConfig secondCopy = cache.readServerConfig(configFile, reader);
+
+        assertNotSame(firstCopy, secondCopy);
+        assertEquals(secondCopy.getLocalServerName(), "server1");
+        assertEquals(readCount.get(), 0);
+
+        /*
+         * A change made outside of the cache means the file is read again.
+         */
+        Files.write(configFile.toPath(), cache.getConfigDocument(getServerConfig("server1-updated")));
+
+        assertEquals(cache.readServerConfig(configFile, reader).getLocalServerName(), "server1-updated");
+        assertEquals(cache.readServerConfig(configFile, reader).getLocalServerName(), "server1-updated");
+        assertEquals(readCount.get(), 1);
+
+        /*
+         * Once the file is deleted the cached document is not used.
+         */
+        assertTrue(configFile.delete());
+        assertNull(cache.getServerConfig(configFile));
+    }
+
+
+    /**
+     * Validate that the cached document is the one supplied rather than the file contents, so an encrypted
+     * file does not have to be decrypted after it is written.
+     *
+     * @throws Exception test failed
+     */
+    @Test public void testWriteTransformedContents() throws Exception
+    {
+        OMAGServerConfigDocumentCache cache      = new OMAGServerConfigDocumentCache();
+        File                          configFile = File.createTempFile("server2", ".config");
+
+        configFile.deleteOnExit();
+
+        byte[] configDocument = cache.getConfigDocument(getServerConfig("server2"));
+
+        cache.writeServerConfig(configFile, "not a configuration document".getBytes(StandardCharsets.UTF_8), configDocument);
+
+        assertEquals(cache.getServerConfig(configFile).getLocalServerName(), "server2");
+    }
+}
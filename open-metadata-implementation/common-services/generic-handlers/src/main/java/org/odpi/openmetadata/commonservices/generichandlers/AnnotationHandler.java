@@ -512,6 +512,222 @@ public class AnnotationHandler<B> extends ReferenceableHandler<B>
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The report is validated once for the whole list.
+     *
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param annotations list of annotation objects
+     * @param methodName calling method
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    public List<String> addAnnotationsToDiscoveryReport(String           userId,
+                                                        String           discoveryReportGUID,
+                                                        List<Annotation> annotations,
+                                                        String           methodName) throws InvalidParameterException,
+                                                                                            UserNotAuthorizedException,
+                                                                                            PropertyServerException
+    {
+        final String discoveryReportGUIDParameterName = "discoveryReportGUID";
+
+        return this.addAnnotationsToParent(userId,
+                                           discoveryReportGUID,
+                                           discoveryReportGUIDParameterName,
+                                           OpenMetadataAPIMapper.DISCOVERY_ANALYSIS_REPORT_TYPE_NAME,
+                                           OpenMetadataAPIMapper.REPORT_TO_ANNOTATIONS_TYPE_GUID,
+                                           OpenMetadataAPIMapper.REPORT_TO_ANNOTATIONS_TYPE_NAME,
+                                           annotations,
+                                           methodName);
+    }
+
+
+    /**
+     * Add a list of new annotations and link them to an existing data field.  The data field is validated once
+     * for the whole list.
+     *
+     * @param userId identifier of calling user
+     * @param parentDataFieldGUID unique identifier of the data field that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @param methodName calling method
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    public List<String> addAnnotationsToDataField(String           userId,
+                                                  String           parentDataFieldGUID,
+                                                  List<Annotation> annotations,
+                                                  String           methodName) throws InvalidParameterException,
+                                                                                      UserNotAuthorizedException,
+                                                                                      PropertyServerException
+    {
+        final String dataFieldGUIDParameterName = "parentDataFieldGUID";
+
+        return this.addAnnotationsToParent(userId,
+                                           parentDataFieldGUID,
+                                           dataFieldGUIDParameterName,
+                                           OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME,
+                                           OpenMetadataAPIMapper.DATA_FIELD_ANALYSIS_TYPE_GUID,
+                                           OpenMetadataAPIMapper.DATA_FIELD_ANALYSIS_TYPE_NAME,
+                                           annotations,
+                                           methodName);
+    }
+
+
+    /**
+     * Add new annotations to many data fields.  All of the data fields and annotations are validated before any
+     * annotations are created, and each data field is validated once for all of its annotations.
+     *
+     * @param userId identifier of calling user
+     * @param dataFieldAnnotations map from the unique identifier of each data field to the new annotations that are
+     *                             to be attached to it
+     * @param methodName calling method
+     * @return list of unique identifiers of the new annotations (in the iteration order of the map and then the
+     *         order of each data field's annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    public List<String> addAnnotationsToDataFields(String                        userId,
+                                                   Map<String, List<Annotation>> dataFieldAnnotations,
+                                                   String                        methodName) throws InvalidParameterException,
+                                                                                                    UserNotAuthorizedException,
+                                                                                                    PropertyServerException
+    {
+        final String dataFieldAnnotationsParameterName = "dataFieldAnnotations";
+        final String dataFieldGUIDParameterName        = "parentDataFieldGUID";
+        final String annotationsParameterName          = "annotations";
+        final String annotationParameterName           = "annotation";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateObject(dataFieldAnnotations, dataFieldAnnotationsParameterName, methodName);
+
+        for (Map.Entry<String, List<Annotation>> entry : dataFieldAnnotations.entrySet())
+        {
+            invalidParameterHandler.validateGUID(entry.getKey(), dataFieldGUIDParameterName, methodName);
+            invalidParameterHandler.validateObject(entry.getValue(), annotationsParameterName, methodName);
+
+            for (Annotation annotation : entry.getValue())
+            {
+                invalidParameterHandler.validateObject(annotation, annotationParameterName, methodName);
+            }
+        }
+
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        for (Map.Entry<String, List<Annotation>> entry : dataFieldAnnotations.entrySet())
+        {
+            annotationGUIDs.addAll(this.addAnnotationsToParent(userId,
+                                                               entry.getKey(),
+                                                               dataFieldGUIDParameterName,
+                                                               OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME,
+                                                               OpenMetadataAPIMapper.DATA_FIELD_ANALYSIS_TYPE_GUID,
+                                                               OpenMetadataAPIMapper.DATA_FIELD_ANALYSIS_TYPE_NAME,
+                                                               entry.getValue(),
+                                                               methodName));
+        }
+
+        return annotationGUIDs;
+    }
+
+
+    /**
+     * Create a list of annotations and link each one to the same parent element.  The parent's anchor is
+     * looked up once and used for all of the new annotations.
+     *
+     * @param userId identifier of calling user
+     * @param parentGUID unique identifier of the report or data field that the annotations are attached to
+     * @param parentGUIDParameterName parameter supplying parentGUID
+     * @param parentTypeName type name of the parent element
+     * @param relationshipTypeGUID type of relationship to create between each annotation and the parent
+     * @param relationshipTypeName type of relationship to create between each annotation and the parent
+     * @param annotations list of annotation objects
+     * @param methodName calling method
+     * @return list of unique identifiers of the new annotations
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    private List<String> addAnnotationsToParent(String           userId,
+                                                String           parentGUID,
+                                                String           parentGUIDParameterName,
+                                                String           parentTypeName,
+                                                String           relationshipTypeGUID,
+                                                String           relationshipTypeName,
+                                                List<Annotation> annotations,
+                                                String           methodName) throws InvalidParameterException,
+                                                                                    UserNotAuthorizedException,
+                                                                                    PropertyServerException
+    {
+        final String annotationsParameterName = "annotations";
+        final String annotationParameterName  = "annotation";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(parentGUID, parentGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        for (Annotation annotation : annotations)
+        {
+            invalidParameterHandler.validateObject(annotation, annotationParameterName, methodName);
+        }
+
+        Date effectiveTime = new Date();
+
+        String assetGUID          = null;
+        EntityDetail anchorEntity = this.validateAnchorEntity(userId,
+                                                              parentGUID,
+                                                              parentGUIDParameterName,
+                                                              parentTypeName,
+                                                              false,
+                                                              false,
+                                                              false,
+                                                              supportedZones,
+                                                              effectiveTime,
+                                                              methodName);
+
+        if (anchorEntity != null)
+        {
+            assetGUID = anchorEntity.getGUID();
+        }
+
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        for (Annotation annotation : annotations)
+        {
+            String annotationGUID = this.addNewAnnotation(userId, assetGUID, annotation, methodName);
+
+            if (annotationGUID != null)
+            {
+                this.uncheckedLinkElementToElement(userId,
+                                                   null,
+                                                   null,
+                                                   annotationGUID,
+                                                   annotationParameterName,
+                                                   OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME,
+                                                   parentGUID,
+                                                   parentGUIDParameterName,
+                                                   parentTypeName,
+                                                   false,
+                                                   false,
+                                                   supportedZones,
+                                                   relationshipTypeGUID,
+                                                   relationshipTypeName,
+                                                   null,
+                                                   effectiveTime,
+                                                   methodName);
+            }
+
+            annotationGUIDs.add(annotationGUID);
+        }
+
+        return annotationGUIDs;
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
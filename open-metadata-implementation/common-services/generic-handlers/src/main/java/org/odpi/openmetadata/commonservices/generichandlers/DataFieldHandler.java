@@ -9,6 +9,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
@@ -426,7 +427,6 @@ public class DataFieldHandler<B> extends OpenMetadataAPIGenericHandler<B>
                                                                        PropertyServerException
     {
         final String dataFieldNameParameterName = "dataFieldName";
-        final String dataFieldGUIDParameterName = "dataFieldGUID";
 
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateGUID(parentEntityGUID, parentEntityParameterName, methodName);
@@ -449,6 +449,86 @@ public class DataFieldHandler<B> extends OpenMetadataAPIGenericHandler<B>
             assetGUID = anchorEntity.getGUID();
         }
 
+        return this.addAnchoredDataField(userId,
+                                         externalSourceGUID,
+                                         externalSourceName,
+                                         assetGUID,
+                                         parentEntityGUID,
+                                         parentEntityParameterName,
+                                         parentEntityType,
+                                         relationshipTypeGUID,
+                                         relationshipTypeName,
+                                         dataFieldPosition,
+                                         dataFieldName,
+                                         dataFieldType,
+                                         dataFieldDescription,
+                                         dataFieldAliases,
+                                         dataFieldSortOrder,
+                                         defaultValue,
+                                         additionalProperties,
+                                         forLineage,
+                                         forDuplicateProcessing,
+                                         effectiveTime,
+                                         methodName);
+    }
+
+
+    /**
+     * Save a new data field as an entity with the supplied anchor and link it to its parent.  The parameters
+     * and the parent's anchor have already been validated by the caller.
+     *
+     * @param userId identifier of calling user
+     * @param externalSourceGUID unique identifier of the external source (null for local)
+     * @param externalSourceName unique name of the external source (null for local)
+     * @param assetGUID unique identifier of the anchor of the parent (null if not anchored)
+     * @param parentEntityGUID unique identifier of the entity that the new data field will be attached to
+     * @param parentEntityParameterName name of parameter supplying parentEntityGUID
+     * @param parentEntityType type of entity that the new data field will be attached to
+     * @param relationshipTypeGUID type of relationship to create between the parent and the data field
+     * @param relationshipTypeName type of relationship to create between the parent and the data field
+     * @param dataFieldPosition the position of the data field in the schema (if there is ordering of fields)
+     * @param dataFieldName the name of the data field
+     * @param dataFieldType the type of the data field
+     * @param dataFieldDescription a description of the data field
+     * @param dataFieldAliases any aliases associated with the data field
+     * @param dataFieldSortOrder any sort order
+     * @param defaultValue default value of the field
+     * @param additionalProperties any additional properties
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     * @return unique identifier of the data field
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    private String addAnchoredDataField(String              userId,
+                                        String              externalSourceGUID,
+                                        String              externalSourceName,
+                                        String              assetGUID,
+                                        String              parentEntityGUID,
+                                        String              parentEntityParameterName,
+                                        String              parentEntityType,
+                                        String              relationshipTypeGUID,
+                                        String              relationshipTypeName,
+                                        int                 dataFieldPosition,
+                                        String              dataFieldName,
+                                        String              dataFieldType,
+                                        String              dataFieldDescription,
+                                        List<String>        dataFieldAliases,
+                                        int                 dataFieldSortOrder,
+                                        String              defaultValue,
+                                        Map<String, String> additionalProperties,
+                                        boolean             forLineage,
+                                        boolean             forDuplicateProcessing,
+                                        Date                effectiveTime,
+                                        String              methodName) throws InvalidParameterException,
+                                                                               UserNotAuthorizedException,
+                                                                               PropertyServerException
+    {
+        final String dataFieldGUIDParameterName = "dataFieldGUID";
+
         DataFieldBuilder builder = new DataFieldBuilder(dataFieldName,
                                                         dataFieldType,
                                                         dataFieldDescription,
@@ -576,6 +656,108 @@ public class DataFieldHandler<B> extends OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Add a list of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     * The data fields are all validated before any are created and the annotation's anchor is looked up once for the
+     * whole list.
+     *
+     * @param userId identifier of calling user
+     * @param externalSourceGUID unique identifier of the external source (null for local)
+     * @param externalSourceName unique name of the external source (null for local)
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of data field objects
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     * @return list of unique identifiers of the new data fields (in the same order as the data fields)
+     * @throws InvalidParameterException one of the data fields is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    public List<String>  addDataFieldsToDiscoveryReport(String          userId,
+                                                         String          externalSourceGUID,
+                                                         String          externalSourceName,
+                                                         String          annotationGUID,
+                                                         List<DataField> dataFields,
+                                                         boolean         forLineage,
+                                                         boolean         forDuplicateProcessing,
+                                                         Date            effectiveTime,
+                                                         String          methodName) throws InvalidParameterException,
+                                                                                            UserNotAuthorizedException,
+                                                                                            PropertyServerException
+    {
+        final String annotationGUIDParameterName = "annotationGUID";
+        final String dataFieldsParameterName     = "dataFields";
+        final String dataFieldParameterName      = "dataField";
+        final String dataFieldNameParameterName  = "dataFieldName";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(annotationGUID, annotationGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(dataFields, dataFieldsParameterName, methodName);
+
+        for (DataField dataField : dataFields)
+        {
+            invalidParameterHandler.validateObject(dataField, dataFieldParameterName, methodName);
+            invalidParameterHandler.validateName(dataField.getDataFieldName(), dataFieldNameParameterName, methodName);
+        }
+
+        String       assetGUID    = null;
+        EntityDetail anchorEntity = this.validateAnchorEntity(userId,
+                                                              annotationGUID,
+                                                              annotationGUIDParameterName,
+                                                              OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME,
+                                                              false,
+                                                              forLineage,
+                                                              forDuplicateProcessing,
+                                                              supportedZones,
+                                                              effectiveTime,
+                                                              methodName);
+
+        if (anchorEntity != null)
+        {
+            assetGUID = anchorEntity.getGUID();
+        }
+
+        List<String> dataFieldGUIDs = new ArrayList<>();
+
+        for (DataField dataField : dataFields)
+        {
+            int dataFieldSortOrder = 0;
+
+            if (dataField.getDataFieldSortOrder() != null)
+            {
+                dataFieldSortOrder = dataField.getDataFieldSortOrder().getOpenTypeOrdinal();
+            }
+
+            dataFieldGUIDs.add(this.addAnchoredDataField(userId,
+                                                         externalSourceGUID,
+                                                         externalSourceName,
+                                                         assetGUID,
+                                                         annotationGUID,
+                                                         annotationGUIDParameterName,
+                                                         OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME,
+                                                         OpenMetadataAPIMapper.DISCOVERED_DATA_FIELD_TYPE_GUID,
+                                                         OpenMetadataAPIMapper.DISCOVERED_DATA_FIELD_TYPE_NAME,
+                                                         dataField.getDataFieldPosition(),
+                                                         dataField.getDataFieldName(),
+                                                         dataField.getDataFieldType(),
+                                                         dataField.getDataFieldDescription(),
+                                                         dataField.getDataFieldAliases(),
+                                                         dataFieldSortOrder,
+                                                         dataField.getDefaultValue(),
+                                                         dataField.getAdditionalProperties(),
+                                                         forLineage,
+                                                         forDuplicateProcessing,
+                                                         effectiveTime,
+                                                         methodName));
+        }
+
+        return dataFieldGUIDs;
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -163,6 +163,63 @@ public class OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Open a request scope for the calling thread.  While it is open, entities and anchors retrieved by the
+     * handlers are reused rather than retrieved again from the repositories.  Services that call the handlers
+     * many times for a single request (for example, to add each attribute of a schema) should open a scope
+     * around the whole request and close it (in a finally clause) when the request completes.
+     *
+     * @param methodName calling method
+     * @return scope to close at the end of the request
+     */
+    public RepositoryRequestScope startRequestScope(String methodName)
+    {
+        return repositoryHandler.startRequestScope(methodName);
+    }
+
+
+    /**
+     * A call to the handler that is run inside a request scope.
+     *
+     * @param <T> type of result
+     */
+    @FunctionalInterface
+    private interface RequestScopedCall<T>
+    {
+        T call() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException;
+    }
+
+
+    /**
+     * Run a call inside a request scope so that entities and anchors that are retrieved more than once
+     * while it runs are only read from the repositories once.  The scope is closed when the call returns.
+     *
+     * @param methodName calling method
+     * @param call call to run
+     * @param <T> type of result
+     * @return result of the call
+     * @throws InvalidParameterException  the input properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the repositories
+     */
+    private <T> T withRequestScope(String               methodName,
+                                   RequestScopedCall<T> call) throws InvalidParameterException,
+                                                                     PropertyServerException,
+                                                                     UserNotAuthorizedException
+    {
+        RepositoryRequestScope requestScope = repositoryHandler.startRequestScope(methodName);
+
+        try
+        {
+            return call.call();
+        }
+        finally
+        {
+            requestScope.close();
+        }
+    }
+
+
     /**
      * Return the list of zones to use for retrieving assets.
      *
@@ -1838,12 +1895,11 @@ public class OpenMetadataAPIGenericHandler<B>
 
 
     /**
-     * Walk the graph to locate the anchor for a schema type.  Schemas are attached to each other through various levels of nesting, ports (for
-     * process assets) and asset through the schema type.  It is also possible that the schema is not attached to anything.  This is common if the
-     * schema is a template.
+     * Return the anchor for a schema type.  The anchor is remembered for the rest of the request so that the
+     * chain of relationships is only walked once for elements that share a parent.
      *
      * @param userId calling user
-     * @param schemaTypeGUID unique identifier of schema type (it is assumed that the anchorGUID property of this type is null)
+     * @param schemaTypeGUID unique identifier of the schema type
      * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
      * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
      * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
@@ -1863,6 +1919,46 @@ public class OpenMetadataAPIGenericHandler<B>
                                               String  methodName) throws InvalidParameterException,
                                                                          PropertyServerException,
                                                                          UserNotAuthorizedException
+    {
+        if (repositoryHandler.isAnchorGUIDCached(schemaTypeGUID, forLineage, forDuplicateProcessing, effectiveTime))
+        {
+            return repositoryHandler.getCachedAnchorGUID(schemaTypeGUID, forLineage, forDuplicateProcessing, effectiveTime);
+        }
+
+        String anchorGUID = this.walkToAnchorGUIDForSchemaType(userId, schemaTypeGUID, forLineage, forDuplicateProcessing, effectiveTime, methodName);
+
+        repositoryHandler.cacheAnchorGUID(schemaTypeGUID, forLineage, forDuplicateProcessing, effectiveTime, anchorGUID);
+
+        return anchorGUID;
+    }
+
+
+    /**
+     * Walk the graph to locate the anchor for a schema type.  Schemas are attached to each other through various levels of nesting, ports (for
+     * process assets) and asset through the schema type.  It is also possible that the schema is not attached to anything.  This is common if the
+     * schema is a template.
+     *
+     * @param userId calling user
+     * @param schemaTypeGUID unique identifier of schema type (it is assumed that the anchorGUID property of this type is null)
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     *
+     * @return unique identifier of attached asset or null if there is no attached asset
+     *
+     * @throws InvalidParameterException  the GUID is not recognized or the paging values are invalid or
+     * @throws PropertyServerException  there is a problem retrieving the instances from the property server or
+     * @throws UserNotAuthorizedException  the requesting user is not authorized to issue this request.
+     */
+    private String walkToAnchorGUIDForSchemaType(String  userId,
+                                                 String  schemaTypeGUID,
+                                                 boolean forLineage,
+                                                 boolean forDuplicateProcessing,
+                                                 Date    effectiveTime,
+                                                 String  methodName) throws InvalidParameterException,
+                                                                            PropertyServerException,
+                                                                            UserNotAuthorizedException
     {
         /*
          * The most obvious test is that this schema type is attached directly to the asset.
@@ -2060,12 +2156,11 @@ public class OpenMetadataAPIGenericHandler<B>
 
 
     /**
-     * Walk the graph to locate the anchor for a schema attribute.  Schemas are attached to each other through various levels of nesting, ports (for
-     * process assets) and asset through the schema type.  It is also possible that the schema is not attached to anything.  This is common if the
-     * schema is a template.
+     * Return the anchor for a schema attribute.  The anchor is remembered for the rest of the request so that the
+     * chain of relationships is only walked once for elements that share a parent.
      *
      * @param userId calling user
-     * @param attributeGUID unique identifier of attribute (it is assumed that the anchorGUID property of this attribute is null)
+     * @param attributeGUID unique identifier of the schema attribute
      * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
      * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
      * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
@@ -2073,9 +2168,9 @@ public class OpenMetadataAPIGenericHandler<B>
      *
      * @return unique identifier of attached asset or null if there is no attached asset
      *
-     * @throws InvalidParameterException - the GUID is not recognized or the paging values are invalid or
-     * @throws PropertyServerException - there is a problem retrieving the asset properties from the property server or
-     * @throws UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException  the GUID is not recognized or the paging values are invalid or
+     * @throws PropertyServerException  there is a problem retrieving the instances from the property server or
+     * @throws UserNotAuthorizedException  the requesting user is not authorized to issue this request.
      */
     private String getAnchorGUIDForSchemaAttribute(String  userId,
                                                    String  attributeGUID,
@@ -2085,6 +2180,46 @@ public class OpenMetadataAPIGenericHandler<B>
                                                    String  methodName) throws InvalidParameterException,
                                                                               PropertyServerException,
                                                                               UserNotAuthorizedException
+    {
+        if (repositoryHandler.isAnchorGUIDCached(attributeGUID, forLineage, forDuplicateProcessing, effectiveTime))
+        {
+            return repositoryHandler.getCachedAnchorGUID(attributeGUID, forLineage, forDuplicateProcessing, effectiveTime);
+        }
+
+        String anchorGUID = this.walkToAnchorGUIDForSchemaAttribute(userId, attributeGUID, forLineage, forDuplicateProcessing, effectiveTime, methodName);
+
+        repositoryHandler.cacheAnchorGUID(attributeGUID, forLineage, forDuplicateProcessing, effectiveTime, anchorGUID);
+
+        return anchorGUID;
+    }
+
+
+    /**
+     * Walk the graph to locate the anchor for a schema attribute.  Schemas are attached to each other through various levels of nesting, ports (for
+     * process assets) and asset through the schema type.  It is also possible that the schema is not attached to anything.  This is common if the
+     * schema is a template.
+     *
+     * @param userId calling user
+     * @param attributeGUID unique identifier of attribute (it is assumed that the anchorGUID property of this attribute is null)
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     *
+     * @return unique identifier of attached asset or null if there is no attached asset
+     *
+     * @throws InvalidParameterException - the GUID is not recognized or the paging values are invalid or
+     * @throws PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * @throws UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    private String walkToAnchorGUIDForSchemaAttribute(String  userId,
+                                                      String  attributeGUID,
+                                                      boolean forLineage,
+                                                      boolean forDuplicateProcessing,
+                                                      Date    effectiveTime,
+                                                      String  methodName) throws InvalidParameterException,
+                                                                                 PropertyServerException,
+                                                                                 UserNotAuthorizedException
     {
         /*
          * Is the schema attribute connected to a type.
@@ -2737,6 +2872,14 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                UserNotAuthorizedException,
                                                                PropertyServerException
     {
+        /*
+         * The anchor may already have been derived earlier in this request.
+         */
+        if (repositoryHandler.isAnchorGUIDCached(targetGUID, forLineage, forDuplicateProcessing, effectiveTime))
+        {
+            return repositoryHandler.getCachedAnchorGUID(targetGUID, forLineage, forDuplicateProcessing, effectiveTime);
+        }
+
         String anchorGUID = null;
 
         /*
@@ -2792,6 +2935,8 @@ public class OpenMetadataAPIGenericHandler<B>
             anchorGUID = this.getAnchorGUIDForGlossaryCategory(localServerUserId, targetGUID, forLineage, forDuplicateProcessing, effectiveTime, methodName);
         }
 
+        repositoryHandler.cacheAnchorGUID(targetGUID, forLineage, forDuplicateProcessing, effectiveTime, anchorGUID);
+
         return anchorGUID;
     }
 
@@ -3029,6 +3174,59 @@ public class OpenMetadataAPIGenericHandler<B>
                                              String        methodName) throws InvalidParameterException,
                                                                               PropertyServerException,
                                                                               UserNotAuthorizedException
+    {
+        return this.validateAnchorEntity(userId,
+                                         connectToGUID,
+                                         connectToType,
+                                         connectToEntity,
+                                         connectToGUIDParameterName,
+                                         isUpdate,
+                                         forLineage,
+                                         forDuplicateProcessing,
+                                         false,
+                                         suppliedSupportedZones,
+                                         effectiveTime,
+                                         methodName);
+    }
+
+
+    /**
+     * Validates whether an operation is valid based on the type of entity it is connecting to, who the user is and whether it is a read or an
+     * update.  The asset read check is skipped if the caller has already made it, for example for a page of search results.
+     *
+     * @param userId           userId of user making request.
+     * @param connectToGUID    unique id for the object to connect the attachment to
+     * @param connectToType    name of type of connectToEntity
+     * @param connectToEntity  entity retrieved from the repository
+     * @param connectToGUIDParameterName  name of the parameter that passed the connectTo guid
+     * @param isUpdate         is this an update request?
+     * @param forLineage             the query is to support lineage retrieval
+     * @param forDuplicateProcessing the query is for duplicate processing and so must not deduplicate
+     * @param assetReadValidated     has the caller already checked that the user may read this entity if it is an asset?
+     * @param suppliedSupportedZones list of supported zones from the caller.
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName       calling method
+     *
+     * @return anchor entity or null if this entity is an anchor or does not have an anchor.
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws PropertyServerException there is a problem accessing the properties in the repositories.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private EntityDetail validateAnchorEntity(String        userId,
+                                              String        connectToGUID,
+                                              String        connectToType,
+                                              EntityDetail  connectToEntity,
+                                              String        connectToGUIDParameterName,
+                                              boolean       isUpdate,
+                                              boolean       forLineage,
+                                              boolean       forDuplicateProcessing,
+                                              boolean       assetReadValidated,
+                                              List<String>  suppliedSupportedZones,
+                                              Date          effectiveTime,
+                                              String        methodName) throws InvalidParameterException,
+                                                                               PropertyServerException,
+                                                                               UserNotAuthorizedException
     {
         invalidParameterHandler.validateObject(connectToEntity, connectToGUIDParameterName, methodName);
 
@@ -3063,7 +3261,7 @@ public class OpenMetadataAPIGenericHandler<B>
         {
             securityVerifier.validateUserForConnection(userId, connectToEntity, repositoryHelper, serviceName, methodName);
         }
-        else if (repositoryHelper.isTypeOf(serviceName, connectToType, OpenMetadataAPIMapper.ASSET_TYPE_NAME))
+        else if ((! assetReadValidated) && (repositoryHelper.isTypeOf(serviceName, connectToType, OpenMetadataAPIMapper.ASSET_TYPE_NAME)))
         {
             /*
              * Even if the request is an update request, the security module is first called for read - the update
@@ -4539,74 +4737,120 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                   PropertyServerException,
                                                                                   UserNotAuthorizedException
     {
-        invalidParameterHandler.validateUserId(userId, methodName);
-        invalidParameterHandler.validateObject(startingElement, startingElementGUIDParameterName, methodName);
-
-        List<Relationship> visibleRelationships = this.getAttachmentLinks(userId,
-                                                                          startingElement,
-                                                                          startingElementGUIDParameterName,
-                                                                          startingElementTypeName,
-                                                                          relationshipTypeGUID,
-                                                                          relationshipTypeName,
-                                                                          null,
-                                                                          resultingElementTypeName,
-                                                                          attachmentEntityEnd,
-                                                                          forLineage,
-                                                                          forDuplicateProcessing,
-                                                                          serviceSupportedZones,
-                                                                          startingFrom,
-                                                                          pageSize,
-                                                                          effectiveTime,
-                                                                          methodName);
-
-        if (visibleRelationships != null)
+        return this.withRequestScope(methodName, () ->
         {
-            List<EntityDetail> visibleEntities = new ArrayList<>();
+            invalidParameterHandler.validateUserId(userId, methodName);
+            invalidParameterHandler.validateObject(startingElement, startingElementGUIDParameterName, methodName);
+
+            List<Relationship> visibleRelationships = this.getAttachmentLinks(userId,
+                                                                              startingElement,
+                                                                              startingElementGUIDParameterName,
+                                                                              startingElementTypeName,
+                                                                              relationshipTypeGUID,
+                                                                              relationshipTypeName,
+                                                                              null,
+                                                                              resultingElementTypeName,
+                                                                              attachmentEntityEnd,
+                                                                              forLineage,
+                                                                              forDuplicateProcessing,
+                                                                              serviceSupportedZones,
+                                                                              startingFrom,
+                                                                              pageSize,
+                                                                              effectiveTime,
+                                                                              methodName);
 
-            for (Relationship  relationship : visibleRelationships)
+            if (visibleRelationships != null)
             {
-                if (relationship != null)
-                {
-                    EntityProxy entityProxy = repositoryHandler.getOtherEnd(startingElement.getGUID(), startingElementTypeName, relationship, attachmentEntityEnd, methodName);
+                /*
+                 * The entities at the other end of the relationships are retrieved with a single call to the repositories
+                 * rather than one call for each relationship.
+                 */
+                List<EntityProxy> entityProxies       = new ArrayList<>();
+                List<String>      attachedEntityGUIDs = new ArrayList<>();
 
-                    if ((entityProxy != null) && (entityProxy.getType() != null)  &&
-                                (repositoryHelper.isTypeOf(serviceName, entityProxy.getType().getTypeDefName(), resultingElementTypeName)))
+                for (Relationship  relationship : visibleRelationships)
+                {
+                    if (relationship != null)
                     {
-                        try
+                        EntityProxy entityProxy = repositoryHandler.getOtherEnd(startingElement.getGUID(), startingElementTypeName, relationship, attachmentEntityEnd, methodName);
+
+                        if ((entityProxy != null) && (entityProxy.getType() != null)  &&
+                                    (repositoryHelper.isTypeOf(serviceName, entityProxy.getType().getTypeDefName(), resultingElementTypeName)))
                         {
-                            final String guidParameterName = "entityProxy.getGUID()";
+                            entityProxies.add(entityProxy);
+                            attachedEntityGUIDs.add(entityProxy.getGUID());
+                        }
+                    }
+                }
 
-                            visibleEntities.add(this.getEntityFromRepository(userId,
-                                                                             entityProxy.getGUID(),
-                                                                             guidParameterName,
-                                                                             resultingElementTypeName,
-                                                                             requiredClassificationName,
-                                                                             omittedClassificationName,
-                                                                             forLineage,
-                                                                             forDuplicateProcessing,
-                                                                             supportedZones,
-                                                                             effectiveTime,
-                                                                             methodName));
+                Map<String, EntityDetail> retrievedEntities = this.getEntitiesByGUIDs(userId,
+                                                                                      attachedEntityGUIDs,
+                                                                                      resultingElementTypeName,
+                                                                                      forLineage,
+                                                                                      forDuplicateProcessing,
+                                                                                      effectiveTime,
+                                                                                      methodName);
+
+                List<EntityDetail> visibleEntities = new ArrayList<>();
+
+                for (EntityProxy entityProxy : entityProxies)
+                {
+                    try
+                    {
+                        final String guidParameterName = "entityProxy.getGUID()";
+
+                        EntityDetail retrievedEntity = retrievedEntities.get(entityProxy.getGUID());
+                        EntityDetail visibleEntity;
+
+                        if (retrievedEntity == null)
+                        {
+                            visibleEntity = this.getEntityFromRepository(userId,
+                                                                         entityProxy.getGUID(),
+                                                                         guidParameterName,
+                                                                         resultingElementTypeName,
+                                                                         requiredClassificationName,
+                                                                         omittedClassificationName,
+                                                                         forLineage,
+                                                                         forDuplicateProcessing,
+                                                                         supportedZones,
+                                                                         effectiveTime,
+                                                                         methodName);
                         }
-                        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException inaccessibleEntity)
+                        else
                         {
-                            // skip entities that are not visible to this user
-                            if (log.isDebugEnabled())
-                            {
-                                log.debug("Skipping inaccessible entity: " + inaccessibleEntity);
-                            }
+                            visibleEntity = this.getValidatedEntity(userId,
+                                                                    retrievedEntity,
+                                                                    guidParameterName,
+                                                                    resultingElementTypeName,
+                                                                    requiredClassificationName,
+                                                                    omittedClassificationName,
+                                                                    forLineage,
+                                                                    forDuplicateProcessing,
+                                                                    supportedZones,
+                                                                    effectiveTime,
+                                                                    methodName);
+                        }
+
+                        visibleEntities.add(visibleEntity);
+                    }
+                    catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException inaccessibleEntity)
+                    {
+                        // skip entities that are not visible to this user
+                        if (log.isDebugEnabled())
+                        {
+                            log.debug("Skipping inaccessible entity: " + inaccessibleEntity);
                         }
                     }
                 }
-            }
 
-            if (! visibleEntities.isEmpty())
-            {
-                return visibleEntities;
+                if (! visibleEntities.isEmpty())
+                {
+                    return visibleEntities;
+                }
             }
-        }
 
-        return null;
+            return null;
+        });
     }
 
 
@@ -5069,77 +5313,80 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                   PropertyServerException,
                                                                                   UserNotAuthorizedException
     {
-        invalidParameterHandler.validateUserId(userId, methodName);
-        invalidParameterHandler.validateObject(startingEntity, startingGUIDParameterName, methodName);
-
-        int queryPageSize = invalidParameterHandler.validatePaging(startingFrom, pageSize, methodName);
-
-        this.validateAnchorEntity(userId,
-                                  startingEntity.getGUID(),
-                                  startingTypeName,
-                                  startingEntity,
-                                  startingGUIDParameterName,
-                                  false,
-                                  forLineage,
-                                  forDuplicateProcessing,
-                                  serviceSupportedZones,
-                                  effectiveTime,
-                                  methodName);
-
-        RepositoryRelationshipsIterator iterator = new RepositoryRelationshipsIterator(repositoryHandler,
-                                                                                       invalidParameterHandler,
-                                                                                       userId,
-                                                                                       startingEntity,
-                                                                                       startingTypeName,
-                                                                                       attachmentRelationshipTypeGUID,
-                                                                                       attachmentRelationshipTypeName,
-                                                                                       attachmentEntityEnd,
-                                                                                       forLineage,
-                                                                                       forDuplicateProcessing,
-                                                                                       startingFrom,
-                                                                                       queryPageSize,
-                                                                                       effectiveTime,
-                                                                                       methodName);
-
-
-        List<Relationship> visibleRelationships = new ArrayList<>();
-
-        while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (visibleRelationships.size() < queryPageSize)))
+        return this.withRequestScope(methodName, () ->
         {
-            Relationship relationship = iterator.getNext();
+            invalidParameterHandler.validateUserId(userId, methodName);
+            invalidParameterHandler.validateObject(startingEntity, startingGUIDParameterName, methodName);
 
-            if (this.visibleToUserThroughRelationship(userId, relationship, methodName))
-            {
-                EntityProxy otherEnd = repositoryHandler.getOtherEnd(startingEntity.getGUID(), startingTypeName, relationship, attachmentEntityEnd, methodName);
+            int queryPageSize = invalidParameterHandler.validatePaging(startingFrom, pageSize, methodName);
 
-                /*
-                 * Does the relationship point to an appropriate type of entity?
-                 */
-                if (repositoryHelper.isTypeOf(serviceName, otherEnd.getType().getTypeDefName(), attachmentEntityTypeName))
-                {
-                    if ((attachmentEntityGUID == null) || (attachmentEntityGUID.equals(otherEnd.getGUID())))
-                    {
-                        log.debug("Accepting relationship: " + relationship.getGUID());
-                        visibleRelationships.add(relationship);
-                    }
-                    else
-                    {
-                        log.debug("Ignoring relationship based on entity instance: " + relationship.getGUID());
-                    }
-                }
-                else
+            this.validateAnchorEntity(userId,
+                                      startingEntity.getGUID(),
+                                      startingTypeName,
+                                      startingEntity,
+                                      startingGUIDParameterName,
+                                      false,
+                                      forLineage,
+                                      forDuplicateProcessing,
+                                      serviceSupportedZones,
+                                      effectiveTime,
+                                      methodName);
+
+            RepositoryRelationshipsIterator iterator = new RepositoryRelationshipsIterator(repositoryHandler,
+                                                                                           invalidParameterHandler,
+                                                                                           userId,
+                                                                                           startingEntity,
+                                                                                           startingTypeName,
+                                                                                           attachmentRelationshipTypeGUID,
+                                                                                           attachmentRelationshipTypeName,
+                                                                                           attachmentEntityEnd,
+                                                                                           forLineage,
+                                                                                           forDuplicateProcessing,
+                                                                                           startingFrom,
+                                                                                           queryPageSize,
+                                                                                           effectiveTime,
+                                                                                           methodName);
+
+
+            List<Relationship> visibleRelationships = new ArrayList<>();
+
+            while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (visibleRelationships.size() < queryPageSize)))
+            {
+                Relationship relationship = iterator.getNext();
+
+                if (this.visibleToUserThroughRelationship(userId, relationship, methodName))
                 {
-                    log.debug("Ignoring relationship based on type of attachment: " + relationship.getGUID());
+                    EntityProxy otherEnd = repositoryHandler.getOtherEnd(startingEntity.getGUID(), startingTypeName, relationship, attachmentEntityEnd, methodName);
+
+                    /*
+                     * Does the relationship point to an appropriate type of entity?
+                     */
+                    if (repositoryHelper.isTypeOf(serviceName, otherEnd.getType().getTypeDefName(), attachmentEntityTypeName))
+                    {
+                        if ((attachmentEntityGUID == null) || (attachmentEntityGUID.equals(otherEnd.getGUID())))
+                        {
+                            log.debug("Accepting relationship: " + relationship.getGUID());
+                            visibleRelationships.add(relationship);
+                        }
+                        else
+                        {
+                            log.debug("Ignoring relationship based on entity instance: " + relationship.getGUID());
+                        }
+                    }
+                    else
+                    {
+                        log.debug("Ignoring relationship based on type of attachment: " + relationship.getGUID());
+                    }
                 }
             }
-        }
 
-        if (! visibleRelationships.isEmpty())
-        {
-            return visibleRelationships;
-        }
+            if (! visibleRelationships.isEmpty())
+            {
+                return visibleRelationships;
+            }
 
-        return null;
+            return null;
+        });
     }
 
 
@@ -5186,89 +5433,92 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                            UserNotAuthorizedException,
                                                                                            PropertyServerException
     {
-        invalidParameterHandler.validateUserId(userId, methodName);
-
-        int queryPageSize = invalidParameterHandler.validatePaging(startingFrom, pageSize, methodName);
+        return this.withRequestScope(methodName, () ->
+        {
+            invalidParameterHandler.validateUserId(userId, methodName);
 
-        String relationshipTypeGUID = null;
+            int queryPageSize = invalidParameterHandler.validatePaging(startingFrom, pageSize, methodName);
 
-        if (relationshipTypeName != null)
-        {
-            relationshipTypeGUID = invalidParameterHandler.validateTypeName(relationshipTypeName,
-                                                                            null,
-                                                                            serviceName,
-                                                                            methodName,
-                                                                            repositoryHelper);
-        }
+            String relationshipTypeGUID = null;
 
+            if (relationshipTypeName != null)
+            {
+                relationshipTypeGUID = invalidParameterHandler.validateTypeName(relationshipTypeName,
+                                                                                null,
+                                                                                serviceName,
+                                                                                methodName,
+                                                                                repositoryHelper);
+            }
 
-        RepositoryFindRelationshipsIterator iterator = new RepositoryFindRelationshipsIterator(repositoryHandler,
-                                                                                               invalidParameterHandler,
-                                                                                               userId,
-                                                                                               relationshipTypeGUID,
-                                                                                               null,
-                                                                                               searchProperties,
-                                                                                               limitResultsByStatus,
-                                                                                               asOfTime,
-                                                                                               sequencingProperty,
-                                                                                               sequencingOrder,
-                                                                                               startingFrom,
-                                                                                               queryPageSize,
-                                                                                               forLineage,
-                                                                                               forDuplicateProcessing,
-                                                                                               effectiveTime,
-                                                                                               methodName);
 
-        List<Relationship> results = new ArrayList<>();
+            RepositoryFindRelationshipsIterator iterator = new RepositoryFindRelationshipsIterator(repositoryHandler,
+                                                                                                   invalidParameterHandler,
+                                                                                                   userId,
+                                                                                                   relationshipTypeGUID,
+                                                                                                   null,
+                                                                                                   searchProperties,
+                                                                                                   limitResultsByStatus,
+                                                                                                   asOfTime,
+                                                                                                   sequencingProperty,
+                                                                                                   sequencingOrder,
+                                                                                                   startingFrom,
+                                                                                                   queryPageSize,
+                                                                                                   forLineage,
+                                                                                                   forDuplicateProcessing,
+                                                                                                   effectiveTime,
+                                                                                                   methodName);
 
-        while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
-        {
-            Relationship relationship = iterator.getNext();
+            List<Relationship> results = new ArrayList<>();
 
-            if (this.visibleToUserThroughRelationship(userId, relationship, methodName))
+            while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
             {
-                try
+                Relationship relationship = iterator.getNext();
+
+                if (this.visibleToUserThroughRelationship(userId, relationship, methodName))
                 {
-                    final String entityOneParameterName = "relationship.getEntityOneProxy().getGUID()";
-                    final String entityTwoParameterName = "relationship.getEntityTwoProxy().getGUID()";
+                    try
+                    {
+                        final String entityOneParameterName = "relationship.getEntityOneProxy().getGUID()";
+                        final String entityTwoParameterName = "relationship.getEntityTwoProxy().getGUID()";
 
-                    this.validateAnchorEntity(userId,
-                                              relationship.getEntityOneProxy().getGUID(),
-                                              entityOneParameterName,
-                                              OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
-                                              false,
-                                              forLineage,
-                                              forDuplicateProcessing,
-                                              serviceSupportedZones,
-                                              effectiveTime,
-                                              methodName);
+                        this.validateAnchorEntity(userId,
+                                                  relationship.getEntityOneProxy().getGUID(),
+                                                  entityOneParameterName,
+                                                  OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
+                                                  false,
+                                                  forLineage,
+                                                  forDuplicateProcessing,
+                                                  serviceSupportedZones,
+                                                  effectiveTime,
+                                                  methodName);
 
-                    this.validateAnchorEntity(userId,
-                                              relationship.getEntityTwoProxy().getGUID(),
-                                              entityTwoParameterName,
-                                              OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
-                                              false,
-                                              forLineage,
-                                              forDuplicateProcessing,
-                                              serviceSupportedZones,
-                                              effectiveTime,
-                                              methodName);
+                        this.validateAnchorEntity(userId,
+                                                  relationship.getEntityTwoProxy().getGUID(),
+                                                  entityTwoParameterName,
+                                                  OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
+                                                  false,
+                                                  forLineage,
+                                                  forDuplicateProcessing,
+                                                  serviceSupportedZones,
+                                                  effectiveTime,
+                                                  methodName);
 
-                    results.add(relationship);
-                }
-                catch (Exception error)
-                {
-                    // ignore an element that is not visible to the caller
+                        results.add(relationship);
+                    }
+                    catch (Exception error)
+                    {
+                        // ignore an element that is not visible to the caller
+                    }
                 }
             }
-        }
 
-        if (! results.isEmpty())
-        {
-            return results;
-        }
+            if (! results.isEmpty())
+            {
+                return results;
+            }
 
-        return null;
+            return null;
+        });
     }
 
 
@@ -5400,40 +5650,43 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                           PropertyServerException,
                                                                                           UserNotAuthorizedException
     {
-        TemplateProgress templateProgress = createBeanFromTemplate(userId,
-                                                                   externalSourceGUID,
-                                                                   externalSourceName,
-                                                                   true,
-                                                                   new TemplateProgress(),
-                                                                   templateGUID,
-                                                                   templateGUIDParameterName,
-                                                                   entityTypeGUID,
-                                                                   entityTypeName,
-                                                                   uniqueParameterValue,
-                                                                   uniqueParameterName,
-                                                                   propertyBuilder,
-                                                                   serviceSupportedZones,
-                                                                   methodName);
-
-        if (templateProgress != null)
+        return this.withRequestScope(methodName, () ->
         {
-            /*
-             * This relationship shows where the property values for the new bean came from.  It enables traceability.  Also, if the template is
-             * updated, there is a possibility of making complementary changes to the entities that were derived from it.
-             */
-            repositoryHandler.createRelationship(localServerUserId,
-                                                 OpenMetadataAPIMapper.SOURCED_FROM_RELATIONSHIP_TYPE_GUID,
-                                                 externalSourceGUID,
-                                                 externalSourceName,
-                                                 templateProgress.newBeanGUID,
-                                                 templateGUID,
-                                                 null,
-                                                 methodName);
+            TemplateProgress templateProgress = createBeanFromTemplate(userId,
+                                                                       externalSourceGUID,
+                                                                       externalSourceName,
+                                                                       true,
+                                                                       new TemplateProgress(),
+                                                                       templateGUID,
+                                                                       templateGUIDParameterName,
+                                                                       entityTypeGUID,
+                                                                       entityTypeName,
+                                                                       uniqueParameterValue,
+                                                                       uniqueParameterName,
+                                                                       propertyBuilder,
+                                                                       serviceSupportedZones,
+                                                                       methodName);
 
-            return templateProgress.newBeanGUID;
-        }
+            if (templateProgress != null)
+            {
+                /*
+                 * This relationship shows where the property values for the new bean came from.  It enables traceability.  Also, if the template is
+                 * updated, there is a possibility of making complementary changes to the entities that were derived from it.
+                 */
+                repositoryHandler.createRelationship(localServerUserId,
+                                                     OpenMetadataAPIMapper.SOURCED_FROM_RELATIONSHIP_TYPE_GUID,
+                                                     externalSourceGUID,
+                                                     externalSourceName,
+                                                     templateProgress.newBeanGUID,
+                                                     templateGUID,
+                                                     null,
+                                                     methodName);
 
-        return null;
+                return templateProgress.newBeanGUID;
+            }
+
+            return null;
+        });
     }
 
 
@@ -7616,94 +7869,97 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                 PropertyServerException,
                                                                                 UserNotAuthorizedException
     {
-        final String guidParameterName = "relationship.end.guid";
+        return this.withRequestScope(methodName, () ->
+        {
+            final String guidParameterName = "relationship.end.guid";
 
-        invalidParameterHandler.validateUserId(userId, methodName);
-        invalidParameterHandler.validateGUID(startingGUID, startingGUIDParameterName, methodName);
+            invalidParameterHandler.validateUserId(userId, methodName);
+            invalidParameterHandler.validateGUID(startingGUID, startingGUIDParameterName, methodName);
 
-        EntityDetail startingEntity = repositoryHandler.getEntityByGUID(userId,
-                                                                        startingGUID,
+            EntityDetail startingEntity = repositoryHandler.getEntityByGUID(userId,
+                                                                            startingGUID,
+                                                                            startingGUIDParameterName,
+                                                                            startingTypeName,
+                                                                            forLineage,
+                                                                            forDuplicateProcessing,
+                                                                            effectiveTime,
+                                                                            methodName);
+
+            /*
+             * Validates the parameters and retrieves the links to attached keywords that are visible to this user.
+             * Relationships are returned so that the isPublic property from the relationship can be retrieved.
+             */
+            List<Relationship>  relationships = this.getAttachmentLinks(userId,
+                                                                        startingEntity,
                                                                         startingGUIDParameterName,
                                                                         startingTypeName,
+                                                                        attachmentRelationshipTypeGUID,
+                                                                        attachmentRelationshipTypeName,
+                                                                        null,
+                                                                        attachmentEntityTypeName,
+                                                                        0,
                                                                         forLineage,
                                                                         forDuplicateProcessing,
+                                                                        serviceSupportedZones,
+                                                                        startingFrom,
+                                                                        pageSize,
                                                                         effectiveTime,
                                                                         methodName);
 
-        /*
-         * Validates the parameters and retrieves the links to attached keywords that are visible to this user.
-         * Relationships are returned so that the isPublic property from the relationship can be retrieved.
-         */
-        List<Relationship>  relationships = this.getAttachmentLinks(userId,
-                                                                    startingEntity,
-                                                                    startingGUIDParameterName,
-                                                                    startingTypeName,
-                                                                    attachmentRelationshipTypeGUID,
-                                                                    attachmentRelationshipTypeName,
-                                                                    null,
-                                                                    attachmentEntityTypeName,
-                                                                    0,
-                                                                    forLineage,
-                                                                    forDuplicateProcessing,
-                                                                    serviceSupportedZones,
-                                                                    startingFrom,
-                                                                    pageSize,
-                                                                    effectiveTime,
-                                                                    methodName);
-
-        if ((relationships == null) || (relationships.isEmpty()))
-        {
-            return null;
-        }
+            if ((relationships == null) || (relationships.isEmpty()))
+            {
+                return null;
+            }
 
-        List<String>  results = new ArrayList<>();
+            List<String>  results = new ArrayList<>();
 
-        for (Relationship  relationship : relationships)
-        {
-            if (relationship != null)
+            for (Relationship  relationship : relationships)
             {
-                EntityProxy entityProxy = repositoryHandler.getOtherEnd(startingEntity.getGUID(),
-                                                                        startingTypeName,
-                                                                        relationship,
-                                                                        0,
-                                                                        methodName);
-                if (entityProxy != null)
+                if (relationship != null)
                 {
-                    try
+                    EntityProxy entityProxy = repositoryHandler.getOtherEnd(startingEntity.getGUID(),
+                                                                            startingTypeName,
+                                                                            relationship,
+                                                                            0,
+                                                                            methodName);
+                    if (entityProxy != null)
                     {
-                        this.validateAnchorEntity(userId,
-                                                   entityProxy.getGUID(),
-                                                   guidParameterName,
-                                                   attachmentEntityTypeName,
-                                                   false,
-                                                   forLineage,
-                                                   forDuplicateProcessing,
-                                                   serviceSupportedZones,
-                                                   effectiveTime,
-                                                   methodName);
+                        try
+                        {
+                            this.validateAnchorEntity(userId,
+                                                       entityProxy.getGUID(),
+                                                       guidParameterName,
+                                                       attachmentEntityTypeName,
+                                                       false,
+                                                       forLineage,
+                                                       forDuplicateProcessing,
+                                                       serviceSupportedZones,
+                                                       effectiveTime,
+                                                       methodName);
 
-                        results.add(entityProxy.getGUID());
-                    }
-                    catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException nonAccessibleEntity)
-                    {
-                        // skip entities that are not visible to this user
-                        if (log.isDebugEnabled())
+                            results.add(entityProxy.getGUID());
+                        }
+                        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException nonAccessibleEntity)
                         {
-                            log.debug("Skipping entity: " + nonAccessibleEntity);
+                            // skip entities that are not visible to this user
+                            if (log.isDebugEnabled())
+                            {
+                                log.debug("Skipping entity: " + nonAccessibleEntity);
+                            }
                         }
                     }
                 }
             }
-        }
 
-        if (results.isEmpty())
-        {
-            return null;
-        }
-        else
-        {
-            return results;
-        }
+            if (results.isEmpty())
+            {
+                return null;
+            }
+            else
+            {
+                return results;
+            }
+        });
     }
 
 
@@ -8103,94 +8359,129 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                          PropertyServerException,
                                                                          UserNotAuthorizedException
     {
-        invalidParameterHandler.validateUserId(userId, methodName);
-        invalidParameterHandler.validateGUID(startingGUID, startingGUIDParameterName, methodName);
-
-        EntityDetail anchorEntity = this.validateAnchorEntity(userId,
-                                                              startingGUID,
-                                                              startingGUIDParameterName,
-                                                              startingTypeName,
-                                                              false,
-                                                              forLineage,
-                                                              forDuplicateProcessing,
-                                                              serviceSupportedZones,
-                                                              effectiveTime,
-                                                              methodName);
+        return this.withRequestScope(methodName, () ->
+        {
+            invalidParameterHandler.validateUserId(userId, methodName);
+            invalidParameterHandler.validateGUID(startingGUID, startingGUIDParameterName, methodName);
 
-        invalidParameterHandler.validateAnchorGUID(anchorGUID, anchorGUIDParameterName, anchorEntity, startingGUID, startingTypeName, methodName);
+            EntityDetail anchorEntity = this.validateAnchorEntity(userId,
+                                                                  startingGUID,
+                                                                  startingGUIDParameterName,
+                                                                  startingTypeName,
+                                                                  false,
+                                                                  forLineage,
+                                                                  forDuplicateProcessing,
+                                                                  serviceSupportedZones,
+                                                                  effectiveTime,
+                                                                  methodName);
 
-        /*
-         * Validates the parameters and retrieves the links to attached keywords that are visible to this user.
-         * Relationships are returned so that the isPublic property from the relationship can be retrieved.
-         */
-        List<Relationship>  relationships = this.getAttachmentLinks(userId,
-                                                                    startingGUID,
-                                                                    startingGUIDParameterName,
-                                                                    startingTypeName,
-                                                                    attachmentRelationshipTypeGUID,
-                                                                    attachmentRelationshipTypeName,
-                                                                    null,
-                                                                    attachmentEntityTypeName,
-                                                                    selectionEnd,
-                                                                    forLineage,
-                                                                    forDuplicateProcessing,
-                                                                    serviceSupportedZones,
-                                                                    startingFrom,
-                                                                    pageSize,
-                                                                    effectiveTime,
-                                                                    methodName);
+            invalidParameterHandler.validateAnchorGUID(anchorGUID, anchorGUIDParameterName, anchorEntity, startingGUID, startingTypeName, methodName);
 
-        if ((relationships == null) || (relationships.isEmpty()))
-        {
-            return null;
-        }
+            /*
+             * Validates the parameters and retrieves the links to attached keywords that are visible to this user.
+             * Relationships are returned so that the isPublic property from the relationship can be retrieved.
+             */
+            List<Relationship>  relationships = this.getAttachmentLinks(userId,
+                                                                        startingGUID,
+                                                                        startingGUIDParameterName,
+                                                                        startingTypeName,
+                                                                        attachmentRelationshipTypeGUID,
+                                                                        attachmentRelationshipTypeName,
+                                                                        null,
+                                                                        attachmentEntityTypeName,
+                                                                        selectionEnd,
+                                                                        forLineage,
+                                                                        forDuplicateProcessing,
+                                                                        serviceSupportedZones,
+                                                                        startingFrom,
+                                                                        pageSize,
+                                                                        effectiveTime,
+                                                                        methodName);
+
+            if ((relationships == null) || (relationships.isEmpty()))
+            {
+                return null;
+            }
 
-        List<B>  results = new ArrayList<>();
+            /*
+             * The entities at the other end of the relationships are retrieved with a single call to the repositories
+             * rather than one call for each relationship.
+             */
+            List<String> attachedEntityGUIDs = new ArrayList<>();
 
-        for (Relationship  relationship : relationships)
-        {
-            if (relationship != null)
+            for (Relationship  relationship : relationships)
             {
                 try
                 {
-                    B bean = this.getAttachedElement(userId,
-                                                     startingGUID,
-                                                     startingGUIDParameterName,
-                                                     startingTypeName,
-                                                     relationship,
-                                                     attachmentEntityTypeName,
-                                                     requiredClassificationName,
-                                                     omittedClassificationName,
-                                                     selectionEnd,
-                                                     forLineage,
-                                                     forDuplicateProcessing,
-                                                     serviceSupportedZones,
-                                                     effectiveTime,
-                                                     methodName);
-                    if (bean != null)
+                    EntityProxy entityProxy = this.getAttachmentProxy(startingGUID, startingTypeName, relationship, selectionEnd, methodName);
+
+                    if (entityProxy != null)
                     {
-                        results.add(bean);
+                        attachedEntityGUIDs.add(entityProxy.getGUID());
                     }
                 }
-                catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException inaccessibleEntity)
+                catch (InvalidParameterException badRelationship)
                 {
-                    // skip entities that are not visible to this user
-                    if (log.isDebugEnabled())
+                    // the relationship is skipped when its entity is retrieved below
+                }
+            }
+
+            Map<String, EntityDetail> retrievedEntities = this.getEntitiesByGUIDs(userId,
+                                                                                  attachedEntityGUIDs,
+                                                                                  attachmentEntityTypeName,
+                                                                                  forLineage,
+                                                                                  forDuplicateProcessing,
+                                                                                  effectiveTime,
+                                                                                  methodName);
+
+            List<B>  results = new ArrayList<>();
+
+            for (Relationship  relationship : relationships)
+            {
+                if (relationship != null)
+                {
+                    try
+                    {
+                        B bean = this.getAttachedElement(userId,
+                                                         startingGUID,
+                                                         startingGUIDParameterName,
+                                                         startingTypeName,
+                                                         relationship,
+                                                         retrievedEntities,
+                                                         attachmentEntityTypeName,
+                                                         requiredClassificationName,
+                                                         omittedClassificationName,
+                                                         selectionEnd,
+                                                         forLineage,
+                                                         forDuplicateProcessing,
+                                                         serviceSupportedZones,
+                                                         effectiveTime,
+                                                         methodName);
+                        if (bean != null)
+                        {
+                            results.add(bean);
+                        }
+                    }
+                    catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException inaccessibleEntity)
                     {
-                        log.debug("Skipping inaccessible entity: " + inaccessibleEntity);
+                        // skip entities that are not visible to this user
+                        if (log.isDebugEnabled())
+                        {
+                            log.debug("Skipping inaccessible entity: " + inaccessibleEntity);
+                        }
                     }
                 }
             }
-        }
 
-        if (results.isEmpty())
-        {
-            return null;
-        }
-        else
-        {
-            return results;
-        }
+            if (results.isEmpty())
+            {
+                return null;
+            }
+            else
+            {
+                return results;
+            }
+        });
     }
 
 
@@ -8202,6 +8493,7 @@ public class OpenMetadataAPIGenericHandler<B>
      * @param startingGUIDParameterName name of parameter supplying the GUID
      * @param startingTypeName name of the type of object being attached to
      * @param relationship relationship between the requested element and the related keyword
+     * @param retrievedEntities entities already retrieved from the repositories, keyed by their unique identifier
      * @param attachmentEntityTypeName unique name of the attached entity's type
      * @param requiredClassificationName  String the name of the classification that must be on the attached entity
      * @param omittedClassificationName   String the name of a classification that must not be on the attached entity
@@ -8216,120 +8508,157 @@ public class OpenMetadataAPIGenericHandler<B>
      * @throws UserNotAuthorizedException user not authorized to issue this request
      * @throws PropertyServerException    problem accessing the repositories
      */
-    private B getAttachedElement(String        userId,
-                                 String        startingGUID,
-                                 String        startingGUIDParameterName,
-                                 String        startingTypeName,
-                                 Relationship  relationship,
-                                 String        attachmentEntityTypeName,
-                                 String        requiredClassificationName,
-                                 String        omittedClassificationName,
-                                 int           selectionEnd,
-                                 boolean       forLineage,
-                                 boolean       forDuplicateProcessing,
-                                 List<String>  serviceSupportedZones,
-                                 Date          effectiveTime,
-                                 String        methodName) throws InvalidParameterException,
-                                                                  PropertyServerException,
-                                                                  UserNotAuthorizedException
+    private B getAttachedElement(String                    userId,
+                                 String                    startingGUID,
+                                 String                    startingGUIDParameterName,
+                                 String                    startingTypeName,
+                                 Relationship              relationship,
+                                 Map<String, EntityDetail> retrievedEntities,
+                                 String                    attachmentEntityTypeName,
+                                 String                    requiredClassificationName,
+                                 String                    omittedClassificationName,
+                                 int                       selectionEnd,
+                                 boolean                   forLineage,
+                                 boolean                   forDuplicateProcessing,
+                                 List<String>              serviceSupportedZones,
+                                 Date                      effectiveTime,
+                                 String                    methodName) throws InvalidParameterException,
+                                                                              PropertyServerException,
+                                                                              UserNotAuthorizedException
     {
         final String guidParameterName = "relationship.end.guid";
 
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateGUID(startingGUID, startingGUIDParameterName, methodName);
 
-        if (relationship != null)
+        EntityProxy entityProxy = this.getAttachmentProxy(startingGUID, startingTypeName, relationship, selectionEnd, methodName);
+
+        if (entityProxy != null)
         {
-            EntityProxy entityProxy = null;
+            EntityDetail entity = retrievedEntities.get(entityProxy.getGUID());
+
+            if (entity == null)
+            {
+                /*
+                 * The entity was not returned by the bulk retrieval.  This call produces the appropriate exception.
+                 */
+                entity = repositoryHandler.getEntityByGUID(userId,
+                                                           entityProxy.getGUID(),
+                                                           guidParameterName,
+                                                           attachmentEntityTypeName,
+                                                           forLineage,
+                                                           forDuplicateProcessing,
+                                                           effectiveTime,
+                                                           methodName);
+            }
+
+            entity = this.getValidatedEntity(userId,
+                                             entity,
+                                             guidParameterName,
+                                             attachmentEntityTypeName,
+                                             requiredClassificationName,
+                                             omittedClassificationName,
+                                             forLineage,
+                                             forDuplicateProcessing,
+                                             serviceSupportedZones,
+                                             effectiveTime,
+                                             methodName);
+
+            if (entity != null)
+            {
+                /*
+                 * Valid entity to return since no exception occurred.
+                 */
+                return converter.getNewBean(beanClass, entity, relationship, methodName);
+            }
+        }
+
+        return null;
+    }
 
+
+    /**
+     * Return the proxy for the entity at the requested end of the relationship.
+     *
+     * @param startingGUID identifier for the entity that the identifier is attached to
+     * @param startingTypeName name of the type of object being attached to
+     * @param relationship relationship between the requested element and the starting element
+     * @param selectionEnd 0 means either end, 1 means only take from end 1, 2 means only take from end 2
+     * @param methodName   calling method
+     * @return entity proxy or null
+     * @throws InvalidParameterException the relationship is not attached to the starting element
+     */
+    private EntityProxy getAttachmentProxy(String       startingGUID,
+                                           String       startingTypeName,
+                                           Relationship relationship,
+                                           int          selectionEnd,
+                                           String       methodName) throws InvalidParameterException
+    {
+        if (relationship != null)
+        {
             if (selectionEnd == 0)
             {
-                entityProxy = repositoryHandler.getOtherEnd(startingGUID,
-                                                            startingTypeName,
-                                                            relationship,
-                                                            selectionEnd,
-                                                            methodName);
+                return repositoryHandler.getOtherEnd(startingGUID,
+                                                     startingTypeName,
+                                                     relationship,
+                                                     selectionEnd,
+                                                     methodName);
             }
             else if (selectionEnd == 1)
             {
-                entityProxy = relationship.getEntityOneProxy();
+                return relationship.getEntityOneProxy();
             }
             else if (selectionEnd == 2)
             {
-                entityProxy = relationship.getEntityTwoProxy();
+                return relationship.getEntityTwoProxy();
             }
+        }
 
-            if (entityProxy != null)
-            { 
-                EntityDetail entity = repositoryHandler.getEntityByGUID(userId,
-                                                                        entityProxy.getGUID(),
-                                                                        guidParameterName,
-                                                                        attachmentEntityTypeName,
-                                                                        forLineage,
-                                                                        forDuplicateProcessing,
-                                                                        effectiveTime,
-                                                                        methodName);
-
-                this.validateAnchorEntity(userId,
-                                          entityProxy.getGUID(),
-                                          attachmentEntityTypeName,
-                                          entity,
-                                          guidParameterName,
-                                          false,
-                                          forLineage,
-                                          forDuplicateProcessing,
-                                          serviceSupportedZones,
-                                          effectiveTime,
-                                          methodName);
-
-                boolean beanValid = true;
-
-                if (requiredClassificationName != null)
-                {
-                    try
-                    {
-                        if (repositoryHelper.getClassificationFromEntity(serviceName, entity, requiredClassificationName, methodName) == null)
-                        {
-                            beanValid = false;
-                        }
-                    }
-                    catch (ClassificationErrorException error)
-                    {
-                        /*
-                         * Since this classification is not supported, it can not be attached to the entity
-                         */
-                        beanValid = false;
-                    }
-                }
+        return null;
+    }
 
-                if (omittedClassificationName != null)
-                {
-                    try
-                    {
-                        if (repositoryHelper.getClassificationFromEntity(serviceName, entity, omittedClassificationName, methodName) != null)
-                        {
-                            beanValid = false;
-                        }
-                    }
-                    catch (ClassificationErrorException error)
-                    {
-                        /*
-                         * Since this classification is not supported, it can not be attached to the entity
-                         */
-                    }
-                }
 
-                if (beanValid)
-                {
-                    /*
-                     * Valid entity to return since no exception occurred.
-                     */
-                    return converter.getNewBean(beanClass, entity, relationship, methodName);
-                }
+    /**
+     * Retrieve the entities for a list of unique identifiers with a single call to the repositories.  If the bulk
+     * retrieval fails, an empty map is returned so that the caller falls back to retrieving each entity in turn.
+     * This means a single inaccessible entity does not prevent the others from being returned.
+     *
+     * @param userId calling user
+     * @param guids unique identifiers of the entities to retrieve
+     * @param entityTypeName expected type of the entities
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     * @return map of unique identifier to retrieved entity
+     */
+    private Map<String, EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                         List<String> guids,
+                                                         String       entityTypeName,
+                                                         boolean      forLineage,
+                                                         boolean      forDuplicateProcessing,
+                                                         Date         effectiveTime,
+                                                         String       methodName)
+    {
+        try
+        {
+            return repositoryHandler.getEntitiesByGUIDs(userId,
+                                                        guids,
+                                                        entityTypeName,
+                                                        forLineage,
+                                                        forDuplicateProcessing,
+                                                        effectiveTime,
+                                                        methodName);
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException error)
+        {
+            if (log.isDebugEnabled())
+            {
+                log.debug("Bulk retrieval of entities failed; retrieving them one at a time: " + error);
             }
         }
 
-        return null;
+        return new HashMap<>();
     }
 
 
@@ -8862,14 +9191,63 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                           effectiveTime,
                                                                           methodName);
 
+        return this.getValidatedEntity(userId,
+                                       retrievedEntity,
+                                       requestedEntityGUIDParameterName,
+                                       requestedEntityTypeName,
+                                       requiredClassificationName,
+                                       omittedClassificationName,
+                                       forLineage,
+                                       forDuplicateProcessing,
+                                       serviceSupportedZones,
+                                       effectiveTime,
+                                       methodName);
+    }
+
+
+    /**
+     * Validate that an entity retrieved from the repositories is visible to the calling user and has the
+     * requested classifications.
+     *
+     * @param userId userId of the user making the request
+     * @param retrievedEntity entity retrieved from the repositories
+     * @param guidParameterName name of the parameter supplying the GUID
+     * @param entityTypeName name of type of entity
+     * @param requiredClassificationName  String the name of the classification that must be on the entity
+     * @param omittedClassificationName   String the name of a classification that must not be on the entity
+     * @param forLineage the query is to support lineage retrieval
+     * @param forDuplicateProcessing the query is for duplicate processing and so must not deduplicate
+     * @param serviceSupportedZones supported zones for calling service
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     *
+     * @return validated entity or null if the classifications do not match
+     * @throws InvalidParameterException the entity is not visible.
+     * @throws PropertyServerException there is a problem retrieving information from the repositories.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to see the entity.
+     */
+    private EntityDetail getValidatedEntity(String       userId,
+                                            EntityDetail retrievedEntity,
+                                            String       guidParameterName,
+                                            String       entityTypeName,
+                                            String       requiredClassificationName,
+                                            String       omittedClassificationName,
+                                            boolean      forLineage,
+                                            boolean      forDuplicateProcessing,
+                                            List<String> serviceSupportedZones,
+                                            Date         effectiveTime,
+                                            String       methodName) throws InvalidParameterException,
+                                                                            PropertyServerException,
+                                                                            UserNotAuthorizedException
+    {
         /*
          * This method validates that the entity is visible to the calling user.
          */
         this.validateAnchorEntity(userId,
                                   retrievedEntity.getGUID(),
-                                  requestedEntityTypeName,
+                                  entityTypeName,
                                   retrievedEntity,
-                                  requestedEntityGUIDParameterName,
+                                  guidParameterName,
                                   false,
                                   forLineage,
                                   forDuplicateProcessing,
@@ -10022,65 +10400,68 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                     UserNotAuthorizedException,
                                                                                     PropertyServerException
     {
-        final String entityGUIDParameterName = "foundEntity.GUID";
-
-        invalidParameterHandler.validateUserId(userId, methodName);
+        return this.withRequestScope(methodName, () ->
+        {
+            final String entityGUIDParameterName = "foundEntity.GUID";
 
-        int queryPageSize = invalidParameterHandler.validatePaging(startingFrom, pageSize, methodName);
+            invalidParameterHandler.validateUserId(userId, methodName);
 
+            int queryPageSize = invalidParameterHandler.validatePaging(startingFrom, pageSize, methodName);
 
-        /*
-         * Now need to ensure that the anchor's classification is pushed down to the dependent elements.  This is done by retrieving the
-         * relationships.
-         */
-        RepositoryFindEntitiesIterator iterator = new RepositoryFindEntitiesIterator(repositoryHandler,
-                                                                                     invalidParameterHandler,
-                                                                                     userId,
-                                                                                     metadataElementTypeName,
-                                                                                     metadataElementSubtypeName,
-                                                                                     searchProperties,
-                                                                                     limitResultsByStatus,
-                                                                                     searchClassifications,
-                                                                                     asOfTime,
-                                                                                     sequencingProperty,
-                                                                                     sequencingOrder,
-                                                                                     forLineage,
-                                                                                     forDuplicateProcessing,
-                                                                                     startingFrom,
-                                                                                     queryPageSize,
-                                                                                     effectiveTime,
-                                                                                     methodName);
 
-        List<EntityDetail> results = new ArrayList<>();
+            /*
+             * Now need to ensure that the anchor's classification is pushed down to the dependent elements.  This is done by retrieving the
+             * relationships.
+             */
+            RepositoryFindEntitiesIterator iterator = new RepositoryFindEntitiesIterator(repositoryHandler,
+                                                                                         invalidParameterHandler,
+                                                                                         userId,
+                                                                                         metadataElementTypeName,
+                                                                                         metadataElementSubtypeName,
+                                                                                         searchProperties,
+                                                                                         limitResultsByStatus,
+                                                                                         searchClassifications,
+                                                                                         asOfTime,
+                                                                                         sequencingProperty,
+                                                                                         sequencingOrder,
+                                                                                         forLineage,
+                                                                                         forDuplicateProcessing,
+                                                                                         startingFrom,
+                                                                                         queryPageSize,
+                                                                                         effectiveTime,
+                                                                                         methodName);
 
-        while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
-        {
-            EntityDetail entity = iterator.getNext();
+            List<EntityDetail> results = new ArrayList<>();
 
-            if (entity != null)
+            while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
             {
-                this.validateAnchorEntity(userId,
-                                          entity.getGUID(),
-                                          entity.getType().getTypeDefName(),
-                                          entity,
-                                          entityGUIDParameterName,
-                                          false,
-                                          forLineage,
-                                          forDuplicateProcessing,
-                                          serviceSupportedZones,
-                                          effectiveTime,
-                                          methodName);
-                results.add(entity);
-            }
-        }
-
-        if (! results.isEmpty())
-        {
-            return results;
-        }
-
-        return null;
-    }
+                EntityDetail entity = iterator.getNext();
+
+                if (entity != null)
+                {
+                    this.validateAnchorEntity(userId,
+                                              entity.getGUID(),
+                                              entity.getType().getTypeDefName(),
+                                              entity,
+                                              entityGUIDParameterName,
+                                              false,
+                                              forLineage,
+                                              forDuplicateProcessing,
+                                              serviceSupportedZones,
+                                              effectiveTime,
+                                              methodName);
+                    results.add(entity);
+                }
+            }
+
+            if (! results.isEmpty())
+            {
+                return results;
+            }
+
+            return null;
+        });
+    }
 
 
     /**
@@ -10391,105 +10772,121 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                 PropertyServerException,
                                                                                 UserNotAuthorizedException
     {
-        invalidParameterHandler.validateUserId(userId, methodName);
+        return this.withRequestScope(methodName, () ->
+        {
+            invalidParameterHandler.validateUserId(userId, methodName);
 
-        int queryPageSize = invalidParameterHandler.validatePaging(startFrom, pageSize, methodName);
+            int queryPageSize = invalidParameterHandler.validatePaging(startFrom, pageSize, methodName);
 
-        RepositoryIteratorForEntities iterator = getEntitySearchIterator(userId,
-                                                                         null,
-                                                                         resultTypeGUID,
-                                                                         resultTypeName,
-                                                                         null,
-                                                                         false,
-                                                                         sequencingPropertyName,
-                                                                         forLineage,
-                                                                         forDuplicateProcessing,
-                                                                         0,
-                                                                         queryPageSize,
-                                                                         effectiveTime,
-                                                                         methodName);
+            RepositoryIteratorForEntities iterator = getEntitySearchIterator(userId,
+                                                                             null,
+                                                                             resultTypeGUID,
+                                                                             resultTypeName,
+                                                                             null,
+                                                                             false,
+                                                                             sequencingPropertyName,
+                                                                             forLineage,
+                                                                             forDuplicateProcessing,
+                                                                             0,
+                                                                             queryPageSize,
+                                                                             effectiveTime,
+                                                                             methodName);
 
 
-        /*
-         * The loop is necessary because some entities returned may not be visible to the calling user.
-         * Once they are filtered out, more entities need to be retrieved to fill the gaps.
-         */
-        List<EntityDetail>  results = new ArrayList<>();
-        String entityParameterName = "Entity of type" + resultTypeName;
-        int skippedValues = 0;
+            /*
+             * The loop is necessary because some entities returned may not be visible to the calling user.
+             * Once they are filtered out, more entities need to be retrieved to fill the gaps.
+             */
+            List<EntityDetail>  results = new ArrayList<>();
+            String entityParameterName = "Entity of type" + resultTypeName;
+            int skippedValues = 0;
 
-        while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
-        {
-            EntityDetail entity = iterator.getNext();
+            Queue<EntityDetail> readableEntities = new ArrayDeque<>();
 
-            if (entity != null)
+            while (((! readableEntities.isEmpty()) || (iterator.moreToReceive())) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
             {
-                try
+                if (readableEntities.isEmpty())
                 {
-                    validateAnchorEntity(userId,
-                                         entity.getGUID(),
-                                         resultTypeName,
-                                         entity,
-                                         entityParameterName,
-                                         false,
-                                         forLineage,
-                                         forDuplicateProcessing,
-                                         serviceSupportedZones,
-                                         effectiveTime,
-                                         methodName);
+                    readableEntities.addAll(this.getReadableEntities(userId,
+                                                                     iterator,
+                                                                     this.getRemainingResultCount(queryPageSize, results.size(), startFrom, skippedValues),
+                                                                     resultTypeName,
+                                                                     serviceSupportedZones,
+                                                                     methodName));
+                }
 
-                    boolean beanArchived = false;
+                EntityDetail entity = readableEntities.poll();
 
+                if (entity != null)
+                {
                     try
                     {
-                        /*
-                         * The Memento classification means the entity is archived and should only be returned for lineage requests.
-                         * This method is not to be used for lineage requests.
-                         */
-                        if (repositoryHelper.getClassificationFromEntity(serviceName, entity, OpenMetadataAPIMapper.MEMENTO_CLASSIFICATION_TYPE_NAME, methodName) != null)
+                        validateAnchorEntity(userId,
+                                             entity.getGUID(),
+                                             resultTypeName,
+                                             entity,
+                                             entityParameterName,
+                                             false,
+                                             forLineage,
+                                             forDuplicateProcessing,
+                                             true,
+                                             serviceSupportedZones,
+                                             effectiveTime,
+                                             methodName);
+
+                        boolean beanArchived = false;
+
+                        try
                         {
-                            beanArchived = true;
+                            /*
+                             * The Memento classification means the entity is archived and should only be returned for lineage requests.
+                             * This method is not to be used for lineage requests.
+                             */
+                            if (repositoryHelper.getClassificationFromEntity(serviceName, entity, OpenMetadataAPIMapper.MEMENTO_CLASSIFICATION_TYPE_NAME, methodName) != null)
+                            {
+                                beanArchived = true;
+                            }
                         }
-                    }
-                    catch (ClassificationErrorException error)
-                    {
-                        /*
-                         * Since this classification is not supported, it can not be attached to the entity.
-                         */
-                    }
-
-                    if (! beanArchived)
-                    {
-                        /*
-                         * Valid entity to return since no exception occurred and the entity has not been archived.
-                         */
-                        if (skippedValues < startFrom)
+                        catch (ClassificationErrorException error)
                         {
-                            skippedValues ++;
+                            /*
+                             * Since this classification is not supported, it can not be attached to the entity.
+                             */
                         }
-                        else
+
+                        if (! beanArchived)
                         {
-                            results.add(entity);
+                            /*
+                             * Valid entity to return since no exception occurred and the entity has not been archived.
+                             */
+                            if (skippedValues < startFrom)
+                            {
+                                skippedValues ++;
+                            }
+                            else
+                            {
+                                results.add(entity);
+                            }
                         }
                     }
-                }
-                catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException invisibleEntity)
-                {
-                    /*
-                     * Skipping entity
-                     */
+                    catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException invisibleEntity)
+                    {
+                        /*
+                         * Skipping entity
+                         */
+                    }
                 }
             }
-        }
 
-        if (results.isEmpty())
-        {
-            return null;
-        }
-        else
-        {
-            return results;
-        }
+            if (results.isEmpty())
+            {
+                return null;
+            }
+            else
+            {
+                return results;
+            }
+        });
     }
 
 
@@ -10936,102 +11333,208 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                                   PropertyServerException,
                                                                                                   UserNotAuthorizedException
     {
-        /*
-         * The loop is necessary because some entities returned may not be visible to the calling user.
-         * Once they are filtered out, more entities need to be retrieved to fill the gaps.
-         */
-        List<EntityDetail> results = new ArrayList<>();
-        int                skippedValues = 0;
-
-        while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
+        return this.withRequestScope(methodName, () ->
         {
-            EntityDetail entity = iterator.getNext();
+            /*
+             * The loop is necessary because some entities returned may not be visible to the calling user.
+             * Once they are filtered out, more entities need to be retrieved to fill the gaps.
+             */
+            List<EntityDetail> results = new ArrayList<>();
+            int                skippedValues = 0;
 
-            if (entity != null)
-            {
-                boolean beanValid = true;
+            Queue<EntityDetail> readableEntities = new ArrayDeque<>();
 
-                try
+            while (((! readableEntities.isEmpty()) || (iterator.moreToReceive())) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
+            {
+                if (readableEntities.isEmpty())
                 {
-                    validateAnchorEntity(userId,
-                                         entity.getGUID(),
-                                         resultTypeName,
-                                         entity,
-                                         entityParameterName,
-                                         false,
-                                         forLineage,
-                                         forDuplicateProcessing,
-                                         serviceSupportedZones,
-                                         effectiveTime,
-                                         methodName);
+                    readableEntities.addAll(this.getReadableEntities(userId,
+                                                                     iterator,
+                                                                     this.getRemainingResultCount(queryPageSize, results.size(), startFrom, skippedValues),
+                                                                     resultTypeName,
+                                                                     serviceSupportedZones,
+                                                                     methodName));
+                }
 
+                EntityDetail entity = readableEntities.poll();
 
-                    if (requiredClassificationName != null)
+                if (entity != null)
+                {
+                    boolean beanValid = true;
+
+                    try
                     {
-                        try
+                        validateAnchorEntity(userId,
+                                             entity.getGUID(),
+                                             resultTypeName,
+                                             entity,
+                                             entityParameterName,
+                                             false,
+                                             forLineage,
+                                             forDuplicateProcessing,
+                                             true,
+                                             serviceSupportedZones,
+                                             effectiveTime,
+                                             methodName);
+
+
+                        if (requiredClassificationName != null)
                         {
-                            if (repositoryHelper.getClassificationFromEntity(serviceName, entity, requiredClassificationName, methodName) == null)
+                            try
+                            {
+                                if (repositoryHelper.getClassificationFromEntity(serviceName, entity, requiredClassificationName, methodName) == null)
+                                {
+                                    beanValid = false;
+                                }
+                            }
+                            catch (ClassificationErrorException error)
                             {
+                                /*
+                                 * Since this classification is not supported, it can not be attached to the entity
+                                 */
                                 beanValid = false;
                             }
                         }
-                        catch (ClassificationErrorException error)
+
+                        if (omittedClassificationName != null)
                         {
-                            /*
-                             * Since this classification is not supported, it can not be attached to the entity
-                             */
-                            beanValid = false;
+                            try
+                            {
+                                if (repositoryHelper.getClassificationFromEntity(serviceName, entity, omittedClassificationName, methodName) != null)
+                                {
+                                    beanValid = false;
+                                }
+                            }
+                            catch (ClassificationErrorException error)
+                            {
+                                // ok - don't care
+                            }
                         }
                     }
+                    catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException invisibleEntity)
+                    {
+                        /*
+                         * Skipping entity
+                         */
+                        beanValid = false;
+                    }
 
-                    if (omittedClassificationName != null)
+                    if (beanValid)
                     {
-                        try
+                        /*
+                         * Ignore entities until it reaches the start point
+                         */
+                        if (skippedValues < startFrom)
                         {
-                            if (repositoryHelper.getClassificationFromEntity(serviceName, entity, omittedClassificationName, methodName) != null)
-                            {
-                                beanValid = false;
-                            }
+                            skippedValues ++;
                         }
-                        catch (ClassificationErrorException error)
+                        else
                         {
-                            // ok - don't care
+                            results.add(entity);
                         }
                     }
                 }
-                catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException invisibleEntity)
-                {
-                    /*
-                     * Skipping entity
-                     */
-                    beanValid = false;
-                }
+            }
 
-                if (beanValid)
-                {
-                    /*
-                     * Ignore entities until it reaches the start point
-                     */
-                    if (skippedValues < startFrom)
-                    {
-                        skippedValues ++;
-                    }
-                    else
-                    {
-                        results.add(entity);
-                    }
-                }
+            if (results.isEmpty())
+            {
+                return null;
+            }
+            else
+            {
+                return results;
+            }
+        });
+    }
+
+
+    /**
+     * Return the next batch of entities from a search, leaving out the assets that the user is not able to read.
+     * The assets in the batch are checked together so the user's supported zones are only calculated once.
+     *
+     * @param userId the calling user
+     * @param iterator mechanism for search
+     * @param batchSize maximum number of entities to take from the iterator
+     * @param resultTypeName unique value of the type that the results should match with
+     * @param serviceSupportedZones list of supported zones for this service
+     * @param methodName calling method
+     *
+     * @return entities in the order they were retrieved
+     * @throws InvalidParameterException bad starting entity
+     * @throws PropertyServerException there is a problem retrieving information from the repositories.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private List<EntityDetail> getReadableEntities(String                        userId,
+                                                   RepositoryIteratorForEntities iterator,
+                                                   int                           batchSize,
+                                                   String                        resultTypeName,
+                                                   List<String>                  serviceSupportedZones,
+                                                   String                        methodName) throws InvalidParameterException,
+                                                                                                    PropertyServerException,
+                                                                                                    UserNotAuthorizedException
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        while ((entities.size() < batchSize) && (iterator.moreToReceive()))
+        {
+            EntityDetail entity = iterator.getNext();
+
+            if (entity != null)
+            {
+                entities.add(entity);
             }
         }
 
-        if (results.isEmpty())
+        if ((! entities.isEmpty()) && (repositoryHelper.isTypeOf(serviceName, resultTypeName, OpenMetadataAPIMapper.ASSET_TYPE_NAME)))
         {
-            return null;
+            Set<EntityDetail> unreadableAssets = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            unreadableAssets.addAll(entities);
+
+            try
+            {
+                List<EntityDetail> readableAssets = securityVerifier.validateUserForAssetsRead(userId,
+                                                                                               entities,
+                                                                                               serviceSupportedZones,
+                                                                                               repositoryHelper,
+                                                                                               serviceName,
+                                                                                               methodName);
+                readableAssets.forEach(unreadableAssets::remove);
+            }
+            catch (InvalidParameterException | PropertyServerException invisibleAssets)
+            {
+                /*
+                 * Skipping all the assets - the same happens when they are checked one at a time.
+                 */
+            }
+
+            entities.removeIf(unreadableAssets::contains);
         }
-        else
+
+        return entities;
+    }
+
+
+    /**
+     * Return how many more entities a search needs to fill its page, including those that are skipped to reach the start point.
+     *
+     * @param queryPageSize maximum number of elements to return - zero means no limit
+     * @param resultCount number of results already found
+     * @param startFrom index of the list to start from (0 for start)
+     * @param skippedValues number of results already skipped
+     * @return number of entities to retrieve
+     */
+    private int getRemainingResultCount(int queryPageSize,
+                                        int resultCount,
+                                        int startFrom,
+                                        int skippedValues)
+    {
+        if (queryPageSize == 0)
         {
-            return results;
+            return Math.max(invalidParameterHandler.getMaxPagingSize(), 1);
         }
+
+        return queryPageSize - resultCount + Math.max(startFrom - skippedValues, 0);
     }
 
 
@@ -11344,115 +11847,118 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                      PropertyServerException,
                                                                      UserNotAuthorizedException
     {
-        invalidParameterHandler.validateUserId(userId, methodName);
-        invalidParameterHandler.validateName(searchString, searchStringParameterName, methodName);
+        return this.withRequestScope(methodName, () ->
+        {
+            invalidParameterHandler.validateUserId(userId, methodName);
+            invalidParameterHandler.validateName(searchString, searchStringParameterName, methodName);
 
-        int queryPageSize = invalidParameterHandler.validatePaging(startFrom, pageSize, methodName);
+            int queryPageSize = invalidParameterHandler.validatePaging(startFrom, pageSize, methodName);
 
-        RepositoryIteratorForEntities iterator = getEntitySearchIterator(userId,
-                                                                         searchString,
-                                                                         resultTypeGUID,
-                                                                         resultTypeName,
-                                                                         specificMatchPropertyNames,
-                                                                         exactValueMatch,
-                                                                         sequencingPropertyName,
-                                                                         forLineage,
-                                                                         forDuplicateProcessing,
-                                                                         0,
-                                                                         queryPageSize,
-                                                                         effectiveTime,
-                                                                         methodName);
-
-        /*
-         * The loop is necessary because some entities returned may not be visible to the calling user.
-         * Once they are filtered out, more entities need to be retrieved to fill the gaps.
-         */
-        List<B>  results = new ArrayList<>();
-        String   entityParameterName = "Entity from createdBy search of " + searchString;
-        int      skippedValues = 0;
+            RepositoryIteratorForEntities iterator = getEntitySearchIterator(userId,
+                                                                             searchString,
+                                                                             resultTypeGUID,
+                                                                             resultTypeName,
+                                                                             specificMatchPropertyNames,
+                                                                             exactValueMatch,
+                                                                             sequencingPropertyName,
+                                                                             forLineage,
+                                                                             forDuplicateProcessing,
+                                                                             0,
+                                                                             queryPageSize,
+                                                                             effectiveTime,
+                                                                             methodName);
 
-        while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
-        {
-            EntityDetail entity = iterator.getNext();
+            /*
+             * The loop is necessary because some entities returned may not be visible to the calling user.
+             * Once they are filtered out, more entities need to be retrieved to fill the gaps.
+             */
+            List<B>  results = new ArrayList<>();
+            String   entityParameterName = "Entity from createdBy search of " + searchString;
+            int      skippedValues = 0;
 
-            if (entity != null)
+            while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
             {
-                /*
-                 * Eliminate anything that was not created by this user
-                 */
-                if (userId.equals(entity.getCreatedBy()))
+                EntityDetail entity = iterator.getNext();
+
+                if (entity != null)
                 {
-                    try
+                    /*
+                     * Eliminate anything that was not created by this user
+                     */
+                    if (userId.equals(entity.getCreatedBy()))
                     {
-                        validateAnchorEntity(userId,
-                                             entity.getGUID(),
-                                             resultTypeName,
-                                             entity,
-                                             entityParameterName,
-                                             false,
-                                             forLineage,
-                                             forDuplicateProcessing,
-                                             serviceSupportedZones,
-                                             effectiveTime,
-                                             methodName);
-
-                        boolean beanArchived = false;
-
                         try
                         {
-                            /*
-                             * The Memento classification means the entity is archived and should only be returned for lineage requests.
-                             * This method is not to be used for lineage requests.
-                             */
-                            if (repositoryHelper.getClassificationFromEntity(serviceName, entity, OpenMetadataAPIMapper.MEMENTO_CLASSIFICATION_TYPE_NAME, methodName) != null)
+                            validateAnchorEntity(userId,
+                                                 entity.getGUID(),
+                                                 resultTypeName,
+                                                 entity,
+                                                 entityParameterName,
+                                                 false,
+                                                 forLineage,
+                                                 forDuplicateProcessing,
+                                                 serviceSupportedZones,
+                                                 effectiveTime,
+                                                 methodName);
+
+                            boolean beanArchived = false;
+
+                            try
                             {
-                                beanArchived = true;
+                                /*
+                                 * The Memento classification means the entity is archived and should only be returned for lineage requests.
+                                 * This method is not to be used for lineage requests.
+                                 */
+                                if (repositoryHelper.getClassificationFromEntity(serviceName, entity, OpenMetadataAPIMapper.MEMENTO_CLASSIFICATION_TYPE_NAME, methodName) != null)
+                                {
+                                    beanArchived = true;
+                                }
                             }
-                        }
-                        catch (ClassificationErrorException error)
-                        {
+                            catch (ClassificationErrorException error)
+                            {
+                                /*
+                                 * Since this classification is not supported, it can not be attached to the entity.
+                                 */
+                            }
+
                             /*
-                             * Since this classification is not supported, it can not be attached to the entity.
+                             * Valid entity to return since no exception occurred.
                              */
-                        }
-
-                        /*
-                         * Valid entity to return since no exception occurred.
-                         */
-                        if (! beanArchived)
-                        {
-                            B bean = converter.getNewBean(beanClass, entity, methodName);
-                            if (bean != null)
+                            if (! beanArchived)
                             {
-                                if (skippedValues < startFrom)
-                                {
-                                    skippedValues ++;
-                                }
-                                else
+                                B bean = converter.getNewBean(beanClass, entity, methodName);
+                                if (bean != null)
                                 {
-                                    results.add(bean);
+                                    if (skippedValues < startFrom)
+                                    {
+                                        skippedValues ++;
+                                    }
+                                    else
+                                    {
+                                        results.add(bean);
+                                    }
                                 }
                             }
                         }
-                    }
-                    catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException invisibleEntity)
-                    {
-                        /*
-                         * Skipping entity
-                         */
+                        catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException invisibleEntity)
+                        {
+                            /*
+                             * Skipping entity
+                             */
+                        }
                     }
                 }
             }
-        }
 
-        if (results.isEmpty())
-        {
-            return null;
-        }
-        else
-        {
-            return results;
-        }
+            if (results.isEmpty())
+            {
+                return null;
+            }
+            else
+            {
+                return results;
+            }
+        });
     }
 
 
@@ -11634,82 +12140,85 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                            PropertyServerException,
                                                                            UserNotAuthorizedException
     {
-        invalidParameterHandler.validateUserId(userId, methodName);
+        return this.withRequestScope(methodName, () ->
+        {
+            invalidParameterHandler.validateUserId(userId, methodName);
 
-        int queryPageSize = invalidParameterHandler.validatePaging(startFrom, pageSize, methodName);
+            int queryPageSize = invalidParameterHandler.validatePaging(startFrom, pageSize, methodName);
 
-        RepositoryIteratorForEntities iterator = getEntitySearchIterator(userId,
-                                                                         null,
-                                                                         resultTypeGUID,
-                                                                         resultTypeName,
-                                                                         null,
-                                                                         false,
-                                                                         sequencingPropertyName,
-                                                                         forLineage,
-                                                                         forDuplicateProcessing,
-                                                                         0,
-                                                                         queryPageSize,
-                                                                         effectiveTime,
-                                                                         methodName);
-
-        /*
-         * The loop is necessary because some entities returned may not be visible to the calling user.
-         * Once they are filtered out, more entities need to be retrieved to fill the gaps.
-         */
-        List<String> results = new ArrayList<>();
-        String       entityParameterName = "Entity of type" + resultTypeName;
-        int          skippedValues = 0;
+            RepositoryIteratorForEntities iterator = getEntitySearchIterator(userId,
+                                                                             null,
+                                                                             resultTypeGUID,
+                                                                             resultTypeName,
+                                                                             null,
+                                                                             false,
+                                                                             sequencingPropertyName,
+                                                                             forLineage,
+                                                                             forDuplicateProcessing,
+                                                                             0,
+                                                                             queryPageSize,
+                                                                             effectiveTime,
+                                                                             methodName);
 
-        while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
-        {
-            EntityDetail entity = iterator.getNext();
+            /*
+             * The loop is necessary because some entities returned may not be visible to the calling user.
+             * Once they are filtered out, more entities need to be retrieved to fill the gaps.
+             */
+            List<String> results = new ArrayList<>();
+            String       entityParameterName = "Entity of type" + resultTypeName;
+            int          skippedValues = 0;
 
-            if (entity != null)
+            while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
             {
-                try
-                {
-                    validateAnchorEntity(userId,
-                                         entity.getGUID(),
-                                         resultTypeName,
-                                         entity,
-                                         entityParameterName,
-                                         false,
-                                         forLineage,
-                                         forDuplicateProcessing,
-                                         serviceSupportedZones,
-                                         effectiveTime,
-                                         methodName);
+                EntityDetail entity = iterator.getNext();
 
-                    /*
-                     * Valid entity to return since no exception occurred.
-                     */
-                    if (skippedValues < startFrom)
+                if (entity != null)
+                {
+                    try
                     {
-                        skippedValues ++;
+                        validateAnchorEntity(userId,
+                                             entity.getGUID(),
+                                             resultTypeName,
+                                             entity,
+                                             entityParameterName,
+                                             false,
+                                             forLineage,
+                                             forDuplicateProcessing,
+                                             serviceSupportedZones,
+                                             effectiveTime,
+                                             methodName);
+
+                        /*
+                         * Valid entity to return since no exception occurred.
+                         */
+                        if (skippedValues < startFrom)
+                        {
+                            skippedValues ++;
+                        }
+                        else
+                        {
+                            results.add(entity.getGUID());
+                        }
                     }
-                    else
+                    catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException invisibleEntity)
                     {
-                        results.add(entity.getGUID());
+                        /*
+                         * Skipping entity
+                         */
                     }
-                }
-                catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException invisibleEntity)
-                {
-                    /*
-                     * Skipping entity
-                     */
-                }
 
+                }
             }
-        }
 
-        if (results.isEmpty())
-        {
-            return null;
-        }
-        else
-        {
-            return results;
-        }
+            if (results.isEmpty())
+            {
+                return null;
+            }
+            else
+            {
+                return results;
+            }
+        });
     }
 
 
@@ -0,0 +1,234 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryRequestScope;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Test that the generic handler retrieves the entities attached to a starting entity with a single bulk request,
+ * and falls back to retrieving an entity on its own when it is missing from the bulk results.
+ */
+public class TestAttachedEntitiesRetrieval
+{
+    private static final String USER_ID           = "testUser";
+    private static final String SERVICE_NAME      = "testService";
+    private static final String METHOD_NAME       = "testMethod";
+    private static final String STARTING_TYPE     = "StartingType";
+    private static final String ATTACHED_TYPE     = "AttachedType";
+    private static final String RELATIONSHIP_TYPE = "AttachedRelationship";
+
+    private RepositoryHandler                     repositoryHandler;
+    private OpenMetadataAPIGenericHandler<Object> handler;
+    private EntityDetail                          startingEntity;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        repositoryHandler = mock(RepositoryHandler.class);
+
+        OMRSRepositoryHelper repositoryHelper = mock(OMRSRepositoryHelper.class);
+
+        when(repositoryHelper.isTypeOf(anyString(), eq(ATTACHED_TYPE), eq(ATTACHED_TYPE))).thenReturn(true);
+        when(repositoryHandler.startRequestScope(anyString())).thenReturn(mock(RepositoryRequestScope.class));
+        when(repositoryHandler.getOtherEnd(anyString(), anyString(), any(Relationship.class), anyInt(), anyString()))
+                .thenAnswer(invocation -> ((Relationship) invocation.getArgument(2)).getEntityTwoProxy());
+
+        InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
+        invalidParameterHandler.setMaxPagingSize(100);
+
+        handler = new OpenMetadataAPIGenericHandler<>(null,
+                                                      Object.class,
+                                                      SERVICE_NAME,
+                                                      "testServer",
+                                                      invalidParameterHandler,
+                                                      repositoryHandler,
+                                                      repositoryHelper,
+                                                      USER_ID,
+                                                      new OpenMetadataServerSecurityVerifier(),
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      mock(AuditLog.class));
+
+        startingEntity = getEntity("start", STARTING_TYPE);
+
+        List<Relationship> relationships = new ArrayList<>(Arrays.asList(getRelationship("r1", "e1"),
+                                                                         getRelationship("r2", "e2"),
+                                                                         getRelationship("r3", "e3")));
+
+        when(repositoryHandler.getRelationshipsByType(anyString(),
+                                                      any(EntityDetail.class),
+                                                      anyString(),
+                                                      any(),
+                                                      anyString(),
+                                                      anyInt(),
+                                                      anyBoolean(),
+                                                      anyBoolean(),
+                                                      any(),
+                                                      anyInt(),
+                                                      anyInt(),
+                                                      any(),
+                                                      anyString())).thenReturn(relationships).thenReturn(null);
+    }
+
+
+    /**
+     * Entity e1 is returned by the bulk request.  Entity e2 is missing from the bulk results and is retrieved
+     * on its own.  Entity e3 is missing from both and is skipped.
+     */
+    @Test
+    public void testFallbackForMissingEntities() throws Exception
+    {
+        Map<String, EntityDetail> bulkResults = new HashMap<>();
+        bulkResults.put("e1", getEntity("e1", ATTACHED_TYPE));
+
+        when(repositoryHandler.getEntitiesByGUIDs(anyString(), anyList(), anyString(), anyBoolean(), anyBoolean(), any(), anyString())).thenReturn(bulkResults);
+        this.setUpSingleRetrieval();
+
+        List<EntityDetail> results = this.getAttachedEntities();
+
+        assertEquals(getGUIDs(results), Arrays.asList("e1", "e2"));
+        verify(repositoryHandler, times(1)).getEntitiesByGUIDs(anyString(), eq(Arrays.asList("e1", "e2", "e3")), anyString(), anyBoolean(), anyBoolean(), any(), anyString());
+        verify(repositoryHandler, never()).getEntityByGUID(anyString(), eq("e1"), anyString(), anyString(), anyBoolean(), anyBoolean(), any(), anyString());
+        verify(repositoryHandler, times(1)).getEntityByGUID(anyString(), eq("e2"), anyString(), anyString(), anyBoolean(), anyBoolean(), any(), anyString());
+        verify(repositoryHandler, times(1)).getEntityByGUID(anyString(), eq("e3"), anyString(), anyString(), anyBoolean(), anyBoolean(), any(), anyString());
+    }
+
+
+    /**
+     * The bulk request fails so every entity is retrieved on its own.
+     */
+    @Test
+    public void testFallbackWhenBulkRequestFails() throws Exception
+    {
+        when(repositoryHandler.getEntitiesByGUIDs(anyString(), anyList(), anyString(), anyBoolean(), anyBoolean(), any(), anyString()))
+                .thenThrow(new PropertyServerException(OCFErrorCode.UNKNOWN_ERROR.getMessageDefinition(), this.getClass().getName(), METHOD_NAME));
+        when(repositoryHandler.getEntityByGUID(anyString(), eq("e1"), anyString(), anyString(), anyBoolean(), anyBoolean(), any(), anyString()))
+                .thenReturn(getEntity("e1", ATTACHED_TYPE));
+        this.setUpSingleRetrieval();
+
+        List<EntityDetail> results = this.getAttachedEntities();
+
+        assertEquals(getGUIDs(results), Arrays.asList("e1", "e2"));
+        verify(repositoryHandler, times(1)).getEntityByGUID(anyString(), eq("e1"), anyString(), anyString(), anyBoolean(), anyBoolean(), any(), anyString());
+    }
+
+
+    private void setUpSingleRetrieval() throws Exception
+    {
+        when(repositoryHandler.getEntityByGUID(anyString(), eq("e2"), anyString(), anyString(), anyBoolean(), anyBoolean(), any(), anyString()))
+                .thenReturn(getEntity("e2", ATTACHED_TYPE));
+        when(repositoryHandler.getEntityByGUID(anyString(), eq("e3"), anyString(), anyString(), anyBoolean(), anyBoolean(), any(), anyString()))
+                .thenThrow(new InvalidParameterException(OCFErrorCode.UNKNOWN_ERROR.getMessageDefinition(), this.getClass().getName(), METHOD_NAME, "guid"));
+    }
+
+
+    private List<EntityDetail> getAttachedEntities() throws Exception
+    {
+        return handler.getAttachedEntities(USER_ID,
+                                           startingEntity,
+                                           "startingGUID",
+                                           STARTING_TYPE,
+                                           null,
+                                           RELATIONSHIP_TYPE,
+                                           ATTACHED_TYPE,
+                                           null,
+                                           null,
+                                           2,
+                                           false,
+                                           false,
+                                           Collections.emptyList(),
+                                           0,
+                                           0,
+                                           null,
+                                           METHOD_NAME);
+    }
+
+
+    private List<String> getGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    private EntityDetail getEntity(String guid, String typeName)
+    {
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName(typeName);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(instanceType);
+        entity.setStatus(InstanceStatus.ACTIVE);
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid, String attachedGUID)
+    {
+        InstanceType relationshipType = new InstanceType();
+        relationshipType.setTypeDefName(RELATIONSHIP_TYPE);
+
+        InstanceType attachedType = new InstanceType();
+        attachedType.setTypeDefName(ATTACHED_TYPE);
+
+        EntityProxy startingEnd = new EntityProxy();
+        startingEnd.setGUID(startingEntity.getGUID());
+
+        EntityProxy attachedEnd = new EntityProxy();
+        attachedEnd.setGUID(attachedGUID);
+        attachedEnd.setType(attachedType);
+
+        Relationship relationship = new Relationship();
+        relationship.setGUID(guid);
+        relationship.setType(relationshipType);
+        relationship.setEntityOneProxy(startingEnd);
+        relationship.setEntityTwoProxy(attachedEnd);
+
+        return relationship;
+    }
+}
@@ -0,0 +1,197 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
+import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test that the data field handler creates a list of data fields for an annotation with a single check of the
+ * annotation's anchor, and that an invalid data field stops any of the list being created.
+ */
+public class TestDataFieldBulkCreation
+{
+    private static final String USER_ID         = "testUser";
+    private static final String METHOD_NAME     = "testMethod";
+    private static final String ANNOTATION_GUID = "annotationGUID";
+
+    private final List<String> anchorChecks = new ArrayList<>();
+    private final List<String> newEntities  = new ArrayList<>();
+    private final List<String> newLinks     = new ArrayList<>();
+
+    private DataFieldHandler<Object> handler;
+
+
+    /**
+     * The handler records the calls that would be made to the repositories.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        anchorChecks.clear();
+        newEntities.clear();
+        newLinks.clear();
+
+        InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
+        invalidParameterHandler.setMaxPagingSize(100);
+
+        handler = new DataFieldHandler<Object>(null,
+                                               Object.class,
+                                               "testService",
+                                               "testServer",
+                                               invalidParameterHandler,
+                                               mock(RepositoryHandler.class),
+                                               mock(OMRSRepositoryHelper.class),
+                                               USER_ID,
+                                               new OpenMetadataServerSecurityVerifier(),
+                                               null,
+                                               null,
+                                               null,
+                                               mock(AuditLog.class))
+        {
+            @Override
+            public EntityDetail validateAnchorEntity(String       userId,
+                                                     String       connectToGUID,
+                                                     String       connectToGUIDParameterName,
+                                                     String       connectToType,
+                                                     boolean      isUpdate,
+                                                     boolean      forLineage,
+                                                     boolean      forDuplicateProcessing,
+                                                     List<String> suppliedSupportedZones,
+                                                     Date         effectiveTime,
+                                                     String       methodName)
+            {
+                anchorChecks.add(connectToGUID);
+
+                return null;
+            }
+
+            @Override
+            public String createBeanInRepository(String                        userId,
+                                                 String                        externalSourceGUID,
+                                                 String                        externalSourceName,
+                                                 String                        entityTypeGUID,
+                                                 String                        entityTypeName,
+                                                 OpenMetadataAPIGenericBuilder propertyBuilder,
+                                                 Date                          effectiveTime,
+                                                 String                        methodName)
+            {
+                String guid = "dataField" + newEntities.size();
+
+                newEntities.add(guid);
+
+                return guid;
+            }
+
+            @Override
+            public String uncheckedLinkElementToElement(String             userId,
+                                                        String             externalSourceGUID,
+                                                        String             externalSourceName,
+                                                        String             startingElementGUID,
+                                                        String             startingGUIDParameterName,
+                                                        String             startingElementTypeName,
+                                                        String             attachingElementGUID,
+                                                        String             attachingGUIDParameterName,
+                                                        String             attachingElementTypeName,
+                                                        boolean            forLineage,
+                                                        boolean            forDuplicateProcessing,
+                                                        List<String>       suppliedSupportedZones,
+                                                        String             attachmentTypeGUID,
+                                                        String             attachmentTypeName,
+                                                        InstanceProperties relationshipProperties,
+                                                        Date               effectiveTime,
+                                                        String             methodName)
+            {
+                newLinks.add(startingElementGUID + "->" + attachingElementGUID + ":" + attachmentTypeName);
+
+                return null;
+            }
+        };
+    }
+
+
+    private DataField getDataField(String name, int position)
+    {
+        DataField dataField = new DataField();
+
+        dataField.setDataFieldName(name);
+        dataField.setDataFieldPosition(position);
+
+        return dataField;
+    }
+
+
+    /**
+     * The anchor is checked once and each data field is created and linked to the annotation in order.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testBulkCreation() throws Exception
+    {
+        List<String> guids = handler.addDataFieldsToDiscoveryReport(USER_ID,
+                                                                    null,
+                                                                    null,
+                                                                    ANNOTATION_GUID,
+                                                                    Arrays.asList(getDataField("f0", 0),
+                                                                                  getDataField("f1", 1),
+                                                                                  getDataField("f2", 2)),
+                                                                    false,
+                                                                    false,
+                                                                    new Date(),
+                                                                    METHOD_NAME);
+
+        assertEquals(guids, Arrays.asList("dataField0", "dataField1", "dataField2"));
+        assertEquals(anchorChecks, Arrays.asList(ANNOTATION_GUID));
+        assertEquals(newLinks.size(), 3);
+        assertEquals(newLinks.get(1), ANNOTATION_GUID + "->dataField1:" + OpenMetadataAPIMapper.DISCOVERED_DATA_FIELD_TYPE_NAME);
+    }
+
+
+    /**
+     * A data field without a name is rejected before any data fields are created.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testInvalidDataField() throws Exception
+    {
+        try
+        {
+            handler.addDataFieldsToDiscoveryReport(USER_ID,
+                                                   null,
+                                                   null,
+                                                   ANNOTATION_GUID,
+                                                   Arrays.asList(getDataField("f0", 0), getDataField(null, 1)),
+                                                   false,
+                                                   false,
+                                                   new Date(),
+                                                   METHOD_NAME);
+            fail("Invalid data field accepted");
+        }
+        catch (InvalidParameterException expected)
+        {
+            assertTrue(newEntities.isEmpty());
+            assertTrue(anchorChecks.isEmpty());
+        }
+    }
+}
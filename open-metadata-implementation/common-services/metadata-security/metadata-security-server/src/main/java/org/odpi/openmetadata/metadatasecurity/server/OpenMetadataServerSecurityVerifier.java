@@ -33,7 +33,10 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OpenMetadataEventsSecurity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -110,6 +113,9 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     private static final String OWNER_PROPERTY_NAME                       = "owner";                                /* from Area 4 */
     private static final String OWNER_TYPE_PROPERTY_NAME                  = "ownerType"; /* deprecated */
 
+    private static final String DECISION_CACHE_TIME_TO_LIVE_PROPERTY_NAME = "decisionCacheTimeToLive";              /* from security connection */
+    private static final int    MAX_CACHED_DECISIONS                      = 10000;
+
 
     private OpenMetadataRepositorySecurity repositorySecurityConnector = null;
     private OpenMetadataEventsSecurity     eventsSecurityConnector     = null;
@@ -120,6 +126,75 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
 
     private final InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
 
+    /*
+     * The decision cache saves the results of calls to the asset security connector.  It is only used if the
+     * decisionCacheTimeToLive configuration property is set in the security connector's connection.
+     */
+    private volatile long                            decisionCacheTimeToLive = 0L;
+    private final Map<List<Object>, CachedDecision> decisionCache           = newDecisionCache();
+    private final Map<List<Object>, CachedZones>    supportedZonesCache     = newDecisionCache();
+
+
+    /**
+     * Return a bounded cache that discards the least recently used entry when it is full.
+     *
+     * @param <V> cached value
+     * @return synchronized map
+     */
+    private static <V> Map<List<Object>, V> newDecisionCache()
+    {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, V> eldest)
+            {
+                return size() > MAX_CACHED_DECISIONS;
+            }
+        });
+    }
+
+
+    /**
+     * The result of an earlier call to the asset security connector.
+     */
+    private static class CachedDecision
+    {
+        private final long    expiryTime;
+        private final boolean rejected;
+
+        CachedDecision(long expiryTime, boolean rejected)
+        {
+            this.expiryTime = expiryTime;
+            this.rejected   = rejected;
+        }
+    }
+
+
+    /**
+     * The supported zones returned by an earlier call to the asset security connector.
+     */
+    private static class CachedZones
+    {
+        private final long         expiryTime;
+        private final List<String> supportedZones;
+
+        CachedZones(long expiryTime, List<String> supportedZones)
+        {
+            this.expiryTime     = expiryTime;
+            this.supportedZones = supportedZones;
+        }
+    }
+
+
+    /**
+     * A call to the asset security connector that may be replaced by a cached decision.
+     */
+    private interface AssetSecurityCheck
+    {
+        void validate() throws UserNotAuthorizedException;
+    }
+
+
     /**
      * Default constructor
      */
@@ -180,6 +255,12 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
             {
                 assetSecurityConnector = (OpenMetadataAssetSecurity)connector;
             }
+
+            /*
+             * Decisions from any previous connector are no longer valid.
+             */
+            this.decisionCacheTimeToLive = this.getDecisionCacheTimeToLive(connection);
+            this.clearAuthorizationCache();
         }
         catch (InvalidParameterException error)
         {
@@ -240,6 +321,130 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
 
 
 
+    /**
+     * Return the time to live for cached authorization decisions from the configuration properties of the
+     * security connector's connection.  Caching is only safe if the connector's asset decisions depend only on the
+     * user, the asset's type, status, zones, owner and security labels.  Zero (the default) means no caching.
+     *
+     * @param connection connection from the configuration document
+     * @return time to live in milliseconds
+     */
+    private long getDecisionCacheTimeToLive(org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection connection)
+    {
+        if ((connection != null) && (connection.getConfigurationProperties() != null))
+        {
+            Object timeToLive = connection.getConfigurationProperties().get(DECISION_CACHE_TIME_TO_LIVE_PROPERTY_NAME);
+
+            if (timeToLive instanceof Number)
+            {
+                return ((Number)timeToLive).longValue();
+            }
+            else if (timeToLive != null)
+            {
+                try
+                {
+                    return Long.parseLong(timeToLive.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    return 0L;
+                }
+            }
+        }
+
+        return 0L;
+    }
+
+
+    /**
+     * Remove all cached authorization decisions.  This is called when a new security connector is registered and
+     * may be called whenever the security connector's policies change.
+     */
+    public void clearAuthorizationCache()
+    {
+        decisionCache.clear();
+        supportedZonesCache.clear();
+    }
+
+
+    /**
+     * Call the asset security connector unless there is an unexpired cached decision for the same user, operation
+     * and asset security properties.  Both allow and reject decisions are cached.  A cached rejection is reported
+     * with a new exception that names this asset.
+     *
+     * @param userId calling user
+     * @param operation error code reported when the operation is rejected
+     * @param asset asset details passed to the connector
+     * @param securityCheck call to the connector
+     * @param methodName calling method
+     * @throws UserNotAuthorizedException the user is not authorized to perform this operation on the asset
+     */
+    private void validateAssetOperation(String                        userId,
+                                        OpenMetadataSecurityErrorCode operation,
+                                        Asset                         asset,
+                                        AssetSecurityCheck            securityCheck,
+                                        String                        methodName) throws UserNotAuthorizedException
+    {
+        long timeToLive = decisionCacheTimeToLive;
+
+        if ((timeToLive <= 0) || (asset == null))
+        {
+            securityCheck.validate();
+            return;
+        }
+
+        List<Object> cacheKey = Collections.unmodifiableList(Arrays.asList(userId,
+                                                                           operation,
+                                                                           asset.getTypeName(),
+                                                                           asset.getStatus(),
+                                                                           this.getCacheKeyList(asset.getZoneMembership()),
+                                                                           asset.getOwner(),
+                                                                           asset.getOwnerType(),
+                                                                           this.getCacheKeyList(asset.getSecurityLabels())));
+
+        long           now            = System.currentTimeMillis();
+        CachedDecision cachedDecision = decisionCache.get(cacheKey);
+
+        if ((cachedDecision == null) || (cachedDecision.expiryTime <= now))
+        {
+            try
+            {
+                securityCheck.validate();
+                decisionCache.put(cacheKey, new CachedDecision(now + timeToLive, false));
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                decisionCache.put(cacheKey, new CachedDecision(now + timeToLive, true));
+                throw error;
+            }
+        }
+        else if (cachedDecision.rejected)
+        {
+            throw new UserNotAuthorizedException(operation.getMessageDefinition(userId, asset.getGUID()),
+                                                 this.getClass().getName(),
+                                                 methodName,
+                                                 userId);
+        }
+    }
+
+
+    /**
+     * Return an unchangeable copy of a list for use in a cache key.
+     *
+     * @param values list from the caller
+     * @return copied list or null
+     */
+    private List<String> getCacheKeyList(List<String> values)
+    {
+        if (values == null)
+        {
+            return null;
+        }
+
+        return Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+
     /**
      * Return the list of supported zones for this asset.  This originates from the configuration of the access server.
      * but may be changed by the security verifier.
@@ -257,7 +462,35 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (assetSecurityConnector != null)
         {
-            return assetSecurityConnector.setSupportedZonesForUser(suppliedSupportedZones, serviceName, userId);
+            long timeToLive = decisionCacheTimeToLive;
+
+            if (timeToLive <= 0)
+            {
+                return assetSecurityConnector.setSupportedZonesForUser(suppliedSupportedZones, serviceName, userId);
+            }
+
+            List<Object> cacheKey    = Collections.unmodifiableList(Arrays.asList(userId, serviceName, this.getCacheKeyList(suppliedSupportedZones)));
+            long         now         = System.currentTimeMillis();
+            CachedZones  cachedZones = supportedZonesCache.get(cacheKey);
+
+            if ((cachedZones == null) || (cachedZones.expiryTime <= now))
+            {
+                cachedZones = new CachedZones(now + timeToLive,
+                                              this.getCacheKeyList(assetSecurityConnector.setSupportedZonesForUser(suppliedSupportedZones,
+                                                                                                                   serviceName,
+                                                                                                                   userId)));
+                supportedZonesCache.put(cacheKey, cachedZones);
+            }
+
+            /*
+             * Callers may change the list they are given, so each one gets its own copy.
+             */
+            if (cachedZones.supportedZones == null)
+            {
+                return null;
+            }
+
+            return new ArrayList<>(cachedZones.supportedZones);
         }
 
         return suppliedSupportedZones;
@@ -1243,6 +1476,108 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                          String               methodName) throws InvalidParameterException,
                                                                                  PropertyServerException,
                                                                                  UserNotAuthorizedException
+    {
+        this.validateUserForAssetRead(userId,
+                                      assetGUID,
+                                      assetGUIDParameterName,
+                                      assetEntity,
+                                      suppliedSupportedZones,
+                                      this.getSupportedZones(userId, suppliedSupportedZones, serviceName),
+                                      repositoryHelper,
+                                      serviceName,
+                                      methodName);
+    }
+
+
+    /**
+     * Validate that the user is able to read each asset in a list (typically a page of search results).  The
+     * supported zones for the user are calculated once for the whole list.  Assets that the user may not
+     * read are left out of the returned list.  The order of the remaining assets is unchanged.
+     *
+     * @param userId calling user
+     * @param assetEntities entities storing the assets' properties
+     * @param suppliedSupportedZones list of supported zones from the caller.
+     * @param repositoryHelper helper for OMRS objects
+     * @param serviceName calling service
+     * @param methodName calling method
+     * @return list of assets the user is able to read
+     * @throws InvalidParameterException the bean properties are invalid
+     * @throws PropertyServerException problem accessing the property server
+     */
+    public List<EntityDetail> validateUserForAssetsRead(String               userId,
+                                                        List<EntityDetail>   assetEntities,
+                                                        List<String>         suppliedSupportedZones,
+                                                        OMRSRepositoryHelper repositoryHelper,
+                                                        String               serviceName,
+                                                        String               methodName) throws InvalidParameterException,
+                                                                                                PropertyServerException
+    {
+        final String assetGUIDParameterName = "assetEntities[].guid";
+
+        if (assetEntities == null)
+        {
+            return null;
+        }
+
+        List<String>       supportedZones = this.getSupportedZones(userId, suppliedSupportedZones, serviceName);
+        List<EntityDetail> visibleAssets  = new ArrayList<>();
+
+        for (EntityDetail assetEntity : assetEntities)
+        {
+            if (assetEntity != null)
+            {
+                try
+                {
+                    this.validateUserForAssetRead(userId,
+                                                  assetEntity.getGUID(),
+                                                  assetGUIDParameterName,
+                                                  assetEntity,
+                                                  suppliedSupportedZones,
+                                                  supportedZones,
+                                                  repositoryHelper,
+                                                  serviceName,
+                                                  methodName);
+
+                    visibleAssets.add(assetEntity);
+                }
+                catch (InvalidParameterException | UserNotAuthorizedException invisibleAsset)
+                {
+                    /*
+                     * Skipping asset
+                     */
+                }
+            }
+        }
+
+        return visibleAssets;
+    }
+
+
+    /**
+     * Validate that the user is able to read an asset using supported zones that have already been adjusted for the user.
+     *
+     * @param userId calling user
+     * @param assetGUID unique identifier of the asset
+     * @param assetGUIDParameterName name of parameter supplying the assetGUID
+     * @param assetEntity entity storing the asset's properties
+     * @param suppliedSupportedZones list of supported zones from the caller.
+     * @param supportedZones list of supported zones for the user
+     * @param repositoryHelper helper for OMRS objects
+     * @param serviceName calling service
+     * @param methodName calling method
+     * @throws InvalidParameterException the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     */
+    private void validateUserForAssetRead(String               userId,
+                                          String               assetGUID,
+                                          String               assetGUIDParameterName,
+                                          EntityDetail         assetEntity,
+                                          List<String>         suppliedSupportedZones,
+                                          List<String>         supportedZones,
+                                          OMRSRepositoryHelper repositoryHelper,
+                                          String               serviceName,
+                                          String               methodName) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException
     {
         /*
          * This method will throw an exception if the asset is not in the supported zones - it will look like
@@ -1251,7 +1586,7 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
         invalidParameterHandler.validateAssetInSupportedZone(assetGUID,
                                                              assetGUIDParameterName,
                                                              suppliedSupportedZones,
-                                                             this.getSupportedZones(userId, suppliedSupportedZones, serviceName),
+                                                             supportedZones,
                                                              serviceName,
                                                              methodName);
 
@@ -1262,7 +1597,11 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
              */
             Asset assetBean = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
 
-            assetSecurityConnector.validateUserForAssetRead(userId, assetBean);
+            this.validateAssetOperation(userId,
+                                        OpenMetadataSecurityErrorCode.UNAUTHORIZED_ASSET_ACCESS,
+                                        assetBean,
+                                        () -> assetSecurityConnector.validateUserForAssetRead(userId, assetBean),
+                                        methodName);
         }
     }
 
@@ -1323,16 +1662,28 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
             {
                 if (isFeedback)
                 {
-                    assetSecurityConnector.validateUserForAssetFeedback(userId, asset);
+                    this.validateAssetOperation(userId,
+                                                OpenMetadataSecurityErrorCode.UNAUTHORIZED_ASSET_FEEDBACK,
+                                                asset,
+                                                () -> assetSecurityConnector.validateUserForAssetFeedback(userId, asset),
+                                                methodName);
                 }
                 else
                 {
-                    assetSecurityConnector.validateUserForAssetAttachmentUpdate(userId, asset);
+                    this.validateAssetOperation(userId,
+                                                OpenMetadataSecurityErrorCode.UNAUTHORIZED_ASSET_CHANGE,
+                                                asset,
+                                                () -> assetSecurityConnector.validateUserForAssetAttachmentUpdate(userId, asset),
+                                                methodName);
                 }
             }
             else
             {
-                assetSecurityConnector.validateUserForAssetRead(userId, asset);
+                this.validateAssetOperation(userId,
+                                            OpenMetadataSecurityErrorCode.UNAUTHORIZED_ASSET_ACCESS,
+                                            asset,
+                                            () -> assetSecurityConnector.validateUserForAssetRead(userId, asset),
+                                            methodName);
             }
         }
     }
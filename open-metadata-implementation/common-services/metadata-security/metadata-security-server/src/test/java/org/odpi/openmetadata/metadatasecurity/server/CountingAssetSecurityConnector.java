@@ -0,0 +1,131 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.metadatasecurity.OpenMetadataAssetSecurity;
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityConnector;
+import org.odpi.openmetadata.metadatasecurity.properties.Asset;
+import org.odpi.openmetadata.metadatasecurity.properties.AssetAuditHeader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asset security connector for tests.  It rejects access to assets of the restricted type, gives the restricted
+ * user only the restricted zone, and counts the calls it receives.
+ */
+public class CountingAssetSecurityConnector extends OpenMetadataServerSecurityConnector implements OpenMetadataAssetSecurity
+{
+    static final String RESTRICTED_TYPE_NAME = "RestrictedAsset";
+    static final String RESTRICTED_USER_ID   = "restrictedUser";
+    static final String RESTRICTED_ZONE      = "restrictedZone";
+
+    static final AtomicInteger readChecks     = new AtomicInteger();
+    static final AtomicInteger zoneChecks     = new AtomicInteger();
+    static List<String>        lastZonesGiven = null;
+
+
+    /**
+     * Reset the call counts between tests.
+     */
+    static void reset()
+    {
+        readChecks.set(0);
+        zoneChecks.set(0);
+        lastZonesGiven = null;
+    }
+
+
+    @Override
+    public List<String> setSupportedZonesForUser(List<String> supportedZones,
+                                                 String       serviceName,
+                                                 String       user)
+    {
+        zoneChecks.incrementAndGet();
+
+        List<String> zones = new ArrayList<>();
+
+        if (RESTRICTED_USER_ID.equals(user))
+        {
+            zones.add(RESTRICTED_ZONE);
+        }
+        else if (supportedZones != null)
+        {
+            zones.addAll(supportedZones);
+        }
+
+        lastZonesGiven = zones;
+        return zones;
+    }
+
+
+    @Override
+    public List<String> setAssetZonesToDefault(List<String> defaultZones,
+                                               Asset        asset)
+    {
+        return defaultZones;
+    }
+
+
+    @Override
+    public List<String> verifyAssetZones(List<String> defaultZones,
+                                         List<String> supportedZones,
+                                         List<String> publishZones,
+                                         Asset        originalAsset,
+                                         Asset        updatedAsset)
+    {
+        return updatedAsset.getZoneMembership();
+    }
+
+
+    @Override
+    public void validateUserForAssetCreate(String userId,
+                                           Asset  asset)
+    {
+    }
+
+
+    @Override
+    public void validateUserForAssetRead(String userId,
+                                         Asset  asset) throws UserNotAuthorizedException
+    {
+        readChecks.incrementAndGet();
+
+        if (RESTRICTED_TYPE_NAME.equals(asset.getTypeName()))
+        {
+            super.throwUnauthorizedAssetAccess(userId, asset, "validateUserForAssetRead");
+        }
+    }
+
+
+    @Override
+    public void validateUserForAssetDetailUpdate(String           userId,
+                                                 Asset            originalAsset,
+                                                 AssetAuditHeader originalAssetAuditHeader,
+                                                 Asset            newAsset)
+    {
+    }
+
+
+    @Override
+    public void validateUserForAssetAttachmentUpdate(String userId,
+                                                     Asset  asset)
+    {
+    }
+
+
+    @Override
+    public void validateUserForAssetFeedback(String userId,
+                                             Asset  asset)
+    {
+    }
+
+
+    @Override
+    public void validateUserForAssetDelete(String userId,
+                                           Asset  asset)
+    {
+    }
+}
@@ -0,0 +1,21 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityProvider;
+
+/**
+ * Connector provider for the test asset security connector.
+ */
+public class CountingAssetSecurityProvider extends OpenMetadataServerSecurityProvider
+{
+    /**
+     * Constructor sets up the test connector class.
+     */
+    public CountingAssetSecurityProvider()
+    {
+        super();
+
+        super.setConnectorClassName(CountingAssetSecurityConnector.class.getName());
+    }
+}
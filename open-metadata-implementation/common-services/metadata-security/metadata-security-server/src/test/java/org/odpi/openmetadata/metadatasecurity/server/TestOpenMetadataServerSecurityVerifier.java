@@ -0,0 +1,249 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test the caching of asset security decisions in the server security verifier.
+ */
+public class TestOpenMetadataServerSecurityVerifier
+{
+    private static final String USER_ID      = "testUser";
+    private static final String SERVICE_NAME = "testService";
+    private static final String METHOD_NAME  = "testMethod";
+    private static final String ASSET_TYPE   = "DataSet";
+
+    private final OMRSRepositoryHelper repositoryHelper = mock(OMRSRepositoryHelper.class);
+
+    private OpenMetadataServerSecurityVerifier verifier;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        CountingAssetSecurityConnector.reset();
+
+        verifier = new OpenMetadataServerSecurityVerifier();
+        verifier.registerSecurityValidator("serverUser", "testServer", null, getConnection(60000L));
+    }
+
+
+    @Test
+    public void testAllowedDecisionIsCached() throws Exception
+    {
+        verifier.validateUserForAssetRead(USER_ID, "guid1", "guid", getAsset("guid1", ASSET_TYPE), null, repositoryHelper, SERVICE_NAME, METHOD_NAME);
+        verifier.validateUserForAssetRead(USER_ID, "guid2", "guid", getAsset("guid2", ASSET_TYPE), null, repositoryHelper, SERVICE_NAME, METHOD_NAME);
+
+        assertEquals(CountingAssetSecurityConnector.readChecks.get(), 1);
+
+        verifier.clearAuthorizationCache();
+        verifier.validateUserForAssetRead(USER_ID, "guid1", "guid", getAsset("guid1", ASSET_TYPE), null, repositoryHelper, SERVICE_NAME, METHOD_NAME);
+
+        assertEquals(CountingAssetSecurityConnector.readChecks.get(), 2);
+    }
+
+
+    @Test
+    public void testNoCachingByDefault() throws Exception
+    {
+        verifier.registerSecurityValidator("serverUser", "testServer", null, getConnection(null));
+
+        verifier.validateUserForAssetRead(USER_ID, "guid1", "guid", getAsset("guid1", ASSET_TYPE), null, repositoryHelper, SERVICE_NAME, METHOD_NAME);
+        verifier.validateUserForAssetRead(USER_ID, "guid1", "guid", getAsset("guid1", ASSET_TYPE), null, repositoryHelper, SERVICE_NAME, METHOD_NAME);
+
+        assertEquals(CountingAssetSecurityConnector.readChecks.get(), 2);
+    }
+
+
+    @Test
+    public void testCachedDenialNamesEachAsset() throws Exception
+    {
+        UserNotAuthorizedException firstRejection  = this.readRestrictedAsset("guid1");
+        UserNotAuthorizedException secondRejection = this.readRestrictedAsset("guid2");
+        UserNotAuthorizedException thirdRejection  = this.readRestrictedAsset("guid2");
+
+        assertEquals(CountingAssetSecurityConnector.readChecks.get(), 1);
+        assertTrue(firstRejection.getReportedErrorMessage().contains("guid1"), firstRejection.getReportedErrorMessage());
+        assertTrue(secondRejection.getReportedErrorMessage().contains("guid2"), secondRejection.getReportedErrorMessage());
+        assertEquals(secondRejection.getReportedErrorMessageId(), firstRejection.getReportedErrorMessageId());
+        assertEquals(secondRejection.getReportingActionDescription(), METHOD_NAME);
+        assertNotSame(thirdRejection, secondRejection);
+    }
+
+
+    @Test
+    public void testAssetsReadFiltersPage() throws Exception
+    {
+        List<EntityDetail> assets = Arrays.asList(getAsset("guid1", ASSET_TYPE),
+                                                  getAsset("guid2", CountingAssetSecurityConnector.RESTRICTED_TYPE_NAME),
+                                                  null,
+                                                  getAsset("guid3", ASSET_TYPE),
+                                                  getAsset("guid4", CountingAssetSecurityConnector.RESTRICTED_TYPE_NAME));
+
+        List<EntityDetail> visibleAssets = verifier.validateUserForAssetsRead(USER_ID,
+                                                                              assets,
+                                                                              Collections.singletonList("zone1"),
+                                                                              repositoryHelper,
+                                                                              SERVICE_NAME,
+                                                                              METHOD_NAME);
+
+        assertEquals(visibleAssets.size(), 2);
+        assertEquals(visibleAssets.get(0).getGUID(), "guid1");
+        assertEquals(visibleAssets.get(1).getGUID(), "guid3");
+        assertEquals(CountingAssetSecurityConnector.zoneChecks.get(), 1);
+        assertEquals(CountingAssetSecurityConnector.readChecks.get(), 2);
+    }
+
+
+    @Test
+    public void testZoneChanges() throws Exception
+    {
+        List<String>       suppliedZones = new ArrayList<>(Collections.singletonList("zone1"));
+        List<EntityDetail> assets        = Collections.singletonList(getAsset("guid1", ASSET_TYPE));
+
+        assertEquals(verifier.validateUserForAssetsRead(USER_ID, assets, suppliedZones, repositoryHelper, SERVICE_NAME, METHOD_NAME).size(), 1);
+        assertEquals(verifier.validateUserForAssetsRead(USER_ID, assets, suppliedZones, repositoryHelper, SERVICE_NAME, METHOD_NAME).size(), 1);
+        assertEquals(CountingAssetSecurityConnector.zoneChecks.get(), 1);
+
+        /*
+         * Changing the caller's list, or the list the connector returned, must not change the cached zones.
+         */
+        CountingAssetSecurityConnector.lastZonesGiven.clear();
+        suppliedZones.set(0, "zone2");
+
+        assertEquals(verifier.validateUserForAssetsRead(USER_ID, assets, suppliedZones, repositoryHelper, SERVICE_NAME, METHOD_NAME).size(), 1);
+        assertEquals(CountingAssetSecurityConnector.zoneChecks.get(), 2);
+        assertEquals(verifier.validateUserForAssetsRead(USER_ID, assets, Collections.singletonList("zone1"), repositoryHelper, SERVICE_NAME, METHOD_NAME).size(), 1);
+        assertEquals(CountingAssetSecurityConnector.zoneChecks.get(), 2);
+
+        /*
+         * The restricted user has different zones, so the asset is not visible to them.
+         */
+        assertTrue(verifier.validateUserForAssetsRead(CountingAssetSecurityConnector.RESTRICTED_USER_ID,
+                                                      assets,
+                                                      suppliedZones,
+                                                      repositoryHelper,
+                                                      SERVICE_NAME,
+                                                      METHOD_NAME).isEmpty());
+        assertEquals(CountingAssetSecurityConnector.zoneChecks.get(), 3);
+
+        try
+        {
+            verifier.validateUserForAssetRead(CountingAssetSecurityConnector.RESTRICTED_USER_ID,
+                                              "guid1",
+                                              "guid",
+                                              assets.get(0),
+                                              suppliedZones,
+                                              repositoryHelper,
+                                              SERVICE_NAME,
+                                              METHOD_NAME);
+            fail("Asset outside the user's zones was visible");
+        }
+        catch (InvalidParameterException expected)
+        {
+            assertEquals(CountingAssetSecurityConnector.zoneChecks.get(), 3);
+        }
+    }
+
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception
+    {
+        EntityDetail frequentAsset = getAsset("frequent", ASSET_TYPE);
+
+        for (int count = 0; count < 10001; count++)
+        {
+            verifier.validateUserForAssetRead(USER_ID, "frequent", "guid", frequentAsset, null, repositoryHelper, SERVICE_NAME, METHOD_NAME);
+            verifier.validateUserForAssetRead(USER_ID, "other", "guid", getAsset("other", "Type" + count), null, repositoryHelper, SERVICE_NAME, METHOD_NAME);
+        }
+
+        assertEquals(CountingAssetSecurityConnector.readChecks.get(), 10002);
+
+        /*
+         * The first of the other types was the least recently used entry so it was discarded when the cache filled.
+         */
+        verifier.validateUserForAssetRead(USER_ID, "other", "guid", getAsset("other", "Type0"), null, repositoryHelper, SERVICE_NAME, METHOD_NAME);
+
+        assertEquals(CountingAssetSecurityConnector.readChecks.get(), 10003);
+    }
+
+
+    private UserNotAuthorizedException readRestrictedAsset(String assetGUID) throws Exception
+    {
+        try
+        {
+            verifier.validateUserForAssetRead(USER_ID,
+                                              assetGUID,
+                                              "guid",
+                                              getAsset(assetGUID, CountingAssetSecurityConnector.RESTRICTED_TYPE_NAME),
+                                              null,
+                                              repositoryHelper,
+                                              SERVICE_NAME,
+                                              METHOD_NAME);
+        }
+        catch (UserNotAuthorizedException rejection)
+        {
+            return rejection;
+        }
+
+        fail("Restricted asset " + assetGUID + " was visible");
+        return null;
+    }
+
+
+    private EntityDetail getAsset(String guid, String typeName)
+    {
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefGUID(typeName + "GUID");
+        instanceType.setTypeDefName(typeName);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(instanceType);
+        entity.setStatus(InstanceStatus.ACTIVE);
+
+        return entity;
+    }
+
+
+    private Connection getConnection(Long decisionCacheTimeToLive)
+    {
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setConnectorProviderClassName(CountingAssetSecurityProvider.class.getName());
+
+        Connection connection = new Connection();
+        connection.setConnectorType(connectorType);
+
+        if (decisionCacheTimeToLive != null)
+        {
+            Map<String, Object> configurationProperties = new HashMap<>();
+            configurationProperties.put("decisionCacheTimeToLive", decisionCacheTimeToLive);
+            connection.setConfigurationProperties(configurationProperties);
+        }
+
+        return connection;
+    }
+}
@@ -0,0 +1,108 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AssetUniverseFacet identifies the groups of elements attached to an asset that can be returned, along with
+ * the asset, in a single asset universe request.  Facets that are not requested are only returned as counts.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum AssetUniverseFacet implements Serializable
+{
+    CERTIFICATIONS           (0,  "Certifications", "Certifications awarded to the asset."),
+    COMMENTS                 (1,  "Comments", "Comments attached directly to the asset along with the count of their replies."),
+    CONNECTIONS              (2,  "Connections", "Connections used to access the asset."),
+    EXTERNAL_IDENTIFIERS     (3,  "External Identifiers", "Identifiers used for the asset in third party systems."),
+    EXTERNAL_REFERENCES      (4,  "External References", "Links to more information about the asset."),
+    INFORMAL_TAGS            (5,  "Informal Tags", "Informal tags attached to the asset."),
+    LICENSES                 (6,  "Licenses", "Licenses granted for the asset."),
+    LIKES                    (7,  "Likes", "Likes attached to the asset."),
+    KNOWN_LOCATIONS          (8,  "Known Locations", "Locations where the asset is found."),
+    NOTE_LOGS                (9,  "Note Logs", "Note logs attached to the asset along with the count of their notes."),
+    RATINGS                  (10, "Ratings", "Ratings (reviews) of the asset."),
+    RELATED_ASSETS           (11, "Related Assets", "Other assets linked to the asset."),
+    RELATED_MEDIA_REFERENCES (12, "Related Media References", "Images, videos and other media describing the asset.");
+
+    private static final long     serialVersionUID = 1L;
+
+    private int    ordinal;
+    private String name;
+    private String description;
+
+
+    /**
+     * Constructor to set up the instance of this enum.
+     *
+     * @param ordinal code number
+     * @param name default name
+     * @param description default description
+     */
+    AssetUniverseFacet(int    ordinal,
+                       String name,
+                       String description)
+    {
+        this.ordinal     = ordinal;
+        this.name        = name;
+        this.description = description;
+    }
+
+
+    /**
+     * Return the code for this enum instance
+     *
+     * @return int code
+     */
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * Return the default name for this enum instance.
+     *
+     * @return String default name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the default description for this enum instance.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "AssetUniverseFacet{" +
+                "ordinal=" + ordinal +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,616 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * AssetUniverseResponse is the response structure used on the REST API call that returns an asset with the
+ * first page of each of the requested groups of attached elements (facets).  The counts inherited from
+ * AssetResponse give the total number of elements in each facet so that the caller can retrieve any
+ * remaining elements a page at a time.  A facet that was not requested (or is empty) has a null list.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AssetUniverseResponse extends AssetResponse
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<Certification>         certifications         = null;
+    private List<CommentResponse>       comments               = null;
+    private List<Connection>            connections            = null;
+    private List<ExternalIdentifier>    externalIdentifiers    = null;
+    private List<ExternalReference>     externalReferences     = null;
+    private List<InformalTag>           informalTags           = null;
+    private List<License>               licenses               = null;
+    private List<Like>                  likes                  = null;
+    private List<Location>              knownLocations         = null;
+    private List<NoteLogResponse>       noteLogs               = null;
+    private List<Rating>                ratings                = null;
+    private List<RelatedAsset>          relatedAssets          = null;
+    private List<RelatedMediaReference> relatedMediaReferences = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AssetUniverseResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public AssetUniverseResponse(AssetUniverseResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.certifications         = template.getCertifications();
+            this.comments               = template.getComments();
+            this.connections            = template.getConnections();
+            this.externalIdentifiers    = template.getExternalIdentifiers();
+            this.externalReferences     = template.getExternalReferences();
+            this.informalTags           = template.getInformalTags();
+            this.licenses               = template.getLicenses();
+            this.likes                  = template.getLikes();
+            this.knownLocations         = template.getKnownLocations();
+            this.noteLogs               = template.getNoteLogs();
+            this.ratings                = template.getRatings();
+            this.relatedAssets          = template.getRelatedAssets();
+            this.relatedMediaReferences = template.getRelatedMediaReferences();
+        }
+    }
+
+
+    /**
+     * Return the first page of certifications awarded to the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<Certification> getCertifications()
+    {
+        if (certifications == null)
+        {
+            return null;
+        }
+        else if (certifications.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(certifications);
+        }
+    }
+
+
+    /**
+     * Set up the first page of certifications awarded to the asset.
+     *
+     * @param certifications list of elements
+     */
+    public void setCertifications(List<Certification> certifications)
+    {
+        this.certifications = certifications;
+    }
+
+
+    /**
+     * Return the first page of comments attached to the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<CommentResponse> getComments()
+    {
+        if (comments == null)
+        {
+            return null;
+        }
+        else if (comments.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(comments);
+        }
+    }
+
+
+    /**
+     * Set up the first page of comments attached to the asset.
+     *
+     * @param comments list of elements
+     */
+    public void setComments(List<CommentResponse> comments)
+    {
+        this.comments = comments;
+    }
+
+
+    /**
+     * Return the first page of connections for the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<Connection> getConnections()
+    {
+        if (connections == null)
+        {
+            return null;
+        }
+        else if (connections.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(connections);
+        }
+    }
+
+
+    /**
+     * Set up the first page of connections for the asset.
+     *
+     * @param connections list of elements
+     */
+    public void setConnections(List<Connection> connections)
+    {
+        this.connections = connections;
+    }
+
+
+    /**
+     * Return the first page of external identifiers for the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<ExternalIdentifier> getExternalIdentifiers()
+    {
+        if (externalIdentifiers == null)
+        {
+            return null;
+        }
+        else if (externalIdentifiers.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(externalIdentifiers);
+        }
+    }
+
+
+    /**
+     * Set up the first page of external identifiers for the asset.
+     *
+     * @param externalIdentifiers list of elements
+     */
+    public void setExternalIdentifiers(List<ExternalIdentifier> externalIdentifiers)
+    {
+        this.externalIdentifiers = externalIdentifiers;
+    }
+
+
+    /**
+     * Return the first page of external references for the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<ExternalReference> getExternalReferences()
+    {
+        if (externalReferences == null)
+        {
+            return null;
+        }
+        else if (externalReferences.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(externalReferences);
+        }
+    }
+
+
+    /**
+     * Set up the first page of external references for the asset.
+     *
+     * @param externalReferences list of elements
+     */
+    public void setExternalReferences(List<ExternalReference> externalReferences)
+    {
+        this.externalReferences = externalReferences;
+    }
+
+
+    /**
+     * Return the first page of informal tags attached to the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<InformalTag> getInformalTags()
+    {
+        if (informalTags == null)
+        {
+            return null;
+        }
+        else if (informalTags.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(informalTags);
+        }
+    }
+
+
+    /**
+     * Set up the first page of informal tags attached to the asset.
+     *
+     * @param informalTags list of elements
+     */
+    public void setInformalTags(List<InformalTag> informalTags)
+    {
+        this.informalTags = informalTags;
+    }
+
+
+    /**
+     * Return the first page of licenses for the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<License> getLicenses()
+    {
+        if (licenses == null)
+        {
+            return null;
+        }
+        else if (licenses.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(licenses);
+        }
+    }
+
+
+    /**
+     * Set up the first page of licenses for the asset.
+     *
+     * @param licenses list of elements
+     */
+    public void setLicenses(List<License> licenses)
+    {
+        this.licenses = licenses;
+    }
+
+
+    /**
+     * Return the first page of likes attached to the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<Like> getLikes()
+    {
+        if (likes == null)
+        {
+            return null;
+        }
+        else if (likes.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(likes);
+        }
+    }
+
+
+    /**
+     * Set up the first page of likes attached to the asset.
+     *
+     * @param likes list of elements
+     */
+    public void setLikes(List<Like> likes)
+    {
+        this.likes = likes;
+    }
+
+
+    /**
+     * Return the first page of known locations of the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<Location> getKnownLocations()
+    {
+        if (knownLocations == null)
+        {
+            return null;
+        }
+        else if (knownLocations.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(knownLocations);
+        }
+    }
+
+
+    /**
+     * Set up the first page of known locations of the asset.
+     *
+     * @param knownLocations list of elements
+     */
+    public void setKnownLocations(List<Location> knownLocations)
+    {
+        this.knownLocations = knownLocations;
+    }
+
+
+    /**
+     * Return the first page of note logs attached to the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<NoteLogResponse> getNoteLogs()
+    {
+        if (noteLogs == null)
+        {
+            return null;
+        }
+        else if (noteLogs.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(noteLogs);
+        }
+    }
+
+
+    /**
+     * Set up the first page of note logs attached to the asset.
+     *
+     * @param noteLogs list of elements
+     */
+    public void setNoteLogs(List<NoteLogResponse> noteLogs)
+    {
+        this.noteLogs = noteLogs;
+    }
+
+
+    /**
+     * Return the first page of ratings attached to the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<Rating> getRatings()
+    {
+        if (ratings == null)
+        {
+            return null;
+        }
+        else if (ratings.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(ratings);
+        }
+    }
+
+
+    /**
+     * Set up the first page of ratings attached to the asset.
+     *
+     * @param ratings list of elements
+     */
+    public void setRatings(List<Rating> ratings)
+    {
+        this.ratings = ratings;
+    }
+
+
+    /**
+     * Return the first page of assets related to the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<RelatedAsset> getRelatedAssets()
+    {
+        if (relatedAssets == null)
+        {
+            return null;
+        }
+        else if (relatedAssets.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(relatedAssets);
+        }
+    }
+
+
+    /**
+     * Set up the first page of assets related to the asset.
+     *
+     * @param relatedAssets list of elements
+     */
+    public void setRelatedAssets(List<RelatedAsset> relatedAssets)
+    {
+        this.relatedAssets = relatedAssets;
+    }
+
+
+    /**
+     * Return the first page of related media references for the asset.
+     *
+     * @return list of elements or null if this facet was not requested or is empty
+     */
+    public List<RelatedMediaReference> getRelatedMediaReferences()
+    {
+        if (relatedMediaReferences == null)
+        {
+            return null;
+        }
+        else if (relatedMediaReferences.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(relatedMediaReferences);
+        }
+    }
+
+
+    /**
+     * Set up the first page of related media references for the asset.
+     *
+     * @param relatedMediaReferences list of elements
+     */
+    public void setRelatedMediaReferences(List<RelatedMediaReference> relatedMediaReferences)
+    {
+        this.relatedMediaReferences = relatedMediaReferences;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "AssetUniverseResponse{" +
+                "asset=" + getAsset() +
+                ", certifications=" + certifications +
+                ", comments=" + comments +
+                ", connections=" + connections +
+                ", externalIdentifiers=" + externalIdentifiers +
+                ", externalReferences=" + externalReferences +
+                ", informalTags=" + informalTags +
+                ", licenses=" + licenses +
+                ", likes=" + likes +
+                ", knownLocations=" + knownLocations +
+                ", noteLogs=" + noteLogs +
+                ", ratings=" + ratings +
+                ", relatedAssets=" + relatedAssets +
+                ", relatedMediaReferences=" + relatedMediaReferences +
+                ", certificationCount=" + getCertificationCount() +
+                ", commentCount=" + getCommentCount() +
+                ", connectionCount=" + getConnectionCount() +
+                ", externalIdentifierCount=" + getExternalIdentifierCount() +
+                ", externalReferencesCount=" + getExternalReferencesCount() +
+                ", informalTagCount=" + getInformalTagCount() +
+                ", licenseCount=" + getLicenseCount() +
+                ", likeCount=" + getLikeCount() +
+                ", knownLocationsCount=" + getKnownLocationsCount() +
+                ", noteLogsCount=" + getNoteLogsCount() +
+                ", ratingsCount=" + getRatingsCount() +
+                ", relatedAssetCount=" + getRelatedAssetCount() +
+                ", relatedMediaReferenceCount=" + getRelatedMediaReferenceCount() +
+                ", schemaType=" + getSchemaType() +
+                ", lastAttachment=" + getLastAttachment() +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        AssetUniverseResponse that = (AssetUniverseResponse) objectToCompare;
+        return Objects.equals(getCertifications(), that.getCertifications()) &&
+                Objects.equals(getComments(), that.getComments()) &&
+                Objects.equals(getConnections(), that.getConnections()) &&
+                Objects.equals(getExternalIdentifiers(), that.getExternalIdentifiers()) &&
+                Objects.equals(getExternalReferences(), that.getExternalReferences()) &&
+                Objects.equals(getInformalTags(), that.getInformalTags()) &&
+                Objects.equals(getLicenses(), that.getLicenses()) &&
+                Objects.equals(getLikes(), that.getLikes()) &&
+                Objects.equals(getKnownLocations(), that.getKnownLocations()) &&
+                Objects.equals(getNoteLogs(), that.getNoteLogs()) &&
+                Objects.equals(getRatings(), that.getRatings()) &&
+                Objects.equals(getRelatedAssets(), that.getRelatedAssets()) &&
+                Objects.equals(getRelatedMediaReferences(), that.getRelatedMediaReferences());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getCertifications(), getComments(), getConnections(), getExternalIdentifiers(),
+                            getExternalReferences(), getInformalTags(), getLicenses(), getLikes(),
+                            getKnownLocations(), getNoteLogs(), getRatings(), getRelatedAssets(),
+                            getRelatedMediaReferences());
+    }
+}
@@ -24,6 +24,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
         {
                 @JsonSubTypes.Type(value = PagedResponse.class, name = "PagedResponse"),
                 @JsonSubTypes.Type(value = AssetResponse.class, name = "AssetResponse"),
+                @JsonSubTypes.Type(value = AssetUniverseResponse.class, name = "AssetUniverseResponse"),
                 @JsonSubTypes.Type(value = CommentResponse.class, name = "CommentResponse"),
                 @JsonSubTypes.Type(value = MeaningResponse.class, name = "MeaningResponse"),
                 @JsonSubTypes.Type(value = NoteLogResponse.class, name = "NoteLogResponse"),
@@ -132,25 +132,7 @@ public class ConnectedAssetRatings extends Ratings
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<Rating>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (Rating  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new Rating(bean));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -159,4 +141,44 @@ public class ConnectedAssetRatings extends Ratings
 
         return null;
     }
+
+
+    /**
+     * Convert the beans returned from the server into the elements stored in the iterator's cache.
+     *
+     * @param beans beans returned from the server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<Rating> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (Rating  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new Rating(bean));
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
+    /**
+     * Prime the cache with the first page of elements that was retrieved along with the asset.
+     *
+     * @param firstPage elements at the start of the list
+     */
+    void setFirstPage(List<Rating> firstPage)
+    {
+        super.setInitialCachedList(this.getElementList(firstPage));
+    }
 }
@@ -3,8 +3,10 @@
 package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client;
 
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.ffdc.OMAGCommonErrorCode;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetResponse;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetUniverseResponse;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
@@ -19,9 +21,11 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
  * with the information necessary to populate the AssetUniverse contents from the open metadata
  * repositories.
  * 
- * All of ConnectedAssetUniverse's work is done in the constructors.  They extract basic information
- * about the asset and push objects to the super class to retrieve the more detailed properties.
- * These properties are only retrieved on demand.
+ * All of ConnectedAssetUniverse's work is done in the constructors.  They retrieve the asset along with
+ * the first page of each group of attached elements in a single call and push objects to the super class
+ * to retrieve any further elements.  These further elements are only retrieved on demand.  A server that does
+ * not support this call is asked for the asset summary instead and all of the attached elements are retrieved
+ * on demand.
  */
 public class ConnectedAssetUniverse extends AssetUniverse
 {
@@ -59,7 +63,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
         super();
 
         OCFRESTClient restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
-        AssetResponse assetResponse = this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        AssetResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -101,9 +105,8 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        OCFRESTClient
-                      restClient    = new OCFRESTClient(remoteServerName, omasServerURL, localServerUserId, localServerPassword);
-        AssetResponse assetResponse = this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        OCFRESTClient restClient    = new OCFRESTClient(remoteServerName, omasServerURL, localServerUserId, localServerPassword);
+        AssetResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -140,7 +143,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        AssetResponse assetResponse = this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        AssetResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -180,7 +183,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
         super();
 
         OCFRESTClient restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
-        AssetResponse assetResponse = this.getConnectedAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
+        AssetResponse assetResponse = this.getConnectedAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -227,13 +230,13 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                         omasServerURL,
                                                         localServerUserId,
                                                         localServerPassword);
-        AssetResponse assetResponse = this.getConnectedAssetSummary(serviceName,
-                                                                    remoteServerName,
-                                                                    omasServerURL,
-                                                                    restClient,
-                                                                    userId,
-                                                                    assetGUID,
-                                                                    connectionGUID);
+        AssetResponse assetResponse = this.getConnectedAssetUniverse(serviceName,
+                                                                     remoteServerName,
+                                                                     omasServerURL,
+                                                                     restClient,
+                                                                     userId,
+                                                                     assetGUID,
+                                                                     connectionGUID);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -246,7 +249,9 @@ public class ConnectedAssetUniverse extends AssetUniverse
 
 
     /**
-     * Extract the returned properties from AssetResponse and set up the superclass.
+     * Extract the returned properties from the asset response and set up the superclass.  If the response
+     * is an AssetUniverseResponse, the first page of each group of attached elements is passed to the iterators
+     * so that they only call the server if the caller steps beyond it.
      *
      * @param serviceName calling service
      * @param remoteServerName server to call.
@@ -254,123 +259,160 @@ public class ConnectedAssetUniverse extends AssetUniverse
      * @param userId userId of calling user.
      * @param assetGUID unique identifier of the asset.
      * @param restClient client to issue REST call.
-     * @param assetResponse response from the server covering the basic asset properties and the
-     *                      counts of objects attached to it.
+     * @param assetResponse response from the server covering the basic asset properties, the
+     *                      counts of objects attached to it and possibly the first page of these objects.
      */
-    private void  processAssetResponse(String           serviceName,
-                                       String           remoteServerName,
-                                       String           omasServerURL,
-                                       String           userId,
-                                       String           assetGUID,
-                                       OCFRESTClient    restClient,
-                                       AssetResponse    assetResponse)
+    private void  processAssetResponse(String        serviceName,
+                                       String        remoteServerName,
+                                       String        omasServerURL,
+                                       String        userId,
+                                       String        assetGUID,
+                                       OCFRESTClient restClient,
+                                       AssetResponse assetResponse)
     {
+        AssetUniverseResponse firstPages = new AssetUniverseResponse();
+
+        if (assetResponse instanceof AssetUniverseResponse)
+        {
+            firstPages = (AssetUniverseResponse)assetResponse;
+        }
+
         if (assetResponse.getExternalIdentifierCount() > 0)
         {
-            super.externalIdentifiers = new ConnectedExternalIdentifiers(serviceName,
-                                                                         remoteServerName,
-                                                                         userId,
-                                                                         omasServerURL,
-                                                                         assetGUID,
-                                                                         assetResponse.getExternalIdentifierCount(),
-                                                                         MAX_CACHE_SIZE,
-                                                                         restClient);
+            ConnectedExternalIdentifiers connectedExternalIdentifiers = new ConnectedExternalIdentifiers(serviceName,
+                                                                                                         remoteServerName,
+                                                                                                         userId,
+                                                                                                         omasServerURL,
+                                                                                                         assetGUID,
+                                                                                                         assetResponse.getExternalIdentifierCount(),
+                                                                                                         MAX_CACHE_SIZE,
+                                                                                                         restClient);
+
+            connectedExternalIdentifiers.setFirstPage(firstPages.getExternalIdentifiers());
+            super.externalIdentifiers = connectedExternalIdentifiers;
         }
 
         if (assetResponse.getRelatedMediaReferenceCount() > 0)
         {
-            super.relatedMediaReferences = new ConnectedRelatedMediaReferences(serviceName,
-                                                                               remoteServerName,
-                                                                               userId,
-                                                                               omasServerURL,
-                                                                               assetGUID,
-                                                                               assetResponse.getRelatedMediaReferenceCount(),
-                                                                               MAX_CACHE_SIZE,
-                                                                               restClient);
+            ConnectedRelatedMediaReferences connectedRelatedMediaReferences = new ConnectedRelatedMediaReferences(serviceName,
+                                                                                                                  remoteServerName,
+                                                                                                                  userId,
+                                                                                                                  omasServerURL,
+                                                                                                                  assetGUID,
+                                                                                                                  assetResponse.getRelatedMediaReferenceCount(),
+                                                                                                                  MAX_CACHE_SIZE,
+                                                                                                                  restClient);
+
+            connectedRelatedMediaReferences.setFirstPage(firstPages.getRelatedMediaReferences());
+            super.relatedMediaReferences = connectedRelatedMediaReferences;
         }
 
         if (assetResponse.getNoteLogsCount() > 0)
         {
-            super.noteLogs = new ConnectedNoteLogs(serviceName,
-                                                   remoteServerName,
-                                                   userId,
-                                                   omasServerURL,
-                                                   assetGUID,
-                                                   assetResponse.getNoteLogsCount(),
-                                                   MAX_CACHE_SIZE,
-                                                   restClient);
+            ConnectedNoteLogs connectedNoteLogs = new ConnectedNoteLogs(serviceName,
+                                                                        remoteServerName,
+                                                                        userId,
+                                                                        omasServerURL,
+                                                                        assetGUID,
+                                                                        assetResponse.getNoteLogsCount(),
+                                                                        MAX_CACHE_SIZE,
+                                                                        restClient);
+
+            connectedNoteLogs.setFirstPage(firstPages.getNoteLogs(), MAX_CACHE_SIZE);
+            super.noteLogs = connectedNoteLogs;
         }
 
         if (assetResponse.getExternalReferencesCount() > 0)
         {
-            super.externalReferences = new ConnectedExternalReferences(serviceName,
-                                                                       remoteServerName,
-                                                                       userId,
-                                                                       omasServerURL,
-                                                                       assetGUID,
-                                                                       assetResponse.getExternalReferencesCount(),
-                                                                       MAX_CACHE_SIZE,
-                                                                       restClient);
+            ConnectedExternalReferences connectedExternalReferences = new ConnectedExternalReferences(serviceName,
+                                                                                                      remoteServerName,
+                                                                                                      userId,
+                                                                                                      omasServerURL,
+                                                                                                      assetGUID,
+                                                                                                      assetResponse.getExternalReferencesCount(),
+                                                                                                      MAX_CACHE_SIZE,
+                                                                                                      restClient);
+
+            connectedExternalReferences.setFirstPage(firstPages.getExternalReferences());
+            super.externalReferences = connectedExternalReferences;
         }
 
         if (assetResponse.getConnectionCount() > 0)
         {
-            super.connections = new ConnectedConnections(serviceName,
-                                                         remoteServerName,
-                                                         userId,
-                                                         omasServerURL,
-                                                         assetGUID,
-                                                         assetResponse.getConnectionCount(),
-                                                         MAX_CACHE_SIZE,
-                                                         restClient);
+            ConnectedConnections connectedConnections = new ConnectedConnections(serviceName,
+                                                                                 remoteServerName,
+                                                                                 userId,
+                                                                                 omasServerURL,
+                                                                                 assetGUID,
+                                                                                 assetResponse.getConnectionCount(),
+                                                                                 MAX_CACHE_SIZE,
+                                                                                 restClient);
+
+            connectedConnections.setFirstPage(firstPages.getConnections());
+            super.connections = connectedConnections;
         }
 
         if (assetResponse.getLicenseCount() > 0)
         {
-            super.licenses = new ConnectedLicenses(serviceName,
-                                                   remoteServerName,
-                                                   userId,
-                                                   omasServerURL,
-                                                   assetGUID,
-                                                   assetResponse.getLicenseCount(),
-                                                   MAX_CACHE_SIZE,
-                                                   restClient);
+            ConnectedLicenses connectedLicenses = new ConnectedLicenses(serviceName,
+                                                                        remoteServerName,
+                                                                        userId,
+                                                                        omasServerURL,
+                                                                        assetGUID,
+                                                                        assetResponse.getLicenseCount(),
+                                                                        MAX_CACHE_SIZE,
+                                                                        restClient);
+
+            connectedLicenses.setFirstPage(firstPages.getLicenses());
+            super.licenses = connectedLicenses;
         }
 
         if (assetResponse.getCertificationCount() > 0)
         {
-            super.certifications = new ConnectedCertifications(serviceName,
-                                                               remoteServerName,
-                                                               userId,
-                                                               omasServerURL,
-                                                               assetGUID,
-                                                               assetResponse.getCertificationCount(),
-                                                               MAX_CACHE_SIZE,
-                                                               restClient);
+            ConnectedCertifications connectedCertifications = new ConnectedCertifications(serviceName,
+                                                                                          remoteServerName,
+                                                                                          userId,
+                                                                                          omasServerURL,
+                                                                                          assetGUID,
+                                                                                          assetResponse.getCertificationCount(),
+                                                                                          MAX_CACHE_SIZE,
+                                                                                          restClient);
+
+            connectedCertifications.setFirstPage(firstPages.getCertifications());
+            super.certifications = connectedCertifications;
         }
 
-        super.feedback = new ConnectedFeedback(serviceName,
-                                               remoteServerName,
-                                               userId,
-                                               omasServerURL,
-                                               assetGUID,
-                                               assetResponse.getCommentCount(),
-                                               assetResponse.getLikeCount(),
-                                               assetResponse.getRatingsCount(),
-                                               assetResponse.getInformalTagCount(),
-                                               MAX_CACHE_SIZE,
-                                               restClient);
+        ConnectedFeedback connectedFeedback = new ConnectedFeedback(serviceName,
+                                                                    remoteServerName,
+                                                                    userId,
+                                                                    omasServerURL,
+                                                                    assetGUID,
+                                                                    assetResponse.getCommentCount(),
+                                                                    assetResponse.getLikeCount(),
+                                                                    assetResponse.getRatingsCount(),
+                                                                    assetResponse.getInformalTagCount(),
+                                                                    MAX_CACHE_SIZE,
+                                                                    restClient);
+
+        connectedFeedback.setFirstPages(firstPages.getComments(),
+                                        firstPages.getLikes(),
+                                        firstPages.getRatings(),
+                                        firstPages.getInformalTags());
+        super.feedback = connectedFeedback;
 
         if (assetResponse.getKnownLocationsCount() > 0)
         {
-            super.knownLocations = new ConnectedLocations(serviceName,
-                                                          remoteServerName,
-                                                          userId,
-                                                          omasServerURL,
-                                                          assetGUID,
-                                                          assetResponse.getKnownLocationsCount(),
-                                                          MAX_CACHE_SIZE,
-                                                          restClient);
+            ConnectedLocations connectedLocations = new ConnectedLocations(serviceName,
+                                                                           remoteServerName,
+                                                                           userId,
+                                                                           omasServerURL,
+                                                                           assetGUID,
+                                                                           assetResponse.getKnownLocationsCount(),
+                                                                           MAX_CACHE_SIZE,
+                                                                           restClient);
+
+            connectedLocations.setFirstPage(firstPages.getKnownLocations());
+            super.knownLocations = connectedLocations;
         }
 
         super.lineage = new ConnectedAssetLineage(serviceName,
@@ -383,14 +425,17 @@ public class ConnectedAssetUniverse extends AssetUniverse
 
         if (assetResponse.getRelatedAssetCount() > 0)
         {
-            super.relatedAssets = new ConnectedRelatedAssets(serviceName,
-                                                             remoteServerName,
-                                                             userId,
-                                                             omasServerURL,
-                                                             assetGUID,
-                                                             assetResponse.getRelatedAssetCount(),
-                                                             MAX_CACHE_SIZE,
-                                                             restClient);
+            ConnectedRelatedAssets connectedRelatedAssets = new ConnectedRelatedAssets(serviceName,
+                                                                                       remoteServerName,
+                                                                                       userId,
+                                                                                       omasServerURL,
+                                                                                       assetGUID,
+                                                                                       assetResponse.getRelatedAssetCount(),
+                                                                                       MAX_CACHE_SIZE,
+                                                                                       restClient);
+
+            connectedRelatedAssets.setFirstPage(firstPages.getRelatedAssets());
+            super.relatedAssets = connectedRelatedAssets;
         }
 
         if (assetResponse.getSchemaType() != null)
@@ -406,8 +451,165 @@ public class ConnectedAssetUniverse extends AssetUniverse
 
 
     /**
-     * Returns the basic information about the asset.  The connection guid allows the short description for the
-     * asset to be filled out.
+     * Returns the basic information about the asset along with the first page of each group of elements
+     * attached to it.  The connection guid allows the short description for the asset to be filled out.
+     * If the server does not support this call, the asset summary is returned instead.
+     *
+     * @param serviceName calling service
+     * @param remoteServerName  name of the server.
+     * @param omasServerURL  url used to call the server.
+     * @param restClient client to call REST API
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset.
+     *
+     * @return a bean with the properties about the asset.
+     * @throws InvalidParameterException the asset GUID is null or invalid.
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private AssetResponse getConnectedAssetUniverse(String        serviceName,
+                                                    String        remoteServerName,
+                                                    String        omasServerURL,
+                                                    OCFRESTClient restClient,
+                                                    String        userId,
+                                                    String        assetGUID,
+                                                    String        connectionGUID) throws InvalidParameterException,
+                                                                                         PropertyServerException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String   methodName = "getConnectedAssetUniverse";
+        final String   urlTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}/via-connection/{4}/universe?maxElements={5}";
+
+        invalidParameterHandler.validateOMAGServerPlatformURL(omasServerURL, remoteServerName, methodName);
+
+        AssetUniverseResponse  restResult = null;
+
+        try
+        {
+            restResult = restClient.callOCFAssetUniverseGetRESTCall(methodName,
+                                                                    omasServerURL + urlTemplate,
+                                                                    remoteServerName,
+                                                                    serviceName,
+                                                                    userId,
+                                                                    assetGUID,
+                                                                    connectionGUID,
+                                                                    MAX_CACHE_SIZE);
+
+            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+        }
+        catch (PropertyServerException error)
+        {
+            if (isRESTCallFailure(error))
+            {
+                return this.getConnectedAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
+            }
+
+            throw error;
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException error)
+        {
+            throw error;
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.handleUnexpectedException(error, methodName, remoteServerName, omasServerURL);
+        }
+
+        return restResult;
+    }
+
+
+    /**
+     * Returns the basic information about the asset along with the first page of each group of elements
+     * attached to it.  Note shortDescription is null in the returned asset because there is no linked
+     * connection object.  If the server does not support this call, the asset summary is returned instead.
+     *
+     * @param serviceName calling service
+     * @param remoteServerName  name of the server.
+     * @param omasServerURL  url used to call the server.
+     * @param restClient client to call REST API
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     *
+     * @return a bean with the properties about the asset.
+     * @throws InvalidParameterException the asset GUID is null or invalid.
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private AssetResponse getAssetUniverse(String        serviceName,
+                                           String        remoteServerName,
+                                           String        omasServerURL,
+                                           OCFRESTClient restClient,
+                                           String        userId,
+                                           String        assetGUID) throws InvalidParameterException,
+                                                                           PropertyServerException,
+                                                                           UserNotAuthorizedException
+    {
+        final String   methodName = "getAssetUniverse";
+        final String   urlTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}/universe?maxElements={4}";
+        
+        invalidParameterHandler.validateOMAGServerPlatformURL(omasServerURL, remoteServerName, methodName);
+
+        AssetUniverseResponse  restResult = null;
+
+        try
+        {
+            restResult = restClient.callOCFAssetUniverseGetRESTCall(methodName,
+                                                                    omasServerURL + urlTemplate,
+                                                                    remoteServerName,
+                                                                    serviceName,
+                                                                    userId,
+                                                                    assetGUID,
+                                                                    MAX_CACHE_SIZE);
+
+            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+        }
+        catch (PropertyServerException error)
+        {
+            if (isRESTCallFailure(error))
+            {
+                return this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+            }
+
+            throw error;
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException error)
+        {
+            throw error;
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.handleUnexpectedException(error, methodName, remoteServerName, omasServerURL);
+        }
+
+        return restResult;
+    }
+
+
+    /**
+     * Determine whether an exception reports that the REST call itself failed rather than an error returned by the
+     * server.  This is how a call to a server that does not have the requested URL is reported, since the server
+     * platform returns HTTP 404 (not found) or 405 (method not allowed).  If the server is not reachable at all,
+     * the call that is issued in its place fails in the same way.
+     *
+     * @param error exception from the REST call
+     * @return boolean flag
+     */
+    private boolean isRESTCallFailure(PropertyServerException error)
+    {
+        return OMAGCommonErrorCode.CLIENT_SIDE_REST_API_ERROR.getMessageDefinition().getMessageId().equals(error.getReportedErrorMessageId());
+    }
+
+
+    /**
+     * Returns the basic information about the asset and the counts of the elements attached to it.  This call is
+     * supported by servers that do not support getConnectedAssetUniverse.  The connection guid allows the short
+     * description for the asset to be filled out.
      *
      * @param serviceName calling service
      * @param remoteServerName  name of the server.
@@ -435,8 +637,6 @@ public class ConnectedAssetUniverse extends AssetUniverse
         final String   methodName = "getConnectedAssetSummary";
         final String   urlTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}/via-connection/{4}";
 
-        invalidParameterHandler.validateOMAGServerPlatformURL(omasServerURL, remoteServerName, methodName);
-
         AssetResponse  restResult = null;
 
         try
@@ -467,8 +667,9 @@ public class ConnectedAssetUniverse extends AssetUniverse
 
 
     /**
-     * Returns the basic information about the asset.  Note shortDescription is null in the returned asset because
-     * there is no linked connection object.
+     * Returns the basic information about the asset and the counts of the elements attached to it.  This call is
+     * supported by servers that do not support getAssetUniverse.  Note shortDescription is null in the returned
+     * asset because there is no linked connection object.
      *
      * @param serviceName calling service
      * @param remoteServerName  name of the server.
@@ -493,8 +694,6 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         final String   methodName = "getAssetSummary";
         final String   urlTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}";
-        
-        invalidParameterHandler.validateOMAGServerPlatformURL(omasServerURL, remoteServerName, methodName);
 
         AssetResponse  restResult = null;
 
@@ -145,25 +145,7 @@ class ConnectedCertifications extends Certifications
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<Certification>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (Certification  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new Certification(bean));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -172,4 +154,44 @@ class ConnectedCertifications extends Certifications
 
         return null;
     }
+
+
+    /**
+     * Convert the beans returned from the server into the elements stored in the iterator's cache.
+     *
+     * @param beans beans returned from the server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<Certification> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (Certification  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new Certification(bean));
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
+    /**
+     * Prime the cache with the first page of elements that was retrieved along with the asset.
+     *
+     * @param firstPage elements at the start of the list
+     */
+    void setFirstPage(List<Certification> firstPage)
+    {
+        super.setInitialCachedList(this.getElementList(firstPage));
+    }
 }
@@ -159,49 +159,71 @@ public class ConnectedComments extends Comments
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<CommentResponse> Responses = restResult.getList();
-            if ((Responses == null) || (Responses.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
+            return this.getElementList(restResult.getList());
+        }
+        catch (Exception  error)
+        {
+            restExceptionHandler.handleUnexpectedException(error, methodName, serverName, omasServerURL);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Convert the beans returned from the server into the elements stored in the iterator's cache.
+     *
+     * @param commentResponses beans returned from the server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<CommentResponse> commentResponses)
+    {
+        if ((commentResponses == null) || (commentResponses.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
 
-                for (CommentResponse  commentResponse : Responses)
+            for (CommentResponse  commentResponse : commentResponses)
+            {
+                if (commentResponse != null)
                 {
-                    if (commentResponse != null)
+                    Comment                 bean           = commentResponse.getComment();
+                    ConnectedCommentReplies commentReplies = null;
+
+                    if (commentResponse.getReplyCount() > 0)
                     {
-                        Comment                 bean           = commentResponse.getComment();
-                        ConnectedCommentReplies commentReplies = null;
-
-                        if (commentResponse.getReplyCount() > 0)
-                        {
-                            commentReplies = new ConnectedCommentReplies(serviceName,
-                                                                         serverName,
-                                                                         userId,
-                                                                         omasServerURL,
-                                                                         bean.getGUID(),
-                                                                         commentResponse.getReplyCount(),
-                                                                         maxCacheSize,
-                                                                         restClient);
-                        }
-
-                        /*
-                         * Note replies are ignored - but can be extracted through the Asset Consumer OMAS
-                         */
-                        resultList.add(new CommentConversation(bean, commentReplies));
+                        commentReplies = new ConnectedCommentReplies(serviceName,
+                                                                     serverName,
+                                                                     userId,
+                                                                     omasServerURL,
+                                                                     bean.getGUID(),
+                                                                     commentResponse.getReplyCount(),
+                                                                     maxCacheSize,
+                                                                     restClient);
                     }
-                }
 
-                return resultList;
+                    /*
+                     * Note replies are ignored - but can be extracted through the Asset Consumer OMAS
+                     */
+                    resultList.add(new CommentConversation(bean, commentReplies));
+                }
             }
+
+            return resultList;
         }
-        catch (Exception  error)
-        {
-            restExceptionHandler.handleUnexpectedException(error, methodName, serverName, omasServerURL);
-        }
+    }
 
-        return null;
+
+    /**
+     * Prime the cache with the first page of elements that was retrieved along with the asset.
+     *
+     * @param firstPage elements at the start of the list
+     */
+    void setFirstPage(List<CommentResponse> firstPage)
+    {
+        super.setInitialCachedList(this.getElementList(firstPage));
     }
 }
@@ -130,25 +130,7 @@ public class ConnectedConnections extends Connections
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<Connection>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (Connection  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(bean);
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -157,4 +139,44 @@ public class ConnectedConnections extends Connections
 
         return null;
     }
+
+
+    /**
+     * Convert the beans returned from the server into the elements stored in the iterator's cache.
+     *
+     * @param beans beans returned from the server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<Connection> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (Connection  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(bean);
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
+    /**
+     * Prime the cache with the first page of elements that was retrieved along with the asset.
+     *
+     * @param firstPage elements at the start of the list
+     */
+    void setFirstPage(List<Connection> firstPage)
+    {
+        super.setInitialCachedList(this.getElementList(firstPage));
+    }
 }
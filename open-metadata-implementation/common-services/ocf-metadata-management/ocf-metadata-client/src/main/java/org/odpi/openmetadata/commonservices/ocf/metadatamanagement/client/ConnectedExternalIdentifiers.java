@@ -149,25 +149,7 @@ public class ConnectedExternalIdentifiers extends ExternalIdentifiers
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<ExternalIdentifier>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (ExternalIdentifier  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(bean);
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -176,4 +158,44 @@ public class ConnectedExternalIdentifiers extends ExternalIdentifiers
 
         return null;
     }
+
+
+    /**
+     * Convert the beans returned from the server into the elements stored in the iterator's cache.
+     *
+     * @param beans beans returned from the server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<ExternalIdentifier> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (ExternalIdentifier  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(bean);
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
+    /**
+     * Prime the cache with the first page of elements that was retrieved along with the asset.
+     *
+     * @param firstPage elements at the start of the list
+     */
+    void setFirstPage(List<ExternalIdentifier> firstPage)
+    {
+        super.setInitialCachedList(this.getElementList(firstPage));
+    }
 }
@@ -131,42 +131,68 @@ public class ConnectedNoteLogs extends NoteLogs
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<NoteLogResponse> noteLogResponses = restResult.getList();
-            if ((noteLogResponses == null) || (noteLogResponses.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
+            return this.getElementList(restResult.getList(), maximumSize);
+        }
+        catch (Exception  error)
+        {
+            restExceptionHandler.handleUnexpectedException(error, methodName, serverName, omasServerURL);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Convert the beans returned from the server into the elements stored in the iterator's cache.
+     *
+     * @param noteLogResponses beans returned from the server
+     * @param maximumSize maximum number of notes to cache for each note log
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<NoteLogResponse> noteLogResponses,
+                                              int                   maximumSize)
+    {
+        if ((noteLogResponses == null) || (noteLogResponses.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
 
-                for (NoteLogResponse  noteLogResponse : noteLogResponses)
+            for (NoteLogResponse  noteLogResponse : noteLogResponses)
+            {
+                if ((noteLogResponse != null) && (noteLogResponse.getNoteLog() != null))
                 {
-                    if ((noteLogResponse != null) && (noteLogResponse.getNoteLog() != null))
+                    if (noteLogResponse.getNoteCount() > 0)
                     {
-                        if (noteLogResponse.getNoteCount() > 0)
-                        {
-                            resultList.add(new NoteLog(noteLogResponse.getNoteLog(),
-                                                       new ConnectedNotes(serviceName,
-                                                                          serverName,
-                                                                          userId,
-                                                                          omasServerURL,
-                                                                          noteLogResponse.getNoteLog().getGUID(),
-                                                                          noteLogResponse.getNoteCount(),
-                                                                          maximumSize,
-                                                                          restClient)));
-                        }
+                        resultList.add(new NoteLog(noteLogResponse.getNoteLog(),
+                                                   new ConnectedNotes(serviceName,
+                                                                      serverName,
+                                                                      userId,
+                                                                      omasServerURL,
+                                                                      noteLogResponse.getNoteLog().getGUID(),
+                                                                      noteLogResponse.getNoteCount(),
+                                                                      maximumSize,
+                                                                      restClient)));
                     }
                 }
-
-                return resultList;
             }
+
+            return resultList;
         }
-        catch (Exception  error)
-        {
-            restExceptionHandler.handleUnexpectedException(error, methodName, serverName, omasServerURL);
-        }
+    }
 
-        return null;
+
+    /**
+     * Prime the cache with the first page of elements that was retrieved along with the asset.
+     *
+     * @param firstPage elements at the start of the list
+     * @param maximumSize maximum number of notes to cache for each note log
+     */
+    void setFirstPage(List<NoteLogResponse> firstPage,
+                      int                   maximumSize)
+    {
+        super.setInitialCachedList(this.getElementList(firstPage, maximumSize));
     }
 }
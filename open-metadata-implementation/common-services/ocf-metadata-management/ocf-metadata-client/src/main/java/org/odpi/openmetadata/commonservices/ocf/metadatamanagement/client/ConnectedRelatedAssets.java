@@ -130,31 +130,7 @@ public class ConnectedRelatedAssets extends RelatedAssets
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<RelatedAsset> beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (RelatedAsset  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new ConnectedAssetRelatedAssetProperties(bean,
-                                                                                serviceName,
-                                                                                serverName,
-                                                                                userId,
-                                                                                omasServerURL,
-                                                                                assetGUID,
-                                                                                restClient));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -163,4 +139,50 @@ public class ConnectedRelatedAssets extends RelatedAssets
 
         return null;
     }
+
+
+    /**
+     * Convert the beans returned from the server into the elements stored in the iterator's cache.
+     *
+     * @param beans beans returned from the server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<RelatedAsset> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (RelatedAsset  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new ConnectedAssetRelatedAssetProperties(bean,
+                                                                            serviceName,
+                                                                            serverName,
+                                                                            userId,
+                                                                            omasServerURL,
+                                                                            assetGUID,
+                                                                            restClient));
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
+    /**
+     * Prime the cache with the first page of elements that was retrieved along with the asset.
+     *
+     * @param firstPage elements at the start of the list
+     */
+    void setFirstPage(List<RelatedAsset> firstPage)
+    {
+        super.setInitialCachedList(this.getElementList(firstPage));
+    }
 }
@@ -0,0 +1,175 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client;
+
+import org.odpi.openmetadata.commonservices.ffdc.OMAGCommonErrorCode;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetResponse;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetUniverseResponse;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ExternalIdentifiers;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ExternalIdentifier;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that ConnectedAssetUniverse retrieves the first page of the attached elements with the asset, and that
+ * it falls back to the asset summary when the server does not support that call.
+ */
+public class ConnectedAssetUniverseTest
+{
+    private static final String SERVICE_NAME = "asset-consumer";
+    private static final String SERVER_NAME  = "testServer";
+    private static final String SERVER_URL   = "https://localhost:9443";
+    private static final String USER_ID      = "testUser";
+    private static final String ASSET_GUID   = "assetGUID";
+
+    private final List<String> calls = new ArrayList<>();
+
+    private Exception             universeException;
+    private AssetUniverseResponse universeResponse;
+    private OCFRESTClient         restClient;
+
+
+    /**
+     * The mock REST client records the name of each REST call.  The universe call returns the universe response
+     * or throws the universe exception, and the summary call returns an asset with three external identifiers.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        calls.clear();
+
+        universeException = null;
+        universeResponse  = new AssetUniverseResponse();
+
+        restClient = mock(OCFRESTClient.class, invocation ->
+        {
+            String callName = invocation.getMethod().getName();
+
+            if (callName.startsWith("callOCF"))
+            {
+                calls.add(invocation.getArgument(0));
+            }
+
+            if ("callOCFAssetUniverseGetRESTCall".equals(callName))
+            {
+                if (universeException != null)
+                {
+                    throw universeException;
+                }
+
+                return universeResponse;
+            }
+            else if ("callOCFAssetGetRESTCall".equals(callName))
+            {
+                AssetResponse summaryResponse = new AssetResponse();
+
+                summaryResponse.setExternalIdentifierCount(3);
+
+                return summaryResponse;
+            }
+
+            return null;
+        });
+    }
+
+
+    /**
+     * Return the exception the client reports when the REST call fails, which is how a server without the
+     * requested URL responds.
+     *
+     * @return exception
+     */
+    private PropertyServerException getRESTCallFailure()
+    {
+        return new PropertyServerException(OMAGCommonErrorCode.CLIENT_SIDE_REST_API_ERROR.getMessageDefinition("getAssetUniverse",
+                                                                                                              SERVER_NAME,
+                                                                                                              SERVER_URL,
+                                                                                                              "404 Not Found"),
+                                           this.getClass().getName(),
+                                           "getAssetUniverse");
+    }
+
+
+    /**
+     * When the server supports the universe call, the first page of each group of attached elements is taken from
+     * its response without any further calls.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testUniverse() throws Exception
+    {
+        ExternalIdentifier externalIdentifier = new ExternalIdentifier();
+
+        externalIdentifier.setIdentifier("id1");
+
+        universeResponse.setExternalIdentifierCount(1);
+        universeResponse.setExternalIdentifiers(Collections.singletonList(externalIdentifier));
+
+        ConnectedAssetUniverse assetUniverse = new ConnectedAssetUniverse(SERVICE_NAME, SERVER_NAME, SERVER_URL, USER_ID, ASSET_GUID, restClient);
+
+        ExternalIdentifiers externalIdentifiers = assetUniverse.getExternalIdentifiers();
+
+        assertTrue(externalIdentifiers.hasNext());
+        assertEquals(externalIdentifiers.next().getIdentifier(), "id1");
+        assertEquals(calls, Collections.singletonList("getAssetUniverse"));
+    }
+
+
+    /**
+     * When the server does not have the universe call, the asset summary is retrieved instead and the attached
+     * elements are counted from it.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testFallbackToSummary() throws Exception
+    {
+        universeException = getRESTCallFailure();
+
+        ConnectedAssetUniverse assetUniverse = new ConnectedAssetUniverse(SERVICE_NAME, SERVER_NAME, SERVER_URL, USER_ID, ASSET_GUID, restClient);
+
+        assertEquals(calls, Arrays.asList("getAssetUniverse", "getAssetSummary"));
+        assertEquals(assetUniverse.getExternalIdentifiers().getElementCount(), 3);
+    }
+
+
+    /**
+     * An error reported by the server is returned to the caller without retrieving the asset summary.
+     */
+    @Test
+    public void testServerErrorNotRetried()
+    {
+        universeException = new PropertyServerException(OMAGCommonErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition("getAssetUniverse",
+                                                                                                                     "testError",
+                                                                                                                     "test"),
+                                                        this.getClass().getName(),
+                                                        "getAssetUniverse");
+
+        try
+        {
+            new ConnectedAssetUniverse(SERVICE_NAME, SERVER_NAME, SERVER_URL, USER_ID, ASSET_GUID, restClient);
+            fail("Server error not returned");
+        }
+        catch (PropertyServerException expected)
+        {
+            assertEquals(expected.getReportedErrorMessageId(), "OMAG-COMMON-400-016");
+            assertEquals(calls, Collections.singletonList("getAssetUniverse"));
+        }
+        catch (Exception unexpected)
+        {
+            fail("Unexpected exception " + unexpected);
+        }
+    }
+}
@@ -19,6 +19,8 @@ public class OCFMetadataOperationalServices
     private final String   serverName;
     private final AuditLog auditLog;
 
+    private OCFMetadataServicesInstance instance = null;
+
 
     /**
      * Constructor
@@ -47,7 +49,7 @@ public class OCFMetadataOperationalServices
         {
             auditLog.logMessage(actionDescription, OCFMetadataAuditCode.SERVICE_INITIALIZED.getMessageDefinition(serverName));
 
-            new OCFMetadataServicesInstance(repositoryConnector, auditLog, localServerUserId, maxPageSize);
+            this.instance = new OCFMetadataServicesInstance(repositoryConnector, auditLog, localServerUserId, maxPageSize);
         }
         catch (NewInstanceException error)
         {
@@ -71,6 +73,13 @@ public class OCFMetadataOperationalServices
 
         this.auditLog.logMessage(actionDescription, OCFMetadataAuditCode.SERVICE_SHUTDOWN.getMessageDefinition(serverName));
 
-        new OCFMetadataInstanceHandler().removeServerServiceInstance(serverName);
+        if (instance != null)
+        {
+            this.instance.shutdown();
+        }
+        else
+        {
+            new OCFMetadataInstanceHandler().removeServerServiceInstance(serverName);
+        }
     }
 }
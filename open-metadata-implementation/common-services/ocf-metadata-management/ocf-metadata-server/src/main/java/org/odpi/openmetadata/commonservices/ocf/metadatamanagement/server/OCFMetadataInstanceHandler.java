@@ -10,6 +10,8 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
 
+import java.util.concurrent.ExecutorService;
+
 
 /**
  * ConnectedAssetInstanceHandler retrieves information from the instance map for the
@@ -688,4 +690,34 @@ public class OCFMetadataInstanceHandler extends OMASServiceInstanceHandler
 
         return null;
     }
+
+
+    /**
+     * Retrieve the thread pool used to assemble asset universes for the server.
+     *
+     * @param userId calling user
+     * @param serverName name of the server tied to the request
+     * @param serviceOperationName name of the REST API call (typically the top-level methodName)
+     * @return executor service for use by the requested instance
+     * @throws InvalidParameterException no available instance for the requested server
+     * @throws UserNotAuthorizedException user does not have access to the requested server
+     * @throws PropertyServerException error in the requested server
+     */
+    ExecutorService getAssetUniverseExecutor(String userId,
+                                             String serverName,
+                                             String serviceOperationName) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException,
+                                                                                 PropertyServerException
+    {
+        OCFMetadataServicesInstance instance = (OCFMetadataServicesInstance)super.getServerServiceInstance(userId,
+                                                                                                           serverName,
+                                                                                                           serviceOperationName);
+
+        if (instance != null)
+        {
+            return instance.getAssetUniverseExecutor();
+        }
+
+        return null;
+    }
 }
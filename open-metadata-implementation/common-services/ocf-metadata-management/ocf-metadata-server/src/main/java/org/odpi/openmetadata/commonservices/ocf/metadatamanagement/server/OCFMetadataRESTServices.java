@@ -7,16 +7,30 @@ import org.odpi.openmetadata.commonservices.ffdc.RESTCallToken;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
 import org.odpi.openmetadata.commonservices.generichandlers.*;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.properties.AssetUniverseFacet;
 import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.*;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
+import org.odpi.openmetadata.http.HttpHeadersThreadLocal;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 
 /**
@@ -328,44 +342,18 @@ public class OCFMetadataRESTServices
 
             Date effectiveTime = new Date();
 
-            String assetSummary = null;
-            if (connectionGUID != null)
-            {
-                Relationship relationship = assetHandler.getUniqueAttachmentLink(userId,
-                                                                                 assetGUID,
-                                                                                 assetGUIDParameterName,
-                                                                                 OpenMetadataAPIMapper.ASSET_TYPE_NAME,
-                                                                                 OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_GUID,
-                                                                                 OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_NAME,
-                                                                                 connectionGUID,
-                                                                                 OpenMetadataAPIMapper.CONNECTION_TYPE_NAME,
-                                                                                 0,
-                                                                                 false,
-                                                                                 false,
-                                                                                 effectiveTime,
-                                                                                 methodName);
-
-                if (relationship != null)
-                {
-                    OMRSRepositoryHelper repositoryHelper = instanceHandler.getRepositoryHelper(userId, serverName, methodName);
-                    assetSummary = repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
-                                                                      OpenMetadataAPIMapper.ASSET_SUMMARY_PROPERTY_NAME,
-                                                                      relationship.getProperties(),
-                                                                      methodName);
-                }
-            }
-            Asset asset = assetHandler.getBeanFromRepository(userId,
-                                                             assetGUID,
-                                                             assetGUIDParameterName,
-                                                             OpenMetadataAPIMapper.ASSET_TYPE_NAME,
-                                                             false,
-                                                             false,
-                                                             supportedZones,
-                                                             effectiveTime,
-                                                             methodName);
+            Asset asset = this.getAssetWithSummary(userId,
+                                                   serverName,
+                                                   serviceURLName,
+                                                   assetHandler,
+                                                   assetGUID,
+                                                   connectionGUID,
+                                                   supportedZones,
+                                                   effectiveTime,
+                                                   methodName);
+
             if (asset != null)
             {
-                asset.setShortDescription(assetSummary);
                 response.setAsset(asset);
                 response.setCertificationCount(certificationHandler.countCertifications(userId, assetGUID, false, false, effectiveTime, methodName));
                 response.setCommentCount(commentHandler.countAttachedComments(userId, assetGUID, false, false,effectiveTime, methodName));
@@ -405,6 +393,85 @@ public class OCFMetadataRESTServices
     }
 
 
+    /**
+     * Retrieve the asset.  If the connection guid is supplied, the short description of the asset is filled out
+     * from the relationship between the asset and the connection.
+     *
+     * @param userId     String   userId of user making request.
+     * @param serverName  name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param assetHandler handler for assets
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset (or null).
+     * @param supportedZones zones that the asset must belong to
+     * @param effectiveTime time that the elements must be effective
+     * @param methodName calling method
+     *
+     * @return asset bean
+     * @throws InvalidParameterException the asset GUID is null or invalid
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request
+     */
+    private Asset getAssetWithSummary(String              userId,
+                                      String              serverName,
+                                      String              serviceURLName,
+                                      AssetHandler<Asset> assetHandler,
+                                      String              assetGUID,
+                                      String              connectionGUID,
+                                      List<String>        supportedZones,
+                                      Date                effectiveTime,
+                                      String              methodName) throws InvalidParameterException,
+                                                                             PropertyServerException,
+                                                                             UserNotAuthorizedException
+    {
+        final String assetGUIDParameterName = "assetGUID";
+
+        String assetSummary = null;
+        if (connectionGUID != null)
+        {
+            Relationship relationship = assetHandler.getUniqueAttachmentLink(userId,
+                                                                             assetGUID,
+                                                                             assetGUIDParameterName,
+                                                                             OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                             OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_GUID,
+                                                                             OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_NAME,
+                                                                             connectionGUID,
+                                                                             OpenMetadataAPIMapper.CONNECTION_TYPE_NAME,
+                                                                             0,
+                                                                             false,
+                                                                             false,
+                                                                             effectiveTime,
+                                                                             methodName);
+
+            if (relationship != null)
+            {
+                OMRSRepositoryHelper repositoryHelper = instanceHandler.getRepositoryHelper(userId, serverName, methodName);
+                assetSummary = repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
+                                                                  OpenMetadataAPIMapper.ASSET_SUMMARY_PROPERTY_NAME,
+                                                                  relationship.getProperties(),
+                                                                  methodName);
+            }
+        }
+
+        Asset asset = assetHandler.getBeanFromRepository(userId,
+                                                         assetGUID,
+                                                         assetGUIDParameterName,
+                                                         OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                         false,
+                                                         false,
+                                                         supportedZones,
+                                                         effectiveTime,
+                                                         methodName);
+
+        if (asset != null)
+        {
+            asset.setShortDescription(assetSummary);
+        }
+
+        return asset;
+    }
+
+
     /**
      * Returns the basic information about the asset.  The connection guid allows the short description for the
      * asset to be filled out.
@@ -459,6 +526,624 @@ public class OCFMetadataRESTServices
     }
 
 
+    /**
+     * Returns the asset along with the first page of each of the requested facets (groups of attached elements)
+     * and the total count of elements in every facet.  This replaces the separate calls needed to populate the
+     * connected asset properties for a connector.  The facets are retrieved from the repositories in parallel.
+     *
+     * @param serverName  String   name of server instance to call.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param facets     list of facets to return with the asset - null means all facets.
+     * @param maxElements  int    maximum number of elements to return for each facet.
+     *
+     * @return a bean with the properties about the asset or
+     * InvalidParameterException - the userId is null or invalid or
+     * UnrecognizedAssetGUIDException - the GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public AssetUniverseResponse getAssetUniverse(String                   serverName,
+                                                  String                   serviceURLName,
+                                                  String                   userId,
+                                                  String                   assetGUID,
+                                                  List<AssetUniverseFacet> facets,
+                                                  int                      maxElements)
+    {
+        final String methodName = "getAssetUniverse";
+
+        return this.getAssetUniverseResponse(serverName, serviceURLName, userId, assetGUID, null, facets, maxElements, methodName);
+    }
+
+
+    /**
+     * Returns the asset along with the first page of each of the requested facets (groups of attached elements)
+     * and the total count of elements in every facet.  The connection guid allows the short description for the
+     * asset to be filled out.
+     *
+     * @param serverName  String   name of server instance to call.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset.
+     * @param facets     list of facets to return with the asset - null means all facets.
+     * @param maxElements  int    maximum number of elements to return for each facet.
+     *
+     * @return a bean with the properties about the asset or
+     * InvalidParameterException - the userId is null or invalid or
+     * UnrecognizedAssetGUIDException - the GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public AssetUniverseResponse getConnectedAssetUniverse(String                   serverName,
+                                                           String                   serviceURLName,
+                                                           String                   userId,
+                                                           String                   assetGUID,
+                                                           String                   connectionGUID,
+                                                           List<AssetUniverseFacet> facets,
+                                                           int                      maxElements)
+    {
+        final String methodName = "getConnectedAssetUniverse";
+
+        return this.getAssetUniverseResponse(serverName, serviceURLName, userId, assetGUID, connectionGUID, facets, maxElements, methodName);
+    }
+
+
+    /**
+     * Assemble the asset universe.  Once the asset has been retrieved (which validates that the caller can see it)
+     * each facet is retrieved on the server's asset universe thread pool.  The count for a requested facet is
+     * only retrieved from the repositories when its first page is full.
+     *
+     * @param serverName  String   name of server instance to call.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset (or null).
+     * @param facets     list of facets to return with the asset - null means all facets.
+     * @param maxElements  int    maximum number of elements to return for each facet.
+     * @param methodName calling method
+     *
+     * @return a bean with the properties about the asset or
+     * InvalidParameterException - the asset GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private AssetUniverseResponse getAssetUniverseResponse(String                   serverName,
+                                                           String                   serviceURLName,
+                                                           String                   userId,
+                                                           String                   assetGUID,
+                                                           String                   connectionGUID,
+                                                           List<AssetUniverseFacet> facets,
+                                                           int                      maxElements,
+                                                           String                   methodName)
+    {
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        final String assetGUIDParameterName = "assetGUID";
+
+        AssetUniverseResponse response = new AssetUniverseResponse();
+        AuditLog              auditLog = null;
+        List<Future<?>>       futures  = new ArrayList<>();
+
+        try
+        {
+            List<String> supportedZones = instanceHandler.getSupportedZones(userId, serverName, serviceURLName, methodName);
+
+            AssetHandler<Asset>                                   assetHandler              = instanceHandler.getAssetHandler(userId, serverName, methodName);
+            RelatedAssetHandler<RelatedAsset>                     relatedAssetHandler       = instanceHandler.getRelatedAssetHandler(userId, serverName, methodName);
+            CertificationHandler<Certification>                   certificationHandler      = instanceHandler.getCertificationHandler(userId, serverName, methodName);
+            CommentHandler<Comment>                               commentHandler            = instanceHandler.getCommentHandler(userId, serverName, methodName);
+            ConnectionHandler<Connection>                         connectionHandler         = instanceHandler.getConnectionHandler(userId, serverName, methodName);
+            ExternalIdentifierHandler<ExternalIdentifier, Object> externalIdentifierHandler = instanceHandler.getExternalIdentifierHandler(userId, serverName, methodName);
+            ExternalReferenceLinkHandler<ExternalReference>       externalReferenceHandler  = instanceHandler.getExternalReferenceHandler(userId, serverName, methodName);
+            InformalTagHandler<InformalTag>                       informalTagHandler        = instanceHandler.getInformalTagHandler(userId, serverName, methodName);
+            LicenseHandler<License>                               licenseHandler            = instanceHandler.getLicenseHandler(userId, serverName, methodName);
+            LikeHandler<Like>                                     likeHandler               = instanceHandler.getLikeHandler(userId, serverName, methodName);
+            LocationHandler<Location>                             locationHandler           = instanceHandler.getLocationHandler(userId, serverName, methodName);
+            NoteLogHandler<NoteLogHeader>                         noteLogHandler            = instanceHandler.getNoteLogHandler(userId, serverName, methodName);
+            NoteHandler<Note>                                     noteHandler               = instanceHandler.getNoteHandler(userId, serverName, methodName);
+            RatingHandler<Rating>                                 ratingHandler             = instanceHandler.getRatingHandler(userId, serverName, methodName);
+            RelatedMediaHandler<RelatedMediaReference>            relatedMediaHandler       = instanceHandler.getRelatedMediaHandler(userId, serverName, methodName);
+            SearchKeywordHandler<SearchKeyword>                   keywordHandler            = instanceHandler.getKeywordHandler(userId, serverName, methodName);
+            SchemaTypeHandler<SchemaType>                         schemaTypeHandler         = instanceHandler.getSchemaTypeHandler(userId, serverName, methodName);
+            ExecutorService                                       executor                  = instanceHandler.getAssetUniverseExecutor(userId, serverName, methodName);
+
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            Set<AssetUniverseFacet> requestedFacets;
+            if ((facets == null) || (facets.isEmpty()))
+            {
+                requestedFacets = EnumSet.allOf(AssetUniverseFacet.class);
+            }
+            else
+            {
+                requestedFacets = EnumSet.copyOf(facets);
+            }
+
+            Date effectiveTime = new Date();
+
+            Asset asset = this.getAssetWithSummary(userId,
+                                                   serverName,
+                                                   serviceURLName,
+                                                   assetHandler,
+                                                   assetGUID,
+                                                   connectionGUID,
+                                                   supportedZones,
+                                                   effectiveTime,
+                                                   methodName);
+
+            if (asset != null)
+            {
+                response.setAsset(asset);
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.CERTIFICATIONS),
+                                             maxElements,
+                                             () -> certificationHandler.getCertifications(userId,
+                                                                                          assetGUID,
+                                                                                          assetGUIDParameterName,
+                                                                                          supportedZones,
+                                                                                          0,
+                                                                                          maxElements,
+                                                                                          false,
+                                                                                          false,
+                                                                                          effectiveTime,
+                                                                                          methodName),
+                                             () -> certificationHandler.countCertifications(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setCertifications,
+                                             response::setCertificationCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.COMMENTS),
+                                             maxElements,
+                                             () -> this.getCommentResponses(userId,
+                                                                            commentHandler,
+                                                                            commentHandler.getComments(userId,
+                                                                                                       assetGUID,
+                                                                                                       assetGUIDParameterName,
+                                                                                                       assetGUID,
+                                                                                                       assetGUIDParameterName,
+                                                                                                       OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                                       supportedZones,
+                                                                                                       0,
+                                                                                                       maxElements,
+                                                                                                       false,
+                                                                                                       false,
+                                                                                                       effectiveTime,
+                                                                                                       methodName),
+                                                                            effectiveTime,
+                                                                            methodName),
+                                             () -> commentHandler.countAttachedComments(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setComments,
+                                             response::setCommentCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.CONNECTIONS),
+                                             maxElements,
+                                             () -> connectionHandler.getConnectionsForAsset(userId,
+                                                                                            assetGUID,
+                                                                                            assetGUIDParameterName,
+                                                                                            supportedZones,
+                                                                                            0,
+                                                                                            maxElements,
+                                                                                            false,
+                                                                                            false,
+                                                                                            effectiveTime,
+                                                                                            methodName),
+                                             () -> connectionHandler.countConnections(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setConnections,
+                                             response::setConnectionCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.EXTERNAL_IDENTIFIERS),
+                                             maxElements,
+                                             () -> externalIdentifierHandler.getExternalIdentifiersForElement(userId,
+                                                                                                              assetGUID,
+                                                                                                              assetGUIDParameterName,
+                                                                                                              OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                                              supportedZones,
+                                                                                                              0,
+                                                                                                              maxElements,
+                                                                                                              false,
+                                                                                                              false,
+                                                                                                              effectiveTime,
+                                                                                                              methodName),
+                                             () -> externalIdentifierHandler.countExternalIdentifiers(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setExternalIdentifiers,
+                                             response::setExternalIdentifierCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.EXTERNAL_REFERENCES),
+                                             maxElements,
+                                             () -> externalReferenceHandler.getExternalReferences(userId,
+                                                                                                  assetGUID,
+                                                                                                  assetGUIDParameterName,
+                                                                                                  OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                                  supportedZones,
+                                                                                                  0,
+                                                                                                  maxElements,
+                                                                                                  false,
+                                                                                                  false,
+                                                                                                  effectiveTime,
+                                                                                                  methodName),
+                                             () -> externalReferenceHandler.countExternalReferences(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setExternalReferences,
+                                             response::setExternalReferencesCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.INFORMAL_TAGS),
+                                             maxElements,
+                                             () -> informalTagHandler.getAttachedTags(userId,
+                                                                                      assetGUID,
+                                                                                      assetGUIDParameterName,
+                                                                                      OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                      supportedZones,
+                                                                                      0,
+                                                                                      maxElements,
+                                                                                      false,
+                                                                                      false,
+                                                                                      effectiveTime,
+                                                                                      methodName),
+                                             () -> informalTagHandler.countTags(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setInformalTags,
+                                             response::setInformalTagCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.LICENSES),
+                                             maxElements,
+                                             () -> licenseHandler.getLicenses(userId,
+                                                                              assetGUID,
+                                                                              assetGUIDParameterName,
+                                                                              OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                              supportedZones,
+                                                                              0,
+                                                                              maxElements,
+                                                                              false,
+                                                                              false,
+                                                                              effectiveTime,
+                                                                              methodName),
+                                             () -> licenseHandler.countLicenses(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setLicenses,
+                                             response::setLicenseCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.LIKES),
+                                             maxElements,
+                                             () -> likeHandler.getLikes(userId,
+                                                                        assetGUID,
+                                                                        assetGUIDParameterName,
+                                                                        OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                        supportedZones,
+                                                                        0,
+                                                                        maxElements,
+                                                                        false,
+                                                                        false,
+                                                                        effectiveTime,
+                                                                        methodName),
+                                             () -> likeHandler.countLikes(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setLikes,
+                                             response::setLikeCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.KNOWN_LOCATIONS),
+                                             maxElements,
+                                             () -> locationHandler.getAssetLocations(userId,
+                                                                                     assetGUID,
+                                                                                     assetGUIDParameterName,
+                                                                                     OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                     supportedZones,
+                                                                                     0,
+                                                                                     maxElements,
+                                                                                     false,
+                                                                                     false,
+                                                                                     effectiveTime,
+                                                                                     methodName),
+                                             () -> locationHandler.countKnownLocations(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setKnownLocations,
+                                             response::setKnownLocationsCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.NOTE_LOGS),
+                                             maxElements,
+                                             () -> this.getNoteLogResponses(userId,
+                                                                            noteHandler,
+                                                                            noteLogHandler.getAttachedNoteLogs(userId,
+                                                                                                               assetGUID,
+                                                                                                               assetGUIDParameterName,
+                                                                                                               OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                                               supportedZones,
+                                                                                                               0,
+                                                                                                               maxElements,
+                                                                                                               false,
+                                                                                                               false,
+                                                                                                               effectiveTime,
+                                                                                                               methodName),
+                                                                            effectiveTime,
+                                                                            methodName),
+                                             () -> noteLogHandler.countAttachedNoteLogs(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setNoteLogs,
+                                             response::setNoteLogsCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.RATINGS),
+                                             maxElements,
+                                             () -> ratingHandler.getRatings(userId,
+                                                                            assetGUID,
+                                                                            assetGUIDParameterName,
+                                                                            OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                            supportedZones,
+                                                                            0,
+                                                                            maxElements,
+                                                                            false,
+                                                                            false,
+                                                                            effectiveTime,
+                                                                            methodName),
+                                             () -> ratingHandler.countRatings(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setRatings,
+                                             response::setRatingsCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.RELATED_ASSETS),
+                                             maxElements,
+                                             () -> relatedAssetHandler.getRelatedAssets(userId,
+                                                                                        assetGUID,
+                                                                                        assetGUIDParameterName,
+                                                                                        OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                        null,
+                                                                                        null,
+                                                                                        OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                        supportedZones,
+                                                                                        0,
+                                                                                        0,
+                                                                                        maxElements,
+                                                                                        false,
+                                                                                        false,
+                                                                                        effectiveTime,
+                                                                                        methodName),
+                                             () -> relatedAssetHandler.getRelatedAssetCount(userId,
+                                                                                            assetGUID,
+                                                                                            assetGUIDParameterName,
+                                                                                            OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                            null,
+                                                                                            null,
+                                                                                            supportedZones,
+                                                                                            false,
+                                                                                            false,
+                                                                                            effectiveTime,
+                                                                                            methodName),
+                                             response::setRelatedAssets,
+                                             response::setRelatedAssetCount));
+
+                futures.add(this.submitFacet(executor,
+                                             requestedFacets.contains(AssetUniverseFacet.RELATED_MEDIA_REFERENCES),
+                                             maxElements,
+                                             () -> relatedMediaHandler.getRelatedMedia(userId,
+                                                                                       assetGUID,
+                                                                                       assetGUIDParameterName,
+                                                                                       OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                       supportedZones,
+                                                                                       0,
+                                                                                       maxElements,
+                                                                                       false,
+                                                                                       false,
+                                                                                       effectiveTime,
+                                                                                       methodName),
+                                             () -> relatedMediaHandler.countRelatedMedia(userId, assetGUID, false, false, effectiveTime, methodName),
+                                             response::setRelatedMediaReferences,
+                                             response::setRelatedMediaReferenceCount));
+
+                futures.add(executor.submit(() ->
+                {
+                    response.setKeywordCount(keywordHandler.countKeywords(userId, assetGUID, false, false, effectiveTime, methodName));
+                    return null;
+                }));
+
+                futures.add(executor.submit(() ->
+                {
+                    response.setSchemaType(schemaTypeHandler.getSchemaTypeForAsset(userId, assetGUID, assetGUIDParameterName, false, false, effectiveTime, methodName));
+                    return null;
+                }));
+
+                /*
+                 * Wait for all the facets.  The first failure is returned to the caller.
+                 */
+                for (Future<?> future : futures)
+                {
+                    try
+                    {
+                        future.get();
+                    }
+                    catch (ExecutionException error)
+                    {
+                        if (error.getCause() instanceof Exception)
+                        {
+                            throw (Exception)error.getCause();
+                        }
+
+                        throw error;
+                    }
+                }
+            }
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+        finally
+        {
+            /*
+             * Facets still running after a failure are no longer needed.
+             */
+            for (Future<?> future : futures)
+            {
+                future.cancel(true);
+            }
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Submit the retrieval of one facet of the asset universe.  If the facet is requested, its first page is
+     * retrieved.  The count is only retrieved if the facet is not requested or the first page is full.
+     * The retrieval runs with the HTTP headers of the calling request so that they are passed on to the repositories.
+     *
+     * @param executor thread pool to run the retrieval
+     * @param requested is the facet requested by the caller
+     * @param maxElements page size requested by the caller
+     * @param pageRetriever retrieves the first page of the facet
+     * @param counter retrieves the total number of elements in the facet
+     * @param pageSetter stores the first page in the response
+     * @param countSetter stores the count in the response
+     * @param <T> type of element in the facet
+     * @return future to wait on
+     */
+    private <T> Future<?> submitFacet(ExecutorService     executor,
+                                      boolean             requested,
+                                      int                 maxElements,
+                                      Callable<List<T>>   pageRetriever,
+                                      Callable<Integer>   counter,
+                                      Consumer<List<T>>   pageSetter,
+                                      IntConsumer         countSetter)
+    {
+        final Map<String, String> callerHeaders = HttpHeadersThreadLocal.getHeadersThreadLocal().get();
+
+        return executor.submit(() ->
+        {
+            HttpHeadersThreadLocal.getHeadersThreadLocal().set(callerHeaders);
+
+            try
+            {
+                if (requested)
+                {
+                    List<T> page = pageRetriever.call();
+
+                    pageSetter.accept(page);
+
+                    int pageSize = 0;
+                    if (page != null)
+                    {
+                        pageSize = page.size();
+                    }
+
+                    if ((maxElements > 0) && (pageSize < maxElements))
+                    {
+                        countSetter.accept(pageSize);
+                        return null;
+                    }
+                }
+
+                countSetter.accept(counter.call());
+                return null;
+            }
+            finally
+            {
+                HttpHeadersThreadLocal.getHeadersThreadLocal().remove();
+            }
+        });
+    }
+
+
+    /**
+     * Add the count of replies to each of the retrieved comments.
+     *
+     * @param userId calling user
+     * @param handler comment handler
+     * @param comments retrieved comments
+     * @param effectiveTime time that the elements must be effective
+     * @param methodName calling method
+     * @return list of comment responses or null
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws PropertyServerException there is a problem retrieving the replies from the property server
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request
+     */
+    private List<CommentResponse> getCommentResponses(String                  userId,
+                                                      CommentHandler<Comment> handler,
+                                                      List<Comment>           comments,
+                                                      Date                    effectiveTime,
+                                                      String                  methodName) throws InvalidParameterException,
+                                                                                                 PropertyServerException,
+                                                                                                 UserNotAuthorizedException
+    {
+        List<CommentResponse> results = new ArrayList<>();
+
+        if (comments != null)
+        {
+            for (Comment comment : comments)
+            {
+                if (comment != null)
+                {
+                    CommentResponse commentResponse = new CommentResponse();
+
+                    commentResponse.setComment(comment);
+                    commentResponse.setReplyCount(handler.countAttachedComments(userId, comment.getGUID(), false, false, effectiveTime, methodName));
+
+                    results.add(commentResponse);
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Add the count of notes to each of the retrieved note logs.
+     *
+     * @param userId calling user
+     * @param noteHandler note handler
+     * @param noteLogs retrieved note logs
+     * @param effectiveTime time that the elements must be effective
+     * @param methodName calling method
+     * @return list of note log responses or null
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws PropertyServerException there is a problem retrieving the notes from the property server
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request
+     */
+    private List<NoteLogResponse> getNoteLogResponses(String                  userId,
+                                                      NoteHandler<Note>       noteHandler,
+                                                      List<NoteLogHeader>     noteLogs,
+                                                      Date                    effectiveTime,
+                                                      String                  methodName) throws InvalidParameterException,
+                                                                                                 PropertyServerException,
+                                                                                                 UserNotAuthorizedException
+    {
+        List<NoteLogResponse> results = new ArrayList<>();
+
+        if (noteLogs != null)
+        {
+            for (NoteLogHeader noteLog : noteLogs)
+            {
+                if (noteLog != null)
+                {
+                    NoteLogResponse noteLogResponse = new NoteLogResponse();
+
+                    noteLogResponse.setNoteLog(noteLog);
+                    noteLogResponse.setNoteCount(noteHandler.countAttachedNotes(userId, noteLog.getGUID(), false, false, effectiveTime, methodName));
+
+                    results.add(noteLogResponse);
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Returns the list of certifications for the asset.
      *
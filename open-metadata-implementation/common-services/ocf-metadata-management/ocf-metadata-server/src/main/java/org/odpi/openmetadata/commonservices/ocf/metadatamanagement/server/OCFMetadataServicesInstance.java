@@ -13,6 +13,9 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 
 /**
  * OCFMetadataServicesInstance caches references to OMRS objects for a specific server.
@@ -43,6 +46,12 @@ public class OCFMetadataServicesInstance extends OMASServiceInstance
     private final SchemaAttributeHandler<SchemaAttribute, SchemaType>   schemaAttributeHandler;
     private final SchemaTypeHandler<SchemaType>                         schemaTypeHandler;
 
+    /*
+     * The asset universe is assembled from many independent repository reads which are run on this pool.
+     */
+    private static final int               ASSET_UNIVERSE_THREAD_COUNT = 8;
+    private final        ExecutorService   assetUniverseExecutor;
+
 
     /**
      * Set up the handlers for this server.
@@ -382,6 +391,15 @@ public class OCFMetadataServicesInstance extends OMASServiceInstance
                                                              defaultZones,
                                                              publishZones,
                                                              auditLog);
+
+            this.assetUniverseExecutor = Executors.newFixedThreadPool(ASSET_UNIVERSE_THREAD_COUNT, runnable ->
+            {
+                Thread thread = new Thread(runnable, "OCFMetadataAssetUniverse-" + serverName);
+
+                thread.setDaemon(true);
+
+                return thread;
+            });
         }
         else
         {
@@ -744,4 +762,32 @@ public class OCFMetadataServicesInstance extends OMASServiceInstance
 
         return schemaAttributeHandler;
     }
+
+
+    /**
+     * Return the thread pool used to retrieve the facets of an asset universe in parallel.
+     *
+     * @return executor service
+     * @throws PropertyServerException the instance has not been initialized successfully
+     */
+    ExecutorService getAssetUniverseExecutor() throws PropertyServerException
+    {
+        final String methodName = "getAssetUniverseExecutor";
+
+        validateActiveRepository(methodName);
+
+        return assetUniverseExecutor;
+    }
+
+
+    /**
+     * Stop the asset universe threads and unregister this instance from the instance map.
+     */
+    @Override
+    public void shutdown()
+    {
+        assetUniverseExecutor.shutdownNow();
+
+        super.shutdown();
+    }
 }
@@ -6,10 +6,13 @@ package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.server.sprin
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.properties.AssetUniverseFacet;
 import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.*;
 import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.server.OCFMetadataRESTServices;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * The ConnectedAssetResource is the server-side implementation of the REST services needed to
  * populate the Open Connector Framework (OCF) Connected Asset Properties.
@@ -162,6 +165,70 @@ public class ConnectedAssetResource
     }
 
 
+    /**
+     * Returns the asset along with the first page of each of the requested facets (groups of attached elements)
+     * and the count of elements in every facet.  This retrieves the connected asset properties in a single call.
+     *
+     * @param serverName      String   name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId          String   userId of user making request.
+     * @param assetGUID       String   unique id for asset.
+     * @param facets          list of facets to return - null means all facets.
+     * @param maxElements     int      maximum number of elements to return for each facet.
+     *
+     * @return a bean with the properties about the asset or
+     * InvalidParameterException - the asset GUID is null or invalid or
+     * UnrecognizedAssetGUIDException - the asset GUID is not recognized by the property server or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    @GetMapping(path = "/assets/{assetGUID}/universe")
+
+    public AssetUniverseResponse getAssetUniverse(@PathVariable                   String                   serverName,
+                                                  @PathVariable                   String                   serviceURLName,
+                                                  @PathVariable                   String                   userId,
+                                                  @PathVariable                   String                   assetGUID,
+                                                  @RequestParam(required = false) List<AssetUniverseFacet> facets,
+                                                  @RequestParam                   int                      maxElements)
+    {
+        return restAPI.getAssetUniverse(serverName, serviceURLName, userId, assetGUID, facets, maxElements);
+    }
+
+
+    /**
+     * Returns the asset along with the first page of each of the requested facets (groups of attached elements)
+     * and the count of elements in every facet.  The connection guid allows the short description for the
+     * asset to be filled out.
+     *
+     * @param serverName      String   name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId          String   userId of user making request.
+     * @param assetGUID       String   unique id for asset.
+     * @param connectionGUID  unique   id for connection used to access asset.
+     * @param facets          list of facets to return - null means all facets.
+     * @param maxElements     int      maximum number of elements to return for each facet.
+     *
+     * @return a bean with the properties about the asset or
+     * InvalidParameterException - the asset GUID is null or invalid or
+     * UnrecognizedAssetGUIDException - the asset GUID is not recognized by the property server or
+     * UnrecognizedConnectionGUIDException - the connection GUID is not recognized by the property server or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    @GetMapping(path = "/assets/{assetGUID}/via-connection/{connectionGUID}/universe")
+
+    public AssetUniverseResponse getConnectedAssetUniverse(@PathVariable                   String                   serverName,
+                                                           @PathVariable                   String                   serviceURLName,
+                                                           @PathVariable                   String                   userId,
+                                                           @PathVariable                   String                   assetGUID,
+                                                           @PathVariable                   String                   connectionGUID,
+                                                           @RequestParam(required = false) List<AssetUniverseFacet> facets,
+                                                           @RequestParam                   int                      maxElements)
+    {
+        return restAPI.getConnectedAssetUniverse(serverName, serviceURLName, userId, assetGUID, connectionGUID, facets, maxElements);
+    }
+
+
     /**
      * Returns the basic information about the asset.
      *
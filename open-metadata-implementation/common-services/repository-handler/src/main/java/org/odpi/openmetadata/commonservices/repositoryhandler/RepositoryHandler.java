@@ -73,6 +73,161 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Open a request scope for the calling thread.  While the scope is open, entities retrieved through this handler
+     * and the anchors resolved by the calling handler are remembered so that they are only retrieved from the
+     * repositories once during the request.  Changes made through this handler remove the affected values.
+     * The scope should be closed (typically with try-with-resources) when the request completes.
+     *
+     * @param methodName calling method
+     * @return scope to close at the end of the request
+     */
+    public RepositoryRequestScope startRequestScope(String methodName)
+    {
+        return new RepositoryRequestScope(methodName);
+    }
+
+
+    /**
+     * Return whether the anchor for an element has already been resolved during the current request with the
+     * same lineage, duplicate processing and effective time settings.
+     *
+     * @param guid unique identifier of the element
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time)
+     * @return boolean
+     */
+    public boolean isAnchorGUIDCached(String  guid,
+                                      boolean forLineage,
+                                      boolean forDuplicateProcessing,
+                                      Date    effectiveTime)
+    {
+        RepositoryRequestCache requestCache = RepositoryRequestCache.getCurrentCache();
+
+        return (requestCache != null) && (requestCache.isAnchorGUIDCached(guid, forLineage, forDuplicateProcessing, effectiveTime));
+    }
+
+
+    /**
+     * Return the anchor resolved for an element during the current request.
+     *
+     * @param guid unique identifier of the element
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time)
+     * @return unique identifier of the anchor or null if the element has no anchor (or it is not cached)
+     */
+    public String getCachedAnchorGUID(String  guid,
+                                      boolean forLineage,
+                                      boolean forDuplicateProcessing,
+                                      Date    effectiveTime)
+    {
+        RepositoryRequestCache requestCache = RepositoryRequestCache.getCurrentCache();
+
+        if (requestCache != null)
+        {
+            return requestCache.getAnchorGUID(guid, forLineage, forDuplicateProcessing, effectiveTime);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Remember the anchor resolved for an element for the rest of the current request.  Nothing is saved if
+     * there is no request scope open.
+     *
+     * @param guid unique identifier of the element
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time)
+     * @param anchorGUID unique identifier of the anchor or null if the element has no anchor
+     */
+    public void cacheAnchorGUID(String  guid,
+                                boolean forLineage,
+                                boolean forDuplicateProcessing,
+                                Date    effectiveTime,
+                                String  anchorGUID)
+    {
+        RepositoryRequestCache requestCache = RepositoryRequestCache.getCurrentCache();
+
+        if (requestCache != null)
+        {
+            requestCache.putAnchorGUID(guid, forLineage, forDuplicateProcessing, effectiveTime, anchorGUID);
+        }
+    }
+
+
+    /**
+     * Retrieve an entity, using the entity saved by an earlier retrieval in the current request if there is one.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the entity
+     * @return entity
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException the guid is null
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException problem communicating with the repository
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException the entity is not known
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException the entity is only a proxy
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException the user is not authorized
+     */
+    private EntityDetail retrieveEntityDetail(String userId,
+                                              String guid) throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
+                                                                  org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException,
+                                                                  org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException,
+                                                                  org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException,
+                                                                  org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException
+    {
+        RepositoryRequestCache requestCache = RepositoryRequestCache.getCurrentCache();
+
+        if (requestCache != null)
+        {
+            EntityDetail entity = requestCache.getEntity(userId, guid);
+
+            if (entity == null)
+            {
+                entity = metadataCollection.getEntityDetail(userId, guid);
+
+                requestCache.putEntity(userId, entity);
+            }
+
+            return entity;
+        }
+
+        return metadataCollection.getEntityDetail(userId, guid);
+    }
+
+
+    /**
+     * Remove an entity that is about to change from the request cache.
+     *
+     * @param guid unique identifier of the entity
+     */
+    private void invalidateCachedEntity(String guid)
+    {
+        RepositoryRequestCache requestCache = RepositoryRequestCache.getCurrentCache();
+
+        if (requestCache != null)
+        {
+            requestCache.invalidateEntity(guid);
+        }
+    }
+
+
+    /**
+     * Remove the resolved anchors from the request cache because a relationship is about to change.
+     */
+    private void invalidateCachedAnchors()
+    {
+        RepositoryRequestCache requestCache = RepositoryRequestCache.getCurrentCache();
+
+        if (requestCache != null)
+        {
+            requestCache.invalidateAnchors();
+        }
+    }
+
+
     /**
      * Return a flag to indicate whether the effectivity dates in the properties of an element indicate that the element is not
      * effective at the supplied effectiveTime.  If a null effectiveTime is supplied then it is assumed to be "any".
@@ -131,7 +286,7 @@ public class RepositoryHandler
 
         try
         {
-            EntityDetail entity = metadataCollection.getEntityDetail(userId, guid);
+            EntityDetail entity = this.retrieveEntityDetail(userId, guid);
 
             if (entity != null)
             {
@@ -605,6 +760,45 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Create a batch of new entities in the open metadata repository with a single request.  The setting of
+     * externalSourceGUID in each item determines whether a local or a remote entity is created.
+     * The results are returned in the same order as the supplied items.  A failure with one item does not stop
+     * the other items from being created - the reason for the failure is recorded in the item's result.
+     *
+     * @param userId      calling user
+     * @param newEntities descriptions of the entities to create
+     * @param methodName  name of calling method
+     *
+     * @return list of results - one for each item
+     *
+     * @throws PropertyServerException    problem accessing property server
+     * @throws UserNotAuthorizedException security access problem
+     */
+    public List<InstanceBatchResult> createEntities(String                userId,
+                                                    List<EntityBatchItem> newEntities,
+                                                    String                methodName) throws UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        final String localMethodName = "createEntities";
+
+        try
+        {
+            return metadataCollection.addEntities(userId, newEntities);
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Exception error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Update the properties of an existing entity in the open metadata repository.
      *
@@ -733,6 +927,8 @@ public class RepositoryHandler
 
             try
             {
+                this.invalidateCachedEntity(entityGUID);
+
                 EntityDetail newEntity = metadataCollection.updateEntityProperties(userId, entityGUID, newProperties);
 
                 if (newEntity == null)
@@ -1221,6 +1417,8 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.invalidateCachedEntity(entityHeader.getGUID());
+
             EntityDetail newEntity = metadataCollection.updateEntityProperties(userId, entityHeader.getGUID(), properties);
 
             if (newEntity == null)
@@ -1320,6 +1518,8 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.invalidateCachedEntity(entityGUID);
+
             EntityDetail newEntity = metadataCollection.updateEntityStatus(userId, entityGUID, instanceStatus);
 
             if (newEntity == null)
@@ -1410,6 +1610,8 @@ public class RepositoryHandler
             // create a proxy representation to allow classification of entities incoming from other metadata collections
             EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(userId, entityDetail);
 
+            this.invalidateCachedEntity(entityProxy.getGUID());
+
             Classification newClassification = metadataCollection.classifyEntity(userId,
                                                                                  entityProxy,
                                                                                  classificationTypeName,
@@ -1616,6 +1818,8 @@ public class RepositoryHandler
 
                 EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(userId, entityDetail);
 
+                this.invalidateCachedEntity(entityProxy.getGUID());
+
                 Classification newClassification = metadataCollection.updateEntityClassification(userId,
                                                                                                  entityProxy,
                                                                                                  classificationTypeName,
@@ -1759,6 +1963,8 @@ public class RepositoryHandler
                 // create a proxy representation to allow declassification of entities incoming from other metadata collections
                 EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(userId, entityDetail);
 
+                this.invalidateCachedEntity(entityProxy.getGUID());
+
                 Classification removedClassification = metadataCollection.declassifyEntity(userId, entityProxy, classificationTypeName);
 
                 if (removedClassification == null)
@@ -2080,6 +2286,8 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateCachedEntity(obsoleteEntityGUID);
+
             metadataCollection.deleteEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException error)
@@ -2126,6 +2334,8 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateCachedEntity(obsoleteEntityGUID);
+
             metadataCollection.purgeEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
 
             auditLog.logMessage(methodName,
@@ -2169,6 +2379,8 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateCachedEntity(deletedEntityGUID);
+
             EntityDetail entity = metadataCollection.restoreEntity(userId, deletedEntityGUID);
 
             if (entity != null)
@@ -3063,6 +3275,97 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return the entities for a list of unique identifiers with a single call to the repository services.
+     * This avoids calling the repositories once for each entity when, for example, the entities at the other end
+     * of a page of relationships are needed.  Entities that are not known, are of the wrong type or are
+     * not appropriate for the caller are missing from the results.
+     *
+     * @param userId calling user
+     * @param guids unique identifiers for the entities
+     * @param entityTypeName expected type of the entities
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method name
+     *
+     * @return map of requested guid to verified entity
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entities.
+     */
+    public Map<String, EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                        List<String> guids,
+                                                        String       entityTypeName,
+                                                        boolean      forLineage,
+                                                        boolean      forDuplicateProcessing,
+                                                        Date         effectiveTime,
+                                                        String       methodName) throws InvalidParameterException,
+                                                                                        UserNotAuthorizedException,
+                                                                                        PropertyServerException
+    {
+        final String localMethodName = "getEntitiesByGUIDs";
+
+        Map<String, EntityDetail> results = new HashMap<>();
+
+        if ((guids == null) || (guids.isEmpty()))
+        {
+            return results;
+        }
+
+        List<EntityDetail> retrievedEntities = null;
+
+        try
+        {
+            retrievedEntities = metadataCollection.getEntitiesDetail(userId, guids);
+
+            RepositoryRequestCache requestCache = RepositoryRequestCache.getCurrentCache();
+
+            if ((requestCache != null) && (retrievedEntities != null))
+            {
+                for (EntityDetail entity : retrievedEntities)
+                {
+                    requestCache.putEntity(userId, entity);
+                }
+            }
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Exception error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        if (retrievedEntities != null)
+        {
+            for (EntityDetail entity : retrievedEntities)
+            {
+                if ((entity != null) && (entity.getType() != null) &&
+                        ((entityTypeName == null) || (repositoryHelper.isTypeOf(methodName, entity.getType().getTypeDefName(), entityTypeName))))
+                {
+                    EntityDetail verifiedEntity = this.validateRetrievedEntity(userId,
+                                                                               entity,
+                                                                               entityTypeName,
+                                                                               forLineage,
+                                                                               forDuplicateProcessing,
+                                                                               effectiveTime,
+                                                                               methodName);
+
+                    if (verifiedEntity != null)
+                    {
+                        results.put(entity.getGUID(), verifiedEntity);
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+
     /**
      * Test whether an entity is of a particular type or not.
      *
@@ -3092,7 +3395,7 @@ public class RepositoryHandler
 
         try
         {
-            EntityDetail entity = metadataCollection.getEntityDetail(userId, guid);
+            EntityDetail entity = this.retrieveEntityDetail(userId, guid);
 
             if ((entity == null) || (! this.isCorrectEffectiveTime(entity.getProperties(), effectiveTime)))
             {
@@ -5130,6 +5433,8 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateCachedAnchors();
+
             if (externalSourceGUID == null)
             {
                 return metadataCollection.addRelationship(userId,
@@ -5165,6 +5470,47 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Create a batch of relationships with a single request.  The value of externalSourceGUID in each item
+     * determines if the relationship is local or remote.  The results are returned in the same order as the
+     * supplied items.  A failure with one item does not stop the other items from being created - the reason
+     * for the failure is recorded in the item's result.
+     *
+     * @param userId           calling user
+     * @param newRelationships descriptions of the relationships to create
+     * @param methodName       name of calling method
+     *
+     * @return list of results - one for each item
+     *
+     * @throws PropertyServerException    problem accessing property server
+     * @throws UserNotAuthorizedException security access problem
+     */
+    public List<InstanceBatchResult> createRelationships(String                      userId,
+                                                         List<RelationshipBatchItem> newRelationships,
+                                                         String                      methodName) throws UserNotAuthorizedException,
+                                                                                                       PropertyServerException
+    {
+        final String localMethodName = "createRelationships";
+
+        try
+        {
+            this.invalidateCachedAnchors();
+
+            return metadataCollection.addRelationships(userId, newRelationships);
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Exception   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Ensure a relationship exists between two entities.  The setting of external source GUID determines if the relationship is external or not
      *
@@ -5375,6 +5721,8 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.invalidateCachedAnchors();
+
             metadataCollection.deleteRelationship(userId,
                                                   relationship.getType().getTypeDefGUID(),
                                                   relationship.getType().getTypeDefName(),
@@ -5443,6 +5791,8 @@ public class RepositoryHandler
 
         try
         {
+            this.invalidateCachedAnchors();
+
             metadataCollection.purgeRelationship(userId,
                                                  relationshipTypeGUID,
                                                  relationshipTypeName,
@@ -5484,6 +5834,8 @@ public class RepositoryHandler
         {
             // check each end is active prior to attempting the restore
 
+            this.invalidateCachedAnchors();
+
             Relationship relationship = metadataCollection.restoreRelationship(userId, deletedRelationshipGUID);
             if (relationship != null)
             {
@@ -5806,6 +6158,8 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.invalidateCachedAnchors();
+
             metadataCollection.updateRelationshipStatus(userId, relationshipGUID, instanceStatus);
         }
         catch (UserNotAuthorizedException | PropertyServerException error)
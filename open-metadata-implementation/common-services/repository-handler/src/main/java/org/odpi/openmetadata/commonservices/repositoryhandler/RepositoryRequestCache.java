@@ -0,0 +1,372 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * RepositoryRequestCache holds the entities and resolved anchors retrieved while processing a single request.
+ * It is only used by the thread processing the request and so it is not synchronized.  The cache is created when
+ * the outermost RepositoryRequestScope is opened and discarded when it is closed.
+ */
+class RepositoryRequestCache
+{
+    private static final ThreadLocal<RepositoryRequestCache> currentCache = new ThreadLocal<>();
+
+    private final String                                 methodName;
+    private final Map<String, Map<String, EntityDetail>> entities    = new HashMap<>();
+    private final Map<AnchorKey, String>                 anchorGUIDs = new HashMap<>();
+
+    private int  scopeDepth        = 0;
+    private long entityRetrievals  = 0;
+    private long entityCacheHits   = 0;
+    private long anchorDerivations = 0;
+    private long anchorCacheHits   = 0;
+    private long invalidations     = 0;
+
+
+    /**
+     * Create a cache for a new request.
+     *
+     * @param methodName name of the method that opened the outermost scope
+     */
+    private RepositoryRequestCache(String methodName)
+    {
+        this.methodName = methodName;
+    }
+
+
+    /**
+     * Return the cache for the request being processed by this thread.
+     *
+     * @return cache or null if no request scope is open
+     */
+    static RepositoryRequestCache getCurrentCache()
+    {
+        return currentCache.get();
+    }
+
+
+    /**
+     * Open a scope on this thread's cache - creating the cache if this is the outermost scope.
+     *
+     * @param methodName calling method
+     * @return cache for the request
+     */
+    static RepositoryRequestCache openScope(String methodName)
+    {
+        RepositoryRequestCache cache = currentCache.get();
+
+        if (cache == null)
+        {
+            cache = new RepositoryRequestCache(methodName);
+            currentCache.set(cache);
+        }
+
+        cache.scopeDepth++;
+
+        return cache;
+    }
+
+
+    /**
+     * Close a scope on this cache.  The cache is discarded when the outermost scope closes.
+     *
+     * @return true if this was the outermost scope
+     */
+    boolean closeScope()
+    {
+        scopeDepth--;
+
+        if (scopeDepth <= 0)
+        {
+            if (currentCache.get() == this)
+            {
+                currentCache.remove();
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the name of the method that opened the outermost scope.
+     *
+     * @return method name
+     */
+    String getMethodName()
+    {
+        return methodName;
+    }
+
+
+    /**
+     * Return a previously retrieved entity.
+     *
+     * @param userId calling user - the result of a retrieval depends on the security of the user
+     * @param guid unique identifier of the entity
+     * @return copy of the cached entity or null if it is not cached
+     */
+    EntityDetail getEntity(String userId,
+                           String guid)
+    {
+        entityRetrievals++;
+
+        Map<String, EntityDetail> userEntities = entities.get(guid);
+
+        if (userEntities != null)
+        {
+            EntityDetail entity = userEntities.get(userId);
+
+            if (entity != null)
+            {
+                entityCacheHits++;
+
+                return new EntityDetail(entity);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Save a retrieved entity.
+     *
+     * @param userId calling user
+     * @param entity retrieved entity
+     */
+    void putEntity(String       userId,
+                   EntityDetail entity)
+    {
+        if ((entity != null) && (entity.getGUID() != null))
+        {
+            entities.computeIfAbsent(entity.getGUID(), guid -> new HashMap<>()).put(userId, new EntityDetail(entity));
+        }
+    }
+
+
+    /**
+     * Return whether the anchor of an element has already been resolved.  This counts as a lookup.
+     * The anchor depends on the relationships that are visible to the request, so it is only reused for
+     * the same lineage, duplicate processing and effective time settings.
+     *
+     * @param guid unique identifier of the element
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time)
+     * @return boolean
+     */
+    boolean isAnchorGUIDCached(String  guid,
+                               boolean forLineage,
+                               boolean forDuplicateProcessing,
+                               Date    effectiveTime)
+    {
+        anchorDerivations++;
+
+        if (anchorGUIDs.containsKey(new AnchorKey(guid, forLineage, forDuplicateProcessing, effectiveTime)))
+        {
+            anchorCacheHits++;
+
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the resolved anchor of an element.
+     *
+     * @param guid unique identifier of the element
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time)
+     * @return anchor guid or null if the element has no anchor
+     */
+    String getAnchorGUID(String  guid,
+                         boolean forLineage,
+                         boolean forDuplicateProcessing,
+                         Date    effectiveTime)
+    {
+        return anchorGUIDs.get(new AnchorKey(guid, forLineage, forDuplicateProcessing, effectiveTime));
+    }
+
+
+    /**
+     * Save the resolved anchor of an element.
+     *
+     * @param guid unique identifier of the element
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time)
+     * @param anchorGUID unique identifier of its anchor (or null if it has no anchor)
+     */
+    void putAnchorGUID(String  guid,
+                       boolean forLineage,
+                       boolean forDuplicateProcessing,
+                       Date    effectiveTime,
+                       String  anchorGUID)
+    {
+        anchorGUIDs.put(new AnchorKey(guid, forLineage, forDuplicateProcessing, effectiveTime), anchorGUID);
+    }
+
+
+    /**
+     * Remove an entity that has been changed during the request.  Resolved anchors are also removed
+     * since they may have been derived from the entity.
+     *
+     * @param guid unique identifier of the changed entity
+     */
+    void invalidateEntity(String guid)
+    {
+        invalidations++;
+
+        entities.remove(guid);
+        anchorGUIDs.clear();
+    }
+
+
+    /**
+     * Remove the resolved anchors after a relationship has been changed during the request.
+     */
+    void invalidateAnchors()
+    {
+        invalidations++;
+
+        anchorGUIDs.clear();
+    }
+
+
+    /**
+     * Return the number of entity retrievals requested while the cache was open.
+     *
+     * @return count
+     */
+    long getEntityRetrievals()
+    {
+        return entityRetrievals;
+    }
+
+
+    /**
+     * Return the number of entity retrievals satisfied from the cache.
+     *
+     * @return count
+     */
+    long getEntityCacheHits()
+    {
+        return entityCacheHits;
+    }
+
+
+    /**
+     * Return the number of anchor lookups requested while the cache was open.
+     *
+     * @return count
+     */
+    long getAnchorDerivations()
+    {
+        return anchorDerivations;
+    }
+
+
+    /**
+     * Return the number of anchor lookups satisfied from the cache.
+     *
+     * @return count
+     */
+    long getAnchorCacheHits()
+    {
+        return anchorCacheHits;
+    }
+
+
+    /**
+     * Return the number of times cached values were discarded because of a change made during the request.
+     *
+     * @return count
+     */
+    long getInvalidations()
+    {
+        return invalidations;
+    }
+
+
+    /**
+     * AnchorKey identifies a resolved anchor.  The effective time is held as a number so that later changes
+     * to the caller's Date object do not affect the key.
+     */
+    private static class AnchorKey
+    {
+        private final String  guid;
+        private final boolean forLineage;
+        private final boolean forDuplicateProcessing;
+        private final Long    effectiveTime;
+
+
+        /**
+         * Constructor
+         *
+         * @param guid unique identifier of the element
+         * @param forLineage the request is to support lineage retrieval
+         * @param forDuplicateProcessing the request is for duplicate processing
+         * @param effectiveTime the time that the retrieved elements must be effective for (null for any time)
+         */
+        AnchorKey(String  guid,
+                  boolean forLineage,
+                  boolean forDuplicateProcessing,
+                  Date    effectiveTime)
+        {
+            this.guid                   = guid;
+            this.forLineage             = forLineage;
+            this.forDuplicateProcessing = forDuplicateProcessing;
+            this.effectiveTime          = (effectiveTime == null) ? null : effectiveTime.getTime();
+        }
+
+
+        /**
+         * Compare the values of the supplied object with those stored in the current object.
+         *
+         * @param objectToCompare supplied object
+         * @return boolean result of comparison
+         */
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            AnchorKey that = (AnchorKey) objectToCompare;
+            return forLineage == that.forLineage &&
+                           forDuplicateProcessing == that.forDuplicateProcessing &&
+                           Objects.equals(guid, that.guid) &&
+                           Objects.equals(effectiveTime, that.effectiveTime);
+        }
+
+
+        /**
+         * Return hash code based on properties.
+         *
+         * @return int
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(guid, forLineage, forDuplicateProcessing, effectiveTime);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * RepositoryRequestScope marks the processing of a single request.  While a scope is open on a thread, the
+ * RepositoryHandler remembers the entities it retrieves and the anchors resolved by the handlers so that
+ * repeated lookups within the request do not call the repositories again.  Changes made through the
+ * RepositoryHandler during the request remove the affected values.
+ *
+ * Scopes nest - only the outermost scope creates and discards the cache.  A scope must always be closed, so it
+ * is opened just before a try block and closed in the finally clause.
+ */
+public class RepositoryRequestScope implements AutoCloseable
+{
+    private static final Logger log = LoggerFactory.getLogger(RepositoryRequestScope.class);
+
+    private final RepositoryRequestCache cache;
+    private       boolean                closed = false;
+
+
+    /**
+     * Open a scope for the calling thread.
+     *
+     * @param methodName calling method
+     */
+    RepositoryRequestScope(String methodName)
+    {
+        this.cache = RepositoryRequestCache.openScope(methodName);
+    }
+
+
+    /**
+     * Return the number of repository calls that have been saved by the cache during this request.
+     *
+     * @return count
+     */
+    public long getRepositoryCallsSaved()
+    {
+        return cache.getEntityCacheHits() + cache.getAnchorCacheHits();
+    }
+
+
+    /**
+     * Return the number of entity retrievals requested during this request.
+     *
+     * @return count
+     */
+    public long getEntityRetrievals()
+    {
+        return cache.getEntityRetrievals();
+    }
+
+
+    /**
+     * Return the number of entity retrievals satisfied from the cache during this request.
+     *
+     * @return count
+     */
+    public long getEntityCacheHits()
+    {
+        return cache.getEntityCacheHits();
+    }
+
+
+    /**
+     * Return the number of anchor lookups satisfied from the cache during this request.
+     *
+     * @return count
+     */
+    public long getAnchorCacheHits()
+    {
+        return cache.getAnchorCacheHits();
+    }
+
+
+    /**
+     * Return the number of times cached values were discarded because of changes made during this request.
+     *
+     * @return count
+     */
+    public long getInvalidations()
+    {
+        return cache.getInvalidations();
+    }
+
+
+    /**
+     * Close the scope.  The cache is discarded, and its statistics logged, when the outermost scope closes.
+     */
+    @Override
+    public void close()
+    {
+        if (! closed)
+        {
+            closed = true;
+
+            if ((cache.closeScope()) && (log.isDebugEnabled()))
+            {
+                log.debug("Request " + cache.getMethodName() + " saved " + this.getRepositoryCallsSaved() +
+                                  " repository calls: entity retrievals=" + cache.getEntityRetrievals() +
+                                  ", entity cache hits=" + cache.getEntityCacheHits() +
+                                  ", anchor lookups=" + cache.getAnchorDerivations() +
+                                  ", anchor cache hits=" + cache.getAnchorCacheHits() +
+                                  ", invalidations=" + cache.getInvalidations());
+            }
+        }
+    }
+}
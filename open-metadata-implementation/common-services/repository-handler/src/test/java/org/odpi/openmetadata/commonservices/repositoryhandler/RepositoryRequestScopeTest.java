@@ -0,0 +1,149 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the request cache is shared by nested scopes, discarded with the outermost scope and
+ * invalidated by changes.
+ */
+public class RepositoryRequestScopeTest
+{
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    /**
+     * Nested scopes share the same cache and it is removed when the outermost scope closes.
+     */
+    @Test
+    public void testNesting()
+    {
+        assertNull(RepositoryRequestCache.getCurrentCache());
+
+        try (RepositoryRequestScope outerScope = new RepositoryRequestScope("outer"))
+        {
+            RepositoryRequestCache cache = RepositoryRequestCache.getCurrentCache();
+
+            assertNotNull(cache);
+
+            try (RepositoryRequestScope innerScope = new RepositoryRequestScope("inner"))
+            {
+                assertEquals(RepositoryRequestCache.getCurrentCache(), cache);
+
+                cache.putEntity("user", getEntity("e1"));
+                assertNotNull(cache.getEntity("user", "e1"));
+                assertEquals(innerScope.getRepositoryCallsSaved(), 1L);
+            }
+
+            assertEquals(RepositoryRequestCache.getCurrentCache(), cache);
+            assertNotNull(cache.getEntity("user", "e1"));
+            assertEquals(outerScope.getEntityCacheHits(), 2L);
+        }
+
+        assertNull(RepositoryRequestCache.getCurrentCache());
+    }
+
+
+    /**
+     * Entities are cached for each user and changes remove both the entity and the resolved anchors.
+     */
+    @Test
+    public void testInvalidation()
+    {
+        try (RepositoryRequestScope scope = new RepositoryRequestScope("test"))
+        {
+            RepositoryRequestCache cache = RepositoryRequestCache.getCurrentCache();
+
+            cache.putEntity("user1", getEntity("e1"));
+            assertNull(cache.getEntity("user2", "e1"));
+
+            cache.putAnchorGUID("a1", false, false, null, "e1");
+            cache.putAnchorGUID("a2", false, false, null, null);
+            assertTrue(cache.isAnchorGUIDCached("a1", false, false, null));
+            assertTrue(cache.isAnchorGUIDCached("a2", false, false, null));
+            assertNull(cache.getAnchorGUID("a2", false, false, null));
+
+            cache.invalidateEntity("e1");
+
+            assertNull(cache.getEntity("user1", "e1"));
+            assertFalse(cache.isAnchorGUIDCached("a1", false, false, null));
+
+            cache.putAnchorGUID("a1", false, false, null, "e1");
+            cache.invalidateAnchors();
+
+            assertFalse(cache.isAnchorGUIDCached("a1", false, false, null));
+            assertEquals(scope.getInvalidations(), 2L);
+            assertEquals(scope.getAnchorCacheHits(), 2L);
+        }
+    }
+
+
+    /**
+     * An anchor is only reused for requests with the same lineage, duplicate processing and effective time settings.
+     */
+    @Test
+    public void testAnchorKey()
+    {
+        try (RepositoryRequestScope scope = new RepositoryRequestScope("test"))
+        {
+            RepositoryRequestCache cache = RepositoryRequestCache.getCurrentCache();
+
+            Date effectiveTime = new Date(1000L);
+
+            cache.putAnchorGUID("a1", false, false, effectiveTime, "e1");
+            cache.putAnchorGUID("a1", true, false, null, "e2");
+
+            assertTrue(cache.isAnchorGUIDCached("a1", false, false, new Date(1000L)));
+            assertEquals(cache.getAnchorGUID("a1", false, false, new Date(1000L)), "e1");
+            assertEquals(cache.getAnchorGUID("a1", true, false, null), "e2");
+
+            assertFalse(cache.isAnchorGUIDCached("a1", false, false, new Date(2000L)));
+            assertFalse(cache.isAnchorGUIDCached("a1", false, false, null));
+            assertFalse(cache.isAnchorGUIDCached("a1", true, true, null));
+            assertFalse(cache.isAnchorGUIDCached("a1", false, true, effectiveTime));
+
+            /*
+             * Changing the caller's date after the anchor is cached does not change the key.
+             */
+            effectiveTime.setTime(3000L);
+            assertTrue(cache.isAnchorGUIDCached("a1", false, false, new Date(1000L)));
+            assertEquals(scope.getAnchorCacheHits(), 2L);
+        }
+    }
+
+
+    /**
+     * The cache returns copies so callers can not change the cached entity.
+     */
+    @Test
+    public void testCopies()
+    {
+        try (RepositoryRequestScope scope = new RepositoryRequestScope("test"))
+        {
+            RepositoryRequestCache cache = RepositoryRequestCache.getCurrentCache();
+
+            cache.putEntity("user", getEntity("e1"));
+            cache.getEntity("user", "e1").setGUID("changed");
+
+            assertEquals(cache.getEntity("user", "e1").getGUID(), "e1");
+            assertEquals(scope.getEntityRetrievals(), 2L);
+        }
+    }
+}
@@ -11,6 +11,9 @@ import org.slf4j.LoggerFactory;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * AuditLog is the superclass of audit log implementations.  It is concrete
@@ -229,7 +232,9 @@ public class AuditLog extends MessageFormatter
 
 
     /**
-     * Build a log record and pass it to the destination if it is set up.
+     * Build a log record and pass it to the destination if it is set up.  The record is counted
+     * in the audit log activity even if the destination does not log records of its severity.
+     * In that case, the record is not built.
      *
      * @param actionDescription short description of the activity
      * @param messageDefinition message content to log
@@ -243,6 +248,21 @@ public class AuditLog extends MessageFormatter
     {
         if (destination != null)
         {
+            if (messageDefinition != null)
+            {
+                AuditLogRecordSeverity severity = messageDefinition.getSeverity();
+
+                if (severity != null)
+                {
+                    auditLogActivity.countRecord(severity.getOrdinal(), severity.getName());
+
+                    if (! destination.isSeverityLogged(severity.getName()))
+                    {
+                        return;
+                    }
+                }
+            }
+
             destination.addLogRecord(
                     this.createLogRecord(actionDescription,
                                          messageDefinition,
@@ -289,12 +309,10 @@ public class AuditLog extends MessageFormatter
             {
                 logRecord.setSeverityCode(severity.getOrdinal());
                 logRecord.setSeverity(severity.getName());
-
-                auditLogActivity.countRecord(severity.getOrdinal(), severity.getName());
             }
 
             logRecord.setMessageId(messageDefinition.getMessageId());
-            logRecord.setMessageText(this.getFormattedMessageText(messageDefinition));
+            logRecord.setMessageTextSupplier(this.getDeferredMessageText(messageDefinition));
             logRecord.setMessageParameters(messageDefinition.getMessageParams());
             logRecord.setSystemAction(messageDefinition.getSystemAction());
             logRecord.setUserAction(messageDefinition.getUserAction());
@@ -370,12 +388,13 @@ public class AuditLog extends MessageFormatter
 
 
     /**
-     * Count up the number of records of each severity logged by a component.
+     * Count up the number of records of each severity logged by a component.  The counts are
+     * maintained without locking since every log record updates them.
      */
     public static class AuditLogActivity
     {
-        private volatile Map<Integer, List<String>> severityIdentificationMap = new HashMap<>();
-        private volatile Map<Integer, Integer>      severityCountMap          = new HashMap<>();
+        private final Map<Integer, CopyOnWriteArrayList<String>> severityIdentificationMap = new ConcurrentHashMap<>();
+        private final Map<Integer, LongAdder>                    severityCountMap          = new ConcurrentHashMap<>();
 
         /**
          * Update the maps with information about another log record.
@@ -383,37 +402,29 @@ public class AuditLog extends MessageFormatter
          * @param severityCode severity code of the message
          * @param severityName name associated with the severity code
          */
-        public synchronized void countRecord(int    severityCode,
-                                             String severityName)
+        public void countRecord(int    severityCode,
+                                String severityName)
         {
-            if (severityIdentificationMap.containsKey(severityCode))
-            {
-                List<String>   severityNames = severityIdentificationMap.get(severityCode);
+            CopyOnWriteArrayList<String> severityNames = severityIdentificationMap.get(severityCode);
 
-                if (! severityNames.contains(severityName))
-                {
-                    severityNames.add(severityName);
-                    severityIdentificationMap.put(severityCode, severityNames);
-                }
-            }
-            else
+            if (severityNames == null)
             {
-                List<String>   severityNames = new ArrayList<>();
+                severityNames = severityIdentificationMap.computeIfAbsent(severityCode, code -> new CopyOnWriteArrayList<>());
+            }
 
-                severityNames.add(severityName);
-                severityIdentificationMap.put(severityCode, severityNames);
+            if (! severityNames.contains(severityName))
+            {
+                severityNames.addIfAbsent(severityName);
             }
 
-            int severityCount = 0;
+            LongAdder severityCount = severityCountMap.get(severityCode);
 
-            if (severityCountMap.containsKey(severityCode))
+            if (severityCount == null)
             {
-                severityCount = severityCountMap.get(severityCode);
+                severityCount = severityCountMap.computeIfAbsent(severityCode, code -> new LongAdder());
             }
 
-            severityCount ++;
-            severityCountMap.put(severityCode, severityCount);
-
+            severityCount.increment();
         }
 
 
@@ -422,19 +433,19 @@ public class AuditLog extends MessageFormatter
          *
          * @return map of severity codes to list of severity names associated with it.
          */
-        synchronized Map<Integer, List<String>> getSeverityIdentificationMap()
+        Map<Integer, List<String>> getSeverityIdentificationMap()
         {
             if (! severityIdentificationMap.isEmpty())
             {
                 Map<Integer, List<String>>  result = new HashMap<>();
 
-                for (Integer  severityCode : severityIdentificationMap.keySet())
+                for (Map.Entry<Integer, CopyOnWriteArrayList<String>> entry : severityIdentificationMap.entrySet())
                 {
-                    List<String>  severityNames = severityIdentificationMap.get(severityCode);
+                    List<String>  severityNames = entry.getValue();
 
                     if ((severityNames != null) && (! severityNames.isEmpty()))
                     {
-                        result.put(severityCode, new ArrayList<>(severityNames));
+                        result.put(entry.getKey(), new ArrayList<>(severityNames));
                     }
                 }
 
@@ -453,17 +464,15 @@ public class AuditLog extends MessageFormatter
          *
          * @return map of severity code to log record count
          */
-        synchronized Map<Integer, Integer> getSeverityCountMap()
+        Map<Integer, Integer> getSeverityCountMap()
         {
             if (! severityCountMap.isEmpty())
             {
                 Map<Integer, Integer>  result = new HashMap<>();
 
-                for (Integer  severityCode : severityCountMap.keySet())
+                for (Map.Entry<Integer, LongAdder> entry : severityCountMap.entrySet())
                 {
-                    Integer  severityCount = severityCountMap.get(severityCode);
-
-                    result.put(severityCode, severityCount);
+                    result.put(entry.getKey(), entry.getValue().intValue());
                 }
 
                 if (! result.isEmpty())
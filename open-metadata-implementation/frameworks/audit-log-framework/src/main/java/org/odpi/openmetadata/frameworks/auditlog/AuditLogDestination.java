@@ -46,6 +46,20 @@ public abstract class AuditLogDestination
     }
 
 
+    /**
+     * Return whether log records of the requested severity are stored or processed by this destination.
+     * The audit log uses this to avoid building log records that are going to be discarded.
+     * By default, all severities are accepted.
+     *
+     * @param severityName name of the severity
+     * @return boolean flag
+     */
+    public boolean isSeverityLogged(String severityName)
+    {
+        return true;
+    }
+
+
     /**
      * Log an audit log record for an event, decision, error, or exception detected by the
      * open metadata services.
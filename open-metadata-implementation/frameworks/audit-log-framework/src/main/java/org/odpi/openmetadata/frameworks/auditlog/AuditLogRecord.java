@@ -6,8 +6,11 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
@@ -41,6 +44,12 @@ public class AuditLogRecord implements Serializable
     private String                     exceptionMessage      = null;
     private String                     exceptionStackTrace   = null;
 
+    /*
+     * Formats the message text the first time it is requested.  This means the cost of formatting
+     * is only paid if a destination renders the message text.
+     */
+    private transient Supplier<String> messageTextSupplier = null;
+
 
     /**
      * Default constructor
@@ -67,7 +76,8 @@ public class AuditLogRecord implements Serializable
         this.severityCode         = template.getSeverityCode();
         this.severity             = template.getSeverity();
         this.messageId            = template.getMessageId();
-        this.messageText          = template.getMessageText();
+        this.messageText          = template.messageText;
+        this.messageTextSupplier  = template.messageTextSupplier;
         this.messageParameters     = template.getMessageParameters();
         this.additionalInformation = template.getAdditionalInformation();
         this.systemAction          = template.getSystemAction();
@@ -306,6 +316,14 @@ public class AuditLogRecord implements Serializable
      */
     public String getMessageText()
     {
+        Supplier<String> supplier = messageTextSupplier;
+
+        if ((messageText == null) && (supplier != null))
+        {
+            messageText = supplier.get();
+            messageTextSupplier = null;
+        }
+
         return messageText;
     }
 
@@ -318,6 +336,32 @@ public class AuditLogRecord implements Serializable
     public void setMessageText(String messageText)
     {
         this.messageText = messageText;
+        this.messageTextSupplier = null;
+    }
+
+
+    /**
+     * Set up a supplier that formats the text of the message the first time it is requested.
+     *
+     * @param messageTextSupplier function to format the message text
+     */
+    void setMessageTextSupplier(Supplier<String> messageTextSupplier)
+    {
+        this.messageText = null;
+        this.messageTextSupplier = messageTextSupplier;
+    }
+
+
+    /**
+     * Make sure the message text is formatted before the record is serialized since the supplier is transient.
+     *
+     * @param outputStream stream to write the record to
+     * @throws IOException unable to write the record
+     */
+    private void writeObject(ObjectOutputStream outputStream) throws IOException
+    {
+        this.getMessageText();
+        outputStream.defaultWriteObject();
     }
 
 
@@ -492,7 +536,7 @@ public class AuditLogRecord implements Serializable
                 ", severityCode=" + severityCode +
                 ", severity='" + severity + '\'' +
                 ", messageId='" + messageId + '\'' +
-                ", messageText='" + messageText + '\'' +
+                ", messageText='" + getMessageText() + '\'' +
                 ", messageParameters=" + Arrays.toString(messageParameters) +
                 ", additionalInformation=" + additionalInformation +
                 ", systemAction='" + systemAction + '\'' +
@@ -532,7 +576,7 @@ public class AuditLogRecord implements Serializable
                 Objects.equals(threadName, that.threadName) &&
                 Objects.equals(severity, that.severity) &&
                 Objects.equals(messageId, that.messageId) &&
-                Objects.equals(messageText, that.messageText) &&
+                Objects.equals(getMessageText(), that.getMessageText()) &&
                 Arrays.equals(messageParameters, that.messageParameters) &&
                 Objects.equals(additionalInformation, that.additionalInformation) &&
                 Objects.equals(systemAction, that.systemAction) &&
@@ -552,7 +596,7 @@ public class AuditLogRecord implements Serializable
     public int hashCode()
     {
         int result = Objects.hash(guid, timeStamp, originatorProperties, originatorComponent, actionDescription, threadId, threadName, severityCode, severity,
-                                  messageId, messageText, additionalInformation, systemAction, userAction, exceptionClassName, exceptionMessage,
+                                  messageId, getMessageText(), additionalInformation, systemAction, userAction, exceptionClassName, exceptionMessage,
                                   exceptionStackTrace);
         result = 31 * result + Arrays.hashCode(messageParameters);
         return result;
@@ -7,15 +7,30 @@ import org.odpi.openmetadata.frameworks.auditlog.messagesets.MessageDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.text.Format;
 import java.text.MessageFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * MessageFormatter is the superclass of audit log implementations.  It provides the ability to format a message.
+ *
+ * Message templates are parsed once and the result is cached.  This is because the same message definitions
+ * are used over and over again by the components that log messages and throw exceptions.
  */
 public class MessageFormatter
 {
     private static final Logger log = LoggerFactory.getLogger(MessageFormatter.class);
 
+    /*
+     * Message definitions are fixed by the message sets, so the cache only grows beyond this size
+     * if callers are building templates dynamically.  In that case, new templates are parsed on each call.
+     */
+    private static final int MAX_CACHED_TEMPLATES = 5000;
+
+    private static final Map<String, MessageTemplate> templateCache = new ConcurrentHashMap<>();
+
 
     /**
      * Default Constructor
@@ -25,6 +40,30 @@ public class MessageFormatter
     }
 
 
+    /**
+     * Return the parsed version of the message template - either from the cache or by parsing it.
+     *
+     * @param messageTemplate message with placeholders
+     * @return parsed template
+     */
+    private MessageTemplate getMessageTemplate(String messageTemplate)
+    {
+        MessageTemplate template = templateCache.get(messageTemplate);
+
+        if (template == null)
+        {
+            template = new MessageTemplate(messageTemplate);
+
+            if (templateCache.size() < MAX_CACHED_TEMPLATES)
+            {
+                templateCache.putIfAbsent(messageTemplate, template);
+            }
+        }
+
+        return template;
+    }
+
+
     /**
      * Format the message.
      *
@@ -35,21 +74,26 @@ public class MessageFormatter
     private String formatMessage(String     messageTemplate,
                                  String[]   messageParameters)
     {
-        MessageFormat mf        = new MessageFormat(messageTemplate);
-        String formattedMessage = messageTemplate;
-        int    parameterCount   = 0;
+        if (messageTemplate == null)
+        {
+            return null;
+        }
+
+        MessageTemplate template         = this.getMessageTemplate(messageTemplate);
+        String          formattedMessage = messageTemplate;
+        int             parameterCount   = 0;
 
         if (messageParameters != null)
         {
             parameterCount = messageParameters.length;
-            formattedMessage = mf.format(messageParameters);
+            formattedMessage = template.format(messageParameters);
         }
 
-        if (mf.getFormats().length > parameterCount)
+        if (template.getPlaceholderCount() > parameterCount)
         {
             log.warn("Missing parameter for message {}", messageTemplate);
         }
-        else if (mf.getFormats().length < parameterCount)
+        else if (template.getPlaceholderCount() < parameterCount)
         {
             log.warn("Too many parameters for message {}", messageTemplate);
         }
@@ -79,6 +123,24 @@ public class MessageFormatter
     }
 
 
+    /**
+     * Return a supplier that formats the message text from a message definition instance when it is called.
+     * This allows the audit log to avoid formatting messages that are never rendered.  The template and
+     * parameters are captured when this method is called so later changes to the message definition do
+     * not affect the result.
+     *
+     * @param messageDefinition details about the message to format.
+     * @return supplier of the formatted message
+     */
+    Supplier<String> getDeferredMessageText(MessageDefinition messageDefinition)
+    {
+        final String   messageTemplate   = messageDefinition.getMessageTemplate();
+        final String[] messageParameters = messageDefinition.getMessageParams();
+
+        return () -> this.formatMessage(messageTemplate, messageParameters);
+    }
+
+
     /**
      * Create a formatted message from a message definition instance.  This instance
      * contains the unique message identifier, the default message template and the
@@ -96,4 +158,91 @@ public class MessageFormatter
         return messageDefinition.getMessageId() + " " + this.formatMessage(messageDefinition.getMessageTemplate(),
                                                                            messageDefinition.getMessageParams());
     }
+
+
+    /**
+     * MessageTemplate is the parsed version of a message template.  MessageFormat is not thread-safe
+     * when the template includes typed placeholders (such as {0,number}) because these use their own
+     * formatters.  The parsed format is shared between threads for simple placeholders and
+     * cloned for typed placeholders (cloning is cheaper than parsing the template again).
+     * Templates that contain neither placeholders nor quotes are returned unchanged.
+     */
+    private static class MessageTemplate
+    {
+        private final String        messageTemplate;
+        private final MessageFormat messageFormat;
+        private final int           placeholderCount;
+        private final boolean       sharedFormat;
+
+
+        /**
+         * Parse the template.
+         *
+         * @param messageTemplate message with placeholders
+         */
+        MessageTemplate(String messageTemplate)
+        {
+            this.messageTemplate = messageTemplate;
+
+            if ((messageTemplate.indexOf('{') < 0) && (messageTemplate.indexOf('\'') < 0))
+            {
+                this.messageFormat    = null;
+                this.placeholderCount = 0;
+                this.sharedFormat     = true;
+            }
+            else
+            {
+                this.messageFormat = new MessageFormat(messageTemplate);
+
+                Format[] formats         = messageFormat.getFormats();
+                boolean  typedFormatUsed = false;
+
+                for (Format format : formats)
+                {
+                    if (format != null)
+                    {
+                        typedFormatUsed = true;
+                        break;
+                    }
+                }
+
+                this.placeholderCount = formats.length;
+                this.sharedFormat     = ! typedFormatUsed;
+            }
+        }
+
+
+        /**
+         * Return the number of placeholders in the template.
+         *
+         * @return count
+         */
+        int getPlaceholderCount()
+        {
+            return placeholderCount;
+        }
+
+
+        /**
+         * Insert the parameters into the template.
+         *
+         * @param messageParameters parameters to insert into placeholders
+         * @return formatted message
+         */
+        String format(String[] messageParameters)
+        {
+            if (messageFormat == null)
+            {
+                return messageTemplate;
+            }
+            else if (sharedFormat)
+            {
+                return messageFormat.format(messageParameters);
+            }
+            else
+            {
+                return ((MessageFormat)messageFormat.clone()).format(messageParameters);
+            }
+        }
+    }
 }
@@ -0,0 +1,271 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.auditlog;
+
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogRecordSeverity;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuditLogBenchmark measures the per-message cost of formatting and logging audit log messages.
+ * The formatPerCall benchmark shows the cost of the original approach of parsing the message template
+ * on every call so it can be compared with the cached templates used by the MessageFormatter.
+ * The logging benchmarks show the cost of a message that is rendered by the destination, one that is
+ * passed to the destination but never rendered and one that is filtered out by severity.
+ *
+ * Run with: java -cp (test classpath) org.odpi.openmetadata.frameworks.auditlog.AuditLogBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuditLogBenchmark
+{
+    private static final String messageTemplate = "The {0} server has processed event {1} from cohort {2} in {3} milliseconds";
+    private static final String severityName    = "Information";
+
+    private final String[]         messageParameters = new String[]{ "cocoMDS1", "f0a2ac0e-7a4e-4c13-8a9b-8f4e8dc9c2d1", "cocoCohort", "12" };
+    private final MessageFormatter messageFormatter  = new MessageFormatter();
+
+    private AuditLog renderingAuditLog;
+    private AuditLog discardingAuditLog;
+    private AuditLog filteringAuditLog;
+
+
+    /**
+     * Create the audit logs for each of the destinations.
+     */
+    @Setup
+    public void setUp()
+    {
+        renderingAuditLog  = getAuditLog(new BenchmarkDestination(true, true));
+        discardingAuditLog = getAuditLog(new BenchmarkDestination(true, false));
+        filteringAuditLog  = getAuditLog(new BenchmarkDestination(false, false));
+    }
+
+
+    /**
+     * Return an audit log for the destination.
+     *
+     * @param destination destination for log records
+     * @return audit log
+     */
+    private AuditLog getAuditLog(AuditLogDestination destination)
+    {
+        return new AuditLog(destination,
+                            1,
+                            ComponentDevelopmentStatus.STABLE,
+                            "AuditLogBenchmark",
+                            "Component used to measure audit log performance",
+                            null);
+    }
+
+
+    /**
+     * Return a new message definition - message sets create a new definition for each message.
+     *
+     * @return message definition with parameters
+     */
+    private AuditLogMessageDefinition getMessageDefinition()
+    {
+        AuditLogMessageDefinition messageDefinition = new AuditLogMessageDefinition("BENCHMARK-0001",
+                                                                                    new BenchmarkSeverity(),
+                                                                                    messageTemplate,
+                                                                                    "No action",
+                                                                                    "No action");
+        messageDefinition.setMessageParameters(messageParameters);
+
+        return messageDefinition;
+    }
+
+
+    /**
+     * The original approach: parse the template for every message.
+     *
+     * @return formatted message
+     */
+    @Benchmark
+    public String formatPerCall()
+    {
+        return new MessageFormat(messageTemplate).format(messageParameters);
+    }
+
+
+    /**
+     * Format the message using the cached template.
+     *
+     * @return formatted message
+     */
+    @Benchmark
+    public String formatCached()
+    {
+        return messageFormatter.getFormattedMessage(getMessageDefinition());
+    }
+
+
+    /**
+     * Log a message to a destination that renders the message text.
+     */
+    @Benchmark
+    public void logMessageRendered()
+    {
+        renderingAuditLog.logMessage("benchmark", getMessageDefinition());
+    }
+
+
+    /**
+     * Log a message to a destination that never renders the message text.
+     */
+    @Benchmark
+    public void logMessageNotRendered()
+    {
+        discardingAuditLog.logMessage("benchmark", getMessageDefinition());
+    }
+
+
+    /**
+     * Log a message to a destination that does not accept messages of its severity.
+     */
+    @Benchmark
+    public void logMessageFiltered()
+    {
+        filteringAuditLog.logMessage("benchmark", getMessageDefinition());
+    }
+
+
+    /**
+     * Count records from several threads at once to show the cost of updating the severity counts.
+     *
+     * @param blackhole consumer of the result
+     */
+    @Benchmark
+    @Threads(4)
+    public void countRecordContended(Blackhole blackhole)
+    {
+        renderingAuditLog.auditLogActivity.countRecord(0, severityName);
+        blackhole.consume(renderingAuditLog.auditLogActivity);
+    }
+
+
+    /**
+     * Run the benchmarks.
+     *
+     * @param args unused
+     * @throws RunnerException problem running the benchmarks
+     */
+    public static void main(String[] args) throws RunnerException
+    {
+        Options options = new OptionsBuilder().include(AuditLogBenchmark.class.getSimpleName()).build();
+
+        new Runner(options).run();
+    }
+
+
+    /**
+     * Destination that can choose whether to accept messages and whether to render their text.
+     */
+    static class BenchmarkDestination extends AuditLogDestination
+    {
+        private final boolean acceptSeverity;
+        private final boolean renderText;
+
+        private volatile String lastMessageText = null;
+
+
+        /**
+         * Constructor
+         *
+         * @param acceptSeverity should log records be built
+         * @param renderText should the message text be formatted
+         */
+        BenchmarkDestination(boolean acceptSeverity,
+                             boolean renderText)
+        {
+            super();
+
+            this.acceptSeverity = acceptSeverity;
+            this.renderText     = renderText;
+        }
+
+
+        /**
+         * Return whether log records of the requested severity are accepted.
+         *
+         * @param severityName name of the severity
+         * @return boolean flag
+         */
+        @Override
+        public boolean isSeverityLogged(String severityName)
+        {
+            return acceptSeverity;
+        }
+
+
+        /**
+         * Receive a log record.
+         *
+         * @param logRecord the log record
+         */
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+            if (renderText)
+            {
+                lastMessageText = logRecord.getMessageText();
+            }
+        }
+    }
+
+
+    /**
+     * Severity used for the benchmark messages.
+     */
+    static class BenchmarkSeverity implements AuditLogRecordSeverity
+    {
+        /**
+         * Return the numeric representation of the severity.
+         *
+         * @return int identifier
+         */
+        @Override
+        public int getOrdinal()
+        {
+            return 0;
+        }
+
+
+        /**
+         * Return the default name of the severity.
+         *
+         * @return String name
+         */
+        @Override
+        public String getName()
+        {
+            return severityName;
+        }
+
+
+        /**
+         * Return the default description of the severity.
+         *
+         * @return String description
+         */
+        @Override
+        public String getDescription()
+        {
+            return "Informational message used by the benchmark.";
+        }
+    }
+}
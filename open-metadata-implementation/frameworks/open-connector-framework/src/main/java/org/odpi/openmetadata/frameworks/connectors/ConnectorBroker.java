@@ -14,18 +14,27 @@ import org.odpi.openmetadata.frameworks.connectors.properties.*;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.VirtualConnection;
 
+import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The ConnectorBroker is a generic factory for Open Connector Framework (OCF) Connectors.
  * The OCF provides a default implementation because all the implementation that is specific to a
  * particular type of connector is delegated to the connector provider specified in the connection.
+ * The constructors of the connector provider classes are cached (for the whole JVM) by class name so that the
+ * class lookup is only done the first time a connector provider class is used.
  */
 public class ConnectorBroker
 {
     private static final Logger log      = LoggerFactory.getLogger(ConnectorBroker.class);
     private final        int    hashCode = UUID.randomUUID().hashCode();
 
+    private static final Map<String, Constructor<?>> connectorProviderConstructors = new ConcurrentHashMap<>();
+    private static final AtomicLong                  providerCacheHits             = new AtomicLong(0);
+    private static final AtomicLong                  providerCacheMisses           = new AtomicLong(0);
+
 
     private AuditLog auditLog = null;
 
@@ -50,6 +59,64 @@ public class ConnectorBroker
     }
 
 
+    /**
+     * Return the number of times that a connector provider class was found in the cache.
+     *
+     * @return count since the JVM started
+     */
+    public static long getProviderCacheHits()
+    {
+        return providerCacheHits.get();
+    }
+
+
+    /**
+     * Return the number of times that a connector provider class had to be loaded because it was not in the cache.
+     *
+     * @return count since the JVM started
+     */
+    public static long getProviderCacheMisses()
+    {
+        return providerCacheMisses.get();
+    }
+
+
+    /**
+     * Return the no-arg constructor for the connector provider class.  Constructors are cached by class name.
+     * Only classes that implement ConnectorProvider are added to the cache.
+     *
+     * @param connectorProviderClassName name of the connector provider class
+     * @return constructor
+     * @throws ClassNotFoundException the class is not known to the JVM
+     * @throws NoSuchMethodException the class does not have a no-arg constructor
+     */
+    private Constructor<?> getConnectorProviderConstructor(String connectorProviderClassName) throws ClassNotFoundException,
+                                                                                                    NoSuchMethodException
+    {
+        Constructor<?> connectorProviderConstructor = connectorProviderConstructors.get(connectorProviderClassName);
+
+        if (connectorProviderConstructor != null)
+        {
+            providerCacheHits.incrementAndGet();
+        }
+        else
+        {
+            providerCacheMisses.incrementAndGet();
+
+            Class<?>   connectorProviderClass = Class.forName(connectorProviderClassName);
+
+            connectorProviderConstructor = connectorProviderClass.getDeclaredConstructor();
+
+            if (ConnectorProvider.class.isAssignableFrom(connectorProviderClass))
+            {
+                connectorProviderConstructors.put(connectorProviderClassName, connectorProviderConstructor);
+            }
+        }
+
+        return connectorProviderConstructor;
+    }
+
+
     /**
      * Validate that the connection (or the embedded connections if this is a virtual connection)
      * are not null.
@@ -155,8 +222,7 @@ public class ConnectorBroker
 
         try
         {
-            Class<?>   connectorProviderClass = Class.forName(connectorProviderClassName);
-            Object     potentialConnectorProvider = connectorProviderClass.getDeclaredConstructor().newInstance();
+            Object     potentialConnectorProvider = this.getConnectorProviderConstructor(connectorProviderClassName).newInstance();
 
             connectorProvider = (ConnectorProvider)potentialConnectorProvider;
         }
@@ -282,13 +348,31 @@ public class ConnectorBroker
 
         log.debug("==> ConnectorBroker." + methodName);
 
+        this.getValidatedConnectorProvider(connection, methodName);
+
+        log.debug("<== ConnectorBroker." + methodName);
+    }
+
+
+    /**
+     * Validate that the connection has sufficient properties to attempt to create a connector and return the
+     * connector provider that was created during the validation.  This is the validation performed by
+     * validateConnection().  It is shared with getConnector() (and so with each embedded connection of a
+     * virtual connection) so that the connector provider is only created once for each connector.
+     *
+     * @param connection connection properties
+     * @param methodName calling method (for error handling)
+     * @return connector provider named in the connection's connector type
+     * @throws ConnectionCheckedException an error with the connection.
+     */
+    private ConnectorProvider getValidatedConnectorProvider(ConnectionProperties    connection,
+                                                            String                  methodName) throws ConnectionCheckedException
+    {
         validateConnectionNotNull(connection, methodName);
 
         ConnectorTypeProperties requestedConnectorType = this.getConnectorType(connection, methodName);
 
-        getConnectorProvider(requestedConnectorType, connection.getConnectionName(), methodName);
-
-        log.debug("<== ConnectorBroker." + methodName);
+        return getConnectorProvider(requestedConnectorType, connection.getConnectionName(), methodName);
     }
 
 
@@ -333,25 +417,16 @@ public class ConnectorBroker
 
         log.debug("==> ConnectorBroker." + methodName);
 
-        this.validateConnection(connection);
-        connectionName = connection.getConnectionName();
-
-
         /*
          * Within the connection is a structure called the connector type.  This defines the factory for a new
-         * connector instance.  This factory is called the Connector Provider.
+         * connector instance.  This factory is called the Connector Provider.  The full validation of
+         * validateConnection() is performed and it returns the connector provider it created, so the
+         * connector provider is only created once.
          */
-        ConnectorTypeProperties requestedConnectorType = this.getConnectorType(connection, methodName);
-
+        ConnectorProvider       connectorProvider      = this.getValidatedConnectorProvider(connection, methodName);
+        ConnectorTypeProperties requestedConnectorType = connection.getConnectorType();
 
-        /*
-         * The connection has a valid connector type so the next step is to extract the class name for the
-         * connector provider.  This is the specialized factory for the connector.
-         * Then create an instance of this class.
-         */
-        ConnectorProvider connectorProvider = this.getConnectorProvider(requestedConnectorType,
-                                                                        connectionName,
-                                                                        methodName);
+        connectionName = connection.getConnectionName();
 
         /*
          * If the connector provider or connector is capable of using an audit log, an audit log is passed to the connector provider if available.
@@ -239,6 +239,32 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
     }
 
 
+    /**
+     * Set up the first cache of elements when they have been retrieved from the property (metadata) server
+     * along with the parent object.  This saves a call to the property server the first time next() is called.
+     * The supplied elements are ignored if the caller has already started to step through the list.
+     *
+     * @param initialElements elements at the start of the full list
+     */
+    void setInitialCachedList(List<ElementBase> initialElements)
+    {
+        if ((cachedElementStart == 0) && (initialElements != null) && (! initialElements.isEmpty()))
+        {
+            cachedElementList = new ArrayList<>();
+
+            for (ElementBase element : initialElements)
+            {
+                if (element != null)
+                {
+                    cachedElementList.add(element);
+                }
+            }
+
+            cachedElementPointer = 0;
+        }
+    }
+
+
     /**
      * Return the number of elements in the list.
      *
@@ -65,6 +65,21 @@ public abstract class PropertyIteratorBase extends PropertyBase
     }
 
 
+    /**
+     * Used by a subclass to pass elements that were retrieved along with the parent object.  These become
+     * the first cache of elements so no call is made to the property (metadata) server until they have been used.
+     *
+     * @param initialElements elements at the start of the list
+     */
+    protected void setInitialCachedList(List<ElementBase> initialElements)
+    {
+        if (pagingIterator != null)
+        {
+            pagingIterator.setInitialCachedList(initialElements);
+        }
+    }
+
+
     /**
      * Method implemented by a subclass that ensures the cloning process is a deep clone.
      *
@@ -4,8 +4,10 @@ package org.odpi.openmetadata.frameworks.connectors;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectionCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.VirtualConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.VirtualConnection;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertFalse;
@@ -558,6 +560,122 @@ public class TestConnectorBroker
         }
     }
 
+
+    /**
+     * Validate that the connector provider class is cached and each request still returns a new connector.
+     */
+    @Test public void testProviderCache()
+    {
+        ConnectorBroker cb = new ConnectorBroker();
+
+        ConnectorType testConnType = new ConnectorType();
+
+        testConnType.setQualifiedName("Test.ConnectorType");
+        testConnType.setDisplayName("TestCT");
+        testConnType.setConnectorProviderClassName(MockConnectorProvider.class.getName());
+
+        Connection      testConnection = new Connection();
+
+        testConnection.setQualifiedName("Test.Connection");
+        testConnection.setDisplayName("Test");
+        testConnection.setConnectorType(testConnType);
+
+        try
+        {
+            Connector firstConnector = cb.getConnector(testConnection);
+            long      hits           = ConnectorBroker.getProviderCacheHits();
+            long      misses         = ConnectorBroker.getProviderCacheMisses();
+            Connector secondConnector = cb.getConnector(testConnection);
+
+            assertTrue(firstConnector != secondConnector);
+            assertTrue(ConnectorBroker.getProviderCacheHits() > hits);
+            assertTrue(ConnectorBroker.getProviderCacheMisses() == misses);
+        }
+        catch (Exception error)
+        {
+            assertTrue(false);
+        }
+    }
+
+
+    /**
+     * Validate that getConnector() reports the same validation errors as validateConnection().
+     */
+    @Test public void testGetConnectorValidation()
+    {
+        ConnectorBroker cb = new ConnectorBroker();
+
+        ConnectorType unknownConnType = new ConnectorType();
+
+        unknownConnType.setQualifiedName("Test.Joke.ConnectorType");
+        unknownConnType.setDisplayName("TestCTJoke");
+        unknownConnType.setConnectorProviderClassName("Joke");
+
+        Connection      noConnTypeConnection = new Connection();
+
+        noConnTypeConnection.setQualifiedName("Test.Connection");
+        noConnTypeConnection.setDisplayName("Test");
+
+        Connection      nullProviderConnection = new Connection(noConnTypeConnection);
+
+        nullProviderConnection.setConnectorType(new ConnectorType());
+
+        Connection      unknownProviderConnection = new Connection(noConnTypeConnection);
+
+        unknownProviderConnection.setConnectorType(unknownConnType);
+
+        VirtualConnection emptyVirtualConnection = new VirtualConnection();
+
+        emptyVirtualConnection.setQualifiedName("Test.VirtualConnection");
+        emptyVirtualConnection.setDisplayName("TestVirtual");
+        emptyVirtualConnection.setConnectorType(unknownConnType);
+
+        ConnectionProperties[] invalidConnections = { new ConnectionProperties(noConnTypeConnection),
+                                                      new ConnectionProperties(nullProviderConnection),
+                                                      new ConnectionProperties(unknownProviderConnection),
+                                                      new VirtualConnectionProperties(emptyVirtualConnection) };
+        String[]               expectedMessages   = { "OCF-CONNECTION-400-003",
+                                                      "OCF-CONNECTION-400-004",
+                                                      "OCF-CONNECTION-400-005",
+                                                      "OCF-PROPERTIES-400-019" };
+
+        for (int i = 0; i < invalidConnections.length; i++)
+        {
+            ConnectionCheckedException validateException = null;
+            ConnectionCheckedException getException      = null;
+
+            try
+            {
+                cb.validateConnection(invalidConnections[i]);
+            }
+            catch (ConnectionCheckedException chk)
+            {
+                validateException = chk;
+            }
+
+            try
+            {
+                cb.getConnector(invalidConnections[i]);
+            }
+            catch (ConnectionCheckedException chk)
+            {
+                getException = chk;
+            }
+            catch (Exception   exc)
+            {
+                assertTrue(false);
+            }
+
+            assertTrue(validateException != null);
+            assertTrue(getException != null);
+            assertTrue(validateException.getReportedErrorMessageId().equals(expectedMessages[i]));
+            assertTrue(getException.getReportedErrorMessageId().equals(expectedMessages[i]));
+            assertTrue(validateException.getReportingActionDescription().equals("validateConnection"));
+            assertTrue(getException.getReportingActionDescription().equals("getConnector"));
+        }
+    }
+
+
     /**
      *  Validate that 2 different objects with the same content have the same hash code.
      */
@@ -9,6 +9,8 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.frameworks.discovery.properties.DiscoveryRequestStatus;
 
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * DiscoveryAnalysisReportStore provides a client to the open metadata repository that manages the content
@@ -27,7 +29,11 @@ public abstract class DiscoveryAnalysisReportStore
 
     protected Date                       creationDate = new Date();
 
-    protected String                     analysisStep = null;
+    protected volatile String            analysisStep = null;
+
+    private final ThreadLocal<String>    threadAnalysisStep = new ThreadLocal<>();
+
+    protected final Map<String, Long>    analysisStepDurations = new LinkedHashMap<>();
 
     /**
      * Default constructor
@@ -88,18 +94,89 @@ public abstract class DiscoveryAnalysisReportStore
      */
     public String getAnalysisStep()
     {
+        String threadStep = threadAnalysisStep.get();
+
+        if (threadStep != null)
+        {
+            return threadStep;
+        }
+
         return analysisStep;
     }
 
 
     /**
-     * Set up the name of the current analysis step.
+     * Set up the name of the current analysis step.  If the calling thread has its own analysis step
+     * (see startThreadAnalysisStep) then only the calling thread's step is changed.
      *
      * @param analysisStep name
      */
     public void setAnalysisStep(String analysisStep)
     {
-        this.analysisStep = analysisStep;
+        if (threadAnalysisStep.get() != null)
+        {
+            threadAnalysisStep.set(analysisStep);
+        }
+        else
+        {
+            this.analysisStep = analysisStep;
+        }
+    }
+
+
+    /**
+     * Give the calling thread its own analysis step.  This is used by discovery pipelines that run discovery
+     * services in parallel so that each discovery service sees its own analysis step.
+     *
+     * @param analysisStep name
+     */
+    public void startThreadAnalysisStep(String analysisStep)
+    {
+        threadAnalysisStep.set(analysisStep);
+    }
+
+
+    /**
+     * Remove the calling thread's own analysis step so it sees the shared analysis step again.
+     */
+    public void endThreadAnalysisStep()
+    {
+        threadAnalysisStep.remove();
+    }
+
+
+    /**
+     * Record the time taken by an analysis step.  This is called by the discovery pipelines as each embedded
+     * discovery service completes.  The steps may complete in parallel.
+     *
+     * @param analysisStep name of the analysis step
+     * @param duration elapsed time in milliseconds
+     */
+    public void setAnalysisStepDuration(String analysisStep, long duration)
+    {
+        synchronized (analysisStepDurations)
+        {
+            analysisStepDurations.put(analysisStep, duration);
+        }
+    }
+
+
+    /**
+     * Return the time taken by each completed analysis step in the order they completed.
+     *
+     * @return map of analysis step name to elapsed time in milliseconds (null if no steps have completed)
+     */
+    public Map<String, Long> getAnalysisStepDurations()
+    {
+        synchronized (analysisStepDurations)
+        {
+            if (analysisStepDurations.isEmpty())
+            {
+                return null;
+            }
+
+            return new LinkedHashMap<>(analysisStepDurations);
+        }
     }
 
 
@@ -9,6 +9,7 @@ import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
 import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
 import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -178,6 +179,35 @@ public abstract class DiscoveryAnnotationStore
                                                                                          PropertyServerException;
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The default implementation adds each annotation in turn.  Implementations that can store a list of
+     * annotations in a single request should override this method.
+     *
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    public List<String>  addAnnotationsToDiscoveryReport(List<Annotation> annotations) throws InvalidParameterException,
+                                                                                              UserNotAuthorizedException,
+                                                                                              PropertyServerException
+    {
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        if (annotations != null)
+        {
+            for (Annotation annotation : annotations)
+            {
+                annotationGUIDs.add(this.addAnnotationToDiscoveryReport(annotation));
+            }
+        }
+
+        return annotationGUIDs;
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -303,6 +333,38 @@ public abstract class DiscoveryAnnotationStore
                                                                                       PropertyServerException;
 
 
+    /**
+     * Add a list of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     * The default implementation adds each data field in turn.  Implementations that can store a list of
+     * data fields in a single request should override this method.
+     *
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of dataField objects
+     * @return list of unique identifiers of the new data fields (in the same order as the data fields)
+     * @throws InvalidParameterException one of the dataFields is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    public List<String>  addDataFieldsToDiscoveryReport(String          annotationGUID,
+                                                        List<DataField> dataFields) throws InvalidParameterException,
+                                                                                           UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        List<String> dataFieldGUIDs = new ArrayList<>();
+
+        if (dataFields != null)
+        {
+            for (DataField dataField : dataFields)
+            {
+                dataFieldGUIDs.add(this.addDataFieldToDiscoveryReport(annotationGUID, dataField));
+            }
+        }
+
+        return dataFieldGUIDs;
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -335,6 +397,69 @@ public abstract class DiscoveryAnnotationStore
                                                                                    PropertyServerException;
 
 
+    /**
+     * Add a list of new annotations and link them to an existing data field.
+     * The default implementation adds each annotation in turn.  Implementations that can store a list of
+     * annotations in a single request should override this method.
+     *
+     * @param parentDataFieldGUID unique identifier of the data field that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    public List<String>  addAnnotationsToDataField(String           parentDataFieldGUID,
+                                                   List<Annotation> annotations) throws InvalidParameterException,
+                                                                                        UserNotAuthorizedException,
+                                                                                        PropertyServerException
+    {
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        if (annotations != null)
+        {
+            for (Annotation annotation : annotations)
+            {
+                annotationGUIDs.add(this.addAnnotationToDataField(parentDataFieldGUID, annotation));
+            }
+        }
+
+        return annotationGUIDs;
+    }
+
+
+    /**
+     * Add new annotations to many data fields.  This is used when a discovery service produces annotations for
+     * each column of a data source, where each data field only receives a few annotations.
+     * The default implementation adds the annotations for each data field in turn.  Implementations that can
+     * store annotations for many data fields in a single request should override this method.
+     *
+     * @param dataFieldAnnotations map from the unique identifier of each data field to the new annotations that are
+     *                             to be attached to it
+     * @return list of unique identifiers of the new annotations (in the iteration order of the map and then the
+     *         order of each data field's annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    public List<String>  addAnnotationsToDataFields(Map<String, List<Annotation>> dataFieldAnnotations) throws InvalidParameterException,
+                                                                                                              UserNotAuthorizedException,
+                                                                                                              PropertyServerException
+    {
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        if (dataFieldAnnotations != null)
+        {
+            for (Map.Entry<String, List<Annotation>> entry : dataFieldAnnotations.entrySet())
+            {
+                annotationGUIDs.addAll(this.addAnnotationsToDataField(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        return annotationGUIDs;
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
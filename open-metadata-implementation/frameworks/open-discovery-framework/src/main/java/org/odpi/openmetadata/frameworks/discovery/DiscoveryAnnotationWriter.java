@@ -0,0 +1,343 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.discovery;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DiscoveryAnnotationWriter buffers new annotations and data fields for a discovery service and writes them to the
+ * annotation store using the bulk methods of the DiscoveryAnnotationStore.  Data fields are grouped by the annotation
+ * they are to be attached to, and a group is written as soon as it reaches the batch size.  Annotations for data fields
+ * are written together whatever data field they are attached to, so that the annotations for every column of a
+ * data source are written in a few requests.  Any remaining elements are written when flush() is called.
+ * This means a discovery service that produces many annotations makes a few large requests rather than one request
+ * for each element.
+ * <p>
+ * Unlike the methods of the DiscoveryAnnotationStore, the add methods of the writer do not return the unique
+ * identifier of the new element, because the element may not have been written when the method returns.
+ * Instead, each add method returns the position of the new element's unique identifier in the list returned by
+ * the next call to flush().  flush() writes any buffered elements and returns the unique identifiers of every
+ * element added since the previous flush(), in the order that the elements were added to the writer - including
+ * those in groups that were written early because they reached the batch size.  A discovery service that needs
+ * the unique identifier of an element, for example to attach annotations to a new data field, must call flush()
+ * first.
+ * <p>
+ * The writer is not thread-safe - it is intended to be used by a single discovery service.
+ */
+public class DiscoveryAnnotationWriter
+{
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final DiscoveryAnnotationStore annotationStore;
+    private final int                      batchSize;
+
+    private final Batch<Annotation>              reportAnnotations    = new Batch<>();
+    private final Map<String, Batch<DataField>>  dataFields           = new LinkedHashMap<>();
+    private final Map<String, Batch<Annotation>> dataFieldAnnotations = new LinkedHashMap<>();
+    private final List<String>                   elementGUIDs         = new ArrayList<>();
+
+    private int dataFieldAnnotationCount = 0;
+
+
+    /**
+     * Constructor using the default batch size.
+     *
+     * @param annotationStore annotation store to write to
+     */
+    public DiscoveryAnnotationWriter(DiscoveryAnnotationStore annotationStore)
+    {
+        this(annotationStore, DEFAULT_BATCH_SIZE);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param annotationStore annotation store to write to
+     * @param batchSize maximum number of elements sent in a single request (values less than 1 are treated as 1)
+     */
+    public DiscoveryAnnotationWriter(DiscoveryAnnotationStore annotationStore,
+                                     int                      batchSize)
+    {
+        this.annotationStore = annotationStore;
+        this.batchSize       = Math.max(batchSize, 1);
+    }
+
+
+    /**
+     * Return the maximum number of elements sent in a single request.
+     *
+     * @return int
+     */
+    public int getBatchSize()
+    {
+        return batchSize;
+    }
+
+
+    /**
+     * Buffer a new annotation that is to be linked directly off of the discovery analysis report.
+     *
+     * @param annotation annotation object
+     * @return position of the annotation's unique identifier in the list returned by the next flush()
+     * @throws InvalidParameterException the annotation is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    public int addAnnotationToDiscoveryReport(Annotation annotation) throws InvalidParameterException,
+                                                                            UserNotAuthorizedException,
+                                                                            PropertyServerException
+    {
+        int position = this.reserveElementPosition();
+
+        reportAnnotations.add(annotation, position);
+
+        if (reportAnnotations.size() >= batchSize)
+        {
+            this.writeReportAnnotations();
+        }
+
+        return position;
+    }
+
+
+    /**
+     * Buffer a new data field that is to be linked off of an annotation (typically SchemaAnalysisAnnotation).
+     *
+     * @param annotationGUID unique identifier of the annotation that the data field is to be linked to
+     * @param dataField dataField object
+     * @return position of the data field's unique identifier in the list returned by the next flush()
+     * @throws InvalidParameterException the dataField is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    public int addDataFieldToDiscoveryReport(String    annotationGUID,
+                                             DataField dataField) throws InvalidParameterException,
+                                                                         UserNotAuthorizedException,
+                                                                         PropertyServerException
+    {
+        Batch<DataField> batch    = dataFields.computeIfAbsent(annotationGUID, guid -> new Batch<>());
+        int              position = this.reserveElementPosition();
+
+        batch.add(dataField, position);
+
+        if (batch.size() >= batchSize)
+        {
+            this.writeDataFields(annotationGUID, dataFields.remove(annotationGUID));
+        }
+
+        return position;
+    }
+
+
+    /**
+     * Buffer a new annotation that is to be linked to an existing data field.
+     *
+     * @param parentDataFieldGUID unique identifier of the data field that the annotation is to be attached to
+     * @param annotation annotation object
+     * @return position of the annotation's unique identifier in the list returned by the next flush()
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    public int addAnnotationToDataField(String     parentDataFieldGUID,
+                                        Annotation annotation) throws InvalidParameterException,
+                                                                      UserNotAuthorizedException,
+                                                                      PropertyServerException
+    {
+        Batch<Annotation> batch    = dataFieldAnnotations.computeIfAbsent(parentDataFieldGUID, guid -> new Batch<>());
+        int               position = this.reserveElementPosition();
+
+        batch.add(annotation, position);
+        dataFieldAnnotationCount++;
+
+        if (dataFieldAnnotationCount >= batchSize)
+        {
+            this.writeDataFieldAnnotations();
+        }
+
+        return position;
+    }
+
+
+    /**
+     * Write all of the buffered elements to the annotation store and return the unique identifiers of all of the
+     * elements added since the last flush.  The entry for an element is null if the annotation store did not
+     * return a unique identifier for it.
+     *
+     * @return list of unique identifiers in the order that the elements were added to the writer (the positions
+     *         returned by the add methods)
+     * @throws InvalidParameterException one of the elements is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the elements in the annotation store.
+     */
+    public List<String> flush() throws InvalidParameterException,
+                                       UserNotAuthorizedException,
+                                       PropertyServerException
+    {
+        this.writeReportAnnotations();
+
+        while (! dataFields.isEmpty())
+        {
+            String annotationGUID = dataFields.keySet().iterator().next();
+
+            this.writeDataFields(annotationGUID, dataFields.remove(annotationGUID));
+        }
+
+        this.writeDataFieldAnnotations();
+
+        List<String> results = new ArrayList<>(elementGUIDs);
+
+        elementGUIDs.clear();
+
+        return results;
+    }
+
+
+    /**
+     * Reserve the slot for the unique identifier of a new element.
+     *
+     * @return position in elementGUIDs
+     */
+    private int reserveElementPosition()
+    {
+        elementGUIDs.add(null);
+
+        return elementGUIDs.size() - 1;
+    }
+
+
+    /**
+     * Write the buffered annotations for the discovery analysis report.
+     *
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    private void writeReportAnnotations() throws InvalidParameterException,
+                                                 UserNotAuthorizedException,
+                                                 PropertyServerException
+    {
+        if (reportAnnotations.size() > 0)
+        {
+            List<String> guids = annotationStore.addAnnotationsToDiscoveryReport(new ArrayList<>(reportAnnotations.elements));
+
+            this.saveGUIDs(reportAnnotations, guids);
+            reportAnnotations.clear();
+        }
+    }
+
+
+    /**
+     * Write a batch of data fields for an annotation.
+     *
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param batch buffered data fields
+     * @throws InvalidParameterException one of the data fields is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the annotation store.
+     */
+    private void writeDataFields(String           annotationGUID,
+                                 Batch<DataField> batch) throws InvalidParameterException,
+                                                                UserNotAuthorizedException,
+                                                                PropertyServerException
+    {
+        this.saveGUIDs(batch, annotationStore.addDataFieldsToDiscoveryReport(annotationGUID, batch.elements));
+    }
+
+
+    /**
+     * Write the buffered annotations for all data fields in a single request.  The annotation store returns the
+     * unique identifiers in the iteration order of the map, so the batches are combined in the same order to
+     * match them up.
+     *
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    private void writeDataFieldAnnotations() throws InvalidParameterException,
+                                                    UserNotAuthorizedException,
+                                                    PropertyServerException
+    {
+        if (! dataFieldAnnotations.isEmpty())
+        {
+            Map<String, List<Annotation>> annotations = new LinkedHashMap<>();
+            Batch<Annotation>             allBatches  = new Batch<>();
+
+            for (Map.Entry<String, Batch<Annotation>> entry : dataFieldAnnotations.entrySet())
+            {
+                annotations.put(entry.getKey(), entry.getValue().elements);
+                allBatches.addAll(entry.getValue());
+            }
+
+            dataFieldAnnotations.clear();
+            dataFieldAnnotationCount = 0;
+
+            this.saveGUIDs(allBatches, annotationStore.addAnnotationsToDataFields(annotations));
+        }
+    }
+
+
+    /**
+     * Store the unique identifiers returned for a batch in the slots reserved for its elements.
+     *
+     * @param batch batch that has been written
+     * @param guids unique identifiers returned by the annotation store
+     */
+    private void saveGUIDs(Batch<?>     batch,
+                           List<String> guids)
+    {
+        if (guids != null)
+        {
+            for (int i = 0; (i < guids.size()) && (i < batch.positions.size()); i++)
+            {
+                elementGUIDs.set(batch.positions.get(i), guids.get(i));
+            }
+        }
+    }
+
+
+    /**
+     * Batch holds the buffered elements for one parent element along with the position of each one in elementGUIDs.
+     *
+     * @param <T> type of element
+     */
+    private static class Batch<T>
+    {
+        final List<T>       elements  = new ArrayList<>();
+        final List<Integer> positions = new ArrayList<>();
+
+        void add(T element, int position)
+        {
+            elements.add(element);
+            positions.add(position);
+        }
+
+        void addAll(Batch<T> batch)
+        {
+            elements.addAll(batch.elements);
+            positions.addAll(batch.positions);
+        }
+
+        int size()
+        {
+            return elements.size();
+        }
+
+        void clear()
+        {
+            elements.clear();
+            positions.clear();
+        }
+    }
+}
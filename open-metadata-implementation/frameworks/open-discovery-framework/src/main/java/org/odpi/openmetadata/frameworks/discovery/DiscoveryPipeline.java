@@ -55,6 +55,75 @@ public abstract class DiscoveryPipeline extends DiscoveryService implements Virt
     protected abstract void runDiscoveryPipeline() throws ConnectorCheckedException;
 
 
+    /**
+     * Run one of the embedded discovery services to completion.  The name of the analysis step is the
+     * connector instance id of the discovery service and the time it takes is recorded in the discovery report.
+     *
+     * @param embeddedDiscoveryService discovery service to run
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    protected void runEmbeddedDiscoveryService(DiscoveryService embeddedDiscoveryService) throws ConnectorCheckedException
+    {
+        this.runEmbeddedDiscoveryService(embeddedDiscoveryService, false);
+    }
+
+
+    /**
+     * Run one of the embedded discovery services to completion on the calling thread while other embedded
+     * discovery services run on other threads.  The analysis step is only set for the calling thread so
+     * the discovery services do not overwrite each other's analysis step.
+     *
+     * @param embeddedDiscoveryService discovery service to run
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    protected void runConcurrentDiscoveryService(DiscoveryService embeddedDiscoveryService) throws ConnectorCheckedException
+    {
+        this.runEmbeddedDiscoveryService(embeddedDiscoveryService, true);
+    }
+
+
+    /**
+     * Run one of the embedded discovery services to completion and record the time it takes.
+     *
+     * @param embeddedDiscoveryService discovery service to run
+     * @param threadAnalysisStep should the analysis step only be set for the calling thread?
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    private void runEmbeddedDiscoveryService(DiscoveryService embeddedDiscoveryService,
+                                             boolean          threadAnalysisStep) throws ConnectorCheckedException
+    {
+        DiscoveryAnalysisReportStore discoveryReport = discoveryContext.getAnnotationStore().getDiscoveryReport();
+        String                       analysisStep    = embeddedDiscoveryService.getConnectorInstanceId();
+        long                         startTime       = System.currentTimeMillis();
+
+        embeddedDiscoveryService.setDiscoveryContext(discoveryContext);
+
+        if (threadAnalysisStep)
+        {
+            discoveryReport.startThreadAnalysisStep(analysisStep);
+        }
+        else
+        {
+            discoveryReport.setAnalysisStep(analysisStep);
+        }
+
+        try
+        {
+            embeddedDiscoveryService.start();
+            embeddedDiscoveryService.disconnect();
+        }
+        finally
+        {
+            if (threadAnalysisStep)
+            {
+                discoveryReport.endThreadAnalysisStep();
+            }
+
+            discoveryReport.setAnalysisStepDuration(analysisStep, System.currentTimeMillis() - startTime);
+        }
+    }
+
+
     /**
      * Free up any resources held since the connector is no longer needed.
      *
@@ -0,0 +1,253 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.discovery;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that DiscoveryAnnotationWriter writes elements in batches and that flush() returns the unique identifiers
+ * at the positions returned by the add methods.
+ */
+public class DiscoveryAnnotationWriterTest
+{
+    private DiscoveryAnnotationStore annotationStore;
+    private final List<String>       requests = new ArrayList<>();
+
+
+    /**
+     * The mock annotation store returns a unique identifier made from the parent and the element's description
+     * and records each bulk request.
+     *
+     * @throws Exception problem setting up the mock
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        requests.clear();
+
+        annotationStore = mock(DiscoveryAnnotationStore.class);
+
+        when(annotationStore.addAnnotationsToDiscoveryReport(anyList())).thenAnswer(invocation ->
+        {
+            List<Annotation> annotations = invocation.getArgument(0);
+
+            return getGUIDs("report", annotations.size(), annotations);
+        });
+        when(annotationStore.addDataFieldsToDiscoveryReport(anyString(), anyList())).thenAnswer(invocation ->
+        {
+            List<DataField> dataFields = invocation.getArgument(1);
+
+            return getGUIDs(invocation.getArgument(0), dataFields.size(), dataFields);
+        });
+        when(annotationStore.addAnnotationsToDataField(anyString(), anyList())).thenAnswer(invocation ->
+        {
+            List<Annotation> annotations = invocation.getArgument(1);
+
+            return getGUIDs(invocation.getArgument(0), annotations.size(), annotations);
+        });
+        when(annotationStore.addAnnotationsToDataFields(anyMap())).thenAnswer(invocation ->
+        {
+            Map<String, List<Annotation>> dataFieldAnnotations = invocation.getArgument(0);
+
+            List<String> guids = new ArrayList<>();
+            int          size  = 0;
+
+            for (Map.Entry<String, List<Annotation>> entry : dataFieldAnnotations.entrySet())
+            {
+                for (Annotation annotation : entry.getValue())
+                {
+                    guids.add(entry.getKey() + ":" + annotation.getSummary());
+                    size++;
+                }
+            }
+
+            requests.add("dataFields/" + size);
+
+            return guids;
+        });
+    }
+
+
+    private List<String> getGUIDs(String parent, int size, List<?> elements)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (Object element : elements)
+        {
+            if (element instanceof DataField)
+            {
+                guids.add(parent + ":" + ((DataField)element).getDataFieldName());
+            }
+            else
+            {
+                guids.add(parent + ":" + ((Annotation)element).getSummary());
+            }
+        }
+
+        requests.add(parent + "/" + size);
+
+        return guids;
+    }
+
+
+    private Annotation getAnnotation(String summary)
+    {
+        Annotation annotation = new Annotation();
+
+        annotation.setSummary(summary);
+
+        return annotation;
+    }
+
+
+    private DataField getDataField(String name)
+    {
+        DataField dataField = new DataField();
+
+        dataField.setDataFieldName(name);
+
+        return dataField;
+    }
+
+
+    /**
+     * Groups are written when they reach the batch size, and flush() writes the rest and returns all of the
+     * unique identifiers in the order the elements were added.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testBatching() throws Exception
+    {
+        DiscoveryAnnotationWriter writer = new DiscoveryAnnotationWriter(annotationStore, 2);
+
+        List<Integer> positions = new ArrayList<>();
+
+        for (String summary : Arrays.asList("a1", "a2", "a3", "a4", "a5"))
+        {
+            positions.add(writer.addAnnotationToDiscoveryReport(getAnnotation(summary)));
+        }
+
+        assertEquals(positions, Arrays.asList(0, 1, 2, 3, 4));
+        assertEquals(requests, Arrays.asList("report/2", "report/2"));
+
+        List<String> guids = writer.flush();
+
+        assertEquals(requests, Arrays.asList("report/2", "report/2", "report/1"));
+        assertEquals(guids, Arrays.asList("report:a1", "report:a2", "report:a3", "report:a4", "report:a5"));
+
+        assertTrue(writer.flush().isEmpty());
+    }
+
+
+    /**
+     * Data fields for different annotations are written in separate requests while annotations for different data
+     * fields are written together, and the positions returned by the add methods find each element's unique
+     * identifier in the list returned by flush().
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testPositionsAcrossParents() throws Exception
+    {
+        DiscoveryAnnotationWriter writer = new DiscoveryAnnotationWriter(annotationStore, 10);
+
+        int f1 = writer.addDataFieldToDiscoveryReport("schema1", getDataField("f1"));
+        int f2 = writer.addDataFieldToDiscoveryReport("schema2", getDataField("f2"));
+        int p1 = writer.addAnnotationToDataField("field1", getAnnotation("p1"));
+        int p2 = writer.addAnnotationToDataField("field2", getAnnotation("p2"));
+        int f3 = writer.addDataFieldToDiscoveryReport("schema1", getDataField("f3"));
+        int p3 = writer.addAnnotationToDataField("field1", getAnnotation("p3"));
+        int r1 = writer.addAnnotationToDiscoveryReport(getAnnotation("r1"));
+
+        List<String> guids = writer.flush();
+
+        assertEquals(guids.size(), 7);
+        assertEquals(guids.get(f1), "schema1:f1");
+        assertEquals(guids.get(f2), "schema2:f2");
+        assertEquals(guids.get(p1), "field1:p1");
+        assertEquals(guids.get(p2), "field2:p2");
+        assertEquals(guids.get(f3), "schema1:f3");
+        assertEquals(guids.get(p3), "field1:p3");
+        assertEquals(guids.get(r1), "report:r1");
+
+        assertEquals(requests.size(), 4);
+        assertTrue(requests.contains("schema1/2"));
+        assertTrue(requests.contains("dataFields/3"));
+    }
+
+
+    /**
+     * The annotations for the columns of a wide data source are written in a few requests rather than a request
+     * for each column.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testManyColumns() throws Exception
+    {
+        final int columnCount = 500;
+
+        DiscoveryAnnotationWriter writer = new DiscoveryAnnotationWriter(annotationStore);
+
+        for (int column = 0; column < columnCount; column++)
+        {
+            writer.addAnnotationToDataField("column" + column, getAnnotation("profile"));
+        }
+
+        List<String> guids = writer.flush();
+
+        assertEquals(guids.size(), columnCount);
+        assertEquals(guids.get(columnCount - 1), "column" + (columnCount - 1) + ":profile");
+
+        verify(annotationStore, times(columnCount / DiscoveryAnnotationWriter.DEFAULT_BATCH_SIZE)).addAnnotationsToDataFields(anyMap());
+        verify(annotationStore, never()).addAnnotationsToDataField(anyString(), anyList());
+        verify(annotationStore, never()).addAnnotationToDataField(anyString(), any());
+    }
+
+
+    /**
+     * An element that the annotation store did not return a unique identifier for has a null entry.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testMissingGUIDs() throws Exception
+    {
+        when(annotationStore.addAnnotationsToDiscoveryReport(anyList())).thenReturn(Collections.singletonList("only"));
+
+        DiscoveryAnnotationWriter writer = new DiscoveryAnnotationWriter(annotationStore);
+
+        writer.addAnnotationToDiscoveryReport(getAnnotation("a1"));
+        int second = writer.addAnnotationToDiscoveryReport(getAnnotation("a2"));
+
+        List<String> guids = writer.flush();
+
+        assertEquals(guids.get(0), "only");
+        assertNull(guids.get(second));
+        assertEquals(writer.getBatchSize(), DiscoveryAnnotationWriter.DEFAULT_BATCH_SIZE);
+        assertEquals(new DiscoveryAnnotationWriter(annotationStore, 0).getBatchSize(), 1);
+    }
+}
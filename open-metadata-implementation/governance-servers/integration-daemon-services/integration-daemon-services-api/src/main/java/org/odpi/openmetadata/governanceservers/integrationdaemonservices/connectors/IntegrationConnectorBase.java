@@ -12,6 +12,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.ffdc.IntegrationDaemonServicesAuditCode;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * IntegrationConnectorBase is the base class for an integration connector.  It manages the storing of the audit log for the connector
@@ -26,6 +27,8 @@ public abstract class IntegrationConnectorBase extends ConnectorBase implements
     protected String          connectorName      = null;
     protected List<Connector> embeddedConnectors = null;
 
+    private   IntegrationSyncStateStore syncStateStore = null;
+
 
     /**
      * Receive an audit log object that can be used to record audit log messages.  The caller has initialized it
@@ -82,6 +85,41 @@ public abstract class IntegrationConnectorBase extends ConnectorBase implements
     }
 
 
+    /**
+     * Return the store used to remember which elements have already been synchronized with the open metadata
+     * repositories.  It is created on first use.  If the connection's configuration properties include
+     * syncStateFileName, the state is loaded from, and saved to, that file.
+     *
+     * @return sync state store
+     * @throws ConnectorCheckedException the saved state could not be read
+     */
+    protected synchronized IntegrationSyncStateStore getSyncStateStore() throws ConnectorCheckedException
+    {
+        if (syncStateStore == null)
+        {
+            String syncStateFileName = null;
+
+            if (connectionProperties != null)
+            {
+                Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+                if ((configurationProperties != null) &&
+                    (configurationProperties.get(IntegrationConnectorProvider.SYNC_STATE_FILE_NAME_CONFIGURATION_PROPERTY) != null))
+                {
+                    syncStateFileName = configurationProperties.get(IntegrationConnectorProvider.SYNC_STATE_FILE_NAME_CONFIGURATION_PROPERTY).toString();
+                }
+            }
+
+            IntegrationSyncStateStore newSyncStateStore = new IntegrationSyncStateStore(connectorName, syncStateFileName);
+
+            newSyncStateStore.load();
+            syncStateStore = newSyncStateStore;
+        }
+
+        return syncStateStore;
+    }
+
+
     /**
      * This method is for blocking calls to wait for new metadata.  It is called from its own thread iff
      * the connector is configured to have its own thread.  It is recommended that the engage() method
@@ -17,6 +17,12 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
  */
 public class IntegrationConnectorProvider extends ConnectorProviderBase
 {
+    /**
+     * Name of the configuration property that gives the file used to save the synchronization state of
+     * the connector (see IntegrationSyncStateStore).  If it is not set, the state is only held in memory.
+     */
+    public static final String SYNC_STATE_FILE_NAME_CONFIGURATION_PROPERTY = "syncStateFileName";
+
     private long    refreshTimeInterval = 60L; // default to once an hour
     private boolean usesBlockingCalls   = false;
 
@@ -0,0 +1,353 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.connectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adminservices.store.AtomicFileWriter;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.ffdc.IntegrationDaemonServicesErrorCode;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationSyncDelta;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationSyncState;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.SynchronizedElementState;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IntegrationSyncStateStore remembers what an integration connector has already synchronized with the open metadata
+ * repositories.  For each element in the third party technology it holds the unique identifier of the matching
+ * open metadata element and a fingerprint of the properties that were sent.  It also holds the time of the last
+ * completed synchronization.  This means a connector can work out locally which elements are new, changed or removed
+ * and only call the open metadata repositories for those, rather than retrieving every catalogued element on each refresh.
+ *
+ * If a file name is supplied, the state is loaded from this file and written back to it by save() so that it survives
+ * a restart of the integration daemon.  Otherwise it is held in memory, and the first refresh after a restart does
+ * a full comparison.
+ */
+public class IntegrationSyncStateStore
+{
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String                                syncStateFileName;
+    private final String                                connectorName;
+    private       Date                                  lastSyncTime         = null;
+    private final Map<String, SynchronizedElementState> synchronizedElements = new HashMap<>();
+    private       boolean                               changed              = false;
+
+
+    /**
+     * Constructor for a store that is held in memory.
+     *
+     * @param connectorName name of the connector using the store (for messages)
+     */
+    public IntegrationSyncStateStore(String connectorName)
+    {
+        this(connectorName, null);
+    }
+
+
+    /**
+     * Constructor for a store that is persisted to a file.
+     *
+     * @param connectorName name of the connector using the store (for messages)
+     * @param syncStateFileName name of the file to store the state in (null for memory only)
+     */
+    public IntegrationSyncStateStore(String connectorName,
+                                     String syncStateFileName)
+    {
+        this.connectorName     = connectorName;
+        this.syncStateFileName = syncStateFileName;
+    }
+
+
+    /**
+     * Load any saved state from the file.  If the file does not exist, the store is left empty.
+     *
+     * @throws ConnectorCheckedException the file could not be read
+     */
+    public synchronized void load() throws ConnectorCheckedException
+    {
+        final String methodName = "load";
+
+        if (syncStateFileName == null)
+        {
+            return;
+        }
+
+        File syncStateFile = new File(syncStateFileName);
+
+        if (! syncStateFile.exists())
+        {
+            return;
+        }
+
+        try
+        {
+            IntegrationSyncState syncState = objectMapper.readValue(syncStateFile, IntegrationSyncState.class);
+
+            synchronizedElements.clear();
+
+            if (syncState.getSynchronizedElements() != null)
+            {
+                synchronizedElements.putAll(syncState.getSynchronizedElements());
+            }
+
+            lastSyncTime = syncState.getLastSyncTime();
+            changed      = false;
+        }
+        catch (Exception error)
+        {
+            throw new ConnectorCheckedException(IntegrationDaemonServicesErrorCode.SYNC_STATE_NOT_READABLE.getMessageDefinition(syncStateFileName,
+                                                                                                                                 connectorName,
+                                                                                                                                 error.getClass().getName(),
+                                                                                                                                 error.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+    }
+
+
+    /**
+     * Write the state to the file if it has changed since it was loaded or last saved.  The new contents are written
+     * to a temporary file that then replaces the old file, so a failure part way through does not damage the saved state.
+     *
+     * @throws ConnectorCheckedException the file could not be written
+     */
+    public synchronized void save() throws ConnectorCheckedException
+    {
+        final String methodName = "save";
+
+        if ((syncStateFileName == null) || (! changed))
+        {
+            return;
+        }
+
+        IntegrationSyncState syncState = new IntegrationSyncState();
+
+        syncState.setLastSyncTime(lastSyncTime);
+        syncState.setSynchronizedElements(new HashMap<>(synchronizedElements));
+
+        try
+        {
+            AtomicFileWriter.writeFile(new File(syncStateFileName).toPath(), objectMapper.writeValueAsBytes(syncState));
+
+            changed = false;
+        }
+        catch (Exception error)
+        {
+            throw new ConnectorCheckedException(IntegrationDaemonServicesErrorCode.SYNC_STATE_NOT_WRITABLE.getMessageDefinition(syncStateFileName,
+                                                                                                                                 connectorName,
+                                                                                                                                 error.getClass().getName(),
+                                                                                                                                 error.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+    }
+
+
+    /**
+     * Return the time that the last synchronization completed.  Null means that there is no record of a completed
+     * synchronization so the connector must do a full comparison with the open metadata repositories.
+     *
+     * @return date/time
+     */
+    public synchronized Date getLastSyncTime()
+    {
+        return lastSyncTime;
+    }
+
+
+    /**
+     * Record that a synchronization has completed.
+     *
+     * @param lastSyncTime time that the synchronization completed
+     */
+    public synchronized void setLastSyncTime(Date lastSyncTime)
+    {
+        this.lastSyncTime = lastSyncTime;
+        this.changed      = true;
+    }
+
+
+    /**
+     * Compare the current fingerprints of the elements in the third party technology with the fingerprints
+     * recorded at the last synchronization.
+     *
+     * @param currentFingerprints map of external identifier to the fingerprint of its current properties
+     * @return the identifiers of the new, updated and removed elements
+     */
+    public synchronized IntegrationSyncDelta computeDelta(Map<String, String> currentFingerprints)
+    {
+        List<String> newExternalIds     = new ArrayList<>();
+        List<String> updatedExternalIds = new ArrayList<>();
+        List<String> removedExternalIds = new ArrayList<>();
+
+        if (currentFingerprints != null)
+        {
+            for (Map.Entry<String, String> currentFingerprint : currentFingerprints.entrySet())
+            {
+                SynchronizedElementState elementState = synchronizedElements.get(currentFingerprint.getKey());
+
+                if (elementState == null)
+                {
+                    newExternalIds.add(currentFingerprint.getKey());
+                }
+                else if (! currentFingerprint.getValue().equals(elementState.getFingerprint()))
+                {
+                    updatedExternalIds.add(currentFingerprint.getKey());
+                }
+            }
+        }
+
+        for (String externalId : synchronizedElements.keySet())
+        {
+            if ((currentFingerprints == null) || (! currentFingerprints.containsKey(externalId)))
+            {
+                removedExternalIds.add(externalId);
+            }
+        }
+
+        IntegrationSyncDelta delta = new IntegrationSyncDelta();
+
+        delta.setNewExternalIds(newExternalIds);
+        delta.setUpdatedExternalIds(updatedExternalIds);
+        delta.setRemovedExternalIds(removedExternalIds);
+
+        return delta;
+    }
+
+
+    /**
+     * Record that an element has been synchronized.
+     *
+     * @param externalId identifier of the element in the third party technology
+     * @param elementGUID unique identifier of the matching open metadata element
+     * @param fingerprint fingerprint of the properties that were synchronized
+     */
+    public synchronized void recordSync(String externalId,
+                                        String elementGUID,
+                                        String fingerprint)
+    {
+        SynchronizedElementState elementState = new SynchronizedElementState();
+
+        elementState.setElementGUID(elementGUID);
+        elementState.setFingerprint(fingerprint);
+        elementState.setLastSynchronized(new Date());
+
+        synchronizedElements.put(externalId, elementState);
+        changed = true;
+    }
+
+
+    /**
+     * Remove the record of an element, typically because it has been deleted from open metadata.
+     *
+     * @param externalId identifier of the element in the third party technology
+     */
+    public synchronized void removeSyncState(String externalId)
+    {
+        if (synchronizedElements.remove(externalId) != null)
+        {
+            changed = true;
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the open metadata element that matches an element in the third party technology.
+     *
+     * @param externalId identifier of the element in the third party technology
+     * @return unique identifier or null if the element has not been synchronized
+     */
+    public synchronized String getElementGUID(String externalId)
+    {
+        SynchronizedElementState elementState = synchronizedElements.get(externalId);
+
+        if (elementState != null)
+        {
+            return elementState.getElementGUID();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the number of elements that have been synchronized.
+     *
+     * @return count
+     */
+    public synchronized int getSynchronizedElementCount()
+    {
+        return synchronizedElements.size();
+    }
+
+
+    /**
+     * Remove all of the recorded state so that the next refresh does a full comparison.
+     */
+    public synchronized void clear()
+    {
+        synchronizedElements.clear();
+        lastSyncTime = null;
+        changed      = true;
+    }
+
+
+    /**
+     * Return a fingerprint of the supplied property values.  The values are combined in order so the same values
+     * always produce the same fingerprint.  Null values are allowed.
+     *
+     * @param propertyValues values of the properties that are synchronized
+     * @return hex encoded SHA-256 digest
+     */
+    public static String getFingerprint(String... propertyValues)
+    {
+        try
+        {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+            if (propertyValues != null)
+            {
+                for (String propertyValue : propertyValues)
+                {
+                    if (propertyValue == null)
+                    {
+                        messageDigest.update((byte)0);
+                    }
+                    else
+                    {
+                        messageDigest.update((byte)1);
+                        messageDigest.update(propertyValue.getBytes(StandardCharsets.UTF_8));
+                        messageDigest.update((byte)0);
+                    }
+                }
+            }
+
+            StringBuilder fingerprint = new StringBuilder();
+
+            for (byte digestByte : messageDigest.digest())
+            {
+                fingerprint.append(String.format("%02x", digestByte));
+            }
+
+            return fingerprint.toString();
+        }
+        catch (NoSuchAlgorithmException error)
+        {
+            /*
+             * Every Java platform supports SHA-256.
+             */
+            throw new IllegalStateException(error);
+        }
+    }
+}
@@ -191,6 +191,19 @@ public enum IntegrationDaemonServicesErrorCode implements ExceptionMessageSet
                                     "integration daemon will have logged detailed messages to the audit log to describe what is wrong " +
                                     "and how to fix it.  " +
                                     "If there are no errors in the configuration, raise an issue to get help to fix this."),
+
+    SYNC_STATE_NOT_READABLE(500, "INTEGRATION-DAEMON-SERVICES-500-002",
+                            "The synchronization state file {0} for integration connector {1} could not be read due to {2} exception with message {3}",
+                            "The integration connector is not able to use its saved synchronization state.",
+                            "Check that the file is readable by the integration daemon and contains valid JSON.  " +
+                                    "If the file is damaged, delete it and the connector will do a full comparison with the " +
+                                    "open metadata repositories on its next refresh."),
+
+    SYNC_STATE_NOT_WRITABLE(500, "INTEGRATION-DAEMON-SERVICES-500-003",
+                            "The synchronization state file {0} for integration connector {1} could not be written due to {2} exception with message {3}",
+                            "The integration connector is not able to save its synchronization state.  The changes have been " +
+                                    "sent to the open metadata repositories but the next refresh after a restart will do a full comparison.",
+                            "Check that the directory for the file exists and is writable by the integration daemon."),
     ;
 
 
@@ -0,0 +1,189 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * IntegrationSyncDelta lists the identifiers of the elements in the third party technology that have changed since
+ * the last synchronization.  New elements need to be created in open metadata, updated elements need their
+ * open metadata element updating and removed elements need their open metadata element deleting.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class IntegrationSyncDelta implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<String> newExternalIds     = null;
+    private List<String> updatedExternalIds = null;
+    private List<String> removedExternalIds = null;
+
+
+    /**
+     * Default constructor does nothing.
+     */
+    public IntegrationSyncDelta()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public IntegrationSyncDelta(IntegrationSyncDelta template)
+    {
+        if (template != null)
+        {
+            newExternalIds     = template.getNewExternalIds();
+            updatedExternalIds = template.getUpdatedExternalIds();
+            removedExternalIds = template.getRemovedExternalIds();
+        }
+    }
+
+
+    /**
+     * Return the identifiers of the elements that have not been synchronized before.
+     *
+     * @return list of external identifiers
+     */
+    public List<String> getNewExternalIds()
+    {
+        return newExternalIds;
+    }
+
+
+    /**
+     * Set up the identifiers of the elements that have not been synchronized before.
+     *
+     * @param newExternalIds list of external identifiers
+     */
+    public void setNewExternalIds(List<String> newExternalIds)
+    {
+        this.newExternalIds = newExternalIds;
+    }
+
+
+    /**
+     * Return the identifiers of the elements whose fingerprint has changed since they were last synchronized.
+     *
+     * @return list of external identifiers
+     */
+    public List<String> getUpdatedExternalIds()
+    {
+        return updatedExternalIds;
+    }
+
+
+    /**
+     * Set up the identifiers of the elements whose fingerprint has changed since they were last synchronized.
+     *
+     * @param updatedExternalIds list of external identifiers
+     */
+    public void setUpdatedExternalIds(List<String> updatedExternalIds)
+    {
+        this.updatedExternalIds = updatedExternalIds;
+    }
+
+
+    /**
+     * Return the identifiers of the elements that were synchronized before but no longer exist.
+     *
+     * @return list of external identifiers
+     */
+    public List<String> getRemovedExternalIds()
+    {
+        return removedExternalIds;
+    }
+
+
+    /**
+     * Set up the identifiers of the elements that were synchronized before but no longer exist.
+     *
+     * @param removedExternalIds list of external identifiers
+     */
+    public void setRemovedExternalIds(List<String> removedExternalIds)
+    {
+        this.removedExternalIds = removedExternalIds;
+    }
+
+
+    /**
+     * Return whether there are any changes to synchronize.
+     *
+     * @return boolean
+     */
+    @JsonIgnore
+    public boolean isEmpty()
+    {
+        return ((newExternalIds == null) || (newExternalIds.isEmpty())) &&
+               ((updatedExternalIds == null) || (updatedExternalIds.isEmpty())) &&
+               ((removedExternalIds == null) || (removedExternalIds.isEmpty()));
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "IntegrationSyncDelta{" +
+                       "newExternalIds=" + newExternalIds +
+                       ", updatedExternalIds=" + updatedExternalIds +
+                       ", removedExternalIds=" + removedExternalIds +
+                       '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        IntegrationSyncDelta that = (IntegrationSyncDelta) objectToCompare;
+        return Objects.equals(newExternalIds, that.newExternalIds) &&
+                       Objects.equals(updatedExternalIds, that.updatedExternalIds) &&
+                       Objects.equals(removedExternalIds, that.removedExternalIds);
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(newExternalIds, updatedExternalIds, removedExternalIds);
+    }
+}
@@ -0,0 +1,150 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * IntegrationSyncState is the persisted synchronization state of an integration connector.  It records the time of the
+ * last completed synchronization (the watermark) and the state of each synchronized element keyed by its identifier
+ * in the third party technology.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class IntegrationSyncState implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private Date                                  lastSyncTime          = null;
+    private Map<String, SynchronizedElementState> synchronizedElements  = null;
+
+
+    /**
+     * Default constructor does nothing.
+     */
+    public IntegrationSyncState()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public IntegrationSyncState(IntegrationSyncState template)
+    {
+        if (template != null)
+        {
+            lastSyncTime         = template.getLastSyncTime();
+            synchronizedElements = template.getSynchronizedElements();
+        }
+    }
+
+
+    /**
+     * Return the time that the last synchronization completed.  Null means the connector has never completed a
+     * synchronization and so must do a full comparison.
+     *
+     * @return date/time
+     */
+    public Date getLastSyncTime()
+    {
+        return lastSyncTime;
+    }
+
+
+    /**
+     * Set up the time that the last synchronization completed.
+     *
+     * @param lastSyncTime date/time
+     */
+    public void setLastSyncTime(Date lastSyncTime)
+    {
+        this.lastSyncTime = lastSyncTime;
+    }
+
+
+    /**
+     * Return the state of each synchronized element keyed by its identifier in the third party technology.
+     *
+     * @return map of external identifier to element state
+     */
+    public Map<String, SynchronizedElementState> getSynchronizedElements()
+    {
+        return synchronizedElements;
+    }
+
+
+    /**
+     * Set up the state of each synchronized element keyed by its identifier in the third party technology.
+     *
+     * @param synchronizedElements map of external identifier to element state
+     */
+    public void setSynchronizedElements(Map<String, SynchronizedElementState> synchronizedElements)
+    {
+        this.synchronizedElements = synchronizedElements;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "IntegrationSyncState{" +
+                       "lastSyncTime=" + lastSyncTime +
+                       ", synchronizedElements=" + synchronizedElements +
+                       '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        IntegrationSyncState that = (IntegrationSyncState) objectToCompare;
+        return Objects.equals(lastSyncTime, that.lastSyncTime) &&
+                       Objects.equals(synchronizedElements, that.synchronizedElements);
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(lastSyncTime, synchronizedElements);
+    }
+}
@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * SynchronizedElementState records what an integration connector last sent to the open metadata repositories for a
+ * single element from the third party technology.  The fingerprint is a digest of the properties that were
+ * synchronized so the connector can detect whether the element has changed without retrieving the open metadata element.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class SynchronizedElementState implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private String elementGUID      = null;
+    private String fingerprint      = null;
+    private Date   lastSynchronized = null;
+
+
+    /**
+     * Default constructor does nothing.
+     */
+    public SynchronizedElementState()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public SynchronizedElementState(SynchronizedElementState template)
+    {
+        if (template != null)
+        {
+            elementGUID      = template.getElementGUID();
+            fingerprint      = template.getFingerprint();
+            lastSynchronized = template.getLastSynchronized();
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the open metadata element that represents the external element.
+     *
+     * @return string guid
+     */
+    public String getElementGUID()
+    {
+        return elementGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the open metadata element that represents the external element.
+     *
+     * @param elementGUID string guid
+     */
+    public void setElementGUID(String elementGUID)
+    {
+        this.elementGUID = elementGUID;
+    }
+
+
+    /**
+     * Return the digest of the properties that were last synchronized.
+     *
+     * @return hex string
+     */
+    public String getFingerprint()
+    {
+        return fingerprint;
+    }
+
+
+    /**
+     * Set up the digest of the properties that were last synchronized.
+     *
+     * @param fingerprint hex string
+     */
+    public void setFingerprint(String fingerprint)
+    {
+        this.fingerprint = fingerprint;
+    }
+
+
+    /**
+     * Return the time that the element was last synchronized.
+     *
+     * @return date/time
+     */
+    public Date getLastSynchronized()
+    {
+        return lastSynchronized;
+    }
+
+
+    /**
+     * Set up the time that the element was last synchronized.
+     *
+     * @param lastSynchronized date/time
+     */
+    public void setLastSynchronized(Date lastSynchronized)
+    {
+        this.lastSynchronized = lastSynchronized;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "SynchronizedElementState{" +
+                       "elementGUID='" + elementGUID + '\'' +
+                       ", fingerprint='" + fingerprint + '\'' +
+                       ", lastSynchronized=" + lastSynchronized +
+                       '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        SynchronizedElementState that = (SynchronizedElementState) objectToCompare;
+        return Objects.equals(elementGUID, that.elementGUID) &&
+                       Objects.equals(fingerprint, that.fingerprint) &&
+                       Objects.equals(lastSynchronized, that.lastSynchronized);
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(elementGUID, fingerprint, lastSynchronized);
+    }
+}
@@ -0,0 +1,199 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.connectors;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationSyncDelta;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that IntegrationSyncStateStore works out the new, updated and removed elements, and that its state
+ * survives being saved to and loaded from a file.
+ */
+public class TestIntegrationSyncStateStore
+{
+    private static final String connectorName = "TestConnector";
+
+
+    /**
+     * Elements that are not recorded are new, elements with a different fingerprint are updated and recorded
+     * elements that are not supplied are removed.
+     */
+    @Test public void testComputeDelta()
+    {
+        IntegrationSyncStateStore syncStateStore = new IntegrationSyncStateStore(connectorName);
+
+        syncStateStore.recordSync("unchanged", "guid1", IntegrationSyncStateStore.getFingerprint("unchanged", "v1"));
+        syncStateStore.recordSync("changed", "guid2", IntegrationSyncStateStore.getFingerprint("changed", "v1"));
+        syncStateStore.recordSync("removed", "guid3", IntegrationSyncStateStore.getFingerprint("removed", "v1"));
+
+        Map<String, String> currentFingerprints = new HashMap<>();
+
+        currentFingerprints.put("unchanged", IntegrationSyncStateStore.getFingerprint("unchanged", "v1"));
+        currentFingerprints.put("changed", IntegrationSyncStateStore.getFingerprint("changed", "v2"));
+        currentFingerprints.put("added", IntegrationSyncStateStore.getFingerprint("added", "v1"));
+
+        IntegrationSyncDelta delta = syncStateStore.computeDelta(currentFingerprints);
+
+        assertEquals(delta.getNewExternalIds(), Collections.singletonList("added"));
+        assertEquals(delta.getUpdatedExternalIds(), Collections.singletonList("changed"));
+        assertEquals(delta.getRemovedExternalIds(), Collections.singletonList("removed"));
+        assertFalse(delta.isEmpty());
+
+        assertEquals(syncStateStore.computeDelta(null).getRemovedExternalIds().size(), 3);
+    }
+
+
+    /**
+     * Recording, removing and clearing elements.
+     */
+    @Test public void testRecordAndRemove()
+    {
+        IntegrationSyncStateStore syncStateStore = new IntegrationSyncStateStore(connectorName);
+
+        syncStateStore.recordSync("element1", "guid1", "fingerprint1");
+        syncStateStore.recordSync("element2", "guid2", "fingerprint2");
+        syncStateStore.recordSync("element1", "guid1a", "fingerprint1a");
+
+        assertEquals(syncStateStore.getSynchronizedElementCount(), 2);
+        assertEquals(syncStateStore.getElementGUID("element1"), "guid1a");
+
+        syncStateStore.removeSyncState("element2");
+        syncStateStore.removeSyncState("unknown");
+
+        assertNull(syncStateStore.getElementGUID("element2"));
+        assertEquals(syncStateStore.getSynchronizedElementCount(), 1);
+
+        syncStateStore.setLastSyncTime(new Date());
+        syncStateStore.clear();
+
+        assertEquals(syncStateStore.getSynchronizedElementCount(), 0);
+        assertNull(syncStateStore.getLastSyncTime());
+    }
+
+
+    /**
+     * The same values always produce the same fingerprint, and null values and the boundaries between
+     * values change the fingerprint.
+     */
+    @Test public void testFingerprint()
+    {
+        assertEquals(IntegrationSyncStateStore.getFingerprint("a", "b"), IntegrationSyncStateStore.getFingerprint("a", "b"));
+        assertEquals(IntegrationSyncStateStore.getFingerprint("a").length(), 64);
+
+        assertNotEquals(IntegrationSyncStateStore.getFingerprint("ab", "c"), IntegrationSyncStateStore.getFingerprint("a", "bc"));
+        assertNotEquals(IntegrationSyncStateStore.getFingerprint("a", null), IntegrationSyncStateStore.getFingerprint("a", ""));
+        assertNotEquals(IntegrationSyncStateStore.getFingerprint("a", null), IntegrationSyncStateStore.getFingerprint("a"));
+    }
+
+
+    /**
+     * The state saved to a file is loaded by a new store.  A missing file leaves the store empty.
+     *
+     * @throws Exception test failed
+     */
+    @Test public void testSaveAndLoad() throws Exception
+    {
+        Path syncStateDirectory = Files.createTempDirectory("syncstate");
+        File syncStateFile      = new File(syncStateDirectory.toFile(), "TestConnector.json");
+
+        try
+        {
+            IntegrationSyncStateStore emptyStore = new IntegrationSyncStateStore(connectorName, syncStateFile.getPath());
+
+            emptyStore.load();
+
+            assertNull(emptyStore.getLastSyncTime());
+            assertEquals(emptyStore.getSynchronizedElementCount(), 0);
+
+            emptyStore.save();
+
+            assertFalse(syncStateFile.exists());
+
+            Date lastSyncTime = new Date();
+
+            IntegrationSyncStateStore savedStore = new IntegrationSyncStateStore(connectorName, syncStateFile.getPath());
+
+            savedStore.recordSync("element1", "guid1", IntegrationSyncStateStore.getFingerprint("element1"));
+            savedStore.recordSync("element2", "guid2", IntegrationSyncStateStore.getFingerprint("element2"));
+            savedStore.setLastSyncTime(lastSyncTime);
+            savedStore.save();
+
+            assertTrue(syncStateFile.exists());
+
+            IntegrationSyncStateStore loadedStore = new IntegrationSyncStateStore(connectorName, syncStateFile.getPath());
+
+            loadedStore.load();
+
+            assertEquals(loadedStore.getLastSyncTime(), lastSyncTime);
+            assertEquals(loadedStore.getSynchronizedElementCount(), 2);
+            assertEquals(loadedStore.getElementGUID("element2"), "guid2");
+
+            Map<String, String> currentFingerprints = new HashMap<>();
+
+            currentFingerprints.put("element1", IntegrationSyncStateStore.getFingerprint("element1"));
+            currentFingerprints.put("element2", IntegrationSyncStateStore.getFingerprint("element2"));
+
+            assertTrue(loadedStore.computeDelta(currentFingerprints).isEmpty());
+
+            File[] remainingFiles = syncStateDirectory.toFile().listFiles();
+
+            assertTrue(remainingFiles != null);
+            assertEquals(remainingFiles.length, 1);
+        }
+        finally
+        {
+            Files.deleteIfExists(syncStateFile.toPath());
+            Files.deleteIfExists(syncStateDirectory);
+        }
+    }
+
+
+    /**
+     * A file that does not contain saved state is reported with a checked exception.
+     *
+     * @throws Exception test failed
+     */
+    @Test public void testUnreadableFile() throws Exception
+    {
+        Path syncStateFile = Files.createTempFile("syncstate", ".json");
+
+        try
+        {
+            Files.write(syncStateFile, "not json".getBytes(StandardCharsets.UTF_8));
+
+            IntegrationSyncStateStore syncStateStore = new IntegrationSyncStateStore(connectorName, syncStateFile.toString());
+
+            try
+            {
+                syncStateStore.load();
+                fail("Unreadable file not reported");
+            }
+            catch (ConnectorCheckedException expected)
+            {
+                assertTrue(expected.getReportedErrorMessage().contains(syncStateFile.toString()));
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists(syncStateFile);
+        }
+    }
+}
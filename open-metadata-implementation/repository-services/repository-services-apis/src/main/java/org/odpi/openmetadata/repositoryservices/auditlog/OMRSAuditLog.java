@@ -225,7 +225,7 @@ public class OMRSAuditLog extends AuditLog
             super.auditLogActivity.countRecord(severity.getOrdinal(), severity.getName());
         }
 
-        if (omrsDestination != null)
+        if ((omrsDestination != null) && ((severity == null) || (omrsDestination.isSeverityLogged(severity.getName()))))
         {
             OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
 
@@ -91,6 +91,37 @@ public class OMRSAuditLogDestination extends AuditLogDestination
     }
 
 
+    /**
+     * Return whether any of the audit log stores accepts log records of the requested severity.
+     * A store with no supported severities accepts all severities.  The supported severities
+     * are read from the stores on each call because they are set up when the stores are started.
+     *
+     * @param severityName name of the severity
+     * @return boolean flag
+     */
+    @Override
+    public boolean isSeverityLogged(String severityName)
+    {
+        if (auditLogStores != null)
+        {
+            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            {
+                if (auditLogStore != null)
+                {
+                    List<String> supportedSeverities = auditLogStore.getSupportedSeverities();
+
+                    if ((supportedSeverities == null) || (supportedSeverities.isEmpty()) || (supportedSeverities.contains(severityName)))
+                    {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+
     /**
      * Log an audit log record for an event, decision, error, or exception detected by the
      * open metadata services.
@@ -0,0 +1,129 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1RegistrySection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * OMRSCohortMemberEncodings records the event encodings that each member of a cohort listed in its most recent
+ * registry event.  It is used by the OMRS Topic Connector to decide whether it may send events in the encoding
+ * from its configuration, or must send them as JSON because a member is running an earlier release that does not
+ * list its encodings.  When a cohort uses dedicated topics, the connectors for the types and instances topics
+ * share the object owned by the connector for the registration topic.
+ * <p>
+ * A member with no recorded encodings only receives JSON.  This covers members running an earlier release and
+ * members known from the cohort registry store that have not sent a registry event since this server started.
+ */
+class OMRSCohortMemberEncodings
+{
+    private final Map<String, List<String>> memberEncodings = new ConcurrentHashMap<>();
+
+    private volatile String localMetadataCollectionId = null;
+
+
+    /**
+     * Set up the members of the cohort that are known before any registry events are received.  The registry
+     * events sent by the local member are ignored since they arrive back on the same topic.
+     *
+     * @param localMetadataCollectionId metadata collection id of the local member (null if no local repository)
+     * @param remoteMetadataCollectionIds metadata collection ids of the remote members from the cohort registry store
+     */
+    void setKnownMembers(String       localMetadataCollectionId,
+                         List<String> remoteMetadataCollectionIds)
+    {
+        this.localMetadataCollectionId = localMetadataCollectionId;
+
+        if (localMetadataCollectionId != null)
+        {
+            memberEncodings.remove(localMetadataCollectionId);
+        }
+
+        if (remoteMetadataCollectionIds != null)
+        {
+            for (String remoteMetadataCollectionId : remoteMetadataCollectionIds)
+            {
+                if ((remoteMetadataCollectionId != null) && (! remoteMetadataCollectionId.equals(localMetadataCollectionId)))
+                {
+                    memberEncodings.putIfAbsent(remoteMetadataCollectionId, new ArrayList<>());
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Record the encodings of the member that sent a registry event, or remove the member if it is leaving
+     * the cohort.
+     *
+     * @param event incoming registry event
+     */
+    void processRegistryEvent(OMRSEventV1 event)
+    {
+        OMRSEventOriginator        originator      = event.getOriginator();
+        OMRSEventV1RegistrySection registrySection = event.getRegistryEventSection();
+
+        if ((originator == null) || (originator.getMetadataCollectionId() == null) ||
+            (registrySection == null) || (registrySection.getRegistryEventType() == null) ||
+            (originator.getMetadataCollectionId().equals(localMetadataCollectionId)))
+        {
+            return;
+        }
+
+        switch (registrySection.getRegistryEventType())
+        {
+            case REGISTRATION_EVENT:
+            case REFRESH_REGISTRATION_REQUEST:
+            case RE_REGISTRATION_EVENT:
+                List<String> encodings = new ArrayList<>();
+
+                if (registrySection.getEventEncodings() != null)
+                {
+                    encodings.addAll(registrySection.getEventEncodings());
+                }
+
+                memberEncodings.put(originator.getMetadataCollectionId(), encodings);
+                break;
+
+            case UN_REGISTRATION_EVENT:
+                memberEncodings.remove(originator.getMetadataCollectionId());
+                break;
+
+            default:
+                break;
+        }
+    }
+
+
+    /**
+     * Return the encoding to use for an outbound event.  The requested encoding is only used once at least one
+     * remote member is known and all known remote members have listed it.
+     *
+     * @param requestedEncoding encoding from the connector's configuration
+     * @return encoding to use
+     */
+    OMRSEventEncoding getSendEncoding(OMRSEventEncoding requestedEncoding)
+    {
+        if ((requestedEncoding == OMRSEventEncoding.JSON) || (memberEncodings.isEmpty()))
+        {
+            return OMRSEventEncoding.JSON;
+        }
+
+        for (List<String> encodings : memberEncodings.values())
+        {
+            if ((encodings == null) || (! encodings.contains(requestedEncoding.getName())))
+            {
+                return OMRSEventEncoding.JSON;
+            }
+        }
+
+        return requestedEncoding;
+    }
+}
@@ -0,0 +1,205 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * OMRSEventEncoding defines how the OMRS Topic Connector encodes the events it sends.  Encoded events start with a
+ * header that names the encoding.  Events without a header are JSON, so a server can always receive events from a
+ * cohort member that uses a different encoding or is running an earlier release.  Each server lists the encodings it
+ * is able to receive in its registry events, and the OMRS Topic Connector only sends compressed events once all the
+ * members of the cohort have listed the encoding.
+ */
+public enum OMRSEventEncoding implements Serializable
+{
+    JSON      (0, "JSON",      "Events are sent as JSON.", null),
+    GZIP_JSON (1, "GZIP_JSON", "Large events are sent as gzip compressed JSON that is base64 encoded.", "OMRS-GZIP-JSON:");
+
+    private static final long serialVersionUID = 1L;
+
+    /*
+     * Events smaller than this are always sent as JSON since compression saves little.
+     */
+    private static final int minCompressedEventLength = 1024;
+
+    private final int    ordinal;
+    private final String name;
+    private final String description;
+    private final String header;
+
+
+    /**
+     * Typical Constructor
+     *
+     * @param ordinal index number
+     * @param name short name
+     * @param description longer explanation
+     * @param header prefix that identifies an event using this encoding
+     */
+    OMRSEventEncoding(int ordinal, String name, String description, String header)
+    {
+        this.ordinal = ordinal;
+        this.name = name;
+        this.description = description;
+        this.header = header;
+    }
+
+
+    /**
+     * Return the code for this enum instance
+     *
+     * @return int code
+     */
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * Return the default symbol for this enum instance.
+     *
+     * @return String default symbol
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the default description for this enum instance.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the encoding with the supplied name.
+     *
+     * @param name name of the encoding (case is ignored)
+     * @return encoding or null if the name is not recognized
+     */
+    public static OMRSEventEncoding getEncoding(String name)
+    {
+        for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+        {
+            if (encoding.getName().equalsIgnoreCase(name))
+            {
+                return encoding;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the names of the encodings that this server is able to receive.  They are sent to the other
+     * members of the cohort in the registry events.
+     *
+     * @return list of encoding names
+     */
+    public static List<String> getSupportedEncodingNames()
+    {
+        List<String> encodingNames = new ArrayList<>();
+
+        for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+        {
+            encodingNames.add(encoding.getName());
+        }
+
+        return encodingNames;
+    }
+
+
+    /**
+     * Encode a JSON event for sending.
+     *
+     * @param jsonEvent event as JSON
+     * @return event to send
+     * @throws IOException the event could not be encoded
+     */
+    public String encode(String jsonEvent) throws IOException
+    {
+        if ((header == null) || (jsonEvent.length() < minCompressedEventLength))
+        {
+            return jsonEvent;
+        }
+
+        ByteArrayOutputStream compressedEvent = new ByteArrayOutputStream(jsonEvent.length() / 4);
+
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressedEvent))
+        {
+            gzipStream.write(jsonEvent.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return header + Base64.getEncoder().encodeToString(compressedEvent.toByteArray());
+    }
+
+
+    /**
+     * Return the JSON for a received event, using its header to determine how it is encoded.
+     *
+     * @param event received event
+     * @return event as JSON
+     * @throws IOException the event has a header but its content could not be decoded
+     */
+    public static String decode(String event) throws IOException
+    {
+        for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+        {
+            if ((encoding.header != null) && (event.startsWith(encoding.header)))
+            {
+                byte[] compressedEvent;
+
+                try
+                {
+                    compressedEvent = Base64.getDecoder().decode(event.substring(encoding.header.length()));
+                }
+                catch (IllegalArgumentException error)
+                {
+                    throw new IOException("Event with header " + encoding.header + " is not valid base64", error);
+                }
+
+                try (InputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(compressedEvent)))
+                {
+                    return new String(gzipStream.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+
+        return event;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSEventEncoding{" +
+                "ordinal=" + ordinal +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
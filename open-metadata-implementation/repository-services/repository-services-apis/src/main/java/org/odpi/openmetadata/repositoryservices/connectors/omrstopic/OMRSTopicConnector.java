@@ -14,6 +14,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
@@ -27,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -62,6 +64,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 {
     private static final Logger       log      = LoggerFactory.getLogger(OMRSTopicConnector.class);
 
+    /*
+     * ObjectMapper is thread safe once configured so one instance is shared for all events.
+     */
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     private List<Connector> embeddedConnectors = null;
 
     private final List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
@@ -70,6 +77,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
     private String                    topicName = "<Unknown>";
     private OMRSEventProtocolVersion  eventProtocolVersion = OMRSEventProtocolVersion.V1;
+    private OMRSEventEncoding         eventEncoding        = OMRSEventEncoding.JSON;
+    private OMRSEventEncoding         sendEncoding         = OMRSEventEncoding.JSON;
+    private OMRSCohortMemberEncodings cohortMemberEncodings = new OMRSCohortMemberEncodings();
 
     protected AuditLog auditLog = null;
 
@@ -141,6 +151,37 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Use the event encodings of the cohort members that are received by the connector for the cohort's
+     * registration topic.  This is needed when the cohort uses dedicated topics since only the registration
+     * topic carries the registry events that list the encodings of each member.
+     *
+     * @param registrationTopicConnector connector for the registration topic of the same cohort
+     */
+    public void shareCohortMemberEncodings(OMRSTopicConnector registrationTopicConnector)
+    {
+        if (registrationTopicConnector != null)
+        {
+            this.cohortMemberEncodings = registrationTopicConnector.cohortMemberEncodings;
+        }
+    }
+
+
+    /**
+     * Set up the members of the cohort that are known from the cohort registry store.  Until a member sends a
+     * registry event listing its encodings, events are sent as JSON.  Registry events from the local member
+     * are not used to choose the encoding.
+     *
+     * @param localMetadataCollectionId metadata collection id of the local member (null if no local repository)
+     * @param remoteMetadataCollectionIds metadata collection ids of the remote members
+     */
+    public void setCohortMembers(String       localMetadataCollectionId,
+                                 List<String> remoteMetadataCollectionIds)
+    {
+        cohortMemberEncodings.setKnownMembers(localMetadataCollectionId, remoteMetadataCollectionIds);
+    }
+
+
     /**
      * Register an OMRSTopicListener object.  This object will be supplied with all the OMRS events
      * received on the topic.
@@ -242,6 +283,28 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         log.debug("Initializing OMRSTopicConnector: " + connectionName);
 
+        /*
+         * Events are received in any encoding but only sent in the configured encoding.
+         */
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if ((configurationProperties != null) && (configurationProperties.get(OMRSTopicProvider.eventEncodingProperty) != null))
+            {
+                String encodingName = configurationProperties.get(OMRSTopicProvider.eventEncodingProperty).toString();
+
+                eventEncoding = OMRSEventEncoding.getEncoding(encodingName);
+
+                if (eventEncoding == null)
+                {
+                    throw new ConnectorCheckedException(OMRSErrorCode.UNKNOWN_EVENT_ENCODING.getMessageDefinition(connectionName, encodingName),
+                                                        this.getClass().getName(),
+                                                        methodName);
+                }
+            }
+        }
+
         /*
          * Step through the embedded connectors, selecting only the OpenMetadataTopicConnectors
          * to use.
@@ -306,6 +369,12 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
             if (auditLog != null)
             {
+                if (eventEncoding != OMRSEventEncoding.JSON)
+                {
+                    auditLog.logMessage(methodName,
+                                        OMRSAuditCode.OMRS_TOPIC_EVENT_ENCODING.getMessageDefinition(topicName, eventEncoding.getName()));
+                }
+
                 auditLog.logMessage(methodName,
                                     OMRSAuditCode.OMRS_TOPIC_LISTENER_STARTED.getMessageDefinition(topicName),
                                     this.getConnection().toString());
@@ -345,7 +414,17 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
         {
-            this.sendEvent(registryEvent.getOMRSEventV1(), true);
+            OMRSEventV1 event = registryEvent.getOMRSEventV1();
+
+            /*
+             * Tell the other members of the cohort which encodings this server is able to receive.
+             */
+            if (event.getRegistryEventSection() != null)
+            {
+                event.getRegistryEventSection().setEventEncodings(OMRSEventEncoding.getSupportedEncodingNames());
+            }
+
+            this.sendEvent(event, true);
         }
         else
         {
@@ -415,8 +494,6 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         {
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
                 String eventString = objectMapper.writeValueAsString(event);
 
                 if ((auditLog != null) && (logEvent))
@@ -427,11 +504,13 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                                         eventString);
                 }
 
+                String encodedEvent = this.getSendEncoding().encode(eventString);
+
                 for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
                 {
                     if (eventBusConnector != null)
                     {
-                        eventBusConnector.sendEvent(eventString);
+                        eventBusConnector.sendEvent(encodedEvent);
                     }
                 }
             }
@@ -479,26 +558,57 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         if (event != null)
         {
             OMRSEventBean   eventBean = null;
+            String          jsonEvent = null;
 
             /*
-             * Parse the string (JSON) event into a bean.
+             * Decode the event if it is sent by a server using a different encoding.  An event that can not be
+             * decoded is ignored so that it does not stop the processing of later events.
              */
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                eventBean = objectMapper.readValue(event, OMRSEventBean.class);
+                jsonEvent = OMRSEventEncoding.decode(event);
             }
             catch (Exception   exception)
             {
+                log.debug("Unable to decode event: " + exception.getMessage());
+
                 if (auditLog != null)
                 {
                     auditLog.logException(actionDescription,
-                                          OMRSAuditCode.EVENT_PARSING_ERROR.getMessageDefinition(event, exception.toString()),
+                                          OMRSAuditCode.EVENT_DECODING_ERROR.getMessageDefinition(topicName, exception.toString()),
+                                          event,
                                           exception);
                 }
             }
 
+            /*
+             * Parse the JSON event into a bean.
+             */
+            if (jsonEvent != null)
+            {
+                try
+                {
+                    eventBean = objectMapper.readValue(jsonEvent, OMRSEventBean.class);
+                }
+                catch (Exception   exception)
+                {
+                    if (auditLog != null)
+                    {
+                        auditLog.logException(actionDescription,
+                                              OMRSAuditCode.EVENT_PARSING_ERROR.getMessageDefinition(event, exception.toString()),
+                                              exception);
+                    }
+                }
+            }
+
+            /*
+             * Registry events list the encodings that the sending member is able to receive.
+             */
+            if ((eventBean instanceof OMRSEventV1) && (((OMRSEventV1) eventBean).getEventCategory() == OMRSEventCategory.REGISTRY))
+            {
+                cohortMemberEncodings.processRegistryEvent((OMRSEventV1) eventBean);
+            }
+
 
             /*
              * If the event bean is successfully created then pass it on to the registered listeners.
@@ -541,6 +651,36 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the encoding to use for outbound events.  This is the configured encoding once all members of the
+     * cohort have listed it in their registry events, and JSON until then.  A message is logged each time
+     * the encoding changes.
+     *
+     * @return encoding for the next event
+     */
+    private synchronized OMRSEventEncoding getSendEncoding()
+    {
+        final String methodName = "getSendEncoding";
+
+        OMRSEventEncoding newSendEncoding = cohortMemberEncodings.getSendEncoding(eventEncoding);
+
+        if (newSendEncoding != sendEncoding)
+        {
+            sendEncoding = newSendEncoding;
+
+            log.debug("Sending events on topic " + topicName + " using encoding " + sendEncoding.getName());
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    OMRSAuditCode.OMRS_TOPIC_SEND_ENCODING_CHANGED.getMessageDefinition(topicName, sendEncoding.getName()));
+            }
+        }
+
+        return sendEncoding;
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
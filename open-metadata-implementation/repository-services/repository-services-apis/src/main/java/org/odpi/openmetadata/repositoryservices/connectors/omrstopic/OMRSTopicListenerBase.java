@@ -786,12 +786,26 @@ public class OMRSTopicListenerBase implements OMRSTopicListener
                                                              instanceEvent.getRelationship());
                         break;
                     case BATCH_INSTANCES_EVENT:
-                        this.processInstanceBatchEvent(serviceName,
-                                                       instanceEventOriginator.getMetadataCollectionId(),
-                                                       instanceEventOriginator.getServerName(),
-                                                       instanceEventOriginator.getServerType(),
-                                                       instanceEventOriginator.getOrganizationName(),
-                                                       instanceEvent.getInstanceBatch());
+                        if (instanceEvent.getInstanceBatchEventTypes() != null)
+                        {
+                            /*
+                             * The batch was built from individual instance events so it is expanded
+                             * back into those events to preserve whether each instance was new or updated.
+                             */
+                            for (OMRSInstanceEvent batchedInstanceEvent : instanceEvent.getBatchedInstanceEvents())
+                            {
+                                this.processInstanceEvent(batchedInstanceEvent);
+                            }
+                        }
+                        else
+                        {
+                            this.processInstanceBatchEvent(serviceName,
+                                                           instanceEventOriginator.getMetadataCollectionId(),
+                                                           instanceEventOriginator.getServerName(),
+                                                           instanceEventOriginator.getServerType(),
+                                                           instanceEventOriginator.getOrganizationName(),
+                                                           instanceEvent.getInstanceBatch());
+                        }
                         break;
                     case INSTANCE_ERROR_EVENT:
                         OMRSInstanceEventErrorCode errorCode = instanceEvent.getErrorCode();
@@ -8,9 +8,13 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 
 /**
  * OMRSTopicProvider provides implementation of the connector provider for the OMRSTopicConnector.
+ * The eventEncoding configuration property sets the encoding of the events that the connector sends
+ * (see OMRSEventEncoding).  Events are sent as JSON if it is not set.
  */
 public class OMRSTopicProvider extends ConnectorProviderBase
 {
+    public static final String eventEncodingProperty = "eventEncoding";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -2,8 +2,11 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Future;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -41,6 +44,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidEntityExce
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidRelationshipException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidTypeDefException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PatchErrorException;
@@ -834,6 +838,62 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                          UserNotAuthorizedException;
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities in a single call.  The entities are
+     * returned in the order of the supplied guids.  Unlike getEntityDetail, a guid for an entity that is not known,
+     * or is only a proxy, does not cause an exception - it is simply missing from the results.
+     * This default implementation calls getEntityDetail for each guid.  Repositories that are able to retrieve
+     * the entities more efficiently (for example in a single query) should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities or null if none of the entities are known.
+     * @throws InvalidParameterException the userId or list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntitiesDetail(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String methodName = "getEntitiesDetail";
+
+        this.validateInstanceBatch(userId, guids, methodName);
+
+        List<EntityDetail> results = new ArrayList<>();
+        Set<String>        visitedGUIDs = new HashSet<>();
+
+        for (String guid : guids)
+        {
+            if ((guid != null) && (visitedGUIDs.add(guid)))
+            {
+                try
+                {
+                    EntityDetail entity = this.getEntityDetail(userId, guid);
+
+                    if (entity != null)
+                    {
+                        results.add(entity);
+                    }
+                }
+                catch (EntityNotKnownException | EntityProxyOnlyException error)
+                {
+                    log.debug("Entity " + guid + " not returned by " + methodName + ": " + error.getMessage());
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Return a historical version of an entity.  Thi includes the header, classifications and properties of the entity.
      *
@@ -2202,6 +2262,337 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
     }
 
 
+    /**
+     * Create a batch of new entities.  Each item in the list is processed as if it had been passed to
+     * addEntity (or addExternalEntity if the item's externalSourceGUID is set).  The results are returned in the
+     * same order as the request list.  A failure with one item does not stop the other items from being processed -
+     * the reason for the failure is recorded in the item's result.
+     * This default implementation calls addEntity/addExternalEntity for each item.  Repositories that are able to
+     * process the batch more efficiently (for example in a single transaction) should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities list of descriptions of the entities to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of new entities is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addEntities(String                userId,
+                                                 List<EntityBatchItem> newEntities) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           FunctionNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String methodName = "addEntities";
+
+        this.validateInstanceBatch(userId, newEntities, methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>();
+
+        int itemIndex = 0;
+        for (EntityBatchItem newEntity : newEntities)
+        {
+            InstanceBatchResult result = new InstanceBatchResult(itemIndex);
+
+            try
+            {
+                this.validateBatchItem(newEntity, methodName);
+
+                if (newEntity.getExternalSourceGUID() == null)
+                {
+                    result.setEntity(this.addEntity(userId,
+                                                    newEntity.getEntityTypeGUID(),
+                                                    newEntity.getInitialProperties(),
+                                                    newEntity.getInitialClassifications(),
+                                                    newEntity.getInitialStatus()));
+                }
+                else
+                {
+                    result.setEntity(this.addExternalEntity(userId,
+                                                            newEntity.getEntityTypeGUID(),
+                                                            newEntity.getExternalSourceGUID(),
+                                                            newEntity.getExternalSourceName(),
+                                                            newEntity.getInitialProperties(),
+                                                            newEntity.getInitialClassifications(),
+                                                            newEntity.getInitialStatus()));
+                }
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                this.captureBatchItemException(result, error);
+            }
+
+            results.add(result);
+            itemIndex++;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Create a batch of new relationships.  Each item in the list is processed as if it had been passed to
+     * addRelationship (or addExternalRelationship if the item's externalSourceGUID is set).  The results are returned
+     * in the same order as the request list.  A failure with one item does not stop the other items from being
+     * processed - the reason for the failure is recorded in the item's result.
+     * This default implementation calls addRelationship/addExternalRelationship for each item.  Repositories that are
+     * able to process the batch more efficiently (for example in a single transaction) should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships list of descriptions of the relationships to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of new relationships is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addRelationships(String                      userId,
+                                                      List<RelationshipBatchItem> newRelationships) throws InvalidParameterException,
+                                                                                                           RepositoryErrorException,
+                                                                                                           FunctionNotSupportedException,
+                                                                                                           UserNotAuthorizedException
+    {
+        final String methodName = "addRelationships";
+
+        this.validateInstanceBatch(userId, newRelationships, methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>();
+
+        int itemIndex = 0;
+        for (RelationshipBatchItem newRelationship : newRelationships)
+        {
+            InstanceBatchResult result = new InstanceBatchResult(itemIndex);
+
+            try
+            {
+                this.validateBatchItem(newRelationship, methodName);
+
+                if (newRelationship.getExternalSourceGUID() == null)
+                {
+                    result.setRelationship(this.addRelationship(userId,
+                                                                newRelationship.getRelationshipTypeGUID(),
+                                                                newRelationship.getInitialProperties(),
+                                                                newRelationship.getEntityOneGUID(),
+                                                                newRelationship.getEntityTwoGUID(),
+                                                                newRelationship.getInitialStatus()));
+                }
+                else
+                {
+                    result.setRelationship(this.addExternalRelationship(userId,
+                                                                        newRelationship.getRelationshipTypeGUID(),
+                                                                        newRelationship.getExternalSourceGUID(),
+                                                                        newRelationship.getExternalSourceName(),
+                                                                        newRelationship.getInitialProperties(),
+                                                                        newRelationship.getEntityOneGUID(),
+                                                                        newRelationship.getEntityTwoGUID(),
+                                                                        newRelationship.getInitialStatus()));
+                }
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                this.captureBatchItemException(result, error);
+            }
+
+            results.add(result);
+            itemIndex++;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Update the properties of a batch of entities.  Each item in the list is processed as if it had been passed to
+     * updateEntityProperties.  The results are returned in the same order as the request list.  A failure with one
+     * item does not stop the other items from being processed - the reason for the failure is recorded in the
+     * item's result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityUpdates list of entity guids and their new properties.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of updates is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> updateEntitiesProperties(String                        userId,
+                                                              List<InstanceUpdateBatchItem> entityUpdates) throws InvalidParameterException,
+                                                                                                                  RepositoryErrorException,
+                                                                                                                  FunctionNotSupportedException,
+                                                                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "updateEntitiesProperties";
+
+        this.validateInstanceBatch(userId, entityUpdates, methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>();
+
+        int itemIndex = 0;
+        for (InstanceUpdateBatchItem entityUpdate : entityUpdates)
+        {
+            InstanceBatchResult result = new InstanceBatchResult(itemIndex);
+
+            try
+            {
+                this.validateBatchItem(entityUpdate, methodName);
+
+                result.setEntity(this.updateEntityProperties(userId,
+                                                             entityUpdate.getInstanceGUID(),
+                                                             entityUpdate.getProperties()));
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                this.captureBatchItemException(result, error);
+            }
+
+            results.add(result);
+            itemIndex++;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Update the properties of a batch of relationships.  Each item in the list is processed as if it had been
+     * passed to updateRelationshipProperties.  The results are returned in the same order as the request list.
+     * A failure with one item does not stop the other items from being processed - the reason for the failure is
+     * recorded in the item's result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipUpdates list of relationship guids and their new properties.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of updates is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> updateRelationshipsProperties(String                        userId,
+                                                                   List<InstanceUpdateBatchItem> relationshipUpdates) throws InvalidParameterException,
+                                                                                                                             RepositoryErrorException,
+                                                                                                                             FunctionNotSupportedException,
+                                                                                                                             UserNotAuthorizedException
+    {
+        final String methodName = "updateRelationshipsProperties";
+
+        this.validateInstanceBatch(userId, relationshipUpdates, methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>();
+
+        int itemIndex = 0;
+        for (InstanceUpdateBatchItem relationshipUpdate : relationshipUpdates)
+        {
+            InstanceBatchResult result = new InstanceBatchResult(itemIndex);
+
+            try
+            {
+                this.validateBatchItem(relationshipUpdate, methodName);
+
+                result.setRelationship(this.updateRelationshipProperties(userId,
+                                                                         relationshipUpdate.getInstanceGUID(),
+                                                                         relationshipUpdate.getProperties()));
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                this.captureBatchItemException(result, error);
+            }
+
+            results.add(result);
+            itemIndex++;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Validate the common parameters of the batch methods.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param batch list of items to process
+     * @param methodName calling method
+     * @throws InvalidParameterException the userId or list is null
+     */
+    protected void validateInstanceBatch(String  userId,
+                                         List<?> batch,
+                                         String  methodName) throws InvalidParameterException
+    {
+        if (repositoryValidator != null)
+        {
+            repositoryValidator.validateUserId(repositoryName, userId, methodName);
+        }
+
+        if (batch == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_INSTANCE_BATCH.getMessageDefinition(methodName, repositoryName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                "batch");
+        }
+    }
+
+
+    /**
+     * Validate that an item in a batch is not null.
+     *
+     * @param batchItem item from the batch
+     * @param methodName calling method
+     * @throws InvalidParameterException the item is null
+     */
+    protected void validateBatchItem(Object batchItem,
+                                     String methodName) throws InvalidParameterException
+    {
+        if (batchItem == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_PARAMETER.getMessageDefinition(methodName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                "batchItem");
+        }
+    }
+
+
+    /**
+     * Record the exception that caused an item in a batch to fail.
+     *
+     * @param result result for the item
+     * @param error exception from processing the item
+     */
+    protected void captureBatchItemException(InstanceBatchResult      result,
+                                             OMRSCheckedExceptionBase error)
+    {
+        result.setEntity(null);
+        result.setRelationship(null);
+        result.setRelatedHTTPCode(error.getReportedHTTPCode());
+        result.setExceptionClassName(error.getClass().getName());
+        result.setExceptionErrorMessage(error.getReportedErrorMessage());
+        result.setExceptionErrorMessageId(error.getReportedErrorMessageId());
+        result.setExceptionSystemAction(error.getReportedSystemAction());
+        result.setExceptionUserAction(error.getReportedUserAction());
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -1814,6 +1814,29 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the parameters for a retrieve of a list of instances.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the instances.
+     * @param methodName name of calling method.
+     * @throws InvalidParameterException the userId or list of guids is null
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     */
+    protected  void getInstancesParameterValidation(String       userId,
+                                                    List<String> guids,
+                                                    String       methodName) throws InvalidParameterException,
+                                                                                    RepositoryErrorException
+    {
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        super.validateInstanceBatch(userId, guids, methodName);
+    }
+
+
     /**
      * Validate the parameters for a retrieve of a historical version of an instance.
      *
@@ -0,0 +1,273 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * EntityBatchItem describes one of the new entities passed to addEntities.  It carries the same
+ * values as the parameters of addEntity (or addExternalEntity if the externalSourceGUID is set).
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class EntityBatchItem extends InstanceElementHeader
+{
+    private static final long    serialVersionUID = 1L;
+
+    private String               entityTypeGUID         = null;
+    private String               externalSourceGUID     = null;
+    private String               externalSourceName     = null;
+    private InstanceProperties   initialProperties      = null;
+    private List<Classification> initialClassifications = null;
+    private InstanceStatus       initialStatus          = null;
+
+
+    /**
+     * Default constructor
+     */
+    public EntityBatchItem()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public EntityBatchItem(EntityBatchItem template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.entityTypeGUID = template.getEntityTypeGUID();
+            this.externalSourceGUID = template.getExternalSourceGUID();
+            this.externalSourceName = template.getExternalSourceName();
+            this.initialProperties = template.getInitialProperties();
+            this.initialClassifications = template.getInitialClassifications();
+            this.initialStatus = template.getInitialStatus();
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the type of the new entity.
+     *
+     * @return String guid
+     */
+    public String getEntityTypeGUID()
+    {
+        return entityTypeGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the type of the new entity.
+     *
+     * @param entityTypeGUID String guid
+     */
+    public void setEntityTypeGUID(String entityTypeGUID)
+    {
+        this.entityTypeGUID = entityTypeGUID;
+    }
+
+
+    /**
+     * Return the unique identifier of the external source.  Null means the entity is homed in the local
+     * metadata collection.
+     *
+     * @return String guid
+     */
+    public String getExternalSourceGUID()
+    {
+        return externalSourceGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the external source.  Null means the entity is homed in the local
+     * metadata collection.
+     *
+     * @param externalSourceGUID String guid
+     */
+    public void setExternalSourceGUID(String externalSourceGUID)
+    {
+        this.externalSourceGUID = externalSourceGUID;
+    }
+
+
+    /**
+     * Return the unique name of the external source.
+     *
+     * @return String name
+     */
+    public String getExternalSourceName()
+    {
+        return externalSourceName;
+    }
+
+
+    /**
+     * Set up the unique name of the external source.
+     *
+     * @param externalSourceName String name
+     */
+    public void setExternalSourceName(String externalSourceName)
+    {
+        this.externalSourceName = externalSourceName;
+    }
+
+
+    /**
+     * Return the initial properties for the new entity.
+     *
+     * @return instance properties object
+     */
+    public InstanceProperties getInitialProperties()
+    {
+        if (initialProperties == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new InstanceProperties(initialProperties);
+        }
+    }
+
+
+    /**
+     * Set up the initial properties for the new entity.
+     *
+     * @param initialProperties instance properties object
+     */
+    public void setInitialProperties(InstanceProperties initialProperties)
+    {
+        this.initialProperties = initialProperties;
+    }
+
+
+    /**
+     * Return the initial classifications for the new entity.
+     *
+     * @return list of classifications
+     */
+    public List<Classification> getInitialClassifications()
+    {
+        if (initialClassifications == null)
+        {
+            return null;
+        }
+        else if (initialClassifications.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(initialClassifications);
+        }
+    }
+
+
+    /**
+     * Set up the initial classifications for the new entity.
+     *
+     * @param initialClassifications list of classifications
+     */
+    public void setInitialClassifications(List<Classification> initialClassifications)
+    {
+        this.initialClassifications = initialClassifications;
+    }
+
+
+    /**
+     * Return the initial status of the new entity.
+     *
+     * @return instance status enum
+     */
+    public InstanceStatus getInitialStatus()
+    {
+        return initialStatus;
+    }
+
+
+    /**
+     * Set up the initial status of the new entity.
+     *
+     * @param initialStatus instance status enum
+     */
+    public void setInitialStatus(InstanceStatus initialStatus)
+    {
+        this.initialStatus = initialStatus;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "EntityBatchItem{" +
+                "entityTypeGUID='" + entityTypeGUID + '\'' +
+                ", externalSourceGUID='" + externalSourceGUID + '\'' +
+                ", externalSourceName='" + externalSourceName + '\'' +
+                ", initialProperties=" + initialProperties +
+                ", initialClassifications=" + initialClassifications +
+                ", initialStatus=" + initialStatus +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof EntityBatchItem))
+        {
+            return false;
+        }
+        EntityBatchItem that = (EntityBatchItem) objectToCompare;
+        return Objects.equals(entityTypeGUID, that.entityTypeGUID) &&
+                Objects.equals(externalSourceGUID, that.externalSourceGUID) &&
+                Objects.equals(externalSourceName, that.externalSourceName) &&
+                Objects.equals(initialProperties, that.initialProperties) &&
+                Objects.equals(initialClassifications, that.initialClassifications) &&
+                initialStatus == that.initialStatus;
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(entityTypeGUID, externalSourceGUID, externalSourceName, initialProperties, initialClassifications, initialStatus);
+    }
+}
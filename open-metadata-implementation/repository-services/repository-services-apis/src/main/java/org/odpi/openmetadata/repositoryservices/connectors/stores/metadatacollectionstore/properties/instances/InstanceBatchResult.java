@@ -0,0 +1,346 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * InstanceBatchResult records the outcome of one item from a batch request such as addEntities or
+ * updateRelationshipsProperties.  The itemIndex is the position of the item in the request list.
+ * If the item was processed successfully, either the entity or the relationship is set (depending on the
+ * request).  Otherwise, the exception fields describe why the item was rejected.  The failure of one item
+ * does not affect the processing of the other items in the batch.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InstanceBatchResult extends InstanceElementHeader
+{
+    private static final long serialVersionUID = 1L;
+
+    private int          itemIndex               = 0;
+    private EntityDetail entity                  = null;
+    private Relationship relationship            = null;
+    private int          relatedHTTPCode         = 200;
+    private String       exceptionClassName      = null;
+    private String       exceptionErrorMessage   = null;
+    private String       exceptionErrorMessageId = null;
+    private String       exceptionSystemAction   = null;
+    private String       exceptionUserAction     = null;
+
+
+    /**
+     * Default constructor
+     */
+    public InstanceBatchResult()
+    {
+        super();
+    }
+
+
+    /**
+     * Constructor for a specific item in the batch.
+     *
+     * @param itemIndex position of the item in the request list
+     */
+    public InstanceBatchResult(int itemIndex)
+    {
+        super();
+
+        this.itemIndex = itemIndex;
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public InstanceBatchResult(InstanceBatchResult template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.itemIndex = template.getItemIndex();
+            this.entity = template.getEntity();
+            this.relationship = template.getRelationship();
+            this.relatedHTTPCode = template.getRelatedHTTPCode();
+            this.exceptionClassName = template.getExceptionClassName();
+            this.exceptionErrorMessage = template.getExceptionErrorMessage();
+            this.exceptionErrorMessageId = template.getExceptionErrorMessageId();
+            this.exceptionSystemAction = template.getExceptionSystemAction();
+            this.exceptionUserAction = template.getExceptionUserAction();
+        }
+    }
+
+
+    /**
+     * Return the position of the item in the request list.
+     *
+     * @return int index (starting at 0)
+     */
+    public int getItemIndex()
+    {
+        return itemIndex;
+    }
+
+
+    /**
+     * Set up the position of the item in the request list.
+     *
+     * @param itemIndex int index (starting at 0)
+     */
+    public void setItemIndex(int itemIndex)
+    {
+        this.itemIndex = itemIndex;
+    }
+
+
+    /**
+     * Return the entity that was created or updated.
+     *
+     * @return entity detail or null
+     */
+    public EntityDetail getEntity()
+    {
+        return entity;
+    }
+
+
+    /**
+     * Set up the entity that was created or updated.
+     *
+     * @param entity entity detail
+     */
+    public void setEntity(EntityDetail entity)
+    {
+        this.entity = entity;
+    }
+
+
+    /**
+     * Return the relationship that was created or updated.
+     *
+     * @return relationship or null
+     */
+    public Relationship getRelationship()
+    {
+        return relationship;
+    }
+
+
+    /**
+     * Set up the relationship that was created or updated.
+     *
+     * @param relationship relationship
+     */
+    public void setRelationship(Relationship relationship)
+    {
+        this.relationship = relationship;
+    }
+
+
+    /**
+     * Return the HTTP code that describes the outcome of this item.
+     *
+     * @return int HTTP code (200 means ok)
+     */
+    public int getRelatedHTTPCode()
+    {
+        return relatedHTTPCode;
+    }
+
+
+    /**
+     * Set up the HTTP code that describes the outcome of this item.
+     *
+     * @param relatedHTTPCode int HTTP code
+     */
+    public void setRelatedHTTPCode(int relatedHTTPCode)
+    {
+        this.relatedHTTPCode = relatedHTTPCode;
+    }
+
+
+    /**
+     * Return the name of the exception that caused this item to be rejected.  Null means the item was successful.
+     *
+     * @return class name
+     */
+    public String getExceptionClassName()
+    {
+        return exceptionClassName;
+    }
+
+
+    /**
+     * Set up the name of the exception that caused this item to be rejected.
+     *
+     * @param exceptionClassName class name
+     */
+    public void setExceptionClassName(String exceptionClassName)
+    {
+        this.exceptionClassName = exceptionClassName;
+    }
+
+
+    /**
+     * Return the error message from the exception that caused this item to be rejected.
+     *
+     * @return message text
+     */
+    public String getExceptionErrorMessage()
+    {
+        return exceptionErrorMessage;
+    }
+
+
+    /**
+     * Set up the error message from the exception that caused this item to be rejected.
+     *
+     * @param exceptionErrorMessage message text
+     */
+    public void setExceptionErrorMessage(String exceptionErrorMessage)
+    {
+        this.exceptionErrorMessage = exceptionErrorMessage;
+    }
+
+
+    /**
+     * Return the identifier of the error message.
+     *
+     * @return message identifier
+     */
+    public String getExceptionErrorMessageId()
+    {
+        return exceptionErrorMessageId;
+    }
+
+
+    /**
+     * Set up the identifier of the error message.
+     *
+     * @param exceptionErrorMessageId message identifier
+     */
+    public void setExceptionErrorMessageId(String exceptionErrorMessageId)
+    {
+        this.exceptionErrorMessageId = exceptionErrorMessageId;
+    }
+
+
+    /**
+     * Return the description of the action taken by the system as a result of the error.
+     *
+     * @return system action text
+     */
+    public String getExceptionSystemAction()
+    {
+        return exceptionSystemAction;
+    }
+
+
+    /**
+     * Set up the description of the action taken by the system as a result of the error.
+     *
+     * @param exceptionSystemAction system action text
+     */
+    public void setExceptionSystemAction(String exceptionSystemAction)
+    {
+        this.exceptionSystemAction = exceptionSystemAction;
+    }
+
+
+    /**
+     * Return the action that the caller should take to correct the error.
+     *
+     * @return user action text
+     */
+    public String getExceptionUserAction()
+    {
+        return exceptionUserAction;
+    }
+
+
+    /**
+     * Set up the action that the caller should take to correct the error.
+     *
+     * @param exceptionUserAction user action text
+     */
+    public void setExceptionUserAction(String exceptionUserAction)
+    {
+        this.exceptionUserAction = exceptionUserAction;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "InstanceBatchResult{" +
+                "itemIndex=" + itemIndex +
+                ", entity=" + entity +
+                ", relationship=" + relationship +
+                ", relatedHTTPCode=" + relatedHTTPCode +
+                ", exceptionClassName='" + exceptionClassName + '\'' +
+                ", exceptionErrorMessage='" + exceptionErrorMessage + '\'' +
+                ", exceptionErrorMessageId='" + exceptionErrorMessageId + '\'' +
+                ", exceptionSystemAction='" + exceptionSystemAction + '\'' +
+                ", exceptionUserAction='" + exceptionUserAction + '\'' +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof InstanceBatchResult))
+        {
+            return false;
+        }
+        InstanceBatchResult that = (InstanceBatchResult) objectToCompare;
+        return itemIndex == that.itemIndex &&
+                relatedHTTPCode == that.relatedHTTPCode &&
+                Objects.equals(entity, that.entity) &&
+                Objects.equals(relationship, that.relationship) &&
+                Objects.equals(exceptionClassName, that.exceptionClassName) &&
+                Objects.equals(exceptionErrorMessage, that.exceptionErrorMessage) &&
+                Objects.equals(exceptionErrorMessageId, that.exceptionErrorMessageId) &&
+                Objects.equals(exceptionSystemAction, that.exceptionSystemAction) &&
+                Objects.equals(exceptionUserAction, that.exceptionUserAction);
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(itemIndex, entity, relationship, relatedHTTPCode, exceptionClassName, exceptionErrorMessage,
+                            exceptionErrorMessageId, exceptionSystemAction, exceptionUserAction);
+    }
+}
@@ -22,10 +22,14 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
         property = "class")
 @JsonSubTypes({
         @JsonSubTypes.Type(value = ClassificationEntityExtension.class, name = "ClassificationEntityExtension"),
+        @JsonSubTypes.Type(value = EntityBatchItem.class, name = "EntityBatchItem"),
+        @JsonSubTypes.Type(value = InstanceBatchResult.class, name = "InstanceBatchResult"),
         @JsonSubTypes.Type(value = InstanceAuditHeader.class, name = "InstanceAuditHeader"),
         @JsonSubTypes.Type(value = InstanceGraph.class, name = "InstanceGraph"),
         @JsonSubTypes.Type(value = InstanceType.class, name = "InstanceType"),
-        @JsonSubTypes.Type(value = InstancePropertyValue.class, name = "InstancePropertyValue")
+        @JsonSubTypes.Type(value = InstancePropertyValue.class, name = "InstancePropertyValue"),
+        @JsonSubTypes.Type(value = InstanceUpdateBatchItem.class, name = "InstanceUpdateBatchItem"),
+        @JsonSubTypes.Type(value = RelationshipBatchItem.class, name = "RelationshipBatchItem")
 })
 public abstract class InstanceElementHeader extends RepositoryElementHeader
 {
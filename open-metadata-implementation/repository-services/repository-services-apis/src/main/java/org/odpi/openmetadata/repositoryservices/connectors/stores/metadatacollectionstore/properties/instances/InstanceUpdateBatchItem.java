@@ -0,0 +1,154 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * InstanceUpdateBatchItem describes one of the property updates passed to updateEntitiesProperties or
+ * updateRelationshipsProperties.  It identifies the instance to update and its new properties.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InstanceUpdateBatchItem extends InstanceElementHeader
+{
+    private static final long  serialVersionUID = 1L;
+
+    private String             instanceGUID = null;
+    private InstanceProperties properties   = null;
+
+
+    /**
+     * Default constructor
+     */
+    public InstanceUpdateBatchItem()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public InstanceUpdateBatchItem(InstanceUpdateBatchItem template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.instanceGUID = template.getInstanceGUID();
+            this.properties = template.getProperties();
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the instance to update.
+     *
+     * @return String guid
+     */
+    public String getInstanceGUID()
+    {
+        return instanceGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the instance to update.
+     *
+     * @param instanceGUID String guid
+     */
+    public void setInstanceGUID(String instanceGUID)
+    {
+        this.instanceGUID = instanceGUID;
+    }
+
+
+    /**
+     * Return the new properties for the instance.
+     *
+     * @return instance properties object
+     */
+    public InstanceProperties getProperties()
+    {
+        if (properties == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new InstanceProperties(properties);
+        }
+    }
+
+
+    /**
+     * Set up the new properties for the instance.
+     *
+     * @param properties instance properties object
+     */
+    public void setProperties(InstanceProperties properties)
+    {
+        this.properties = properties;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "InstanceUpdateBatchItem{" +
+                "instanceGUID='" + instanceGUID + '\'' +
+                ", properties=" + properties +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof InstanceUpdateBatchItem))
+        {
+            return false;
+        }
+        InstanceUpdateBatchItem that = (InstanceUpdateBatchItem) objectToCompare;
+        return Objects.equals(instanceGUID, that.instanceGUID) &&
+                Objects.equals(properties, that.properties);
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(instanceGUID, properties);
+    }
+}
@@ -0,0 +1,287 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RelationshipBatchItem describes one of the new relationships passed to addRelationships.  It carries the same
+ * values as the parameters of addRelationship (or addExternalRelationship if the externalSourceGUID is set).
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RelationshipBatchItem extends InstanceElementHeader
+{
+    private static final long  serialVersionUID = 1L;
+
+    private String             relationshipTypeGUID = null;
+    private String             externalSourceGUID   = null;
+    private String             externalSourceName   = null;
+    private InstanceProperties initialProperties    = null;
+    private String             entityOneGUID        = null;
+    private String             entityTwoGUID        = null;
+    private InstanceStatus     initialStatus        = null;
+
+
+    /**
+     * Default constructor
+     */
+    public RelationshipBatchItem()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RelationshipBatchItem(RelationshipBatchItem template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.relationshipTypeGUID = template.getRelationshipTypeGUID();
+            this.externalSourceGUID = template.getExternalSourceGUID();
+            this.externalSourceName = template.getExternalSourceName();
+            this.initialProperties = template.getInitialProperties();
+            this.entityOneGUID = template.getEntityOneGUID();
+            this.entityTwoGUID = template.getEntityTwoGUID();
+            this.initialStatus = template.getInitialStatus();
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the type of the new relationship.
+     *
+     * @return String guid
+     */
+    public String getRelationshipTypeGUID()
+    {
+        return relationshipTypeGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the type of the new relationship.
+     *
+     * @param relationshipTypeGUID String guid
+     */
+    public void setRelationshipTypeGUID(String relationshipTypeGUID)
+    {
+        this.relationshipTypeGUID = relationshipTypeGUID;
+    }
+
+
+    /**
+     * Return the unique identifier of the external source.  Null means the relationship is homed in the local
+     * metadata collection.
+     *
+     * @return String guid
+     */
+    public String getExternalSourceGUID()
+    {
+        return externalSourceGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the external source.  Null means the relationship is homed in the local
+     * metadata collection.
+     *
+     * @param externalSourceGUID String guid
+     */
+    public void setExternalSourceGUID(String externalSourceGUID)
+    {
+        this.externalSourceGUID = externalSourceGUID;
+    }
+
+
+    /**
+     * Return the unique name of the external source.
+     *
+     * @return String name
+     */
+    public String getExternalSourceName()
+    {
+        return externalSourceName;
+    }
+
+
+    /**
+     * Set up the unique name of the external source.
+     *
+     * @param externalSourceName String name
+     */
+    public void setExternalSourceName(String externalSourceName)
+    {
+        this.externalSourceName = externalSourceName;
+    }
+
+
+    /**
+     * Return the initial properties for the new relationship.
+     *
+     * @return instance properties object
+     */
+    public InstanceProperties getInitialProperties()
+    {
+        if (initialProperties == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new InstanceProperties(initialProperties);
+        }
+    }
+
+
+    /**
+     * Set up the initial properties for the new relationship.
+     *
+     * @param initialProperties instance properties object
+     */
+    public void setInitialProperties(InstanceProperties initialProperties)
+    {
+        this.initialProperties = initialProperties;
+    }
+
+
+    /**
+     * Return the unique identifier of the entity at end 1 of the relationship.
+     *
+     * @return String guid
+     */
+    public String getEntityOneGUID()
+    {
+        return entityOneGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the entity at end 1 of the relationship.
+     *
+     * @param entityOneGUID String guid
+     */
+    public void setEntityOneGUID(String entityOneGUID)
+    {
+        this.entityOneGUID = entityOneGUID;
+    }
+
+
+    /**
+     * Return the unique identifier of the entity at end 2 of the relationship.
+     *
+     * @return String guid
+     */
+    public String getEntityTwoGUID()
+    {
+        return entityTwoGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the entity at end 2 of the relationship.
+     *
+     * @param entityTwoGUID String guid
+     */
+    public void setEntityTwoGUID(String entityTwoGUID)
+    {
+        this.entityTwoGUID = entityTwoGUID;
+    }
+
+
+    /**
+     * Return the initial status of the new relationship.
+     *
+     * @return instance status enum
+     */
+    public InstanceStatus getInitialStatus()
+    {
+        return initialStatus;
+    }
+
+
+    /**
+     * Set up the initial status of the new relationship.
+     *
+     * @param initialStatus instance status enum
+     */
+    public void setInitialStatus(InstanceStatus initialStatus)
+    {
+        this.initialStatus = initialStatus;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "RelationshipBatchItem{" +
+                "relationshipTypeGUID='" + relationshipTypeGUID + '\'' +
+                ", externalSourceGUID='" + externalSourceGUID + '\'' +
+                ", externalSourceName='" + externalSourceName + '\'' +
+                ", initialProperties=" + initialProperties +
+                ", entityOneGUID='" + entityOneGUID + '\'' +
+                ", entityTwoGUID='" + entityTwoGUID + '\'' +
+                ", initialStatus=" + initialStatus +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof RelationshipBatchItem))
+        {
+            return false;
+        }
+        RelationshipBatchItem that = (RelationshipBatchItem) objectToCompare;
+        return Objects.equals(relationshipTypeGUID, that.relationshipTypeGUID) &&
+                Objects.equals(externalSourceGUID, that.externalSourceGUID) &&
+                Objects.equals(externalSourceName, that.externalSourceName) &&
+                Objects.equals(initialProperties, that.initialProperties) &&
+                Objects.equals(entityOneGUID, that.entityOneGUID) &&
+                Objects.equals(entityTwoGUID, that.entityTwoGUID) &&
+                initialStatus == that.initialStatus;
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(relationshipTypeGUID, externalSourceGUID, externalSourceName, initialProperties,
+                            entityOneGUID, entityTwoGUID, initialStatus);
+    }
+}
@@ -0,0 +1,177 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FederatedQueryContext allows a caller of the enterprise repository connector to set options for the federated
+ * queries issued by the current thread and to find out whether the results that came back are complete.
+ *
+ * The caller starts a context before issuing the queries and clears it afterwards:
+ * <pre>
+ *     FederatedQueryContext context = FederatedQueryContext.start(2000);
+ *     try
+ *     {
+ *         List&lt;EntityDetail&gt; results = metadataCollection.findEntities(...);
+ *
+ *         if (context.isPartialResult())
+ *         {
+ *             ... context.getSkippedMembers() lists the metadata collections that did not contribute
+ *         }
+ *     }
+ *     finally
+ *     {
+ *         FederatedQueryContext.clear();
+ *     }
+ * </pre>
+ *
+ * Cohort members are skipped either because they did not respond within the response time limit, or because
+ * repeated failures mean they are temporarily excluded from federated queries.  When no context is started,
+ * federated queries wait for every member and members are skipped silently (apart from the audit log).
+ */
+public class FederatedQueryContext
+{
+    private static final ThreadLocal<FederatedQueryContext> INSTANCE = new ThreadLocal<>();
+
+    /**
+     * Reason recorded when a member does not respond within the response time limit.
+     */
+    public static final String RESPONSE_TIME_LIMIT_EXCEEDED = "Response time limit exceeded";
+
+    /**
+     * Reason recorded when a member is excluded from federated queries because it is failing.
+     */
+    public static final String MEMBER_SUSPENDED = "Member suspended after repeated failures";
+
+    private final long                responseTimeLimit;
+    private final Map<String, String> skippedMembers = new LinkedHashMap<>();
+
+
+    /**
+     * Constructor
+     *
+     * @param responseTimeLimit maximum number of milliseconds that a federated query waits for the cohort
+     *                          members to respond - zero or less means wait for all members
+     */
+    private FederatedQueryContext(long responseTimeLimit)
+    {
+        this.responseTimeLimit = responseTimeLimit;
+    }
+
+
+    /**
+     * Start a new context for the current thread.  Any existing context is replaced.
+     *
+     * @param responseTimeLimit maximum number of milliseconds that a federated query waits for the cohort
+     *                          members to respond - zero or less means wait for all members
+     * @return new context
+     */
+    public static FederatedQueryContext start(long responseTimeLimit)
+    {
+        FederatedQueryContext context = new FederatedQueryContext(responseTimeLimit);
+
+        INSTANCE.set(context);
+
+        return context;
+    }
+
+
+    /**
+     * Return the context for the current thread.
+     *
+     * @return context or null if no context has been started
+     */
+    public static FederatedQueryContext getCurrentContext()
+    {
+        return INSTANCE.get();
+    }
+
+
+    /**
+     * Remove the context for the current thread.
+     */
+    public static void clear()
+    {
+        INSTANCE.remove();
+    }
+
+
+    /**
+     * Return the maximum number of milliseconds that a federated query waits for the cohort members to respond.
+     *
+     * @return milliseconds - zero or less means wait for all members
+     */
+    public long getResponseTimeLimit()
+    {
+        return responseTimeLimit;
+    }
+
+
+    /**
+     * Record that a cohort member did not contribute to the results of a federated query.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     * @param reason description of why the member was skipped
+     */
+    public synchronized void addSkippedMember(String metadataCollectionId,
+                                              String reason)
+    {
+        if (metadataCollectionId != null)
+        {
+            skippedMembers.put(metadataCollectionId, reason);
+        }
+    }
+
+
+    /**
+     * Return whether any cohort members were skipped by the federated queries issued in this context.
+     *
+     * @return boolean flag - true means the results may be incomplete
+     */
+    public synchronized boolean isPartialResult()
+    {
+        return ! skippedMembers.isEmpty();
+    }
+
+
+    /**
+     * Return the metadata collection identifiers of the cohort members that were skipped.
+     *
+     * @return list of metadata collection identifiers (empty if the results are complete)
+     */
+    public synchronized List<String> getSkippedMembers()
+    {
+        return new ArrayList<>(skippedMembers.keySet());
+    }
+
+
+    /**
+     * Return the reason that a cohort member was skipped.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     * @return reason or null if the member was not skipped
+     */
+    public synchronized String getSkippedReason(String metadataCollectionId)
+    {
+        return skippedMembers.get(metadataCollectionId);
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public synchronized String toString()
+    {
+        return "FederatedQueryContext{" +
+                "responseTimeLimit=" + responseTimeLimit +
+                ", skippedMembers=" + skippedMembers +
+                '}';
+    }
+}
@@ -9,6 +9,10 @@ import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1Insta
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 
 public class OMRSInstanceEvent extends OMRSEvent
 {
@@ -32,6 +36,11 @@ public class OMRSInstanceEvent extends OMRSEvent
     private Classification classification         = null;
     private InstanceGraph  instanceBatch          = null;
 
+    /*
+     * Type of the event that each instance in a batch came from, keyed by instance GUID.
+     */
+    private Map<String, OMRSInstanceEventType> instanceBatchEventTypes = null;
+
     /*
      * Home repository Id for refresh requests.
      */
@@ -86,6 +95,7 @@ public class OMRSInstanceEvent extends OMRSEvent
             this.originalTypeDefSummary = instanceSection.getOriginalTypeDefSummary();
             this.originalInstanceGUID = instanceSection.getOriginalInstanceGUID();
             this.instanceBatch = instanceSection.getInstanceBatch();
+            this.instanceBatchEventTypes = instanceSection.getInstanceBatchEventTypes();
         }
 
         if (super.genericErrorCode != null)
@@ -315,6 +325,25 @@ public class OMRSInstanceEvent extends OMRSEvent
     }
 
 
+    /**
+     * Constructor for batch instance events that were built by coalescing individual instance events.
+     * The type of the event that each instance came from is kept so the batch can be expanded again by
+     * the receiving members.
+     *
+     * @param instanceEventType type of event
+     * @param instances graph of instances
+     * @param instanceBatchEventTypes map of instance GUID to the type of the event it came from
+     */
+    public OMRSInstanceEvent(OMRSInstanceEventType              instanceEventType,
+                             InstanceGraph                      instances,
+                             Map<String, OMRSInstanceEventType> instanceBatchEventTypes)
+    {
+        this(instanceEventType, instances);
+
+        this.instanceBatchEventTypes = instanceBatchEventTypes;
+    }
+
+
     /**
      * Constructor for instance conflict events.
      *
@@ -560,6 +589,87 @@ public class OMRSInstanceEvent extends OMRSEvent
     }
 
 
+    /**
+     * Return the type of the event that each instance in the batch came from, keyed by instance GUID.
+     * This is null for batches that were not built from individual instance events.
+     *
+     * @return map of instance GUID to event type
+     */
+    public Map<String, OMRSInstanceEventType> getInstanceBatchEventTypes()
+    {
+        return instanceBatchEventTypes;
+    }
+
+
+    /**
+     * Expand a batch built from individual instance events back into those events.  Each event has the
+     * type recorded for its instance (new if no type was recorded) and the originator of the batch.
+     * The original values of updated instances are not carried in the batch and so are null.
+     *
+     * @return list of instance events, or null if this is not a batch event
+     */
+    public List<OMRSInstanceEvent> getBatchedInstanceEvents()
+    {
+        if ((instanceEventType != OMRSInstanceEventType.BATCH_INSTANCES_EVENT) || (instanceBatch == null))
+        {
+            return null;
+        }
+
+        List<OMRSInstanceEvent> instanceEvents = new ArrayList<>();
+
+        if (instanceBatch.getEntities() != null)
+        {
+            for (EntityDetail batchedEntity : instanceBatch.getEntities())
+            {
+                if (batchedEntity != null)
+                {
+                    OMRSInstanceEvent instanceEvent = new OMRSInstanceEvent(getBatchedEventType(batchedEntity.getGUID(),
+                                                                                                OMRSInstanceEventType.NEW_ENTITY_EVENT),
+                                                                            batchedEntity);
+                    instanceEvent.setEventOriginator(eventOriginator);
+                    instanceEvents.add(instanceEvent);
+                }
+            }
+        }
+
+        if (instanceBatch.getRelationships() != null)
+        {
+            for (Relationship batchedRelationship : instanceBatch.getRelationships())
+            {
+                if (batchedRelationship != null)
+                {
+                    OMRSInstanceEvent instanceEvent = new OMRSInstanceEvent(getBatchedEventType(batchedRelationship.getGUID(),
+                                                                                                OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT),
+                                                                            batchedRelationship);
+                    instanceEvent.setEventOriginator(eventOriginator);
+                    instanceEvents.add(instanceEvent);
+                }
+            }
+        }
+
+        return instanceEvents;
+    }
+
+
+    /**
+     * Return the type of the event that an instance in the batch came from.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @param defaultEventType type to use if none was recorded
+     * @return event type
+     */
+    private OMRSInstanceEventType getBatchedEventType(String                instanceGUID,
+                                                      OMRSInstanceEventType defaultEventType)
+    {
+        if ((instanceBatchEventTypes != null) && (instanceBatchEventTypes.get(instanceGUID) != null))
+        {
+            return instanceBatchEventTypes.get(instanceGUID);
+        }
+
+        return defaultEventType;
+    }
+
+
     /**
      * Return the identifier of the instance's home metadata collection.  This is used on refresh requests.
      *
@@ -641,6 +751,7 @@ public class OMRSInstanceEvent extends OMRSEvent
         instanceSection.setOriginalClassification(this.originalClassification);
         instanceSection.setClassification(this.classification);
         instanceSection.setInstanceBatch(this.instanceBatch);
+        instanceSection.setInstanceBatchEventTypes(this.instanceBatchEventTypes);
         instanceSection.setHomeMetadataCollectionId(this.homeMetadataCollectionId);
 
         instanceSection.setOriginalHomeMetadataCollectionId(this.originalHomeMetadataCollectionId);
@@ -674,6 +785,7 @@ public class OMRSInstanceEvent extends OMRSEvent
                 ", originalClassification=" + originalClassification +
                 ", classification=" + classification +
                 ", instanceBatch=" + instanceBatch +
+                ", instanceBatchEventTypes=" + instanceBatchEventTypes +
                 ", homeMetadataCollectionId='" + homeMetadataCollectionId + '\'' +
                 ", originalHomeMetadataCollectionId='" + originalHomeMetadataCollectionId + '\'' +
                 ", originalTypeDefSummary=" + originalTypeDefSummary +
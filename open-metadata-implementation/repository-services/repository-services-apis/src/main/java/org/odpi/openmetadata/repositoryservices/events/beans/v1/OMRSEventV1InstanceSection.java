@@ -14,6 +14,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 
 import java.io.Serializable;
+import java.util.Map;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
@@ -41,6 +42,7 @@ public class OMRSEventV1InstanceSection implements Serializable
     private Classification originalClassification           = null;
     private Classification classification                   = null;
     private InstanceGraph  instanceBatch                    = null;
+    private Map<String, OMRSInstanceEventType> instanceBatchEventTypes = null;
     private String         homeMetadataCollectionId         = null;
     private String         originalHomeMetadataCollectionId = null;
     private TypeDefSummary originalTypeDefSummary           = null;
@@ -164,6 +166,16 @@ public class OMRSEventV1InstanceSection implements Serializable
         this.instanceBatch = instanceBatch;
     }
 
+    public Map<String, OMRSInstanceEventType> getInstanceBatchEventTypes()
+    {
+        return instanceBatchEventTypes;
+    }
+
+    public void setInstanceBatchEventTypes(Map<String, OMRSInstanceEventType> instanceBatchEventTypes)
+    {
+        this.instanceBatchEventTypes = instanceBatchEventTypes;
+    }
+
     public String getHomeMetadataCollectionId()
     {
         return homeMetadataCollectionId;
@@ -225,6 +237,7 @@ public class OMRSEventV1InstanceSection implements Serializable
                        ", originalClassification=" + originalClassification +
                        ", classification=" + classification +
                        ", instanceBatch=" + instanceBatch +
+                       ", instanceBatchEventTypes=" + instanceBatchEventTypes +
                        ", homeMetadataCollectionId='" + homeMetadataCollectionId + '\'' +
                        ", originalHomeMetadataCollectionId='" + originalHomeMetadataCollectionId + '\'' +
                        ", originalTypeDefSummary=" + originalTypeDefSummary +
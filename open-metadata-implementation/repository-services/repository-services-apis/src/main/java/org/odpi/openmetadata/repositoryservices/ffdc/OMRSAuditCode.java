@@ -244,6 +244,14 @@ public enum OMRSAuditCode implements AuditLogMessageSet
             "Review the exception and resolve the issue it documents. " +
                     "Then try starting the server again."),
 
+    OMRS_TOPIC_EVENT_ENCODING("OMRS-AUDIT-0028",
+                              OMRSAuditLogRecordSeverity.STARTUP,
+                              "The OMRS Topic Connector will send events on topic {0} using the {1} encoding once all members of the cohort support it",
+                              "The OMRS Topic Connector encodes the events it sends as requested in its configuration.  " +
+                                      "Events are sent as JSON until every member of the cohort has listed the encoding in its registry " +
+                                      "events.  The connector is able to receive events in any supported encoding.",
+                              "No action is required.  Messages are logged when the encoding of the events sent changes."),
+
     INITIALIZING_EVENT_MANAGER("OMRS-AUDIT-0029",
                                OMRSAuditLogRecordSeverity.STARTUP,
                                "The {0} event manager is initializing",
@@ -448,6 +456,23 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                           "The OMRS Topic Connector was passed a null event by the event bus.",
                           "Review the exception to identify the source of the error and correct it."),
 
+    EVENT_DECODING_ERROR("OMRS-AUDIT-0103",
+                         OMRSAuditLogRecordSeverity.EXCEPTION,
+                         "Unable to decode an incoming event on topic {0} due to exception {1}",
+                         "The event has the header of a compressed encoding but its content is corrupt.  The event is ignored " +
+                                 "and the OMRS Topic Connector continues to process later events.",
+                         "Review the exception and the configuration of the server that sent the event.  The sender can " +
+                                 "set its eventEncoding configuration property to JSON to send uncompressed events."),
+
+    OMRS_TOPIC_SEND_ENCODING_CHANGED("OMRS-AUDIT-0104",
+                                     OMRSAuditLogRecordSeverity.INFO,
+                                     "The OMRS Topic Connector is now sending events on topic {0} using the {1} encoding",
+                                     "The encoding of the events sent depends on the encodings listed by the members of the cohort " +
+                                             "in their registry events.  Events are sent as JSON while any member has not listed the " +
+                                             "configured encoding.",
+                                     "No action is required.  If events are sent as JSON for a long time, check the release level of " +
+                                             "the members of the cohort."),
+
     SEND_REGISTRY_EVENT_ERROR("OMRS-AUDIT-0105",
                               OMRSAuditLogRecordSeverity.EXCEPTION,
                               "Unable to send a registry event for cohort {0} due to an error in the OMRS Topic Connector",
@@ -927,6 +952,36 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                        "The local server is processing a federated query to all members of the connected cohorts.  However one of the members is not responding correctly and so it has been skipped from the call. The remote server is probably not running, or has been incorrectly configured.",
                                        "Validate the availability and configuration of the remote server.  It may be a temporary failure due to an outage in the network or the server itself.  However, if the remote server is not configured correctly, or has changed its metadata collection id, then this wil lbe a permanent error and this server will not be included in the federated query until it is fixed."),
 
+    FEDERATION_MEMBER_SUSPENDED("OMRS-AUDIT-0402",
+                                OMRSAuditLogRecordSeverity.ACTION,
+                                "Federated queries will skip the repository with metadata collection {0} for {1} milliseconds because its last {2} requests failed or timed out",
+                                "The local server is issuing federated queries to the members of the connected cohorts.  One of the members is not responding correctly and so it is excluded from these queries until the suspension period ends.  After this, a single request is sent to the member to test whether it has recovered.",
+                                "Validate the availability and configuration of the remote server.  The member is included in federated queries again once it responds correctly."),
+
+    FEDERATION_MEMBER_RESUMED("OMRS-AUDIT-0403",
+                              OMRSAuditLogRecordSeverity.INFO,
+                              "Federated queries are resuming calls to the repository with metadata collection {0} after it responded successfully in {1} milliseconds",
+                              "The local server had excluded this repository from its federated queries because it was not responding correctly.  It has now responded successfully and so it is included in federated queries again.",
+                              "No action is required."),
+
+    FEDERATION_PARTIAL_RESULTS("OMRS-AUDIT-0404",
+                               OMRSAuditLogRecordSeverity.ACTION,
+                               "The federated {0} request returned partial results because the repositories with metadata collections {1} did not respond within {2} milliseconds",
+                               "The local server is issuing a federated query with a response time limit.  The named members of the cohort did not respond within this limit and so their results are not included.  The caller is told which members were skipped.",
+                               "Validate the availability and performance of the remote servers.  If the response time limit is too low for the cohort, increase it."),
+
+    FEDERATED_INSTANCE_CACHE_ENABLED("OMRS-AUDIT-0405",
+                                     OMRSAuditLogRecordSeverity.STARTUP,
+                                     "Federated retrieval of entities and relationships will use a cache of up to {0} instances that are kept for {1} milliseconds",
+                                     "The local server keeps the entities and relationships retrieved by the enterprise repository services so that repeated requests for the same instance do not call the cohort members again.  Cached instances are removed when an event is received that changes them.",
+                                     "No action is required.  The size of the cache and the time that instances are kept for are set in the enterprise access configuration."),
+
+    FEDERATED_INSTANCE_CACHE_STATISTICS("OMRS-AUDIT-0406",
+                                        OMRSAuditLogRecordSeverity.INFO,
+                                        "The federated instance cache served {0} of {1} requests ({2}%); {3} instances were evicted and {4} were invalidated by events",
+                                        "The local server is shutting down and is reporting how effective the federated instance cache has been.",
+                                        "A low percentage may mean the cache is too small or the time that instances are kept for is too short.  These are set in the enterprise access configuration."),
+
     PROCESS_UNKNOWN_EVENT("OMRS-AUDIT-8001",
                           OMRSAuditLogRecordSeverity.ERROR,
                           "Received unknown event: {0}",
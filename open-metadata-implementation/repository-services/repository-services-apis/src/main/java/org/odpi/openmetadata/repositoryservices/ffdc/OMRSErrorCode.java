@@ -389,6 +389,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The OMRS repository connector operation {0} does not allow a time range from {1} to {2}",
             "The system is unable continue processing the request because the time range provided does not overlap.",
             "Correct the code in the caller's method (potentially just reverse the times) and retry the request."),
+    NULL_INSTANCE_BATCH(400, "OMRS-REPOSITORY-400-084",
+            "The OMRS repository connector operation {0} has been passed a null list of instances to process in repository {1}",
+            "The system is unable to process the batch request because it has nothing to work on.",
+            "Correct the code in the caller to supply at least one instance in the batch."),
 
     NULL_USER_NAME(400, "OMRS-REST-API-400-001",
             "The OMRS REST API for server {0} has been called with a null user name (userId)",
@@ -450,6 +454,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The connector {0} has been configured without an embedded event bus connector",
             "There is an error in the connection for the connector. The connection is defined in the server's configuration document.",
             "Review the configuration document and correct the definition of the connection."),
+    UNKNOWN_EVENT_ENCODING(400, "OMRS-TOPIC-CONNECTOR-400-003",
+            "The connector {0} has been configured with an unknown event encoding {1}",
+            "The connector is not able to start because the eventEncoding configuration property in its connection is not recognized.",
+            "Review the configuration document and set the eventEncoding configuration property to one of the values defined in OMRSEventEncoding."),
     NULL_REGISTRY_STORE(400, "OMRS-COHORT-REGISTRY-404-001",
             "The Open Metadata Repository Cohort Registry Store for cohort {0} is not available.",
             "The system is unable to process registration requests from the open metadata repository cohort.",
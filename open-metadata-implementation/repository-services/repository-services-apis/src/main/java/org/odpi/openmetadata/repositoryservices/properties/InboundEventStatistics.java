@@ -0,0 +1,332 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Date;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * InboundEventStatistics describes how well the local server is keeping up with the instance events that it receives
+ * from one member of a cohort.  The backlog is the number of events received but not yet applied to the local
+ * repository.  The lag is the time between an event being created by the sending member and it being applied.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InboundEventStatistics extends OMRSProperty
+{
+    private static final long    serialVersionUID = 1L;
+
+    private String cohortName           = null;
+    private String metadataCollectionId = null;
+    private String serverName           = null;
+    private long   eventsReceived       = 0L;
+    private long   eventsApplied        = 0L;
+    private long   eventBacklog         = 0L;
+    private long   lastEventLag         = 0L;
+    private long   maxEventLag          = 0L;
+    private Date   lastAppliedTime      = null;
+
+
+    /**
+     * Default constructor
+     */
+    public InboundEventStatistics()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public InboundEventStatistics(InboundEventStatistics template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            cohortName = template.getCohortName();
+            metadataCollectionId = template.getMetadataCollectionId();
+            serverName = template.getServerName();
+            eventsReceived = template.getEventsReceived();
+            eventsApplied = template.getEventsApplied();
+            eventBacklog = template.getEventBacklog();
+            lastEventLag = template.getLastEventLag();
+            maxEventLag = template.getMaxEventLag();
+            lastAppliedTime = template.getLastAppliedTime();
+        }
+    }
+
+
+    /**
+     * Return the name of the cohort that the events are received from.
+     *
+     * @return string name
+     */
+    public String getCohortName()
+    {
+        return cohortName;
+    }
+
+
+    /**
+     * Set up the name of the cohort that the events are received from.
+     *
+     * @param cohortName string name
+     */
+    public void setCohortName(String cohortName)
+    {
+        this.cohortName = cohortName;
+    }
+
+
+    /**
+     * Return the unique identifier of the metadata collection of the member that sent the events.
+     *
+     * @return string guid
+     */
+    public String getMetadataCollectionId()
+    {
+        return metadataCollectionId;
+    }
+
+
+    /**
+     * Set up the unique identifier of the metadata collection of the member that sent the events.
+     *
+     * @param metadataCollectionId string guid
+     */
+    public void setMetadataCollectionId(String metadataCollectionId)
+    {
+        this.metadataCollectionId = metadataCollectionId;
+    }
+
+
+    /**
+     * Return the name of the server that sent the events.
+     *
+     * @return string name
+     */
+    public String getServerName()
+    {
+        return serverName;
+    }
+
+
+    /**
+     * Set up the name of the server that sent the events.
+     *
+     * @param serverName string name
+     */
+    public void setServerName(String serverName)
+    {
+        this.serverName = serverName;
+    }
+
+
+    /**
+     * Return the number of instance events received from the member.
+     *
+     * @return count
+     */
+    public long getEventsReceived()
+    {
+        return eventsReceived;
+    }
+
+
+    /**
+     * Set up the number of instance events received from the member.
+     *
+     * @param eventsReceived count
+     */
+    public void setEventsReceived(long eventsReceived)
+    {
+        this.eventsReceived = eventsReceived;
+    }
+
+
+    /**
+     * Return the number of instance events from the member that have been applied to the local repository.
+     *
+     * @return count
+     */
+    public long getEventsApplied()
+    {
+        return eventsApplied;
+    }
+
+
+    /**
+     * Set up the number of instance events from the member that have been applied to the local repository.
+     *
+     * @param eventsApplied count
+     */
+    public void setEventsApplied(long eventsApplied)
+    {
+        this.eventsApplied = eventsApplied;
+    }
+
+
+    /**
+     * Return the number of instance events from the member that are waiting to be applied.
+     *
+     * @return count
+     */
+    public long getEventBacklog()
+    {
+        return eventBacklog;
+    }
+
+
+    /**
+     * Set up the number of instance events from the member that are waiting to be applied.
+     *
+     * @param eventBacklog count
+     */
+    public void setEventBacklog(long eventBacklog)
+    {
+        this.eventBacklog = eventBacklog;
+    }
+
+
+    /**
+     * Return the time (in milliseconds) between the most recently applied event being created and it being applied.
+     *
+     * @return milliseconds
+     */
+    public long getLastEventLag()
+    {
+        return lastEventLag;
+    }
+
+
+    /**
+     * Set up the time (in milliseconds) between the most recently applied event being created and it being applied.
+     *
+     * @param lastEventLag milliseconds
+     */
+    public void setLastEventLag(long lastEventLag)
+    {
+        this.lastEventLag = lastEventLag;
+    }
+
+
+    /**
+     * Return the longest time (in milliseconds) between an event being created and it being applied.
+     *
+     * @return milliseconds
+     */
+    public long getMaxEventLag()
+    {
+        return maxEventLag;
+    }
+
+
+    /**
+     * Set up the longest time (in milliseconds) between an event being created and it being applied.
+     *
+     * @param maxEventLag milliseconds
+     */
+    public void setMaxEventLag(long maxEventLag)
+    {
+        this.maxEventLag = maxEventLag;
+    }
+
+
+    /**
+     * Return the time that the most recent event from the member was applied.
+     *
+     * @return date
+     */
+    public Date getLastAppliedTime()
+    {
+        return lastAppliedTime;
+    }
+
+
+    /**
+     * Set up the time that the most recent event from the member was applied.
+     *
+     * @param lastAppliedTime date
+     */
+    public void setLastAppliedTime(Date lastAppliedTime)
+    {
+        this.lastAppliedTime = lastAppliedTime;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "InboundEventStatistics{" +
+                       "cohortName='" + cohortName + '\'' +
+                       ", metadataCollectionId='" + metadataCollectionId + '\'' +
+                       ", serverName='" + serverName + '\'' +
+                       ", eventsReceived=" + eventsReceived +
+                       ", eventsApplied=" + eventsApplied +
+                       ", eventBacklog=" + eventBacklog +
+                       ", lastEventLag=" + lastEventLag +
+                       ", maxEventLag=" + maxEventLag +
+                       ", lastAppliedTime=" + lastAppliedTime +
+                       '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        InboundEventStatistics that = (InboundEventStatistics) objectToCompare;
+        return eventsReceived == that.eventsReceived &&
+                       eventsApplied == that.eventsApplied &&
+                       eventBacklog == that.eventBacklog &&
+                       lastEventLag == that.lastEventLag &&
+                       maxEventLag == that.maxEventLag &&
+                       Objects.equals(cohortName, that.cohortName) &&
+                       Objects.equals(metadataCollectionId, that.metadataCollectionId) &&
+                       Objects.equals(serverName, that.serverName) &&
+                       Objects.equals(lastAppliedTime, that.lastAppliedTime);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(cohortName, metadataCollectionId, serverName, eventsReceived, eventsApplied, eventBacklog,
+                            lastEventLag, maxEventLag, lastAppliedTime);
+    }
+}
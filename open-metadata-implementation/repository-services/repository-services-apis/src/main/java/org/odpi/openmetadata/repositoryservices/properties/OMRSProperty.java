@@ -21,6 +21,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 @JsonSubTypes(
         {
                 @JsonSubTypes.Type(value = CohortDescription.class, name = "CohortDescription"),
+                @JsonSubTypes.Type(value = InboundEventStatistics.class, name = "InboundEventStatistics"),
         })
 abstract class OMRSProperty implements Serializable
 {
@@ -0,0 +1,131 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityBatchItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * EntityBatchCreateRequest carries the list of new entities to create in a single call.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class EntityBatchCreateRequest extends OMRSAPIRequest
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<EntityBatchItem> newEntities = null;
+
+
+    /**
+     * Default constructor
+     */
+    public EntityBatchCreateRequest()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public EntityBatchCreateRequest(EntityBatchCreateRequest template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.newEntities = template.getNewEntities();
+        }
+    }
+
+
+    /**
+     * Return the list of new entities to create.
+     *
+     * @return list of batch items
+     */
+    public List<EntityBatchItem> getNewEntities()
+    {
+        if (newEntities == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(newEntities);
+        }
+    }
+
+
+    /**
+     * Set up the list of new entities to create.
+     *
+     * @param newEntities list of batch items
+     */
+    public void setNewEntities(List<EntityBatchItem> newEntities)
+    {
+        this.newEntities = newEntities;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "EntityBatchCreateRequest{" +
+                "newEntities=" + newEntities +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof EntityBatchCreateRequest))
+        {
+            return false;
+        }
+        EntityBatchCreateRequest that = (EntityBatchCreateRequest) objectToCompare;
+        return Objects.equals(newEntities, that.newEntities);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(newEntities);
+    }
+}
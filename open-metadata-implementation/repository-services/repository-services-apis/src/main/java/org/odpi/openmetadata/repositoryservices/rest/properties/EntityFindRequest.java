@@ -13,7 +13,9 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 /**
- * EntityFindRequest restricts a find request to entities with specific classifications.
+ * EntityFindRequest restricts a find request to entities with specific classifications.  When the request is sent
+ * to the enterprise repository services, it may also set the number of milliseconds to wait for the cohort members
+ * to respond.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -23,6 +25,7 @@ public class EntityFindRequest extends InstanceFindRequest
     private static final long    serialVersionUID = 1L;
 
     private SearchClassifications matchClassifications = null;
+    private long                  responseTimeLimit    = 0L;
 
 
     /**
@@ -46,6 +49,7 @@ public class EntityFindRequest extends InstanceFindRequest
         if (template != null)
         {
             this.matchClassifications = new SearchClassifications(template.getMatchClassifications());
+            this.responseTimeLimit    = template.getResponseTimeLimit();
         }
     }
 
@@ -72,6 +76,29 @@ public class EntityFindRequest extends InstanceFindRequest
     }
 
 
+    /**
+     * Return the maximum number of milliseconds that a federated query waits for the cohort members to respond.
+     * The members that do not respond in time are skipped and listed in the response.
+     *
+     * @return milliseconds - zero or less means wait for all members
+     */
+    public long getResponseTimeLimit()
+    {
+        return responseTimeLimit;
+    }
+
+
+    /**
+     * Set up the maximum number of milliseconds that a federated query waits for the cohort members to respond.
+     *
+     * @param responseTimeLimit milliseconds - zero or less means wait for all members
+     */
+    public void setResponseTimeLimit(long responseTimeLimit)
+    {
+        this.responseTimeLimit = responseTimeLimit;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -82,6 +109,7 @@ public class EntityFindRequest extends InstanceFindRequest
     {
         return "EntityFindRequest{" +
                 "matchClassifications=" + matchClassifications +
+                ", responseTimeLimit=" + responseTimeLimit +
                 ", matchProperties=" + getMatchProperties() +
                 ", typeGUID='" + getTypeGUID() + '\'' +
                 ", sequencingProperty='" + getSequencingProperty() + '\'' +
@@ -115,7 +143,8 @@ public class EntityFindRequest extends InstanceFindRequest
             return false;
         }
         EntityFindRequest that = (EntityFindRequest) objectToCompare;
-        return Objects.equals(getMatchClassifications(), that.getMatchClassifications());
+        return getResponseTimeLimit() == that.getResponseTimeLimit() &&
+                Objects.equals(getMatchClassifications(), that.getMatchClassifications());
     }
 
 
@@ -127,7 +156,7 @@ public class EntityFindRequest extends InstanceFindRequest
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), getMatchClassifications());
+        return Objects.hash(super.hashCode(), getMatchClassifications(), getResponseTimeLimit());
     }
 
 }
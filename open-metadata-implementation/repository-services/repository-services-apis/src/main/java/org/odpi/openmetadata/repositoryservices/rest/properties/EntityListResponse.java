@@ -16,7 +16,8 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 /**
- * EntityListResponse support an OMRS REST API response that returns a list of EntityDetail objects.
+ * EntityListResponse support an OMRS REST API response that returns a list of EntityDetail objects.  The response
+ * to a federated query with a response time limit also lists the cohort members that were skipped.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -25,7 +26,9 @@ public class EntityListResponse extends OMRSAPIPagedResponse
 {
     private static final long    serialVersionUID = 1L;
 
-    private List<EntityDetail> entities = null;
+    private List<EntityDetail> entities       = null;
+    private boolean            partialResult  = false;
+    private List<String>       skippedMembers = null;
 
 
     /**
@@ -48,7 +51,9 @@ public class EntityListResponse extends OMRSAPIPagedResponse
 
         if (template != null)
         {
-            entities = template.getEntities();
+            entities       = template.getEntities();
+            partialResult  = template.getPartialResult();
+            skippedMembers = template.getSkippedMembers();
         }
     }
 
@@ -93,6 +98,55 @@ public class EntityListResponse extends OMRSAPIPagedResponse
     }
 
 
+    /**
+     * Return whether some cohort members were skipped so the entities do not include their results.
+     *
+     * @return boolean flag
+     */
+    public boolean getPartialResult()
+    {
+        return partialResult;
+    }
+
+
+    /**
+     * Set up whether some cohort members were skipped.
+     *
+     * @param partialResult boolean flag
+     */
+    public void setPartialResult(boolean partialResult)
+    {
+        this.partialResult = partialResult;
+    }
+
+
+    /**
+     * Return the metadata collection ids of the cohort members that were skipped.
+     *
+     * @return list of metadata collection ids or null
+     */
+    public List<String> getSkippedMembers()
+    {
+        if ((skippedMembers == null) || (skippedMembers.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(skippedMembers);
+    }
+
+
+    /**
+     * Set up the metadata collection ids of the cohort members that were skipped.
+     *
+     * @param skippedMembers list of metadata collection ids
+     */
+    public void setSkippedMembers(List<String> skippedMembers)
+    {
+        this.skippedMembers = skippedMembers;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -103,6 +157,8 @@ public class EntityListResponse extends OMRSAPIPagedResponse
     {
         return "EntityListResponse{" +
                 "entities=" + entities +
+                ", partialResult=" + partialResult +
+                ", skippedMembers=" + skippedMembers +
                 ", offset=" + offset +
                 ", pageSize=" + pageSize +
                 ", relatedHTTPCode=" + relatedHTTPCode +
@@ -142,7 +198,9 @@ public class EntityListResponse extends OMRSAPIPagedResponse
         }
         EntityListResponse
                 that = (EntityListResponse) objectToCompare;
-        return Objects.equals(getEntities(), that.getEntities());
+        return getPartialResult() == that.getPartialResult() &&
+                Objects.equals(getEntities(), that.getEntities()) &&
+                Objects.equals(getSkippedMembers(), that.getSkippedMembers());
     }
 
 
@@ -155,6 +213,6 @@ public class EntityListResponse extends OMRSAPIPagedResponse
     public int hashCode()
     {
 
-        return Objects.hash(super.hashCode(), getEntities());
+        return Objects.hash(super.hashCode(), getEntities(), getPartialResult(), getSkippedMembers());
     }
 }
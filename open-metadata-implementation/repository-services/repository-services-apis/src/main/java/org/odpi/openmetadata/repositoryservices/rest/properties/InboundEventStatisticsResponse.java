@@ -0,0 +1,149 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.properties.InboundEventStatistics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * InboundEventStatisticsResponse supports an OMRS REST API response that returns the statistics for the instance
+ * events received from each member of a cohort.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InboundEventStatisticsResponse extends OMRSAPIResponse
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<InboundEventStatistics> statistics = null;
+
+
+    /**
+     * Default constructor
+     */
+    public InboundEventStatisticsResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public InboundEventStatisticsResponse(InboundEventStatisticsResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            statistics = template.getStatistics();
+        }
+    }
+
+
+    /**
+     * Return the statistics for each member of the cohort that has sent instance events.
+     *
+     * @return list of statistics
+     */
+    public List<InboundEventStatistics> getStatistics()
+    {
+        if (statistics == null)
+        {
+            return null;
+        }
+        else if (statistics.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return statistics;
+        }
+    }
+
+
+    /**
+     * Set up the statistics for each member of the cohort that has sent instance events.
+     *
+     * @param statistics list of statistics
+     */
+    public void setStatistics(List<InboundEventStatistics> statistics)
+    {
+        this.statistics = statistics;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "InboundEventStatisticsResponse{" +
+                "statistics=" + statistics +
+                ", relatedHTTPCode=" + relatedHTTPCode +
+                ", actionDescription='" + actionDescription + '\'' +
+                ", exceptionClassName='" + exceptionClassName + '\'' +
+                ", exceptionCausedBy='" + exceptionCausedBy + '\'' +
+                ", exceptionErrorMessage='" + exceptionErrorMessage + '\'' +
+                ", exceptionErrorMessageId='" + exceptionErrorMessageId + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(exceptionErrorMessageParameters) +
+                ", exceptionSystemAction='" + exceptionSystemAction + '\'' +
+                ", exceptionUserAction='" + exceptionUserAction + '\'' +
+                ", exceptionProperties=" + exceptionProperties +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof InboundEventStatisticsResponse))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        InboundEventStatisticsResponse that = (InboundEventStatisticsResponse) objectToCompare;
+        return Objects.equals(getStatistics(), that.getStatistics());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getStatistics());
+    }
+}
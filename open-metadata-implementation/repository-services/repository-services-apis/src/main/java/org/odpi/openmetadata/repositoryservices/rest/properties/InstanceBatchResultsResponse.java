@@ -0,0 +1,151 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceBatchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * InstanceBatchResultsResponse supports an OMRS REST API response that returns the per-item results of a batch
+ * request.  The exception fields in the header describe a failure of the whole request; the failure of
+ * individual items is recorded in each item's result.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InstanceBatchResultsResponse extends OMRSAPIResponse
+{
+    private static final long         serialVersionUID = 1L;
+
+    private List<InstanceBatchResult> results = null;
+
+
+    /**
+     * Default constructor
+     */
+    public InstanceBatchResultsResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public InstanceBatchResultsResponse(InstanceBatchResultsResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            results = template.getResults();
+        }
+    }
+
+
+    /**
+     * Return the list of results - one for each item in the request.
+     *
+     * @return list of results
+     */
+    public List<InstanceBatchResult> getResults()
+    {
+        if (results == null)
+        {
+            return null;
+        }
+        else if (results.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(results);
+        }
+    }
+
+
+    /**
+     * Set up the list of results - one for each item in the request.
+     *
+     * @param results list of results
+     */
+    public void setResults(List<InstanceBatchResult> results)
+    {
+        this.results = results;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "InstanceBatchResultsResponse{" +
+                "results=" + results +
+                ", relatedHTTPCode=" + relatedHTTPCode +
+                ", actionDescription='" + actionDescription + '\'' +
+                ", exceptionClassName='" + exceptionClassName + '\'' +
+                ", exceptionCausedBy='" + exceptionCausedBy + '\'' +
+                ", exceptionErrorMessage='" + exceptionErrorMessage + '\'' +
+                ", exceptionErrorMessageId='" + exceptionErrorMessageId + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(exceptionErrorMessageParameters) +
+                ", exceptionSystemAction='" + exceptionSystemAction + '\'' +
+                ", exceptionUserAction='" + exceptionUserAction + '\'' +
+                ", exceptionProperties=" + exceptionProperties +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof InstanceBatchResultsResponse))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        InstanceBatchResultsResponse that = (InstanceBatchResultsResponse) objectToCompare;
+        return Objects.equals(getResults(), that.getResults());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getResults());
+    }
+}
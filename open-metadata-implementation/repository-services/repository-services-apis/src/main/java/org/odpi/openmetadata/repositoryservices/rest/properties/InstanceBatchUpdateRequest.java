@@ -0,0 +1,131 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceUpdateBatchItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * InstanceBatchUpdateRequest carries the list of property updates for a batch of entities or relationships.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InstanceBatchUpdateRequest extends OMRSAPIRequest
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<InstanceUpdateBatchItem> instanceUpdates = null;
+
+
+    /**
+     * Default constructor
+     */
+    public InstanceBatchUpdateRequest()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public InstanceBatchUpdateRequest(InstanceBatchUpdateRequest template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.instanceUpdates = template.getInstanceUpdates();
+        }
+    }
+
+
+    /**
+     * Return the list of instance guids and their new properties.
+     *
+     * @return list of batch items
+     */
+    public List<InstanceUpdateBatchItem> getInstanceUpdates()
+    {
+        if (instanceUpdates == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(instanceUpdates);
+        }
+    }
+
+
+    /**
+     * Set up the list of instance guids and their new properties.
+     *
+     * @param instanceUpdates list of batch items
+     */
+    public void setInstanceUpdates(List<InstanceUpdateBatchItem> instanceUpdates)
+    {
+        this.instanceUpdates = instanceUpdates;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "InstanceBatchUpdateRequest{" +
+                "instanceUpdates=" + instanceUpdates +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof InstanceBatchUpdateRequest))
+        {
+            return false;
+        }
+        InstanceBatchUpdateRequest that = (InstanceBatchUpdateRequest) objectToCompare;
+        return Objects.equals(instanceUpdates, that.instanceUpdates);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(instanceUpdates);
+    }
+}
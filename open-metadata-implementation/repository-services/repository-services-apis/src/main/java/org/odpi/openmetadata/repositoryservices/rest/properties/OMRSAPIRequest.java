@@ -28,7 +28,11 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
                 @JsonSubTypes.Type(value = InstanceGraphRequest.class, name = "InstanceGraphRequest"),
                 @JsonSubTypes.Type(value = MetadataCollectionIdRequest.class, name = "MetadataCollectionIdRequest"),
                 @JsonSubTypes.Type(value = EntityCreateRequest.class, name = "EntityCreateRequest"),
-                @JsonSubTypes.Type(value = RelationshipCreateRequest.class, name = "RelationshipCreateRequest")
+                @JsonSubTypes.Type(value = RelationshipCreateRequest.class, name = "RelationshipCreateRequest"),
+                @JsonSubTypes.Type(value = EntityBatchCreateRequest.class, name = "EntityBatchCreateRequest"),
+                @JsonSubTypes.Type(value = RelationshipBatchCreateRequest.class, name = "RelationshipBatchCreateRequest"),
+                @JsonSubTypes.Type(value = InstanceBatchUpdateRequest.class, name = "InstanceBatchUpdateRequest"),
+                @JsonSubTypes.Type(value = GUIDListRequest.class, name = "GUIDListRequest")
         })
 public class OMRSAPIRequest implements Serializable
 {
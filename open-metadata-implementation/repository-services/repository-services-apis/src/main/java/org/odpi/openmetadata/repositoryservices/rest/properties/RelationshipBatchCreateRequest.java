@@ -0,0 +1,131 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.RelationshipBatchItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RelationshipBatchCreateRequest carries the list of new relationships to create in a single call.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RelationshipBatchCreateRequest extends OMRSAPIRequest
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<RelationshipBatchItem> newRelationships = null;
+
+
+    /**
+     * Default constructor
+     */
+    public RelationshipBatchCreateRequest()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RelationshipBatchCreateRequest(RelationshipBatchCreateRequest template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.newRelationships = template.getNewRelationships();
+        }
+    }
+
+
+    /**
+     * Return the list of new relationships to create.
+     *
+     * @return list of batch items
+     */
+    public List<RelationshipBatchItem> getNewRelationships()
+    {
+        if (newRelationships == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(newRelationships);
+        }
+    }
+
+
+    /**
+     * Set up the list of new relationships to create.
+     *
+     * @param newRelationships list of batch items
+     */
+    public void setNewRelationships(List<RelationshipBatchItem> newRelationships)
+    {
+        this.newRelationships = newRelationships;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "RelationshipBatchCreateRequest{" +
+                "newRelationships=" + newRelationships +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof RelationshipBatchCreateRequest))
+        {
+            return false;
+        }
+        RelationshipBatchCreateRequest that = (RelationshipBatchCreateRequest) objectToCompare;
+        return Objects.equals(newRelationships, that.newRelationships);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(newRelationships);
+    }
+}
@@ -28,6 +28,7 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
 
     private List<AttributeTypeDef> attributeTypeDefs = null;
     private List<TypeDef>          typeDefs          = null;
+    private long                   typeSystemVersion = 0;
 
 
     /**
@@ -52,6 +53,7 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
         {
             attributeTypeDefs = template.getAttributeTypeDefs();
             typeDefs = template.getTypeDefs();
+            typeSystemVersion = template.getTypeSystemVersion();
         }
     }
 
@@ -136,6 +138,30 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
     }
 
 
+    /**
+     * Return the version of the type system that the type definitions come from.  When the request included the
+     * version already known to the caller and the types have not changed, the response has this version but
+     * no type definitions.
+     *
+     * @return version or 0 if the server does not keep a version
+     */
+    public long getTypeSystemVersion()
+    {
+        return typeSystemVersion;
+    }
+
+
+    /**
+     * Set up the version of the type system that the type definitions come from.
+     *
+     * @param typeSystemVersion version or 0 if the server does not keep a version
+     */
+    public void setTypeSystemVersion(long typeSystemVersion)
+    {
+        this.typeSystemVersion = typeSystemVersion;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -147,6 +173,7 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
         return "TypeDefGalleryResponse{" +
                 "attributeTypeDefs=" + attributeTypeDefs +
                 ", typeDefs=" + typeDefs +
+                ", typeSystemVersion=" + typeSystemVersion +
                 ", relatedHTTPCode=" + relatedHTTPCode +
                 ", actionDescription='" + actionDescription + '\'' +
                 ", exceptionClassName='" + exceptionClassName + '\'' +
@@ -184,7 +211,8 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
         }
         TypeDefGalleryResponse
                 that = (TypeDefGalleryResponse) objectToCompare;
-        return Objects.equals(getAttributeTypeDefs(), that.getAttributeTypeDefs()) &&
+        return typeSystemVersion == that.typeSystemVersion &&
+                Objects.equals(getAttributeTypeDefs(), that.getAttributeTypeDefs()) &&
                 Objects.equals(getTypeDefs(), that.getTypeDefs());
     }
 
@@ -197,6 +225,6 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), getAttributeTypeDefs(), getTypeDefs());
+        return Objects.hash(super.hashCode(), getAttributeTypeDefs(), getTypeDefs(), typeSystemVersion);
     }
 }
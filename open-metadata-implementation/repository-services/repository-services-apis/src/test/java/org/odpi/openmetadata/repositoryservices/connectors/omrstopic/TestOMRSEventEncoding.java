@@ -0,0 +1,118 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify the OMRSEventEncoding enum contains unique ordinals, non-null names and descriptions and that
+ * events survive encoding and decoding.
+ */
+public class TestOMRSEventEncoding
+{
+    /**
+     * Return a JSON event of at least the requested length.
+     *
+     * @param length minimum length
+     * @return JSON string
+     */
+    private String getJSONEvent(int length)
+    {
+        StringBuilder jsonEvent = new StringBuilder("{\"protocolVersionId\":\"OMRS V1.0\",\"eventCategory\":\"INSTANCE\",\"description\":\"");
+
+        while (jsonEvent.length() < length)
+        {
+            jsonEvent.append("Entity detail with the full type header and audit properties é. ");
+        }
+
+        return jsonEvent.append("\"}").toString();
+    }
+
+
+    /**
+     * Validated the values of the enum.
+     */
+    @Test public void testEnumValues()
+    {
+        List<Integer> existingOrdinals = new ArrayList<>();
+
+        for (OMRSEventEncoding testValue : OMRSEventEncoding.values())
+        {
+            assertTrue(! existingOrdinals.contains(testValue.getOrdinal()));
+            existingOrdinals.add(testValue.getOrdinal());
+
+            assertNotNull(testValue.getName());
+            assertNotNull(testValue.getDescription());
+            assertSame(OMRSEventEncoding.getEncoding(testValue.getName().toLowerCase()), testValue);
+        }
+
+        assertNull(OMRSEventEncoding.getEncoding("SMOKE_SIGNALS"));
+    }
+
+
+    /**
+     * Validate that events are only compressed when the encoding and length call for it, and are always decoded.
+     *
+     * @throws Exception test failed
+     */
+    @Test public void testEncodeAndDecode() throws Exception
+    {
+        String smallEvent = getJSONEvent(100);
+        String largeEvent = getJSONEvent(20000);
+
+        assertEquals(OMRSEventEncoding.JSON.encode(largeEvent), largeEvent);
+        assertEquals(OMRSEventEncoding.GZIP_JSON.encode(smallEvent), smallEvent);
+
+        String compressedEvent = OMRSEventEncoding.GZIP_JSON.encode(largeEvent);
+
+        assertTrue(compressedEvent.length() < largeEvent.length() / 4);
+        assertEquals(OMRSEventEncoding.decode(compressedEvent), largeEvent);
+        assertEquals(OMRSEventEncoding.decode(smallEvent), smallEvent);
+    }
+
+
+    /**
+     * Validate that an event with a compressed encoding header but corrupt content is reported as an IOException.
+     */
+    @Test public void testDecodeFailure()
+    {
+        String[] corruptEvents = { "OMRS-GZIP-JSON:%%% not base64 %%%",
+                                   "OMRS-GZIP-JSON:" + Base64.getEncoder().encodeToString("not gzip".getBytes(StandardCharsets.UTF_8)) };
+
+        for (String corruptEvent : corruptEvents)
+        {
+            try
+            {
+                OMRSEventEncoding.decode(corruptEvent);
+                fail("Corrupt event decoded: " + corruptEvent);
+            }
+            catch (IOException expected)
+            {
+                // expected
+            }
+        }
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(OMRSEventEncoding.GZIP_JSON.toString().contains("OMRSEventEncoding"));
+    }
+}
@@ -0,0 +1,335 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the OMRS Topic Connector only sends compressed events once every member of the cohort has listed
+ * the encoding in its registry events, and that it ignores events that can not be decoded.
+ */
+public class TestOMRSTopicConnectorEncoding
+{
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<String>      sentEvents     = new ArrayList<>();
+    private final List<String>      receivedEvents = new ArrayList<>();
+    private final List<String>      auditLogIds    = new ArrayList<>();
+    private OMRSTopicConnector      topicConnector = null;
+
+
+    /**
+     * Event bus connector that records the events it is asked to send.
+     */
+    private class RecordingTopicConnector extends OpenMetadataTopicConnector
+    {
+        @Override
+        public void start()
+        {
+        }
+
+        @Override
+        public void sendEvent(String event)
+        {
+            sentEvents.add(event);
+        }
+    }
+
+
+    /**
+     * Audit log destination that records the message ids that are logged.
+     */
+    private class RecordingAuditLogDestination extends AuditLogDestination
+    {
+        RecordingAuditLogDestination()
+        {
+            super(null);
+        }
+
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+            auditLogIds.add(logRecord.getMessageId());
+        }
+    }
+
+
+    /**
+     * Each test starts with a connector that is configured to send compressed events.
+     *
+     * @throws Exception the connector failed to start
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        sentEvents.clear();
+        receivedEvents.clear();
+        auditLogIds.clear();
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(OMRSTopicProvider.eventEncodingProperty, OMRSEventEncoding.GZIP_JSON.getName());
+
+        Connection connection = new Connection();
+        connection.setConfigurationProperties(configurationProperties);
+
+        List<Connector> embeddedConnectors = new ArrayList<>();
+        embeddedConnectors.add(new RecordingTopicConnector());
+
+        AuditLog auditLog = new AuditLog(new RecordingAuditLogDestination(),
+                                         1,
+                                         ComponentDevelopmentStatus.STABLE,
+                                         "TestOMRSTopicConnectorEncoding",
+                                         "OMRS Topic Connector under test",
+                                         null);
+
+        topicConnector = new OMRSTopicConnector();
+        topicConnector.initialize("testConnector", new ConnectionProperties(connection));
+        topicConnector.setAuditLog(auditLog);
+        topicConnector.initializeEmbeddedConnectors(embeddedConnectors);
+        topicConnector.start();
+
+        topicConnector.registerListener(new OMRSTopicListener()
+        {
+            @Override
+            public void processRegistryEvent(OMRSRegistryEvent event)
+            {
+                receivedEvents.add(event.getRegistryEventType().getName());
+            }
+
+            @Override
+            public void processTypeDefEvent(OMRSTypeDefEvent event)
+            {
+            }
+
+            @Override
+            public void processInstanceEvent(OMRSInstanceEvent event)
+            {
+                receivedEvents.add(event.getInstanceGUID());
+            }
+        }, "testService");
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        topicConnector.disconnect();
+    }
+
+
+    /**
+     * Return an instance event that is large enough to be compressed.
+     *
+     * @param guid unique identifier of the entity
+     * @return instance event
+     */
+    private OMRSInstanceEvent getLargeInstanceEvent(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setMetadataCollectionName(String.join("", Collections.nCopies(200, "Metadata collection name ")));
+
+        OMRSInstanceEvent instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity);
+        instanceEvent.setEventOriginator(getOriginator("local"));
+
+        return instanceEvent;
+    }
+
+
+    private OMRSEventOriginator getOriginator(String metadataCollectionId)
+    {
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+
+        originator.setMetadataCollectionId(metadataCollectionId);
+        originator.setServerName(metadataCollectionId + "Server");
+
+        return originator;
+    }
+
+
+    /**
+     * Pass a registry event from another member to the connector as if it had arrived on the topic.
+     *
+     * @param registryEventType type of registry event
+     * @param metadataCollectionId identifier of the member
+     * @param eventEncodings encodings listed by the member (null for a member running an earlier release)
+     * @throws Exception JSON conversion error
+     */
+    private void receiveRegistryEvent(OMRSRegistryEventType registryEventType,
+                                      String                metadataCollectionId,
+                                      List<String>          eventEncodings) throws Exception
+    {
+        OMRSRegistryEvent registryEvent = new OMRSRegistryEvent(registryEventType, new Date(), metadataCollectionId + "Name", null);
+        registryEvent.setEventOriginator(getOriginator(metadataCollectionId));
+
+        OMRSEventV1 event = registryEvent.getOMRSEventV1();
+        event.getRegistryEventSection().setEventEncodings(eventEncodings);
+
+        topicConnector.processEvent(objectMapper.writeValueAsString(event));
+    }
+
+
+    private boolean lastEventCompressed()
+    {
+        return sentEvents.get(sentEvents.size() - 1).startsWith("OMRS-GZIP-JSON:");
+    }
+
+
+    /**
+     * Events are sent as JSON until the members of the cohort list the encoding, and as JSON again while a
+     * member that does not list it is registered.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testSendEncodingFollowsMembers() throws Exception
+    {
+        topicConnector.sendInstanceEvent(getLargeInstanceEvent("e1"));
+        assertFalse(lastEventCompressed());
+
+        receiveRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT, "member1", OMRSEventEncoding.getSupportedEncodingNames());
+
+        topicConnector.sendInstanceEvent(getLargeInstanceEvent("e2"));
+        assertTrue(lastEventCompressed());
+
+        receiveRegistryEvent(OMRSRegistryEventType.RE_REGISTRATION_EVENT, "oldMember", null);
+
+        topicConnector.sendInstanceEvent(getLargeInstanceEvent("e3"));
+        assertFalse(lastEventCompressed());
+
+        receiveRegistryEvent(OMRSRegistryEventType.UN_REGISTRATION_EVENT, "oldMember", null);
+
+        assertEquals(auditLogIds.stream().filter((id) -> id.equals("OMRS-AUDIT-0104")).count(), 2L);
+
+        topicConnector.sendInstanceEvent(getLargeInstanceEvent("e4"));
+        assertTrue(lastEventCompressed());
+
+        OMRSEventV1 sentEvent = objectMapper.readValue(OMRSEventEncoding.decode(sentEvents.get(3)), OMRSEventV1.class);
+
+        assertEquals(sentEvent.getInstanceEventSection().getInstanceGUID(), "e4");
+    }
+
+
+    /**
+     * The local member's own registry events, which arrive back on the topic, do not count as a member of the
+     * cohort listing the encoding.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testLocalRegistryEventsIgnored() throws Exception
+    {
+        topicConnector.setCohortMembers("local", null);
+
+        receiveRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT, "local", OMRSEventEncoding.getSupportedEncodingNames());
+
+        topicConnector.sendInstanceEvent(getLargeInstanceEvent("e1"));
+        assertFalse(lastEventCompressed());
+
+        receiveRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT, "member1", OMRSEventEncoding.getSupportedEncodingNames());
+
+        topicConnector.sendInstanceEvent(getLargeInstanceEvent("e2"));
+        assertTrue(lastEventCompressed());
+    }
+
+
+    /**
+     * Members loaded from the cohort registry store are sent JSON until their own registry event lists the encoding.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testStoredMembersSentJSON() throws Exception
+    {
+        topicConnector.setCohortMembers("local", List.of("local", "member1", "storedMember"));
+
+        receiveRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT, "member1", OMRSEventEncoding.getSupportedEncodingNames());
+
+        topicConnector.sendInstanceEvent(getLargeInstanceEvent("e1"));
+        assertFalse(lastEventCompressed());
+
+        receiveRegistryEvent(OMRSRegistryEventType.REFRESH_REGISTRATION_REQUEST, "storedMember", OMRSEventEncoding.getSupportedEncodingNames());
+
+        topicConnector.sendInstanceEvent(getLargeInstanceEvent("e2"));
+        assertTrue(lastEventCompressed());
+    }
+
+
+    /**
+     * Registry events sent by the connector list the encodings that it is able to receive.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testRegistryEventsListEncodings() throws Exception
+    {
+        OMRSRegistryEvent registryEvent = new OMRSRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT, new Date(), "localName", null);
+        registryEvent.setEventOriginator(getOriginator("local"));
+
+        topicConnector.sendRegistryEvent(registryEvent);
+
+        OMRSEventV1 sentEvent = objectMapper.readValue(OMRSEventEncoding.decode(sentEvents.get(0)), OMRSEventV1.class);
+
+        assertEquals(sentEvent.getRegistryEventSection().getEventEncodings(), OMRSEventEncoding.getSupportedEncodingNames());
+    }
+
+
+    /**
+     * Events that have a compressed encoding header but can not be decoded are ignored, and later
+     * events are still processed.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testDecodeFailureIgnored() throws Exception
+    {
+        String notBase64 = "OMRS-GZIP-JSON:%%% not base64 %%%";
+        String notGzip   = "OMRS-GZIP-JSON:" + Base64.getEncoder().encodeToString("not gzip".getBytes(StandardCharsets.UTF_8));
+
+        topicConnector.processEvent(notBase64);
+        topicConnector.processEvent(notGzip);
+
+        assertTrue(receivedEvents.isEmpty());
+        assertEquals(auditLogIds.stream().filter((id) -> id.equals("OMRS-AUDIT-0103")).count(), 2L);
+        assertFalse(auditLogIds.contains("OMRS-AUDIT-0100"));
+
+        topicConnector.processEvent(OMRSEventEncoding.GZIP_JSON.encode(objectMapper.writeValueAsString(getLargeInstanceEvent("e1").getOMRSEventV1())));
+        topicConnector.processEvent(objectMapper.writeValueAsString(getLargeInstanceEvent("e2").getOMRSEventV1()));
+
+        assertEquals(receivedEvents, List.of("e1", "e2"));
+    }
+}
@@ -0,0 +1,191 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * InstanceBatchResultTest provides test of InstanceBatchResult
+ */
+public class InstanceBatchResultTest
+{
+    private int          itemIndex               = 3;
+    private EntityDetail entity                  = new EntityDetail();
+    private int          relatedHTTPCode         = 400;
+    private String       exceptionClassName      = "TestExceptionClassName";
+    private String       exceptionErrorMessage   = "TestErrorMessage";
+    private String       exceptionErrorMessageId = "TestErrorMessageId";
+    private String       exceptionSystemAction   = "TestSystemAction";
+    private String       exceptionUserAction     = "TestUserAction";
+
+
+    public InstanceBatchResultTest()
+    {
+        entity.setGUID("TestEntityGUID");
+    }
+
+
+    /**
+     * Return a filled in test object
+     *
+     * @return test object
+     */
+    private InstanceBatchResult getTestObject()
+    {
+        InstanceBatchResult testObject = new InstanceBatchResult(itemIndex);
+
+        testObject.setEntity(entity);
+        testObject.setRelatedHTTPCode(relatedHTTPCode);
+        testObject.setExceptionClassName(exceptionClassName);
+        testObject.setExceptionErrorMessage(exceptionErrorMessage);
+        testObject.setExceptionErrorMessageId(exceptionErrorMessageId);
+        testObject.setExceptionSystemAction(exceptionSystemAction);
+        testObject.setExceptionUserAction(exceptionUserAction);
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate supplied object.
+     *
+     * @param testObject object to test
+     */
+    private void validateObject(InstanceBatchResult testObject)
+    {
+        assertTrue(testObject.getItemIndex() == itemIndex);
+        assertTrue(testObject.getEntity().equals(entity));
+        assertTrue(testObject.getRelationship() == null);
+        assertTrue(testObject.getRelatedHTTPCode() == relatedHTTPCode);
+        assertTrue(testObject.getExceptionClassName().equals(exceptionClassName));
+        assertTrue(testObject.getExceptionErrorMessage().equals(exceptionErrorMessage));
+        assertTrue(testObject.getExceptionErrorMessageId().equals(exceptionErrorMessageId));
+        assertTrue(testObject.getExceptionSystemAction().equals(exceptionSystemAction));
+        assertTrue(testObject.getExceptionUserAction().equals(exceptionUserAction));
+    }
+
+
+    /**
+     * Validate that the constructors set up the correct properties
+     */
+    @Test public void testConstructors()
+    {
+        InstanceBatchResult testObject = new InstanceBatchResult();
+
+        assertTrue(testObject.getItemIndex() == 0);
+        assertTrue(testObject.getEntity() == null);
+        assertTrue(testObject.getRelationship() == null);
+        assertTrue(testObject.getRelatedHTTPCode() == 200);
+        assertTrue(testObject.getExceptionClassName() == null);
+
+        validateObject(new InstanceBatchResult(getTestObject()));
+    }
+
+
+    /**
+     * Validate that an object generated from a JSON String has the same content as the object used to
+     * create the JSON String.
+     */
+    @Test public void testJSON()
+    {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String       jsonString   = null;
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(getTestObject());
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateObject(objectMapper.readValue(jsonString, InstanceBatchResult.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        /*
+         * Through super class
+         */
+        InstanceElementHeader testObject = getTestObject();
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(testObject);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateObject((InstanceBatchResult) objectMapper.readValue(jsonString, InstanceElementHeader.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(getTestObject().toString().contains("InstanceBatchResult"));
+    }
+
+
+    /**
+     * Test that equals works
+     */
+    @Test public void testEquals()
+    {
+        assertTrue(getTestObject().equals(getTestObject()));
+
+        InstanceBatchResult testObject = getTestObject();
+
+        assertTrue(testObject.equals(testObject));
+
+        assertFalse(getTestObject().equals(null));
+        assertFalse(getTestObject().equals("A String"));
+
+        InstanceBatchResult differentObject = getTestObject();
+
+        differentObject.setItemIndex(7);
+
+        assertFalse(testObject.equals(differentObject));
+
+        differentObject = getTestObject();
+
+        differentObject.setExceptionClassName(null);
+
+        assertFalse(testObject.equals(differentObject));
+    }
+
+
+    /**
+     * Test that hashcode is consistent
+     */
+    @Test public void testHash()
+    {
+        assertTrue(getTestObject().hashCode() == getTestObject().hashCode());
+
+        InstanceBatchResult anotherObject = getTestObject();
+        anotherObject.setItemIndex(7);
+
+        assertFalse(getTestObject().hashCode() == anotherObject.hashCode());
+    }
+}
@@ -0,0 +1,187 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Verify that a batch instance event keeps the type of the event each instance came from when it is sent
+ * over the topic, and that listeners expand the batch back into the original events.
+ */
+public class TestOMRSInstanceBatchEvent
+{
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+
+        return relationship;
+    }
+
+
+    private OMRSInstanceEvent getBatchEvent(Map<String, OMRSInstanceEventType> eventTypes)
+    {
+        InstanceGraph instances = new InstanceGraph(Arrays.asList(getEntity("e1"), getEntity("e2")),
+                                                    Collections.singletonList(getRelationship("r1")));
+
+        OMRSInstanceEvent batchEvent = new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT, instances, eventTypes);
+
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+        originator.setMetadataCollectionId("testMetadataCollectionId");
+        originator.setServerName("testServer");
+        batchEvent.setEventOriginator(originator);
+
+        return batchEvent;
+    }
+
+
+    private Map<String, OMRSInstanceEventType> getEventTypes()
+    {
+        Map<String, OMRSInstanceEventType> eventTypes = new HashMap<>();
+
+        eventTypes.put("e1", OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        eventTypes.put("e2", OMRSInstanceEventType.UPDATED_ENTITY_EVENT);
+        eventTypes.put("r1", OMRSInstanceEventType.REFRESHED_RELATIONSHIP_EVENT);
+
+        return eventTypes;
+    }
+
+
+    /**
+     * The event types survive the conversion to and from JSON and are used when the batch is expanded.
+     *
+     * @throws Exception JSON conversion error
+     */
+    @Test
+    public void testExpansionAfterJSON() throws Exception
+    {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        String            json          = objectMapper.writeValueAsString(getBatchEvent(getEventTypes()).getOMRSEventV1());
+        OMRSInstanceEvent receivedEvent = new OMRSInstanceEvent(objectMapper.readValue(json, OMRSEventV1.class));
+
+        assertEquals(receivedEvent.getInstanceBatchEventTypes(), getEventTypes());
+
+        List<OMRSInstanceEvent> batchedEvents = receivedEvent.getBatchedInstanceEvents();
+
+        assertEquals(batchedEvents.size(), 3);
+        assertEquals(batchedEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(batchedEvents.get(0).getInstanceGUID(), "e1");
+        assertEquals(batchedEvents.get(1).getInstanceEventType(), OMRSInstanceEventType.UPDATED_ENTITY_EVENT);
+        assertEquals(batchedEvents.get(1).getInstanceGUID(), "e2");
+        assertEquals(batchedEvents.get(2).getInstanceEventType(), OMRSInstanceEventType.REFRESHED_RELATIONSHIP_EVENT);
+        assertEquals(batchedEvents.get(2).getInstanceGUID(), "r1");
+        assertEquals(batchedEvents.get(2).getEventOriginator().getServerName(), "testServer");
+    }
+
+
+    /**
+     * Instances without a recorded event type are expanded as new instances, and other events are not expanded.
+     */
+    @Test
+    public void testExpansionDefaults()
+    {
+        List<OMRSInstanceEvent> batchedEvents = getBatchEvent(null).getBatchedInstanceEvents();
+
+        assertEquals(batchedEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(batchedEvents.get(2).getInstanceEventType(), OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT);
+
+        assertNull(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e1")).getBatchedInstanceEvents());
+    }
+
+
+    /**
+     * A listener receives each instance of a batch through the method for the event type it came from.
+     * A batch without event types is still passed to the batch method.
+     */
+    @Test
+    public void testListenerExpansion()
+    {
+        List<String> calls = new ArrayList<>();
+
+        OMRSTopicListenerBase listener = new OMRSTopicListenerBase("testService")
+        {
+            @Override
+            public void processNewEntityEvent(String       sourceName,
+                                              String       originatorMetadataCollectionId,
+                                              String       originatorServerName,
+                                              String       originatorServerType,
+                                              String       originatorOrganizationName,
+                                              EntityDetail entity)
+            {
+                calls.add("new:" + entity.getGUID());
+            }
+
+            @Override
+            public void processUpdatedEntityEvent(String       sourceName,
+                                                  String       originatorMetadataCollectionId,
+                                                  String       originatorServerName,
+                                                  String       originatorServerType,
+                                                  String       originatorOrganizationName,
+                                                  EntityDetail originalEntity,
+                                                  EntityDetail newEntity)
+            {
+                calls.add("updated:" + newEntity.getGUID());
+            }
+
+            @Override
+            public void processRefreshRelationshipEvent(String       sourceName,
+                                                        String       originatorMetadataCollectionId,
+                                                        String       originatorServerName,
+                                                        String       originatorServerType,
+                                                        String       originatorOrganizationName,
+                                                        Relationship relationship)
+            {
+                calls.add("refreshed:" + relationship.getGUID());
+            }
+
+            @Override
+            public void processInstanceBatchEvent(String        sourceName,
+                                                  String        originatorMetadataCollectionId,
+                                                  String        originatorServerName,
+                                                  String        originatorServerType,
+                                                  String        originatorOrganizationName,
+                                                  InstanceGraph instances)
+            {
+                calls.add("batch");
+            }
+        };
+
+        listener.processInstanceEvent(getBatchEvent(getEventTypes()));
+
+        assertEquals(calls, Arrays.asList("new:e1", "updated:e2", "refreshed:r1"));
+
+        calls.clear();
+        listener.processInstanceEvent(getBatchEvent(null));
+
+        assertEquals(calls, Collections.singletonList("batch"));
+    }
+}
@@ -22,6 +22,7 @@ import org.odpi.openmetadata.repositoryservices.rest.properties.*;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The MetadataCollectionServicesClient represents a remote metadata repository that supports the OMRS Repository REST API.
@@ -55,6 +56,12 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
 
     protected AuditLog auditLog = null;
 
+    /*
+     * The last types returned by getAllTypes for each user along with their type system version.  The types are
+     * cached by user because the server may filter the types that each user can see.
+     */
+    private final Map<String, TypeDefGalleryResponse> typeDefGalleryCache = new ConcurrentHashMap<>();
+
 
     /**
      * Create a new client with no authentication embedded in the HTTP request.
@@ -277,6 +284,9 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
      * type definitions.  Full type definitions (TypeDefs) describe types for entities, relationships
      * and classifications.
      *
+     * The types returned are cached along with the type system version of the server.  On later calls the
+     * version is passed to the server, which only returns the types again if they have changed.
+     *
      * @param userId unique identifier for requesting user.
      * @return TypeDefGallery List of different categories of type definitions.
      * @throws InvalidParameterException the userId is null
@@ -289,19 +299,85 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     {
         final String methodName  = "getAllTypes";
         final String operationSpecificURL = "types/all";
+        final String versionParameter = "?knownTypeSystemVersion={1}";
 
-        TypeDefGalleryResponse restResult = this.callTypeDefGalleryGetRESTCall(methodName,
-                                                                               restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                                               userId);
+        TypeDefGalleryResponse cachedResult = null;
+        TypeDefGalleryResponse restResult;
+
+        if (userId != null)
+        {
+            cachedResult = typeDefGalleryCache.get(userId);
+        }
+
+        if (cachedResult == null)
+        {
+            restResult = this.callTypeDefGalleryGetRESTCall(methodName,
+                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                            userId);
+        }
+        else
+        {
+            restResult = this.callTypeDefGalleryGetRESTCall(methodName,
+                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL + versionParameter,
+                                                            userId,
+                                                            cachedResult.getTypeSystemVersion());
+        }
 
         this.detectAndThrowInvalidParameterException(methodName, restResult);
         this.detectAndThrowRepositoryErrorException(methodName, restResult);
         this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
 
+        if ((cachedResult != null) &&
+            (restResult.getTypeSystemVersion() == cachedResult.getTypeSystemVersion()) &&
+            (restResult.getTypeDefs() == null) &&
+            (restResult.getAttributeTypeDefs() == null))
+        {
+            return this.getTypeDefGalleryFromRESTResult(cachedResult);
+        }
+
+        if (userId != null)
+        {
+            if (restResult.getTypeSystemVersion() == 0)
+            {
+                /*
+                 * The server does not keep a type system version.
+                 */
+                typeDefGalleryCache.remove(userId);
+            }
+            else
+            {
+                typeDefGalleryCache.put(userId, restResult);
+            }
+        }
+
         return this.getTypeDefGalleryFromRESTResult(restResult);
     }
 
 
+    /**
+     * Return the type system version that came with the types most recently returned to this user by getAllTypes.
+     * It changes whenever the types on the server change, so callers that build structures from the types
+     * can use it to decide whether to rebuild them.
+     *
+     * @param userId unique identifier for requesting user.
+     * @return version or 0 if it is not known
+     */
+    public long getKnownTypeSystemVersion(String userId)
+    {
+        if (userId != null)
+        {
+            TypeDefGalleryResponse cachedResult = typeDefGalleryCache.get(userId);
+
+            if (cachedResult != null)
+            {
+                return cachedResult.getTypeSystemVersion();
+            }
+        }
+
+        return 0;
+    }
+
+
     /**
      * Returns a list of type definitions that have the specified name.  Type names should be unique.  This
      * method allows wildcard character to be included in the name.  These are * (asterisk) for an
@@ -1207,6 +1283,43 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities in a single REST call.  Entities that
+     * are not known, or are only proxies, are missing from the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of entities in the order of the guids or null if none of the entities are known.
+     * @throws InvalidParameterException  the userId or list of guids is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntitiesDetail(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String methodName  = "getEntitiesDetail";
+        final String operationSpecificURL = "instances/entities/by-guids";
+
+        GUIDListRequest requestBody = new GUIDListRequest();
+
+        requestBody.setGUIDs(guids);
+
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                        requestBody,
+                                                                        userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
     /**
      * Return a historical version of an entity includes the header, classifications and properties of the entity.
      *
@@ -2776,6 +2889,92 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Create a batch of new entities.  Each item is processed as if it had been passed to addEntity (or
+     * addExternalEntity if the item's externalSourceGUID is set).
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities list of descriptions of the entities to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of items is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addEntities(String                userId,
+                                                 List<EntityBatchItem> newEntities) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           FunctionNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "addEntities";
+
+        final String operationSpecificURL = "instances/entities/batch";
+
+        EntityBatchCreateRequest requestBody = new EntityBatchCreateRequest();
+
+        requestBody.setNewEntities(newEntities);
+
+        InstanceBatchResultsResponse restResult = this.callInstanceBatchResultsPostRESTCall(methodName,
+                                                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                            requestBody,
+                                                                                            userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getResults();
+    }
+
+
+    /**
+     * Update the properties of a batch of entities.  Each item is processed as if it had been passed to
+     * updateEntityProperties.
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityUpdates list of entity guids and their new properties.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of items is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> updateEntitiesProperties(String                        userId,
+                                                              List<InstanceUpdateBatchItem> entityUpdates) throws InvalidParameterException,
+                                                                                                                  RepositoryErrorException,
+                                                                                                                  FunctionNotSupportedException,
+                                                                                                                  UserNotAuthorizedException
+    {
+        final String  methodName = "updateEntitiesProperties";
+
+        final String operationSpecificURL = "instances/entities/batch/properties";
+
+        InstanceBatchUpdateRequest requestBody = new InstanceBatchUpdateRequest();
+
+        requestBody.setInstanceUpdates(entityUpdates);
+
+        InstanceBatchResultsResponse restResult = this.callInstanceBatchResultsPostRESTCall(methodName,
+                                                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                            requestBody,
+                                                                                            userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getResults();
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
@@ -3443,6 +3642,92 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Create a batch of new relationships.  Each item is processed as if it had been passed to addRelationship
+     * (or addExternalRelationship if the item's externalSourceGUID is set).
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships list of descriptions of the relationships to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of items is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addRelationships(String                      userId,
+                                                      List<RelationshipBatchItem> newRelationships) throws InvalidParameterException,
+                                                                                                           RepositoryErrorException,
+                                                                                                           FunctionNotSupportedException,
+                                                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "addRelationships";
+
+        final String operationSpecificURL = "instances/relationships/batch";
+
+        RelationshipBatchCreateRequest requestBody = new RelationshipBatchCreateRequest();
+
+        requestBody.setNewRelationships(newRelationships);
+
+        InstanceBatchResultsResponse restResult = this.callInstanceBatchResultsPostRESTCall(methodName,
+                                                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                            requestBody,
+                                                                                            userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getResults();
+    }
+
+
+    /**
+     * Update the properties of a batch of relationships.  Each item is processed as if it had been passed to
+     * updateRelationshipProperties.
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipUpdates list of relationship guids and their new properties.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of items is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> updateRelationshipsProperties(String                        userId,
+                                                                   List<InstanceUpdateBatchItem> relationshipUpdates) throws InvalidParameterException,
+                                                                                                                             RepositoryErrorException,
+                                                                                                                             FunctionNotSupportedException,
+                                                                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "updateRelationshipsProperties";
+
+        final String operationSpecificURL = "instances/relationships/batch/properties";
+
+        InstanceBatchUpdateRequest requestBody = new InstanceBatchUpdateRequest();
+
+        requestBody.setInstanceUpdates(relationshipUpdates);
+
+        InstanceBatchResultsResponse restResult = this.callInstanceBatchResultsPostRESTCall(methodName,
+                                                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                            requestBody,
+                                                                                            userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getResults();
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -5301,6 +5586,28 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                      params);
     }
 
+    /**
+     * Issue a POST REST call that returns a InstanceBatchResultsResponse object.
+     *
+     * @param methodName name of the method being called
+     * @param operationSpecificURL template of the URL for the REST API call, with place-holders for the parameters
+     * @param requestBody request body object
+     * @param params a list of parameters that are slotted into the url template
+     * @return InstanceBatchResultsResponse
+     * @throws RepositoryErrorException something went wrong with the REST call stack.
+     */
+    private InstanceBatchResultsResponse callInstanceBatchResultsPostRESTCall(String    methodName,
+                                                                              String    operationSpecificURL,
+                                                                              Object    requestBody,
+                                                                              Object... params) throws RepositoryErrorException
+    {
+        return this.callPostRESTCall(methodName,
+                                     InstanceBatchResultsResponse.class,
+                                     operationSpecificURL,
+                                     requestBody,
+                                     params);
+    }
+
     /**
      * Issue a GET REST call that returns a InstanceGraphResponse object.
      *
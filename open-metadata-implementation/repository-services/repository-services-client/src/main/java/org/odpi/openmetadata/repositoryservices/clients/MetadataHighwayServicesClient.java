@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistry
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.properties.CohortDescription;
+import org.odpi.openmetadata.repositoryservices.properties.InboundEventStatistics;
 import org.odpi.openmetadata.repositoryservices.rest.properties.*;
 import java.util.List;
 import java.util.Map;
@@ -311,6 +312,57 @@ public class MetadataHighwayServicesClient implements AuditLoggingComponent
     }
 
 
+    /**
+     * Returns the statistics for the instance events that the local server has received from each remote member
+     * of the specified cohort.
+     * @param serverName the name of the server
+     * @param userId calling user
+     * @param cohortName the name of the cohort
+     * @return list of event statistics
+     * @throws InvalidParameterException one of the supplied parameters caused a problem
+     * @throws RepositoryErrorException there is a problem communicating with the remote server.
+     * @throws UserNotAuthorizedException the user is not authorized to perform the operation requested
+     */
+
+    public List<InboundEventStatistics> getInboundEventStatistics(String serverName,
+                                                                  String userId,
+                                                                  String cohortName) throws InvalidParameterException,
+                                                                                            RepositoryErrorException,
+                                                                                            UserNotAuthorizedException
+    {
+        final String methodName  = "getInboundEventStatistics";
+
+        final String operationSpecificURL = "/metadata-highway/cohorts/"+cohortName+"/inbound-event-statistics";
+
+        InboundEventStatisticsResponse restResult = null;
+
+        try {
+            restResult = restClient.callGetRESTCall(methodName,
+                                                    InboundEventStatisticsResponse.class,
+                                                    restURLRoot + rootServiceNameInURL + userIdInURL + operationSpecificURL,
+                                                    serverName,
+                                                    userId);
+        }
+        catch (Exception error)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.REMOTE_REPOSITORY_ERROR.getMessageDefinition(methodName,
+                                                                                                          serverName,
+                                                                                                          error.getClass().getSimpleName(),
+                                                                                                          error.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               error);
+        }
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+
+
+        return restResult.getStatistics();
+    }
+
+
 
 
     /*
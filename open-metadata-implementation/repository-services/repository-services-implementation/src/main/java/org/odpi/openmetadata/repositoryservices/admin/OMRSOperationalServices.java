@@ -28,6 +28,7 @@ import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRS
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSEnterpriseConnectorManager;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSConnection;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederatedInstanceCache;
 import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
 import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventManager;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSConfigErrorException;
@@ -352,6 +353,7 @@ public class OMRSOperationalServices
                                                                           maxPageSize,
                                                                           localRepositoryContentManager);
         enterpriseOMRSTopicConnector = initializeEnterpriseOMRSTopicConnector(enterpriseAccessConfig);
+        initializeFederatedInstanceCache(enterpriseAccessConfig);
         remoteEnterpriseOMRSTopicConnector = initializeRemoteEnterpriseOMRSTopicConnector(enterpriseAccessConfig);
 
         /*
@@ -494,6 +496,7 @@ public class OMRSOperationalServices
                                                          localRepositoryConnector,
                                                          this.getEnterpriseOMRSRepositoryConnector(OMRSAuditingComponent.REST_SERVICES.getComponentName()),
                                                          this.getRemoteEnterpriseOMRSTopicConnection(enterpriseAccessConfig),
+                                                         localRepositoryContentManager,
                                                          metadataHighwayManager,
                                                          localServerURL,
                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.REST_SERVICES),
@@ -597,6 +600,7 @@ public class OMRSOperationalServices
                                                          null,
                                                          null,
                                                          null,
+                                                         null,
                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.REST_SERVICES),
                                                          maxPageSize);
 
@@ -637,6 +641,35 @@ public class OMRSOperationalServices
     }
 
 
+    /**
+     * Set up the cache of entities and relationships retrieved by federated queries if it is configured.
+     * The cache listens to the Enterprise OMRS Topic to learn which instances have changed, so it is only used
+     * when this topic is configured.
+     *
+     * @param enterpriseAccessConfig configuration from the OMAG server
+     */
+    private void initializeFederatedInstanceCache(EnterpriseAccessConfig  enterpriseAccessConfig)
+    {
+        if ((enterpriseAccessConfig != null) &&
+            (enterpriseAccessConfig.getFederatedInstanceCacheSize() > 0) &&
+            (enterpriseOMRSTopicConnector != null) &&
+            (enterpriseConnectorManager != null))
+        {
+            final String actionDescription = "Initialize Repository Operational Services";
+
+            FederatedInstanceCache federatedInstanceCache = new FederatedInstanceCache(enterpriseAccessConfig.getFederatedInstanceCacheSize(),
+                                                                                       enterpriseAccessConfig.getFederatedInstanceCacheTimeToLive());
+
+            enterpriseOMRSTopicConnector.registerListener(federatedInstanceCache, "Enterprise Repository Services");
+            enterpriseConnectorManager.setFederatedInstanceCache(federatedInstanceCache);
+
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.FEDERATED_INSTANCE_CACHE_ENABLED.getMessageDefinition(Integer.toString(federatedInstanceCache.getMaximumSize()),
+                                                                                                    Long.toString(federatedInstanceCache.getTimeToLive())));
+        }
+    }
+
+
     /**
      * Return the connector to the Remote Enterprise OMRS Topic.  If null is returned it means the Remote Enterprise OMRS Topic
      * is not needed.  A configuration error exception is thrown if there is a problem with the connection properties
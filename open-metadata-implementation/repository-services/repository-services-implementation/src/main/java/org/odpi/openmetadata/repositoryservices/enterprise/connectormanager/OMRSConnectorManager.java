@@ -2,6 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.enterprise.connectormanager;
 
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederatedInstanceCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationHealthMonitor;
 
 /**
  * OMRSConnectorManager provides the methods for connector consumers to register with the connector manager.
@@ -30,4 +32,28 @@ public interface OMRSConnectorManager
      *                             registerConnectorConsumer.
      */
     void unregisterConnectorConsumer(String   connectorConsumerId);
+
+
+    /**
+     * Return the health of the remote members of the cohorts.  This is shared by all the connector consumers
+     * so that it is not lost when their connectors are refreshed.
+     *
+     * @return health monitor (null means federated queries do not track the health of the members)
+     */
+    default FederationHealthMonitor getFederationHealthMonitor()
+    {
+        return null;
+    }
+
+
+    /**
+     * Return the cache of the entities and relationships retrieved by federated queries.  This is shared by all
+     * the connector consumers.
+     *
+     * @return cache (null means federated retrievals are not cached)
+     */
+    default FederatedInstanceCache getFederatedInstanceCache()
+    {
+        return null;
+    }
 }
@@ -10,6 +10,8 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederatedInstanceCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationHealthMonitor;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
@@ -81,9 +83,11 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
     private final AuditLog                          auditLog;
     private final String                            localServerUserId;
     private final String                            localServerPassword;
+    private final FederationHealthMonitor           federationHealthMonitor;
 
     private String                            localMetadataCollectionId    = null;
     private LocalOMRSRepositoryConnector      localRepositoryConnector     = null;
+    private FederatedInstanceCache            federatedInstanceCache       = null;
 
     /**
      * Constructor for the enterprise connector manager.
@@ -111,6 +115,7 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
         this.auditLog = auditLog;
         this.localServerUserId = localServerUserId;
         this.localServerPassword = localServerPassword;
+        this.federationHealthMonitor = new FederationHealthMonitor(auditLog);
     }
 
 
@@ -163,6 +168,67 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
         {
             registeredConnectorConsumer.getConnectorConsumer().disconnectAllConnectors();
         }
+
+        /*
+         * Stop the worker threads used for federated queries.
+         */
+        federationHealthMonitor.shutdown();
+
+        /*
+         * Report how well the cache has worked.
+         */
+        if ((federatedInstanceCache != null) && (auditLog != null))
+        {
+            final String actionDescription = "Disconnecting the enterprise connector manager";
+
+            long hits     = federatedInstanceCache.getHitCount();
+            long requests = hits + federatedInstanceCache.getMissCount();
+
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.FEDERATED_INSTANCE_CACHE_STATISTICS.getMessageDefinition(Long.toString(hits),
+                                                                                                       Long.toString(requests),
+                                                                                                       Long.toString(Math.round(federatedInstanceCache.getHitRate() * 100)),
+                                                                                                       Long.toString(federatedInstanceCache.getEvictionCount()),
+                                                                                                       Long.toString(federatedInstanceCache.getInvalidationCount())));
+            federatedInstanceCache.clear();
+        }
+    }
+
+
+    /**
+     * Return the health of the remote members of the cohorts.  This is shared by all the connector consumers
+     * so that it is not lost when their connectors are refreshed.
+     *
+     * @return health monitor
+     */
+    @Override
+    public FederationHealthMonitor getFederationHealthMonitor()
+    {
+        return federationHealthMonitor;
+    }
+
+
+    /**
+     * Set up the cache of the entities and relationships retrieved by federated queries.  It must be
+     * registered with the enterprise OMRS topic so that changed instances are removed.
+     *
+     * @param federatedInstanceCache cache (null means no caching)
+     */
+    public void setFederatedInstanceCache(FederatedInstanceCache federatedInstanceCache)
+    {
+        this.federatedInstanceCache = federatedInstanceCache;
+    }
+
+
+    /**
+     * Return the cache of the entities and relationships retrieved by federated queries.
+     *
+     * @return cache or null if federated retrievals are not cached
+     */
+    @Override
+    public FederatedInstanceCache getFederatedInstanceCache()
+    {
+        return federatedInstanceCache;
     }
 
 
@@ -253,6 +319,11 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
         }
         else
         {
+            /*
+             * The member has new connection details so its health starts again.
+             */
+            federationHealthMonitor.resetMember(metadataCollectionId);
+
             auditLog.logMessage(actionDescription,
                                 OMRSAuditCode.REMOTE_MEMBER_UPDATED.getMessageDefinition(remoteServerName,
                                                                                          cohortName,
@@ -462,6 +533,14 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
             }
         }
 
+        /*
+         * Forget the health of a repository that has left all the cohorts.
+         */
+        if (repositoryRegistrationCount == 0)
+        {
+            federationHealthMonitor.resetMember(metadataCollectionId);
+        }
+
         /*
          * Remove the connector from the registered connector consumers if federation is enabled
          * and the repository is no longer registered through any cohort.
@@ -11,9 +11,11 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.FederatedQueryContext;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederatedInstanceCache;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.ParallelFederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.SequentialFederationControl;
@@ -134,7 +136,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         GetAllTypesExecutor executor = new GetAllTypesExecutor(userId,
                                                                methodName,
                                                                localMetadataCollectionId,
@@ -672,7 +674,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl     federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl     federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         VerifyTypeDefExecutor executor          = new VerifyTypeDefExecutor(userId, typeDef, auditLog, methodName);
 
         /*
@@ -725,7 +727,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl              federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl              federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         VerifyAttributeTypeDefExecutor executor          = new VerifyAttributeTypeDefExecutor(userId, attributeTypeDef, auditLog, methodName);
 
         /*
@@ -893,7 +895,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, false, auditLog, methodName);
 
         /*
@@ -942,7 +944,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl        federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl        federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         GetEntitySummaryExecutor executor          = new GetEntitySummaryExecutor(userId, guid, auditLog, methodName);
 
         /*
@@ -984,6 +986,24 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.getInstanceParameterValidation(userId, guid, methodName);
 
+        /*
+         * An entity that this user has retrieved recently is returned from the cache (if configured).
+         */
+        FederatedInstanceCache federatedInstanceCache = enterpriseParentConnector.getFederatedInstanceCache();
+        long                   retrievalStamp         = 0;
+
+        if (federatedInstanceCache != null)
+        {
+            EntityDetail cachedEntity = federatedInstanceCache.getEntity(userId, guid);
+
+            if (cachedEntity != null)
+            {
+                return cachedEntity;
+            }
+
+            retrievalStamp = federatedInstanceCache.getRetrievalStamp();
+        }
+
         /*
          * Validation complete, ok to continue with request
          *
@@ -992,12 +1012,66 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, true, auditLog, methodName);
 
         federationControl.executeCommand(executor);
 
-        return executor.getEntityDetail();
+        EntityDetail entity = executor.getEntityDetail();
+
+        if ((federatedInstanceCache != null) && (this.isCompleteResult()))
+        {
+            federatedInstanceCache.putEntity(userId, entity, retrievalStamp);
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a list of entities.  Each repository in the cohort(s)
+     * is called once with the whole list.  Entities that are not known are missing from the results.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of entities in the order of the guids or null if none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntitiesDetail(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String  methodName        = "getEntitiesDetail";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl         federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
+        GetEntitiesDetailExecutor executor          = new GetEntitiesDetailExecutor(userId,
+                                                                                    new ArrayList<>(new LinkedHashSet<>(guids)),
+                                                                                    localMetadataCollectionId,
+                                                                                    auditLog,
+                                                                                    repositoryValidator,
+                                                                                    methodName);
+
+        federationControl.executeCommand(executor);
+
+        return executor.getEntitiesDetail(enterpriseParentConnector, this);
     }
 
 
@@ -1042,7 +1116,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, asOfTime, auditLog, methodName);
 
         /*
@@ -1064,7 +1138,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
             {
                 cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-                federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+                federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
                 executor          = new GetEntityDetailExecutor(userId, guid, asOfTime, auditLog, methodName);
 
                 retryCount ++;
@@ -1150,7 +1224,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         GetRelationshipsForEntityExecutor executor          = new GetRelationshipsForEntityExecutor(userId,
                                                                                                     entityGUID,
                                                                                                     relationshipTypeGUID,
@@ -1269,7 +1343,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl              federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl              federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         FindEntitiesByPropertyExecutor executor          = new FindEntitiesByPropertyExecutor(userId,
                                                                                               entityTypeGUID,
                                                                                               matchProperties,
@@ -1375,7 +1449,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl    federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl    federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         FindEntitiesExecutor executor          = new FindEntitiesExecutor(userId,
                                                                           entityTypeGUID,
                                                                           entitySubtypeGUIDs,
@@ -1487,7 +1561,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                    federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                    federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         FindEntitiesByClassificationExecutor executor          = new FindEntitiesByClassificationExecutor(userId,
                                                                                                           entityTypeGUID,
                                                                                                           classificationName,
@@ -1595,7 +1669,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         FindEntitiesByPropertyValueExecutor executor          = new FindEntitiesByPropertyValueExecutor(userId,
                                                                                                         entityTypeGUID,
                                                                                                         searchCriteria,
@@ -1654,7 +1728,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         GetRelationshipExecutor executor          = new GetRelationshipExecutor(userId, guid, false, auditLog, methodName);
 
         /*
@@ -1695,6 +1769,24 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.getInstanceParameterValidation(userId, guid, methodName);
 
+        /*
+         * A relationship that this user has retrieved recently is returned from the cache (if configured).
+         */
+        FederatedInstanceCache federatedInstanceCache = enterpriseParentConnector.getFederatedInstanceCache();
+        long                   retrievalStamp         = 0;
+
+        if (federatedInstanceCache != null)
+        {
+            Relationship cachedRelationship = federatedInstanceCache.getRelationship(userId, guid);
+
+            if (cachedRelationship != null)
+            {
+                return cachedRelationship;
+            }
+
+            retrievalStamp = federatedInstanceCache.getRetrievalStamp();
+        }
+
         /*
          * Validation complete, ok to continue with request
          *
@@ -1703,7 +1795,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         GetRelationshipExecutor executor          = new GetRelationshipExecutor(userId, guid, true, auditLog, methodName);
 
         /*
@@ -1713,7 +1805,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getRelationship();
+        Relationship relationship = executor.getRelationship();
+
+        if ((federatedInstanceCache != null) && (this.isCompleteResult()))
+        {
+            federatedInstanceCache.putRelationship(userId, relationship, retrievalStamp);
+        }
+
+        return relationship;
     }
 
 
@@ -1756,7 +1855,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         GetRelationshipExecutor executor          = new GetRelationshipExecutor(userId, guid, asOfTime, auditLog, methodName);
 
         /*
@@ -1848,7 +1947,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl         federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl         federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         FindRelationshipsExecutor executor          = new FindRelationshipsExecutor(userId,
                                                                                     relationshipTypeGUID,
                                                                                     relationshipSubtypeGUIDs,
@@ -1953,7 +2052,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         FindRelationshipsByPropertyExecutor executor          = new FindRelationshipsByPropertyExecutor(userId,
                                                                                                         relationshipTypeGUID,
                                                                                                         matchProperties,
@@ -2057,7 +2156,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                        federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                        federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         FindRelationshipsByPropertyValueExecutor executor          = new FindRelationshipsByPropertyValueExecutor(userId,
                                                                                                                   relationshipTypeGUID,
                                                                                                                   searchCriteria,
@@ -2649,7 +2748,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         AddEntityExecutor executor = new AddEntityExecutor(userId,
                                                            entityTypeGUID,
                                                            initialProperties,
@@ -2732,7 +2831,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         AddEntityExecutor executor = new AddEntityExecutor(userId,
                                                            entityTypeGUID,
                                                            externalSourceGUID,
@@ -2754,6 +2853,48 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Create a batch of new entities.  The whole batch is passed to the first repository in the cohort that
+     * accepts it.  A failure with one item does not stop the other items from being processed - the reason
+     * for the failure is recorded in the item's result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities list of descriptions of the entities to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of new entities is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<InstanceBatchResult> addEntities(String                userId,
+                                                 List<EntityBatchItem> newEntities) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           FunctionNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "addEntities";
+
+        super.validateInstanceBatch(userId, newEntities, methodName);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl    federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
+        AddInstancesExecutor executor = new AddInstancesExecutor(userId, newEntities, auditLog, methodName);
+
+        federationControl.executeCommand(executor);
+
+        return executor.getResults();
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
@@ -2804,6 +2945,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.updateInstanceStatusParameterValidation(userId, entityGUID, newStatus, methodName);
 
+        this.forgetCachedInstance(entityGUID);
+
         /*
          * Locate entity
          */
@@ -2856,6 +2999,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         this.updateInstancePropertiesPropertyValidation(userId, entityGUID, properties, methodName);
 
+        this.forgetCachedInstance(entityGUID);
+
         /*
          * Locate entity
          */
@@ -2904,6 +3049,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.manageInstanceParameterValidation(userId, entityGUID, parameterName, methodName);
 
+        this.forgetCachedInstance(entityGUID);
+
         /*
          * Locate entity
          */
@@ -2966,6 +3113,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                 parameterName,
                                                 methodName);
 
+        this.forgetCachedInstance(obsoleteEntityGUID);
+
         /*
          * Locate entity
          */
@@ -3026,6 +3175,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                parameterName,
                                                methodName);
 
+        this.forgetCachedInstance(deletedEntityGUID);
+
         /*
          * Validation complete, ok to continue with request
          *
@@ -3034,7 +3185,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         PurgeEntityExecutor executor = new PurgeEntityExecutor(userId,
                                                                typeDefGUID,
                                                                typeDefName,
@@ -3084,6 +3235,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.manageInstanceParameterValidation(userId, deletedEntityGUID, parameterName, methodName);
 
+        this.forgetCachedInstance(deletedEntityGUID);
+
         /*
          * Validation complete, ok to continue with request
          *
@@ -3092,7 +3245,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         RestoreEntityExecutor executor = new RestoreEntityExecutor(userId,
                                                                    deletedEntityGUID,
                                                                    auditLog,
@@ -3151,6 +3304,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                classificationProperties,
                                                methodName);
 
+        this.forgetCachedInstance(entityGUID);
+
         /*
          * Locate entity and check classification is not already present.
          */
@@ -3165,7 +3320,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getHomeLocalRemoteConnectors(entity, methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         ClassifyEntityExecutor executor = new ClassifyEntityExecutor(userId,
                                                                      entityGUID,
                                                                      null,
@@ -3231,6 +3386,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                 classificationProperties,
                 methodName);
 
+        this.forgetCachedInstance(entityProxy.getGUID());
+
         /*
          * Locate entity and check classification is not already present.
          */
@@ -3245,7 +3402,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getHomeLocalRemoteConnectors(entity, methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         ClassifyEntityExecutor executor = new ClassifyEntityExecutor(userId,
                                                                      entityProxy.getGUID(),
                                                                      entityProxy,
@@ -3319,6 +3476,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                classificationProperties,
                                                methodName);
 
+        this.forgetCachedInstance(entityGUID);
+
         /*
          * Locate entity and check classification is not already present.
          */
@@ -3333,7 +3492,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getHomeLocalRemoteConnectors(entity, methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         ClassifyEntityExecutor executor = new ClassifyEntityExecutor(userId,
                                                                      entityGUID,
                                                                      null,
@@ -3403,6 +3562,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         this.classifyEntityParameterValidation(userId, entityProxy.getGUID(), classificationName, classificationProperties, methodName);
 
+        this.forgetCachedInstance(entityProxy.getGUID());
+
         /*
          * Locate entity and check classification is not already present.
          */
@@ -3417,7 +3578,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getHomeLocalRemoteConnectors(entity, methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         ClassifyEntityExecutor executor = new ClassifyEntityExecutor(userId,
                                                                      entityProxy.getGUID(),
                                                                      entityProxy,
@@ -3473,6 +3634,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.declassifyEntityParameterValidation(userId, entityGUID, classificationName, methodName);
 
+        this.forgetCachedInstance(entityGUID);
+
         /*
          * Locate entity and retrieve classification.
          */
@@ -3524,6 +3687,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         String entityGUID = entityProxy.getGUID();
         super.declassifyEntityParameterValidation(userId, entityGUID, classificationName, methodName);
 
+        this.forgetCachedInstance(entityProxy.getGUID());
+
         /*
          * Locate entity and retrieve classification.
          */
@@ -3579,6 +3744,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         classifyEntityParameterValidation(userId, entityGUID, classificationName, properties, methodName);
 
+        this.forgetCachedInstance(entityGUID);
+
         /*
          * Locate entity and retrieve classification.
          */
@@ -3638,6 +3805,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         classifyEntityParameterValidation(userId, entityProxy.getGUID(), classificationName, properties, methodName);
 
+        this.forgetCachedInstance(entityProxy.getGUID());
+
         /*
          * Locate entity and retrieve classification.
          */
@@ -3733,7 +3902,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         AddRelationshipExecutor executor = new AddRelationshipExecutor(userId,
                                                                        relationshipTypeGUID,
                                                                        initialProperties,
@@ -3825,7 +3994,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         AddRelationshipExecutor executor = new AddRelationshipExecutor(userId,
                                                                        relationshipTypeGUID,
                                                                        externalSourceGUID,
@@ -3848,6 +4017,48 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Create a batch of new relationships.  The whole batch is passed to the first repository in the cohort that
+     * accepts it.  A failure with one item does not stop the other items from being processed - the reason
+     * for the failure is recorded in the item's result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships list of descriptions of the relationships to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of new relationships is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<InstanceBatchResult> addRelationships(String                      userId,
+                                                      List<RelationshipBatchItem> newRelationships) throws InvalidParameterException,
+                                                                                                           RepositoryErrorException,
+                                                                                                           FunctionNotSupportedException,
+                                                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "addRelationships";
+
+        super.validateInstanceBatch(userId, newRelationships, methodName);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl    federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
+        AddInstancesExecutor executor = new AddInstancesExecutor(newRelationships, userId, auditLog, methodName);
+
+        federationControl.executeCommand(executor);
+
+        return executor.getResults();
+    }
+
+
 
     /**
      * Update the status of a specific relationship.
@@ -3881,6 +4092,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.updateInstanceStatusParameterValidation(userId, relationshipGUID, newStatus, methodName);
 
+        this.forgetCachedInstance(relationshipGUID);
+
         /*
          * Locate relationship
          */
@@ -3933,6 +4146,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.updateInstancePropertiesPropertyValidation(userId, relationshipGUID, properties, methodName);
 
+        this.forgetCachedInstance(relationshipGUID);
+
         /*
          * Locate relationship
          */
@@ -3981,6 +4196,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.manageInstanceParameterValidation(userId, relationshipGUID, parameterName, methodName);
 
+        this.forgetCachedInstance(relationshipGUID);
+
         /*
          * Locate relationship
          */
@@ -4041,6 +4258,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                parameterName,
                                                methodName);
 
+        this.forgetCachedInstance(obsoleteRelationshipGUID);
+
         /*
          * Locate relationship
          */
@@ -4102,6 +4321,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                parameterName,
                                                methodName);
 
+        this.forgetCachedInstance(deletedRelationshipGUID);
+
         /*
          * Validation complete, ok to continue with request
          *
@@ -4110,7 +4331,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         PurgeRelationshipExecutor executor = new PurgeRelationshipExecutor(userId,
                                                                            typeDefGUID,
                                                                            typeDefName,
@@ -4161,6 +4382,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         this.manageInstanceParameterValidation(userId, deletedRelationshipGUID, parameterName, methodName);
 
+        this.forgetCachedInstance(deletedRelationshipGUID);
+
         /*
          * Validation complete, ok to continue with request
          *
@@ -4169,7 +4392,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new SequentialFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationHealthMonitor(), auditLog, methodName);
         RestoreRelationshipExecutor executor = new RestoreRelationshipExecutor(userId,
                                                                                deletedRelationshipGUID,
                                                                                auditLog,
@@ -4856,6 +5079,37 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Remove an instance from the federated instance cache (if configured) because it is being changed.
+     * The event describing the change removes it again in case it is retrieved while the change is in progress.
+     *
+     * @param guid unique identifier of the instance
+     */
+    private void forgetCachedInstance(String guid)
+    {
+        FederatedInstanceCache federatedInstanceCache = enterpriseParentConnector.getFederatedInstanceCache();
+
+        if (federatedInstanceCache != null)
+        {
+            federatedInstanceCache.invalidate(guid);
+        }
+    }
+
+
+    /**
+     * Return whether the federated queries issued by the calling thread have heard from all the members
+     * of the cohorts.  Only complete results are cached.
+     *
+     * @return boolean flag
+     */
+    private boolean isCompleteResult()
+    {
+        FederatedQueryContext context = FederatedQueryContext.getCurrentContext();
+
+        return (context == null) || (! context.isPartialResult());
+    }
+
+
     /**
      * Indicates to the caller that the method called is not supported by the enterprise connector.
      *
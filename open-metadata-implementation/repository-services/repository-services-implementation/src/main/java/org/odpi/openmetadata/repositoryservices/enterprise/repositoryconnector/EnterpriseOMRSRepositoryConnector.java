@@ -13,6 +13,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorConsumer;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederatedInstanceCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationHealthMonitor;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
@@ -483,6 +485,40 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
+    /**
+     * Return the health of the remote members of the cohorts.  It is owned by the connector manager so
+     * that it survives the refresh of the remote connectors.
+     *
+     * @return health monitor or null if the health of the members is not tracked
+     */
+    FederationHealthMonitor getFederationHealthMonitor()
+    {
+        if (connectorManager != null)
+        {
+            return connectorManager.getFederationHealthMonitor();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the cache of the entities and relationships retrieved by federated queries.  It is owned by the
+     * connector manager so that it is shared by all the enterprise connectors.
+     *
+     * @return cache or null if federated retrievals are not cached
+     */
+    FederatedInstanceCache getFederatedInstanceCache()
+    {
+        if (connectorManager != null)
+        {
+            return connectorManager.getFederatedInstanceCache();
+        }
+
+        return null;
+    }
+
+
     /**
      * Request the refresh of this instance.
      *
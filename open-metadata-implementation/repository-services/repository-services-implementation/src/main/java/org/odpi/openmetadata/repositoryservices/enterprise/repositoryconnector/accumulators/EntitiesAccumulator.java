@@ -111,6 +111,14 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
     public synchronized void addEntities(List<EntityDetail>   entities,
                                          String               metadataCollectionId)
     {
+        if (super.isRepositoryRejected(metadataCollectionId))
+        {
+            /*
+             * The repository did not respond in time so its results are no longer wanted.
+             */
+            return;
+        }
+
         if (entities != null)
         {
             for (EntityDetail entity : entities)
@@ -215,9 +223,16 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
      * @param entityGUID unique identifier for entity of interest
      * @return null or list of metadata collection ids
      */
-    public List<String> getContributingMetadataCollections(String entityGUID)
+    public synchronized List<String> getContributingMetadataCollections(String entityGUID)
     {
-        return accumulatedEntitySources.get(entityGUID);
+        List<String> contributingMetadataCollections = accumulatedEntitySources.get(entityGUID);
+
+        if (contributingMetadataCollections != null)
+        {
+            return new ArrayList<>(contributingMetadataCollections);
+        }
+
+        return null;
     }
 
 
@@ -226,7 +241,7 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
      *
      * @return null or list of GUIDs
      */
-    public List<String> getResultsForAugmentation()
+    public synchronized List<String> getResultsForAugmentation()
     {
         if (! accumulatedEntities.isEmpty())
         {
@@ -9,7 +9,9 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * QueryAccumulatorBase acts as a base class to the accumulators that need to visit each repository and combine results.
@@ -21,6 +23,8 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
 
     private int                        responsesRequired  = 0;
     private final Map<String, Integer> resultsContributed = new HashMap<>();
+    private final Set<String>          failedRepositories = new HashSet<>();
+    private final Set<String>          rejectedRepositories = new HashSet<>();
     private boolean                    resultsReturned = false;
 
 
@@ -52,7 +56,7 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
      */
     public synchronized boolean areResultsComplete()
     {
-        return (responsesRequired == resultsContributed.size());
+        return (responsesRequired == resultsContributed.size() + rejectedRepositories.size());
     }
 
 
@@ -67,6 +71,51 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     }
 
 
+    /**
+     * Return whether the request to a repository failed with an error that suggests the repository is not
+     * working properly (rather than a problem with the request).
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     * @return boolean flag
+     */
+    public synchronized boolean isRepositoryFailed(String metadataCollectionId)
+    {
+        return failedRepositories.contains(metadataCollectionId);
+    }
+
+
+    /**
+     * Stop accepting the response from a repository.  This is used when the repository has not responded
+     * within the time allowed for the request.  Any results or exceptions that it supplies later are ignored.
+     * If the repository has already responded, its response is kept.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     * @return boolean flag - true means the repository's response is rejected; false means it had already responded
+     */
+    public synchronized boolean rejectRepository(String metadataCollectionId)
+    {
+        if (resultsContributed.containsKey(metadataCollectionId))
+        {
+            return false;
+        }
+
+        rejectedRepositories.add(metadataCollectionId);
+        return true;
+    }
+
+
+    /**
+     * Return whether the response from a repository has been rejected because it did not respond in time.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     * @return boolean flag
+     */
+    synchronized boolean isRepositoryRejected(String metadataCollectionId)
+    {
+        return rejectedRepositories.contains(metadataCollectionId);
+    }
+
+
     /**
      * An executor is created for each repository that needs to be called.  Each executor should provide either an
      * exception response or a set of the desired elements.
@@ -106,6 +155,24 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     }
 
 
+    /**
+     * This records the completion of the request to a single repository with an exception.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     * @return boolean flag - false means the repository's response has been rejected and the exception is ignored
+     */
+    private boolean acceptException(String metadataCollectionId)
+    {
+        if (rejectedRepositories.contains(metadataCollectionId))
+        {
+            return false;
+        }
+
+        setRequestReturned(metadataCollectionId, 0);
+        return true;
+    }
+
+
 
     /**
      * Save the supplied exception.
@@ -116,8 +183,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                       metadataCollectionId,
                                               ClassificationErrorException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        classificationErrorException = exception;
+        if (acceptException(metadataCollectionId))
+        {
+            classificationErrorException = exception;
+        }
     }
 
 
@@ -130,8 +199,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                  metadataCollectionId,
                                               EntityNotKnownException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        entityNotKnownException = exception;
+        if (acceptException(metadataCollectionId))
+        {
+            entityNotKnownException = exception;
+        }
     }
 
 
@@ -145,8 +216,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                        metadataCollectionId,
                                               FunctionNotSupportedException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        functionNotSupportedException = exception;
+        if (acceptException(metadataCollectionId))
+        {
+            functionNotSupportedException = exception;
+        }
     }
 
 
@@ -159,8 +232,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                    metadataCollectionId,
                                               InvalidParameterException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        invalidParameterException = exception;
+        if (acceptException(metadataCollectionId))
+        {
+            invalidParameterException = exception;
+        }
     }
 
 
@@ -173,8 +248,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String               metadataCollectionId,
                                               PagingErrorException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        pagingErrorException = exception;
+        if (acceptException(metadataCollectionId))
+        {
+            pagingErrorException = exception;
+        }
     }
 
 
@@ -187,8 +264,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                 metadataCollectionId,
                                               PropertyErrorException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        propertyErrorException = exception;
+        if (acceptException(metadataCollectionId))
+        {
+            propertyErrorException = exception;
+        }
     }
 
 
@@ -201,8 +280,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                        metadataCollectionId,
                                               RelationshipNotKnownException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        relationshipNotKnownException = exception;
+        if (acceptException(metadataCollectionId))
+        {
+            relationshipNotKnownException = exception;
+        }
     }
 
 
@@ -215,8 +296,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                   metadataCollectionId,
                                               RepositoryErrorException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        repositoryErrorException = exception;
+        if (acceptException(metadataCollectionId))
+        {
+            failedRepositories.add(metadataCollectionId);
+            repositoryErrorException = exception;
+        }
     }
 
 
@@ -229,8 +313,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String             metadataCollectionId,
                                               TypeErrorException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        typeErrorException = exception;
+        if (acceptException(metadataCollectionId))
+        {
+            typeErrorException = exception;
+        }
     }
 
 
@@ -243,8 +329,10 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               UserNotAuthorizedException exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        userNotAuthorizedException = exception;
+        if (acceptException(metadataCollectionId))
+        {
+            userNotAuthorizedException = exception;
+        }
     }
 
 
@@ -259,14 +347,17 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
                                                      String     metadataCollectionId,
                                                      Exception  exception)
     {
-        setRequestReturned(metadataCollectionId, 0);
-        anotherException = exception;
-
-        auditLog.logException(actionDescription,
-                              OMRSAuditCode.UNEXPECTED_EXCEPTION_FROM_REPOSITORY.getMessageDefinition(exception.getClass().getName(),
-                                                                                                      metadataCollectionId,
-                                                                                                      actionDescription,
-                                                                                                      exception.getMessage()),
-                              exception);
+        if (acceptException(metadataCollectionId))
+        {
+            failedRepositories.add(metadataCollectionId);
+            anotherException = exception;
+
+            auditLog.logException(actionDescription,
+                                  OMRSAuditCode.UNEXPECTED_EXCEPTION_FROM_REPOSITORY.getMessageDefinition(exception.getClass().getName(),
+                                                                                                          metadataCollectionId,
+                                                                                                          actionDescription,
+                                                                                                          exception.getMessage()),
+                                  exception);
+        }
     }
 }
@@ -85,6 +85,14 @@ public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
     public synchronized void addRelationships(List<Relationship>   relationships,
                                               String               metadataCollectionId)
     {
+        if (super.isRepositoryRejected(metadataCollectionId))
+        {
+            /*
+             * The repository did not respond in time so its results are no longer wanted.
+             */
+            return;
+        }
+
         if (relationships != null)
         {
             for (Relationship relationship : relationships)
@@ -104,6 +104,14 @@ public class TypesAccumulator extends QueryAccumulatorBase
     public synchronized void addTypeDefGallery(TypeDefGallery types,
                                                String         metadataCollectionId)
     {
+        if (super.isRepositoryRejected(metadataCollectionId))
+        {
+            /*
+             * The repository did not respond in time so its results are no longer wanted.
+             */
+            return;
+        }
+
         int numberOrAttributeTypeDefs = 0;
         int numberOfTypeDefs = 0;
 
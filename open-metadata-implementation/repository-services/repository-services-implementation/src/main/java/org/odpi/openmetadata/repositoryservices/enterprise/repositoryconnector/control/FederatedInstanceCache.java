@@ -0,0 +1,499 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicRepositoryEventListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FederatedInstanceCache keeps the entities and relationships retrieved by the enterprise repository services
+ * so that repeated requests for the same instance are served without calling the members of the cohorts again.
+ * There is one instance for each server, owned by the enterprise connector manager.
+ *
+ * The cache holds a limited number of instances.  When it is full, the instance that was used least recently
+ * is evicted.  Instances are also removed once they have been in the cache for longer than the time to live.
+ * It listens to the enterprise OMRS topic and removes an instance as soon as an event describing a change to it
+ * arrives.
+ *
+ * Each repository may apply its own security checks to the calling user.  So a cached instance is only returned
+ * to the users that have successfully retrieved it from the cohort before.
+ */
+public class FederatedInstanceCache implements OMRSTopicRepositoryEventListener
+{
+    /**
+     * Number of milliseconds that an instance is kept for if no time to live is supplied.
+     */
+    public static final long DEFAULT_TIME_TO_LIVE = 30000;
+
+    private final int                              maximumSize;
+    private final long                             timeToLive;
+    private final LinkedHashMap<String, CacheEntry> entries;
+
+    /*
+     * The GUIDs of the instances that have changed recently, mapped to the invalidation sequence number.
+     * This stops a retrieval that started before the change from caching the old version.
+     */
+    private final LinkedHashMap<String, Long>       recentInvalidations;
+    private       long                              invalidationSequence = 0;
+    private       long                              invalidationFloor    = 0;
+
+    private final AtomicLong hitCount          = new AtomicLong(0);
+    private final AtomicLong missCount         = new AtomicLong(0);
+    private final AtomicLong evictionCount     = new AtomicLong(0);
+    private final AtomicLong invalidationCount = new AtomicLong(0);
+
+
+    /**
+     * Constructor
+     *
+     * @param maximumSize maximum number of instances to keep
+     * @param timeToLive number of milliseconds to keep each instance (zero or less means use the default)
+     */
+    public FederatedInstanceCache(int  maximumSize,
+                                  long timeToLive)
+    {
+        this.maximumSize = Math.max(1, maximumSize);
+        this.timeToLive  = (timeToLive > 0) ? timeToLive : DEFAULT_TIME_TO_LIVE;
+
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest)
+            {
+                if (size() > FederatedInstanceCache.this.maximumSize)
+                {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+
+        this.recentInvalidations = new LinkedHashMap<String, Long>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest)
+            {
+                if (size() > FederatedInstanceCache.this.maximumSize)
+                {
+                    invalidationFloor = eldest.getValue();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+
+    /**
+     * Return the maximum number of instances that are kept.
+     *
+     * @return count
+     */
+    public int getMaximumSize()
+    {
+        return maximumSize;
+    }
+
+
+    /**
+     * Return the number of milliseconds that each instance is kept for.
+     *
+     * @return milliseconds
+     */
+    public long getTimeToLive()
+    {
+        return timeToLive;
+    }
+
+
+    /**
+     * Return the stamp to pass to the put methods for a retrieval that is about to start.
+     * An instance that changes while it is being retrieved is not cached.
+     *
+     * @return invalidation sequence number
+     */
+    public synchronized long getRetrievalStamp()
+    {
+        return invalidationSequence;
+    }
+
+
+    /**
+     * Return a copy of the cached entity if the user has retrieved it before and it has not expired.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the entity
+     * @return entity or null if it needs to be retrieved from the cohort
+     */
+    public EntityDetail getEntity(String userId,
+                                  String guid)
+    {
+        InstanceHeader instance = this.getInstance(userId, guid, EntityDetail.class);
+
+        if (instance != null)
+        {
+            return new EntityDetail((EntityDetail)instance);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return a copy of the cached relationship if the user has retrieved it before and it has not expired.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the relationship
+     * @return relationship or null if it needs to be retrieved from the cohort
+     */
+    public Relationship getRelationship(String userId,
+                                        String guid)
+    {
+        InstanceHeader instance = this.getInstance(userId, guid, Relationship.class);
+
+        if (instance != null)
+        {
+            return new Relationship((Relationship)instance);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Save an entity that has been retrieved from the cohort by the user.
+     *
+     * @param userId calling user
+     * @param entity retrieved entity
+     * @param retrievalStamp value returned by getRetrievalStamp before the retrieval started
+     */
+    public void putEntity(String       userId,
+                          EntityDetail entity,
+                          long         retrievalStamp)
+    {
+        if (entity != null)
+        {
+            this.putInstance(userId, new EntityDetail(entity), retrievalStamp);
+        }
+    }
+
+
+    /**
+     * Save a relationship that has been retrieved from the cohort by the user.
+     *
+     * @param userId calling user
+     * @param relationship retrieved relationship
+     * @param retrievalStamp value returned by getRetrievalStamp before the retrieval started
+     */
+    public void putRelationship(String       userId,
+                                Relationship relationship,
+                                long         retrievalStamp)
+    {
+        if (relationship != null)
+        {
+            this.putInstance(userId, new Relationship(relationship), retrievalStamp);
+        }
+    }
+
+
+    /**
+     * Remove an instance from the cache because it has changed.
+     *
+     * @param guid unique identifier of the instance
+     */
+    public synchronized void invalidate(String guid)
+    {
+        if (guid != null)
+        {
+            invalidationSequence++;
+            recentInvalidations.put(guid, invalidationSequence);
+
+            if (entries.remove(guid) != null)
+            {
+                invalidationCount.incrementAndGet();
+            }
+        }
+    }
+
+
+    /**
+     * Remove all the instances.
+     */
+    public synchronized void clear()
+    {
+        invalidationSequence++;
+        invalidationFloor = invalidationSequence;
+        recentInvalidations.clear();
+        entries.clear();
+    }
+
+
+    /**
+     * Return the number of instances in the cache.
+     *
+     * @return count
+     */
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+
+
+    /**
+     * Return the number of requests that were served from the cache.
+     *
+     * @return count
+     */
+    public long getHitCount()
+    {
+        return hitCount.get();
+    }
+
+
+    /**
+     * Return the number of requests that had to be passed to the cohort.
+     *
+     * @return count
+     */
+    public long getMissCount()
+    {
+        return missCount.get();
+    }
+
+
+    /**
+     * Return the number of instances removed because the cache was full.
+     *
+     * @return count
+     */
+    public long getEvictionCount()
+    {
+        return evictionCount.get();
+    }
+
+
+    /**
+     * Return the number of instances removed because an event reported that they had changed.
+     *
+     * @return count
+     */
+    public long getInvalidationCount()
+    {
+        return invalidationCount.get();
+    }
+
+
+    /**
+     * Return the proportion of requests that were served from the cache.
+     *
+     * @return value between 0 and 1
+     */
+    public double getHitRate()
+    {
+        long hits     = hitCount.get();
+        long requests = hits + missCount.get();
+
+        if (requests == 0)
+        {
+            return 0;
+        }
+
+        return (double)hits / requests;
+    }
+
+
+    /**
+     * Type definition changes do not affect the cached instances.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processTypeDefEvent(OMRSTypeDefEvent event)
+    {
+        /*
+         * Instances are re-typed through instance events.
+         */
+    }
+
+
+    /**
+     * Remove the instances described in the event from the cache.  The event may be from the local repository
+     * or any member of the connected cohorts.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processInstanceEvent(OMRSInstanceEvent event)
+    {
+        if (event != null)
+        {
+            this.invalidate(event.getInstanceGUID());
+            this.invalidate(event.getOriginalInstanceGUID());
+            this.invalidate(event.getEntity());
+            this.invalidate(event.getRelationship());
+
+            EntityProxy entityProxy = event.getEntityProxy();
+
+            if (entityProxy != null)
+            {
+                this.invalidate(entityProxy.getGUID());
+            }
+
+            InstanceGraph instanceBatch = event.getInstanceBatch();
+
+            if (instanceBatch != null)
+            {
+                if (instanceBatch.getEntities() != null)
+                {
+                    for (EntityDetail entity : instanceBatch.getEntities())
+                    {
+                        this.invalidate(entity);
+                    }
+                }
+
+                if (instanceBatch.getRelationships() != null)
+                {
+                    for (Relationship relationship : instanceBatch.getRelationships())
+                    {
+                        this.invalidate(relationship);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove an instance from the cache.
+     *
+     * @param instance instance from an event
+     */
+    private void invalidate(InstanceHeader instance)
+    {
+        if (instance != null)
+        {
+            this.invalidate(instance.getGUID());
+        }
+    }
+
+
+    /**
+     * Return the cached instance if the user has retrieved it before and it has not expired.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the instance
+     * @param instanceClass expected type of instance
+     * @return instance or null
+     */
+    private synchronized InstanceHeader getInstance(String                          userId,
+                                                    String                          guid,
+                                                    Class<? extends InstanceHeader> instanceClass)
+    {
+        CacheEntry entry = entries.get(guid);
+
+        if (entry != null)
+        {
+            if (System.currentTimeMillis() - entry.cachedTime > timeToLive)
+            {
+                entries.remove(guid);
+            }
+            else if ((instanceClass.isInstance(entry.instance)) && (entry.authorizedUsers.contains(userId)))
+            {
+                hitCount.incrementAndGet();
+                return entry.instance;
+            }
+        }
+
+        missCount.incrementAndGet();
+        return null;
+    }
+
+
+    /**
+     * Save an instance retrieved by the user.  A newer version (or any version if the cached one has expired)
+     * replaces the cached one and the list of users that have retrieved it.  The same version adds the user
+     * and an older version is ignored.
+     *
+     * @param userId calling user
+     * @param instance retrieved instance
+     * @param retrievalStamp value returned by getRetrievalStamp before the retrieval started
+     */
+    private synchronized void putInstance(String         userId,
+                                          InstanceHeader instance,
+                                          long           retrievalStamp)
+    {
+        String guid = instance.getGUID();
+
+        if ((userId == null) || (guid == null) || (retrievalStamp < invalidationFloor))
+        {
+            return;
+        }
+
+        Long invalidatedAt = recentInvalidations.get(guid);
+
+        if ((invalidatedAt != null) && (invalidatedAt > retrievalStamp))
+        {
+            /*
+             * The instance changed while it was being retrieved.
+             */
+            return;
+        }
+
+        CacheEntry entry = entries.get(guid);
+
+        if ((entry == null) ||
+            (System.currentTimeMillis() - entry.cachedTime > timeToLive) ||
+            (entry.instance.getVersion() < instance.getVersion()))
+        {
+            entries.put(guid, new CacheEntry(instance, userId));
+        }
+        else if (entry.instance.getVersion() == instance.getVersion())
+        {
+            entry.authorizedUsers.add(userId);
+        }
+    }
+
+
+    /**
+     * CacheEntry holds a cached instance, when it was retrieved and the users that retrieved it.
+     */
+    private static class CacheEntry
+    {
+        private final InstanceHeader instance;
+        private final long           cachedTime      = System.currentTimeMillis();
+        private final Set<String>    authorizedUsers = new HashSet<>();
+
+
+        /**
+         * Constructor
+         *
+         * @param instance retrieved instance
+         * @param userId user that retrieved it
+         */
+        CacheEntry(InstanceHeader instance,
+                   String         userId)
+        {
+            this.instance = instance;
+            this.authorizedUsers.add(userId);
+        }
+    }
+}
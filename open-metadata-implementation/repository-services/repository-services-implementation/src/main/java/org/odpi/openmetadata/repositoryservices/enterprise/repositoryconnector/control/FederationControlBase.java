@@ -5,6 +5,7 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.FederatedQueryContext;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
@@ -24,6 +25,11 @@ import java.util.List;
  * until the executor tells it to stop, or it runs out of registered repositories.
  *
  * The caller (enterprise connector) then requests the response from the executor.
+ *
+ * When a health monitor is supplied, members that are failing are skipped, slow members are called last and
+ * the outcome of each call is reported back to the monitor.  If the calling thread has started a
+ * FederatedQueryContext with a response time limit, members that are not called within the limit are skipped
+ * and listed in the context so the caller knows the results are partial.
  */
 public abstract class FederationControlBase implements FederationControl
 {
@@ -31,6 +37,7 @@ public abstract class FederationControlBase implements FederationControl
     protected List<OMRSRepositoryConnector>     cohortConnectors;
     protected AuditLog                          auditLog;
     protected String                            methodName;
+    protected FederationHealthMonitor           healthMonitor;
 
 
     /**
@@ -45,9 +52,29 @@ public abstract class FederationControlBase implements FederationControl
                                  List<OMRSRepositoryConnector> cohortConnectors,
                                  AuditLog                      auditLog,
                                  String                        methodName)
+    {
+        this(userId, cohortConnectors, null, auditLog, methodName);
+    }
+
+
+    /**
+     * Constructor for a federated query that uses the health of the cohort members
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param healthMonitor health of the cohort members (may be null)
+     * @param auditLog logging destination
+     * @param methodName calling method
+     */
+    public FederationControlBase(String                        userId,
+                                 List<OMRSRepositoryConnector> cohortConnectors,
+                                 FederationHealthMonitor       healthMonitor,
+                                 AuditLog                      auditLog,
+                                 String                        methodName)
     {
         this.userId = userId;
         this.cohortConnectors = cohortConnectors;
+        this.healthMonitor = healthMonitor;
         this.auditLog = auditLog;
         this.methodName = methodName;
     }
@@ -105,4 +132,163 @@ public abstract class FederationControlBase implements FederationControl
             return null;
         }
     }
+
+
+    /**
+     * Return the connectors to call, in the order they should be called.
+     *
+     * @param context context of the calling thread (may be null)
+     * @return list of connectors
+     */
+    List<OMRSRepositoryConnector> getConnectorsToCall(FederatedQueryContext context)
+    {
+        if (healthMonitor == null)
+        {
+            return cohortConnectors;
+        }
+
+        return healthMonitor.selectConnectors(cohortConnectors, context);
+    }
+
+
+    /**
+     * Return the time by which the request must complete.
+     *
+     * @param context context of the calling thread (may be null)
+     * @param startTime time the request started
+     * @return time in milliseconds - zero means no limit
+     */
+    long getDeadline(FederatedQueryContext context,
+                     long                  startTime)
+    {
+        if ((context != null) && (context.getResponseTimeLimit() > 0))
+        {
+            return startTime + context.getResponseTimeLimit();
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Return whether the time allowed for the request has passed.
+     *
+     * @param deadline time by which the request must complete - zero means no limit
+     * @return boolean flag
+     */
+    boolean isDeadlinePassed(long deadline)
+    {
+        return (deadline > 0) && (System.currentTimeMillis() >= deadline);
+    }
+
+
+    /**
+     * Report the outcome of a call to a cohort member to the health monitor.
+     *
+     * @param cohortConnector connector that was called
+     * @param successful did the call succeed
+     * @param startTime time the call started
+     */
+    void recordOutcome(OMRSRepositoryConnector cohortConnector,
+                       boolean                 successful,
+                       long                    startTime)
+    {
+        if (healthMonitor != null)
+        {
+            healthMonitor.recordOutcome(cohortConnector, successful, System.currentTimeMillis() - startTime, methodName);
+        }
+    }
+
+
+    /**
+     * Record that a cohort member was not called, or did not respond, within the response time limit.
+     *
+     * @param cohortConnector connector that was skipped
+     * @param context context of the calling thread (may be null)
+     * @param skippedMembers list of skipped members for this request
+     */
+    void skipMember(OMRSRepositoryConnector cohortConnector,
+                    FederatedQueryContext   context,
+                    List<String>            skippedMembers)
+    {
+        String metadataCollectionId = cohortConnector.getMetadataCollectionId();
+
+        if (! skippedMembers.contains(metadataCollectionId))
+        {
+            skippedMembers.add(metadataCollectionId);
+
+            if (context != null)
+            {
+                context.addSkippedMember(metadataCollectionId, FederatedQueryContext.RESPONSE_TIME_LIMIT_EXCEEDED);
+            }
+        }
+    }
+
+
+    /**
+     * Log the members that were skipped because they did not respond within the response time limit.
+     *
+     * @param context context of the calling thread
+     * @param skippedMembers list of skipped members for this request
+     */
+    void reportSkippedMembers(FederatedQueryContext context,
+                              List<String>          skippedMembers)
+    {
+        if ((context != null) && (! skippedMembers.isEmpty()) && (auditLog != null))
+        {
+            auditLog.logMessage(methodName,
+                                OMRSAuditCode.FEDERATION_PARTIAL_RESULTS.getMessageDefinition(methodName,
+                                                                                              skippedMembers.toString(),
+                                                                                              Long.toString(context.getResponseTimeLimit())));
+        }
+    }
+
+
+    /**
+     * Give the executor the chance to augment each of its results by calling the cohort members again.
+     * This stops when the response time limit is reached.
+     *
+     * @param executor command being executed
+     * @param connectorsToCall connectors to the members that are available
+     * @param context context of the calling thread (may be null)
+     * @param deadline time by which the request must complete - zero means no limit
+     * @param skippedMembers list of skipped members for this request
+     * @throws RepositoryErrorException problem with the state of one of the repositories.
+     */
+    void augmentResults(RepositoryExecutor            executor,
+                        List<OMRSRepositoryConnector> connectorsToCall,
+                        FederatedQueryContext         context,
+                        long                          deadline,
+                        List<String>                  skippedMembers) throws RepositoryErrorException
+    {
+        List<String> resultGUIDs = executor.getResultsForAugmentation();
+
+        if (resultGUIDs != null)
+        {
+            for (String resultGUID : resultGUIDs)
+            {
+                for (OMRSRepositoryConnector cohortConnector : connectorsToCall)
+                {
+                    if (cohortConnector != null)
+                    {
+                        if (this.isDeadlinePassed(deadline))
+                        {
+                            this.skipMember(cohortConnector, context, skippedMembers);
+                        }
+                        else
+                        {
+                            OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+                            String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+
+                            if (metadataCollectionId != null)
+                            {
+                                executor.augmentResultFromRepository(resultGUID, metadataCollectionId, metadataCollection);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
 }
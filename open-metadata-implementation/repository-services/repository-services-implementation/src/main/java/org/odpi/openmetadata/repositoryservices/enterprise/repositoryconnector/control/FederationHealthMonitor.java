@@ -0,0 +1,278 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.FederatedQueryContext;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FederationHealthMonitor tracks the health of the remote members of the cohorts that are called by the
+ * federated queries.  There is one instance for each server, owned by the enterprise connector manager, so
+ * the health of a member survives the refresh of its connector and is shared by all the enterprise connectors.
+ *
+ * The federation controls ask the monitor which connectors to call (members that are failing are skipped
+ * and slow members are called last) and report the outcome of each call back to it.  The local repository
+ * is always called first and is not tracked.
+ *
+ * The monitor also owns the worker threads used by the parallel federation control.
+ */
+public class FederationHealthMonitor
+{
+    /**
+     * Number of consecutive failures before a member is suspended.
+     */
+    public static final int  DEFAULT_FAILURE_THRESHOLD  = 3;
+
+    /**
+     * Number of milliseconds that a failing member is suspended for.
+     */
+    public static final long DEFAULT_SUSPENSION_PERIOD  = 30000;
+
+    /**
+     * Average response time (milliseconds) above which a member is called after the others.
+     */
+    public static final long DEFAULT_SLOW_RESPONSE_TIME = 2000;
+
+    /**
+     * Number of threads used to call the members in parallel.
+     */
+    public static final int  DEFAULT_WORKER_THREADS     = 10;
+
+    private static final AtomicInteger monitorCount = new AtomicInteger(0);
+
+    private final AuditLog                            auditLog;
+    private final int                                 failureThreshold;
+    private final long                                suspensionPeriod;
+    private final long                                slowResponseTime;
+    private final Map<String, FederationMemberHealth> members = new ConcurrentHashMap<>();
+    private final ExecutorService                     workerPool;
+
+
+    /**
+     * Constructor using the default settings.
+     *
+     * @param auditLog logging destination
+     */
+    public FederationHealthMonitor(AuditLog auditLog)
+    {
+        this(auditLog, DEFAULT_FAILURE_THRESHOLD, DEFAULT_SUSPENSION_PERIOD, DEFAULT_SLOW_RESPONSE_TIME, DEFAULT_WORKER_THREADS);
+    }
+
+
+    /**
+     * Constructor
+     *
+     * @param auditLog logging destination
+     * @param failureThreshold number of consecutive failures before a member is suspended
+     * @param suspensionPeriod number of milliseconds that a failing member is suspended for
+     * @param slowResponseTime average response time in milliseconds above which a member is called after the others
+     * @param workerThreads number of threads used to call the members in parallel
+     */
+    public FederationHealthMonitor(AuditLog auditLog,
+                                   int      failureThreshold,
+                                   long     suspensionPeriod,
+                                   long     slowResponseTime,
+                                   int      workerThreads)
+    {
+        final int           monitorNumber = monitorCount.incrementAndGet();
+        final AtomicInteger threadCount   = new AtomicInteger(0);
+
+        this.auditLog         = auditLog;
+        this.failureThreshold = failureThreshold;
+        this.suspensionPeriod = suspensionPeriod;
+        this.slowResponseTime = slowResponseTime;
+        this.workerPool       = Executors.newFixedThreadPool(workerThreads, runnable ->
+        {
+            Thread thread = new Thread(runnable, "FederationWorker-" + monitorNumber + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    /**
+     * Return the connectors to call for a federated request.  The local connector stays first.  Suspended members
+     * are removed (and recorded in the caller's context) and the members whose average response time is above
+     * the slow response time are moved to the end of the list.  Otherwise, the order is unchanged.
+     *
+     * @param cohortConnectors connectors to the members of the cohort
+     * @param context context of the calling thread (may be null)
+     * @return connectors to call
+     */
+    public List<OMRSRepositoryConnector> selectConnectors(List<OMRSRepositoryConnector> cohortConnectors,
+                                                          FederatedQueryContext         context)
+    {
+        List<OMRSRepositoryConnector> selectedConnectors = new ArrayList<>();
+        List<OMRSRepositoryConnector> slowConnectors     = new ArrayList<>();
+
+        if (cohortConnectors != null)
+        {
+            long currentTime = System.currentTimeMillis();
+
+            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            {
+                if (cohortConnector != null)
+                {
+                    String metadataCollectionId = this.getTrackedMetadataCollectionId(cohortConnector);
+
+                    if (metadataCollectionId == null)
+                    {
+                        selectedConnectors.add(cohortConnector);
+                    }
+                    else
+                    {
+                        FederationMemberHealth memberHealth = this.getMemberHealth(metadataCollectionId);
+
+                        if (! memberHealth.acquirePermission(currentTime, suspensionPeriod))
+                        {
+                            if (context != null)
+                            {
+                                context.addSkippedMember(metadataCollectionId, FederatedQueryContext.MEMBER_SUSPENDED);
+                            }
+                        }
+                        else if (memberHealth.getAverageLatency() > slowResponseTime)
+                        {
+                            slowConnectors.add(cohortConnector);
+                        }
+                        else
+                        {
+                            selectedConnectors.add(cohortConnector);
+                        }
+                    }
+                }
+            }
+        }
+
+        selectedConnectors.addAll(slowConnectors);
+
+        return selectedConnectors;
+    }
+
+
+    /**
+     * Record the outcome of a call to a cohort member.
+     *
+     * @param cohortConnector connector that was called
+     * @param successful did the call succeed
+     * @param latency time taken in milliseconds
+     * @param methodName calling method
+     */
+    public void recordOutcome(OMRSRepositoryConnector cohortConnector,
+                              boolean                 successful,
+                              long                    latency,
+                              String                  methodName)
+    {
+        String metadataCollectionId = this.getTrackedMetadataCollectionId(cohortConnector);
+
+        if (metadataCollectionId != null)
+        {
+            FederationMemberHealth memberHealth = this.getMemberHealth(metadataCollectionId);
+
+            if (successful)
+            {
+                if ((memberHealth.recordSuccess(latency)) && (auditLog != null))
+                {
+                    auditLog.logMessage(methodName,
+                                        OMRSAuditCode.FEDERATION_MEMBER_RESUMED.getMessageDefinition(metadataCollectionId,
+                                                                                                     Long.toString(latency)));
+                }
+            }
+            else
+            {
+                if ((memberHealth.recordFailure(latency, System.currentTimeMillis(), failureThreshold, suspensionPeriod)) && (auditLog != null))
+                {
+                    auditLog.logMessage(methodName,
+                                        OMRSAuditCode.FEDERATION_MEMBER_SUSPENDED.getMessageDefinition(metadataCollectionId,
+                                                                                                       Long.toString(suspensionPeriod),
+                                                                                                       Integer.toString(failureThreshold)));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the health record for a member, creating it if necessary.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     * @return health record
+     */
+    public FederationMemberHealth getMemberHealth(String metadataCollectionId)
+    {
+        return members.computeIfAbsent(metadataCollectionId, FederationMemberHealth::new);
+    }
+
+
+    /**
+     * Return the health records for all the members that have been called.
+     *
+     * @return list of health records
+     */
+    public List<FederationMemberHealth> getMembers()
+    {
+        return new ArrayList<>(members.values());
+    }
+
+
+    /**
+     * Forget the health of a member.  This is called when the member leaves the cohort, or registers with
+     * new connection details, so that it starts with a clean record.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     */
+    public void resetMember(String metadataCollectionId)
+    {
+        if (metadataCollectionId != null)
+        {
+            members.remove(metadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Return the thread pool used to call the members in parallel.
+     *
+     * @return executor service
+     */
+    ExecutorService getWorkerPool()
+    {
+        return workerPool;
+    }
+
+
+    /**
+     * Stop the worker threads.  This is called when the server is shutting down.
+     */
+    public void shutdown()
+    {
+        workerPool.shutdownNow();
+    }
+
+
+    /**
+     * Return the metadata collection id used to track a connector.  The local repository is not tracked.
+     *
+     * @param cohortConnector connector to a member of the cohort
+     * @return metadata collection id or null if the connector is not tracked
+     */
+    private String getTrackedMetadataCollectionId(OMRSRepositoryConnector cohortConnector)
+    {
+        if ((cohortConnector == null) || (cohortConnector instanceof LocalOMRSRepositoryConnector))
+        {
+            return null;
+        }
+
+        return cohortConnector.getMetadataCollectionId();
+    }
+}
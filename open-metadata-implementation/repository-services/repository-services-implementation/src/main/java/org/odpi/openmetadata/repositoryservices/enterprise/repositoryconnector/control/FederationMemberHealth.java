@@ -0,0 +1,249 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+/**
+ * FederationMemberHealth records how well a single cohort member is responding to federated queries.
+ * It acts as a circuit breaker.  The circuit is closed while the member is responding.  After a number of
+ * consecutive failures it opens and the member is skipped until the suspension period has passed.
+ * Then a single trial request is allowed through (half-open).  If the trial succeeds the circuit closes,
+ * otherwise it opens again.
+ *
+ * It also keeps a moving average of the member's response time so that slow members can be called last.
+ */
+public class FederationMemberHealth
+{
+    /**
+     * CircuitState describes whether requests are sent to the member.
+     */
+    public enum CircuitState
+    {
+        /**
+         * The member is responding and requests are sent to it.
+         */
+        CLOSED,
+
+        /**
+         * The member is failing and requests are skipped.
+         */
+        OPEN,
+
+        /**
+         * The suspension period is over and a single trial request is being sent to the member.
+         */
+        HALF_OPEN
+    }
+
+    /*
+     * Weight given to the latest response time in the moving average.
+     */
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    private final String metadataCollectionId;
+
+    private CircuitState circuitState        = CircuitState.CLOSED;
+    private int          consecutiveFailures = 0;
+    private long         suspendedUntil      = 0;
+    private double       averageLatency      = 0;
+    private long         requestCount        = 0;
+    private long         failureCount        = 0;
+
+
+    /**
+     * Constructor
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     */
+    public FederationMemberHealth(String metadataCollectionId)
+    {
+        this.metadataCollectionId = metadataCollectionId;
+    }
+
+
+    /**
+     * Return the unique identifier of the member's metadata collection.
+     *
+     * @return string guid
+     */
+    public String getMetadataCollectionId()
+    {
+        return metadataCollectionId;
+    }
+
+
+    /**
+     * Decide whether a request can be sent to the member now.  If the member is suspended and the
+     * suspension period has passed, this call moves the circuit to half-open and returns true
+     * so that this caller issues the trial request.  If the outcome of a trial request is not reported
+     * within the suspension period, another trial request is allowed.
+     *
+     * @param currentTime current time in milliseconds
+     * @param suspensionPeriod number of milliseconds that the circuit stays open
+     * @return boolean flag - true means send the request
+     */
+    public synchronized boolean acquirePermission(long currentTime,
+                                                  long suspensionPeriod)
+    {
+        if (circuitState == CircuitState.CLOSED)
+        {
+            return true;
+        }
+
+        if (currentTime >= suspendedUntil)
+        {
+            circuitState   = CircuitState.HALF_OPEN;
+            suspendedUntil = currentTime + suspensionPeriod;
+
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Record a successful request.
+     *
+     * @param latency response time in milliseconds
+     * @return boolean flag - true means this request closed a circuit that was open
+     */
+    public synchronized boolean recordSuccess(long latency)
+    {
+        boolean resumed = (circuitState != CircuitState.CLOSED);
+
+        this.updateLatency(latency);
+
+        circuitState        = CircuitState.CLOSED;
+        consecutiveFailures = 0;
+
+        return resumed;
+    }
+
+
+    /**
+     * Record a failed or timed out request.
+     *
+     * @param latency time in milliseconds before the failure was detected
+     * @param currentTime current time in milliseconds
+     * @param failureThreshold number of consecutive failures that open the circuit
+     * @param suspensionPeriod number of milliseconds that the circuit stays open
+     * @return boolean flag - true means this failure opened the circuit
+     */
+    public synchronized boolean recordFailure(long latency,
+                                              long currentTime,
+                                              int  failureThreshold,
+                                              long suspensionPeriod)
+    {
+        this.updateLatency(latency);
+
+        failureCount++;
+        consecutiveFailures++;
+
+        if ((circuitState == CircuitState.HALF_OPEN) ||
+            ((circuitState == CircuitState.CLOSED) && (consecutiveFailures >= failureThreshold)))
+        {
+            boolean newlyOpened = (circuitState == CircuitState.CLOSED);
+
+            circuitState   = CircuitState.OPEN;
+            suspendedUntil = currentTime + suspensionPeriod;
+
+            return newlyOpened;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Add the latest response time to the moving average.
+     *
+     * @param latency response time in milliseconds
+     */
+    private void updateLatency(long latency)
+    {
+        requestCount++;
+
+        if (requestCount == 1)
+        {
+            averageLatency = latency;
+        }
+        else
+        {
+            averageLatency = (LATENCY_WEIGHT * latency) + ((1 - LATENCY_WEIGHT) * averageLatency);
+        }
+    }
+
+
+    /**
+     * Return the current state of the circuit.
+     *
+     * @return enum
+     */
+    public synchronized CircuitState getCircuitState()
+    {
+        return circuitState;
+    }
+
+
+    /**
+     * Return the number of failures since the last successful request.
+     *
+     * @return count
+     */
+    public synchronized int getConsecutiveFailures()
+    {
+        return consecutiveFailures;
+    }
+
+
+    /**
+     * Return the moving average of the response time.
+     *
+     * @return milliseconds
+     */
+    public synchronized long getAverageLatency()
+    {
+        return Math.round(averageLatency);
+    }
+
+
+    /**
+     * Return the total number of requests recorded for this member.
+     *
+     * @return count
+     */
+    public synchronized long getRequestCount()
+    {
+        return requestCount;
+    }
+
+
+    /**
+     * Return the total number of failed requests recorded for this member.
+     *
+     * @return count
+     */
+    public synchronized long getFailureCount()
+    {
+        return failureCount;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public synchronized String toString()
+    {
+        return "FederationMemberHealth{" +
+                "metadataCollectionId='" + metadataCollectionId + '\'' +
+                ", circuitState=" + circuitState +
+                ", consecutiveFailures=" + consecutiveFailures +
+                ", averageLatency=" + averageLatency +
+                ", requestCount=" + requestCount +
+                ", failureCount=" + failureCount +
+                '}';
+    }
+}
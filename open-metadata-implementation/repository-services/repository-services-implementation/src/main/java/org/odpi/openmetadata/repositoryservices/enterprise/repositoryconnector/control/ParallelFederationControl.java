@@ -3,18 +3,41 @@
 package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.FederatedQueryContext;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.CloneableRepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.http.HttpHeadersThreadLocal;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * ParallelFederationControl uses multiple worker threads to perform the calls to different systems in parallel.
+ * The executor is cloned for each member (the clones share the executor's accumulator) and the calls are queued
+ * to the worker threads of the health monitor.  Without a response time limit, the calling thread issues any request
+ * that no worker thread has started by the time the caller is ready to wait for it, so a busy pool never makes a
+ * federated query slower than calling the members one after another.
+ * If the caller's FederatedQueryContext sets a response time limit, the members that have not responded when the
+ * limit is reached are skipped and the results gathered so far are returned.  The accumulator rejects the skipped
+ * members so any results they supply later are discarded.
+ * The response time of a member is measured from when its request starts, and a request that is still waiting for a
+ * worker thread when it is skipped is not reported to the health monitor, so a busy pool does not count against a member.
+ * The HTTP headers of the calling thread are passed to the worker threads so they are propagated on remote calls.
+ *
+ * Executors that can not be cloned, and requests made without a health monitor, are run sequentially.
  */
 public class ParallelFederationControl extends FederationControlBase
 {
-    // todo at this point the parallel federation control uses the sequential federation control since the worker threads are not implemented.
     private final SequentialFederationControl sequentialFederationControl;
 
     /**
@@ -30,9 +53,28 @@ public class ParallelFederationControl extends FederationControlBase
                                      AuditLog                      auditLog,
                                      String                        methodName)
     {
-        super(userId, cohortConnectors, auditLog, methodName);
+        this(userId, cohortConnectors, null, auditLog, methodName);
+    }
+
+
+    /**
+     * Constructor for a federated query that uses the health of the cohort members
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param healthMonitor health of the cohort members and the worker threads (may be null)
+     * @param auditLog logging destination
+     * @param methodName calling method
+     */
+    public ParallelFederationControl(String                        userId,
+                                     List<OMRSRepositoryConnector> cohortConnectors,
+                                     FederationHealthMonitor       healthMonitor,
+                                     AuditLog                      auditLog,
+                                     String                        methodName)
+    {
+        super(userId, cohortConnectors, healthMonitor, auditLog, methodName);
 
-        sequentialFederationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        sequentialFederationControl = new SequentialFederationControl(userId, cohortConnectors, healthMonitor, auditLog, methodName);
     }
 
 
@@ -45,6 +87,292 @@ public class ParallelFederationControl extends FederationControlBase
      */
     public void executeCommand(RepositoryExecutor executor) throws RepositoryErrorException
     {
-        sequentialFederationControl.executeCommand(executor);
+        if ((super.cohortConnectors == null) || (healthMonitor == null) || (! (executor instanceof CloneableRepositoryExecutor)))
+        {
+            sequentialFederationControl.executeCommand(executor);
+            return;
+        }
+
+        FederatedQueryContext         context          = FederatedQueryContext.getCurrentContext();
+        List<OMRSRepositoryConnector> connectorsToCall = this.getConnectorsToCall(context);
+        long                          deadline         = this.getDeadline(context, System.currentTimeMillis());
+        List<String>                  skippedMembers   = new ArrayList<>();
+        List<MemberRequest>           memberRequests   = new ArrayList<>();
+
+        /*
+         * The original executor is used for the first member and clones for the others.
+         * This keeps the count of executors registered with the accumulator equal to the number of members called.
+         */
+        RepositoryExecutor memberExecutor = executor;
+
+        try
+        {
+            for (OMRSRepositoryConnector cohortConnector : connectorsToCall)
+            {
+                if (cohortConnector != null)
+                {
+                    if (memberExecutor == null)
+                    {
+                        memberExecutor = (RepositoryExecutor)((CloneableRepositoryExecutor)executor).getClone();
+                    }
+
+                    MemberRequest memberRequest = new MemberRequest(cohortConnector, memberExecutor);
+
+                    memberRequest.future = healthMonitor.getWorkerPool().submit(memberRequest::issueQueuedRequest);
+                    memberRequests.add(memberRequest);
+
+                    memberExecutor = null;
+                }
+            }
+        }
+        catch (RejectedExecutionException error)
+        {
+            /*
+             * The worker threads have been shut down - the server is stopping.
+             */
+            this.cancelRequests(memberRequests);
+            sequentialFederationControl.executeCommand(executor);
+            return;
+        }
+
+        RepositoryErrorException repositoryErrorException = null;
+
+        try
+        {
+            for (MemberRequest memberRequest : memberRequests)
+            {
+                try
+                {
+                    if (deadline > 0)
+                    {
+                        memberRequest.future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                    }
+                    else if (memberRequest.claim())
+                    {
+                        memberRequest.issueRequest();
+                    }
+                    else
+                    {
+                        memberRequest.future.get();
+                    }
+                }
+                catch (RepositoryErrorException error)
+                {
+                    repositoryErrorException = error;
+                }
+                catch (TimeoutException error)
+                {
+                    if (memberRequest.timeout())
+                    {
+                        this.skipMember(memberRequest.cohortConnector, context, skippedMembers);
+                    }
+                }
+                catch (ExecutionException error)
+                {
+                    if (error.getCause() instanceof RepositoryErrorException)
+                    {
+                        repositoryErrorException = (RepositoryErrorException)error.getCause();
+                    }
+                    else if (error.getCause() instanceof RuntimeException)
+                    {
+                        throw (RuntimeException)error.getCause();
+                    }
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            for (MemberRequest memberRequest : memberRequests)
+            {
+                if ((! memberRequest.future.isDone()) && (memberRequest.timeout()))
+                {
+                    this.skipMember(memberRequest.cohortConnector, context, skippedMembers);
+                }
+            }
+        }
+        finally
+        {
+            this.cancelRequests(memberRequests);
+        }
+
+        if (repositoryErrorException != null)
+        {
+            throw repositoryErrorException;
+        }
+
+        /*
+         * All repositories have been called.
+         * The executor may choose to augment each result element by making another sweep of the repositories
+         * that responded.
+         */
+        List<OMRSRepositoryConnector> respondingConnectors = new ArrayList<>();
+
+        for (MemberRequest memberRequest : memberRequests)
+        {
+            if (! skippedMembers.contains(memberRequest.cohortConnector.getMetadataCollectionId()))
+            {
+                respondingConnectors.add(memberRequest.cohortConnector);
+            }
+        }
+
+        this.augmentResults(executor, respondingConnectors, context, deadline, skippedMembers);
+
+        this.reportSkippedMembers(context, skippedMembers);
+    }
+
+
+    /**
+     * Cancel any requests that are still running.  Their results are not wanted.
+     *
+     * @param memberRequests requests issued to the members
+     */
+    private void cancelRequests(List<MemberRequest> memberRequests)
+    {
+        for (MemberRequest memberRequest : memberRequests)
+        {
+            if ((memberRequest.future != null) && (! memberRequest.future.isDone()))
+            {
+                memberRequest.future.cancel(true);
+            }
+        }
+    }
+
+
+    /**
+     * MemberRequest manages the call to a single member of the cohort.  The request is issued once, either by a
+     * worker thread or by the calling thread, whichever claims it first.  The outcome is reported to the
+     * health monitor at most once - either when the call completes or when the response time limit is reached.
+     */
+    private class MemberRequest
+    {
+        private final OMRSRepositoryConnector cohortConnector;
+        private final RepositoryExecutor      memberExecutor;
+        private final AtomicBoolean           claimed         = new AtomicBoolean(false);
+        private final AtomicBoolean           outcomeRecorded = new AtomicBoolean(false);
+        private final Map<String, String>     callerHeaders   = HttpHeadersThreadLocal.getHeadersThreadLocal().get();
+
+        private volatile long    startTime = 0L;
+        private Future<Boolean>  future    = null;
+
+
+        /**
+         * Constructor
+         *
+         * @param cohortConnector connector to the member
+         * @param memberExecutor executor to issue the request
+         */
+        MemberRequest(OMRSRepositoryConnector cohortConnector,
+                      RepositoryExecutor      memberExecutor)
+        {
+            this.cohortConnector = cohortConnector;
+            this.memberExecutor  = memberExecutor;
+        }
+
+
+        /**
+         * Claim the request so that it is issued by the calling thread.  This fails if the request has already started.
+         *
+         * @return boolean flag - true means the request has been claimed and has started
+         */
+        boolean claim()
+        {
+            if (claimed.compareAndSet(false, true))
+            {
+                startTime = System.currentTimeMillis();
+                return true;
+            }
+
+            return false;
+        }
+
+
+        /**
+         * Issue the request from a worker thread, with the HTTP headers of the calling thread.  Nothing is done if
+         * the calling thread has already claimed the request.
+         *
+         * @return boolean flag - true means the member responded successfully
+         * @throws RepositoryErrorException the member's metadata collection is not set up
+         */
+        boolean issueQueuedRequest() throws RepositoryErrorException
+        {
+            if (! this.claim())
+            {
+                return false;
+            }
+
+            HttpHeadersThreadLocal.getHeadersThreadLocal().set(callerHeaders);
+
+            try
+            {
+                return this.issueRequest();
+            }
+            finally
+            {
+                HttpHeadersThreadLocal.getHeadersThreadLocal().remove();
+            }
+        }
+
+
+        /**
+         * Issue the request to the member once it has been claimed.
+         *
+         * @return boolean flag - true means the member responded successfully
+         * @throws RepositoryErrorException the member's metadata collection is not set up
+         */
+        boolean issueRequest() throws RepositoryErrorException
+        {
+            boolean successful = false;
+
+            try
+            {
+                OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+                String metadataCollectionId = validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+
+                if (metadataCollectionId != null)
+                {
+                    memberExecutor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+                    successful = ! memberExecutor.isRepositoryFailed(metadataCollectionId);
+                }
+            }
+            finally
+            {
+                if (outcomeRecorded.compareAndSet(false, true))
+                {
+                    recordOutcome(cohortConnector, successful, startTime);
+                }
+            }
+
+            return successful;
+        }
+
+
+        /**
+         * The member did not respond within the response time limit.  Its response is rejected by the accumulator
+         * so that results it supplies later are not mixed into the results returned to the caller.
+         * The member may have supplied its response just as the limit was reached, in which case it is kept.
+         * A request that was still waiting for a worker thread is never issued, and is not reported to the
+         * health monitor because the member was not called.
+         *
+         * @return boolean flag - true means the member's response is rejected and the member is skipped
+         */
+        boolean timeout()
+        {
+            if (claimed.compareAndSet(false, true))
+            {
+                outcomeRecorded.set(true);
+            }
+
+            boolean rejected = ((CloneableRepositoryExecutor)memberExecutor).rejectRepository(cohortConnector.getMetadataCollectionId());
+
+            if (outcomeRecorded.compareAndSet(false, true))
+            {
+                recordOutcome(cohortConnector, ! rejected, startTime);
+            }
+
+            return rejected;
+        }
     }
 }
@@ -4,15 +4,18 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.FederatedQueryContext;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * SequentialFederationControl provides a simple sequential federation control loop to
- * manage a single federated query.
+ * manage a single federated query.  The members are called one after another until the executor has the
+ * results it needs, or the response time limit set in the caller's FederatedQueryContext is reached.
  */
 public class SequentialFederationControl extends FederationControlBase
 {
@@ -33,6 +36,25 @@ public class SequentialFederationControl extends FederationControlBase
     }
 
 
+    /**
+     * Constructor for a sequential federated query controller that uses the health of the cohort members
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param healthMonitor health of the cohort members (may be null)
+     * @param auditLog logging destination
+     * @param methodName calling method
+     */
+    public SequentialFederationControl(String                        userId,
+                                       List<OMRSRepositoryConnector> cohortConnectors,
+                                       FederationHealthMonitor       healthMonitor,
+                                       AuditLog                      auditLog,
+                                       String                        methodName)
+    {
+        super(userId, cohortConnectors, healthMonitor, auditLog, methodName);
+    }
+
+
     /**
      * Issue the federated command.
      *
@@ -44,28 +66,48 @@ public class SequentialFederationControl extends FederationControlBase
     {
         if (super.cohortConnectors != null)
         {
+            FederatedQueryContext         context          = FederatedQueryContext.getCurrentContext();
+            List<OMRSRepositoryConnector> connectorsToCall = this.getConnectorsToCall(context);
+            long                          deadline         = this.getDeadline(context, System.currentTimeMillis());
+            List<String>                  skippedMembers   = new ArrayList<>();
+            boolean                       requestComplete  = false;
+
             /*
              * This is the first sweep of the repositories - used to gather the results.
              */
-            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            for (OMRSRepositoryConnector cohortConnector : connectorsToCall)
             {
-                if (cohortConnector != null)
+                if ((cohortConnector != null) && (! requestComplete))
                 {
-                    OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+                    if (this.isDeadlinePassed(deadline))
+                    {
+                        this.skipMember(cohortConnector, context, skippedMembers);
+                        continue;
+                    }
 
-                    String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+                    long    startTime  = System.currentTimeMillis();
+                    boolean successful = false;
 
-                    if (metadataCollectionId != null)
+                    try
                     {
-                        if (executor.issueRequestToRepository(metadataCollectionId, metadataCollection))
+                        OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+                        String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+
+                        if (metadataCollectionId != null)
                         {
                             /*
                              * The executor returns true if it has all the results it needs.
                              * If it returns false it means it needs more info from another repository.
                              */
-                            break;
+                            requestComplete = executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+                            successful = ! executor.isRepositoryFailed(metadataCollectionId);
                         }
                     }
+                    finally
+                    {
+                        this.recordOutcome(cohortConnector, successful, startTime);
+                    }
                 }
             }
 
@@ -73,28 +115,9 @@ public class SequentialFederationControl extends FederationControlBase
              * All repositories have been called.
              * The executor may choose to augment each result element by making another sweep of the repositories.
              */
-            List<String> resultGUIDs = executor.getResultsForAugmentation();
-
-            if (resultGUIDs != null)
-            {
-                for (String resultGUID : resultGUIDs)
-                {
-                    for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-                    {
-                        if (cohortConnector != null)
-                        {
-                            OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
-
-                            String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+            this.augmentResults(executor, connectorsToCall, context, deadline, skippedMembers);
 
-                            if (metadataCollectionId != null)
-                            {
-                                executor.augmentResultFromRepository(resultGUID, metadataCollectionId, metadataCollection);
-                            }
-                        }
-                    }
-                }
-            }
+            this.reportSkippedMembers(context, skippedMembers);
         }
     }
 }
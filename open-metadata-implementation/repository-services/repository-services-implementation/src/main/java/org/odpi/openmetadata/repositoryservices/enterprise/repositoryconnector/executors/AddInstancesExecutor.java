@@ -0,0 +1,172 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityBatchItem;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceBatchResult;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.RelationshipBatchItem;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MaintenanceAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.List;
+
+/**
+ * AddInstancesExecutor provides the executor for the addEntities and addRelationships methods.
+ * The whole batch is passed to the first repository that accepts it so that the repository
+ * can process the batch in the most efficient way.
+ */
+public class AddInstancesExecutor extends RepositoryExecutorBase
+{
+    private final MaintenanceAccumulator accumulator;
+
+    private List<EntityBatchItem>       newEntities      = null;
+    private List<RelationshipBatchItem> newRelationships = null;
+    private List<InstanceBatchResult>   results          = null;
+
+
+    /**
+     * Constructor for a batch of entities.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities list of descriptions of the entities to create.
+     * @param auditLog logging destination
+     * @param methodName calling method
+     */
+    public AddInstancesExecutor(String                userId,
+                                List<EntityBatchItem> newEntities,
+                                AuditLog              auditLog,
+                                String                methodName)
+    {
+        super(userId, methodName);
+
+        this.newEntities = newEntities;
+        this.accumulator = new MaintenanceAccumulator(auditLog);
+    }
+
+
+    /**
+     * Constructor for a batch of relationships.
+     *
+     * @param newRelationships list of descriptions of the relationships to create.
+     * @param userId unique identifier for requesting user.
+     * @param auditLog logging destination
+     * @param methodName calling method
+     */
+    public AddInstancesExecutor(List<RelationshipBatchItem> newRelationships,
+                                String                      userId,
+                                AuditLog                    auditLog,
+                                String                      methodName)
+    {
+        super(userId, methodName);
+
+        this.newRelationships = newRelationships;
+        this.accumulator = new MaintenanceAccumulator(auditLog);
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     * Create requests occur in the first repository that successfully creates at least one of the instances.
+     * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+     * there are no positive results from any repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    @Override
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        boolean result = false;
+
+        try
+        {
+            /*
+             * Issue the request and return if any item succeeds.  Otherwise the results are kept in
+             * case no other repository does any better.
+             */
+            List<InstanceBatchResult> repositoryResults;
+
+            if (newEntities != null)
+            {
+                repositoryResults = metadataCollection.addEntities(userId, newEntities);
+            }
+            else
+            {
+                repositoryResults = metadataCollection.addRelationships(userId, newRelationships);
+            }
+
+            if (repositoryResults != null)
+            {
+                results = repositoryResults;
+
+                for (InstanceBatchResult itemResult : repositoryResults)
+                {
+                    if ((itemResult != null) && (itemResult.getExceptionClassName() == null))
+                    {
+                        result = true;
+                        break;
+                    }
+                }
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (Exception error)
+        {
+            accumulator.captureGenericException(methodName,
+                                                metadataCollectionId,
+                                                error);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Return the result of the execution.  Hopefully this is a result - but may be an exception
+     *
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the list of items is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> getResults() throws InvalidParameterException,
+                                                         RepositoryErrorException,
+                                                         FunctionNotSupportedException,
+                                                         UserNotAuthorizedException
+    {
+        if (results != null)
+        {
+            return results;
+        }
+
+        accumulator.throwCapturedRepositoryErrorException();
+        accumulator.throwCapturedUserNotAuthorizedException();
+        accumulator.throwCapturedGenericException(super.methodName);
+        accumulator.throwCapturedInvalidParameterException();
+        accumulator.throwCapturedFunctionNotSupportedException();
+
+        return null;
+    }
+}
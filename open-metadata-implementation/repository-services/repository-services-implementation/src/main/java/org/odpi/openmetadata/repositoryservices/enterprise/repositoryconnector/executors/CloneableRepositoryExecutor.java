@@ -14,4 +14,14 @@ public interface CloneableRepositoryExecutor
      * @return clone of this executor
      */
     CloneableRepositoryExecutor getClone();
+
+
+    /**
+     * Stop accepting the response from a repository that did not respond in time.  The clones share the
+     * accumulator so the response is rejected for all of them.
+     *
+     * @param metadataCollectionId identifier for the metadata collection
+     * @return boolean flag - true means the response is rejected; false means the repository has already responded
+     */
+    boolean rejectRepository(String metadataCollectionId);
 }
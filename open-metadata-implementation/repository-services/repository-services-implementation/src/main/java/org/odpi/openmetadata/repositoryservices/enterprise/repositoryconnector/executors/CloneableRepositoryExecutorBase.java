@@ -11,12 +11,51 @@ import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.a
  */
 abstract class CloneableRepositoryExecutorBase extends RepositoryExecutorBase implements CloneableRepositoryExecutor
 {
+    private final QueryAccumulatorBase queryAccumulator;
+
+
+    /**
+     * Constructor registers the executor with the shared accumulator.
+     *
+     * @param userId calling user
+     * @param methodName calling method
+     * @param accumulator location for results
+     */
     CloneableRepositoryExecutorBase(String               userId,
                                     String               methodName,
                                     QueryAccumulatorBase accumulator)
     {
         super(userId, methodName);
 
+        this.queryAccumulator = accumulator;
+
         accumulator.registerExecutor();
     }
+
+
+    /**
+     * Return whether the request to the repository failed in a way that suggests the repository is not
+     * working properly.
+     *
+     * @param metadataCollectionId identifier for the metadata collection
+     * @return boolean flag - true means the repository failed
+     */
+    @Override
+    public boolean isRepositoryFailed(String metadataCollectionId)
+    {
+        return queryAccumulator.isRepositoryFailed(metadataCollectionId);
+    }
+
+
+    /**
+     * Stop accepting the response from a repository that did not respond in time.
+     *
+     * @param metadataCollectionId identifier for the metadata collection
+     * @return boolean flag - true means the response is rejected; false means the repository has already responded
+     */
+    @Override
+    public boolean rejectRepository(String metadataCollectionId)
+    {
+        return queryAccumulator.rejectRepository(metadataCollectionId);
+    }
 }
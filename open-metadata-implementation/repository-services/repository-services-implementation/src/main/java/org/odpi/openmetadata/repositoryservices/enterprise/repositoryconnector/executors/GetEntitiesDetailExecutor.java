@@ -0,0 +1,208 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntitiesAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GetEntitiesDetailExecutor provides the executor for the getEntitiesDetail method.  The whole list of guids
+ * is passed to each repository so that each repository is called once, rather than once per entity.
+ * The accumulator picks the latest version of each entity and merges the classifications from each repository.
+ */
+public class GetEntitiesDetailExecutor extends RepositoryExecutorBase
+{
+    private final List<String>        guids;
+    private final EntitiesAccumulator accumulator;
+
+
+    /**
+     * Constructor takes the parameters for the request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @param localMetadataCollectionId metadata collection id for the local repository - or null if none
+     * @param auditLog logging destination
+     * @param repositoryValidator validator used in the accumulator
+     * @param methodName calling method
+     */
+    public GetEntitiesDetailExecutor(String                  userId,
+                                     List<String>            guids,
+                                     String                  localMetadataCollectionId,
+                                     AuditLog                auditLog,
+                                     OMRSRepositoryValidator repositoryValidator,
+                                     String                  methodName)
+    {
+        super(userId, methodName);
+
+        this.guids       = guids;
+        this.accumulator = new EntitiesAccumulator(localMetadataCollectionId, auditLog, repositoryValidator);
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.  Every repository is called so that the
+     * classifications stored in each repository are included in the results.
+     * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+     * there are no positive results from any repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    @Override
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        try
+        {
+            /*
+             * Issue the request
+             */
+            List<EntityDetail> results = metadataCollection.getEntitiesDetail(userId, guids);
+
+            accumulator.addEntities(results, metadataCollectionId);
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (Exception error)
+        {
+            accumulator.captureGenericException(methodName, metadataCollectionId, error);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the results that need further augmentation.
+     *
+     * @return null (if no augmentation of results is required) or a list containing the guids of the results.
+     */
+    @Override
+    public List<String> getResultsForAugmentation()
+    {
+        return accumulator.getResultsForAugmentation();
+    }
+
+
+    /**
+     * Perform the required action to augment a result.  The home classifications are retrieved from
+     * repositories that did not return the entity.
+     *
+     * @param resultGUID unique identifier of the result to augment
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     */
+    @Override
+    public void augmentResultFromRepository(String                 resultGUID,
+                                            String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        List<String> contributingMetadataCollections = accumulator.getContributingMetadataCollections(resultGUID);
+
+        if ((contributingMetadataCollections == null) || (! contributingMetadataCollections.contains(metadataCollectionId)))
+        {
+            try
+            {
+                List<Classification> homeClassifications = metadataCollection.getHomeClassifications(userId, resultGUID);
+
+                accumulator.saveClassifications(resultGUID, homeClassifications);
+            }
+            catch (Exception error)
+            {
+                // ignore exceptions because the returned exceptions come from the retrieval of the entities.
+            }
+        }
+    }
+
+
+    /**
+     * Return the accumulated entities in the order of the requested guids.  Entities that are not known
+     * or where the latest version is deleted are missing from the results.
+     *
+     * @param repositoryConnector enterprise connector
+     * @param metadataCollection enterprise metadata collection
+     * @return list of entities or null if none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntitiesDetail(EnterpriseOMRSRepositoryConnector repositoryConnector,
+                                                OMRSMetadataCollection            metadataCollection) throws InvalidParameterException,
+                                                                                                             RepositoryErrorException,
+                                                                                                             UserNotAuthorizedException
+    {
+        if (accumulator.resultsReturned())
+        {
+            List<EntityDetail> accumulatedEntities = accumulator.getResults(repositoryConnector, metadataCollection);
+
+            if (accumulatedEntities == null)
+            {
+                return null;
+            }
+
+            Map<String, EntityDetail> entityMap = new HashMap<>();
+
+            for (EntityDetail entity : accumulatedEntities)
+            {
+                entityMap.put(entity.getGUID(), entity);
+            }
+
+            List<EntityDetail> results = new ArrayList<>();
+
+            for (String guid : guids)
+            {
+                EntityDetail entity = entityMap.remove(guid);
+
+                /*
+                 * A repository with a later version of the entity may have seen it deleted even if others have not.
+                 */
+                if ((entity != null) && (entity.getStatus() != InstanceStatus.DELETED))
+                {
+                    results.add(entity);
+                }
+            }
+
+            if (results.isEmpty())
+            {
+                return null;
+            }
+
+            return results;
+        }
+
+        accumulator.throwCapturedRepositoryErrorException();
+        accumulator.throwCapturedUserNotAuthorizedException();
+        accumulator.throwCapturedGenericException(methodName);
+        accumulator.throwCapturedInvalidParameterException();
+
+        return null;
+    }
+}
@@ -43,4 +43,17 @@ public interface RepositoryExecutor
                                              OMRSMetadataCollection metadataCollection)
     {
     }
+
+
+    /**
+     * Return whether the request to the repository failed in a way that suggests the repository is not
+     * working properly.  This is used to track the health of the members of the cohort.
+     *
+     * @param metadataCollectionId identifier for the metadata collection
+     * @return boolean flag - true means the repository failed
+     */
+    default boolean isRepositoryFailed(String metadataCollectionId)
+    {
+        return false;
+    }
 }
@@ -9,6 +9,10 @@ import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.events.*;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.properties.InboundEventStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * <p>
@@ -21,6 +25,11 @@ import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicLi
  * The role of the OMRSEventListener is to decide which events to process.  This is controlled by the
  * synchronization rule passed on the constructor.
  * </p>
+ * <p>
+ * Instance events are passed to the instance event processor on the thread that received them unless a number
+ * of inbound instance event workers is set.  Then they are applied in parallel, partitioned by instance, by an
+ * OMRSInboundInstanceEventApplier.
+ * </p>
  */
 public class OMRSEventListener implements OMRSTopicListener
 {
@@ -37,6 +46,10 @@ public class OMRSEventListener implements OMRSTopicListener
     private final OMRSTypeDefEventProcessorInterface  typeDefEventProcessor;
     private final OMRSInstanceEventProcessorInterface instanceEventProcessor;
 
+    private volatile OMRSInboundInstanceEventApplier inboundInstanceEventApplier = null;
+
+    private static final long disconnectWait = 30000L;
+
     private static final Logger log = LoggerFactory.getLogger(OMRSEventListener.class);
 
 
@@ -76,6 +89,55 @@ public class OMRSEventListener implements OMRSTopicListener
     }
 
 
+    /**
+     * Set up the number of threads used to apply the instance events received from the cohort.  Values less
+     * than two mean the events are applied on the thread that received them.
+     *
+     * @param inboundInstanceEventWorkers number of worker threads
+     */
+    public synchronized void setInboundInstanceEventWorkers(int inboundInstanceEventWorkers)
+    {
+        if ((inboundInstanceEventApplier == null) && (inboundInstanceEventWorkers > 1) && (instanceEventProcessor != null))
+        {
+            inboundInstanceEventApplier = new OMRSInboundInstanceEventApplier(cohortName,
+                                                                              inboundInstanceEventWorkers,
+                                                                              this::sendInstanceEvent);
+        }
+    }
+
+
+    /**
+     * Return the statistics for the instance events received from each member of the cohort.  These are only
+     * gathered when the events are applied in parallel.
+     *
+     * @return list of statistics
+     */
+    public List<InboundEventStatistics> getInboundEventStatistics()
+    {
+        OMRSInboundInstanceEventApplier applier = inboundInstanceEventApplier;
+
+        if (applier == null)
+        {
+            return new ArrayList<>();
+        }
+
+        return applier.getStatistics();
+    }
+
+
+    /**
+     * Apply any queued instance events and stop the worker threads.
+     */
+    public synchronized void disconnect()
+    {
+        if (inboundInstanceEventApplier != null)
+        {
+            inboundInstanceEventApplier.disconnect(disconnectWait);
+            inboundInstanceEventApplier = null;
+        }
+    }
+
+
     /**
      * The event contains a registry event.  It needs to be further unpacked and passed to the appropriate
      * registry event processor (OMRSCohortRegistry).
@@ -225,6 +287,16 @@ public class OMRSEventListener implements OMRSTopicListener
         }
         else
         {
+            OMRSInboundInstanceEventApplier applier = inboundInstanceEventApplier;
+
+            if (applier != null)
+            {
+                /*
+                 * Instances queued before this event must be applied with the type definitions they were sent with.
+                 */
+                applier.waitForAppliedEvents();
+            }
+
             typeDefEventProcessor.sendTypeDefEvent(cohortName, typeDefEvent);
         }
     }
@@ -258,10 +330,30 @@ public class OMRSEventListener implements OMRSTopicListener
 
             if (verifiedEvent != null)
             {
-                instanceEventProcessor.sendInstanceEvent(cohortName, instanceEvent);
+                OMRSInboundInstanceEventApplier applier = inboundInstanceEventApplier;
+
+                if (applier != null)
+                {
+                    applier.applyInstanceEvent(instanceEvent);
+                }
+                else
+                {
+                    this.sendInstanceEvent(instanceEvent);
+                }
             }
         }
     }
+
+
+    /**
+     * Pass a verified instance event to the instance event processor.
+     *
+     * @param instanceEvent event to deliver
+     */
+    private void sendInstanceEvent(OMRSInstanceEvent  instanceEvent)
+    {
+        instanceEventProcessor.sendInstanceEvent(cohortName, instanceEvent);
+    }
 }
 
 
@@ -0,0 +1,583 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.InternalOMRSEventProcessingContext;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.future.CompletedFuture;
+import org.odpi.openmetadata.repositoryservices.events.future.DelegatableFuture;
+import org.odpi.openmetadata.repositoryservices.properties.InboundEventStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+
+/**
+ * OMRSInboundInstanceEventApplier applies the instance events received from a cohort on a pool of worker threads
+ * so that a member republishing its content does not leave the local repository hours behind.
+ * <p>
+ * Each worker has its own queue and the events are partitioned across the workers by the unique identifier of the
+ * entity they describe.  This means the changes to an entity are applied in the order they are received, while
+ * changes to different entities are applied in parallel.  A relationship event is queued for the worker that owns
+ * both of the relationship's entities so that it is applied in order with the changes to them.  Events that affect
+ * more than one worker's entities (batch events, re-identify events, error events and relationships whose entities
+ * belong to different workers) wait for all earlier events to be applied and are then applied on the receiving
+ * thread.  The same barrier is used before a TypeDef event is processed so instances are never applied with a
+ * back-level type.
+ * <p>
+ * The worker queues are bounded.  When a worker's queue is full, the receiving thread waits for space so that
+ * a member republishing its content slows down the event bus rather than filling the heap.
+ * <p>
+ * The applier keeps statistics about the events from each member of the cohort (see InboundEventStatistics) so
+ * that the backlog and lag can be monitored.  Each event is registered with the InternalOMRSEventProcessingContext
+ * so the event bus connector does not treat it as consumed until it has been applied.
+ */
+class OMRSInboundInstanceEventApplier
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSInboundInstanceEventApplier.class);
+
+    private static final String unknownSource = "<Unknown>";
+
+    /*
+     * Number of events that can be queued for each worker before the receiving thread waits.
+     */
+    static final int DEFAULT_WORKER_QUEUE_SIZE = 1000;
+
+    /*
+     * Value returned by getWorkerNumber for an event that is applied on the receiving thread.
+     */
+    static final int NO_WORKER = -1;
+
+    private static final Set<OMRSInstanceEventType> relationshipEventTypes = EnumSet.of(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                                                        OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                                                                                        OMRSInstanceEventType.UNDONE_RELATIONSHIP_EVENT,
+                                                                                        OMRSInstanceEventType.DELETED_RELATIONSHIP_EVENT,
+                                                                                        OMRSInstanceEventType.PURGED_RELATIONSHIP_EVENT,
+                                                                                        OMRSInstanceEventType.RESTORED_RELATIONSHIP_EVENT,
+                                                                                        OMRSInstanceEventType.RETYPED_RELATIONSHIP_EVENT,
+                                                                                        OMRSInstanceEventType.RE_HOMED_RELATIONSHIP_EVENT,
+                                                                                        OMRSInstanceEventType.REFRESH_RELATIONSHIP_REQUEST,
+                                                                                        OMRSInstanceEventType.REFRESHED_RELATIONSHIP_EVENT,
+                                                                                        OMRSInstanceEventType.DELETE_PURGED_RELATIONSHIP_EVENT);
+
+    private final String                          cohortName;
+    private final Consumer<OMRSInstanceEvent>     eventApplier;
+    private final ExecutorService[]               workers;
+    private final Map<String, SourceStatistics>   sourceStatistics = new LinkedHashMap<>();
+
+
+    /**
+     * Constructor starts the worker threads.
+     *
+     * @param cohortName name of the cohort (used for the thread names and statistics)
+     * @param workerCount number of worker threads
+     * @param eventApplier function that applies an event to the local server
+     */
+    OMRSInboundInstanceEventApplier(String                      cohortName,
+                                    int                         workerCount,
+                                    Consumer<OMRSInstanceEvent> eventApplier)
+    {
+        this(cohortName, workerCount, DEFAULT_WORKER_QUEUE_SIZE, eventApplier);
+    }
+
+
+    /**
+     * Constructor starts the worker threads.
+     *
+     * @param cohortName name of the cohort (used for the thread names and statistics)
+     * @param workerCount number of worker threads
+     * @param workerQueueSize number of events that can be queued for each worker
+     * @param eventApplier function that applies an event to the local server
+     */
+    OMRSInboundInstanceEventApplier(String                      cohortName,
+                                    int                         workerCount,
+                                    int                         workerQueueSize,
+                                    Consumer<OMRSInstanceEvent> eventApplier)
+    {
+        this.cohortName   = cohortName;
+        this.eventApplier = eventApplier;
+        this.workers      = new ExecutorService[workerCount];
+
+        for (int workerNumber = 0; workerNumber < workerCount; workerNumber++)
+        {
+            final String threadName = "OMRS Inbound Instance Event Applier: " + cohortName + " (" + workerNumber + ")";
+
+            workers[workerNumber] = new ThreadPoolExecutor(1,
+                                                           1,
+                                                           0L,
+                                                           TimeUnit.MILLISECONDS,
+                                                           new ArrayBlockingQueue<>(Math.max(1, workerQueueSize)),
+                                                           runnable ->
+                                                           {
+                                                               Thread workerThread = new Thread(runnable, threadName);
+
+                                                               workerThread.setDaemon(true);
+
+                                                               return workerThread;
+                                                           },
+                                                           OMRSInboundInstanceEventApplier::waitForQueueSpace);
+        }
+
+        log.debug("New inbound instance event applier for " + cohortName + " with " + workerCount + " workers");
+    }
+
+
+    /**
+     * Apply an instance event.  The event is queued for the worker that owns its instance, or applied
+     * straight away on this thread (after all earlier events) if it affects more than one instance.
+     *
+     * @param instanceEvent event received from the cohort
+     */
+    void applyInstanceEvent(OMRSInstanceEvent instanceEvent)
+    {
+        SourceStatistics statistics   = this.getSourceStatistics(instanceEvent.getEventOriginator());
+        int              workerNumber = getWorkerNumber(instanceEvent, workers.length);
+
+        statistics.eventReceived();
+
+        if (workerNumber == NO_WORKER)
+        {
+            this.waitForAppliedEvents();
+            this.applyAndRecord(instanceEvent, statistics);
+            return;
+        }
+
+        /*
+         * The event bus connector monitors the processing context of the receiving thread to know when the event
+         * has been consumed.  The worker's processing context is linked to it once the event is applied.
+         */
+        InternalOMRSEventProcessingContext receivingContext = InternalOMRSEventProcessingContext.getInstance();
+        String                             messageId        = receivingContext.getCurrentMessageId();
+        DelegatableFuture                  appliedFuture    = new DelegatableFuture();
+
+        receivingContext.addAsyncProcessingResult(appliedFuture);
+
+        try
+        {
+            workers[workerNumber].execute(() ->
+            {
+                InternalOMRSEventProcessingContext.clear();
+                InternalOMRSEventProcessingContext.getInstance().setCurrentMessageId(messageId);
+
+                try
+                {
+                    this.applyAndRecord(instanceEvent, statistics);
+                }
+                finally
+                {
+                    appliedFuture.setDelegate(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult());
+                    InternalOMRSEventProcessingContext.clear();
+                }
+            });
+        }
+        catch (Exception error)
+        {
+            /*
+             * The applier has been disconnected so the event is dropped as it would be if the listener
+             * had been disconnected from the topic.
+             */
+            log.debug("Inbound instance event not queued for " + cohortName + ": " + error.getMessage());
+
+            statistics.eventDropped();
+            appliedFuture.setDelegate(CompletedFuture.INSTANCE);
+        }
+    }
+
+
+    /**
+     * Wait until all the events received so far have been applied.  This is called before processing a
+     * TypeDef event.
+     */
+    void waitForAppliedEvents()
+    {
+        List<Future<?>> markers = new ArrayList<>();
+
+        for (ExecutorService worker : workers)
+        {
+            try
+            {
+                markers.add(worker.submit(() -> { }));
+            }
+            catch (Exception error)
+            {
+                log.debug("Worker not available: " + error.getMessage());
+            }
+        }
+
+        for (Future<?> marker : markers)
+        {
+            try
+            {
+                marker.get();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (ExecutionException error)
+            {
+                log.debug("Ignored exception waiting for worker: " + error.getMessage());
+            }
+        }
+    }
+
+
+    /**
+     * Return the statistics for each member of the cohort that has sent instance events.
+     *
+     * @return list of statistics
+     */
+    synchronized List<InboundEventStatistics> getStatistics()
+    {
+        List<InboundEventStatistics> statisticsList = new ArrayList<>();
+
+        for (SourceStatistics statistics : sourceStatistics.values())
+        {
+            statisticsList.add(statistics.getInboundEventStatistics());
+        }
+
+        return statisticsList;
+    }
+
+
+    /**
+     * Apply the events that are already queued and stop the worker threads.
+     *
+     * @param maxWait maximum time (in milliseconds) to wait for the queued events to be applied
+     */
+    void disconnect(long maxWait)
+    {
+        for (ExecutorService worker : workers)
+        {
+            worker.shutdown();
+        }
+
+        long waitUntil = System.currentTimeMillis() + maxWait;
+
+        try
+        {
+            for (ExecutorService worker : workers)
+            {
+                long remainingWait = waitUntil - System.currentTimeMillis();
+
+                if ((remainingWait <= 0) || (! worker.awaitTermination(remainingWait, TimeUnit.MILLISECONDS)))
+                {
+                    log.debug("Inbound instance events still queued for " + cohortName + " at disconnect");
+                    break;
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        for (ExecutorService worker : workers)
+        {
+            worker.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Pass the event to the local server and update the statistics for its source.  Errors have already been
+     * logged by the receiving components so they are only traced here to keep the worker running.
+     *
+     * @param instanceEvent event to apply
+     * @param statistics statistics for the member that sent the event
+     */
+    private void applyAndRecord(OMRSInstanceEvent instanceEvent,
+                                SourceStatistics  statistics)
+    {
+        try
+        {
+            eventApplier.accept(instanceEvent);
+        }
+        catch (Exception error)
+        {
+            log.debug("Unexpected exception applying inbound instance event for " + cohortName, error);
+        }
+        finally
+        {
+            statistics.eventApplied(instanceEvent.getEventTimestamp());
+        }
+    }
+
+
+    /**
+     * Return the statistics for the member that sent an event, creating them if this is its first event.
+     *
+     * @param originator description of the sending member
+     * @return statistics object
+     */
+    private synchronized SourceStatistics getSourceStatistics(OMRSEventOriginator originator)
+    {
+        String metadataCollectionId = unknownSource;
+        String serverName           = null;
+
+        if (originator != null)
+        {
+            if (originator.getMetadataCollectionId() != null)
+            {
+                metadataCollectionId = originator.getMetadataCollectionId();
+            }
+
+            serverName = originator.getServerName();
+        }
+
+        SourceStatistics statistics = sourceStatistics.get(metadataCollectionId);
+
+        if (statistics == null)
+        {
+            statistics = new SourceStatistics(cohortName, metadataCollectionId, serverName);
+            sourceStatistics.put(metadataCollectionId, statistics);
+        }
+
+        return statistics;
+    }
+
+
+    /**
+     * Rejection handler for the workers that waits for space in the worker's queue.  This means the receiving
+     * thread is held up while the worker catches up.
+     *
+     * @param runnable task to queue
+     * @param executor worker
+     */
+    private static void waitForQueueSpace(Runnable           runnable,
+                                          ThreadPoolExecutor executor)
+    {
+        if (executor.isShutdown())
+        {
+            throw new RejectedExecutionException("Worker has been shut down");
+        }
+
+        try
+        {
+            executor.getQueue().put(runnable);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted waiting for worker", error);
+        }
+
+        /*
+         * The worker may have been shut down while this thread was waiting, in which case the task would never run.
+         */
+        if (executor.isShutdown() && executor.getQueue().remove(runnable))
+        {
+            throw new RejectedExecutionException("Worker has been shut down");
+        }
+    }
+
+
+    /**
+     * Return the number of the worker that applies an event.  An entity event is applied by the worker that owns
+     * the entity.  A relationship event is applied by the worker that owns both of its entities.  NO_WORKER is
+     * returned if the event affects more than one instance, its entities belong to different workers or its
+     * instances are not known, so that it is applied after all earlier events.
+     *
+     * @param instanceEvent event to test
+     * @param workerCount number of workers
+     * @return worker number or NO_WORKER
+     */
+    static int getWorkerNumber(OMRSInstanceEvent instanceEvent,
+                               int               workerCount)
+    {
+        OMRSInstanceEventType eventType = instanceEvent.getInstanceEventType();
+
+        if ((eventType == null) ||
+            (eventType == OMRSInstanceEventType.UNKNOWN_INSTANCE_EVENT) ||
+            (eventType == OMRSInstanceEventType.BATCH_INSTANCES_EVENT) ||
+            (eventType == OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT) ||
+            (eventType == OMRSInstanceEventType.RE_IDENTIFIED_RELATIONSHIP_EVENT) ||
+            (eventType == OMRSInstanceEventType.INSTANCE_ERROR_EVENT))
+        {
+            return NO_WORKER;
+        }
+
+        if (instanceEvent.getEntity() != null)
+        {
+            return getWorkerNumber(instanceEvent.getEntity().getGUID(), workerCount);
+        }
+        else if (instanceEvent.getEntityProxy() != null)
+        {
+            return getWorkerNumber(instanceEvent.getEntityProxy().getGUID(), workerCount);
+        }
+        else if (instanceEvent.getRelationship() != null)
+        {
+            Relationship relationship    = instanceEvent.getRelationship();
+            int          entityOneWorker = getWorkerNumber(relationship.getEntityOneProxy(), workerCount);
+            int          entityTwoWorker = getWorkerNumber(relationship.getEntityTwoProxy(), workerCount);
+
+            if (entityOneWorker == entityTwoWorker)
+            {
+                return entityOneWorker;
+            }
+
+            return NO_WORKER;
+        }
+        else if (relationshipEventTypes.contains(eventType))
+        {
+            /*
+             * The relationship's entities are not known.
+             */
+            return NO_WORKER;
+        }
+
+        return getWorkerNumber(instanceEvent.getInstanceGUID(), workerCount);
+    }
+
+
+    /**
+     * Return the number of the worker that owns one of a relationship's entities.
+     *
+     * @param entityProxy entity at one end of the relationship
+     * @param workerCount number of workers
+     * @return worker number or NO_WORKER if the entity is not known
+     */
+    private static int getWorkerNumber(EntityProxy entityProxy,
+                                       int         workerCount)
+    {
+        if (entityProxy == null)
+        {
+            return NO_WORKER;
+        }
+
+        return getWorkerNumber(entityProxy.getGUID(), workerCount);
+    }
+
+
+    /**
+     * Return the number of the worker that owns an entity.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @param workerCount number of workers
+     * @return worker number or NO_WORKER if the entity is not known
+     */
+    private static int getWorkerNumber(String entityGUID,
+                                       int    workerCount)
+    {
+        if (entityGUID == null)
+        {
+            return NO_WORKER;
+        }
+
+        return Math.floorMod(entityGUID.hashCode(), workerCount);
+    }
+
+
+    /**
+     * SourceStatistics accumulates the statistics for the events from one member of the cohort.
+     */
+    private static class SourceStatistics
+    {
+        private final String cohortName;
+        private final String metadataCollectionId;
+        private final String serverName;
+
+        private long eventsReceived  = 0L;
+        private long eventsApplied   = 0L;
+        private long eventsDropped   = 0L;
+        private long lastEventLag    = 0L;
+        private long maxEventLag     = 0L;
+        private Date lastAppliedTime = null;
+
+
+        /**
+         * Constructor
+         *
+         * @param cohortName name of the cohort
+         * @param metadataCollectionId metadata collection of the sending member
+         * @param serverName name of the sending server
+         */
+        SourceStatistics(String cohortName,
+                         String metadataCollectionId,
+                         String serverName)
+        {
+            this.cohortName           = cohortName;
+            this.metadataCollectionId = metadataCollectionId;
+            this.serverName           = serverName;
+        }
+
+
+        /**
+         * Record that an event has been received.
+         */
+        synchronized void eventReceived()
+        {
+            eventsReceived++;
+        }
+
+
+        /**
+         * Record that an event could not be queued.
+         */
+        synchronized void eventDropped()
+        {
+            eventsDropped++;
+        }
+
+
+        /**
+         * Record that an event has been applied.
+         *
+         * @param eventTimestamp time the sending member created the event
+         */
+        synchronized void eventApplied(Date eventTimestamp)
+        {
+            eventsApplied++;
+            lastAppliedTime = new Date();
+
+            if (eventTimestamp != null)
+            {
+                lastEventLag = Math.max(0L, lastAppliedTime.getTime() - eventTimestamp.getTime());
+                maxEventLag = Math.max(maxEventLag, lastEventLag);
+            }
+        }
+
+
+        /**
+         * Return the statistics as a bean.
+         *
+         * @return bean
+         */
+        synchronized InboundEventStatistics getInboundEventStatistics()
+        {
+            InboundEventStatistics statistics = new InboundEventStatistics();
+
+            statistics.setCohortName(cohortName);
+            statistics.setMetadataCollectionId(metadataCollectionId);
+            statistics.setServerName(serverName);
+            statistics.setEventsReceived(eventsReceived);
+            statistics.setEventsApplied(eventsApplied);
+            statistics.setEventBacklog(eventsReceived - eventsApplied - eventsDropped);
+            statistics.setLastEventLag(lastEventLag);
+            statistics.setMaxEventLag(maxEventLag);
+            statistics.setLastAppliedTime(lastAppliedTime);
+
+            return statistics;
+        }
+    }
+}
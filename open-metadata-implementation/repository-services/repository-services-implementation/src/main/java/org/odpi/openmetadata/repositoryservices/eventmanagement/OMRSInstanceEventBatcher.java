@@ -0,0 +1,293 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+
+/**
+ * OMRSInstanceEventBatcher coalesces outbound instance events into BATCH_INSTANCES_EVENTs so that bulk changes
+ * to the local repository result in far fewer messages on the cohort topic.
+ * <p>
+ * Only events that carry a complete entity or relationship and are processed by the receiving members as a
+ * reference copy save (new, updated and refreshed instances) are coalesced.  Any other event first
+ * flushes the pending batch and is then sent unchanged, so the order that a receiving member sees the changes
+ * to an instance is the same as the order they were made.  If the same instance is changed more than once
+ * while the batch is open, only its latest version is sent.
+ * <p>
+ * The batch records the type of the first event seen for each instance so the receiving members can expand
+ * the batch back into new, updated and refreshed events.  An instance created and then updated while the batch
+ * is open is therefore sent as a new instance with its latest properties.
+ * <p>
+ * The pending batch is sent when it reaches the maximum batch size, when the maximum delay has passed since the
+ * first event was added, or when the batcher is flushed or disconnected.  A batch of one is sent as the original event.
+ */
+class OMRSInstanceEventBatcher implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSInstanceEventBatcher.class);
+
+    private final String                      batcherName;
+    private final int                         maxBatchSize;
+    private final long                        maxDelay;
+    private final Consumer<OMRSInstanceEvent> eventSender;
+
+    private final List<OMRSInstanceEvent>     pendingEvents        = new ArrayList<>();
+    private final Map<String, EntityDetail>   pendingEntities      = new LinkedHashMap<>();
+    private final Map<String, Relationship>   pendingRelationships = new LinkedHashMap<>();
+    private final Map<String, OMRSInstanceEventType> pendingEventTypes = new HashMap<>();
+    private OMRSEventOriginator               pendingOriginator    = null;
+    private long                              batchStartTime       = 0L;
+
+    private volatile boolean                  keepRunning          = true;
+
+
+    /**
+     * Constructor sets up the batching limits.  A dedicated thread is started to send partially filled batches
+     * once the maximum delay has passed.
+     *
+     * @param batcherName name of the cohort (used for the thread name and diagnostics)
+     * @param maxBatchSize maximum number of instances in a batch
+     * @param maxDelay maximum time (in milliseconds) an event may wait in a partially filled batch
+     * @param eventSender function that sends an event to the topic(s)
+     */
+    OMRSInstanceEventBatcher(String                      batcherName,
+                             int                         maxBatchSize,
+                             long                        maxDelay,
+                             Consumer<OMRSInstanceEvent> eventSender)
+    {
+        this.batcherName  = batcherName;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay     = maxDelay;
+        this.eventSender  = eventSender;
+
+        if (maxDelay > 0)
+        {
+            Thread flushThread = new Thread(this, "OMRS Instance Event Batcher: " + batcherName);
+
+            flushThread.setDaemon(true);
+            flushThread.start();
+        }
+
+        log.debug("New instance event batcher for " + batcherName + " with maxBatchSize=" + maxBatchSize + " and maxDelay=" + maxDelay);
+    }
+
+
+    /**
+     * Add an event to the pending batch, or send it straight away if it can not be coalesced.
+     *
+     * @param instanceEvent event to send
+     */
+    synchronized void sendInstanceEvent(OMRSInstanceEvent instanceEvent)
+    {
+        if (! keepRunning)
+        {
+            eventSender.accept(instanceEvent);
+            return;
+        }
+
+        if ((! isBatchable(instanceEvent)) || (! isSameOriginator(instanceEvent.getEventOriginator())))
+        {
+            this.flush();
+        }
+
+        if (isBatchable(instanceEvent))
+        {
+            if (pendingEvents.isEmpty())
+            {
+                pendingOriginator = instanceEvent.getEventOriginator();
+                batchStartTime = System.currentTimeMillis();
+                this.notifyAll();
+            }
+
+            pendingEvents.add(instanceEvent);
+
+            if (instanceEvent.getEntity() != null)
+            {
+                pendingEntities.put(instanceEvent.getEntity().getGUID(), instanceEvent.getEntity());
+                pendingEventTypes.putIfAbsent(instanceEvent.getEntity().getGUID(), instanceEvent.getInstanceEventType());
+            }
+            else
+            {
+                pendingRelationships.put(instanceEvent.getRelationship().getGUID(), instanceEvent.getRelationship());
+                pendingEventTypes.putIfAbsent(instanceEvent.getRelationship().getGUID(), instanceEvent.getInstanceEventType());
+            }
+
+            if (pendingEntities.size() + pendingRelationships.size() >= maxBatchSize)
+            {
+                this.flush();
+            }
+        }
+        else
+        {
+            eventSender.accept(instanceEvent);
+        }
+    }
+
+
+    /**
+     * Send any pending events.
+     */
+    synchronized void flush()
+    {
+        if (pendingEvents.isEmpty())
+        {
+            return;
+        }
+
+        if (pendingEvents.size() == 1)
+        {
+            eventSender.accept(pendingEvents.get(0));
+        }
+        else
+        {
+            OMRSInstanceEvent batchEvent = new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT,
+                                                                 new InstanceGraph(new ArrayList<>(pendingEntities.values()),
+                                                                                   new ArrayList<>(pendingRelationships.values())),
+                                                                 new HashMap<>(pendingEventTypes));
+
+            batchEvent.setEventOriginator(pendingOriginator);
+
+            log.debug("Sending batch of " + pendingEvents.size() + " instance events for " + batcherName);
+
+            eventSender.accept(batchEvent);
+        }
+
+        pendingEvents.clear();
+        pendingEntities.clear();
+        pendingRelationships.clear();
+        pendingEventTypes.clear();
+        pendingOriginator = null;
+    }
+
+
+    /**
+     * Send any pending events and stop the flush thread.  Later events are sent without batching.
+     */
+    synchronized void disconnect()
+    {
+        this.flush();
+
+        keepRunning = false;
+        this.notifyAll();
+    }
+
+
+    /**
+     * Send partially filled batches once they have waited for the maximum delay.
+     */
+    @Override
+    public void run()
+    {
+        synchronized (this)
+        {
+            while (keepRunning)
+            {
+                try
+                {
+                    if (pendingEvents.isEmpty())
+                    {
+                        this.wait();
+                    }
+                    else
+                    {
+                        long waitTime = batchStartTime + maxDelay - System.currentTimeMillis();
+
+                        if (waitTime > 0)
+                        {
+                            this.wait(waitTime);
+                        }
+                        else
+                        {
+                            this.flush();
+                        }
+                    }
+                }
+                catch (InterruptedException error)
+                {
+                    log.debug("Instance event batcher for " + batcherName + " interrupted");
+                    Thread.currentThread().interrupt();
+                    keepRunning = false;
+                }
+                catch (Exception error)
+                {
+                    log.debug("Unexpected exception sending batch for " + batcherName, error);
+                }
+            }
+
+            this.flush();
+        }
+    }
+
+
+    /**
+     * Return whether the event can be added to a batch.  Only events that the receiving members process by
+     * saving a reference copy of the complete instance are batched.
+     *
+     * @param instanceEvent event to test
+     * @return boolean flag
+     */
+    private boolean isBatchable(OMRSInstanceEvent instanceEvent)
+    {
+        OMRSInstanceEventType eventType = instanceEvent.getInstanceEventType();
+
+        if (eventType == null)
+        {
+            return false;
+        }
+
+        switch (eventType)
+        {
+            case NEW_ENTITY_EVENT:
+            case UPDATED_ENTITY_EVENT:
+            case REFRESHED_ENTITY_EVENT:
+                return (instanceEvent.getEntity() != null) && (instanceEvent.getEntity().getGUID() != null);
+
+            case NEW_RELATIONSHIP_EVENT:
+            case UPDATED_RELATIONSHIP_EVENT:
+            case REFRESHED_RELATIONSHIP_EVENT:
+                return (instanceEvent.getRelationship() != null) && (instanceEvent.getRelationship().getGUID() != null);
+
+            default:
+                return false;
+        }
+    }
+
+
+    /**
+     * Return whether the event comes from the same originator as the pending batch.  A batch event has
+     * a single originator so events from different originators are sent in different batches.
+     *
+     * @param eventOriginator originator of the new event
+     * @return boolean flag
+     */
+    private boolean isSameOriginator(OMRSEventOriginator eventOriginator)
+    {
+        if (pendingEvents.isEmpty())
+        {
+            return true;
+        }
+
+        if ((pendingOriginator == null) || (eventOriginator == null))
+        {
+            return (pendingOriginator == eventOriginator);
+        }
+
+        return Objects.equals(pendingOriginator.getMetadataCollectionId(), eventOriginator.getMetadataCollectionId()) &&
+               Objects.equals(pendingOriginator.getServerName(), eventOriginator.getServerName());
+    }
+}
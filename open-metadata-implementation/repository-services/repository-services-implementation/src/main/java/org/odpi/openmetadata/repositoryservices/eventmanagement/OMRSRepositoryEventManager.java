@@ -320,7 +320,8 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
                  */
                 InstanceGraph validInstanceGraph = new InstanceGraph(validEntities, validRelationships);
                 OMRSInstanceEvent validInstanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT,
-                                                                             validInstanceGraph);
+                                                                             validInstanceGraph,
+                                                                             event.getInstanceBatchEventTypes());
                 validInstanceEvent.setEventOriginator(event.getEventOriginator());
                 event = validInstanceEvent;
                 validEvent = true;
@@ -29,6 +29,8 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
     private final List<OMRSTopicConnector>   instancesTopicConnectors;
     private final AuditLog                   auditLog;
 
+    private volatile OMRSInstanceEventBatcher instanceEventBatcher = null;
+
 
     /**
      * Typical constructor sets up the local metadata collection id for events.
@@ -174,6 +176,63 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
     }
 
 
+    /**
+     * Turn on the coalescing of outbound instance events into batch events.  New, updated and refreshed
+     * instances are collected into a BATCH_INSTANCES_EVENT that is sent when it holds maxBatchSize instances
+     * or the first event in the batch has waited maxDelay milliseconds.  Other events are sent straight
+     * away (after any pending batch) so the order of changes to each instance is preserved.
+     *
+     * @param maxBatchSize maximum number of instances in a batch - a value less than 2 turns batching off
+     * @param maxDelay maximum time (in milliseconds) an event may wait in a partially filled batch - zero means
+     *                 only send a batch when it is full or the publisher is flushed
+     */
+    public synchronized void setInstanceEventBatching(int  maxBatchSize,
+                                                      long maxDelay)
+    {
+        if (instanceEventBatcher != null)
+        {
+            instanceEventBatcher.disconnect();
+            instanceEventBatcher = null;
+        }
+
+        if (maxBatchSize > 1)
+        {
+            instanceEventBatcher = new OMRSInstanceEventBatcher(eventProcessorName,
+                                                                maxBatchSize,
+                                                                maxDelay,
+                                                                (instanceEvent) -> publishInstanceEvent(eventProcessorName, instanceEvent));
+        }
+    }
+
+
+    /**
+     * Send any instance events that are waiting in a partially filled batch.
+     */
+    public void flushInstanceEvents()
+    {
+        OMRSInstanceEventBatcher batcher = instanceEventBatcher;
+
+        if (batcher != null)
+        {
+            batcher.flush();
+        }
+    }
+
+
+    /**
+     * Send any instance events that are waiting in a partially filled batch and stop batching.  This is called
+     * before the topic connectors are disconnected.
+     */
+    public synchronized void disconnect()
+    {
+        if (instanceEventBatcher != null)
+        {
+            instanceEventBatcher.disconnect();
+            instanceEventBatcher = null;
+        }
+    }
+
+
     /**
      * Set the instance event to the OMRS Topic connector if the instance
      * event is of the permitted type.
@@ -197,10 +256,15 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
 
             if (validatedEvent != null)
             {
-                for (OMRSTopicConnector omrsTopicConnector : instancesTopicConnectors)
+                OMRSInstanceEventBatcher batcher = instanceEventBatcher;
+
+                if (batcher != null)
+                {
+                    batcher.sendInstanceEvent(instanceEvent);
+                }
+                else
                 {
-                    log.debug("topicConnector: " + omrsTopicConnector);
-                    omrsTopicConnector.sendInstanceEvent(instanceEvent);
+                    this.publishInstanceEvent(sourceName, instanceEvent);
                 }
             }
         }
@@ -214,4 +278,35 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
             log.debug("Exception: ", error);
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Pass the instance event to each of the OMRS Topic connectors.
+     *
+     * @param sourceName name of caller
+     * @param instanceEvent properties of the event to send
+     */
+    private void publishInstanceEvent(String            sourceName,
+                                      OMRSInstanceEvent instanceEvent)
+    {
+        String actionDescription = "Send Instance Event";
+
+        try
+        {
+            for (OMRSTopicConnector omrsTopicConnector : instancesTopicConnectors)
+            {
+                log.debug("topicConnector: " + omrsTopicConnector);
+                omrsTopicConnector.sendInstanceEvent(instanceEvent);
+            }
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(actionDescription,
+                                  OMRSAuditCode.SEND_INSTANCE_EVENT_ERROR.getMessageDefinition(sourceName),
+                                  "instanceEvent {" + instanceEvent.toString() + "}",
+                                  error);
+
+            log.debug("Exception: ", error);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Date;
 
@@ -1832,6 +1833,40 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities in a single call to the
+     * real repository.  Entities that are not known, or are only proxies, are missing from the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities or null if none of the entities are known.
+     * @throws InvalidParameterException the userId or list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntitiesDetail(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String  methodName        = "getEntitiesDetail";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> resultList = realMetadataCollection.getEntitiesDetail(userId, guids);
+
+        return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
+    }
+
+
     /**
      * Return a historical version of an entity.  This includes the header, classifications and properties of the entity.
      *
@@ -3237,6 +3272,160 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         return entity;
     }
 
+    /**
+     * Create a batch of new entities.  Each item is validated and checked with the security verifier before
+     * the valid items are passed to the real repository connector in a single call.  This allows repositories
+     * that support batch operations to create the entities efficiently (for example in a single transaction).
+     * Events are sent out for each entity that is created.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities list of descriptions of the entities to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of new entities is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<InstanceBatchResult> addEntities(String                userId,
+                                                 List<EntityBatchItem> newEntities) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           FunctionNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "addEntities";
+
+        super.validateInstanceBatch(userId, newEntities, methodName);
+
+        InstanceBatchResult[]  results = new InstanceBatchResult[newEntities.size()];
+        List<EntityBatchItem>  validItems = new ArrayList<>();
+        List<Integer>          validItemIndexes = new ArrayList<>();
+
+        /*
+         * Validate each item and check the operation is allowed.  Items that fail are not passed to
+         * the real repository.
+         */
+        for (int itemIndex = 0; itemIndex < newEntities.size(); itemIndex++)
+        {
+            EntityBatchItem newEntity = newEntities.get(itemIndex);
+
+            try
+            {
+                this.validateNewEntity(userId, newEntity, methodName);
+
+                validItems.add(newEntity);
+                validItemIndexes.add(itemIndex);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                results[itemIndex] = new InstanceBatchResult(itemIndex);
+                super.captureBatchItemException(results[itemIndex], error);
+            }
+        }
+
+        /*
+         * Validation complete, ok to create the new instances
+         */
+        if (! validItems.isEmpty())
+        {
+            List<InstanceBatchResult> realResults = realMetadataCollection.addEntities(userId, validItems);
+
+            if (realResults != null)
+            {
+                for (InstanceBatchResult realResult : realResults)
+                {
+                    if ((realResult != null) && (realResult.getItemIndex() >= 0) && (realResult.getItemIndex() < validItemIndexes.size()))
+                    {
+                        int          itemIndex = validItemIndexes.get(realResult.getItemIndex());
+                        EntityDetail entity    = realResult.getEntity();
+
+                        realResult.setItemIndex(itemIndex);
+                        results[itemIndex] = realResult;
+
+                        if (entity != null)
+                        {
+                            setLocalProvenanceThroughoutEntity(entity);
+
+                            /*
+                             * OK to send out
+                             */
+                            if (produceEventsForRealConnector)
+                            {
+                                outboundRepositoryEventProcessor.processNewEntityEvent(repositoryName,
+                                                                                       metadataCollectionId,
+                                                                                       localServerName,
+                                                                                       localServerType,
+                                                                                       localOrganizationName,
+                                                                                       entity);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+
+    /**
+     * Validate one of the items passed to addEntities in the same way as addEntity/addExternalEntity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntity description of the entity to create.
+     * @param methodName calling method
+     * @throws OMRSCheckedExceptionBase the item is invalid or the user is not allowed to create it
+     */
+    private void validateNewEntity(String          userId,
+                                   EntityBatchItem newEntity,
+                                   String          methodName) throws OMRSCheckedExceptionBase
+    {
+        super.validateBatchItem(newEntity, methodName);
+
+        String sourceName = metadataCollectionName;
+
+        if (newEntity.getExternalSourceGUID() == null)
+        {
+            super.addEntityParameterValidation(userId,
+                                               newEntity.getEntityTypeGUID(),
+                                               newEntity.getInitialProperties(),
+                                               newEntity.getInitialClassifications(),
+                                               newEntity.getInitialStatus(),
+                                               methodName);
+        }
+        else
+        {
+            super.addExternalEntityParameterValidation(userId,
+                                                       newEntity.getEntityTypeGUID(),
+                                                       newEntity.getExternalSourceGUID(),
+                                                       newEntity.getInitialProperties(),
+                                                       newEntity.getInitialClassifications(),
+                                                       newEntity.getInitialStatus(),
+                                                       methodName);
+            sourceName = newEntity.getExternalSourceName();
+        }
+
+        try
+        {
+            securityVerifier.validateUserForEntityCreate(userId,
+                                                         sourceName,
+                                                         newEntity.getEntityTypeGUID(),
+                                                         newEntity.getInitialProperties(),
+                                                         newEntity.getInitialClassifications(),
+                                                         newEntity.getInitialStatus());
+        }
+        catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException  error)
+        {
+            throw new UserNotAuthorizedException(error);
+        }
+    }
+
+
 
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
@@ -5336,6 +5525,163 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         return relationship;
     }
 
+    /**
+     * Create a batch of new relationships.  Each item is validated and checked with the security verifier before
+     * the valid items are passed to the real repository connector in a single call.  This allows repositories
+     * that support batch operations to create the relationships efficiently (for example in a single transaction).
+     * Events are sent out for each relationship that is created.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships list of descriptions of the relationships to create.
+     * @return list of results - one for each item in the request list.
+     * @throws InvalidParameterException the userId or list of new relationships is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<InstanceBatchResult> addRelationships(String                      userId,
+                                                      List<RelationshipBatchItem> newRelationships) throws InvalidParameterException,
+                                                                                                           RepositoryErrorException,
+                                                                                                           FunctionNotSupportedException,
+                                                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "addRelationships";
+
+        super.validateInstanceBatch(userId, newRelationships, methodName);
+
+        InstanceBatchResult[]        results = new InstanceBatchResult[newRelationships.size()];
+        List<RelationshipBatchItem>  validItems = new ArrayList<>();
+        List<Integer>                validItemIndexes = new ArrayList<>();
+
+        /*
+         * Validate each item and check the operation is allowed.  Items that fail are not passed to
+         * the real repository.
+         */
+        for (int itemIndex = 0; itemIndex < newRelationships.size(); itemIndex++)
+        {
+            RelationshipBatchItem newRelationship = newRelationships.get(itemIndex);
+
+            try
+            {
+                this.validateNewRelationship(userId, newRelationship, methodName);
+
+                validItems.add(newRelationship);
+                validItemIndexes.add(itemIndex);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                results[itemIndex] = new InstanceBatchResult(itemIndex);
+                super.captureBatchItemException(results[itemIndex], error);
+            }
+        }
+
+        /*
+         * Validation complete, ok to create the new instances
+         */
+        if (! validItems.isEmpty())
+        {
+            List<InstanceBatchResult> realResults = realMetadataCollection.addRelationships(userId, validItems);
+
+            if (realResults != null)
+            {
+                for (InstanceBatchResult realResult : realResults)
+                {
+                    if ((realResult != null) && (realResult.getItemIndex() >= 0) && (realResult.getItemIndex() < validItemIndexes.size()))
+                    {
+                        int          itemIndex    = validItemIndexes.get(realResult.getItemIndex());
+                        Relationship relationship = realResult.getRelationship();
+
+                        realResult.setItemIndex(itemIndex);
+                        results[itemIndex] = realResult;
+
+                        if (relationship != null)
+                        {
+                            setLocalProvenanceThroughoutRelationship(relationship);
+
+                            /*
+                             * OK to send out
+                             */
+                            if (produceEventsForRealConnector)
+                            {
+                                outboundRepositoryEventProcessor.processNewRelationshipEvent(repositoryName,
+                                                                                             metadataCollectionId,
+                                                                                             localServerName,
+                                                                                             localServerType,
+                                                                                             localOrganizationName,
+                                                                                             relationship);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+
+    /**
+     * Validate one of the items passed to addRelationships in the same way as addRelationship/addExternalRelationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationship description of the relationship to create.
+     * @param methodName calling method
+     * @throws OMRSCheckedExceptionBase the item is invalid or the user is not allowed to create it
+     */
+    private void validateNewRelationship(String                userId,
+                                         RelationshipBatchItem newRelationship,
+                                         String                methodName) throws OMRSCheckedExceptionBase
+    {
+        super.validateBatchItem(newRelationship, methodName);
+
+        if (newRelationship.getExternalSourceGUID() == null)
+        {
+            super.addRelationshipParameterValidation(userId,
+                                                     newRelationship.getRelationshipTypeGUID(),
+                                                     newRelationship.getInitialProperties(),
+                                                     newRelationship.getEntityOneGUID(),
+                                                     newRelationship.getEntityTwoGUID(),
+                                                     newRelationship.getInitialStatus(),
+                                                     methodName);
+        }
+        else
+        {
+            super.addExternalRelationshipParameterValidation(userId,
+                                                             newRelationship.getRelationshipTypeGUID(),
+                                                             newRelationship.getExternalSourceGUID(),
+                                                             newRelationship.getInitialProperties(),
+                                                             newRelationship.getEntityOneGUID(),
+                                                             newRelationship.getEntityTwoGUID(),
+                                                             newRelationship.getInitialStatus(),
+                                                             methodName);
+        }
+
+        EntitySummary end1 = realMetadataCollection.getEntitySummary(userId, newRelationship.getEntityOneGUID());
+        EntitySummary end2 = realMetadataCollection.getEntitySummary(userId, newRelationship.getEntityTwoGUID());
+
+        try
+        {
+            securityVerifier.validateUserForRelationshipCreate(userId,
+                                                               metadataCollectionName,
+                                                               newRelationship.getRelationshipTypeGUID(),
+                                                               newRelationship.getInitialProperties(),
+                                                               end1,
+                                                               end2,
+                                                               newRelationship.getInitialStatus());
+        }
+        catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException  error)
+        {
+            throw new UserNotAuthorizedException(error);
+        }
+    }
+
+
 
     /**
      * Update the status of a specific relationship.
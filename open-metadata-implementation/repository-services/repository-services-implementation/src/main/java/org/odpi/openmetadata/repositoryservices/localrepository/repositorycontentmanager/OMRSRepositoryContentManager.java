@@ -21,6 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * OMRSRepositoryContentManager supports an in-memory cache of TypeDefs for the local server.  It is used by the OMRS
@@ -65,6 +66,13 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     private final Map<String, String>             metadataCollectionNames        = new HashMap<>();
     private final Map<String, Set<String>>        knownPropertyToTypeDefNames    = new HashMap<>();
 
+    /*
+     * The type system version is incremented each time a TypeDef or AttributeTypeDef is added, updated or removed
+     * so that callers can tell whether their copy of the types is still current.  It starts from the time the
+     * server started so that the versions from one run of the server are not reused in the next.
+     */
+    private final AtomicLong                      typeSystemVersion              = new AtomicLong(System.currentTimeMillis());
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -124,6 +132,19 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     }
 
 
+    /**
+     * Return the version of the type system known to this server.  The version is incremented each time
+     * a TypeDef or AttributeTypeDef is added, updated or removed, so two calls that return the same value
+     * mean the known types have not changed between them.
+     *
+     * @return type system version
+     */
+    public long getTypeSystemVersion()
+    {
+        return typeSystemVersion.get();
+    }
+
+
     /*
      * ========================
      * OMRSTypeDefManager
@@ -152,6 +173,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      */
     private void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
     {
+        typeSystemVersion.incrementAndGet();
+
         knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
         knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
 
@@ -236,6 +259,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                                 String  obsoleteTypeDefName,
                                 boolean isLocallySupported)
     {
+        typeSystemVersion.incrementAndGet();
+
         knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
         knownTypeDefNames.remove(obsoleteTypeDefName);
 
@@ -295,6 +320,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                                        AttributeTypeDef newAttributeTypeDef,
                                        boolean          isLocallySupported)
     {
+        typeSystemVersion.incrementAndGet();
+
         knownAttributeTypeDefGUIDs.put(newAttributeTypeDef.getGUID(), newAttributeTypeDef);
         knownAttributeTypeDefNames.put(newAttributeTypeDef.getName(), newAttributeTypeDef);
 
@@ -343,6 +370,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         if (this.validTypeId(sourceName, obsoleteTypeDefGUID, obsoleteTypeDefName))
         {
+            typeSystemVersion.incrementAndGet();
+
             knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
             knownTypeDefNames.remove(obsoleteTypeDefName);
 
@@ -371,6 +400,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         if (this.validTypeId(sourceName, obsoleteAttributeTypeDefGUID, obsoleteAttributeTypeDefName))
         {
+            typeSystemVersion.incrementAndGet();
+
             knownAttributeTypeDefGUIDs.remove(obsoleteAttributeTypeDefGUID);
             knownAttributeTypeDefNames.remove(obsoleteAttributeTypeDefName);
 
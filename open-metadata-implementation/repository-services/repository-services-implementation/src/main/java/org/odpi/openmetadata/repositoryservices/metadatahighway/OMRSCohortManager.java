@@ -8,6 +8,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistry
 import org.odpi.openmetadata.repositoryservices.events.OpenMetadataEventsSecurity;
 import org.odpi.openmetadata.repositoryservices.properties.CohortConnectionStatus;
 import org.odpi.openmetadata.repositoryservices.properties.CohortDescription;
+import org.odpi.openmetadata.repositoryservices.properties.InboundEventStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
@@ -46,6 +47,8 @@ public class OMRSCohortManager
     private OMRSRepositoryEventManager cohortRepositoryEventManager      = null;
     private OMRSCohortRegistry         cohortRegistry                    = null;
     private CohortConnectionStatus     cohortConnectionStatus            = CohortConnectionStatus.NOT_INITIALIZED;
+    private OMRSEventListener          cohortEventListener               = null;
+    private int                        inboundInstanceEventWorkers       = 0;
 
     private String                       localMetadataCollectionId        = null;
     private OMRSRepositoryEventPublisher outboundRepositoryEventPublisher = null;
@@ -94,6 +97,12 @@ public class OMRSCohortManager
      * @param cohortInstancesTopicConnector Connector to the cohort's instances OMRS Topic
      * @param cohortInstancesTopicConnection Connection to the cohort's instances OMRS Topic
      * @param inboundEventExchangeRule rule for processing inbound events.
+     * @param outboundInstanceEventBatchSize maximum number of instances coalesced into one outbound batch event
+     *                                       (less than 2 means no batching).
+     * @param outboundInstanceEventMaxDelay maximum time (in milliseconds) an outbound instance event waits in a
+     *                                      partially filled batch.
+     * @param inboundInstanceEventWorkers number of threads applying inbound instance events in parallel
+     *                                    (less than 2 means they are applied on the receiving thread).
      */
     public void initialize(String                           cohortName,
                            String                           localMetadataCollectionId,
@@ -114,7 +123,10 @@ public class OMRSCohortManager
                            OMRSTopicConnector               cohortTypesTopicConnector,
                            Connection                       cohortInstancesTopicConnection,
                            OMRSTopicConnector               cohortInstancesTopicConnector,
-                           OMRSRepositoryEventExchangeRule  inboundEventExchangeRule)
+                           OMRSRepositoryEventExchangeRule  inboundEventExchangeRule,
+                           int                              outboundInstanceEventBatchSize,
+                           long                             outboundInstanceEventMaxDelay,
+                           int                              inboundInstanceEventWorkers)
     {
         final String   actionDescription = "Initialize Cohort Manager";
 
@@ -123,6 +135,7 @@ public class OMRSCohortManager
         try
         {
             this.cohortName = cohortName;
+            this.inboundInstanceEventWorkers = inboundInstanceEventWorkers;
 
             auditLog.logMessage(actionDescription,
                                 OMRSAuditCode.COHORT_INITIALIZING.getMessageDefinition(cohortName));
@@ -144,6 +157,55 @@ public class OMRSCohortManager
             this.cohortInstancesTopicConnector  = cohortInstancesTopicConnector;
             this.localMetadataCollectionId = localMetadataCollectionId;
 
+            /*
+             * With dedicated topics, only the registration topic receives the registry events that list the
+             * event encodings supported by each member, so the other topics use its list.
+             */
+            if (cohortRegistrationTopicConnector != null)
+            {
+                if (cohortTypesTopicConnector != null)
+                {
+                    cohortTypesTopicConnector.shareCohortMemberEncodings(cohortRegistrationTopicConnector);
+                }
+
+                if (cohortInstancesTopicConnector != null)
+                {
+                    cohortInstancesTopicConnector.shareCohortMemberEncodings(cohortRegistrationTopicConnector);
+                }
+            }
+
+            /*
+             * Members registered in an earlier run may not send another registry event for some time, so they are
+             * loaded from the registry store and sent JSON until their encodings are known.
+             */
+            List<String> remoteMetadataCollectionIds = new ArrayList<>();
+
+            if (cohortRegistryStore != null)
+            {
+                List<MemberRegistration> remoteRegistrations = cohortRegistryStore.retrieveRemoteRegistrations();
+
+                if (remoteRegistrations != null)
+                {
+                    for (MemberRegistration remoteRegistration : remoteRegistrations)
+                    {
+                        if (remoteRegistration != null)
+                        {
+                            remoteMetadataCollectionIds.add(remoteRegistration.getMetadataCollectionId());
+                        }
+                    }
+                }
+            }
+
+            if (cohortSingleTopicConnector != null)
+            {
+                cohortSingleTopicConnector.setCohortMembers(localMetadataCollectionId, remoteMetadataCollectionIds);
+            }
+
+            if (cohortRegistrationTopicConnector != null)
+            {
+                cohortRegistrationTopicConnector.setCohortMembers(localMetadataCollectionId, remoteMetadataCollectionIds);
+            }
+
             /*
              * Create the event manager for processing incoming events from the cohort's OMRS Topic.
              */
@@ -227,6 +289,9 @@ public class OMRSCohortManager
                                                                                         instancesTopicConnectors,
                                                                                         auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
 
+                    outboundRepositoryEventPublisher.setInstanceEventBatching(outboundInstanceEventBatchSize,
+                                                                              outboundInstanceEventMaxDelay);
+
                     localRepositoryEventManager.registerRepositoryEventProcessor(outboundRepositoryEventPublisher);
                 }
 
@@ -329,12 +394,14 @@ public class OMRSCohortManager
             /*
              * Create the event listener and register it with the cohort OMRS Topic.
              */
-            OMRSEventListener cohortEventListener = new OMRSEventListener(cohortName,
-                                                                          localMetadataCollectionId,
-                                                                          this.cohortRegistry,
-                                                                          this.cohortRepositoryEventManager,
-                                                                          securityVerifier,
-                                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_LISTENER));
+            cohortEventListener = new OMRSEventListener(cohortName,
+                                                        localMetadataCollectionId,
+                                                        this.cohortRegistry,
+                                                        this.cohortRepositoryEventManager,
+                                                        securityVerifier,
+                                                        auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_LISTENER));
+
+            cohortEventListener.setInboundInstanceEventWorkers(inboundInstanceEventWorkers);
 
             if (cohortSingleTopicConnector != null)
             {
@@ -482,6 +549,22 @@ public class OMRSCohortManager
     }
 
 
+    /**
+     * Return the statistics for the instance events received from each member of this cohort.
+     *
+     * @return list of statistics
+     */
+    List<InboundEventStatistics> getInboundEventStatistics()
+    {
+        if (cohortEventListener != null)
+        {
+            return cohortEventListener.getInboundEventStatistics();
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the status of the connection with the metadata highway.
      *
@@ -509,6 +592,11 @@ public class OMRSCohortManager
         {
             cohortConnectionStatus = CohortConnectionStatus.DISCONNECTING;
 
+            if (outboundRepositoryEventPublisher != null)
+            {
+                outboundRepositoryEventPublisher.disconnect();
+            }
+
             if (cohortRegistry != null)
             {
                 cohortRegistry.disconnectFromCohort(permanent);
@@ -534,6 +622,11 @@ public class OMRSCohortManager
                 cohortInstancesTopicConnector.disconnect();
             }
 
+            if (cohortEventListener != null)
+            {
+                cohortEventListener.disconnect();
+            }
+
             cohortConnectionStatus = CohortConnectionStatus.DISCONNECTED;
         }
         catch (ConnectorCheckedException   error)
@@ -7,6 +7,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistry
 import org.odpi.openmetadata.repositoryservices.events.OpenMetadataEventsSecurity;
 import org.odpi.openmetadata.repositoryservices.properties.CohortConnectionStatus;
 import org.odpi.openmetadata.repositoryservices.properties.CohortDescription;
+import org.odpi.openmetadata.repositoryservices.properties.InboundEventStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataEventProtocolVersion;
@@ -245,7 +246,10 @@ public class OMRSMetadataHighwayManager
                                      cohortTypesTopicConnector,
                                      cohortConfig.getCohortOMRSInstancesTopicConnection(),
                                      cohortInstancesTopicConnector,
-                                     inboundEventExchangeRule);
+                                     inboundEventExchangeRule,
+                                     cohortConfig.getOutboundInstanceEventBatchSize(),
+                                     cohortConfig.getOutboundInstanceEventMaxDelay(),
+                                     cohortConfig.getInboundInstanceEventWorkers());
 
             /*
              * The cohort manager is only added to the list if it initializes successfully.
@@ -352,6 +356,38 @@ public class OMRSMetadataHighwayManager
     }
 
 
+    /**
+     * Return the statistics for the instance events received from each member of the named cohort.
+     *
+     * @param cohortName name of cohort
+     * @return list of statistics or null if the cohort is not known
+     */
+    public List<InboundEventStatistics> getInboundEventStatistics(String   cohortName)
+    {
+        if (cohortName == null)
+        {
+            final String  actionDescription = "get inbound event statistics";
+
+            throw new OMRSLogicErrorException(OMRSErrorCode.NULL_COHORT_NAME.getMessageDefinition(),
+                                              this.getClass().getName(),
+                                              actionDescription);
+        }
+
+        for (OMRSCohortManager  existingCohortManager : cohortManagers)
+        {
+            if (existingCohortManager != null)
+            {
+                if (cohortName.equals(existingCohortManager.getCohortName()))
+                {
+                    return existingCohortManager.getInboundEventStatistics();
+                }
+            }
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the list of cohorts
      *
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.metadatahighway.OMRSMetadataHigh
 import org.odpi.openmetadata.repositoryservices.rest.properties.CohortListResponse;
 import org.odpi.openmetadata.repositoryservices.rest.properties.CohortMembershipListResponse;
 import org.odpi.openmetadata.repositoryservices.rest.properties.CohortMembershipResponse;
+import org.odpi.openmetadata.repositoryservices.rest.properties.InboundEventStatisticsResponse;
 import org.odpi.openmetadata.repositoryservices.rest.services.OMRSRepositoryServicesInstance;
 import org.odpi.openmetadata.repositoryservices.rest.services.OMRSRepositoryServicesInstanceHandler;
 import org.slf4j.Logger;
@@ -224,6 +225,53 @@ public class OMRSMetadataHighwayRESTServices
     }
 
 
+    /**
+     * Return the statistics for the instance events received from each member of a specific cohort.
+     *
+     * @param serverName name of this server
+     * @param userId calling user
+     * @param cohortName name of cohort
+     * @return list of statistics
+     */
+    public InboundEventStatisticsResponse getInboundEventStatistics(String     serverName,
+                                                                    String     userId,
+                                                                    String     cohortName)
+    {
+        final  String   methodName = "getInboundEventStatistics";
+
+        log.debug("Calling method: " + methodName);
+
+        InboundEventStatisticsResponse response = new InboundEventStatisticsResponse();
+
+        try
+        {
+            OMRSMetadataHighwayManager metadataHighwayManager = getMetadataHighway(userId, serverName, methodName);
+
+            response.setStatistics(metadataHighwayManager.getInboundEventStatistics(cohortName));
+        }
+        catch (InvalidParameterException  error)
+        {
+            exceptionHandler.captureInvalidParameterException(response, error);
+        }
+        catch (UserNotAuthorizedException  error)
+        {
+            exceptionHandler.captureUserNotAuthorizedException(response, error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            exceptionHandler.captureRepositoryErrorException(response, error);
+        }
+        catch (Exception  error)
+        {
+            exceptionHandler.captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Validate that the repository connector is available.
      *
@@ -13,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.FederatedQueryContext;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
@@ -21,6 +22,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 import org.odpi.openmetadata.repositoryservices.metadatahighway.OMRSMetadataHighwayManager;
 import org.odpi.openmetadata.repositoryservices.rest.properties.*;
 import org.odpi.openmetadata.repositoryservices.rest.services.OMRSRepositoryServicesInstance;
@@ -111,6 +113,7 @@ public class OMRSRepositoryRESTServices
      *                                      is rejected
      * @param enterpriseRepositoryConnector link to the repository responsible for servicing the REST calls to the enterprise.
      * @param remoteEnterpriseTopicConnection connection object to pass to client to enable it to listen on enterprise topic events - may be null
+     * @param repositoryContentManager      manager of the types known to this server - may be null
      * @param metadataHighwayManager        manager of the cohort managers
      * @param localServerURL                URL of the local server
      * @param auditLog                      auditLog destination
@@ -121,6 +124,7 @@ public class OMRSRepositoryRESTServices
                                              LocalOMRSRepositoryConnector localRepositoryConnector,
                                              OMRSRepositoryConnector      enterpriseRepositoryConnector,
                                              Connection                   remoteEnterpriseTopicConnection,
+                                             OMRSRepositoryContentManager repositoryContentManager,
                                              OMRSMetadataHighwayManager   metadataHighwayManager,
                                              String                       localServerURL,
                                              AuditLog                     auditLog,
@@ -131,6 +135,7 @@ public class OMRSRepositoryRESTServices
                                            localRepositoryConnector,
                                            enterpriseRepositoryConnector,
                                            remoteEnterpriseTopicConnection,
+                                           repositoryContentManager,
                                            metadataHighwayManager,
                                            localServerURL,
                                            serviceName,
@@ -333,6 +338,29 @@ public class OMRSRepositoryRESTServices
      * UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
     public TypeDefGalleryResponse getAllTypes(String serverName, String userId)
+    {
+        return getAllTypes(serverName, userId, null);
+    }
+
+
+    /**
+     * Returns the list of different types of metadata organized into two groups.  The first are the
+     * attribute type definitions (AttributeTypeDefs).  These provide types for properties in full
+     * type definitions.  Full type definitions (TypeDefs) describe types for entities, relationships
+     * and classifications.  The response includes the version of the type system known to this server.
+     * If the caller supplies the version it received on an earlier call for the same userId and the types
+     * have not changed since, the response carries only the version so the caller can reuse its copy of the types.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId     unique identifier for requesting user.
+     * @param knownTypeSystemVersion version returned with the caller's copy of the types (null if it has no copy)
+     * @return TypeDefGalleryResponse:
+     * List of different categories of type definitions (none if they match the known version) or
+     * InvalidParameterException the uerId is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public TypeDefGalleryResponse getAllTypes(String serverName, String userId, Long knownTypeSystemVersion)
     {
         final String methodName = "getAllTypes";
 
@@ -344,11 +372,22 @@ public class OMRSRepositoryRESTServices
         {
             OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
 
-            TypeDefGallery typeDefGallery = metadataCollection.getAllTypes(userId);
-            if (typeDefGallery != null)
+            /*
+             * The version is retrieved before the types so that a concurrent change to the types results in
+             * the caller retrieving them again on its next call.
+             */
+            long typeSystemVersion = getTypeSystemVersion(userId, serverName, methodName);
+
+            response.setTypeSystemVersion(typeSystemVersion);
+
+            if ((typeSystemVersion == 0) || (knownTypeSystemVersion == null) || (typeSystemVersion != knownTypeSystemVersion))
             {
-                response.setAttributeTypeDefs(typeDefGallery.getAttributeTypeDefs());
-                response.setTypeDefs(typeDefGallery.getTypeDefs());
+                TypeDefGallery typeDefGallery = metadataCollection.getAllTypes(userId);
+                if (typeDefGallery != null)
+                {
+                    response.setAttributeTypeDefs(typeDefGallery.getAttributeTypeDefs());
+                    response.setTypeDefs(typeDefGallery.getTypeDefs());
+                }
             }
         }
         catch (RepositoryErrorException error)
@@ -1927,6 +1966,66 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities in a single call.  Entities that
+     * are not known, or are only proxies, are missing from the results.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of entities in the order of the guids or
+     * InvalidParameterException the list of guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityListResponse getEntitiesDetail(String          serverName,
+                                                String          userId,
+                                                GUIDListRequest requestBody)
+    {
+        final  String   methodName = "getEntitiesDetail";
+
+        log.debug("Calling method: " + methodName);
+
+        List<String> guids = null;
+
+        EntityListResponse response = new EntityListResponse();
+
+        if (requestBody != null)
+        {
+            guids = requestBody.getGUIDs();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setEntities(metadataCollection.getEntitiesDetail(userId, guids));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Return a historical version of an entity.  This includes the header, classifications and properties of the entity.
      *
@@ -2319,6 +2418,8 @@ public class OMRSRepositoryRESTServices
 
     /**
      * Return a list of entities that match the supplied conditions.  The results can be returned over many pages.
+     * When the request is for the enterprise repository and sets a response time limit, the cohort members that do
+     * not respond in time are skipped and listed in the response.
      *
      * @param serverName unique identifier for requested server.
      * @param userId unique identifier for requesting user.
@@ -2353,8 +2454,10 @@ public class OMRSRepositoryRESTServices
         String                sequencingProperty           = null;
         SequencingOrder       sequencingOrder              = null;
         int                   pageSize                     = 0;
+        long                  responseTimeLimit            = 0L;
 
-        EntityListResponse response = new EntityListResponse();
+        EntityListResponse    response = new EntityListResponse();
+        FederatedQueryContext context  = null;
 
         if (findRequestParameters != null)
         {
@@ -2367,12 +2470,18 @@ public class OMRSRepositoryRESTServices
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
+            responseTimeLimit                 = findRequestParameters.getResponseTimeLimit();
         }
 
         try
         {
             OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
 
+            if ((! localRepository) && (responseTimeLimit > 0))
+            {
+                context = FederatedQueryContext.start(responseTimeLimit);
+            }
+
             List<EntityDetail>  entities = metadataCollection.findEntities(userId,
                                                                            entityTypeGUID,
                                                                            entitySubtypeGUIDs,
@@ -2391,6 +2500,11 @@ public class OMRSRepositoryRESTServices
                 response.setPageSize(pageSize);
             }
 
+            if (context != null)
+            {
+                response.setPartialResult(context.isPartialResult());
+                response.setSkippedMembers(context.getSkippedMembers());
+            }
         }
         catch (RepositoryErrorException  error)
         {
@@ -2424,6 +2538,13 @@ public class OMRSRepositoryRESTServices
         {
             captureGenericException(response, error, userId, serverName, methodName);
         }
+        finally
+        {
+            if (context != null)
+            {
+                FederatedQueryContext.clear();
+            }
+        }
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
@@ -5025,6 +5146,140 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Create a batch of new entities.  Each item is processed as if it had been passed to addEntity (or
+     * addExternalEntity if the item's externalSourceGUID is set).
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody list of descriptions of the new entities
+     * @return InstanceBatchResultsResponse:
+     * list of results - one for each item in the request or
+     * InvalidParameterException the list of items is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceBatchResultsResponse addEntities(String                   serverName,
+                                                    String                   userId,
+                                                    EntityBatchCreateRequest requestBody)
+    {
+        final  String   methodName = "addEntities";
+
+        log.debug("Calling method: " + methodName);
+
+        List<EntityBatchItem> newEntities = null;
+
+        InstanceBatchResultsResponse response = new InstanceBatchResultsResponse();
+
+        if (requestBody != null)
+        {
+            newEntities = requestBody.getNewEntities();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setResults(metadataCollection.addEntities(userId, newEntities));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Update the properties of a batch of entities.  Each item is processed as if it had been passed to
+     * updateEntityProperties.
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody list of entity guids and their new properties
+     * @return InstanceBatchResultsResponse:
+     * list of results - one for each item in the request or
+     * InvalidParameterException the list of items is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceBatchResultsResponse updateEntitiesProperties(String                     serverName,
+                                                                 String                     userId,
+                                                                 InstanceBatchUpdateRequest requestBody)
+    {
+        final  String   methodName = "updateEntitiesProperties";
+
+        log.debug("Calling method: " + methodName);
+
+        List<InstanceUpdateBatchItem> entityUpdates = null;
+
+        InstanceBatchResultsResponse response = new InstanceBatchResultsResponse();
+
+        if (requestBody != null)
+        {
+            entityUpdates = requestBody.getInstanceUpdates();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setResults(metadataCollection.updateEntitiesProperties(userId, entityUpdates));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
 
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
@@ -6044,6 +6299,140 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Create a batch of new relationships.  Each item is processed as if it had been passed to addRelationship
+     * (or addExternalRelationship if the item's externalSourceGUID is set).
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody list of descriptions of the new relationships
+     * @return InstanceBatchResultsResponse:
+     * list of results - one for each item in the request or
+     * InvalidParameterException the list of items is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceBatchResultsResponse addRelationships(String                         serverName,
+                                                         String                         userId,
+                                                         RelationshipBatchCreateRequest requestBody)
+    {
+        final  String   methodName = "addRelationships";
+
+        log.debug("Calling method: " + methodName);
+
+        List<RelationshipBatchItem> newRelationships = null;
+
+        InstanceBatchResultsResponse response = new InstanceBatchResultsResponse();
+
+        if (requestBody != null)
+        {
+            newRelationships = requestBody.getNewRelationships();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setResults(metadataCollection.addRelationships(userId, newRelationships));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Update the properties of a batch of relationships.  Each item is processed as if it had been passed to
+     * updateRelationshipProperties.
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody list of relationship guids and their new properties
+     * @return InstanceBatchResultsResponse:
+     * list of results - one for each item in the request or
+     * InvalidParameterException the list of items is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceBatchResultsResponse updateRelationshipsProperties(String                     serverName,
+                                                                      String                     userId,
+                                                                      InstanceBatchUpdateRequest requestBody)
+    {
+        final  String   methodName = "updateRelationshipsProperties";
+
+        log.debug("Calling method: " + methodName);
+
+        List<InstanceUpdateBatchItem> relationshipUpdates = null;
+
+        InstanceBatchResultsResponse response = new InstanceBatchResultsResponse();
+
+        if (requestBody != null)
+        {
+            relationshipUpdates = requestBody.getInstanceUpdates();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setResults(metadataCollection.updateRelationshipsProperties(userId, relationshipUpdates));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -8429,6 +8818,34 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the version of the type system known to the requested server.
+     *
+     * @param userId calling user
+     * @param serverName name of the server that the request is for
+     * @param methodName calling method
+     * @return version or 0 if the server does not keep a version
+     * @throws InvalidParameterException the server name is not known
+     * @throws UserNotAuthorizedException the user is not authorized to issue requests to the server
+     * @throws RepositoryErrorException the server is not active
+     */
+    private long getTypeSystemVersion(String userId,
+                                      String serverName,
+                                      String methodName) throws InvalidParameterException,
+                                                                UserNotAuthorizedException,
+                                                                RepositoryErrorException
+    {
+        OMRSRepositoryServicesInstance instance = instanceHandler.getInstance(userId, serverName, methodName);
+
+        if ((instance != null) && (instance.getRepositoryContentManager() != null))
+        {
+            return instance.getRepositoryContentManager().getTypeSystemVersion();
+        }
+
+        return 0;
+    }
+
+
     /**
      * Set the exception information into the response.
      *
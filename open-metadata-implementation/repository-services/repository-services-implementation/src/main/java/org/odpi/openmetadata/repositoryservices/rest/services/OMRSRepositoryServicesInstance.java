@@ -8,6 +8,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 import org.odpi.openmetadata.repositoryservices.metadatahighway.OMRSMetadataHighwayManager;
 
 
@@ -20,6 +21,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
     private OMRSMetadataCollection       localMetadataCollection;
     private OMRSMetadataCollection       enterpriseMetadataCollection;
     private final Connection                   remoteEnterpriseOMRSTopicConnection;
+    private final OMRSRepositoryContentManager repositoryContentManager;
     private final OMRSMetadataHighwayManager   metadataHighwayManager;
     private final String                       localServerURL;
     private final AuditLog                     auditLog;
@@ -34,6 +36,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
      * @param localRepositoryConnector link to the repository responsible for servicing the REST calls to the local repository
      * @param enterpriseRepositoryConnector link to the repository responsible for servicing the REST calls to the enterprise
      * @param remoteEnterpriseTopicConnection connection object to pass to client to enable it to listen on enterprise topic events - may be null
+     * @param repositoryContentManager manager of the types known to this server - may be null
      * @param metadataHighwayManager manager of the cohort managers
      * @param localServerURL URL of the local server
      * @param serviceName name of this service
@@ -45,6 +48,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
                                           OMRSRepositoryConnector      localRepositoryConnector,
                                           OMRSRepositoryConnector      enterpriseRepositoryConnector,
                                           Connection                   remoteEnterpriseTopicConnection,
+                                          OMRSRepositoryContentManager repositoryContentManager,
                                           OMRSMetadataHighwayManager   metadataHighwayManager,
                                           String                       localServerURL,
                                           String                       serviceName,
@@ -58,6 +62,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
         this.localServerURL = localServerURL;
         this.metadataHighwayManager = metadataHighwayManager;
         this.remoteEnterpriseOMRSTopicConnection = remoteEnterpriseTopicConnection;
+        this.repositoryContentManager = repositoryContentManager;
 
         /*
          * The local repository connector is null in governance servers, view servers and metadata access points.
@@ -152,6 +157,18 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
 
 
 
+    /**
+     * Return the manager of the types known to this server.  This is null if the server does not
+     * use the repository services.
+     *
+     * @return repository content manager or null
+     */
+    public OMRSRepositoryContentManager getRepositoryContentManager()
+    {
+        return repositoryContentManager;
+    }
+
+
     /**
      * Return the metadata highway manager
      *
@@ -0,0 +1,153 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+
+/**
+ * FederatedInstanceCacheTest checks that cached instances are only returned to the users that retrieved them,
+ * and that they are removed when they expire, when the cache is full and when an event reports a change.
+ */
+public class FederatedInstanceCacheTest
+{
+    private EntityDetail getEntity(String guid, long version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * A cached entity is returned (as a copy) to the user that retrieved it but not to other users.
+     */
+    @Test
+    public void testUserScope()
+    {
+        FederatedInstanceCache cache  = new FederatedInstanceCache(10, 60000);
+        EntityDetail           entity = getEntity("guid1", 1);
+
+        cache.putEntity("user1", entity, cache.getRetrievalStamp());
+
+        EntityDetail cachedEntity = cache.getEntity("user1", "guid1");
+
+        assertNotNull(cachedEntity);
+        assertNotSame(cachedEntity, entity);
+        assertEquals(cachedEntity.getGUID(), "guid1");
+        assertNull(cache.getEntity("user2", "guid1"));
+        assertNull(cache.getRelationship("user1", "guid1"));
+
+        cache.putEntity("user2", getEntity("guid1", 1), cache.getRetrievalStamp());
+
+        assertNotNull(cache.getEntity("user2", "guid1"));
+        assertEquals(cache.getHitCount(), 2);
+        assertEquals(cache.getMissCount(), 2);
+        assertEquals(cache.getHitRate(), 0.5);
+    }
+
+
+    /**
+     * Instances are removed once their time to live has passed.
+     */
+    @Test
+    public void testExpiry() throws InterruptedException
+    {
+        FederatedInstanceCache cache = new FederatedInstanceCache(10, 20);
+
+        cache.putEntity("user1", getEntity("guid1", 1), cache.getRetrievalStamp());
+        assertNotNull(cache.getEntity("user1", "guid1"));
+
+        Thread.sleep(40);
+
+        assertNull(cache.getEntity("user1", "guid1"));
+        assertEquals(cache.size(), 0);
+    }
+
+
+    /**
+     * The least recently used instance is evicted when the cache is full.
+     */
+    @Test
+    public void testEviction()
+    {
+        FederatedInstanceCache cache = new FederatedInstanceCache(2, 60000);
+
+        cache.putEntity("user1", getEntity("guid1", 1), cache.getRetrievalStamp());
+        cache.putEntity("user1", getEntity("guid2", 1), cache.getRetrievalStamp());
+        cache.getEntity("user1", "guid1");
+        cache.putEntity("user1", getEntity("guid3", 1), cache.getRetrievalStamp());
+
+        assertNotNull(cache.getEntity("user1", "guid1"));
+        assertNull(cache.getEntity("user1", "guid2"));
+        assertNotNull(cache.getEntity("user1", "guid3"));
+        assertEquals(cache.getEvictionCount(), 1);
+    }
+
+
+    /**
+     * Events remove the instances they describe, and a retrieval that started before the change is not cached.
+     */
+    @Test
+    public void testInvalidation()
+    {
+        FederatedInstanceCache cache        = new FederatedInstanceCache(10, 60000);
+        Relationship           relationship = new Relationship();
+
+        relationship.setGUID("guid2");
+        relationship.setVersion(1);
+
+        cache.putEntity("user1", getEntity("guid1", 1), cache.getRetrievalStamp());
+        cache.putRelationship("user1", relationship, cache.getRetrievalStamp());
+
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, getEntity("guid1", 2)));
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT, relationship));
+
+        assertNull(cache.getEntity("user1", "guid1"));
+        assertNull(cache.getRelationship("user1", "guid2"));
+        assertEquals(cache.getInvalidationCount(), 2);
+
+        long retrievalStamp = cache.getRetrievalStamp();
+
+        cache.invalidate("guid1");
+        cache.putEntity("user1", getEntity("guid1", 2), retrievalStamp);
+
+        assertNull(cache.getEntity("user1", "guid1"));
+
+        cache.putEntity("user1", getEntity("guid1", 3), cache.getRetrievalStamp());
+
+        assertEquals(cache.getEntity("user1", "guid1").getVersion(), 3);
+    }
+
+
+    /**
+     * An older version does not replace a newer one and a newer version replaces the users that can see it.
+     */
+    @Test
+    public void testVersions()
+    {
+        FederatedInstanceCache cache = new FederatedInstanceCache(10, 60000);
+
+        cache.putEntity("user1", getEntity("guid1", 2), cache.getRetrievalStamp());
+        cache.putEntity("user2", getEntity("guid1", 1), cache.getRetrievalStamp());
+
+        assertEquals(cache.getEntity("user1", "guid1").getVersion(), 2);
+        assertNull(cache.getEntity("user2", "guid1"));
+
+        cache.putEntity("user2", getEntity("guid1", 3), cache.getRetrievalStamp());
+
+        assertEquals(cache.getEntity("user2", "guid1").getVersion(), 3);
+        assertNull(cache.getEntity("user1", "guid1"));
+    }
+}
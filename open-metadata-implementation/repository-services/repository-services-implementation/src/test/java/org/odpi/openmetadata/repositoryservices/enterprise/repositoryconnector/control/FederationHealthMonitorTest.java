@@ -0,0 +1,170 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.FederatedQueryContext;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * FederationHealthMonitorTest checks that failing cohort members are suspended and resumed, and that slow
+ * members are called after the others.
+ */
+public class FederationHealthMonitorTest
+{
+    private FederationHealthMonitor healthMonitor = null;
+
+
+    private OMRSRepositoryConnector getConnector(String metadataCollectionId)
+    {
+        OMRSRepositoryConnector connector = new OMRSRepositoryConnector() {};
+
+        connector.setMetadataCollectionId(metadataCollectionId);
+
+        return connector;
+    }
+
+
+    /**
+     * Each test starts with a new monitor that suspends members after two failures for 50 milliseconds
+     * and treats members that take more than 100 milliseconds as slow.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        healthMonitor = new FederationHealthMonitor(null, 2, 50, 100, 1);
+    }
+
+
+    /**
+     * Remove the context and stop the worker thread.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        FederatedQueryContext.clear();
+        healthMonitor.shutdown();
+    }
+
+
+    /**
+     * A member is suspended after the failure threshold is reached and skipped until the suspension period ends.
+     * A successful trial request then resumes it.
+     */
+    @Test
+    public void testSuspendAndResume() throws InterruptedException
+    {
+        OMRSRepositoryConnector       failing    = getConnector("failing");
+        OMRSRepositoryConnector       healthy    = getConnector("healthy");
+        List<OMRSRepositoryConnector> connectors = Arrays.asList(failing, healthy);
+
+        healthMonitor.recordOutcome(failing, false, 1, "test");
+        assertEquals(healthMonitor.selectConnectors(connectors, null), connectors);
+
+        healthMonitor.recordOutcome(failing, false, 1, "test");
+        assertEquals(healthMonitor.getMemberHealth("failing").getCircuitState(), FederationMemberHealth.CircuitState.OPEN);
+
+        FederatedQueryContext context = FederatedQueryContext.start(0);
+
+        assertEquals(healthMonitor.selectConnectors(connectors, context), Collections.singletonList(healthy));
+        assertTrue(context.isPartialResult());
+        assertEquals(context.getSkippedMembers(), Collections.singletonList("failing"));
+        assertEquals(context.getSkippedReason("failing"), FederatedQueryContext.MEMBER_SUSPENDED);
+
+        Thread.sleep(60);
+
+        /*
+         * Only one trial request is allowed through.
+         */
+        assertEquals(healthMonitor.selectConnectors(connectors, null), connectors);
+        assertEquals(healthMonitor.getMemberHealth("failing").getCircuitState(), FederationMemberHealth.CircuitState.HALF_OPEN);
+        assertEquals(healthMonitor.selectConnectors(connectors, null), Collections.singletonList(healthy));
+
+        healthMonitor.recordOutcome(failing, true, 1, "test");
+
+        assertEquals(healthMonitor.getMemberHealth("failing").getCircuitState(), FederationMemberHealth.CircuitState.CLOSED);
+        assertEquals(healthMonitor.getMemberHealth("failing").getConsecutiveFailures(), 0);
+        assertEquals(healthMonitor.getMemberHealth("failing").getFailureCount(), 2);
+        assertEquals(healthMonitor.selectConnectors(connectors, null), connectors);
+    }
+
+
+    /**
+     * A failed trial request suspends the member again straight away.
+     */
+    @Test
+    public void testFailedTrial() throws InterruptedException
+    {
+        OMRSRepositoryConnector failing = getConnector("failing");
+
+        healthMonitor.recordOutcome(failing, false, 1, "test");
+        healthMonitor.recordOutcome(failing, false, 1, "test");
+
+        Thread.sleep(60);
+
+        assertEquals(healthMonitor.selectConnectors(Collections.singletonList(failing), null).size(), 1);
+
+        healthMonitor.recordOutcome(failing, false, 1, "test");
+
+        assertEquals(healthMonitor.getMemberHealth("failing").getCircuitState(), FederationMemberHealth.CircuitState.OPEN);
+        assertTrue(healthMonitor.selectConnectors(Collections.singletonList(failing), null).isEmpty());
+    }
+
+
+    /**
+     * Slow members move to the end of the list; the others keep their order.
+     */
+    @Test
+    public void testSlowMembersCalledLast()
+    {
+        OMRSRepositoryConnector first  = getConnector("first");
+        OMRSRepositoryConnector slow   = getConnector("slow");
+        OMRSRepositoryConnector last   = getConnector("last");
+
+        healthMonitor.recordOutcome(first, true, 10, "test");
+        healthMonitor.recordOutcome(slow, true, 500, "test");
+        healthMonitor.recordOutcome(last, true, 20, "test");
+
+        assertEquals(healthMonitor.selectConnectors(Arrays.asList(first, slow, last), null), Arrays.asList(first, last, slow));
+
+        /*
+         * The moving average falls as the member speeds up.
+         */
+        for (int i = 0; i < 20; i++)
+        {
+            healthMonitor.recordOutcome(slow, true, 10, "test");
+        }
+
+        assertEquals(healthMonitor.selectConnectors(Arrays.asList(first, slow, last), null), Arrays.asList(first, slow, last));
+    }
+
+
+    /**
+     * Resetting a member clears its history.
+     */
+    @Test
+    public void testResetMember()
+    {
+        OMRSRepositoryConnector failing = getConnector("failing");
+
+        healthMonitor.recordOutcome(failing, false, 1, "test");
+        healthMonitor.recordOutcome(failing, false, 1, "test");
+        assertTrue(healthMonitor.selectConnectors(Collections.singletonList(failing), null).isEmpty());
+
+        healthMonitor.resetMember("failing");
+
+        assertEquals(healthMonitor.selectConnectors(Collections.singletonList(failing), null).size(), 1);
+        assertFalse(healthMonitor.getMembers().isEmpty());
+        assertEquals(healthMonitor.getMemberHealth("failing").getRequestCount(), 0);
+    }
+}
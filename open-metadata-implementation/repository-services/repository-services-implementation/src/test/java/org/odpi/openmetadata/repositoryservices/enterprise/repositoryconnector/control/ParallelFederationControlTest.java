@@ -0,0 +1,367 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.FederatedQueryContext;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.FindEntitiesExecutor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * ParallelFederationControlTest checks that the results of a member that does not respond within the
+ * response time limit are discarded, even if they arrive after the request has completed, and that the time
+ * a request waits for a worker thread does not count against the member.
+ */
+public class ParallelFederationControlTest
+{
+    private FederationHealthMonitor healthMonitor = null;
+
+
+    /**
+     * Each test starts with a new monitor with two worker threads.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        healthMonitor = new FederationHealthMonitor(null, 2, 50, 100, 2);
+    }
+
+
+    /**
+     * Remove the context and stop the worker threads.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        FederatedQueryContext.clear();
+        healthMonitor.shutdown();
+    }
+
+
+    /**
+     * The slow member is skipped when the response time limit is reached.  Its results arrive after the
+     * request has completed and must not be added to the results.
+     */
+    @Test
+    public void testLateResultsDiscarded() throws Exception
+    {
+        CountDownLatch slowMemberRelease = new CountDownLatch(1);
+
+        OMRSRepositoryConnector fast = getConnector("fast", getMetadataCollection("fast", "fastEntity", null));
+        OMRSRepositoryConnector slow = getConnector("slow", getMetadataCollection("slow", "slowEntity", slowMemberRelease));
+
+        FindEntitiesExecutor executor = new FindEntitiesExecutor("testUser",
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 0,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 0,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 "testLateResultsDiscarded");
+
+        FederatedQueryContext     context = FederatedQueryContext.start(200);
+        ParallelFederationControl control = new ParallelFederationControl("testUser",
+                                                                          Arrays.asList(fast, slow),
+                                                                          healthMonitor,
+                                                                          null,
+                                                                          "testLateResultsDiscarded");
+
+        control.executeCommand(executor);
+
+        assertTrue(context.isPartialResult());
+        assertTrue(context.getSkippedMembers().contains("slow"));
+        assertEquals(getGUIDs(executor), Collections.singletonList("fastEntity"));
+
+        /*
+         * Let the slow member supply its results and wait for it to finish.
+         */
+        slowMemberRelease.countDown();
+        healthMonitor.getWorkerPool().shutdown();
+        assertTrue(healthMonitor.getWorkerPool().awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(getGUIDs(executor), Collections.singletonList("fastEntity"));
+        assertEquals(healthMonitor.getMemberHealth("slow").getConsecutiveFailures(), 1);
+        assertEquals(healthMonitor.getMemberHealth("fast").getConsecutiveFailures(), 0);
+    }
+
+
+    /**
+     * Without a response time limit the request waits for every member.
+     */
+    @Test
+    public void testAllMembersWithoutLimit() throws Exception
+    {
+        CountDownLatch slowMemberRelease = new CountDownLatch(1);
+
+        OMRSRepositoryConnector fast = getConnector("fast", getMetadataCollection("fast", "fastEntity", null));
+        OMRSRepositoryConnector slow = getConnector("slow", getMetadataCollection("slow", "slowEntity", slowMemberRelease));
+
+        FindEntitiesExecutor executor = new FindEntitiesExecutor("testUser",
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 0,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 0,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 "testAllMembersWithoutLimit");
+
+        ParallelFederationControl control = new ParallelFederationControl("testUser",
+                                                                          Arrays.asList(fast, slow),
+                                                                          healthMonitor,
+                                                                          null,
+                                                                          "testAllMembersWithoutLimit");
+
+        new Thread(() -> { sleep(100); slowMemberRelease.countDown(); }).start();
+
+        control.executeCommand(executor);
+
+        List<String> resultGUIDs = getGUIDs(executor);
+        Collections.sort(resultGUIDs);
+
+        assertEquals(resultGUIDs, Arrays.asList("fastEntity", "slowEntity"));
+    }
+
+
+    /**
+     * A member whose request is still waiting for a worker thread when the response time limit is reached is
+     * skipped, but it is not called and no failure is recorded against it.
+     */
+    @Test
+    public void testQueuedMemberNotFailed() throws Exception
+    {
+        healthMonitor.shutdown();
+        healthMonitor = new FederationHealthMonitor(null, 2, 50, 100, 1);
+
+        CountDownLatch slowMemberRelease = new CountDownLatch(1);
+        AtomicInteger  queuedCalls       = new AtomicInteger(0);
+
+        OMRSRepositoryConnector slow   = getConnector("slow", getMetadataCollection("slow", "slowEntity", slowMemberRelease));
+        OMRSRepositoryConnector queued = getConnector("queued", getMetadataCollection("queued", "queuedEntity", null, queuedCalls));
+
+        FindEntitiesExecutor      executor = getExecutor("testQueuedMemberNotFailed");
+        FederatedQueryContext     context  = FederatedQueryContext.start(200);
+        ParallelFederationControl control  = new ParallelFederationControl("testUser",
+                                                                           Arrays.asList(slow, queued),
+                                                                           healthMonitor,
+                                                                           null,
+                                                                           "testQueuedMemberNotFailed");
+
+        control.executeCommand(executor);
+
+        assertTrue(context.getSkippedMembers().contains("slow"));
+        assertTrue(context.getSkippedMembers().contains("queued"));
+
+        slowMemberRelease.countDown();
+        healthMonitor.getWorkerPool().shutdown();
+        assertTrue(healthMonitor.getWorkerPool().awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(queuedCalls.get(), 0);
+        assertEquals(healthMonitor.getMemberHealth("slow").getConsecutiveFailures(), 1);
+        assertEquals(healthMonitor.getMemberHealth("queued").getConsecutiveFailures(), 0);
+    }
+
+
+    /**
+     * Without a response time limit, the calling thread issues the requests that the busy worker threads have not
+     * started, and the time they spent queued is not counted as the members' response time.
+     */
+    @Test
+    public void testCallerIssuesQueuedRequests() throws Exception
+    {
+        healthMonitor.shutdown();
+        healthMonitor = new FederationHealthMonitor(null, 2, 50, 100, 1);
+
+        CountDownLatch poolRelease = new CountDownLatch(1);
+
+        healthMonitor.getWorkerPool().submit(() ->
+        {
+            while (poolRelease.getCount() > 0)
+            {
+                sleep(10);
+            }
+        });
+
+        OMRSRepositoryConnector first  = getConnector("first", getMetadataCollection("first", "firstEntity", null));
+        OMRSRepositoryConnector second = getConnector("second", getMetadataCollection("second", "secondEntity", null));
+
+        FindEntitiesExecutor      executor = getExecutor("testCallerIssuesQueuedRequests");
+        ParallelFederationControl control  = new ParallelFederationControl("testUser",
+                                                                           Arrays.asList(first, second),
+                                                                           healthMonitor,
+                                                                           null,
+                                                                           "testCallerIssuesQueuedRequests");
+
+        new Thread(() -> { sleep(500); poolRelease.countDown(); }).start();
+
+        long start = System.currentTimeMillis();
+
+        control.executeCommand(executor);
+
+        assertTrue(System.currentTimeMillis() - start < 400);
+
+        List<String> resultGUIDs = getGUIDs(executor);
+        Collections.sort(resultGUIDs);
+
+        assertEquals(resultGUIDs, Arrays.asList("firstEntity", "secondEntity"));
+        assertTrue(healthMonitor.getMemberHealth("first").getAverageLatency() < 100);
+        assertTrue(healthMonitor.getMemberHealth("second").getAverageLatency() < 100);
+    }
+
+
+    private FindEntitiesExecutor getExecutor(String methodName)
+    {
+        return new FindEntitiesExecutor("testUser",
+                                        null,
+                                        null,
+                                        null,
+                                        0,
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        0,
+                                        null,
+                                        null,
+                                        null,
+                                        methodName);
+    }
+
+
+    private OMRSRepositoryConnector getConnector(String                 metadataCollectionId,
+                                                 OMRSMetadataCollection memberMetadataCollection)
+    {
+        OMRSRepositoryConnector connector = new OMRSRepositoryConnector()
+        {
+            @Override
+            public OMRSMetadataCollection getMetadataCollection()
+            {
+                return memberMetadataCollection;
+            }
+        };
+
+        connector.setMetadataCollectionId(metadataCollectionId);
+
+        return connector;
+    }
+
+
+    /**
+     * Return a metadata collection that returns a single entity from findEntities.  If a latch is supplied,
+     * the call waits for the latch to be released, ignoring any attempt to interrupt it, so the results are
+     * supplied after the caller has given up.
+     *
+     * @param metadataCollectionId identifier of the metadata collection
+     * @param entityGUID identifier of the entity to return
+     * @param release latch to wait for (may be null)
+     * @return mocked metadata collection
+     * @throws Exception not thrown by the mock
+     */
+    private OMRSMetadataCollection getMetadataCollection(String         metadataCollectionId,
+                                                         String         entityGUID,
+                                                         CountDownLatch release) throws Exception
+    {
+        return getMetadataCollection(metadataCollectionId, entityGUID, release, new AtomicInteger(0));
+    }
+
+
+    /**
+     * Return a metadata collection that returns a single entity from findEntities and counts the calls.
+     *
+     * @param metadataCollectionId identifier of the metadata collection
+     * @param entityGUID identifier of the entity to return
+     * @param release latch to wait for (may be null)
+     * @param calls count of the calls to findEntities
+     * @return mocked metadata collection
+     * @throws Exception not thrown by the mock
+     */
+    private OMRSMetadataCollection getMetadataCollection(String         metadataCollectionId,
+                                                         String         entityGUID,
+                                                         CountDownLatch release,
+                                                         AtomicInteger  calls) throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = mock(OMRSMetadataCollection.class);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(entityGUID);
+        entity.setMetadataCollectionId(metadataCollectionId);
+
+        when(metadataCollection.getMetadataCollectionId(any())).thenReturn(metadataCollectionId);
+        when(metadataCollection.findEntities(any(), any(), any(), any(), anyInt(), any(), any(), any(), any(), any(), anyInt())).thenAnswer(invocation ->
+        {
+            calls.incrementAndGet();
+
+            while ((release != null) && (release.getCount() > 0))
+            {
+                sleep(10);
+            }
+
+            return Collections.singletonList(entity);
+        });
+
+        return metadataCollection;
+    }
+
+
+    private List<String> getGUIDs(FindEntitiesExecutor executor) throws Exception
+    {
+        List<EntityDetail> results = executor.getResults(null, mock(OMRSMetadataCollection.class));
+
+        assertTrue(results != null);
+
+        List<String> resultGUIDs = new ArrayList<>();
+
+        for (EntityDetail result : results)
+        {
+            resultGUIDs.add(result.getGUID());
+        }
+
+        return resultGUIDs;
+    }
+
+
+    private static void sleep(long milliseconds)
+    {
+        try
+        {
+            Thread.sleep(milliseconds);
+        }
+        catch (InterruptedException error)
+        {
+            // keep waiting - the test controls when the call completes
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.ParallelFederationControl;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+/**
+ * GetEntitiesDetailExecutorTest checks that the entities returned by each member of the cohort are merged into
+ * a single list in the order of the requested GUIDs, with the latest version of each entity.
+ */
+public class GetEntitiesDetailExecutorTest
+{
+    private static final String USER_ID = "testUser";
+
+
+    /**
+     * Each member knows some of the entities.  Unknown entities and entities where the latest version is deleted
+     * are missing from the results.  A member that fails does not stop the others' results being returned.
+     */
+    @Test
+    public void testMixedGUIDs() throws Exception
+    {
+        OMRSRepositoryConnector member1 = getConnector("member1",
+                                                       getEntity("e1", 1, InstanceStatus.ACTIVE),
+                                                       getEntity("e2", 1, InstanceStatus.ACTIVE),
+                                                       getEntity("e4", 1, InstanceStatus.ACTIVE));
+        OMRSRepositoryConnector member2 = getConnector("member2",
+                                                       getEntity("e2", 2, InstanceStatus.ACTIVE),
+                                                       getEntity("e3", 1, InstanceStatus.ACTIVE),
+                                                       getEntity("e4", 2, InstanceStatus.DELETED));
+        OMRSRepositoryConnector member3 = getFailingConnector("member3");
+
+        GetEntitiesDetailExecutor executor = this.runExecutor(Arrays.asList(member1, member2, member3),
+                                                              Arrays.asList("e3", "missing", "e4", "e1", "e2"));
+
+        List<EntityDetail> results = executor.getEntitiesDetail(null, mock(OMRSMetadataCollection.class));
+
+        List<String> resultGUIDs = new ArrayList<>();
+
+        for (EntityDetail result : results)
+        {
+            resultGUIDs.add(result.getGUID());
+        }
+
+        assertEquals(resultGUIDs, Arrays.asList("e3", "e1", "e2"));
+        assertEquals(results.get(2).getVersion(), 2L);
+    }
+
+
+    /**
+     * None of the members know the entities.
+     */
+    @Test
+    public void testNoneFound() throws Exception
+    {
+        OMRSRepositoryConnector member1 = getConnector("member1");
+        OMRSRepositoryConnector member2 = getConnector("member2", getEntity("e1", 1, InstanceStatus.DELETED));
+
+        GetEntitiesDetailExecutor executor = this.runExecutor(Arrays.asList(member1, member2), Arrays.asList("e1", "missing"));
+
+        assertNull(executor.getEntitiesDetail(null, mock(OMRSMetadataCollection.class)));
+    }
+
+
+    /**
+     * The exception from the members is returned if none of them respond.
+     */
+    @Test
+    public void testAllMembersFail() throws Exception
+    {
+        List<OMRSRepositoryConnector> members = Arrays.asList(getFailingConnector("member1"), getFailingConnector("member2"));
+
+        try
+        {
+            this.runExecutor(members, Arrays.asList("e1", "e2")).getEntitiesDetail(null, mock(OMRSMetadataCollection.class));
+            fail("Repository error not returned");
+        }
+        catch (RepositoryErrorException expected)
+        {
+            // expected
+        }
+    }
+
+
+    private GetEntitiesDetailExecutor runExecutor(List<OMRSRepositoryConnector> members,
+                                                  List<String>                  guids) throws RepositoryErrorException
+    {
+        final String methodName = "getEntitiesDetail";
+
+        GetEntitiesDetailExecutor executor = new GetEntitiesDetailExecutor(USER_ID, guids, null, null, null, methodName);
+
+        new ParallelFederationControl(USER_ID, members, null, methodName).executeCommand(executor);
+
+        return executor;
+    }
+
+
+    private OMRSRepositoryConnector getConnector(String        metadataCollectionId,
+                                                 EntityDetail... entities) throws Exception
+    {
+        OMRSMetadataCollection memberMetadataCollection = mock(OMRSMetadataCollection.class);
+
+        when(memberMetadataCollection.getMetadataCollectionId(any())).thenReturn(metadataCollectionId);
+        when(memberMetadataCollection.getEntitiesDetail(any(), anyList())).thenReturn(entities.length == 0 ? null : Arrays.asList(entities));
+
+        return getConnector(metadataCollectionId, memberMetadataCollection);
+    }
+
+
+    private OMRSRepositoryConnector getFailingConnector(String metadataCollectionId) throws Exception
+    {
+        OMRSMetadataCollection memberMetadataCollection = mock(OMRSMetadataCollection.class);
+
+        when(memberMetadataCollection.getMetadataCollectionId(any())).thenReturn(metadataCollectionId);
+        when(memberMetadataCollection.getEntitiesDetail(any(), anyList())).thenThrow(
+                new RepositoryErrorException(OMRSErrorCode.REPOSITORY_NOT_AVAILABLE.getMessageDefinition(metadataCollectionId, "getEntitiesDetail"),
+                                             GetEntitiesDetailExecutorTest.class.getName(),
+                                             "getEntitiesDetail"));
+
+        return getConnector(metadataCollectionId, memberMetadataCollection);
+    }
+
+
+    private OMRSRepositoryConnector getConnector(String                 metadataCollectionId,
+                                                 OMRSMetadataCollection memberMetadataCollection)
+    {
+        OMRSRepositoryConnector connector = new OMRSRepositoryConnector()
+        {
+            @Override
+            public OMRSMetadataCollection getMetadataCollection()
+            {
+                return memberMetadataCollection;
+            }
+        };
+
+        connector.setMetadataCollectionId(metadataCollectionId);
+
+        return connector;
+    }
+
+
+    private EntityDetail getEntity(String         guid,
+                                   long           version,
+                                   InstanceStatus status)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setStatus(status);
+
+        return entity;
+    }
+}
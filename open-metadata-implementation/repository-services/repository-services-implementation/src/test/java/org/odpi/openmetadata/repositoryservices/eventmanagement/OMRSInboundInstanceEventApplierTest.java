@@ -0,0 +1,277 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.properties.InboundEventStatistics;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * OMRSInboundInstanceEventApplierTest checks that inbound instance events are applied in parallel without
+ * changing the order of the changes to each instance.
+ */
+public class OMRSInboundInstanceEventApplierTest
+{
+    private OMRSInstanceEvent getEntityEvent(String guid, long version, String metadataCollectionId)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        OMRSInstanceEvent   event      = new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, entity);
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+
+        originator.setMetadataCollectionId(metadataCollectionId);
+        originator.setServerName("server-" + metadataCollectionId);
+        event.setEventOriginator(originator);
+
+        return event;
+    }
+
+
+    private EntityProxy getEntityProxy(String guid)
+    {
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID(guid);
+
+        return entityProxy;
+    }
+
+
+    private OMRSInstanceEvent getRelationshipEvent(String guid, String entityOneGUID, String entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setEntityOneProxy(getEntityProxy(entityOneGUID));
+        relationship.setEntityTwoProxy(getEntityProxy(entityTwoGUID));
+
+        return new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, relationship);
+    }
+
+
+    /**
+     * Events for the same instance are applied in the order they are received, and events that affect
+     * more than one instance wait for the earlier events.
+     */
+    @Test
+    public void testOrdering()
+    {
+        List<OMRSInstanceEvent>         appliedEvents = Collections.synchronizedList(new ArrayList<>());
+        List<Integer>                   barrierCounts = new ArrayList<>();
+        OMRSInboundInstanceEventApplier applier       = new OMRSInboundInstanceEventApplier("test", 4, event ->
+        {
+            if (event.getInstanceEventType() == OMRSInstanceEventType.BATCH_INSTANCES_EVENT)
+            {
+                barrierCounts.add(appliedEvents.size());
+            }
+            else
+            {
+                try
+                {
+                    Thread.sleep(1);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            appliedEvents.add(event);
+        });
+
+        for (long version = 1; version <= 20; version++)
+        {
+            for (int instance = 0; instance < 5; instance++)
+            {
+                applier.applyInstanceEvent(getEntityEvent("e" + instance, version, "mc1"));
+            }
+        }
+
+        applier.applyInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT, "t1", "Type", "b1"));
+
+        assertEquals(barrierCounts.size(), 1);
+        assertEquals(barrierCounts.get(0).intValue(), 100);
+
+        Map<String, Long> lastVersions = new HashMap<>();
+
+        for (OMRSInstanceEvent event : appliedEvents)
+        {
+            if (event.getEntity() != null)
+            {
+                Long lastVersion = lastVersions.get(event.getEntity().getGUID());
+
+                assertTrue((lastVersion == null) || (lastVersion < event.getEntity().getVersion()));
+                lastVersions.put(event.getEntity().getGUID(), event.getEntity().getVersion());
+            }
+        }
+
+        applier.disconnect(1000);
+    }
+
+
+    /**
+     * Statistics are kept for each member that sends events.
+     */
+    @Test
+    public void testStatistics()
+    {
+        OMRSInboundInstanceEventApplier applier = new OMRSInboundInstanceEventApplier("test", 2, event -> { });
+
+        applier.applyInstanceEvent(getEntityEvent("e1", 1, "mc1"));
+        applier.applyInstanceEvent(getEntityEvent("e2", 1, "mc1"));
+        applier.applyInstanceEvent(getEntityEvent("e3", 1, "mc2"));
+        applier.waitForAppliedEvents();
+
+        List<InboundEventStatistics> statistics = applier.getStatistics();
+
+        assertEquals(statistics.size(), 2);
+        assertEquals(statistics.get(0).getMetadataCollectionId(), "mc1");
+        assertEquals(statistics.get(0).getServerName(), "server-mc1");
+        assertEquals(statistics.get(0).getEventsReceived(), 2L);
+        assertEquals(statistics.get(0).getEventsApplied(), 2L);
+        assertEquals(statistics.get(0).getEventBacklog(), 0L);
+        assertEquals(statistics.get(1).getEventsApplied(), 1L);
+
+        applier.disconnect(1000);
+    }
+
+
+    /**
+     * Entity events are partitioned by entity.  Relationship events go to the worker that owns both of their
+     * entities, and are applied after all earlier events if their entities belong to different workers.
+     * With two workers, e1 and e3 belong to worker 0 and e2 belongs to worker 1.
+     */
+    @Test
+    public void testWorkerNumber()
+    {
+        final int noWorker = OMRSInboundInstanceEventApplier.NO_WORKER;
+
+        assertEquals(OMRSInboundInstanceEventApplier.getWorkerNumber(getEntityEvent("e1", 1, "mc1"), 2), 0);
+        assertEquals(OMRSInboundInstanceEventApplier.getWorkerNumber(getEntityEvent("e2", 1, "mc1"), 2), 1);
+        assertEquals(OMRSInboundInstanceEventApplier.getWorkerNumber(new OMRSInstanceEvent(OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+                                                                                           null, null, "e1"), 2), noWorker);
+        assertEquals(OMRSInboundInstanceEventApplier.getWorkerNumber(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                                                                                           null, null, "e2"), 2), 1);
+
+        assertEquals(OMRSInboundInstanceEventApplier.getWorkerNumber(getRelationshipEvent("r1", "e1", "e3"), 2), 0);
+        assertEquals(OMRSInboundInstanceEventApplier.getWorkerNumber(getRelationshipEvent("r2", "e1", "e2"), 2), noWorker);
+        assertEquals(OMRSInboundInstanceEventApplier.getWorkerNumber(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_RELATIONSHIP_EVENT,
+                                                                                           null, null, "r1"), 2), noWorker);
+    }
+
+
+    /**
+     * A relationship whose entities belong to different workers is applied after the earlier events for both
+     * of its entities.
+     */
+    @Test
+    public void testRelationshipOrdering()
+    {
+        List<OMRSInstanceEvent>         appliedEvents = Collections.synchronizedList(new ArrayList<>());
+        OMRSInboundInstanceEventApplier applier       = new OMRSInboundInstanceEventApplier("test", 2, event ->
+        {
+            if (event.getEntity() != null)
+            {
+                try
+                {
+                    Thread.sleep(5);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            appliedEvents.add(event);
+        });
+
+        OMRSInstanceEvent relationshipEvent = getRelationshipEvent("r1", "e1", "e2");
+
+        for (long version = 1; version <= 5; version++)
+        {
+            applier.applyInstanceEvent(getEntityEvent("e1", version, "mc1"));
+            applier.applyInstanceEvent(getEntityEvent("e2", version, "mc1"));
+        }
+
+        applier.applyInstanceEvent(relationshipEvent);
+
+        assertEquals(appliedEvents.size(), 11);
+        assertEquals(appliedEvents.get(10), relationshipEvent);
+
+        applier.disconnect(1000);
+    }
+
+
+    /**
+     * When a worker's queue is full, the receiving thread waits until the worker has taken the next event.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testBoundedQueue() throws Exception
+    {
+        CountDownLatch                  release       = new CountDownLatch(1);
+        List<OMRSInstanceEvent>         appliedEvents = Collections.synchronizedList(new ArrayList<>());
+        OMRSInboundInstanceEventApplier applier       = new OMRSInboundInstanceEventApplier("test", 2, 1, event ->
+        {
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            appliedEvents.add(event);
+        });
+
+        CountDownLatch allQueued = new CountDownLatch(1);
+        Thread         receiver  = new Thread(() ->
+        {
+            for (long version = 1; version <= 3; version++)
+            {
+                applier.applyInstanceEvent(getEntityEvent("e1", version, "mc1"));
+            }
+
+            allQueued.countDown();
+        });
+
+        receiver.start();
+
+        /*
+         * The first event is being applied and the second fills the queue, so the third event is held up.
+         */
+        assertFalse(allQueued.await(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+
+        assertTrue(allQueued.await(5, TimeUnit.SECONDS));
+        applier.waitForAppliedEvents();
+
+        assertEquals(appliedEvents.size(), 3);
+        assertEquals(applier.getStatistics().get(0).getEventBacklog(), 0L);
+
+        applier.disconnect(1000);
+    }
+}
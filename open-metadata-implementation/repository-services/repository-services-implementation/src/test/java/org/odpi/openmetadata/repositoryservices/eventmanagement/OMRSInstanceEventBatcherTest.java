@@ -0,0 +1,171 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * OMRSInstanceEventBatcherTest checks that outbound instance events are coalesced into batches without
+ * changing the order of the changes to each instance.
+ */
+public class OMRSInstanceEventBatcherTest
+{
+    private EntityDetail getEntity(String guid, long version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+
+        return relationship;
+    }
+
+
+    /**
+     * Events are held until the batch is full and then sent as one batch event.
+     */
+    @Test
+    public void testBatchSize()
+    {
+        List<OMRSInstanceEvent>  sentEvents = new ArrayList<>();
+        OMRSInstanceEventBatcher batcher    = new OMRSInstanceEventBatcher("test", 3, 0, sentEvents::add);
+
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e1", 1)));
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e2", 1)));
+
+        assertTrue(sentEvents.isEmpty());
+
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, getRelationship("r1")));
+
+        assertEquals(sentEvents.size(), 1);
+        assertEquals(sentEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+        assertEquals(sentEvents.get(0).getInstanceBatch().getEntities().size(), 2);
+        assertEquals(sentEvents.get(0).getInstanceBatch().getRelationships().size(), 1);
+
+        batcher.disconnect();
+    }
+
+
+    /**
+     * An event that can not be batched flushes the pending batch first, and a later version of the same
+     * instance replaces the earlier one in the batch.
+     */
+    @Test
+    public void testOrdering()
+    {
+        List<OMRSInstanceEvent>  sentEvents = new ArrayList<>();
+        OMRSInstanceEventBatcher batcher    = new OMRSInstanceEventBatcher("test", 10, 0, sentEvents::add);
+
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e1", 1)));
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e2", 1)));
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, getEntity("e1", 2)));
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, getEntity("e1", 3)));
+
+        assertEquals(sentEvents.size(), 2);
+        assertEquals(sentEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+        assertEquals(sentEvents.get(0).getInstanceBatch().getEntities().size(), 2);
+        assertEquals(sentEvents.get(0).getInstanceBatch().getEntities().get(0).getVersion(), 2L);
+        assertEquals(sentEvents.get(1).getInstanceEventType(), OMRSInstanceEventType.DELETED_ENTITY_EVENT);
+
+        batcher.disconnect();
+    }
+
+
+    /**
+     * The batch records the type of the first event for each instance, so an instance created and then
+     * updated in the same batch is still received as a new instance.
+     */
+    @Test
+    public void testEventTypesKept()
+    {
+        List<OMRSInstanceEvent>  sentEvents = new ArrayList<>();
+        OMRSInstanceEventBatcher batcher    = new OMRSInstanceEventBatcher("test", 10, 0, sentEvents::add);
+
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e1", 1)));
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, getEntity("e2", 2)));
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.REFRESHED_RELATIONSHIP_EVENT, getRelationship("r1")));
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, getEntity("e1", 2)));
+        batcher.flush();
+
+        assertEquals(sentEvents.size(), 1);
+
+        Map<String, OMRSInstanceEventType> eventTypes = sentEvents.get(0).getInstanceBatchEventTypes();
+
+        assertEquals(eventTypes.size(), 3);
+        assertEquals(eventTypes.get("e1"), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(eventTypes.get("e2"), OMRSInstanceEventType.UPDATED_ENTITY_EVENT);
+        assertEquals(eventTypes.get("r1"), OMRSInstanceEventType.REFRESHED_RELATIONSHIP_EVENT);
+
+        List<OMRSInstanceEvent> batchedEvents = sentEvents.get(0).getBatchedInstanceEvents();
+
+        assertEquals(batchedEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(batchedEvents.get(0).getEntity().getVersion(), 2L);
+
+        batcher.disconnect();
+    }
+
+
+    /**
+     * A batch of one is sent as the original event and disconnect sends any pending events.
+     */
+    @Test
+    public void testSingleEventFlush()
+    {
+        List<OMRSInstanceEvent>  sentEvents = new ArrayList<>();
+        OMRSInstanceEventBatcher batcher    = new OMRSInstanceEventBatcher("test", 10, 0, sentEvents::add);
+
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e1", 1)));
+        batcher.disconnect();
+
+        assertEquals(sentEvents.size(), 1);
+        assertEquals(sentEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+    }
+
+
+    /**
+     * A partially filled batch is sent once the maximum delay has passed.
+     *
+     * @throws InterruptedException interrupted sleep
+     */
+    @Test
+    public void testMaxDelay() throws InterruptedException
+    {
+        List<OMRSInstanceEvent>  sentEvents = Collections.synchronizedList(new ArrayList<>());
+        OMRSInstanceEventBatcher batcher    = new OMRSInstanceEventBatcher("test", 10, 50, sentEvents::add);
+
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e1", 1)));
+        batcher.sendInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("e2", 1)));
+
+        for (int i = 0; (i < 100) && (sentEvents.isEmpty()); i++)
+        {
+            Thread.sleep(20);
+        }
+
+        assertEquals(sentEvents.size(), 1);
+        assertEquals(sentEvents.get(0).getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+
+        batcher.disconnect();
+    }
+}
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 public class OMRSRepositoryContentManagerTest
 {
@@ -46,4 +47,37 @@ public class OMRSRepositoryContentManagerTest
         assertEquals(instanceType.getTypeDefGUID(), entityDefGUID);
         assertEquals(instanceType.getValidStatusList(), validInstanceStatusList);
     }
+
+
+    @Test
+    public void testTypeSystemVersion() throws TypeErrorException
+    {
+        AuditLog auditLog = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+        OMRSRepositoryContentManager testSubject = new OMRSRepositoryContentManager("testserver", auditLog);
+
+        String entityDefGUID = UUID.randomUUID().toString();
+
+        EntityDef entityDef = new EntityDef();
+        entityDef.setName("EntityType1");
+        entityDef.setVersion(1);
+        entityDef.setVersionName("1.0");
+        entityDef.setGUID(entityDefGUID);
+
+        long initialVersion = testSubject.getTypeSystemVersion();
+
+        testSubject.addTypeDef("unittest", entityDef);
+        long addedVersion = testSubject.getTypeSystemVersion();
+        assertTrue(addedVersion > initialVersion);
+
+        testSubject.getInstanceType("unittest", TypeDefCategory.ENTITY_DEF, "EntityType1", "testTypeSystemVersion");
+        assertEquals(testSubject.getTypeSystemVersion(), addedVersion);
+
+        entityDef.setVersion(2);
+        testSubject.updateTypeDef("unittest", entityDef);
+        long updatedVersion = testSubject.getTypeSystemVersion();
+        assertTrue(updatedVersion > addedVersion);
+
+        testSubject.deleteTypeDef("unittest", entityDefGUID, "EntityType1");
+        assertTrue(testSubject.getTypeSystemVersion() > updatedVersion);
+    }
 }
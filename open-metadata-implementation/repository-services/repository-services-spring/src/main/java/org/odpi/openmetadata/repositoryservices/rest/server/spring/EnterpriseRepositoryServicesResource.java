@@ -73,10 +73,12 @@ public class EnterpriseRepositoryServicesResource
      * Returns the list of different types of metadata organized into two groups.  The first are the
      * attribute type definitions (AttributeTypeDefs).  These provide types for properties in full
      * type definitions.  Full type definitions (TypeDefs) describe types for entities, relationships
-     * and classifications.
+     * and classifications.  If the caller passes the type system version it received with its copy of the
+     * types and they have not changed since, only the version is returned.
      *
      * @param serverName unique identifier for requested server.
      * @param userId unique identifier for requesting user.
+     * @param knownTypeSystemVersion optional version returned with the caller's copy of the types.
      * @return TypeDefGalleryResponse:
      * List of different categories of type definitions or
      * RepositoryErrorException there is a problem communicating with the metadata repository or
@@ -84,10 +86,11 @@ public class EnterpriseRepositoryServicesResource
      */
     @GetMapping(path = "/types/all")
 
-    public TypeDefGalleryResponse getAllTypes(@PathVariable String   serverName,
-                                              @PathVariable String   userId)
+    public TypeDefGalleryResponse getAllTypes(@PathVariable                   String   serverName,
+                                              @PathVariable                   String   userId,
+                                              @RequestParam(required = false) Long     knownTypeSystemVersion)
     {
-        return restAPI.getAllTypes(serverName, userId);
+        return restAPI.getAllTypes(serverName, userId, knownTypeSystemVersion);
     }
 
 
@@ -455,6 +458,30 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities in a single call.  Entities that
+     * are not known, or are only proxies, are missing from the results.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of entities in the order of the guids or
+     * InvalidParameterException the list of guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/by-guids")
+
+    public EntityListResponse getEntitiesDetail(@PathVariable String          serverName,
+                                                @PathVariable String          userId,
+                                                @RequestBody  GUIDListRequest requestBody)
+    {
+        return restAPI.getEntitiesDetail(serverName, userId, requestBody);
+    }
+
+
     /**
      * Return a historical version of an entity includes the header, classifications and properties of the entity.
      *
@@ -1308,6 +1335,60 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Create a batch of new entities.  Each item is processed as if it had been passed to addEntity (or
+     * addExternalEntity if the item's externalSourceGUID is set).
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody list of descriptions of the new entities
+     * @return InstanceBatchResultsResponse:
+     * list of results - one for each item in the request or
+     * InvalidParameterException the list of items is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/batch")
+
+    public InstanceBatchResultsResponse addEntities(@PathVariable String                   serverName,
+                                                    @PathVariable String                   userId,
+                                                    @RequestBody  EntityBatchCreateRequest requestBody)
+    {
+        return restAPI.addEntities(serverName, userId, requestBody);
+    }
+
+
+    /**
+     * Update the properties of a batch of entities.  Each item is processed as if it had been passed to
+     * updateEntityProperties.
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody list of entity guids and their new properties
+     * @return InstanceBatchResultsResponse:
+     * list of results - one for each item in the request or
+     * InvalidParameterException the list of items is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/batch/properties")
+
+    public InstanceBatchResultsResponse updateEntitiesProperties(@PathVariable String                     serverName,
+                                                                 @PathVariable String                     userId,
+                                                                 @RequestBody  InstanceBatchUpdateRequest requestBody)
+    {
+        return restAPI.updateEntitiesProperties(serverName, userId, requestBody);
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
@@ -1696,6 +1777,60 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Create a batch of new relationships.  Each item is processed as if it had been passed to addRelationship
+     * (or addExternalRelationship if the item's externalSourceGUID is set).
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody list of descriptions of the new relationships
+     * @return InstanceBatchResultsResponse:
+     * list of results - one for each item in the request or
+     * InvalidParameterException the list of items is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/relationships/batch")
+
+    public InstanceBatchResultsResponse addRelationships(@PathVariable String                         serverName,
+                                                         @PathVariable String                         userId,
+                                                         @RequestBody  RelationshipBatchCreateRequest requestBody)
+    {
+        return restAPI.addRelationships(serverName, userId, requestBody);
+    }
+
+
+    /**
+     * Update the properties of a batch of relationships.  Each item is processed as if it had been passed to
+     * updateRelationshipProperties.
+     * A failure with one item does not stop the other items from being processed - the reason for the
+     * failure is recorded in the item's result.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody list of relationship guids and their new properties
+     * @return InstanceBatchResultsResponse:
+     * list of results - one for each item in the request or
+     * InvalidParameterException the list of items is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/relationships/batch/properties")
+
+    public InstanceBatchResultsResponse updateRelationshipsProperties(@PathVariable String                     serverName,
+                                                                      @PathVariable String                     userId,
+                                                                      @RequestBody  InstanceBatchUpdateRequest requestBody)
+    {
+        return restAPI.updateRelationshipsProperties(serverName, userId, requestBody);
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.repositoryservices.rest.properties.CohortListResponse;
 import org.odpi.openmetadata.repositoryservices.rest.properties.CohortMembershipListResponse;
 import org.odpi.openmetadata.repositoryservices.rest.properties.CohortMembershipResponse;
+import org.odpi.openmetadata.repositoryservices.rest.properties.InboundEventStatisticsResponse;
 import org.odpi.openmetadata.repositoryservices.rest.server.OMRSMetadataHighwayRESTServices;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -110,4 +111,22 @@ public class MetadataHighwayServicesResource
         return restAPI.getRemoteRegistrations(serverName, userId, cohortName);
     }
 
+
+    /**
+     * Return the statistics for the instance events received from each remote member of the cohort.
+     *
+     * @param serverName server to query
+     * @param userId calling user
+     * @param cohortName name of the specific cohort
+     * @return list of event statistics for remote members
+     */
+    @GetMapping(path = "/cohorts/{cohortName}/inbound-event-statistics")
+
+    public InboundEventStatisticsResponse getInboundEventStatistics(@PathVariable String   serverName,
+                                                                    @PathVariable String   userId,
+                                                                    @PathVariable String   cohortName)
+    {
+        return restAPI.getInboundEventStatistics(serverName, userId, cohortName);
+    }
+
 }
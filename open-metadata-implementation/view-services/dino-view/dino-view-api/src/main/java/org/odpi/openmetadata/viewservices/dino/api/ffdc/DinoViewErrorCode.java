@@ -175,6 +175,12 @@ public enum DinoViewErrorCode implements ExceptionMessageSet
              "The system could not perform the requested action.",
              "Please check the supplied engine name matches the engine service's engine configuration."),
 
+    RESOURCE_TIMED_OUT
+            (400, "OMVS-DINO-400-023",
+             "The dino view service operation {0} did not receive a response from {1} within {2} milliseconds",
+             "The system returned the information from the other resources without waiting any longer for this one.",
+             "Check that the platform is running and reachable.  If it is slow to respond, retry with a longer time limit."),
+
     /*
      * Provide a catch-all error code in case Rex catches a Throwable. It will capture the Throwable
      * and package it into the REST response, but does not specific error handling for the error
@@ -0,0 +1,112 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.viewservices.dino.api.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class EstateOverview {
+
+    private static final long    serialVersionUID = 1L;
+
+    /*
+     * An EstateOverview is constructed when the overview of all the configured resource endpoints is retrieved.
+     * The platforms and servers are queried concurrently.  It contains the:
+     *   platformOverviews - the overviews of the platforms that responded in time
+     *   serverOverviews - the overviews of the servers that responded in time
+     *   unavailableResources - a map (by platform name or server instance name) of the resources that failed or did not
+     *                          respond in time, with the reason
+     *   partialResult - true if any resource is missing from the overview
+     */
+
+
+    private List<PlatformOverview> platformOverviews;
+
+    private List<ServerOverview>   serverOverviews;
+
+    private Map<String, String>    unavailableResources;
+
+    private boolean                partialResult;
+
+
+
+    /**
+     * Default Constructor sets the properties to nulls
+     */
+    public EstateOverview()
+    {
+        /*
+         * Nothing to do.
+         */
+    }
+
+    public EstateOverview(List<PlatformOverview> platformOverviews,
+                          List<ServerOverview>   serverOverviews,
+                          Map<String, String>    unavailableResources) {
+
+        this.platformOverviews    = platformOverviews;
+        this.serverOverviews      = serverOverviews;
+        this.unavailableResources = unavailableResources;
+        this.partialResult        = (unavailableResources != null) && (! unavailableResources.isEmpty());
+    }
+
+    public List<PlatformOverview> getPlatformOverviews() {
+        return platformOverviews;
+    }
+
+    public void setPlatformOverviews(List<PlatformOverview> platformOverviews) {
+        this.platformOverviews = platformOverviews;
+    }
+
+    public List<ServerOverview> getServerOverviews() {
+        return serverOverviews;
+    }
+
+    public void setServerOverviews(List<ServerOverview> serverOverviews) {
+        this.serverOverviews = serverOverviews;
+    }
+
+    public Map<String, String> getUnavailableResources() {
+        return unavailableResources;
+    }
+
+    public void setUnavailableResources(Map<String, String> unavailableResources) {
+        this.unavailableResources = unavailableResources;
+    }
+
+    public boolean getPartialResult() {
+        return partialResult;
+    }
+
+    public void setPartialResult(boolean partialResult) {
+        this.partialResult = partialResult;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "EstateOverview{" +
+                "platformOverviews=" + platformOverviews +
+                ", serverOverviews=" + serverOverviews +
+                ", unavailableResources=" + unavailableResources +
+                ", partialResult=" + partialResult +
+                '}';
+    }
+}
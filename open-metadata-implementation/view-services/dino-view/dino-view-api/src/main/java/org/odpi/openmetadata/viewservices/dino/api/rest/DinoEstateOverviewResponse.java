@@ -0,0 +1,88 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.viewservices.dino.api.rest;
+
+
+import org.odpi.openmetadata.viewservices.dino.api.properties.EstateOverview;
+
+import java.util.Arrays;
+
+public class DinoEstateOverviewResponse extends DinoViewOMVSAPIResponse {
+
+    private static final long    serialVersionUID = 1L;
+
+    private EstateOverview estateOverview = null;
+
+    /**
+     * Default constructor
+     */
+    public DinoEstateOverviewResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public DinoEstateOverviewResponse(DinoEstateOverviewResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.estateOverview = template.getEstateOverview();
+        }
+    }
+
+
+    /**
+     * Return the estateOverview.
+     *
+     * @return estateOverview
+     */
+    public EstateOverview getEstateOverview()
+    {
+        return estateOverview;
+    }
+
+
+    /**
+     * Set the estateOverview.
+     *
+     * @param estateOverview - the overview of the configured platforms and servers
+     */
+    public void setEstateOverview(EstateOverview estateOverview)
+    {
+        this.estateOverview = estateOverview;
+    }
+
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "DinoEstateOverviewResponse{" +
+                "estateOverview=" + estateOverview +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+}
@@ -41,6 +41,7 @@ import org.odpi.openmetadata.viewservices.dino.api.ffdc.DinoViewErrorCode;
 import org.odpi.openmetadata.viewservices.dino.api.ffdc.DinoViewServiceException;
 import org.odpi.openmetadata.viewservices.dino.api.properties.DinoServerInstance;
 import org.odpi.openmetadata.viewservices.dino.api.properties.EngineDetails;
+import org.odpi.openmetadata.viewservices.dino.api.properties.EstateOverview;
 import org.odpi.openmetadata.viewservices.dino.api.properties.PlatformOverview;
 import org.odpi.openmetadata.viewservices.dino.api.properties.ResourceEndpoint;
 import org.odpi.openmetadata.viewservices.dino.api.properties.ServerCohortDetails;
@@ -53,8 +54,20 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -105,6 +118,22 @@ public class DinoViewHandler {
     private Map<String, ResourceEndpoint> configuredPlatforms = null;  // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint> configuredServerInstances = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * The estate overview queries all the configured platforms and servers concurrently.  The requests (and their results)
+     * are kept in the status cache for a short time, keyed by user and resource, so that the UI sessions that refresh
+     * the estate at the same time share the calls to each platform.  A request that is still running is never repeated,
+     * so a platform that does not respond holds at most one thread for each user.  Requests that have not completed within
+     * the request time limit of being issued (including the time waiting for a thread) are cancelled.
+     */
+    public static final long DEFAULT_ESTATE_TIME_LIMIT    = 10000;
+    private static final long STATUS_CACHE_TIME_TO_LIVE   = 15000;
+    private static final long OVERVIEW_REQUEST_TIME_LIMIT = 60000;
+    private static final int  ESTATE_OVERVIEW_THREADS     = 20;
+
+    private final Map<String, StatusCacheEntry> statusCache              = new ConcurrentHashMap<>();
+    private       ExecutorService               overviewWorkerPool       = null;
+    long                                        overviewRequestTimeLimit = OVERVIEW_REQUEST_TIME_LIMIT;
+
     /**
      * Default constructor for DinoViewHandler
      */
@@ -2382,4 +2411,316 @@ public class DinoViewHandler {
             throw DinoExceptionHandler.mapOCFPropertyServerException(this.getClass().getName(), methodName, platformName, e);
         }
     }
+
+
+    /*
+     * Retrieve the overview of all the configured platforms and servers.  The platforms and servers are queried concurrently
+     * and the overview contains those that respond within the time limit.  The others are listed with the reason they are missing.
+     * Overviews retrieved by the same user within the last few seconds are reused.
+     * @param userId  userId under which the request is performed
+     * @param timeLimit The number of milliseconds to wait for the platforms to respond (zero or less means use the default)
+     * @param methodName The name of the method being invoked
+     * @return the estate overview
+     *
+     */
+    public EstateOverview estateGetOverview(String    userId,
+                                            long      timeLimit,
+                                            String    methodName)
+    {
+        long effectiveTimeLimit = (timeLimit > 0) ? timeLimit : DEFAULT_ESTATE_TIME_LIMIT;
+        long deadline           = System.currentTimeMillis() + effectiveTimeLimit;
+
+        this.removeExpiredStatus();
+
+        /*
+         * Issue all the requests before waiting for any of them
+         */
+        Map<String, Future<PlatformOverview>> platformRequests = new LinkedHashMap<>();
+        Map<String, Future<ServerOverview>>   serverRequests   = new LinkedHashMap<>();
+
+        if (configuredPlatforms != null)
+        {
+            for (String platformName : new TreeMap<>(configuredPlatforms).keySet())
+            {
+                platformRequests.put(platformName,
+                                     this.getOverviewRequest(userId,
+                                                             "Platform:" + platformName,
+                                                             () -> platformGetOverview(userId, platformName, methodName)));
+            }
+        }
+
+        if (configuredServerInstances != null)
+        {
+            for (ResourceEndpoint server : new TreeMap<>(configuredServerInstances).values())
+            {
+                serverRequests.put(server.getServerInstanceName(),
+                                   this.getOverviewRequest(userId,
+                                                           "Server:" + server.getServerInstanceName(),
+                                                           () -> serverGetOverview(userId,
+                                                                                   server.getServerName(),
+                                                                                   server.getPlatformName(),
+                                                                                   server.getServerInstanceName(),
+                                                                                   server.getResourceDescription(),
+                                                                                   methodName)));
+            }
+        }
+
+        /*
+         * Gather the responses
+         */
+        List<PlatformOverview> platformOverviews    = new ArrayList<>();
+        List<ServerOverview>   serverOverviews      = new ArrayList<>();
+        Map<String, String>    unavailableResources = new LinkedHashMap<>();
+
+        for (String platformName : platformRequests.keySet())
+        {
+            PlatformOverview platformOverview = this.waitForOverview(platformRequests.get(platformName),
+                                                                     platformName,
+                                                                     deadline,
+                                                                     effectiveTimeLimit,
+                                                                     unavailableResources,
+                                                                     methodName);
+            if (platformOverview != null)
+            {
+                platformOverviews.add(platformOverview);
+            }
+        }
+
+        for (String serverInstanceName : serverRequests.keySet())
+        {
+            ServerOverview serverOverview = this.waitForOverview(serverRequests.get(serverInstanceName),
+                                                                 serverInstanceName,
+                                                                 deadline,
+                                                                 effectiveTimeLimit,
+                                                                 unavailableResources,
+                                                                 methodName);
+            if (serverOverview != null)
+            {
+                serverOverviews.add(serverOverview);
+            }
+        }
+
+        return new EstateOverview(platformOverviews, serverOverviews, unavailableResources);
+    }
+
+
+    /**
+     * Return the request for an overview from the status cache, or issue a new request if there is no recent one.
+     * A request that is still running is shared, as is a successful result until it expires.  A request that was
+     * cancelled while its call was still running is also shared until the call returns, so that a platform that
+     * does not respond is not called again.
+     *
+     * @param userId userId under which the request is performed
+     * @param resourceKey unique name of the resource
+     * @param overviewRequest call to retrieve the overview
+     * @param <T> type of overview
+     * @return future for the overview
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Future<T> getOverviewRequest(String      userId,
+                                             String      resourceKey,
+                                             Callable<T> overviewRequest)
+    {
+        StatusCacheEntry cacheEntry = statusCache.compute(userId + "/" + resourceKey, (key, existingEntry) ->
+        {
+            if ((existingEntry != null) && (existingEntry.isReusable()))
+            {
+                return existingEntry;
+            }
+
+            return new StatusCacheEntry(this.getOverviewWorkerPool(), overviewRequest);
+        });
+
+        return (Future<T>) cacheEntry.request;
+    }
+
+
+    /**
+     * Wait for an overview until the deadline.  If the request fails, is cancelled or does not complete in time, the
+     * reason is added to the unavailable resources.  A request that is still running is left to complete so its result
+     * can be cached.
+     *
+     * @param request request for the overview
+     * @param resourceName name of the platform or server instance
+     * @param deadline time to stop waiting
+     * @param timeLimit number of milliseconds allowed for the overview (used in the message)
+     * @param unavailableResources map of the resources that are missing to the reason
+     * @param methodName The name of the method being invoked
+     * @param <T> type of overview
+     * @return overview or null if it is not available
+     */
+    private <T> T waitForOverview(Future<T>           request,
+                                  String              resourceName,
+                                  long                deadline,
+                                  long                timeLimit,
+                                  Map<String, String> unavailableResources,
+                                  String              methodName)
+    {
+        try
+        {
+            return request.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException | CancellationException e)
+        {
+            DinoViewServiceException timeout = new DinoViewServiceException(DinoViewErrorCode.RESOURCE_TIMED_OUT.getMessageDefinition(methodName,
+                                                                                                                                       resourceName,
+                                                                                                                                       Long.toString(timeLimit)),
+                                                                             this.getClass().getName(),
+                                                                             methodName);
+            unavailableResources.put(resourceName, timeout.getReportedErrorMessage());
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof OCFCheckedExceptionBase)
+            {
+                unavailableResources.put(resourceName, ((OCFCheckedExceptionBase) cause).getReportedErrorMessage());
+            }
+            else
+            {
+                unavailableResources.put(resourceName, String.valueOf(cause));
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            unavailableResources.put(resourceName, e.getClass().getName());
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Remove the status cache entries that can no longer be used.  This also cancels the requests that have
+     * run past the request time limit.
+     */
+    private void removeExpiredStatus()
+    {
+        statusCache.values().removeIf(cacheEntry -> ! cacheEntry.isReusable());
+    }
+
+
+    /**
+     * Return the thread pool used to query the platforms and servers concurrently, creating it on first use.
+     *
+     * @return executor service
+     */
+    private synchronized ExecutorService getOverviewWorkerPool()
+    {
+        if (overviewWorkerPool == null)
+        {
+            final AtomicInteger threadCount = new AtomicInteger(0);
+
+            overviewWorkerPool = Executors.newFixedThreadPool(ESTATE_OVERVIEW_THREADS, runnable ->
+            {
+                Thread thread = new Thread(runnable, "DinoOverview-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return overviewWorkerPool;
+    }
+
+
+    /**
+     * Stop the threads used by the estate overview and empty the status cache.  This is called when the view server shuts down.
+     */
+    public synchronized void shutdown()
+    {
+        if (overviewWorkerPool != null)
+        {
+            overviewWorkerPool.shutdownNow();
+            overviewWorkerPool = null;
+        }
+
+        statusCache.clear();
+    }
+
+
+    /**
+     * StatusCacheEntry holds a request for the overview of a platform or server and when it was issued.
+     */
+    private class StatusCacheEntry
+    {
+        private final    Future<?> request;
+        private final    long      requestTime = System.currentTimeMillis();
+        private volatile boolean   started     = false;
+        private volatile boolean   finished    = false;
+
+
+        /**
+         * Constructor issues the request.
+         *
+         * @param workerPool threads that run the requests
+         * @param overviewRequest call to retrieve the overview
+         */
+        StatusCacheEntry(ExecutorService workerPool, Callable<?> overviewRequest)
+        {
+            this.request = workerPool.submit(() ->
+            {
+                started = true;
+
+                try
+                {
+                    return overviewRequest.call();
+                }
+                finally
+                {
+                    finished = true;
+                }
+            });
+        }
+
+
+        /**
+         * A request can be shared while its call is running and, if it succeeded, until it expires.  A request that
+         * has not completed within the request time limit is cancelled.  If it was still waiting for a thread it is
+         * dropped, otherwise it is kept until its call returns.
+         *
+         * @return boolean flag
+         */
+        boolean isReusable()
+        {
+            long age = System.currentTimeMillis() - requestTime;
+
+            if (! started)
+            {
+                if ((age > overviewRequestTimeLimit) || (request.isCancelled()))
+                {
+                    request.cancel(false);
+                    return false;
+                }
+
+                return true;
+            }
+
+            if (! finished)
+            {
+                if (age > overviewRequestTimeLimit)
+                {
+                    request.cancel(true);
+                }
+
+                return true;
+            }
+
+            if ((age > STATUS_CACHE_TIME_TO_LIVE) || (request.isCancelled()))
+            {
+                return false;
+            }
+
+            try
+            {
+                request.get();
+                return true;
+            }
+            catch (Exception e)
+            {
+                return false;
+            }
+        }
+    }
 }
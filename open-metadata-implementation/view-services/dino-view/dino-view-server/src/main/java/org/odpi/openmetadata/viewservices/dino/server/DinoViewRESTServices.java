@@ -121,6 +121,74 @@ public class DinoViewRESTServices {
         return response;
     }
 
+    /**
+     * Retrieve estate overview - this is an overview of all the configured platforms and servers, queried concurrently.
+     *
+     * @param serverName    name of the local view server.
+     * @param userId        userId under which the request is performed
+     * @param timeLimit     number of milliseconds to wait for the platforms and servers to respond (null means use the default)
+     * @return response     the estate overview.
+     *
+     */
+    public DinoEstateOverviewResponse estateGetOverview(String serverName, String userId, Long timeLimit) {
+
+        final String methodName = "estateGetOverview";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        DinoEstateOverviewResponse response = new DinoEstateOverviewResponse();
+
+        AuditLog auditLog = null;
+        DinoViewHandler handler;
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            handler = instanceHandler.getDinoViewHandler(userId, serverName, methodName);
+
+            if (handler == null)
+            {
+                throw new DinoViewServiceException(DinoViewErrorCode.COULD_NOT_CREATE_HANDLER.getMessageDefinition(methodName),
+                                                   this.getClass().getName(),
+                                                   methodName);
+
+            }
+
+            response.setEstateOverview(handler.estateGetOverview(userId,
+                                                                 (timeLimit == null) ? DinoViewHandler.DEFAULT_ESTATE_TIME_LIMIT : timeLimit,
+                                                                 methodName));
+        }
+        catch (InvalidParameterException exception)
+        {
+            restExceptionHandler.captureInvalidParameterException(response, exception);
+        }
+        catch (PropertyServerException exception)
+        {
+            restExceptionHandler.capturePropertyServerException(response, exception);
+        }
+        catch (UserNotAuthorizedException exception)
+        {
+            restExceptionHandler.captureUserNotAuthorizedException(response, exception);
+        }
+        catch (DinoViewServiceException exception)
+        {
+            DinoExceptionHandler.captureCheckedException(response, exception, exception.getClass().getName());
+        }
+        catch (Exception exception)
+        {
+            restExceptionHandler.captureExceptions(response, exception, methodName, auditLog);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
+
+
+
     /**
      * Retrieve platform overview - this is an overview of multiple aspects of the platform for when it becomes the focus.
      *
@@ -71,4 +71,20 @@ public class DinoViewServicesInstance extends OMVSServiceInstance
 
 
 
+    /**
+     * Release the resources used by the handler and unregister from platform.
+     */
+    @Override
+    public void shutdown()
+    {
+        if (dinoViewHandler != null)
+        {
+            dinoViewHandler.shutdown();
+        }
+
+        super.shutdown();
+    }
+
+
+
 }
@@ -0,0 +1,362 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.viewservices.dino.handlers;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.ResourceEndpointConfig;
+import org.odpi.openmetadata.viewservices.dino.api.ffdc.DinoViewErrorCode;
+import org.odpi.openmetadata.viewservices.dino.api.ffdc.DinoViewServiceException;
+import org.odpi.openmetadata.viewservices.dino.api.properties.EstateOverview;
+import org.odpi.openmetadata.viewservices.dino.api.properties.PlatformOverview;
+import org.odpi.openmetadata.viewservices.dino.api.properties.ServerOverview;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test the estate overview of DinoViewHandler.  The calls to the platforms and servers are replaced so that each
+ * resource can be made slow or failing, and the number of calls to each resource is counted.
+ */
+public class TestEstateOverview
+{
+    private static final String METHOD_NAME = "estateGetOverview";
+    private static final String USER_ID     = "testUser";
+
+    private static final String FAST_PLATFORM = "Platform1";
+    private static final String SLOW_PLATFORM = "Platform2";
+    private static final String SERVER        = "Metadata Server 1";
+
+    private final Map<String, AtomicInteger> calls            = new ConcurrentHashMap<>();
+    private final AtomicInteger              interruptedCalls = new AtomicInteger();
+
+    private CountDownLatch  slowPlatformRelease;
+    private volatile String failingResource;
+    private TestHandler     handler;
+
+
+    /**
+     * DinoViewHandler with the platform and server calls replaced.
+     */
+    private class TestHandler extends DinoViewHandler
+    {
+        TestHandler(List<ResourceEndpointConfig> resourceEndpoints)
+        {
+            super(resourceEndpoints);
+        }
+
+
+        @Override
+        public PlatformOverview platformGetOverview(String userId,
+                                                    String platformName,
+                                                    String methodName) throws DinoViewServiceException
+        {
+            recordCall(userId, platformName);
+
+            /*
+             * Like a hung HTTP call, the slow platform does not stop when its thread is interrupted.
+             */
+            if (SLOW_PLATFORM.equals(platformName))
+            {
+                while (slowPlatformRelease.getCount() > 0)
+                {
+                    try
+                    {
+                        slowPlatformRelease.await();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        interruptedCalls.incrementAndGet();
+                    }
+                }
+            }
+
+            return new PlatformOverview(platformName, null, null, null);
+        }
+
+
+        @Override
+        public ServerOverview serverGetOverview(String userId,
+                                                String serverName,
+                                                String platformName,
+                                                String serverInstanceName,
+                                                String description,
+                                                String methodName) throws DinoViewServiceException
+        {
+            recordCall(userId, serverInstanceName);
+
+            ServerOverview serverOverview = new ServerOverview();
+
+            serverOverview.setServerInstanceName(serverInstanceName);
+
+            return serverOverview;
+        }
+
+
+        private void recordCall(String userId, String resourceName) throws DinoViewServiceException
+        {
+            calls.computeIfAbsent(userId + "/" + resourceName, key -> new AtomicInteger()).incrementAndGet();
+
+            if (resourceName.equals(failingResource))
+            {
+                throw new DinoViewServiceException(DinoViewErrorCode.REPOSITORY_NOT_AVAILABLE.getMessageDefinition(METHOD_NAME, resourceName),
+                                                   this.getClass().getName(),
+                                                   METHOD_NAME);
+            }
+        }
+    }
+
+
+    private ResourceEndpointConfig getResourceEndpoint(String category, String platformName, String serverInstanceName)
+    {
+        ResourceEndpointConfig resourceEndpoint = new ResourceEndpointConfig();
+
+        resourceEndpoint.setResourceCategory(category);
+        resourceEndpoint.setPlatformName(platformName);
+        resourceEndpoint.setPlatformRootURL("https://" + platformName + ":9443");
+        resourceEndpoint.setServerInstanceName(serverInstanceName);
+        resourceEndpoint.setServerName(serverInstanceName);
+
+        return resourceEndpoint;
+    }
+
+
+    private int getCallCount(String userId, String resourceName)
+    {
+        AtomicInteger callCount = calls.get(userId + "/" + resourceName);
+
+        return (callCount == null) ? 0 : callCount.get();
+    }
+
+
+    private List<String> getPlatformNames(EstateOverview estateOverview)
+    {
+        List<String> platformNames = new ArrayList<>();
+
+        for (PlatformOverview platformOverview : estateOverview.getPlatformOverviews())
+        {
+            platformNames.add(platformOverview.getPlatformName());
+        }
+
+        return platformNames;
+    }
+
+
+    /**
+     * Set up a handler with two platforms and one server.  The slow platform does not respond until it is released.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        calls.clear();
+        interruptedCalls.set(0);
+
+        failingResource     = null;
+        slowPlatformRelease = new CountDownLatch(0);
+
+        handler = new TestHandler(Arrays.asList(getResourceEndpoint("Platform", FAST_PLATFORM, null),
+                                                getResourceEndpoint("Platform", SLOW_PLATFORM, null),
+                                                getResourceEndpoint("Server", FAST_PLATFORM, SERVER)));
+    }
+
+
+    /**
+     * Release any request that is still waiting and stop the handler's threads.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        slowPlatformRelease.countDown();
+        handler.shutdown();
+    }
+
+
+    /**
+     * When every resource responds, the overview is complete.
+     */
+    @Test
+    public void testCompleteOverview()
+    {
+        EstateOverview estateOverview = handler.estateGetOverview(USER_ID, 0, METHOD_NAME);
+
+        assertEquals(getPlatformNames(estateOverview), Arrays.asList(FAST_PLATFORM, SLOW_PLATFORM));
+        assertEquals(estateOverview.getServerOverviews().size(), 1);
+        assertEquals(estateOverview.getServerOverviews().get(0).getServerInstanceName(), SERVER);
+        assertTrue(estateOverview.getUnavailableResources() == null || estateOverview.getUnavailableResources().isEmpty());
+        assertFalse(estateOverview.getPartialResult());
+    }
+
+
+    /**
+     * A platform that does not respond within the time limit is reported as unavailable without delaying the others,
+     * and its request keeps running so that the next overview picks up the result without calling it again.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testTimeout() throws Exception
+    {
+        slowPlatformRelease = new CountDownLatch(1);
+
+        long           start          = System.currentTimeMillis();
+        EstateOverview estateOverview = handler.estateGetOverview(USER_ID, 200, METHOD_NAME);
+        long           elapsed        = System.currentTimeMillis() - start;
+
+        assertTrue(elapsed < 5000, "Waited " + elapsed + " milliseconds");
+        assertTrue(estateOverview.getPartialResult());
+        assertEquals(getPlatformNames(estateOverview), Arrays.asList(FAST_PLATFORM));
+        assertEquals(estateOverview.getServerOverviews().size(), 1);
+        assertEquals(estateOverview.getUnavailableResources().size(), 1);
+        assertTrue(estateOverview.getUnavailableResources().get(SLOW_PLATFORM).startsWith("OMVS-DINO-400-023"),
+                   estateOverview.getUnavailableResources().get(SLOW_PLATFORM));
+
+        slowPlatformRelease.countDown();
+
+        estateOverview = handler.estateGetOverview(USER_ID, 5000, METHOD_NAME);
+
+        assertFalse(estateOverview.getPartialResult());
+        assertEquals(getPlatformNames(estateOverview), Arrays.asList(FAST_PLATFORM, SLOW_PLATFORM));
+        assertEquals(getCallCount(USER_ID, SLOW_PLATFORM), 1);
+    }
+
+
+    /**
+     * A platform that does not respond within the request time limit has its request cancelled, but it is not called
+     * again until the hung call returns.  The next overview after that calls it again.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testHungRequestNotRepeated() throws Exception
+    {
+        slowPlatformRelease = new CountDownLatch(1);
+        handler.overviewRequestTimeLimit = 300;
+
+        EstateOverview estateOverview = handler.estateGetOverview(USER_ID, 100, METHOD_NAME);
+
+        assertTrue(estateOverview.getPartialResult());
+
+        Thread.sleep(400);
+
+        estateOverview = handler.estateGetOverview(USER_ID, 100, METHOD_NAME);
+
+        assertTrue(estateOverview.getPartialResult());
+        assertTrue(estateOverview.getUnavailableResources().get(SLOW_PLATFORM).startsWith("OMVS-DINO-400-023"),
+                   estateOverview.getUnavailableResources().get(SLOW_PLATFORM));
+        assertEquals(getCallCount(USER_ID, SLOW_PLATFORM), 1);
+
+        for (int wait = 0; (wait < 100) && (interruptedCalls.get() == 0); wait++)
+        {
+            Thread.sleep(10);
+        }
+
+        assertEquals(interruptedCalls.get(), 1);
+
+        slowPlatformRelease.countDown();
+        Thread.sleep(200);
+
+        estateOverview = handler.estateGetOverview(USER_ID, 5000, METHOD_NAME);
+
+        assertFalse(estateOverview.getPartialResult());
+        assertEquals(getCallCount(USER_ID, SLOW_PLATFORM), 2);
+    }
+
+
+    /**
+     * Overviews requested at the same time by the same user share the calls to each resource, while another user
+     * has calls of their own.
+     *
+     * @throws Exception test failed
+     */
+    @Test
+    public void testCacheSharing() throws Exception
+    {
+        slowPlatformRelease = new CountDownLatch(1);
+
+        List<EstateOverview> estateOverviews = new ArrayList<>();
+        List<Thread>         sessions        = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            Thread session = new Thread(() ->
+            {
+                EstateOverview estateOverview = handler.estateGetOverview(USER_ID, 5000, METHOD_NAME);
+
+                synchronized (estateOverviews)
+                {
+                    estateOverviews.add(estateOverview);
+                }
+            });
+
+            session.start();
+            sessions.add(session);
+        }
+
+        Thread.sleep(200);
+        slowPlatformRelease.countDown();
+
+        for (Thread session : sessions)
+        {
+            session.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        assertEquals(estateOverviews.size(), 3);
+
+        for (EstateOverview estateOverview : estateOverviews)
+        {
+            assertFalse(estateOverview.getPartialResult());
+            assertEquals(getPlatformNames(estateOverview), Arrays.asList(FAST_PLATFORM, SLOW_PLATFORM));
+        }
+
+        assertEquals(getCallCount(USER_ID, FAST_PLATFORM), 1);
+        assertEquals(getCallCount(USER_ID, SLOW_PLATFORM), 1);
+        assertEquals(getCallCount(USER_ID, SERVER), 1);
+
+        handler.estateGetOverview("otherUser", 5000, METHOD_NAME);
+
+        assertEquals(getCallCount("otherUser", FAST_PLATFORM), 1);
+        assertEquals(getCallCount(USER_ID, FAST_PLATFORM), 1);
+    }
+
+
+    /**
+     * A resource that fails is reported with its error message, and the failure is not cached so the next overview
+     * calls it again.  Shutting down the handler empties the cache.
+     */
+    @Test
+    public void testFailuresNotCached()
+    {
+        failingResource = SERVER;
+
+        EstateOverview estateOverview = handler.estateGetOverview(USER_ID, 5000, METHOD_NAME);
+
+        assertTrue(estateOverview.getPartialResult());
+        assertTrue(estateOverview.getServerOverviews().isEmpty());
+        assertTrue(estateOverview.getUnavailableResources().get(SERVER).startsWith("OMVS-DINO-400-005"),
+                   estateOverview.getUnavailableResources().get(SERVER));
+
+        failingResource = null;
+
+        estateOverview = handler.estateGetOverview(USER_ID, 5000, METHOD_NAME);
+
+        assertFalse(estateOverview.getPartialResult());
+        assertEquals(getCallCount(USER_ID, SERVER), 2);
+        assertEquals(getCallCount(USER_ID, FAST_PLATFORM), 1);
+
+        handler.shutdown();
+        handler.estateGetOverview(USER_ID, 5000, METHOD_NAME);
+
+        assertEquals(getCallCount(USER_ID, FAST_PLATFORM), 2);
+    }
+}
@@ -48,6 +48,24 @@ public class DinoViewRESTResource {
 
     }
 
+    /**
+     * Get the overview of all the configured platforms and servers.  They are queried concurrently and any that do
+     * not respond within the time limit are listed as unavailable.
+     *
+     * @param viewServerName   name of the server running the view-service.
+     * @param userId           user account under which to conduct operation.
+     * @param timeLimit        optional number of milliseconds to wait for the platforms and servers to respond
+     * @return response object containing the overview of the estate or exception information
+     */
+
+    @GetMapping("/estate")
+    public DinoEstateOverviewResponse getEstateOverview(@PathVariable String                         viewServerName,
+                                                        @PathVariable String                         userId,
+                                                        @RequestParam(required = false) Long         timeLimit) {
+        return restAPI.estateGetOverview(viewServerName, userId, timeLimit);
+
+    }
+
     /**
      * Get the platform overview
      *
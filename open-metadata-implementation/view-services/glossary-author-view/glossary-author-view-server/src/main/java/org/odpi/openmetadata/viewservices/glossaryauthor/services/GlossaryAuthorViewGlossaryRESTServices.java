@@ -9,6 +9,9 @@ import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.categ
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.Config;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.FindRequest;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentElement;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentRowResult;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.Relationship;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.nodesummary.GlossarySummary;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.term.Term;
@@ -605,4 +608,93 @@ public class GlossaryAuthorViewGlossaryRESTServices extends BaseGlossaryAuthorVi
         return response;
     }
 
+    /**
+     * Import Terms and Categories into a glossary in bulk. The content is passed to the Subject Area OMAS, which validates
+     * and creates it in batches, so it is not sent a term at a time.
+     *
+     * @param serverName local UI server name
+     * @param userId     user identifier
+     * @param guid       guid of the glossary to import the content into
+     * @param format     format of the content: jsonl (JSON lines, the default) or csv
+     * @param content    content to import
+     * @return a response which when successful contains the result of each row of the content, in content order.
+     * when not successful the following Exception responses can occur
+     * <ul>
+     * <li> UserNotAuthorizedException           the requesting user is not authorized to issue this request.</li>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.</li>
+     * <li> PropertyServerException              Property server exception. </li>
+     * </ul>
+     */
+    public SubjectAreaOMASAPIResponse<GlossaryContentRowResult> importGlossaryContent(String serverName,
+                                                                                    String userId,
+                                                                                    String guid,
+                                                                                    String format,
+                                                                                    String content) {
+        final String methodName = "importGlossaryContent";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+        SubjectAreaOMASAPIResponse<GlossaryContentRowResult> response = new SubjectAreaOMASAPIResponse<>();
+        AuditLog auditLog = null;
+        try {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+            SubjectAreaNodeClients clients = instanceHandler.getSubjectAreaNodeClients(serverName, userId, methodName);
+            List<GlossaryContentRowResult> results = ((SubjectAreaGlossaryClient)clients.glossaries()).importContent(userId, guid, format, content);
+            response.addAllResults(results);
+        } catch (Exception exception) {
+            response = getResponseForException(exception, auditLog, className, methodName);
+        }
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+    /**
+     * Export a page of the Terms or Categories of a glossary, in the form that they are imported.
+     *
+     * @param serverName   local UI server name
+     * @param userId       user identifier
+     * @param guid         guid of the glossary to export
+     * @param nodeType     Term (the default) or Category
+     * @param startingFrom the starting element number for this set of results.  This is used when retrieving elements
+     * @param pageSize     the maximum number of elements that can be returned on this request.
+     * @return a response which when successful contains a page of the glossary content.
+     * when not successful the following Exception responses can occur
+     * <ul>
+     * <li> UserNotAuthorizedException           the requesting user is not authorized to issue this request.</li>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.</li>
+     * <li> PropertyServerException              Property server exception. </li>
+     * </ul>
+     */
+    public SubjectAreaOMASAPIResponse<GlossaryContentElement> exportGlossaryContent(String serverName,
+                                                                                  String userId,
+                                                                                  String guid,
+                                                                                  NodeType nodeType,
+                                                                                  Integer startingFrom,
+                                                                                  Integer pageSize) {
+        final String methodName = "exportGlossaryContent";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+        SubjectAreaOMASAPIResponse<GlossaryContentElement> response = new SubjectAreaOMASAPIResponse<>();
+        AuditLog auditLog = null;
+        if (nodeType == null) {
+            nodeType = NodeType.Term;
+        }
+        if (startingFrom == null) {
+            startingFrom = 0;
+        }
+        if (pageSize == null) {
+            pageSize = invalidParameterHandler.getMaxPagingSize();
+        }
+        try {
+            invalidParameterHandler.validatePaging(startingFrom, pageSize, methodName);
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+            SubjectAreaNodeClients clients = instanceHandler.getSubjectAreaNodeClients(serverName, userId, methodName);
+            List<GlossaryContentElement> elements = ((SubjectAreaGlossaryClient)clients.glossaries()).exportContent(userId, guid, nodeType, startingFrom, pageSize);
+            response.addAllResults(elements);
+        } catch (Exception exception) {
+            response = getResponseForException(exception, auditLog, className, methodName);
+        }
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
 }
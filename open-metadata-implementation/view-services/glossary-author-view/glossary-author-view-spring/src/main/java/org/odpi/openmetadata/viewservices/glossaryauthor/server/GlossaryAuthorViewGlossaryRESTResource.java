@@ -7,6 +7,9 @@ import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.category.Category;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentElement;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryContentRowResult;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.Relationship;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.term.Term;
 import org.odpi.openmetadata.accessservices.subjectarea.responses.SubjectAreaOMASAPIResponse;
@@ -420,4 +423,60 @@ public class GlossaryAuthorViewGlossaryRESTResource {
         return restAPI.restoreGlossary(serverName, userId, guid);
 
     }
+
+    /**
+     * Import Terms and Categories into a glossary in bulk.
+     * <p>
+     * The content is either JSON lines, where each line is a glossary content element, or CSV, where the first line is a header
+     * naming the element property in each column. Rows refer to their parent category, categories, related terms and synonyms
+     * by qualifiedName, either of other rows or of content already in the repository.
+     *
+     * @param serverName local UI server name
+     * @param userId     user identifier
+     * @param guid       guid of the glossary to import the content into
+     * @param format     format of the content: jsonl (the default) or csv
+     * @param content    content to import
+     * @return a response which when successful contains the result of each row of the content, in content order.
+     * when not successful the following Exception responses can occur
+     * <ul>
+     * <li> UserNotAuthorizedException           the requesting user is not authorized to issue this request.</li>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.</li>
+     * <li> PropertyServerException              Property server exception. </li>
+     * </ul>
+     */
+    @PostMapping(path = "/{guid}/content")
+    public SubjectAreaOMASAPIResponse<GlossaryContentRowResult> importGlossaryContent(@PathVariable String serverName,
+                                                                                    @PathVariable String userId,
+                                                                                    @PathVariable String guid,
+                                                                                    @RequestParam(value = "format", required = false, defaultValue = "jsonl") String format,
+                                                                                    @RequestBody String content) {
+        return restAPI.importGlossaryContent(serverName, userId, guid, format, content);
+    }
+
+    /**
+     * Export a page of the Terms or Categories of a glossary, in the form that they are imported.
+     *
+     * @param serverName   local UI server name
+     * @param userId       user identifier
+     * @param guid         guid of the glossary to export
+     * @param nodeType     Term (the default) or Category
+     * @param startingFrom the starting element number for this set of results.  This is used when retrieving elements
+     * @param pageSize     the maximum number of elements that can be returned on this request.
+     * @return a response which when successful contains a page of the glossary content.
+     * when not successful the following Exception responses can occur
+     * <ul>
+     * <li> UserNotAuthorizedException           the requesting user is not authorized to issue this request.</li>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.</li>
+     * <li> PropertyServerException              Property server exception. </li>
+     * </ul>
+     */
+    @GetMapping(path = "/{guid}/content")
+    public SubjectAreaOMASAPIResponse<GlossaryContentElement> exportGlossaryContent(@PathVariable String serverName,
+                                                                                  @PathVariable String userId,
+                                                                                  @PathVariable String guid,
+                                                                                  @RequestParam(value = "nodeType", required = false, defaultValue = "Term") NodeType nodeType,
+                                                                                  @RequestParam(value = "startingFrom", required = false, defaultValue = "0") Integer startingFrom,
+                                                                                  @RequestParam(value = "pageSize", required = false) Integer pageSize) {
+        return restAPI.exportGlossaryContent(serverName, userId, guid, nodeType, startingFrom, pageSize);
+    }
 }
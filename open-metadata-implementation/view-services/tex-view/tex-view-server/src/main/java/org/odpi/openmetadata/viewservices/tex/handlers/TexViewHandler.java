@@ -32,9 +32,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -50,6 +53,11 @@ public class TexViewHandler
      */
     private static final int TRUNCATED_STRING_LENGTH = 24;
 
+    /*
+     * Specify a constant for the maximum number of type explorers that are cached.
+     */
+    private static final int MAX_CACHED_TYPE_EXPLORERS = 100;
+
 
     /*
     * viewServiceOptions should have been validated in the Admin layer.
@@ -81,6 +89,43 @@ public class TexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * The repository services clients are reused across requests so that each one can keep its copy of the
+     * types retrieved from the repository server.  The maps are keyed using the REST root URL of the server.
+     */
+    private final Map<String, LocalRepositoryServicesClient>      localRepositoryServicesClients      = new ConcurrentHashMap<>();
+    private final Map<String, EnterpriseRepositoryServicesClient> enterpriseRepositoryServicesClients = new ConcurrentHashMap<>();
+
+    /*
+     * The type explorers built for each user and set of options, along with the type system version of the types
+     * they were built from.  A type explorer is only rebuilt when the repository server reports that its types have changed.
+     * The cache holds up to MAX_CACHED_TYPE_EXPLORERS entries and discards the least recently used one when it is full.
+     */
+    private final Map<String, CachedTypeExplorer> typeExplorerCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedTypeExplorer> eldest)
+        {
+            return size() > MAX_CACHED_TYPE_EXPLORERS;
+        }
+    });
+
+
+    /**
+     * A type explorer along with the version of the type system it was built from.
+     */
+    private static class CachedTypeExplorer
+    {
+        private final long         typeSystemVersion;
+        private final TypeExplorer typeExplorer;
+
+        CachedTypeExplorer(long typeSystemVersion, TypeExplorer typeExplorer)
+        {
+            this.typeSystemVersion = typeSystemVersion;
+            this.typeExplorer      = typeExplorer;
+        }
+    }
+
 
 
     /**
@@ -247,10 +292,23 @@ public class TexViewHandler
                 repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
             }
 
-            TypeExplorer tex = new TypeExplorer();
-
             TypeDefGallery typeDefGallery = repositoryServicesClient.getAllTypes(userId);
 
+            /*
+             * Reuse the type explorer built on an earlier request if the types have not changed since.
+             */
+            long   typeSystemVersion = repositoryServicesClient.getKnownTypeSystemVersion(userId);
+            String typeExplorerKey   = userId + ":" + enterpriseOption + ":" + deprecationOption + ":" + repositoryServerName + ":" + platformRootURL;
+
+            CachedTypeExplorer cachedTypeExplorer = typeExplorerCache.get(typeExplorerKey);
+
+            if ((typeSystemVersion != 0) && (cachedTypeExplorer != null) && (cachedTypeExplorer.typeSystemVersion == typeSystemVersion))
+            {
+                return cachedTypeExplorer.typeExplorer;
+            }
+
+            TypeExplorer tex = new TypeExplorer();
+
             List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
             for (TypeDef typeDef : typeDefs) {
                 TypeDefCategory tdCat = typeDef.getCategory();
@@ -290,6 +348,12 @@ public class TexViewHandler
             // All typeDefs processed, resolve linkages and return the TEX object
             // The platformRootURL and repositoryName are passed in only for error logging
             tex.resolve(deprecationOption, platformRootURL, repositoryServerName);
+
+            if (typeSystemVersion != 0)
+            {
+                typeExplorerCache.put(typeExplorerKey, new CachedTypeExplorer(typeSystemVersion, tex));
+            }
+
             return tex;
 
         }
@@ -338,7 +402,13 @@ public class TexViewHandler
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
         String restRootURL = serverRootURL + "/servers/" + serverName;
-        LocalRepositoryServicesClient client = new LocalRepositoryServicesClient(serverName, restRootURL);
+        LocalRepositoryServicesClient client = localRepositoryServicesClients.get(restRootURL);
+
+        if (client == null)
+        {
+            client = new LocalRepositoryServicesClient(serverName, restRootURL);
+            localRepositoryServicesClients.put(restRootURL, client);
+        }
 
         return client;
     }
@@ -370,7 +440,13 @@ public class TexViewHandler
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
         String restRootURL = serverRootURL + "/servers/" + serverName;
-        EnterpriseRepositoryServicesClient client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+        EnterpriseRepositoryServicesClient client = enterpriseRepositoryServicesClients.get(restRootURL);
+
+        if (client == null)
+        {
+            client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+            enterpriseRepositoryServicesClients.put(restRootURL, client);
+        }
 
         return client;
     }
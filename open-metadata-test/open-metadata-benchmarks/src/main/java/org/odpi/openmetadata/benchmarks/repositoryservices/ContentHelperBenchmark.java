@@ -0,0 +1,120 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ContentHelperBenchmark measures the repository helper building new instances.  This is done for every instance
+ * created through the repository services and by the OMAS handlers when they build requests.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentHelperBenchmark
+{
+    private static final String methodName = "ContentHelperBenchmark";
+
+    private OMRSRepositoryContentHelper repositoryHelper;
+    private InstanceProperties          entityProperties;
+    private EntityDetail                entity;
+
+
+    /**
+     * Create the fixture with a single entity to use as a template.
+     *
+     * @throws Exception the fixture could not be created
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        RepositoryServicesFixture fixture = new RepositoryServicesFixture(1);
+
+        repositoryHelper = fixture.getRepositoryHelper();
+        entity           = fixture.getEntities().get(0);
+        entityProperties = entity.getProperties();
+    }
+
+
+    /**
+     * Build the properties for an entity.
+     *
+     * @return instance properties
+     */
+    @Benchmark
+    public InstanceProperties buildProperties()
+    {
+        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(RepositoryServicesFixture.sourceName,
+                                                                                     null,
+                                                                                     RepositoryServicesFixture.qualifiedNamePropertyName,
+                                                                                     RepositoryServicesFixture.getQualifiedName(0),
+                                                                                     methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(RepositoryServicesFixture.sourceName,
+                                                                  properties,
+                                                                  RepositoryServicesFixture.displayNamePropertyName,
+                                                                  RepositoryServicesFixture.getDisplayName(0),
+                                                                  methodName);
+        return properties;
+    }
+
+
+    /**
+     * Build a new entity from its type name and properties.
+     *
+     * @return entity
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public EntityDetail newEntity() throws Exception
+    {
+        return repositoryHelper.getNewEntity(RepositoryServicesFixture.sourceName,
+                                             RepositoryServicesFixture.metadataCollectionId,
+                                             InstanceProvenanceType.LOCAL_COHORT,
+                                             RepositoryServicesFixture.userId,
+                                             RepositoryServicesFixture.entityTypeName,
+                                             entityProperties,
+                                             null);
+    }
+
+
+    /**
+     * Build a new relationship from its type name.
+     *
+     * @return relationship
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public Relationship newRelationship() throws Exception
+    {
+        return repositoryHelper.getNewRelationship(RepositoryServicesFixture.sourceName,
+                                                   RepositoryServicesFixture.metadataCollectionId,
+                                                   InstanceProvenanceType.LOCAL_COHORT,
+                                                   RepositoryServicesFixture.userId,
+                                                   RepositoryServicesFixture.relationshipTypeName,
+                                                   null);
+    }
+
+
+    /**
+     * Build the proxy for an entity that is used in the ends of a relationship.
+     *
+     * @return entity proxy
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public EntityProxy newEntityProxy() throws Exception
+    {
+        return repositoryHelper.getNewEntityProxy(RepositoryServicesFixture.sourceName, entity);
+    }
+}
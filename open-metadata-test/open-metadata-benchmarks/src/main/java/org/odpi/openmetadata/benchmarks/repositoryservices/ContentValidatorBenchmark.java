@@ -0,0 +1,183 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ContentValidatorBenchmark measures the property matching performed by the repository validator when a repository
+ * without its own search capability (such as the in-memory repository) filters its instances.  Each operation
+ * checks every entity in the fixture so the result is the cost of one scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentValidatorBenchmark
+{
+    private static final String methodName = "ContentValidatorBenchmark";
+
+    @Param({"1000"})
+    private int entityCount;
+
+    private OMRSRepositoryContentValidator repositoryValidator;
+    private List<EntityDetail>             entities;
+    private String                         containsRegex;
+    private String                         exactMatchRegex;
+    private InstanceProperties             matchProperties;
+    private SearchProperties               searchProperties;
+
+
+    /**
+     * Create the fixture and the search criteria.
+     *
+     * @throws Exception the fixture could not be created
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        RepositoryServicesFixture   fixture          = new RepositoryServicesFixture(entityCount);
+        OMRSRepositoryContentHelper repositoryHelper = fixture.getRepositoryHelper();
+
+        repositoryValidator = fixture.getRepositoryValidator();
+        entities            = fixture.getEntities();
+        containsRegex       = repositoryHelper.getContainsRegex("ledger");
+        exactMatchRegex     = repositoryHelper.getExactMatchRegex(RepositoryServicesFixture.getDisplayName(entityCount / 2));
+        matchProperties     = repositoryHelper.addStringPropertyToInstance(RepositoryServicesFixture.sourceName,
+                                                                           null,
+                                                                           RepositoryServicesFixture.displayNamePropertyName,
+                                                                           exactMatchRegex,
+                                                                           methodName);
+
+        PropertyCondition condition = new PropertyCondition();
+
+        condition.setProperty(RepositoryServicesFixture.qualifiedNamePropertyName);
+        condition.setOperator(PropertyComparisonOperator.LIKE);
+        condition.setValue(repositoryHelper.addStringPropertyToInstance(RepositoryServicesFixture.sourceName,
+                                                                        null,
+                                                                        RepositoryServicesFixture.qualifiedNamePropertyName,
+                                                                        repositoryHelper.getContainsRegex("Term-1"),
+                                                                        methodName).getPropertyValue(RepositoryServicesFixture.qualifiedNamePropertyName));
+
+        searchProperties = new SearchProperties();
+        searchProperties.setConditions(Collections.singletonList(condition));
+        searchProperties.setMatchCriteria(MatchCriteria.ALL);
+    }
+
+
+    /**
+     * Match a "contains" search string against all the string properties of each entity.
+     *
+     * @return number of matching entities
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public int searchCriteriaContains() throws Exception
+    {
+        int matches = 0;
+
+        for (EntityDetail entity : entities)
+        {
+            if (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(RepositoryServicesFixture.sourceName,
+                                                                                entity.getProperties(),
+                                                                                containsRegex,
+                                                                                methodName))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+
+    /**
+     * Match an exact value against all the string properties of each entity.
+     *
+     * @return number of matching entities
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public int searchCriteriaExactMatch() throws Exception
+    {
+        int matches = 0;
+
+        for (EntityDetail entity : entities)
+        {
+            if (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(RepositoryServicesFixture.sourceName,
+                                                                                entity.getProperties(),
+                                                                                exactMatchRegex,
+                                                                                methodName))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+
+    /**
+     * Match named property values (as used by findEntitiesByProperty).
+     *
+     * @return number of matching entities
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public int matchPropertyValues() throws Exception
+    {
+        int matches = 0;
+
+        for (EntityDetail entity : entities)
+        {
+            if (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties,
+                                                                         entity,
+                                                                         entity.getProperties(),
+                                                                         MatchCriteria.ALL))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+
+    /**
+     * Match property conditions (as used by findEntities).
+     *
+     * @return number of matching entities
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public int matchSearchProperties() throws Exception
+    {
+        int matches = 0;
+
+        for (EntityDetail entity : entities)
+        {
+            if (repositoryValidator.verifyMatchingInstancePropertyValues(searchProperties,
+                                                                         entity,
+                                                                         entity.getProperties()))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+}
@@ -0,0 +1,119 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventManager;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventBuilderBenchmark measures the construction of the instance events sent when the local repository changes.
+ * The event manager validates the instance, builds the event and applies the exchange rule; it has no consumers
+ * so the cost of sending the event is not included.  The conversion to the version 1 event bean that is sent
+ * to the cohort topic is measured separately.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBuilderBenchmark
+{
+    private OMRSRepositoryEventManager eventManager;
+    private EntityDetail               entity;
+    private EntityDetail               updatedEntity;
+    private Relationship               relationship;
+    private OMRSEventOriginator        eventOriginator;
+
+
+    /**
+     * Create the fixture with two related entities.
+     *
+     * @throws Exception the fixture could not be created
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        RepositoryServicesFixture fixture = new RepositoryServicesFixture(2);
+
+        eventManager  = fixture.getEventManager();
+        entity        = fixture.getEntities().get(0);
+        relationship  = fixture.getRelationships().get(0);
+        updatedEntity = new EntityDetail(entity);
+        updatedEntity.setVersion(entity.getVersion() + 1);
+
+        eventOriginator = new OMRSEventOriginator();
+        eventOriginator.setMetadataCollectionId(RepositoryServicesFixture.metadataCollectionId);
+        eventOriginator.setServerName(RepositoryServicesFixture.serverName);
+    }
+
+
+    /**
+     * Build the event for a new entity.
+     */
+    @Benchmark
+    public void newEntityEvent()
+    {
+        eventManager.processNewEntityEvent(RepositoryServicesFixture.sourceName,
+                                           RepositoryServicesFixture.metadataCollectionId,
+                                           RepositoryServicesFixture.serverName,
+                                           null,
+                                           null,
+                                           entity);
+    }
+
+
+    /**
+     * Build the event for an updated entity.
+     */
+    @Benchmark
+    public void updatedEntityEvent()
+    {
+        eventManager.processUpdatedEntityEvent(RepositoryServicesFixture.sourceName,
+                                               RepositoryServicesFixture.metadataCollectionId,
+                                               RepositoryServicesFixture.serverName,
+                                               null,
+                                               null,
+                                               entity,
+                                               updatedEntity);
+    }
+
+
+    /**
+     * Build the event for a new relationship.
+     */
+    @Benchmark
+    public void newRelationshipEvent()
+    {
+        eventManager.processNewRelationshipEvent(RepositoryServicesFixture.sourceName,
+                                                 RepositoryServicesFixture.metadataCollectionId,
+                                                 RepositoryServicesFixture.serverName,
+                                                 null,
+                                                 null,
+                                                 relationship);
+    }
+
+
+    /**
+     * Build the version 1 event bean for a new entity.
+     *
+     * @return event bean
+     */
+    @Benchmark
+    public OMRSEventV1 newEntityEventV1()
+    {
+        OMRSInstanceEvent instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity);
+
+        instanceEvent.setEventOriginator(eventOriginator);
+
+        return instanceEvent.getOMRSEventV1();
+    }
+}
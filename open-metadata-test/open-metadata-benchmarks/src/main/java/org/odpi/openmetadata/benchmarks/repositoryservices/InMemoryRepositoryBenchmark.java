@@ -0,0 +1,203 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InMemoryRepositoryBenchmark measures retrieving and searching for instances in the in-memory repository through
+ * the local repository connector, as an OMAS would in a metadata server.  The searches return one page of results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InMemoryRepositoryBenchmark
+{
+    private static final String methodName = "InMemoryRepositoryBenchmark";
+    private static final int    pageSize   = 50;
+
+    @Param({"1000", "10000"})
+    private int entityCount;
+
+    private OMRSMetadataCollection metadataCollection;
+    private String                 entityTypeGUID;
+    private String[]               entityGUIDs;
+    private String                 exactMatchRegex;
+    private InstanceProperties     matchProperties;
+    private SearchProperties       searchProperties;
+    private int                    nextEntity = 0;
+
+
+    /**
+     * Create the fixture and the search criteria.
+     *
+     * @throws Exception the fixture could not be created
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        RepositoryServicesFixture   fixture          = new RepositoryServicesFixture(entityCount);
+        OMRSRepositoryContentHelper repositoryHelper = fixture.getRepositoryHelper();
+
+        metadataCollection = fixture.getMetadataCollection();
+        entityTypeGUID     = fixture.getEntityTypeGUID();
+        entityGUIDs        = new String[entityCount];
+
+        for (int index = 0; index < entityCount; index++)
+        {
+            entityGUIDs[index] = fixture.getEntities().get(index).getGUID();
+        }
+
+        exactMatchRegex = repositoryHelper.getExactMatchRegex(RepositoryServicesFixture.getQualifiedName(entityCount / 2));
+        matchProperties = repositoryHelper.addStringPropertyToInstance(RepositoryServicesFixture.sourceName,
+                                                                       null,
+                                                                       RepositoryServicesFixture.qualifiedNamePropertyName,
+                                                                       exactMatchRegex,
+                                                                       methodName);
+
+        PropertyCondition condition = new PropertyCondition();
+
+        condition.setProperty(RepositoryServicesFixture.summaryPropertyName);
+        condition.setOperator(PropertyComparisonOperator.LIKE);
+        condition.setValue(repositoryHelper.addStringPropertyToInstance(RepositoryServicesFixture.sourceName,
+                                                                        null,
+                                                                        RepositoryServicesFixture.summaryPropertyName,
+                                                                        repositoryHelper.getContainsRegex("ledger"),
+                                                                        methodName).getPropertyValue(RepositoryServicesFixture.summaryPropertyName));
+
+        searchProperties = new SearchProperties();
+        searchProperties.setConditions(Collections.singletonList(condition));
+        searchProperties.setMatchCriteria(MatchCriteria.ALL);
+    }
+
+
+    /**
+     * Return the guid of the next entity to retrieve - cycling through all the entities.
+     *
+     * @return guid
+     */
+    private String getNextEntityGUID()
+    {
+        nextEntity = (nextEntity + 1) % entityGUIDs.length;
+
+        return entityGUIDs[nextEntity];
+    }
+
+
+    /**
+     * Retrieve an entity by its unique identifier.
+     *
+     * @return entity
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public EntityDetail getEntityDetail() throws Exception
+    {
+        return metadataCollection.getEntityDetail(RepositoryServicesFixture.userId, this.getNextEntityGUID());
+    }
+
+
+    /**
+     * Retrieve the relationships for an entity.
+     *
+     * @return relationships
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public List<Relationship> getRelationshipsForEntity() throws Exception
+    {
+        return metadataCollection.getRelationshipsForEntity(RepositoryServicesFixture.userId,
+                                                            this.getNextEntityGUID(),
+                                                            null,
+                                                            0,
+                                                            null,
+                                                            null,
+                                                            null,
+                                                            null,
+                                                            pageSize);
+    }
+
+
+    /**
+     * Search for an entity by the exact value of one of its properties.
+     *
+     * @return matching entities
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesByPropertyValue() throws Exception
+    {
+        return metadataCollection.findEntitiesByPropertyValue(RepositoryServicesFixture.userId,
+                                                              entityTypeGUID,
+                                                              exactMatchRegex,
+                                                              0,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              pageSize);
+    }
+
+
+    /**
+     * Search for an entity by its qualified name.
+     *
+     * @return matching entities
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesByProperty() throws Exception
+    {
+        return metadataCollection.findEntitiesByProperty(RepositoryServicesFixture.userId,
+                                                         entityTypeGUID,
+                                                         matchProperties,
+                                                         MatchCriteria.ALL,
+                                                         0,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         pageSize);
+    }
+
+
+    /**
+     * Search for entities whose summary contains a word.
+     *
+     * @return matching entities
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public List<EntityDetail> findEntities() throws Exception
+    {
+        return metadataCollection.findEntities(RepositoryServicesFixture.userId,
+                                               entityTypeGUID,
+                                               null,
+                                               searchProperties,
+                                               0,
+                                               null,
+                                               null,
+                                               null,
+                                               null,
+                                               null,
+                                               pageSize);
+    }
+}
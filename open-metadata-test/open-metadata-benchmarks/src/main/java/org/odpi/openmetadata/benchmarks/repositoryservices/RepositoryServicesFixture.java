@@ -0,0 +1,309 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSRepositoryConnectorProvider;
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.archivemanager.OMRSArchiveManager;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSConnectorProvider;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * RepositoryServicesFixture sets up the repository services components used by the benchmarks in the same way as
+ * a metadata server with an in-memory repository.  The repository content manager is loaded with the open metadata types
+ * archive and the in-memory repository is populated with glossary terms and the relationships between them.
+ * The property values are generated from a fixed seed so that each run of the benchmarks works with the same content.
+ */
+public class RepositoryServicesFixture
+{
+    static final String sourceName           = "RepositoryServicesBenchmark";
+    static final String userId               = "benchmarkUser";
+    static final String serverName           = "benchmarkServer";
+    static final String metadataCollectionId = "a1a0c0e4-7b9c-4d7b-9d1a-2c1f0b5e9f01";
+
+    static final String entityTypeName       = "GlossaryTerm";
+    static final String relationshipTypeName = "RelatedTerm";
+
+    static final String qualifiedNamePropertyName = "qualifiedName";
+    static final String displayNamePropertyName   = "displayName";
+    static final String summaryPropertyName       = "summary";
+    static final String descriptionPropertyName   = "description";
+
+    private static final long     randomSeed = 20221019L;
+    private static final String[] words      = new String[]{ "customer", "account", "balance", "order", "product",
+                                                             "invoice", "payment", "address", "contract", "employee",
+                                                             "supplier", "shipment", "region", "currency", "ledger" };
+
+    private final OMRSAuditLog                   auditLog;
+    private final OMRSRepositoryContentHelper    repositoryHelper;
+    private final OMRSRepositoryContentValidator repositoryValidator;
+    private final OMRSRepositoryEventManager     eventManager;
+    private final OMRSMetadataCollection         metadataCollection;
+    private final String                         entityTypeGUID;
+    private final String                         relationshipTypeGUID;
+    private final List<EntityDetail>             entities      = new ArrayList<>();
+    private final List<Relationship>             relationships = new ArrayList<>();
+    private final Random                         random        = new Random(randomSeed);
+
+
+    /**
+     * Set up the repository services components and load the requested number of entities.
+     * Each entity is linked to the previous one by a relationship.
+     *
+     * @param entityCount number of glossary terms to create
+     * @throws Exception the repository could not be set up
+     */
+    public RepositoryServicesFixture(int entityCount) throws Exception
+    {
+        final String methodName = "RepositoryServicesFixture";
+
+        /*
+         * The audit log has no stores so the benchmarks do not measure the cost of writing audit log records.
+         */
+        auditLog = new OMRSAuditLog(new OMRSAuditLogDestination(serverName, "Metadata Server", "Egeria", new ArrayList<>()),
+                                    OMRSAuditingComponent.REPOSITORY_CONTENT_MANAGER);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(userId, auditLog);
+
+        repositoryHelper    = new OMRSRepositoryContentHelper(contentManager);
+        repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+        eventManager        = new OMRSRepositoryEventManager("Benchmark outbound events",
+                                                             new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null),
+                                                             repositoryValidator,
+                                                             auditLog);
+
+        ConnectorType connectorType = new ConnectorType();
+        Connection    connection    = new Connection();
+
+        connectorType.setConnectorProviderClassName(InMemoryOMRSRepositoryConnectorProvider.class.getName());
+        connection.setConnectorType(connectorType);
+
+        LocalOMRSConnectorProvider   connectorProvider = new LocalOMRSConnectorProvider(metadataCollectionId,
+                                                                                        connection,
+                                                                                        null,
+                                                                                        eventManager,
+                                                                                        contentManager,
+                                                                                        new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null));
+        LocalOMRSRepositoryConnector localConnector    = (LocalOMRSRepositoryConnector)connectorProvider.getConnector(connection);
+
+        localConnector.setRepositoryHelper(repositoryHelper);
+        localConnector.setRepositoryValidator(repositoryValidator);
+        localConnector.setAuditLog(auditLog);
+        localConnector.setServerName(serverName);
+        localConnector.setServerUserId(userId);
+        localConnector.setMetadataCollectionId(metadataCollectionId);
+        contentManager.setupEventProcessor(localConnector, eventManager);
+
+        eventManager.start();
+        localConnector.start();
+
+        /*
+         * Loading the open metadata types archive adds the types to the in-memory repository.
+         */
+        new OMRSArchiveManager(null, auditLog).setLocalRepository(metadataCollectionId, contentManager, null);
+
+        metadataCollection   = localConnector.getMetadataCollection();
+        entityTypeGUID       = repositoryHelper.getTypeDefByName(sourceName, entityTypeName).getGUID();
+        relationshipTypeGUID = repositoryHelper.getTypeDefByName(sourceName, relationshipTypeName).getGUID();
+
+        for (int index = 0; index < entityCount; index++)
+        {
+            EntityDetail entity = metadataCollection.addEntity(userId,
+                                                               entityTypeGUID,
+                                                               this.getEntityProperties(index, methodName),
+                                                               null,
+                                                               InstanceStatus.ACTIVE);
+            if (! entities.isEmpty())
+            {
+                relationships.add(metadataCollection.addRelationship(userId,
+                                                                     relationshipTypeGUID,
+                                                                     null,
+                                                                     entities.get(entities.size() - 1).getGUID(),
+                                                                     entity.getGUID(),
+                                                                     InstanceStatus.ACTIVE));
+            }
+
+            entities.add(entity);
+        }
+    }
+
+
+    /**
+     * Return the properties for a glossary term.
+     *
+     * @param index index of the term
+     * @param methodName calling method
+     * @return instance properties
+     */
+    InstanceProperties getEntityProperties(int    index,
+                                           String methodName)
+    {
+        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                                     null,
+                                                                                     qualifiedNamePropertyName,
+                                                                                     getQualifiedName(index),
+                                                                                     methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  displayNamePropertyName,
+                                                                  getDisplayName(index),
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  summaryPropertyName,
+                                                                  getWords(6),
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  descriptionPropertyName,
+                                                                  getWords(30),
+                                                                  methodName);
+        return properties;
+    }
+
+
+    /**
+     * Return the unique name of a glossary term.
+     *
+     * @param index index of the term
+     * @return qualified name
+     */
+    static String getQualifiedName(int index)
+    {
+        return entityTypeName + "::Benchmark Glossary::Term-" + index;
+    }
+
+
+    /**
+     * Return the display name of a glossary term.
+     *
+     * @param index index of the term
+     * @return display name
+     */
+    static String getDisplayName(int index)
+    {
+        return "Term " + index;
+    }
+
+
+    /**
+     * Return a string of words chosen from the word list.
+     *
+     * @param wordCount number of words
+     * @return words separated by spaces
+     */
+    private String getWords(int wordCount)
+    {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        for (int count = 0; count < wordCount; count++)
+        {
+            if (count > 0)
+            {
+                stringBuilder.append(' ');
+            }
+
+            stringBuilder.append(words[random.nextInt(words.length)]);
+        }
+
+        return stringBuilder.toString();
+    }
+
+
+    /**
+     * Return the repository helper.
+     *
+     * @return repository helper
+     */
+    OMRSRepositoryContentHelper getRepositoryHelper()
+    {
+        return repositoryHelper;
+    }
+
+
+    /**
+     * Return the repository validator.
+     *
+     * @return repository validator
+     */
+    OMRSRepositoryContentValidator getRepositoryValidator()
+    {
+        return repositoryValidator;
+    }
+
+
+    /**
+     * Return the outbound event manager of the local repository.  It has no consumers registered.
+     *
+     * @return event manager
+     */
+    OMRSRepositoryEventManager getEventManager()
+    {
+        return eventManager;
+    }
+
+
+    /**
+     * Return the metadata collection of the local repository.  It passes the requests to the in-memory repository
+     * in the same way as a metadata server.
+     *
+     * @return metadata collection
+     */
+    OMRSMetadataCollection getMetadataCollection()
+    {
+        return metadataCollection;
+    }
+
+
+    /**
+     * Return the unique identifier of the glossary term type.
+     *
+     * @return type guid
+     */
+    String getEntityTypeGUID()
+    {
+        return entityTypeGUID;
+    }
+
+
+    /**
+     * Return the entities loaded into the repository.
+     *
+     * @return list of entities
+     */
+    List<EntityDetail> getEntities()
+    {
+        return entities;
+    }
+
+
+    /**
+     * Return the relationships loaded into the repository.
+     *
+     * @return list of relationships
+     */
+    List<Relationship> getRelationships()
+    {
+        return relationships;
+    }
+}
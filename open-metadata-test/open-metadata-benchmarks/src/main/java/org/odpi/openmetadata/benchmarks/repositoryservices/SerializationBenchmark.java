@@ -0,0 +1,122 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SerializationBenchmark measures the JSON serialization of an entity (as returned on the REST APIs) and of the
+ * version 1 event bean (as sent on the cohort topic).  The object mapper, readers and writers are created once
+ * as they are in the REST and topic connectors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark
+{
+    private ObjectWriter entityWriter;
+    private ObjectReader entityReader;
+    private ObjectWriter eventWriter;
+    private ObjectReader eventReader;
+
+    private EntityDetail entity;
+    private OMRSEventV1  event;
+    private byte[]       entityJSON;
+    private byte[]       eventJSON;
+
+
+    /**
+     * Create the fixture with a single entity and serialize it and its event once so they can be deserialized.
+     *
+     * @throws Exception the fixture could not be created
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        RepositoryServicesFixture fixture      = new RepositoryServicesFixture(1);
+        ObjectMapper              objectMapper = new ObjectMapper();
+
+        entityWriter = objectMapper.writerFor(EntityDetail.class);
+        entityReader = objectMapper.readerFor(EntityDetail.class);
+        eventWriter  = objectMapper.writerFor(OMRSEventV1.class);
+        eventReader  = objectMapper.readerFor(OMRSEventV1.class);
+
+        entity = fixture.getEntities().get(0);
+
+        OMRSEventOriginator eventOriginator = new OMRSEventOriginator();
+        OMRSInstanceEvent   instanceEvent   = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity);
+
+        eventOriginator.setMetadataCollectionId(RepositoryServicesFixture.metadataCollectionId);
+        eventOriginator.setServerName(RepositoryServicesFixture.serverName);
+        instanceEvent.setEventOriginator(eventOriginator);
+
+        event      = instanceEvent.getOMRSEventV1();
+        entityJSON = entityWriter.writeValueAsBytes(entity);
+        eventJSON  = eventWriter.writeValueAsBytes(event);
+    }
+
+
+    /**
+     * Serialize an entity.
+     *
+     * @return JSON
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public byte[] serializeEntity() throws Exception
+    {
+        return entityWriter.writeValueAsBytes(entity);
+    }
+
+
+    /**
+     * Deserialize an entity.
+     *
+     * @return entity
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public EntityDetail deserializeEntity() throws Exception
+    {
+        return entityReader.readValue(entityJSON);
+    }
+
+
+    /**
+     * Serialize an instance event.
+     *
+     * @return JSON
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public byte[] serializeEvent() throws Exception
+    {
+        return eventWriter.writeValueAsBytes(event);
+    }
+
+
+    /**
+     * Deserialize an instance event.
+     *
+     * @return event
+     * @throws Exception unexpected error
+     */
+    @Benchmark
+    public OMRSEventV1 deserializeEvent() throws Exception
+    {
+        return eventReader.readValue(eventJSON);
+    }
+}